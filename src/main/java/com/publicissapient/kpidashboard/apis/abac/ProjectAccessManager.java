@@ -128,6 +128,8 @@ public class ProjectAccessManager {
 
 	@Autowired private OrganizationHierarchyService organizationHierarchyService;
 
+	@Autowired private UserAuthorizationContextService userAuthorizationContextService;
+
 	private static String findRoleOfAccessItem(
 			String requestedAccessLavel,
 			AccessItem requestedAccessItem,
@@ -677,6 +679,7 @@ public class ProjectAccessManager {
 		if (updatedAccessRequest
 				.getStatus()
 				.equalsIgnoreCase(Constant.ACCESS_REQUEST_STATUS_REJECTED)) {
+			userAuthorizationContextService.evictAuthorizationContext(accessRequest.getUsername());
 			if (listener != null) {
 				listener.onSuccess(updatedAccessRequest);
 			}
@@ -897,7 +900,11 @@ public class ProjectAccessManager {
 	}
 
 	private UserInfo saveUserInfo(UserInfo userInfo) {
-		return userInfoRepository.save(userInfo);
+		UserInfo savedUserInfo = userInfoRepository.save(userInfo);
+		if (null != userInfo) {
+			userAuthorizationContextService.evictAuthorizationContext(userInfo.getUsername());
+		}
+		return savedUserInfo;
 	}
 
 	private UserInfo copyUserInfo(UserInfo userInfo) {
@@ -1311,7 +1318,7 @@ public class ProjectAccessManager {
 			userInfo.getAuthorities().add(Constant.ROLE_PROJECT_ADMIN);
 		}
 
-		return userInfoRepository.save(userInfo);
+		return saveUserInfo(userInfo);
 	}
 
 	public void removeProjectAccessFromAllUsers(String basicProjectConfigId) {
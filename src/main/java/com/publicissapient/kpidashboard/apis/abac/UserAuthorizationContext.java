@@ -0,0 +1,71 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+
+package com.publicissapient.kpidashboard.apis.abac;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Authorization details of a user, computed once and shared by the authorization checks of the
+ * user's requests.
+ *
+ * @param roles roles of the user
+ * @param superAdmin if the user has a super admin role
+ * @param projectIds basic project config ids the user has access to
+ * @param projectNodeIds scrum project node ids the user has access to
+ * @param kanbanProjectNodeIds kanban project node ids the user has access to
+ */
+public record UserAuthorizationContext(
+		Set<String> roles,
+		boolean superAdmin,
+		Set<String> projectIds,
+		Set<String> projectNodeIds,
+		Set<String> kanbanProjectNodeIds) {
+
+	public UserAuthorizationContext {
+		roles = Set.copyOf(roles);
+		projectIds = Set.copyOf(projectIds);
+		projectNodeIds = Set.copyOf(projectNodeIds);
+		kanbanProjectNodeIds = Set.copyOf(kanbanProjectNodeIds);
+	}
+
+	/**
+	 * @param basicProjectConfigId basic project config id
+	 * @return if the user has access to the project
+	 */
+	public boolean hasProjectAccess(String basicProjectConfigId) {
+		return projectIds.contains(basicProjectConfigId);
+	}
+
+	/**
+	 * @param requestedProjectNodeIds scrum project node ids of a request
+	 * @return if the user has access to all the projects
+	 */
+	public boolean hasProjectNodeAccess(Collection<String> requestedProjectNodeIds) {
+		return projectNodeIds.containsAll(requestedProjectNodeIds);
+	}
+
+	/**
+	 * @param requestedProjectNodeIds kanban project node ids of a request
+	 * @return if the user has access to all the projects
+	 */
+	public boolean hasKanbanProjectNodeAccess(Collection<String> requestedProjectNodeIds) {
+		return kanbanProjectNodeIds.containsAll(requestedProjectNodeIds);
+	}
+}
@@ -0,0 +1,149 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+
+package com.publicissapient.kpidashboard.apis.abac;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.apache.commons.collections4.CollectionUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+
+import com.publicissapient.kpidashboard.apis.auth.model.UserInfoPrincipal;
+import com.publicissapient.kpidashboard.apis.common.service.impl.UserInfoServiceImpl;
+import com.publicissapient.kpidashboard.apis.constant.Constant;
+import com.publicissapient.kpidashboard.apis.enums.SuperAdminRoles;
+import com.publicissapient.kpidashboard.common.constant.AuthType;
+import com.publicissapient.kpidashboard.common.constant.CommonConstant;
+import com.publicissapient.kpidashboard.common.model.application.AccountHierarchy;
+import com.publicissapient.kpidashboard.common.model.application.KanbanAccountHierarchy;
+import com.publicissapient.kpidashboard.common.model.rbac.ProjectsForAccessRequest;
+import com.publicissapient.kpidashboard.common.model.rbac.RoleWiseProjects;
+import com.publicissapient.kpidashboard.common.model.rbac.UserInfo;
+import com.publicissapient.kpidashboard.common.repository.application.AccountHierarchyRepository;
+import com.publicissapient.kpidashboard.common.repository.application.KanbanAccountHierarchyRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Computes and caches the {@link UserAuthorizationContext} of the users. A context is cached until
+ * the access of the user is changed or the cache entry expires.
+ */
+@Service
+@Slf4j
+public class UserAuthorizationContextService {
+
+	@Autowired private UserInfoServiceImpl userInfoService;
+	@Autowired private ProjectAccessManager projectAccessManager;
+	@Autowired private AccountHierarchyRepository accountHierarchyRepo;
+	@Autowired private KanbanAccountHierarchyRepository kanbanAccountHierarchyRepository;
+	@Autowired private CacheManager cacheManager;
+
+	/**
+	 * @param userInfoPrincipal user
+	 * @return authorization context of the user
+	 */
+	@Cacheable(
+			value = Constant.CACHE_USER_AUTHORIZATION_CONTEXT,
+			key = "#userInfoPrincipal.username() + ':' + #userInfoPrincipal.authType()")
+	public UserAuthorizationContext getAuthorizationContext(UserInfoPrincipal userInfoPrincipal) {
+		UserInfo userInfo = userInfoService.getUserInfo(userInfoPrincipal);
+		Set<String> roles =
+				Objects.nonNull(userInfo) && Objects.nonNull(userInfo.getAuthorities())
+						? new HashSet<>(userInfo.getAuthorities())
+						: new HashSet<>();
+		boolean superAdmin = SuperAdminRoles.getAdminRoles().stream().anyMatch(roles::contains);
+
+		Set<String> projectIds = new HashSet<>();
+		List<RoleWiseProjects> projectAccessesWithRole =
+				projectAccessManager.getProjectAccessesWithRole(userInfoPrincipal);
+		if (CollectionUtils.isNotEmpty(projectAccessesWithRole)) {
+			projectAccessesWithRole.stream()
+					.flatMap(roleWiseProjects -> roleWiseProjects.getProjects().stream())
+					.map(ProjectsForAccessRequest::getProjectId)
+					.forEach(projectIds::add);
+		}
+
+		Set<String> projectNodeIds = new HashSet<>();
+		Set<String> kanbanProjectNodeIds = new HashSet<>();
+		if (!projectIds.isEmpty()) {
+			List<String> projectLabel = List.of(Constant.PROJECT, CommonConstant.PROJECT);
+			projectNodeIds =
+					getProjectNodeIds(
+							accountHierarchyRepo.findByLabelList(projectLabel),
+							projectIds,
+							hierarchy -> hierarchy.getBasicProjectConfigId().toString(),
+							AccountHierarchy::getLabelName,
+							AccountHierarchy::getNodeId);
+			kanbanProjectNodeIds =
+					getProjectNodeIds(
+							kanbanAccountHierarchyRepository.findByLabelList(projectLabel),
+							projectIds,
+							hierarchy -> hierarchy.getBasicProjectConfigId().toString(),
+							KanbanAccountHierarchy::getLabelName,
+							KanbanAccountHierarchy::getNodeId);
+		}
+		log.debug(
+				"Authorization context computed for {} with {} projects",
+				userInfoPrincipal.username(),
+				projectIds.size());
+		return new UserAuthorizationContext(
+				roles, superAdmin, projectIds, projectNodeIds, kanbanProjectNodeIds);
+	}
+
+	/**
+	 * Drops the cached authorization context of the user, to be called when the access of the user
+	 * changes.
+	 *
+	 * @param username username
+	 */
+	public void evictAuthorizationContext(String username) {
+		Cache cache = cacheManager.getCache(Constant.CACHE_USER_AUTHORIZATION_CONTEXT);
+		if (null != cache && null != username) {
+			for (AuthType authType : AuthType.values()) {
+				cache.evict(username + ':' + authType.name());
+			}
+		}
+	}
+
+	private static <T> Set<String> getProjectNodeIds(
+			List<T> hierarchies,
+			Set<String> projectIds,
+			Function<T, String> projectId,
+			Function<T, String> labelName,
+			Function<T, String> nodeId) {
+		if (CollectionUtils.isEmpty(hierarchies)) {
+			return new HashSet<>();
+		}
+		return hierarchies.stream()
+				.filter(
+						hierarchy ->
+								projectIds.contains(projectId.apply(hierarchy))
+										&& CommonConstant.PROJECT.equalsIgnoreCase(labelName.apply(hierarchy)))
+				.map(nodeId)
+				.collect(Collectors.toSet());
+	}
+}
@@ -24,7 +24,6 @@ import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -35,22 +34,15 @@ import org.springframework.stereotype.Service;
 
 import com.google.common.collect.Lists;
 import com.publicissapient.kpidashboard.apis.auth.service.AuthenticationService;
-import com.publicissapient.kpidashboard.apis.auth.token.TokenAuthenticationService;
 import com.publicissapient.kpidashboard.apis.common.service.CacheService;
-import com.publicissapient.kpidashboard.apis.common.service.impl.UserInfoServiceImpl;
 import com.publicissapient.kpidashboard.apis.constant.Constant;
-import com.publicissapient.kpidashboard.apis.enums.SuperAdminRoles;
 import com.publicissapient.kpidashboard.apis.model.AccountHierarchyData;
 import com.publicissapient.kpidashboard.apis.model.AccountHierarchyDataKanban;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.Node;
 import com.publicissapient.kpidashboard.common.constant.CommonConstant;
-import com.publicissapient.kpidashboard.common.model.application.AccountHierarchy;
 import com.publicissapient.kpidashboard.common.model.application.HierarchyLevel;
-import com.publicissapient.kpidashboard.common.model.application.KanbanAccountHierarchy;
-import com.publicissapient.kpidashboard.common.model.rbac.UserInfo;
-import com.publicissapient.kpidashboard.common.repository.application.AccountHierarchyRepository;
-import com.publicissapient.kpidashboard.common.repository.application.KanbanAccountHierarchyRepository;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -61,10 +53,7 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class UserAuthorizedProjectsService {
 
-	@Autowired TokenAuthenticationService tokenAuthenticationService;
-	@Autowired private UserInfoServiceImpl userInfoService;
-	@Autowired private AccountHierarchyRepository accountHierarchyRepo;
-	@Autowired private KanbanAccountHierarchyRepository kanbanAccountHierarchyRepository;
+	@Autowired private UserAuthorizationContextService userAuthorizationContextService;
 	@Autowired private AuthenticationService authenticationService;
 
 	@Autowired private CacheService cacheService;
@@ -73,49 +62,27 @@ public class UserAuthorizedProjectsService {
 	 * @return if a user is a SUPERADMIN user or not
 	 */
 	public boolean ifSuperAdminUser() {
-		UserInfo user = userInfoService.getUserInfo(authenticationService.getLoggedInUser());
-		boolean isSuperAdmin = false;
-		List<String> adminRoles = SuperAdminRoles.getAdminRoles();
-		if (Objects.nonNull(user) && user.getAuthorities().stream().anyMatch(adminRoles::contains)) {
-			isSuperAdmin = true;
-		}
-		return isSuperAdmin;
+		return getAuthorizationContext().superAdmin();
 	}
 
 	/**
-	 * FOR SCRUM KPIs
-	 *
-	 * @param filteredAccountDataList
-	 * @return if projects coming in requests matches with the assigned user Projects
+	 * @return authorization context of the logged in user, the user of the KPI request when called
+	 *     from a KPI thread
 	 */
-	public Boolean checkUserAuthForProjects(List<AccountHierarchyData> filteredAccountDataList) {
-		Set<String> configIdName = tokenAuthenticationService.getUserProjects();
-		List<String> userProject = getProjectNodeIds(configIdName);
-		Set<String> requestedProjects = getProjectNodesForRequest(filteredAccountDataList);
-		return userProject.containsAll(requestedProjects);
+	public UserAuthorizationContext getAuthorizationContext() {
+		return userAuthorizationContextService.getAuthorizationContext(
+				KpiExecutionContext.currentUser(authenticationService::getLoggedInUser));
 	}
 
 	/**
 	 * FOR SCRUM KPIs
 	 *
-	 * @param projects
-	 * @return Node Ids of projects
+	 * @param filteredAccountDataList
+	 * @return if projects coming in requests matches with the assigned user Projects
 	 */
-	public List<String> getProjectNodeIds(Set<String> projects) {
-		List<String> nodeIds = new ArrayList<>();
-		List<AccountHierarchy> label = accountHierarchyRepo.findAll();
-		if (!projects.isEmpty()) {
-			label =
-					label.stream()
-							.filter(
-									data ->
-											projects.contains(data.getBasicProjectConfigId().toString())
-													&& data.getLabelName().equalsIgnoreCase(CommonConstant.PROJECT))
-							.collect(Collectors.toList());
-
-			label.forEach(action -> nodeIds.add(action.getNodeId()));
-		}
-		return nodeIds;
+	public Boolean checkUserAuthForProjects(List<AccountHierarchyData> filteredAccountDataList) {
+		return getAuthorizationContext()
+				.hasProjectNodeAccess(getProjectNodesForRequest(filteredAccountDataList));
 	}
 
 	/**
@@ -152,10 +119,13 @@ public class UserAuthorizedProjectsService {
 	public List<AccountHierarchyData> filterProjects(
 			List<AccountHierarchyData> filteredAccountDataList) {
 		List<AccountHierarchyData> filteredAccountData;
-		Set<String> projects = tokenAuthenticationService.getUserProjects();
+		UserAuthorizationContext authorizationContext = getAuthorizationContext();
 		filteredAccountData =
 				filteredAccountDataList.stream()
-						.filter(projectId -> projects.contains(projectId.getBasicProjectConfigId().toString()))
+						.filter(
+								projectId ->
+										authorizationContext.hasProjectAccess(
+												projectId.getBasicProjectConfigId().toString()))
 						.collect(Collectors.toList());
 
 		return filteredAccountData;
@@ -189,10 +159,8 @@ public class UserAuthorizedProjectsService {
 	 */
 	public boolean checkKanbanUserAuthForProjects(
 			List<AccountHierarchyDataKanban> filteredAccountDataList) {
-		Set<String> projects = tokenAuthenticationService.getUserProjects();
-		List<String> userProject = getKanbanProjectNodeIds(projects);
-		Set<String> requestedProjects = getKanbanProjectNodesForRequest(filteredAccountDataList);
-		return userProject.containsAll(requestedProjects);
+		return getAuthorizationContext()
+				.hasKanbanProjectNodeAccess(getKanbanProjectNodesForRequest(filteredAccountDataList));
 	}
 
 	/**
@@ -204,32 +172,15 @@ public class UserAuthorizedProjectsService {
 	public List<AccountHierarchyDataKanban> filterKanbanProjects(
 			List<AccountHierarchyDataKanban> filteredAccountDataList) {
 		List<AccountHierarchyDataKanban> filteredAccountData;
-		Set<String> projects = tokenAuthenticationService.getUserProjects();
+		UserAuthorizationContext authorizationContext = getAuthorizationContext();
 		filteredAccountData =
 				filteredAccountDataList.stream()
-						.filter(projectId -> projects.contains(projectId.getBasicProjectConfigId().toString()))
-						.collect(Collectors.toList());
-		return filteredAccountData;
-	}
-
-	/**
-	 * For Kanban KPIs
-	 *
-	 * @param projects
-	 * @return
-	 */
-	private List<String> getKanbanProjectNodeIds(Set<String> projects) {
-		List<KanbanAccountHierarchy> label = kanbanAccountHierarchyRepository.findAll();
-		label =
-				label.stream()
 						.filter(
-								data ->
-										projects.contains(data.getBasicProjectConfigId().toString())
-												&& data.getLabelName().equalsIgnoreCase(CommonConstant.PROJECT))
+								projectId ->
+										authorizationContext.hasProjectAccess(
+												projectId.getBasicProjectConfigId().toString()))
 						.collect(Collectors.toList());
-		List<String> nodeIds = new ArrayList<>();
-		label.forEach(action -> nodeIds.add(action.getNodeId()));
-		return nodeIds;
+		return filteredAccountData;
 	}
 
 	/**
@@ -18,12 +18,15 @@
 
 package com.publicissapient.kpidashboard.apis.appsetting.service;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.tuple.Pair;
@@ -73,9 +76,7 @@ import lombok.extern.slf4j.Slf4j;
 @Service
 public class ConfigHelperService {
 
-	private final Map<ObjectId, Map<String, List<Tool>>> toolItemMap = new HashMap<>();
 	@Autowired CacheService cacheService;
-	private Map<String, ProjectBasicConfig> projectConfigMap = new HashMap<>();
 	@Autowired private ProjectBasicConfigRepository projectConfigRepository;
 	@Autowired private FieldMappingRepository fieldMappingRepository;
 	@Autowired private BoardMetadataServiceImpl boardMetadataServiceImpl;
@@ -91,81 +92,219 @@ public class ConfigHelperService {
 	@Autowired private HierarchyLevelRepository hierarchyLevelRepository;
 
 	@Autowired private FieldMappingStructureRepository fieldMappingStructureRepository;
-	private Map<ObjectId, FieldMapping> fieldMappingMap = new HashMap<>();
-	private Map<ObjectId, BoardMetadata> boardMetaDataMap = new HashMap<>();
-	private Map<ObjectId, Map<String, List<ProjectToolConfig>>> projectToolConfMap = new HashMap<>();
+
+	/**
+	 * Config maps read by the KPI threads. A reload builds new maps and publishes them with a single
+	 * swap, readers keep the maps they read and never see a partially loaded map.
+	 */
+	private volatile ConfigSnapshot snapshot = ConfigSnapshot.EMPTY;
 
 	/** Load project config list. */
 	public void loadConfigData() {
 		log.info("loadConfigData - loading project config, field mapping and tool_config");
-		projectConfigMap.clear();
-		fieldMappingMap.clear();
-
 		List<ProjectBasicConfig> projectList = projectConfigRepository.findAll();
 		List<FieldMapping> fieldMappingList = fieldMappingRepository.findAll();
 
 		List<HierarchyLevel> hierarchyLevels = hierarchyLevelRepository.findAllByOrderByLevel();
 
+		Map<ObjectId, FieldMapping> fieldMappingByProject = new HashMap<>(fieldMappingList.size());
+		fieldMappingList.stream()
+				.filter(mapping -> null != mapping.getBasicProjectConfigId())
+				.forEach(
+						mapping ->
+								fieldMappingByProject.putIfAbsent(mapping.getBasicProjectConfigId(), mapping));
+
+		Map<String, ProjectBasicConfig> projectConfigs = new HashMap<>(projectList.size());
+		Map<ObjectId, FieldMapping> fieldMappings = new HashMap<>(projectList.size());
 		projectList.forEach(
 				projectConfig -> {
 					projectConfig.setHierarchy(
 							projectBasicConfigService.getHierarchy(
 									hierarchyLevels, projectConfig.getProjectNodeId()));
-					projectConfigMap.put(projectConfig.getId().toString(), projectConfig);
-					FieldMapping mapping =
-							fieldMappingList.stream()
-									.filter(
-											x ->
-													null != x.getBasicProjectConfigId()
-															&& x.getBasicProjectConfigId().equals(projectConfig.getId()))
-									.findAny()
-									.orElse(new FieldMapping());
-					fieldMappingMap.put(projectConfig.getId(), mapping);
+					projectConfigs.put(projectConfig.getId().toString(), projectConfig);
+					fieldMappings.put(
+							projectConfig.getId(),
+							fieldMappingByProject.getOrDefault(projectConfig.getId(), new FieldMapping()));
 				});
+		publish(
+				current -> current.withProjectConfigMap(projectConfigs).withFieldMappingMap(fieldMappings));
 	}
 
 	/** Load project board meta data. */
 	public void loadBoardMetaData() {
 		log.info("loading project board meta data");
-		boardMetaDataMap.clear();
-
 		List<BoardMetadata> boardMetaDataList = boardMetadataServiceImpl.findAll();
 
-		boardMetaDataMap =
+		Map<ObjectId, BoardMetadata> boardMetaData =
 				boardMetaDataList.stream()
 						.collect(Collectors.toMap(BoardMetadata::getProjectBasicConfigId, Function.identity()));
+		publish(current -> current.withBoardMetaDataMap(boardMetaData));
 	}
 
 	/** This method load toolConfigMap */
 	public void loadToolConfig() {
-		toolItemMap.clear();
 		List<Tool> toolList = toolConfigRepository.getToolList();
-		Map<ObjectId, List<Tool>> projectMap =
-				toolList.stream().collect(Collectors.groupingBy(Tool::getProjectIds));
-		projectMap
-				.entrySet()
-				.forEach(
-						project ->
-								toolItemMap.put(
-										project.getKey(),
-										project.getValue().stream().collect(Collectors.groupingBy(Tool::getTool))));
+		Map<ObjectId, Map<String, List<Tool>>> toolItems =
+				toolList.stream()
+						.collect(
+								Collectors.groupingBy(
+										Tool::getProjectIds,
+										Collectors.collectingAndThen(
+												Collectors.groupingBy(Tool::getTool), Collections::unmodifiableMap)));
+		publish(current -> current.withToolItemMap(toolItems));
 	}
 
 	/** This method load toolConfigMap */
 	public void loadProjectToolConfig() {
-		projectToolConfMap.clear();
 		List<ProjectToolConfig> toolList = projectToolConfigRepository.findAll();
-		Map<ObjectId, List<ProjectToolConfig>> projectMap =
+		Map<ObjectId, Map<String, List<ProjectToolConfig>>> projectToolConfigs =
 				toolList.stream()
-						.collect(Collectors.groupingBy(ProjectToolConfig::getBasicProjectConfigId));
-		projectMap
-				.entrySet()
-				.forEach(
-						project ->
-								projectToolConfMap.put(
-										project.getKey(),
-										project.getValue().stream()
-												.collect(Collectors.groupingBy(ProjectToolConfig::getToolName))));
+						.collect(
+								Collectors.groupingBy(
+										ProjectToolConfig::getBasicProjectConfigId,
+										Collectors.collectingAndThen(
+												Collectors.groupingBy(ProjectToolConfig::getToolName),
+												Collections::unmodifiableMap)));
+		publish(current -> current.withProjectToolConfMap(projectToolConfigs));
+	}
+
+	/**
+	 * Applies changed and removed project configs to the published project config map, the other
+	 * projects are kept as loaded.
+	 *
+	 * @param changedProjects created or updated projects
+	 * @param removedProjectIds ids of the deleted projects
+	 */
+	public void applyProjectConfigChanges(
+			List<ProjectBasicConfig> changedProjects, Set<ObjectId> removedProjectIds) {
+		List<HierarchyLevel> hierarchyLevels =
+				changedProjects.isEmpty() ? List.of() : hierarchyLevelRepository.findAllByOrderByLevel();
+		changedProjects.forEach(
+				projectConfig ->
+						projectConfig.setHierarchy(
+								projectBasicConfigService.getHierarchy(
+										hierarchyLevels, projectConfig.getProjectNodeId())));
+		publish(
+				current -> {
+					Map<String, ProjectBasicConfig> projectConfigs =
+							new HashMap<>(current.projectConfigMap());
+					Map<ObjectId, FieldMapping> fieldMappings = new HashMap<>(current.fieldMappingMap());
+					removedProjectIds.forEach(
+							projectId -> {
+								projectConfigs.remove(projectId.toString());
+								fieldMappings.remove(projectId);
+							});
+					changedProjects.forEach(
+							projectConfig -> {
+								projectConfigs.put(projectConfig.getId().toString(), projectConfig);
+								fieldMappings.putIfAbsent(projectConfig.getId(), new FieldMapping());
+							});
+					return current.withProjectConfigMap(projectConfigs).withFieldMappingMap(fieldMappings);
+				});
+	}
+
+	/**
+	 * Applies changed and removed field mappings to the published field mapping map.
+	 *
+	 * @param changedMappings created or updated field mappings
+	 * @param removedMappingIds ids of the deleted field mappings
+	 */
+	public void applyFieldMappingChanges(
+			List<FieldMapping> changedMappings, Set<ObjectId> removedMappingIds) {
+		publish(
+				current -> {
+					Map<ObjectId, FieldMapping> fieldMappings = new HashMap<>(current.fieldMappingMap());
+					fieldMappings.replaceAll(
+							(projectId, mapping) ->
+									null != mapping.getId() && removedMappingIds.contains(mapping.getId())
+											? new FieldMapping()
+											: mapping);
+					changedMappings.stream()
+							.filter(
+									mapping ->
+											null != mapping.getBasicProjectConfigId()
+													&& current
+															.projectConfigMap()
+															.containsKey(mapping.getBasicProjectConfigId().toString()))
+							.forEach(mapping -> fieldMappings.put(mapping.getBasicProjectConfigId(), mapping));
+					return current.withFieldMappingMap(fieldMappings);
+				});
+	}
+
+	/**
+	 * Applies changed and removed project tool configs to the published project tool config map, only
+	 * the tools of the projects owning a changed tool are grouped again.
+	 *
+	 * @param changedTools created or updated project tool configs
+	 * @param removedToolIds ids of the deleted project tool configs
+	 */
+	public void applyProjectToolConfigChanges(
+			List<ProjectToolConfig> changedTools, Set<ObjectId> removedToolIds) {
+		publish(
+				current -> {
+					Set<ObjectId> replacedToolIds = new HashSet<>(removedToolIds);
+					Set<ObjectId> affectedProjectIds = new HashSet<>();
+					changedTools.forEach(
+							tool -> {
+								replacedToolIds.add(tool.getId());
+								affectedProjectIds.add(tool.getBasicProjectConfigId());
+							});
+					current.projectToolConfMap().forEach(
+							(projectId, toolsByName) ->
+									toolsByName.values().stream()
+											.flatMap(List::stream)
+											.filter(tool -> replacedToolIds.contains(tool.getId()))
+											.findAny()
+											.ifPresent(tool -> affectedProjectIds.add(projectId)));
+
+					Map<ObjectId, List<ProjectToolConfig>> affectedTools = new HashMap<>();
+					for (ObjectId projectId : affectedProjectIds) {
+						List<ProjectToolConfig> keptTools =
+								current.projectToolConfMap().getOrDefault(projectId, Map.of()).values().stream()
+										.flatMap(List::stream)
+										.filter(tool -> !replacedToolIds.contains(tool.getId()))
+										.collect(Collectors.toCollection(ArrayList::new));
+						affectedTools.put(projectId, keptTools);
+					}
+					changedTools.forEach(
+							tool -> affectedTools.get(tool.getBasicProjectConfigId()).add(tool));
+
+					Map<ObjectId, Map<String, List<ProjectToolConfig>>> projectToolConfigs =
+							new HashMap<>(current.projectToolConfMap());
+					affectedTools.forEach(
+							(projectId, tools) -> {
+								if (tools.isEmpty()) {
+									projectToolConfigs.remove(projectId);
+								} else {
+									projectToolConfigs.put(
+											projectId,
+											Collections.unmodifiableMap(
+													tools.stream()
+															.collect(Collectors.groupingBy(ProjectToolConfig::getToolName))));
+								}
+							});
+					return current.withProjectToolConfMap(projectToolConfigs);
+				});
+	}
+
+	/**
+	 * Version of the published config maps, increased by every reload or update of a map. It is part
+	 * of the KPI cache keys, so that a response computed from older config maps is not read once the
+	 * maps change. The version is seeded from the clock so that it also differs from the versions of
+	 * the responses kept on disk by a previous run.
+	 *
+	 * @return version of the config maps
+	 */
+	public long getConfigVersion() {
+		return snapshot.version();
+	}
+
+	private synchronized void publish(UnaryOperator<ConfigSnapshot> update) {
+		ConfigSnapshot current = snapshot;
+		snapshot =
+				update
+						.apply(current)
+						.withVersion(Math.max(current.version() + 1, System.currentTimeMillis()));
 	}
 
 	/**
@@ -246,7 +385,7 @@ public class ConfigHelperService {
 	 * @param projectConfigMap the project config map
 	 */
 	public void setProjectConfigMap(Map<String, ProjectBasicConfig> projectConfigMap) {
-		this.projectConfigMap = projectConfigMap;
+		publish(current -> current.withProjectConfigMap(projectConfigMap));
 	}
 
 	/**
@@ -264,7 +403,7 @@ public class ConfigHelperService {
 	 * @param fieldMappingMap the field mapping map
 	 */
 	public void setFieldMappingMap(Map<ObjectId, FieldMapping> fieldMappingMap) {
-		this.fieldMappingMap = fieldMappingMap;
+		publish(current -> current.withFieldMappingMap(fieldMappingMap));
 	}
 
 	/**
@@ -282,7 +421,7 @@ public class ConfigHelperService {
 	 * @param boardMetaDataMap the field mapping map
 	 */
 	public void setBoardMetaDataMap(Map<ObjectId, BoardMetadata> boardMetaDataMap) {
-		this.boardMetaDataMap = boardMetaDataMap;
+		publish(current -> current.withBoardMetaDataMap(boardMetaDataMap));
 	}
 
 	/**
@@ -292,12 +431,13 @@ public class ConfigHelperService {
 	 * @return config object
 	 */
 	public Object getConfigMapData(String key) {
+		ConfigSnapshot current = snapshot;
 		return switch (key) {
-			case CommonConstant.CACHE_PROJECT_CONFIG_MAP -> projectConfigMap;
-			case CommonConstant.CACHE_FIELD_MAPPING_MAP -> fieldMappingMap;
-			case CommonConstant.CACHE_BOARD_META_DATA_MAP -> boardMetaDataMap;
-			case CommonConstant.CACHE_TOOL_CONFIG_MAP -> toolItemMap;
-			case CommonConstant.CACHE_PROJECT_TOOL_CONFIG_MAP -> projectToolConfMap;
+			case CommonConstant.CACHE_PROJECT_CONFIG_MAP -> current.projectConfigMap();
+			case CommonConstant.CACHE_FIELD_MAPPING_MAP -> current.fieldMappingMap();
+			case CommonConstant.CACHE_BOARD_META_DATA_MAP -> current.boardMetaDataMap();
+			case CommonConstant.CACHE_TOOL_CONFIG_MAP -> current.toolItemMap();
+			case CommonConstant.CACHE_PROJECT_TOOL_CONFIG_MAP -> current.projectToolConfMap();
 			default -> null;
 		};
 	}
@@ -400,7 +540,13 @@ public class ConfigHelperService {
 	 * @param projectBasicConfig
 	 */
 	public void updateCacheProjectBasicConfig(ProjectBasicConfig projectBasicConfig) {
-		projectConfigMap.put(projectBasicConfig.getId().toString(), projectBasicConfig);
+		publish(
+				current -> {
+					Map<String, ProjectBasicConfig> projectConfigs =
+							new HashMap<>(current.projectConfigMap());
+					projectConfigs.put(projectBasicConfig.getId().toString(), projectBasicConfig);
+					return current.withProjectConfigMap(projectConfigs);
+				});
 		cacheService.updateCacheProjectConfigMapData();
 		cacheService.updateAllCacheProjectConfigMapData();
 	}
@@ -422,4 +568,78 @@ public class ConfigHelperService {
 						.map(ProjectHierarchy::getParentId)
 						.toList());
 	}
+
+	/** Config maps published together, the maps are not modified once published. */
+	private record ConfigSnapshot(
+			long version,
+			Map<String, ProjectBasicConfig> projectConfigMap,
+			Map<ObjectId, FieldMapping> fieldMappingMap,
+			Map<ObjectId, BoardMetadata> boardMetaDataMap,
+			Map<ObjectId, Map<String, List<Tool>>> toolItemMap,
+			Map<ObjectId, Map<String, List<ProjectToolConfig>>> projectToolConfMap) {
+
+		static final ConfigSnapshot EMPTY =
+				new ConfigSnapshot(0L, Map.of(), Map.of(), Map.of(), Map.of(), Map.of());
+
+		ConfigSnapshot withVersion(long newVersion) {
+			return new ConfigSnapshot(
+					newVersion,
+					projectConfigMap,
+					fieldMappingMap,
+					boardMetaDataMap,
+					toolItemMap,
+					projectToolConfMap);
+		}
+
+		ConfigSnapshot withProjectConfigMap(Map<String, ProjectBasicConfig> projectConfigs) {
+			return new ConfigSnapshot(
+					version,
+					Collections.unmodifiableMap(projectConfigs),
+					fieldMappingMap,
+					boardMetaDataMap,
+					toolItemMap,
+					projectToolConfMap);
+		}
+
+		ConfigSnapshot withFieldMappingMap(Map<ObjectId, FieldMapping> fieldMappings) {
+			return new ConfigSnapshot(
+					version,
+					projectConfigMap,
+					Collections.unmodifiableMap(fieldMappings),
+					boardMetaDataMap,
+					toolItemMap,
+					projectToolConfMap);
+		}
+
+		ConfigSnapshot withBoardMetaDataMap(Map<ObjectId, BoardMetadata> boardMetaData) {
+			return new ConfigSnapshot(
+					version,
+					projectConfigMap,
+					fieldMappingMap,
+					Collections.unmodifiableMap(boardMetaData),
+					toolItemMap,
+					projectToolConfMap);
+		}
+
+		ConfigSnapshot withToolItemMap(Map<ObjectId, Map<String, List<Tool>>> toolItems) {
+			return new ConfigSnapshot(
+					version,
+					projectConfigMap,
+					fieldMappingMap,
+					boardMetaDataMap,
+					Collections.unmodifiableMap(toolItems),
+					projectToolConfMap);
+		}
+
+		ConfigSnapshot withProjectToolConfMap(
+				Map<ObjectId, Map<String, List<ProjectToolConfig>>> projectToolConfigs) {
+			return new ConfigSnapshot(
+					version,
+					projectConfigMap,
+					fieldMappingMap,
+					boardMetaDataMap,
+					toolItemMap,
+					Collections.unmodifiableMap(projectToolConfigs));
+		}
+	}
 }
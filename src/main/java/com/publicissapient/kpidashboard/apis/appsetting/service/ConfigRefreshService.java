@@ -0,0 +1,551 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+
+
+package com.publicissapient.kpidashboard.apis.appsetting.service;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.publicissapient.kpidashboard.apis.common.service.CacheService;
+import com.publicissapient.kpidashboard.apis.config.CustomApiConfig;
+import com.publicissapient.kpidashboard.common.constant.CommonConstant;
+import com.publicissapient.kpidashboard.common.model.application.FieldMapping;
+import com.publicissapient.kpidashboard.common.model.application.OrganizationHierarchy;
+import com.publicissapient.kpidashboard.common.model.application.ProjectBasicConfig;
+import com.publicissapient.kpidashboard.common.model.application.ProjectHierarchy;
+import com.publicissapient.kpidashboard.common.model.application.ProjectToolConfig;
+import com.publicissapient.kpidashboard.common.model.jira.SprintDetails;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps the config maps of {@link ConfigHelperService} and the hierarchy caches up to date with the
+ * changes made by the processors and the other API instances, without reloading every document.
+ *
+ * <p>The config and hierarchy collections are polled for the documents created or updated since
+ * the last poll, using their creation and update stamps as a watermark. Only these documents are
+ * applied to the published config maps, and only the account hierarchy rows of the projects they
+ * belong to are rebuilt.
+ *
+ * <p>Deletes are found by counting the documents: the ids of a config collection are only read
+ * when it holds fewer documents than published. The hierarchy nodes and the sprints are counted by
+ * project and state, which also finds the projects whose nodes or sprints changed state without a
+ * stamp.
+ *
+ * <p>Not every writer stamps the documents it updates, a full reload periodically brings back the
+ * changes the polls cannot see.
+ *
+ * <p>Every instance polls the changes itself, so the caches are evicted on this instance only and
+ * the evictions are not published to the other instances.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+@SuppressWarnings("unchecked")
+public class ConfigRefreshService {
+
+	private static final String ID = "_id";
+	private static final String COUNT = "count";
+	private static final String BASIC_PROJECT_CONFIG_ID = "basicProjectConfigId";
+	private static final String SPRINT_STATE = "sprintState";
+	private static final String RELEASE_STATE = "releaseState";
+	private static final String STATE = "state";
+	/** string stamps of the config documents */
+	private static final Stamps CONFIG_STAMPS = new Stamps("createdAt", "updatedAt", false);
+	/** date stamps of the hierarchy documents */
+	private static final Stamps HIERARCHY_STAMPS = new Stamps("createdDate", "modifiedDate", true);
+	/**
+	 * stamps are compared by second, the documents of the last polled second are selected again and
+	 * skipped when their stamp did not change
+	 */
+	private static final int WATERMARK_LENGTH = "yyyy-MM-ddTHH:mm:ss".length();
+
+	private final MongoTemplate mongoTemplate;
+	private final ConfigHelperService configHelperService;
+	private final CacheService cacheService;
+	private final CustomApiConfig customApiConfig;
+
+	private Watermark projectConfigWatermark = new Watermark(CONFIG_STAMPS);
+	private Watermark fieldMappingWatermark = new Watermark(CONFIG_STAMPS);
+	private Watermark projectToolConfigWatermark = new Watermark(CONFIG_STAMPS);
+	private Watermark organizationHierarchyWatermark = new Watermark(HIERARCHY_STAMPS);
+	private Watermark projectHierarchyWatermark = new Watermark(HIERARCHY_STAMPS);
+	private HierarchyState hierarchyState;
+
+	/** Applies the config documents changed since the last poll, reloads everything on the first. */
+	@Scheduled(
+			fixedDelayString = "${config.refresh.poll-millis:60000}",
+			initialDelayString = "${config.refresh.poll-millis:60000}")
+	public synchronized void refresh() {
+		if (!customApiConfig.isConfigRefreshEnabled()) {
+			return;
+		}
+		if (null == hierarchyState) {
+			rebuild();
+			return;
+		}
+		try {
+			Set<ObjectId> changedProjectIds = refreshProjectConfigs();
+			refreshFieldMappings(!changedProjectIds.isEmpty());
+			refreshProjectToolConfigs();
+			refreshHierarchy(changedProjectIds);
+		} catch (RuntimeException e) {
+			log.error("Incremental config refresh failed, the next poll retries it", e);
+		}
+	}
+
+	/** Reloads every config document and the hierarchy, checking the state kept by the polls. */
+	@Scheduled(cron = "${config.refresh.full-rebuild-cron:0 0 2 * * ?}")
+	public synchronized void rebuild() {
+		if (!customApiConfig.isConfigRefreshEnabled()) {
+			return;
+		}
+		log.info("Reloading config maps and hierarchy");
+		// taken before the reload, the documents changed meanwhile are applied again by the next poll
+		projectConfigWatermark = latestWatermark(ProjectBasicConfig.class, CONFIG_STAMPS);
+		fieldMappingWatermark = latestWatermark(FieldMapping.class, CONFIG_STAMPS);
+		projectToolConfigWatermark = latestWatermark(ProjectToolConfig.class, CONFIG_STAMPS);
+		organizationHierarchyWatermark =
+				latestWatermark(OrganizationHierarchy.class, HIERARCHY_STAMPS);
+		projectHierarchyWatermark = latestWatermark(ProjectHierarchy.class, HIERARCHY_STAMPS);
+		HierarchyState currentHierarchy = hierarchyState();
+
+		configHelperService.loadConfigData();
+		configHelperService.loadToolConfig();
+		configHelperService.loadProjectToolConfig();
+		cacheService.updateCacheProjectConfigMapData();
+		cacheService.updateAllCacheProjectConfigMapData();
+		cacheService.updateCacheFieldMappingMapData();
+		cacheService.updateCacheToolConfigMapData();
+		cacheService.updateCacheProjectToolConfigMapData();
+		clearHierarchyCaches();
+		hierarchyState = currentHierarchy;
+	}
+
+	/**
+	 * @return ids of the changed and removed projects
+	 */
+	private Set<ObjectId> refreshProjectConfigs() {
+		List<ProjectBasicConfig> changedProjects =
+				changedSince(projectConfigWatermark, ProjectBasicConfig.class);
+		Set<ObjectId> removedProjectIds =
+				removedIds(
+						ProjectBasicConfig.class,
+						((Map<String, ProjectBasicConfig>)
+										configHelperService.getConfigMapData(CommonConstant.CACHE_PROJECT_CONFIG_MAP))
+								.keySet().stream()
+								.map(ObjectId::new)
+								.collect(Collectors.toSet()),
+						changedProjects.stream().map(ProjectBasicConfig::getId).toList());
+		if (changedProjects.isEmpty() && removedProjectIds.isEmpty()) {
+			return Set.of();
+		}
+		log.info(
+				"Applying {} changed and {} removed project configs",
+				changedProjects.size(),
+				removedProjectIds.size());
+		configHelperService.applyProjectConfigChanges(changedProjects, removedProjectIds);
+		cacheService.updateCacheProjectConfigMapData();
+		cacheService.updateAllCacheProjectConfigMapData();
+		changedProjects.forEach(
+				project -> cacheService.evictLocalKpiCache(project.getId().toHexString()));
+		Set<ObjectId> changedProjectIds = new HashSet<>(removedProjectIds);
+		changedProjects.forEach(project -> changedProjectIds.add(project.getId()));
+		return changedProjectIds;
+	}
+
+	private void refreshFieldMappings(boolean projectsChanged) {
+		List<FieldMapping> changedMappings = changedSince(fieldMappingWatermark, FieldMapping.class);
+		Set<ObjectId> removedMappingIds =
+				removedIds(
+						FieldMapping.class,
+						((Map<ObjectId, FieldMapping>)
+										configHelperService.getConfigMapData(CommonConstant.CACHE_FIELD_MAPPING_MAP))
+								.values().stream()
+								.map(FieldMapping::getId)
+								.filter(Objects::nonNull)
+								.collect(Collectors.toSet()),
+						changedMappings.stream().map(FieldMapping::getId).toList());
+		if (!changedMappings.isEmpty() || !removedMappingIds.isEmpty()) {
+			log.info(
+					"Applying {} changed and {} removed field mappings",
+					changedMappings.size(),
+					removedMappingIds.size());
+			configHelperService.applyFieldMappingChanges(changedMappings, removedMappingIds);
+			changedMappings.stream()
+					.map(FieldMapping::getBasicProjectConfigId)
+					.filter(Objects::nonNull)
+					.distinct()
+					.forEach(projectId -> cacheService.evictLocalKpiCache(projectId.toHexString()));
+		} else if (!projectsChanged) {
+			return;
+		}
+		cacheService.updateCacheFieldMappingMapData();
+		cacheService.clearLocalCache(CommonConstant.CACHE_BOARD_META_DATA_MAP);
+	}
+
+	private void refreshProjectToolConfigs() {
+		List<ProjectToolConfig> changedTools =
+				changedSince(projectToolConfigWatermark, ProjectToolConfig.class);
+		Set<ObjectId> removedToolIds =
+				removedIds(
+						ProjectToolConfig.class,
+						((Map<ObjectId, Map<String, List<ProjectToolConfig>>>)
+										configHelperService.getConfigMapData(
+												CommonConstant.CACHE_PROJECT_TOOL_CONFIG_MAP))
+								.values().stream()
+								.flatMap(toolsByName -> toolsByName.values().stream())
+								.flatMap(List::stream)
+								.map(ProjectToolConfig::getId)
+								.collect(Collectors.toSet()),
+						changedTools.stream().map(ProjectToolConfig::getId).toList());
+		if (changedTools.isEmpty() && removedToolIds.isEmpty()) {
+			return;
+		}
+		log.info(
+				"Applying {} changed and {} removed project tool configs",
+				changedTools.size(),
+				removedToolIds.size());
+		configHelperService.applyProjectToolConfigChanges(changedTools, removedToolIds);
+		// the tool list joins the tool configs with their connections in a single query
+		configHelperService.loadToolConfig();
+		cacheService.updateCacheProjectToolConfigMapData();
+		cacheService.updateCacheToolConfigMapData();
+		cacheService.clearLocalCache(CommonConstant.CACHE_PROJECT_TOOL_CONFIG);
+		changedTools.stream()
+				.map(ProjectToolConfig::getBasicProjectConfigId)
+				.filter(Objects::nonNull)
+				.distinct()
+				.forEach(projectId -> cacheService.evictLocalKpiCache(projectId.toHexString()));
+	}
+
+	/**
+	 * Rebuilds the account hierarchy rows of the projects whose config, hierarchy nodes or sprints
+	 * changed, and of the projects below the changed organization nodes.
+	 *
+	 * @param changedProjectIds ids of the changed and removed projects
+	 */
+	private void refreshHierarchy(Set<ObjectId> changedProjectIds) {
+		List<OrganizationHierarchy> changedOrganizationNodes =
+				changedSince(organizationHierarchyWatermark, OrganizationHierarchy.class);
+		List<ProjectHierarchy> changedProjectNodes =
+				changedSince(projectHierarchyWatermark, ProjectHierarchy.class);
+		HierarchyState previousHierarchy = hierarchyState;
+		HierarchyState currentHierarchy = hierarchyState();
+		hierarchyState = currentHierarchy;
+		if (currentHierarchy.organizationNodes() < previousHierarchy.organizationNodes()) {
+			log.info("Organization nodes removed, rebuilding the account hierarchy on the next request");
+			clearHierarchyCaches();
+			return;
+		}
+		if (!changedOrganizationNodes.isEmpty()
+				|| currentHierarchy.organizationNodes() != previousHierarchy.organizationNodes()) {
+			cacheService.clearLocalCache(CommonConstant.CACHE_ORGANIZATION_HIERARCHY);
+		}
+		if (!changedProjectNodes.isEmpty()
+				|| !currentHierarchy.projectNodes().equals(previousHierarchy.projectNodes())) {
+			cacheService.clearLocalCache(CommonConstant.CACHE_PROJECT_HIERARCHY);
+		}
+
+		Set<ObjectId> projectIds = new HashSet<>(changedProjectIds);
+		changedProjectNodes.stream()
+				.map(ProjectHierarchy::getBasicProjectConfigId)
+				.filter(Objects::nonNull)
+				.forEach(projectIds::add);
+		projectIds.addAll(
+				projectsWithChangedCounts(
+						previousHierarchy.projectNodes(), currentHierarchy.projectNodes()));
+		projectIds.addAll(
+				projectsWithChangedCounts(previousHierarchy.sprints(), currentHierarchy.sprints()));
+		projectIds.addAll(
+				projectsBelow(
+						changedOrganizationNodes.stream().map(OrganizationHierarchy::getNodeId).toList()));
+		if (!projectIds.isEmpty()) {
+			log.info(
+					"Hierarchy of {} projects changed, updating their account hierarchy rows",
+					projectIds.size());
+			cacheService.refreshAccountHierarchy(projectIds);
+		}
+	}
+
+	/**
+	 * @param nodeIds ids of organization nodes
+	 * @return ids of the projects in the account hierarchy rows containing any of the nodes
+	 */
+	private Set<ObjectId> projectsBelow(Collection<String> nodeIds) {
+		if (nodeIds.isEmpty()) {
+			return Set.of();
+		}
+		return Stream.of(
+						cacheService.getAccountHierarchyIndex(), cacheService.getAccountHierarchyKanbanIndex())
+				.filter(Objects::nonNull)
+				.map(index -> index.getBasicProjectConfigIds(nodeIds))
+				.flatMap(Set::stream)
+				.map(ObjectId::new)
+				.collect(Collectors.toSet());
+	}
+
+	private void clearHierarchyCaches() {
+		cacheService.clearLocalCache(CommonConstant.CACHE_ACCOUNT_HIERARCHY);
+		cacheService.clearLocalCache(CommonConstant.CACHE_ACCOUNT_HIERARCHY_KANBAN);
+		cacheService.clearLocalCache(CommonConstant.CACHE_SPRINT_HIERARCHY);
+		cacheService.clearLocalCache(CommonConstant.CACHE_ORGANIZATION_HIERARCHY);
+		cacheService.clearLocalCache(CommonConstant.CACHE_PROJECT_HIERARCHY);
+	}
+
+	/**
+	 * Reads the documents created or updated since the watermark and moves the watermark past them.
+	 *
+	 * @param watermark watermark of the last poll
+	 * @param documentClass document type
+	 * @return the documents whose stamp changed since the last poll
+	 */
+	private <T> List<T> changedSince(Watermark watermark, Class<T> documentClass) {
+		Map<ObjectId, String> stamps = stampsSince(documentClass, watermark.stamps, watermark.second);
+		Set<ObjectId> changedIds =
+				stamps.entrySet().stream()
+						.filter(stamp -> !stamp.getValue().equals(watermark.boundaryStamps.get(stamp.getKey())))
+						.map(Map.Entry::getKey)
+						.collect(Collectors.toSet());
+		watermark.advance(stamps);
+		if (changedIds.isEmpty()) {
+			return List.of();
+		}
+		return mongoTemplate.find(new Query(Criteria.where(ID).in(changedIds)), documentClass);
+	}
+
+	/** @return the watermark of the latest stamped documents, which are not changes to apply */
+	private Watermark latestWatermark(Class<?> documentClass, Stamps stamps) {
+		Watermark watermark = new Watermark(stamps);
+		watermark.second = latestStamp(documentClass, stamps);
+		watermark.advance(stampsSince(documentClass, stamps, watermark.second));
+		return watermark;
+	}
+
+	/**
+	 * @param second second of the watermark, null to select every stamped document
+	 * @return id -> latest creation or update stamp of the documents created or updated in or after
+	 *     the second
+	 */
+	private Map<ObjectId, String> stampsSince(Class<?> documentClass, Stamps stamps, String second) {
+		Criteria updated = Criteria.where(stamps.updatedField());
+		Criteria created = Criteria.where(stamps.createdField());
+		Query query =
+				null == second
+						? new Query(new Criteria().orOperator(updated.exists(true), created.exists(true)))
+						: new Query(
+								new Criteria()
+										.orOperator(
+												updated.gte(stamps.valueOf(second)), created.gte(stamps.valueOf(second))));
+		query.fields().include(stamps.updatedField()).include(stamps.createdField());
+		Map<ObjectId, String> stampsById = new HashMap<>();
+		for (Document document :
+				mongoTemplate.find(query, Document.class, mongoTemplate.getCollectionName(documentClass))) {
+			if (!(document.get(ID) instanceof ObjectId id)) {
+				continue;
+			}
+			Stream.of(document.get(stamps.updatedField()), document.get(stamps.createdField()))
+					.map(Stamps::stampOf)
+					.filter(Objects::nonNull)
+					.max(String::compareTo)
+					.ifPresent(stamp -> stampsById.put(id, stamp));
+		}
+		return stampsById;
+	}
+
+	/**
+	 * @param documentClass document type
+	 * @return latest creation or update stamp of the documents, truncated to the second
+	 */
+	private String latestStamp(Class<?> documentClass, Stamps stamps) {
+		return Stream.of(stamps.updatedField(), stamps.createdField())
+				.map(field -> latestValue(documentClass, field))
+				.map(Stamps::stampOf)
+				.filter(Objects::nonNull)
+				.map(ConfigRefreshService::secondOf)
+				.max(String::compareTo)
+				.orElse(null);
+	}
+
+	private static String secondOf(String stamp) {
+		return stamp.substring(0, Math.min(stamp.length(), WATERMARK_LENGTH));
+	}
+
+	private Object latestValue(Class<?> documentClass, String field) {
+		Query query =
+				new Query(Criteria.where(field).exists(true))
+						.with(Sort.by(Sort.Direction.DESC, field))
+						.limit(1);
+		query.fields().include(field);
+		String collectionName = mongoTemplate.getCollectionName(documentClass);
+		Document latest = mongoTemplate.findOne(query, Document.class, collectionName);
+		return null == latest ? null : latest.get(field);
+	}
+
+	/**
+	 * Finds the published documents deleted since the last poll. The ids of the collection are only
+	 * read when it holds fewer documents than the published and changed ones, that is after a delete.
+	 *
+	 * @param documentClass config document type
+	 * @param publishedIds ids of the published documents
+	 * @param changedIds ids of the documents changed since the last poll
+	 * @return ids of the published documents no longer in the collection
+	 */
+	private Set<ObjectId> removedIds(
+			Class<?> documentClass, Set<ObjectId> publishedIds, Collection<ObjectId> changedIds) {
+		if (publishedIds.isEmpty()) {
+			return Set.of();
+		}
+		Set<ObjectId> expectedIds = new HashSet<>(publishedIds);
+		expectedIds.addAll(changedIds);
+		if (mongoTemplate.count(new Query(), documentClass) >= expectedIds.size()) {
+			return Set.of();
+		}
+		Set<ObjectId> removedIds = new HashSet<>(publishedIds);
+		mongoTemplate
+				.findDistinct(
+						new Query(), ID, mongoTemplate.getCollectionName(documentClass), ObjectId.class)
+				.forEach(removedIds::remove);
+		return removedIds;
+	}
+
+	private HierarchyState hierarchyState() {
+		return new HierarchyState(
+				mongoTemplate.count(new Query(), OrganizationHierarchy.class),
+				countsByProject(ProjectHierarchy.class, SPRINT_STATE, RELEASE_STATE),
+				countsByProject(SprintDetails.class, STATE));
+	}
+
+	/**
+	 * @param fields fields whose values are counted
+	 * @return number of documents by project and values of the fields, a document added, removed or
+	 *     moved to other values changes the counts of its project
+	 */
+	private Map<Object, Long> countsByProject(Class<?> documentClass, String... fields) {
+		String[] groupFields =
+				Stream.concat(Stream.of(BASIC_PROJECT_CONFIG_ID), Arrays.stream(fields))
+						.toArray(String[]::new);
+		Aggregation aggregation =
+				Aggregation.newAggregation(Aggregation.group(groupFields).count().as(COUNT));
+		Map<Object, Long> counts = new HashMap<>();
+		for (Document group :
+				mongoTemplate
+						.aggregate(aggregation, mongoTemplate.getCollectionName(documentClass), Document.class)
+						.getMappedResults()) {
+			if (group.get(COUNT) instanceof Number count) {
+				counts.put(group.get(ID), count.longValue());
+			}
+		}
+		return counts;
+	}
+
+	/**
+	 * @return ids of the projects whose counts differ
+	 */
+	private static Set<ObjectId> projectsWithChangedCounts(
+			Map<Object, Long> previousCounts, Map<Object, Long> currentCounts) {
+		return Stream.concat(previousCounts.keySet().stream(), currentCounts.keySet().stream())
+				.filter(group -> !Objects.equals(previousCounts.get(group), currentCounts.get(group)))
+				.map(group -> group instanceof Document fields ? fields.get(BASIC_PROJECT_CONFIG_ID) : null)
+				.filter(ObjectId.class::isInstance)
+				.map(ObjectId.class::cast)
+				.collect(Collectors.toSet());
+	}
+
+	/**
+	 * Fields stamping the creation and the last update of the documents of a collection.
+	 *
+	 * @param dates true if the stamps are dates, false if they are ISO strings
+	 */
+	private record Stamps(String createdField, String updatedField, boolean dates) {
+
+		/** @return the second in the type of the stamp fields, to query the documents stamped after */
+		Object valueOf(String second) {
+			return dates ? Date.from(Instant.parse(second + "Z")) : second;
+		}
+
+		/** @return the stamp as a string comparable with the other stamps of the collection */
+		static String stampOf(Object value) {
+			if (value instanceof String stamp) {
+				return stamp;
+			}
+			return value instanceof Date date ? date.toInstant().toString() : null;
+		}
+	}
+
+	/**
+	 * Last polled second of a collection and the stamps of its documents in that second, the
+	 * documents of the second are selected again by the next poll and applied only if their stamp
+	 * changed.
+	 */
+	private static final class Watermark {
+
+		private final Stamps stamps;
+		private String second;
+		private Map<ObjectId, String> boundaryStamps = Map.of();
+
+		Watermark(Stamps stamps) {
+			this.stamps = stamps;
+		}
+
+		void advance(Map<ObjectId, String> stampsById) {
+			String latestSecond =
+					stampsById.values().stream()
+							.map(ConfigRefreshService::secondOf)
+							.max(String::compareTo)
+							.orElse(null);
+			if (null == latestSecond || (null != second && latestSecond.compareTo(second) < 0)) {
+				return;
+			}
+			second = latestSecond;
+			boundaryStamps =
+					stampsById.entrySet().stream()
+							.filter(stamp -> secondOf(stamp.getValue()).equals(latestSecond))
+							.collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+		}
+	}
+
+	/**
+	 * Number of organization nodes, and number of project hierarchy nodes and sprints by project and
+	 * state.
+	 */
+	private record HierarchyState(
+			long organizationNodes, Map<Object, Long> projectNodes, Map<Object, Long> sprints) {}
+}
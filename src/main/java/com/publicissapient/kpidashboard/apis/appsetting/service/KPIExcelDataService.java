@@ -19,6 +19,7 @@
 package com.publicissapient.kpidashboard.apis.appsetting.service;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -39,10 +40,9 @@ import org.bson.types.ObjectId;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import com.google.common.util.concurrent.MoreExecutors;
 import com.publicissapient.kpidashboard.apis.bitbucket.service.BitBucketServiceKanbanR;
 import com.publicissapient.kpidashboard.apis.bitbucket.service.BitBucketServiceR;
-import com.publicissapient.kpidashboard.apis.common.service.CacheService;
-import com.publicissapient.kpidashboard.apis.constant.Constant;
 import com.publicissapient.kpidashboard.apis.enums.KPICode;
 import com.publicissapient.kpidashboard.apis.enums.KPISource;
 import com.publicissapient.kpidashboard.apis.jenkins.service.JenkinsServiceKanbanR;
@@ -103,8 +103,6 @@ public class KPIExcelDataService {
 
 	@Autowired private BitBucketServiceR bitBucketServiceR;
 
-	@Autowired private CacheService cacheService;
-
 	@Autowired private JiraServiceKanbanR jiraServiceKanbanR;
 
 	@Autowired private ZephyrServiceKanban zephyrServiceKanban;
@@ -154,10 +152,33 @@ public class KPIExcelDataService {
 
 		Map<String, KpiRequest> kpiRequestSourceWiseMap =
 				createKPIRequest(kpiID, level, filterIds, kpiRequest, isKanban);
+		ExecutorService executor = Executors.newFixedThreadPool(10);
+		if (isSourceKanban(kpiRequestSourceWiseMap)) {
+			return processKanban(kpiID, kpiRequestSourceWiseMap, acceptedFilter, executor);
+		}
+		return processScrum(kpiID, kpiRequestSourceWiseMap, acceptedFilter, isApiAuth, executor);
+	}
+
+	/**
+	 * Processes the request of a streamed export of the KPI. The source of the KPI is computed on the
+	 * calling thread, so that the KPIs see the row consumer bound to it by the export.
+	 *
+	 * @param kpiID the kpi id
+	 * @param level the level
+	 * @param filterIds the filter ids
+	 * @param kpiRequest the kpi request
+	 * @param isApiAuth check if api auth
+	 * @return the validation data of the KPI, without the rows streamed by the KPI
+	 */
+	public Object processForExport(
+			String kpiID, int level, List<String> filterIds, KpiRequest kpiRequest, Boolean isApiAuth) {
+		Map<String, KpiRequest> kpiRequestSourceWiseMap =
+				createKPIRequest(kpiID, level, filterIds, kpiRequest, null);
+		ExecutorService executor = MoreExecutors.newDirectExecutorService();
 		if (isSourceKanban(kpiRequestSourceWiseMap)) {
-			return processKanban(kpiID, kpiRequestSourceWiseMap, acceptedFilter);
+			return processKanban(kpiID, kpiRequestSourceWiseMap, null, executor);
 		}
-		return processScrum(kpiID, kpiRequestSourceWiseMap, acceptedFilter, isApiAuth);
+		return processScrum(kpiID, kpiRequestSourceWiseMap, null, isApiAuth, executor);
 	}
 
 	public List<String> getProjectIDAndLabel(KpiRequest kpiRequest) {
@@ -227,6 +248,7 @@ public class KPIExcelDataService {
 	 * @param kpiRequestSourceWiseMap
 	 * @param acceptedFilter
 	 * @param apiAuth check if api auth
+	 * @param executor executor of the sources, shut down once they are computed
 	 * @return Excel data Object
 	 */
 	@SuppressWarnings("PMD.AvoidCatchingGenericException")
@@ -234,10 +256,10 @@ public class KPIExcelDataService {
 			String kpiID,
 			Map<String, KpiRequest> kpiRequestSourceWiseMap,
 			List<String> acceptedFilter,
-			Boolean apiAuth) {
+			Boolean apiAuth,
+			ExecutorService executor) {
 
 		List<KpiElement> totalKpiElementList = new ArrayList<>();
-		ExecutorService executor = Executors.newFixedThreadPool(10);
 
 		long startTime = System.currentTimeMillis();
 		String label = null;
@@ -252,9 +274,6 @@ public class KPIExcelDataService {
 
 			for (Map.Entry<String, KpiRequest> pair : kpiRequestSourceWiseMap.entrySet()) {
 
-				cacheService.setIntoApplicationCache(
-						Constant.KPI_REQUEST_TRACKER_ID_KEY + KPISource.EXCEL.name(),
-						pair.getValue().getRequestTrackerId());
 				projectIds = getProjectIDAndLabel(pair.getValue());
 				label = pair.getValue().getLabel();
 				switch (pair.getKey()) {
@@ -317,14 +336,17 @@ public class KPIExcelDataService {
 	 * @param kpiID
 	 * @param kpiRequestSourceWiseMap
 	 * @param acceptedFilter
+	 * @param executor executor of the sources, shut down once they are computed
 	 * @return Excel data Object
 	 */
 	@SuppressWarnings("PMD.AvoidCatchingGenericException")
 	private Object processKanban(
-			String kpiID, Map<String, KpiRequest> kpiRequestSourceWiseMap, List<String> acceptedFilter) {
+			String kpiID,
+			Map<String, KpiRequest> kpiRequestSourceWiseMap,
+			List<String> acceptedFilter,
+			ExecutorService executor) {
 
 		List<KpiElement> totalKpiElementList = new ArrayList<>();
-		ExecutorService executor = Executors.newFixedThreadPool(10);
 		long startTime = System.currentTimeMillis();
 		String label = null;
 		List<String> projectIds = new ArrayList<>();
@@ -338,10 +360,6 @@ public class KPIExcelDataService {
 
 			for (Map.Entry<String, KpiRequest> pair : kpiRequestSourceWiseMap.entrySet()) {
 
-				cacheService.setIntoApplicationCache(
-						Constant.KPI_REQUEST_TRACKER_ID_KEY + KPISource.EXCEL.name(),
-						pair.getValue().getRequestTrackerId());
-
 				projectIds = getProjectIDAndLabel(pair.getValue());
 				label = pair.getValue().getLabel();
 
@@ -454,9 +472,6 @@ public class KPIExcelDataService {
 	private Future<List<KpiElement>> excelJenkinsKanbanKpiDataFuture(
 			ExecutorService executor, Map.Entry<String, KpiRequest> pair) {
 		Future<List<KpiElement>> jenkinsKanbanKpiDataFuture;
-		cacheService.setIntoApplicationCache(
-				Constant.KPI_REQUEST_TRACKER_ID_KEY + KPISource.JENKINSKANBAN.name(),
-				pair.getValue().getRequestTrackerId());
 
 		Callable<List<KpiElement>> jenkinsKanbanKpiDataTask =
 				() -> jenkinsServiceKanbanR.process(pair.getValue());
@@ -475,9 +490,6 @@ public class KPIExcelDataService {
 	private Future<List<KpiElement>> excelBitBucketKanbanKpiDataFuture(
 			ExecutorService executor, Map.Entry<String, KpiRequest> pair) {
 		Future<List<KpiElement>> bitbucketKanbanKpiDataFuture;
-		cacheService.setIntoApplicationCache(
-				Constant.KPI_REQUEST_TRACKER_ID_KEY + KPISource.BITBUCKETKANBAN.name(),
-				pair.getValue().getRequestTrackerId());
 
 		Callable<List<KpiElement>> bitbucketKanbanKpiDataTask =
 				() -> bitBucketServiceKanbanR.process(pair.getValue());
@@ -496,9 +508,6 @@ public class KPIExcelDataService {
 	private Future<List<KpiElement>> excelSonarKanbanKpiDataFuture(
 			ExecutorService executor, Map.Entry<String, KpiRequest> pair) {
 		Future<List<KpiElement>> sonarKanbanKpiDataFuture;
-		cacheService.setIntoApplicationCache(
-				Constant.KPI_REQUEST_TRACKER_ID_KEY + KPISource.SONARKANBAN.name(),
-				pair.getValue().getRequestTrackerId());
 
 		Callable<List<KpiElement>> sonarKanbanKpiDataTask =
 				() -> sonarServiceKanbanR.process(pair.getValue());
@@ -517,9 +526,6 @@ public class KPIExcelDataService {
 	private Future<List<KpiElement>> excelZephyreKanbanKpiDataFuture(
 			ExecutorService executor, Map.Entry<String, KpiRequest> pair) {
 		Future<List<KpiElement>> zephyrKanbanKpiDataFuture;
-		cacheService.setIntoApplicationCache(
-				Constant.KPI_REQUEST_TRACKER_ID_KEY + KPISource.ZEPHYRKANBAN.name(),
-				pair.getValue().getRequestTrackerId());
 
 		Callable<List<KpiElement>> zephyrKanbanKpiDataTask =
 				() -> zephyrServiceKanban.process(pair.getValue());
@@ -538,9 +544,6 @@ public class KPIExcelDataService {
 	private Future<List<KpiElement>> excelJiraKanbanKpiDataFuture(
 			ExecutorService executor, Map.Entry<String, KpiRequest> pair) {
 		Future<List<KpiElement>> jiraKanbanKpiDataFuture;
-		cacheService.setIntoApplicationCache(
-				Constant.KPI_REQUEST_TRACKER_ID_KEY + KPISource.JIRAKANBAN.name(),
-				pair.getValue().getRequestTrackerId());
 
 		Callable<List<KpiElement>> jiraKanbanKpiDataTask =
 				() -> jiraServiceKanbanR.process(pair.getValue());
@@ -559,9 +562,6 @@ public class KPIExcelDataService {
 	private Future<List<KpiElement>> excelbitBucketKpiDataFuture(
 			ExecutorService executor, Map.Entry<String, KpiRequest> pair) {
 		Future<List<KpiElement>> bitbucketKpiDataFuture;
-		cacheService.setIntoApplicationCache(
-				Constant.KPI_REQUEST_TRACKER_ID_KEY + KPISource.BITBUCKET.name(),
-				pair.getValue().getRequestTrackerId());
 
 		Callable<List<KpiElement>> bitbucketKpiDataTask =
 				() -> bitBucketServiceR.process(pair.getValue());
@@ -581,9 +581,6 @@ public class KPIExcelDataService {
 	private Future<List<KpiElement>> excelZephyrKpiDataFuture(
 			ExecutorService executor, Map.Entry<String, KpiRequest> pair, Boolean apiAuth) {
 		Future<List<KpiElement>> zephyrKpiDataFuture;
-		cacheService.setIntoApplicationCache(
-				Constant.KPI_REQUEST_TRACKER_ID_KEY + KPISource.ZEPHYR.name(),
-				pair.getValue().getRequestTrackerId());
 
 		Callable<List<KpiElement>> zephyrKpiDataTask =
 				() -> {
@@ -609,9 +606,6 @@ public class KPIExcelDataService {
 	private Future<List<KpiElement>> excelSonarKpiDataFuture(
 			ExecutorService executor, Map.Entry<String, KpiRequest> pair, Boolean apiAuth) {
 		Future<List<KpiElement>> sonarKpiDataFuture;
-		cacheService.setIntoApplicationCache(
-				Constant.KPI_REQUEST_TRACKER_ID_KEY + KPISource.SONAR.name(),
-				pair.getValue().getRequestTrackerId());
 
 		Callable<List<KpiElement>> sonarKpiDataTask =
 				() -> {
@@ -637,9 +631,6 @@ public class KPIExcelDataService {
 	private Future<List<KpiElement>> excelJenkinsKpiDataFuture(
 			ExecutorService executor, Map.Entry<String, KpiRequest> pair, Boolean apiAuth) {
 		Future<List<KpiElement>> jenkinsKpiDataFuture;
-		cacheService.setIntoApplicationCache(
-				Constant.KPI_REQUEST_TRACKER_ID_KEY + KPISource.JENKINS.name(),
-				pair.getValue().getRequestTrackerId());
 
 		Callable<List<KpiElement>> jenkinsKpiDataTask =
 				() -> {
@@ -665,9 +656,6 @@ public class KPIExcelDataService {
 	private Future<List<KpiElement>> excelJiraKpiDataFuture(
 			ExecutorService executor, Map.Entry<String, KpiRequest> pair, Boolean apiAuth) {
 		Future<List<KpiElement>> jiraKpiDataFuture;
-		cacheService.setIntoApplicationCache(
-				Constant.KPI_REQUEST_TRACKER_ID_KEY + KPISource.JIRA.name(),
-				pair.getValue().getRequestTrackerId());
 		HashSet<String> category = new HashSet<>();
 		category.add(CommonConstant.ITERATION);
 		category.add(CommonConstant.RELEASE);
@@ -752,6 +740,22 @@ public class KPIExcelDataService {
 					.forEach(row -> countKeys.addAll(row.getCount().keySet()));
 		}
 
+		return buildDynamicGroupMapColumns(staticColumns, categoryKeys, countKeys);
+	}
+
+	/**
+	 * Replaces the Group Map column by the group keys of the rows and adds their count keys as
+	 * columns, after the given columns.
+	 *
+	 * @param staticColumns columns of the KPI
+	 * @param categoryKeys group map keys of the rows
+	 * @param countKeys count keys of the rows
+	 * @return the columns of the rows, the static columns if the rows have no such keys
+	 */
+	public static List<KpiColumnDetails> buildDynamicGroupMapColumns(
+			List<KpiColumnDetails> staticColumns,
+			Collection<String> categoryKeys,
+			Collection<String> countKeys) {
 		if (categoryKeys.isEmpty() && countKeys.isEmpty()) {
 			return staticColumns;
 		}
@@ -770,7 +774,9 @@ public class KPIExcelDataService {
 		}
 
 		for (String key : categoryKeys) {
-			result.add(new KpiColumnDetails(key, ++maxOrder, true, true));
+			if (existingNames.add(key)) {
+				result.add(new KpiColumnDetails(key, ++maxOrder, true, true));
+			}
 		}
 
 		for (String key : countKeys) {
@@ -0,0 +1,437 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+
+package com.publicissapient.kpidashboard.apis.appsetting.service;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVPrinter;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.util.WorkbookUtil;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.publicissapient.kpidashboard.apis.config.CustomApiConfig;
+import com.publicissapient.kpidashboard.apis.model.KPIExcelData;
+import com.publicissapient.kpidashboard.apis.model.KPIExcelValidationDataResponse;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
+import com.publicissapient.kpidashboard.common.model.application.KpiColumnDetails;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Streams the drill-down rows of a KPI to the response as CSV or XLSX. The KPIs building their rows
+ * in {@link KpiExecutionContext#newExcelRows()} hand each row to the export while they are
+ * computed, the row is spooled to a temporary file and only the group and count keys needed for
+ * the columns are kept. Once the KPI is computed the columns are known and the spooled rows are
+ * written one at a time through a {@link KpiExcelRowSink}, the XLSX sheet keeps a window of rows in
+ * memory and flushes the older rows to a compressed temporary file. The drill-down of a KPI still
+ * collecting its rows in a list is exported the same way, after being built in memory. An export
+ * whose KPI was cancelled by the time budget of its request fails before writing anything, instead
+ * of writing the rows spooled so far.
+ *
+ * <p>The {@code kpi.excel.export.rows} counter counts the rows as they are spooled and shows the
+ * progress of the running exports counted by the {@code kpi.excel.export.active} gauge, the
+ * {@code kpi.excel.export.streamed.rows} counter counts the rows handed over by the KPIs while they
+ * are computed.
+ */
+@Slf4j
+@Service
+public class KpiExcelExportService {
+
+	private static final int DEFAULT_ROW_WINDOW = 100;
+	private static final String HYPERLINK_PREFIX = "http";
+	private static final String COUNT_FIELD = "Count";
+	private static final TypeReference<Map<String, Object>> FIELDS = new TypeReference<>() {};
+
+	private final ObjectMapper objectMapper;
+	private final MeterRegistry meterRegistry;
+	private final int rowWindow;
+	private final AtomicInteger activeExports = new AtomicInteger();
+
+	@Autowired
+	public KpiExcelExportService(
+			ObjectMapper objectMapper, CustomApiConfig customApiConfig, MeterRegistry meterRegistry) {
+		this(objectMapper, customApiConfig.getKpiExcelExportRowWindow(), meterRegistry);
+	}
+
+	/**
+	 * @param objectMapper maps the rows to their columns
+	 * @param rowWindow rows of a XLSX sheet kept in memory, 100 if not positive
+	 * @param meterRegistry registry of the export metrics
+	 */
+	public KpiExcelExportService(
+			ObjectMapper objectMapper, int rowWindow, MeterRegistry meterRegistry) {
+		this.objectMapper = objectMapper;
+		this.meterRegistry = meterRegistry;
+		this.rowWindow = rowWindow > 0 ? rowWindow : DEFAULT_ROW_WINDOW;
+		Gauge.builder("kpi.excel.export.active", activeExports, AtomicInteger::get)
+				.description("KPI drill-down exports being written")
+				.register(meterRegistry);
+	}
+
+	/**
+	 * Writes the drill-down rows of an already computed KPI, the output stream is flushed but not
+	 * closed.
+	 *
+	 * @param response drill-down data of the KPI
+	 * @param format file format
+	 * @param out response stream
+	 * @throws IOException if the response cannot be written
+	 */
+	public void export(
+			KPIExcelValidationDataResponse response, KpiExcelExportFormat format, OutputStream out)
+			throws IOException {
+		export(() -> response, format, out);
+	}
+
+	/**
+	 * Computes the drill-down of the KPI with a row consumer bound to the current thread and writes
+	 * its rows, the output stream is flushed but not closed.
+	 *
+	 * @param drillDown computes the drill-down data of the KPI on the current thread
+	 * @param format file format
+	 * @param out response stream
+	 * @throws IOException if the rows cannot be spooled or the response cannot be written
+	 */
+	public void export(
+			Supplier<KPIExcelValidationDataResponse> drillDown,
+			KpiExcelExportFormat format,
+			OutputStream out)
+			throws IOException {
+		Timer.Sample sample = Timer.start(meterRegistry);
+		String result = "success";
+		String kpiId = null;
+		Counter rowCounter =
+				Counter.builder("kpi.excel.export.rows")
+						.description("Rows spooled by the KPI drill-down exports")
+						.tag("format", format.name())
+						.register(meterRegistry);
+		Counter streamedRowCounter =
+				Counter.builder("kpi.excel.export.streamed.rows")
+						.description("Rows handed to the KPI drill-down exports while the KPIs are computed")
+						.tag("format", format.name())
+						.register(meterRegistry);
+		activeExports.incrementAndGet();
+		try (RowSpool spool = new RowSpool(objectMapper, rowCounter, streamedRowCounter)) {
+			KPIExcelValidationDataResponse response;
+			KpiExecutionContext exportContext = KpiExecutionContext.streamingExcelRows(spool::stream);
+			try (KpiExecutionContext.Scope scope = exportContext.open()) {
+				response = drillDown.get();
+			}
+			kpiId = response.getKpiId();
+			if (exportContext.isIncomplete()) {
+				throw new IllegalStateException(
+						"Drill-down of kpi " + kpiId + " not computed within the request time budget");
+			}
+			if (null != response.getExcelData()) {
+				response.getExcelData().forEach(spool::collect);
+			}
+			List<String> columns = columns(response, spool);
+			try (KpiExcelRowSink sink = rowSink(format, out, sheetName(response))) {
+				sink.header(columns);
+				spool.replay(fields -> sink.row(values(fields, columns)));
+				sink.finish();
+			}
+		} catch (IOException | RuntimeException e) {
+			result = "error";
+			log.error("[KPI-EXCEL-EXPORT]. Export of kpi {} failed", kpiId, e);
+			throw e;
+		} finally {
+			activeExports.decrementAndGet();
+			sample.stop(
+					Timer.builder("kpi.excel.export")
+							.description("Duration of the KPI drill-down exports")
+							.tag("format", format.name())
+							.tag("result", result)
+							.register(meterRegistry));
+		}
+	}
+
+	private KpiExcelRowSink rowSink(KpiExcelExportFormat format, OutputStream out, String sheetName)
+			throws IOException {
+		return switch (format) {
+			case CSV -> new CsvRowSink(out);
+			case XLSX -> new XlsxRowSink(out, rowWindow, sheetName);
+		};
+	}
+
+	/**
+	 * @return the configured columns in their order with the group and count keys of the spooled
+	 *     rows, else the columns of the KPI
+	 */
+	private static List<String> columns(KPIExcelValidationDataResponse response, RowSpool spool) {
+		if (CollectionUtils.isNotEmpty(response.getKpiColumnDetails())) {
+			return KPIExcelDataService.buildDynamicGroupMapColumns(
+							response.getKpiColumnDetails(), spool.categoryKeys, spool.countKeys)
+					.stream()
+					.sorted(Comparator.comparingInt(KpiColumnDetails::getOrder))
+					.map(KpiColumnDetails::getColumnName)
+					.toList();
+		}
+		return null == response.getExcelColumns() ? List.of() : response.getExcelColumns();
+	}
+
+	private static String sheetName(KPIExcelValidationDataResponse response) {
+		String name =
+				StringUtils.defaultIfBlank(
+						response.getKpiName(), StringUtils.defaultIfBlank(response.getKpiId(), "KPI"));
+		return WorkbookUtil.createSafeSheetName(name);
+	}
+
+	/** @return the cells of the row, by the column names of the json rows */
+	List<Object> values(KPIExcelData row, List<String> columns) {
+		return values(objectMapper.convertValue(row, FIELDS), columns);
+	}
+
+	private static List<Object> values(Map<String, Object> fields, List<String> columns) {
+		Object counts = fields.get(COUNT_FIELD);
+		List<Object> values = new ArrayList<>(columns.size());
+		for (String column : columns) {
+			Object value = fields.get(column);
+			if (null == value && counts instanceof Map<?, ?> countMap) {
+				// the count keys are columns of their own, see KPIExcelDataService
+				value = countMap.get(column);
+			}
+			values.add(cellValue(value));
+		}
+		return values;
+	}
+
+	private static Object cellValue(Object value) {
+		if (null == value) {
+			return "";
+		}
+		if (value instanceof Number) {
+			return value;
+		}
+		if (value instanceof Map<?, ?> map) {
+			// issue id -> issue url links are exported as the issue ids
+			return map.entrySet().stream()
+					.map(
+							entry ->
+									String.valueOf(entry.getValue()).startsWith(HYPERLINK_PREFIX)
+											? String.valueOf(entry.getKey())
+											: entry.getKey() + ": " + entry.getValue())
+					.collect(Collectors.joining(", "));
+		}
+		if (value instanceof Collection<?> collection) {
+			return collection.stream()
+					.map(element -> String.valueOf(cellValue(element)))
+					.collect(Collectors.joining(", "));
+		}
+		return String.valueOf(value);
+	}
+
+	/** Writes a row read back from the spool. */
+	@FunctionalInterface
+	private interface SpooledRowWriter {
+		void write(Map<String, Object> fields) throws IOException;
+	}
+
+	/**
+	 * Json lines of the drill-down rows, written by the KPI threads while the KPI is computed and
+	 * read back once the columns are known. Deleted when closed.
+	 */
+	private static final class RowSpool implements Closeable {
+
+		private final ObjectMapper objectMapper;
+		private final Counter rowCounter;
+		private final Counter streamedRowCounter;
+		private final Path file;
+		private final BufferedWriter writer;
+		private final Set<String> categoryKeys = new LinkedHashSet<>();
+		private final Set<String> countKeys = new LinkedHashSet<>();
+		private boolean spooled;
+
+		RowSpool(ObjectMapper objectMapper, Counter rowCounter, Counter streamedRowCounter)
+				throws IOException {
+			this.objectMapper = objectMapper;
+			this.rowCounter = rowCounter;
+			this.streamedRowCounter = streamedRowCounter;
+			this.file = Files.createTempFile("kpi-excel-export", ".jsonl");
+			this.writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+		}
+
+		/** Spools a row handed over by a KPI while it is computed. */
+		void stream(KPIExcelData row) {
+			if (collect(row)) {
+				streamedRowCounter.increment();
+			}
+		}
+
+		/**
+		 * Spools a row, the rows of a KPI still running after the spool is read back are dropped.
+		 *
+		 * @return true if the row is spooled
+		 */
+		synchronized boolean collect(KPIExcelData row) {
+			if (spooled) {
+				return false;
+			}
+			if (null != row.getGroupMap()) {
+				categoryKeys.addAll(row.getGroupMap().keySet());
+			}
+			if (null != row.getCount()) {
+				countKeys.addAll(row.getCount().keySet());
+			}
+			try {
+				writer.write(objectMapper.writeValueAsString(row));
+				writer.newLine();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+			rowCounter.increment();
+			return true;
+		}
+
+		synchronized void replay(SpooledRowWriter rowWriter) throws IOException {
+			spooled = true;
+			writer.close();
+			try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+				String line;
+				while (null != (line = reader.readLine())) {
+					rowWriter.write(objectMapper.readValue(line, FIELDS));
+				}
+			}
+		}
+
+		@Override
+		public synchronized void close() throws IOException {
+			spooled = true;
+			try {
+				writer.close();
+			} finally {
+				Files.deleteIfExists(file);
+			}
+		}
+	}
+
+	private static final class CsvRowSink implements KpiExcelRowSink {
+
+		private final CSVPrinter printer;
+
+		CsvRowSink(OutputStream out) throws IOException {
+			this.printer =
+					new CSVPrinter(
+							new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8)),
+							CSVFormat.DEFAULT);
+		}
+
+		@Override
+		public void header(List<String> columns) throws IOException {
+			printer.printRecord(columns);
+		}
+
+		@Override
+		public void row(List<Object> values) throws IOException {
+			printer.printRecord(values);
+		}
+
+		@Override
+		public void finish() throws IOException {
+			printer.flush();
+		}
+
+		@Override
+		public void close() {
+			// the response stream is closed by the container
+		}
+	}
+
+	private static final class XlsxRowSink implements KpiExcelRowSink {
+
+		private final OutputStream out;
+		private final SXSSFWorkbook workbook;
+		private final Sheet sheet;
+		private int rowIndex;
+
+		XlsxRowSink(OutputStream out, int rowWindow, String sheetName) {
+			this.out = out;
+			this.workbook = new SXSSFWorkbook(rowWindow);
+			this.workbook.setCompressTempFiles(true);
+			this.sheet = workbook.createSheet(sheetName);
+		}
+
+		@Override
+		public void header(List<String> columns) {
+			row(new ArrayList<>(columns));
+		}
+
+		@Override
+		public void row(List<Object> values) {
+			Row row = sheet.createRow(rowIndex++);
+			for (int column = 0; column < values.size(); column++) {
+				Cell cell = row.createCell(column);
+				Object value = values.get(column);
+				if (value instanceof Number number) {
+					cell.setCellValue(number.doubleValue());
+				} else {
+					cell.setCellValue(
+							StringUtils.truncate(
+									String.valueOf(value), SpreadsheetVersion.EXCEL2007.getMaxTextLength()));
+				}
+			}
+		}
+
+		@Override
+		public void finish() throws IOException {
+			workbook.write(out);
+			out.flush();
+		}
+
+		@Override
+		public void close() throws IOException {
+			// deletes the temporary file of the flushed rows
+			workbook.dispose();
+			workbook.close();
+		}
+	}
+}
@@ -0,0 +1,49 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+
+package com.publicissapient.kpidashboard.apis.appsetting.service;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Receives the rows of a KPI drill-down export one at a time and writes them to the response, so
+ * that the export never holds the whole file in memory.
+ */
+public interface KpiExcelRowSink extends Closeable {
+
+	/**
+	 * @param columns names of the columns, written as the first row
+	 * @throws IOException if the response cannot be written
+	 */
+	void header(List<String> columns) throws IOException;
+
+	/**
+	 * @param values cell values in the order of the columns, numbers or texts
+	 * @throws IOException if the response cannot be written
+	 */
+	void row(List<Object> values) throws IOException;
+
+	/**
+	 * Writes the rows not written yet, the response stream is left open.
+	 *
+	 * @throws IOException if the response cannot be written
+	 */
+	void finish() throws IOException;
+}
@@ -68,6 +68,8 @@ public class AuthProperties { // NOPMD
 
 	private List<String> whiteListDomainForEmail;
 
+	private int tokenVerificationCacheSize;
+
 	/**
 	 * Gets expiration time.
 	 *
@@ -347,6 +349,24 @@ public class AuthProperties { // NOPMD
 		this.whiteListDomainForEmail = whiteListDomainForEmail;
 	}
 
+	/**
+	 * Gets the number of verified tokens kept to skip their verification, 0 disables it.
+	 *
+	 * @return the token verification cache size
+	 */
+	public int getTokenVerificationCacheSize() {
+		return tokenVerificationCacheSize;
+	}
+
+	/**
+	 * Sets the number of verified tokens kept to skip their verification.
+	 *
+	 * @param tokenVerificationCacheSize the token verification cache size
+	 */
+	public void setTokenVerificationCacheSize(int tokenVerificationCacheSize) {
+		this.tokenVerificationCacheSize = tokenVerificationCacheSize;
+	}
+
 	/** Apply defaults if needed. */
 	@PostConstruct
 	public void applyDefaultsIfNeeded() {
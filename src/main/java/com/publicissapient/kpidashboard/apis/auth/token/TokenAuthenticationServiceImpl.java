@@ -33,6 +33,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import javax.crypto.SecretKey;
 
@@ -47,7 +48,10 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.web.authentication.preauth.PreAuthenticatedAuthenticationToken;
 import org.springframework.stereotype.Component;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.Sets;
+import com.google.common.hash.Hashing;
 import com.publicissapient.kpidashboard.apis.abac.ProjectAccessManager;
 import com.publicissapient.kpidashboard.apis.auth.AuthProperties;
 import com.publicissapient.kpidashboard.apis.auth.model.UserInfoPrincipal;
@@ -66,6 +70,7 @@ import com.publicissapient.kpidashboard.common.util.DateUtil;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import jakarta.servlet.http.Cookie;
@@ -95,6 +100,11 @@ public class TokenAuthenticationServiceImpl implements TokenAuthenticationServic
 	@Autowired private CookieUtil cookieUtil;
 	@Autowired private UsersSessionService usersSessionService;
 
+	private volatile SecretKey signingKey;
+	private volatile JwtParser jwtParser;
+	/** Tokens already verified, by token hash, so that each request does not verify them again */
+	private volatile Cache<String, VerifiedToken> verifiedTokens;
+
 	@Override
 	public void addAuthentication(HttpServletResponse response, Authentication authentication) {
 		String jwt = createJwtToken(authentication);
@@ -113,8 +123,7 @@ public class TokenAuthenticationServiceImpl implements TokenAuthenticationServic
 	}
 
 	public String createJwtToken(Authentication authentication) {
-		SecretKey key =
-				Keys.hmacShaKeyFor(tokenAuthProperties.getSecret().getBytes(StandardCharsets.UTF_8));
+		SecretKey key = getSigningKey();
 		UserInfoPrincipal user = (UserInfoPrincipal) authentication.getPrincipal();
 		return Jwts.builder()
 				.setSubject(user.username())
@@ -129,10 +138,7 @@ public class TokenAuthenticationServiceImpl implements TokenAuthenticationServic
 
 	@Override
 	public boolean isJWTTokenExpired(String jwtToken) {
-		SecretKey key =
-				Keys.hmacShaKeyFor(tokenAuthProperties.getSecret().getBytes(StandardCharsets.UTF_8));
-		Claims decodedJWT =
-				Jwts.parser().verifyWith(key).build().parseSignedClaims(jwtToken).getPayload();
+		Claims decodedJWT = getJwtParser().parseSignedClaims(jwtToken).getPayload();
 		Date expiresAt = decodedJWT.getExpiration();
 		return new Date().after(expiresAt);
 	}
@@ -192,22 +198,15 @@ public class TokenAuthenticationServiceImpl implements TokenAuthenticationServic
 
 	private Authentication createAuthentication(String token, HttpServletResponse response) {
 		try {
-			SecretKey key =
-					Keys.hmacShaKeyFor(tokenAuthProperties.getSecret().getBytes(StandardCharsets.UTF_8));
-			Claims claims = Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
-			String username = claims.getSubject();
-			String email = claims.get(EMAIL_CLAIM, String.class);
-			Collection<? extends GrantedAuthority> authorities =
-					getAuthorities(claims.get(ROLES_CLAIM, Collection.class));
+			VerifiedToken verifiedToken = verifyToken(token);
+			String username = verifiedToken.principal().username();
 			PreAuthenticatedAuthenticationToken authentication =
 					new PreAuthenticatedAuthenticationToken(
-							new UserInfoPrincipal(username, email, claims.get(DETAILS_CLAIM, String.class)),
-							null,
-							authorities);
-			authentication.setDetails(claims.get(DETAILS_CLAIM));
+							verifiedToken.principal(), null, verifiedToken.authorities());
+			authentication.setDetails(verifiedToken.details());
+			Date tokenExpiration = verifiedToken.expiration();
 			Date tokenCreationDate =
-					new Date(claims.getExpiration().getTime() - tokenAuthProperties.getExpirationTime());
-			Date tokenExpiration = claims.getExpiration();
+					new Date(tokenExpiration.getTime() - tokenAuthProperties.getExpirationTime());
 			boolean isJWTTokenExpired = new Date().after(tokenExpiration);
 			LocalDateTime lastLogout = usersSessionService.getLastLogoutTimeOfUser(username);
 			ZonedDateTime tokenCreationZonedDateTime =
@@ -230,6 +229,79 @@ public class TokenAuthenticationServiceImpl implements TokenAuthenticationServic
 		}
 	}
 
+	/**
+	 * Verifies the token, or returns its claims verified by a previous request.
+	 *
+	 * @param token jwt token
+	 * @return claims of the token
+	 */
+	@SuppressWarnings("unchecked")
+	private VerifiedToken verifyToken(String token) {
+		Cache<String, VerifiedToken> tokenCache = getVerifiedTokens();
+		String tokenHash = null;
+		if (null != tokenCache) {
+			tokenHash = Hashing.sha256().hashString(token, StandardCharsets.UTF_8).toString();
+			VerifiedToken verifiedToken = tokenCache.getIfPresent(tokenHash);
+			if (null != verifiedToken) {
+				return verifiedToken;
+			}
+		}
+		Claims claims = getJwtParser().parseSignedClaims(token).getPayload();
+		VerifiedToken verifiedToken =
+				new VerifiedToken(
+						new UserInfoPrincipal(
+								claims.getSubject(),
+								claims.get(EMAIL_CLAIM, String.class),
+								claims.get(DETAILS_CLAIM, String.class)),
+						claims.get(DETAILS_CLAIM),
+						getAuthorities(claims.get(ROLES_CLAIM, Collection.class)),
+						claims.getExpiration());
+		if (null != tokenCache) {
+			tokenCache.put(tokenHash, verifiedToken);
+		}
+		return verifiedToken;
+	}
+
+	private SecretKey getSigningKey() {
+		SecretKey key = signingKey;
+		if (null == key) {
+			key =
+					Keys.hmacShaKeyFor(tokenAuthProperties.getSecret().getBytes(StandardCharsets.UTF_8));
+			signingKey = key;
+		}
+		return key;
+	}
+
+	private JwtParser getJwtParser() {
+		JwtParser parser = jwtParser;
+		if (null == parser) {
+			parser = Jwts.parser().verifyWith(getSigningKey()).build();
+			jwtParser = parser;
+		}
+		return parser;
+	}
+
+	private Cache<String, VerifiedToken> getVerifiedTokens() {
+		Cache<String, VerifiedToken> tokenCache = verifiedTokens;
+		int cacheSize = tokenAuthProperties.getTokenVerificationCacheSize();
+		if (null == tokenCache && cacheSize > 0) {
+			synchronized (this) {
+				tokenCache = verifiedTokens;
+				if (null == tokenCache) {
+					CacheBuilder<Object, Object> cacheBuilder =
+							CacheBuilder.newBuilder().maximumSize(cacheSize);
+					Long expirationTime = tokenAuthProperties.getExpirationTime();
+					if (null != expirationTime && expirationTime > 0) {
+						cacheBuilder.expireAfterWrite(expirationTime, TimeUnit.MILLISECONDS);
+					}
+					tokenCache = cacheBuilder.build();
+					verifiedTokens = tokenCache;
+				}
+			}
+		}
+		return tokenCache;
+	}
+
 	public UserTokenData getLatestUser(List<UserTokenData> userTokenDataList) {
 		if (CollectionUtils.isEmpty(userTokenDataList)) {
 			return null;
@@ -357,25 +429,26 @@ public class TokenAuthenticationServiceImpl implements TokenAuthenticationServic
 
 	@Override
 	public String getUserNameFromToken(String jwtToken) {
-		SecretKey key =
-				Keys.hmacShaKeyFor(tokenAuthProperties.getSecret().getBytes(StandardCharsets.UTF_8));
-		Claims claims = Jwts.parser().verifyWith(key).build().parseSignedClaims(jwtToken).getPayload();
+		Claims claims = getJwtParser().parseSignedClaims(jwtToken).getPayload();
 		return claims.getSubject();
 	}
 
 	@Override
 	public String getEmailFromToken(String jwtToken) {
-		SecretKey key =
-				Keys.hmacShaKeyFor(tokenAuthProperties.getSecret().getBytes(StandardCharsets.UTF_8));
-		Claims claims = Jwts.parser().verifyWith(key).build().parseSignedClaims(jwtToken).getPayload();
+		Claims claims = getJwtParser().parseSignedClaims(jwtToken).getPayload();
 		return claims.get(EMAIL_CLAIM, String.class);
 	}
 
 	@Override
 	public String getAuthTypeFromToken(String jwtToken) {
-		SecretKey key =
-				Keys.hmacShaKeyFor(tokenAuthProperties.getSecret().getBytes(StandardCharsets.UTF_8));
-		Claims claims = Jwts.parser().verifyWith(key).build().parseSignedClaims(jwtToken).getPayload();
+		Claims claims = getJwtParser().parseSignedClaims(jwtToken).getPayload();
 		return claims.get(DETAILS_CLAIM, String.class);
 	}
+
+	/** Claims of a verified token */
+	private record VerifiedToken(
+			UserInfoPrincipal principal,
+			Object details,
+			Collection<? extends GrantedAuthority> authorities,
+			Date expiration) {}
 }
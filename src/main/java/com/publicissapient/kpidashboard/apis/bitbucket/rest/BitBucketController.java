@@ -36,9 +36,6 @@ import com.publicissapient.kpidashboard.apis.bitbucket.service.BitBucketServiceK
 import com.publicissapient.kpidashboard.apis.bitbucket.service.BitBucketServiceR;
 import com.publicissapient.kpidashboard.apis.bitbucket.service.scm.ScmUserService;
 import com.publicissapient.kpidashboard.apis.bitbucket.service.scm.TeamPerformanceSummaryService;
-import com.publicissapient.kpidashboard.apis.common.service.CacheService;
-import com.publicissapient.kpidashboard.apis.constant.Constant;
-import com.publicissapient.kpidashboard.apis.enums.KPISource;
 import com.publicissapient.kpidashboard.apis.model.ErrorResponse;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
@@ -67,7 +64,6 @@ public class BitBucketController {
 
 	private final BitBucketServiceR bitbucketService;
 	private final BitBucketServiceKanbanR bitbucketServiceKanban;
-	private final CacheService cacheService;
 	private final ScmUserService scmUserService;
 	private final TeamPerformanceSummaryService teamPerformanceSummaryService;
 
@@ -115,9 +111,6 @@ public class BitBucketController {
 		log.info("Received BitBucket KPI request {}", kpiRequest);
 		long bitbucketRequestStartTime = System.currentTimeMillis();
 		MDC.put("BitbucketRequestStartTime", String.valueOf(bitbucketRequestStartTime));
-		cacheService.setIntoApplicationCache(
-				Constant.KPI_REQUEST_TRACKER_ID_KEY + KPISource.BITBUCKET.name(),
-				kpiRequest.getRequestTrackerId());
 
 		if (CollectionUtils.isEmpty(kpiRequest.getKpiList())) {
 			throw new MissingServletRequestParameterException("kpiList", "List");
@@ -180,9 +173,6 @@ public class BitBucketController {
 		log.info(" Received BitBucket KPI request {}", kpiRequest);
 		long bitbucketKanbanRequestStartTime = System.currentTimeMillis();
 		MDC.put("BitbucketKanbanRequestStartTime", String.valueOf(bitbucketKanbanRequestStartTime));
-		cacheService.setIntoApplicationCache(
-				Constant.KPI_REQUEST_TRACKER_ID_KEY + KPISource.BITBUCKETKANBAN.name(),
-				kpiRequest.getRequestTrackerId());
 
 		if (CollectionUtils.isEmpty(kpiRequest.getKpiList())) {
 			throw new MissingServletRequestParameterException("kpiList", "List");
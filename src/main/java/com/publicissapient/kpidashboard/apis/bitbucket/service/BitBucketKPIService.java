@@ -22,14 +22,13 @@ import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
 
+import com.publicissapient.kpidashboard.apis.bitbucket.service.scm.ScmDataset;
 import com.publicissapient.kpidashboard.apis.common.service.ApplicationKPIService;
-import com.publicissapient.kpidashboard.apis.common.service.CacheService;
 import com.publicissapient.kpidashboard.apis.common.service.CommonService;
 import com.publicissapient.kpidashboard.apis.common.service.ToolsKPIService;
-import com.publicissapient.kpidashboard.apis.constant.Constant;
-import com.publicissapient.kpidashboard.apis.enums.KPISource;
 import com.publicissapient.kpidashboard.apis.errors.ApplicationException;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.Node;
 import com.publicissapient.kpidashboard.common.model.application.Tool;
@@ -48,25 +47,23 @@ public abstract class BitBucketKPIService<R, S, T> extends ToolsKPIService<R, S>
 		implements ApplicationKPIService<R, S, T> {
 
 	private static final String CONNECTOR = " -> ";
-	@Autowired private CacheService cacheService;
 	@Autowired private CommonService commonService;
 
 	public abstract String getQualifierType();
 
 	/**
 	 * Returns API Request tracker Id to be used for logging/debugging and using it for maintaining
-	 * any sort of cache.
+	 * any sort of cache. The id is the one of the request computing the KPI, empty outside of a KPI
+	 * request.
 	 *
 	 * @return
 	 */
 	protected String getRequestTrackerId() {
-		return cacheService.getFromApplicationCache(
-				Constant.KPI_REQUEST_TRACKER_ID_KEY + KPISource.BITBUCKET.name());
+		return KpiExecutionContext.currentRequestTrackerId();
 	}
 
 	protected String getRequestTrackerIdKanban() {
-		return cacheService.getFromApplicationCache(
-				Constant.KPI_REQUEST_TRACKER_ID_KEY + KPISource.BITBUCKETKANBAN.name());
+		return KpiExecutionContext.currentRequestTrackerId();
 	}
 
 	/**
@@ -99,15 +96,23 @@ public abstract class BitBucketKPIService<R, S, T> extends ToolsKPIService<R, S>
 		return subfilter;
 	}
 
+	/**
+	 * @return the SCM data of the developer board request computing the KPI, shared read-only with
+	 *     the other KPIs of the request
+	 */
+	public ScmDataset getScmDatasetFromBaseClass() {
+		return BitBucketServiceR.getThreadLocalScmDataset();
+	}
+
 	public List<ScmMergeRequests> getMergeRequestsFromBaseClass() {
-		return BitBucketServiceR.getThreadLocalMergeRequests();
+		return getScmDatasetFromBaseClass().getMergeRequests();
 	}
 
 	public List<ScmCommits> getCommitsFromBaseClass() {
-		return BitBucketServiceR.getThreadLocalCommits();
+		return getScmDatasetFromBaseClass().getCommits();
 	}
 
 	public List<Assignee> getScmUsersFromBaseClass() {
-		return BitBucketServiceR.getThreadLocalAssignees();
+		return getScmDatasetFromBaseClass().getAssignees();
 	}
 }
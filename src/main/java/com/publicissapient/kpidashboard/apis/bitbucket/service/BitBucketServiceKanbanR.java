@@ -23,7 +23,6 @@ import java.util.List;
 import java.util.Objects;
 
 import org.apache.commons.collections4.CollectionUtils;
-import org.apache.commons.lang.SerializationUtils;
 import org.apache.commons.lang3.math.NumberUtils;
 import org.springframework.http.converter.HttpMessageNotWritableException;
 import org.springframework.stereotype.Service;
@@ -32,6 +31,7 @@ import com.publicissapient.kpidashboard.apis.abac.UserAuthorizedProjectsService;
 import com.publicissapient.kpidashboard.apis.auth.apikey.ApiKeyAuthenticationService;
 import com.publicissapient.kpidashboard.apis.bitbucket.factory.BitBucketKPIServiceFactory;
 import com.publicissapient.kpidashboard.apis.common.service.CacheService;
+import com.publicissapient.kpidashboard.apis.common.service.impl.KpiExecutionEngine;
 import com.publicissapient.kpidashboard.apis.common.service.impl.KpiHelperService;
 import com.publicissapient.kpidashboard.apis.enums.KPICode;
 import com.publicissapient.kpidashboard.apis.enums.KPISource;
@@ -40,8 +40,10 @@ import com.publicissapient.kpidashboard.apis.errors.EntityNotFoundException;
 import com.publicissapient.kpidashboard.apis.filter.service.FilterHelperService;
 import com.publicissapient.kpidashboard.apis.model.AccountHierarchyDataKanban;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.Node;
+import com.publicissapient.kpidashboard.apis.model.NodeValueOverlay;
 import com.publicissapient.kpidashboard.apis.model.ProjectFilter;
 import com.publicissapient.kpidashboard.common.constant.CommonConstant;
 
@@ -62,6 +64,7 @@ public class BitBucketServiceKanbanR {
 	private final KpiHelperService kpiHelperService;
 	private final FilterHelperService filterHelperService;
 	private final UserAuthorizedProjectsService authorizedProjectsService;
+	private final KpiExecutionEngine kpiExecutionEngine;
 
 	/**
 	 * Process kpi request and returns bitbucket kpi response object.
@@ -106,10 +109,7 @@ public class BitBucketServiceKanbanR {
 				Object cachedData =
 						cacheService.getFromApplicationCache(
 								kanbanProjectKeyCache, KPISource.BITBUCKETKANBAN.name(), groupId, null);
-				if (!kpiRequest
-								.getRequestTrackerId()
-								.toLowerCase()
-								.contains(KPISource.EXCEL.name().toLowerCase())
+				if (!KpiExecutionContext.isCurrentExcelRequest(kpiRequest.getRequestTrackerId())
 						&& null != cachedData) {
 					log.info(
 							"[BITBUCKET KANBAN][{}]. Fetching value from cache for {}",
@@ -122,13 +122,19 @@ public class BitBucketServiceKanbanR {
 			kpiRequest.setDuration(kpiRequest.getSelectedMap().get(CommonConstant.DATE).get(0));
 			Node filteredNode = getFilteredNodes(kpiRequest, filteredAccountDataList);
 
-			for (KpiElement kpiEle : kpiRequest.getKpiList()) {
-				responseList.add(calculateAllKPIAggregatedMetrics(kpiRequest, kpiEle, filteredNode));
+			boolean forecastPending;
+			try (KpiExecutionContext.Scope scope = kpiExecutionEngine.openContext(kpiRequest)) {
+				for (KpiElement kpiEle : kpiRequest.getKpiList()) {
+					responseList.add(
+							calculateAllKPIAggregatedMetrics(kpiRequest, kpiEle, filteredNode));
+				}
+				forecastPending = KpiExecutionContext.current().isForecastPending();
 			}
 
 			// skip using cache when the request is made with an api key and also processing
 			// by group id will be disabled
-			if (Boolean.FALSE.equals(ApiKeyAuthenticationService.isApiKeyRequest())) {
+			if (!forecastPending
+					&& Boolean.FALSE.equals(ApiKeyAuthenticationService.isApiKeyRequest())) {
 				setIntoApplicationCache(kpiRequest, responseList, groupId, kanbanProjectKeyCache);
 			}
 
@@ -192,12 +198,13 @@ public class BitBucketServiceKanbanR {
 			bitBucketKPIService = BitBucketKPIServiceFactory.getBitBucketKPIService(kpi.name());
 			long startTime = System.currentTimeMillis();
 
-			Node filteredNodeClone = (Node) SerializationUtils.clone(filteredNode);
-			if (Objects.nonNull(filteredNodeClone)
-					&& kpiHelperService.isToolConfigured(kpi, kpiElement, filteredNodeClone)) {
-				kpiElement = bitBucketKPIService.getKpiData(kpiRequest, kpiElement, filteredNodeClone);
+			if (Objects.nonNull(filteredNode)
+					&& kpiHelperService.isToolConfigured(kpi, kpiElement, filteredNode)) {
+				try (NodeValueOverlay nodeValues = NodeValueOverlay.open()) {
+					kpiElement = bitBucketKPIService.getKpiData(kpiRequest, kpiElement, filteredNode);
+				}
 				kpiElement.setResponseCode(CommonConstant.KPI_PASSED);
-				kpiHelperService.isMandatoryFieldSet(kpi, kpiElement, filteredNodeClone);
+				kpiHelperService.isMandatoryFieldSet(kpi, kpiElement, filteredNode);
 			}
 
 			long processTime = System.currentTimeMillis() - startTime;
@@ -238,10 +245,7 @@ public class BitBucketServiceKanbanR {
 				filterHelperService
 						.getHierarchyIdLevelMap(true)
 						.get(CommonConstant.HIERARCHY_LEVEL_ID_PROJECT);
-		if (!kpiRequest
-						.getRequestTrackerId()
-						.toLowerCase()
-						.contains(KPISource.EXCEL.name().toLowerCase())
+		if (!KpiExecutionContext.isCurrentExcelRequest(kpiRequest.getRequestTrackerId())
 				&& projectLevel >= kpiRequest.getLevel()) {
 			cacheService.setIntoApplicationCache(
 					kanbanProjectKeyCache, responseList, KPISource.BITBUCKETKANBAN.name(), groupId, null);
@@ -23,13 +23,9 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
-import org.apache.commons.lang.SerializationUtils;
+import org.bson.types.ObjectId;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.converter.HttpMessageNotWritableException;
 import org.springframework.stereotype.Service;
@@ -38,18 +34,26 @@ import org.springframework.util.CollectionUtils;
 import com.publicissapient.kpidashboard.apis.abac.UserAuthorizedProjectsService;
 import com.publicissapient.kpidashboard.apis.auth.apikey.ApiKeyAuthenticationService;
 import com.publicissapient.kpidashboard.apis.bitbucket.factory.BitBucketKPIServiceFactory;
+import com.publicissapient.kpidashboard.apis.bitbucket.service.scm.ScmDataset;
+import com.publicissapient.kpidashboard.apis.bitbucket.service.scm.ScmDatasetCache;
 import com.publicissapient.kpidashboard.apis.bitbucket.service.scm.ScmKpiHelperService;
 import com.publicissapient.kpidashboard.apis.common.service.CacheService;
+import com.publicissapient.kpidashboard.apis.common.service.impl.KpiExecutionEngine;
+import com.publicissapient.kpidashboard.apis.common.service.impl.KpiExecutionEngine.KpiExecutionResult;
 import com.publicissapient.kpidashboard.apis.common.service.impl.KpiHelperService;
+import com.publicissapient.kpidashboard.apis.common.service.impl.KpiRequestCoalescer;
 import com.publicissapient.kpidashboard.apis.enums.KPICode;
 import com.publicissapient.kpidashboard.apis.enums.KPISource;
 import com.publicissapient.kpidashboard.apis.errors.ApplicationException;
 import com.publicissapient.kpidashboard.apis.errors.EntityNotFoundException;
 import com.publicissapient.kpidashboard.apis.filter.service.FilterHelperService;
 import com.publicissapient.kpidashboard.apis.model.AccountHierarchyData;
+import com.publicissapient.kpidashboard.apis.model.CustomDateRange;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.Node;
+import com.publicissapient.kpidashboard.apis.model.NodeValueOverlay;
 import com.publicissapient.kpidashboard.apis.model.ProjectFilter;
 import com.publicissapient.kpidashboard.apis.util.DeveloperKpiHelper;
 import com.publicissapient.kpidashboard.common.constant.CommonConstant;
@@ -78,18 +82,18 @@ public class BitBucketServiceR {
 
 	@Autowired private UserAuthorizedProjectsService authorizedProjectsService;
 
+	@Autowired private KpiExecutionEngine kpiExecutionEngine;
+
+	@Autowired private KpiRequestCoalescer kpiRequestCoalescer;
+
+	@Autowired private ScmDatasetCache scmDatasetCache;
+
 	private boolean referFromProjectCache = true;
-	private List<ScmCommits> scmCommitsList = new ArrayList<>();
-	private List<ScmMergeRequests> scmMergeRequestList = new ArrayList<>();
-	private List<Assignee> assigneeList = new ArrayList<>();
 	private static final String DEVELOPER_BOARD = "Developer";
 
-	private static final ThreadLocal<List<ScmCommits>> THREAD_LOCAL_COMMITS =
-			ThreadLocal.withInitial(ArrayList::new);
-	private static final ThreadLocal<List<ScmMergeRequests>> THREAD_LOCAL_MERGE_REQUESTS =
-			ThreadLocal.withInitial(ArrayList::new);
-	private static final ThreadLocal<List<Assignee>> THREAD_LOCAL_ASSIGNEES =
-			ThreadLocal.withInitial(ArrayList::new);
+	/** SCM data of the request computing the KPI on the current thread, read-only */
+	private static final ThreadLocal<ScmDataset> THREAD_LOCAL_SCM_DATASET =
+			ThreadLocal.withInitial(() -> ScmDataset.EMPTY);
 
 	@SuppressWarnings("unchecked")
 	public List<KpiElement> process(KpiRequest kpiRequest) throws EntityNotFoundException {
@@ -101,7 +105,6 @@ public class BitBucketServiceR {
 		List<KpiElement> origRequestedKpis =
 				kpiRequest.getKpiList().stream().map(KpiElement::new).collect(Collectors.toList());
 		List<KpiElement> responseList = new ArrayList<>();
-		String[] projectKeyCache = null;
 		try {
 			Integer groupId = kpiRequest.getKpiList().get(0).getGroupId();
 			String groupName =
@@ -114,14 +117,15 @@ public class BitBucketServiceR {
 					filterHelperService.getFilteredBuilds(kpiRequest, groupName);
 			if (!CollectionUtils.isEmpty(filteredAccountDataList)) {
 
-				projectKeyCache = getProjectKeyCache(kpiRequest, filteredAccountDataList);
-				filteredAccountDataList =
+				String[] projectKeyCache = getProjectKeyCache(kpiRequest, filteredAccountDataList);
+				List<AccountHierarchyData> authorizedAccountDataList =
 						kpiHelperService.getAuthorizedFilteredList(
 								kpiRequest, filteredAccountDataList, referFromProjectCache);
-				if (filteredAccountDataList.isEmpty()) {
+				if (authorizedAccountDataList.isEmpty()) {
 					return responseList;
 				}
 
+				String cacheKey = null;
 				// skip using cache when the request is made with an api key
 				if (Boolean.FALSE.equals(ApiKeyAuthenticationService.isApiKeyRequest())) {
 					Object cachedData =
@@ -130,10 +134,7 @@ public class BitBucketServiceR {
 									KPISource.BITBUCKET.name(),
 									groupId,
 									kpiRequest.getSprintIncluded());
-					if (!kpiRequest
-									.getRequestTrackerId()
-									.toLowerCase()
-									.contains(KPISource.EXCEL.name().toLowerCase())
+					if (!KpiExecutionContext.isCurrentExcelRequest(kpiRequest.getRequestTrackerId())
 							&& null != cachedData) {
 						log.info(
 								"[BITBUCKET][{}]. Fetching value from cache for {}",
@@ -141,32 +142,28 @@ public class BitBucketServiceR {
 								kpiRequest.getIds());
 						return (List<KpiElement>) cachedData;
 					}
+					if (isCachedResponse(kpiRequest)) {
+						cacheKey =
+								cacheService.getKpiCacheKey(
+										projectKeyCache,
+										KPISource.BITBUCKET.name(),
+										groupId,
+										kpiRequest.getSprintIncluded());
+					}
 				}
 
-				Node filteredNode = getFilteredNodes(kpiRequest, filteredAccountDataList);
-				if (kpiRequest.getKpiList().get(0).getKpiCategory().equalsIgnoreCase(DEVELOPER_BOARD)) {
-					kpiRequest.setXAxisDataPoints(Integer.parseInt(kpiRequest.getIds()[0]));
-					kpiRequest.setDuration(kpiRequest.getSelectedMap().get(CommonConstant.DATE).get(0));
-				} else {
-					kpiRequest.setXAxisDataPoints(13);
-					kpiRequest.setDuration(CommonConstant.WEEK);
-				}
-				responseList =
-						executeParallelKpiProcessing(kpiRequest, filteredNode, filteredAccountDataList.get(0));
-
-				List<KpiElement> finalResponseList = responseList;
-				List<KpiElement> missingKpis =
-						origRequestedKpis.stream()
-								.filter(
-										reqKpi ->
-												finalResponseList.stream()
-														.noneMatch(
-																responseKpi -> reqKpi.getKpiId().equals(responseKpi.getKpiId())))
-								.toList();
-				List<KpiElement> mutableResponseList = new ArrayList<>(responseList);
-				mutableResponseList.addAll(missingKpis);
-				responseList = mutableResponseList;
-				setIntoApplicationCache(kpiRequest, responseList, groupId, projectKeyCache);
+				responseList.addAll(
+						kpiRequestCoalescer.computeOnce(
+								kpiRequest,
+								KPISource.BITBUCKET.name(),
+								cacheKey,
+								() ->
+										calculateKpis(
+												kpiRequest,
+												authorizedAccountDataList,
+												origRequestedKpis,
+												groupId,
+												projectKeyCache)));
 			} else {
 				responseList.addAll(origRequestedKpis);
 			}
@@ -185,6 +182,38 @@ public class BitBucketServiceR {
 		return responseList;
 	}
 
+	private List<KpiElement> calculateKpis(
+			KpiRequest kpiRequest,
+			List<AccountHierarchyData> filteredAccountDataList,
+			List<KpiElement> origRequestedKpis,
+			Integer groupId,
+			String[] projectKeyCache) {
+		Node filteredNode = getFilteredNodes(kpiRequest, filteredAccountDataList);
+		if (kpiRequest.getKpiList().get(0).getKpiCategory().equalsIgnoreCase(DEVELOPER_BOARD)) {
+			kpiRequest.setXAxisDataPoints(Integer.parseInt(kpiRequest.getIds()[0]));
+			kpiRequest.setDuration(kpiRequest.getSelectedMap().get(CommonConstant.DATE).get(0));
+		} else {
+			kpiRequest.setXAxisDataPoints(13);
+			kpiRequest.setDuration(CommonConstant.WEEK);
+		}
+		KpiExecutionResult executionResult =
+				executeParallelKpiProcessing(kpiRequest, filteredNode, filteredAccountDataList.get(0));
+		List<KpiElement> responseList = new ArrayList<>(executionResult.getKpiElements());
+		List<KpiElement> missingKpis =
+				origRequestedKpis.stream()
+						.filter(
+								reqKpi ->
+										responseList.stream()
+												.noneMatch(responseKpi -> reqKpi.getKpiId().equals(responseKpi.getKpiId())))
+						.map(executionResult::markTimedOut)
+						.toList();
+		responseList.addAll(missingKpis);
+		if (executionResult.isComplete()) {
+			setIntoApplicationCache(kpiRequest, responseList, groupId, projectKeyCache);
+		}
+		return responseList;
+	}
+
 	private Node getFilteredNodes(
 			KpiRequest kpiRequest, List<AccountHierarchyData> filteredAccountDataList) {
 		Node filteredNode = filteredAccountDataList.get(0).getNode().get(kpiRequest.getLevel() - 1);
@@ -205,163 +234,80 @@ public class BitBucketServiceR {
 		return authorizedProjectsService.getProjectKey(filteredAccountDataList, kpiRequest);
 	}
 
-	private void loadDataIntoThreadLocal(AccountHierarchyData accountData, KpiRequest kpiRequest) {
-		try {
-			CompletableFuture<List<ScmCommits>> commitsFuture =
-					CompletableFuture.supplyAsync(
-							() ->
-									scmKpiHelperService.getCommitDetails(
-											accountData.getBasicProjectConfigId(),
-											DeveloperKpiHelper.getStartAndEndDate(kpiRequest)));
-
-			CompletableFuture<List<ScmMergeRequests>> mergeRequestsFuture =
-					CompletableFuture.supplyAsync(
-							() ->
-									scmKpiHelperService.getMergeRequests(
-											accountData.getBasicProjectConfigId(),
-											DeveloperKpiHelper.getStartAndEndDate(kpiRequest)));
-
-			CompletableFuture<List<Assignee>> assigneesFuture =
-					CompletableFuture.supplyAsync(
-							() ->
-									scmKpiHelperService.getJiraAssigneeForScmUsers(
-											accountData.getBasicProjectConfigId()));
-
-			CompletableFuture.allOf(commitsFuture, mergeRequestsFuture, assigneesFuture).join();
-
-			scmCommitsList = commitsFuture.get();
-			log.info("Setting data in ThreadLocal on thread: {}", Thread.currentThread().getId());
-			scmMergeRequestList = mergeRequestsFuture.get();
-			assigneeList = assigneesFuture.get();
-
-			log.info(
-					"[BITBUCKET][{}]. Data loaded into ThreadLocal - Commits: {}, MergeRequests: {}, Assignees: {}",
-					kpiRequest.getRequestTrackerId(),
-					scmCommitsList.size(),
-					scmMergeRequestList.size(),
-					assigneeList.size());
-
-		} catch (ExecutionException | InterruptedException e) {
-			log.error(
-					"[BITBUCKET][{}]. Error loading data into ThreadLocal: {}",
-					kpiRequest.getRequestTrackerId(),
-					e.getMessage(),
-					e);
-			if (e instanceof InterruptedException) {
-				Thread.currentThread().interrupt();
-			}
-		}
+	/**
+	 * Returns the SCM data of the project over the range of the request, loaded once for the
+	 * requests of the same project and range.
+	 */
+	private ScmDataset loadScmDataset(AccountHierarchyData accountData, KpiRequest kpiRequest) {
+		ObjectId basicProjectConfigId = accountData.getBasicProjectConfigId();
+		CustomDateRange dateRange = DeveloperKpiHelper.getStartAndEndDate(kpiRequest);
+		return scmDatasetCache.get(
+				basicProjectConfigId.toString(),
+				dateRange,
+				() -> {
+					CompletableFuture<List<ScmCommits>> commitsFuture =
+							CompletableFuture.supplyAsync(
+									() -> scmKpiHelperService.getCommitDetails(basicProjectConfigId, dateRange));
+					CompletableFuture<List<ScmMergeRequests>> mergeRequestsFuture =
+							CompletableFuture.supplyAsync(
+									() -> scmKpiHelperService.getMergeRequests(basicProjectConfigId, dateRange));
+					CompletableFuture<List<Assignee>> assigneesFuture =
+							CompletableFuture.supplyAsync(
+									() -> scmKpiHelperService.getJiraAssigneeForScmUsers(basicProjectConfigId));
+					ScmDataset dataset =
+							ScmDataset.of(
+									commitsFuture.join(), mergeRequestsFuture.join(), assigneesFuture.join());
+					log.info(
+							"[BITBUCKET][{}]. SCM data loaded - Commits: {}, MergeRequests: {}, Assignees: {}",
+							kpiRequest.getRequestTrackerId(),
+							dataset.getCommits().size(),
+							dataset.getMergeRequests().size(),
+							dataset.getAssignees().size());
+					return dataset;
+				});
 	}
 
-	/** Enhanced parallel execution with custom ForkJoinPool */
-	private List<KpiElement> executeParallelKpiProcessing(
+	/** Computes the KPIs in parallel on the shared KPI executor */
+	private KpiExecutionResult executeParallelKpiProcessing(
 			KpiRequest kpiRequest, Node filteredNode, AccountHierarchyData accountHierarchyData) {
-		ExecutorService executorService =
-				Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
-
-		try {
-			if (kpiRequest.getKpiList().get(0).getKpiCategory().equalsIgnoreCase(DEVELOPER_BOARD)) {
-				loadDataIntoThreadLocal(accountHierarchyData, kpiRequest);
-			}
-
-			// Create futures for each KPI element
-			List<CompletableFuture<KpiElement>> futures =
-					kpiRequest.getKpiList().stream()
-							.map(
-									kpiEle ->
-											CompletableFuture.supplyAsync(
-													() -> {
-														try {
-															// Set ThreadLocal data for each thread
-															THREAD_LOCAL_COMMITS.set(new ArrayList<>(scmCommitsList));
-															THREAD_LOCAL_MERGE_REQUESTS.set(new ArrayList<>(scmMergeRequestList));
-															THREAD_LOCAL_ASSIGNEES.set(new ArrayList<>(assigneeList));
-
-															return calculateAllKPIAggregatedMetrics(
-																	kpiRequest, kpiEle, filteredNode);
-														} catch (Exception e) {
-															log.error(
-																	"[BITBUCKET][{}]. Error processing KPI {}: {}",
-																	kpiRequest.getRequestTrackerId(),
-																	kpiEle.getKpiId(),
-																	e.getMessage(),
-																	e);
-															kpiEle.setResponseCode(CommonConstant.KPI_FAILED);
-															return kpiEle;
-														} finally {
-															// Clean up ThreadLocal for this specific thread
-															cleanupCurrentThreadLocal();
-														}
-													},
-													executorService))
-							.toList();
-
-			// Convert futures to KpiElement list by joining all futures
-			return futures.stream().map(CompletableFuture::join).toList();
-
-		} finally {
-			// Proper executor shutdown with timeout
-			shutdownExecutorService(executorService);
-		}
-	}
-
-	/** Clean up ThreadLocal for current thread only */
-	private void cleanupCurrentThreadLocal() {
-		try {
-			THREAD_LOCAL_COMMITS.remove();
-			THREAD_LOCAL_MERGE_REQUESTS.remove();
-			THREAD_LOCAL_ASSIGNEES.remove();
-			log.debug("ThreadLocal data cleaned up for thread: {}", Thread.currentThread().getId());
-		} catch (Exception e) {
-			log.warn(
-					"Error cleaning up ThreadLocal data for thread {}: {}",
-					Thread.currentThread().getId(),
-					e.getMessage());
-		}
-	}
-
-	/** Properly shutdown executor service with timeout handling */
-	private void shutdownExecutorService(ExecutorService executorService) {
-		try {
-			executorService.shutdown();
-			if (!executorService.awaitTermination(60, TimeUnit.SECONDS)) {
-				log.warn("ExecutorService did not terminate gracefully, forcing shutdown");
-				executorService.shutdownNow();
-				if (!executorService.awaitTermination(30, TimeUnit.SECONDS)) {
-					log.error("ExecutorService did not terminate after forced shutdown");
-				}
-			}
-		} catch (InterruptedException e) {
-			log.error("Thread interrupted during executor shutdown", e);
-			executorService.shutdownNow();
-			Thread.currentThread().interrupt();
-		}
+		ScmDataset scmDataset =
+				kpiRequest.getKpiList().get(0).getKpiCategory().equalsIgnoreCase(DEVELOPER_BOARD)
+						? loadScmDataset(accountHierarchyData, kpiRequest)
+						: ScmDataset.EMPTY;
+
+		return kpiExecutionEngine.execute(
+				KPISource.BITBUCKET.name(),
+				kpiRequest,
+				kpiEle -> {
+					try {
+						THREAD_LOCAL_SCM_DATASET.set(scmDataset);
+						return calculateAllKPIAggregatedMetrics(kpiRequest, kpiEle, filteredNode);
+					} catch (Exception e) {
+						log.error(
+								"[BITBUCKET][{}]. Error processing KPI {}: {}",
+								kpiRequest.getRequestTrackerId(),
+								kpiEle.getKpiId(),
+								e.getMessage(),
+								e);
+						kpiEle.setResponseCode(CommonConstant.KPI_FAILED);
+						return kpiEle;
+					} finally {
+						THREAD_LOCAL_SCM_DATASET.remove();
+					}
+				});
 	}
 
 	/** Clean up ThreadLocal variables to prevent memory leaks */
 	private void cleanupThreadLocalData() {
-		try {
-			THREAD_LOCAL_COMMITS.remove();
-			THREAD_LOCAL_MERGE_REQUESTS.remove();
-			THREAD_LOCAL_ASSIGNEES.remove();
-			log.info("ThreadLocal data cleaned up successfully");
-		} catch (Exception e) {
-			log.warn("Error cleaning up ThreadLocal data: {}", e.getMessage());
-		}
-	}
-
-	/** Static methods to access ThreadLocal data from other classes */
-	public static List<ScmCommits> getThreadLocalCommits() {
-		return new ArrayList<>(THREAD_LOCAL_COMMITS.get());
-	}
-
-	public static List<ScmMergeRequests> getThreadLocalMergeRequests() {
-		log.info("Getting data from ThreadLocal on thread: {}", Thread.currentThread().getId());
-		return new ArrayList<>(THREAD_LOCAL_MERGE_REQUESTS.get());
+		THREAD_LOCAL_SCM_DATASET.remove();
 	}
 
-	public static List<Assignee> getThreadLocalAssignees() {
-		return new ArrayList<>(THREAD_LOCAL_ASSIGNEES.get());
+	/**
+	 * @return the SCM data of the request computing the KPI on the current thread, empty outside of
+	 *     a developer board request
+	 */
+	public static ScmDataset getThreadLocalScmDataset() {
+		return THREAD_LOCAL_SCM_DATASET.get();
 	}
 
 	/**
@@ -377,15 +323,8 @@ public class BitBucketServiceR {
 			List<KpiElement> responseList,
 			Integer groupId,
 			String[] projectKeyCache) {
-		Integer projectLevel =
-				filterHelperService
-						.getHierarchyIdLevelMap(false)
-						.get(CommonConstant.HIERARCHY_LEVEL_ID_PROJECT);
-		if (!kpiRequest
-						.getRequestTrackerId()
-						.toLowerCase()
-						.contains(KPISource.EXCEL.name().toLowerCase())
-				&& projectLevel >= kpiRequest.getLevel()) {
+		if (!KpiExecutionContext.isCurrentExcelRequest(kpiRequest.getRequestTrackerId())
+				&& isCachedResponse(kpiRequest)) {
 
 			cacheService.setIntoApplicationCache(
 					projectKeyCache,
@@ -396,6 +335,18 @@ public class BitBucketServiceR {
 		}
 	}
 
+	/**
+	 * Only the responses of the project level and above are cached. Only those requests are
+	 * keyed for coalescing, the others depend on more than their cache key.
+	 */
+	private boolean isCachedResponse(KpiRequest kpiRequest) {
+		Integer projectLevel =
+				filterHelperService
+						.getHierarchyIdLevelMap(false)
+						.get(CommonConstant.HIERARCHY_LEVEL_ID_PROJECT);
+		return null != projectLevel && projectLevel >= kpiRequest.getLevel();
+	}
+
 	/**
 	 * This method call by multiple thread, take object of specific KPI and call method of these KPIs
 	 *
@@ -413,10 +364,8 @@ public class BitBucketServiceR {
 		try {
 			bitBucketKPIService = BitBucketKPIServiceFactory.getBitBucketKPIService(kpi.name());
 			long startTime = System.currentTimeMillis();
-			Node nodeDataClone = (Node) SerializationUtils.clone(filteredAccountNode);
-
-			if (Objects.nonNull(nodeDataClone)
-					&& kpiHelperService.isToolConfigured(kpi, kpiElement, nodeDataClone)) {
+			if (Objects.nonNull(filteredAccountNode)
+					&& kpiHelperService.isToolConfigured(kpi, kpiElement, filteredAccountNode)) {
 
 				kpiRequest.setKanbanXaxisDataPoints(
 						Optional.ofNullable(kpiRequest.getIds())
@@ -425,9 +374,12 @@ public class BitBucketServiceR {
 								.filter(id -> id.matches("\\d+"))
 								.map(Integer::parseInt)
 								.orElse(5));
-				kpiElement = bitBucketKPIService.getKpiData(kpiRequest, kpiElement, nodeDataClone);
+				try (NodeValueOverlay nodeValues = NodeValueOverlay.open()) {
+					kpiElement =
+							bitBucketKPIService.getKpiData(kpiRequest, kpiElement, filteredAccountNode);
+				}
 				kpiElement.setResponseCode(CommonConstant.KPI_PASSED);
-				kpiHelperService.isMandatoryFieldSet(kpi, kpiElement, nodeDataClone);
+				kpiHelperService.isMandatoryFieldSet(kpi, kpiElement, filteredAccountNode);
 			}
 
 			long processTime = System.currentTimeMillis() - startTime;
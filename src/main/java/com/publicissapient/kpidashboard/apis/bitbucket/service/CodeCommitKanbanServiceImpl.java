@@ -52,6 +52,7 @@ import com.publicissapient.kpidashboard.apis.errors.ApplicationException;
 import com.publicissapient.kpidashboard.apis.model.CustomDateRange;
 import com.publicissapient.kpidashboard.apis.model.KPIExcelData;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.Node;
 import com.publicissapient.kpidashboard.apis.model.ProjectFilter;
@@ -188,7 +189,7 @@ public class CodeCommitKanbanServiceImpl
 			prepareRepoWiseMap(filterValueMap, projectName, dataCountDate, projectWiseDataMap);
 			currentDate = KpiHelperService.getNextRangeDate(kpiRequest.getDuration(), currentDate);
 		}
-		if (getRequestTrackerIdKanban().toLowerCase().contains(KPISource.EXCEL.name().toLowerCase())) {
+		if (KpiExecutionContext.isCurrentExcelRequest(getRequestTrackerIdKanban())) {
 			KPIExcelUtility.populateCodeCommitKanbanExcelData(repoToolValidationDataList, excelData);
 		}
 		mapTmp.get(node.getId()).setValue(projectWiseDataMap);
@@ -52,6 +52,7 @@ import com.publicissapient.kpidashboard.apis.errors.ApplicationException;
 import com.publicissapient.kpidashboard.apis.model.CustomDateRange;
 import com.publicissapient.kpidashboard.apis.model.KPIExcelData;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.Node;
 import com.publicissapient.kpidashboard.apis.model.ProjectFilter;
@@ -327,7 +328,7 @@ public class CodeCommitServiceImpl
 			String requestTrackerId,
 			List<RepoToolValidationData> repoToolValidationDataList,
 			List<KPIExcelData> excelData) {
-		if (requestTrackerId.toLowerCase().contains(KPISource.EXCEL.name().toLowerCase())) {
+		if (KpiExecutionContext.isCurrentExcelRequest(requestTrackerId)) {
 			KPIExcelUtility.populateCodeCommit(repoToolValidationDataList, excelData);
 		}
 	}
@@ -46,6 +46,7 @@ import com.publicissapient.kpidashboard.apis.errors.ApplicationException;
 import com.publicissapient.kpidashboard.apis.model.CustomDateRange;
 import com.publicissapient.kpidashboard.apis.model.KPIExcelData;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.Node;
 import com.publicissapient.kpidashboard.apis.model.ProjectFilter;
@@ -405,7 +406,7 @@ public class DefectRateServiceImpl
 			String requestTrackerId,
 			List<RepoToolValidationData> repoToolUserDetails,
 			List<KPIExcelData> validationDataMap) {
-		if (requestTrackerId.toLowerCase().contains(KPISource.EXCEL.name().toLowerCase())) {
+		if (KpiExecutionContext.isCurrentExcelRequest(requestTrackerId)) {
 			KPIExcelUtility.populateDefectRate(repoToolUserDetails, validationDataMap);
 		}
 	}
@@ -45,6 +45,7 @@ import com.publicissapient.kpidashboard.apis.errors.ApplicationException;
 import com.publicissapient.kpidashboard.apis.model.CustomDateRange;
 import com.publicissapient.kpidashboard.apis.model.KPIExcelData;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.Node;
 import com.publicissapient.kpidashboard.apis.model.ProjectFilter;
@@ -242,7 +243,7 @@ public class RepoToolCodeCommitKanbanServiceImpl
 		}
 		mapTmp.get(node.getId()).setValue(aggDataMap);
 
-		if (getRequestTrackerIdKanban().toLowerCase().contains(KPISource.EXCEL.name().toLowerCase())) {
+		if (KpiExecutionContext.isCurrentExcelRequest(getRequestTrackerIdKanban())) {
 			KPIExcelUtility.populateCodeCommitKanbanExcelData(repoToolValidationDataList, excelData);
 		}
 		kpiElement.setExcelData(excelData);
@@ -0,0 +1,349 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+
+package com.publicissapient.kpidashboard.apis.bitbucket.service.scm;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import com.publicissapient.kpidashboard.apis.model.CustomDateRange;
+import com.publicissapient.kpidashboard.common.model.scm.ScmCommits;
+import com.publicissapient.kpidashboard.common.model.scm.User;
+import com.publicissapient.kpidashboard.common.util.DateUtil;
+
+/**
+ * Rework of the commits of a branch over several periods. A changed line is rework when the same
+ * line of the same file was changed in the 21 days before the period, or earlier in the period.
+ * The rework of all the periods, for the branch and for each developer, is computed in one pass
+ * over the commits in time order.
+ *
+ * <p>File paths are interned and the distinct changed lines of each file change are kept as
+ * sorted int arrays. Instead of rebuilding the set of lines changed in the 21 days for every
+ * period, each file remembers the last change of each of its lines, a line is in the 21 days pool
+ * when its last change is not older than the first change of the window. Sliding the window to the
+ * next period then only adds the commits in between.
+ */
+public final class ReworkRateEngine {
+
+	/** days before the period whose changes are reworked */
+	public static final int REWORK_DAYS_AGO = 21;
+
+	private static final int NONE = -1;
+
+	private ReworkRateEngine() {}
+
+	/**
+	 * @param commits commits of the branch, the commits without timestamp are ignored
+	 * @param periods analysis periods, in any order
+	 * @return the rework of each period, in the order of the periods
+	 */
+	public static List<PeriodRework> calculate(
+			List<ScmCommits> commits, List<CustomDateRange> periods) {
+		Timeline timeline = Timeline.of(commits);
+		List<Integer> order = new ArrayList<>(periods.size());
+		for (int period = 0; period < periods.size(); period++) {
+			order.add(period);
+		}
+		order.sort(Comparator.comparing(period -> periods.get(period).getStartDateTime()));
+
+		PeriodRework[] result = new PeriodRework[periods.size()];
+		LinePool pool = new LinePool(timeline);
+		int applied = 0;
+		for (int period : order) {
+			LocalDateTime start = periods.get(period).getStartDateTime();
+			LocalDateTime end = periods.get(period).getEndDateTime();
+			LocalDateTime windowStart = start.minusDays(REWORK_DAYS_AGO);
+			if (applied > 0 && !timeline.dateTimes[applied - 1].isBefore(start)) {
+				// overlapping periods, the pool already has changes of this period
+				pool = new LinePool(timeline);
+				applied = 0;
+			}
+			int firstInWindow = timeline.firstWithin(windowStart, end);
+			int firstInPeriod = Math.max(firstInWindow, timeline.firstAtOrAfter(start));
+			for (int commit = Math.max(applied, firstInWindow); commit < firstInPeriod; commit++) {
+				pool.add(commit, Integer.MAX_VALUE, null, null);
+			}
+
+			int floor = timeline.firstChanges[firstInWindow];
+			Rework overall = new Rework();
+			Map<String, Rework> byDeveloper = new HashMap<>();
+			int commit = firstInPeriod;
+			for (; commit < timeline.size() && !timeline.dateTimes[commit].isAfter(end); commit++) {
+				if (!DateUtil.isWithinDateTimeRange(timeline.dateTimes[commit], windowStart, end)) {
+					continue;
+				}
+				int author = timeline.authorIds[commit];
+				Rework developer =
+						author == NONE
+								? null
+								: byDeveloper.computeIfAbsent(timeline.authors.get(author), name -> new Rework());
+				pool.add(commit, floor, overall, developer);
+			}
+			applied = Math.max(applied, commit);
+			result[period] = new PeriodRework(overall, byDeveloper);
+		}
+		return Arrays.asList(result);
+	}
+
+	/**
+	 * @param overall rework of all the commits of the period
+	 * @param byDeveloper rework of each developer having commits in the period, by author email or
+	 *     user name for the authors without email
+	 */
+	public record PeriodRework(Rework overall, Map<String, Rework> byDeveloper) {}
+
+	/** Changed and reworked lines of a period. */
+	public static final class Rework {
+
+		private int changedLines;
+		private int reworkedLines;
+
+		public int getChangedLines() {
+			return changedLines;
+		}
+
+		public int getReworkedLines() {
+			return reworkedLines;
+		}
+
+		/** @return reworked lines in percent of the changed lines, 0 without changed lines */
+		public Double getPercentage() {
+			if (changedLines == 0) {
+				return 0.0;
+			}
+			return ((double) reworkedLines / changedLines) * 100;
+		}
+	}
+
+	/**
+	 * Commits sorted by time as columns. The file changes of all the commits are numbered in time
+	 * order, commit {@code i} has the changes {@code firstChanges[i]} to {@code firstChanges[i + 1]}.
+	 */
+	private static final class Timeline {
+
+		private final LocalDateTime[] dateTimes;
+		private final int[] authorIds;
+		private final List<String> authors;
+		private final int[] firstChanges;
+		private final int[] changeFiles;
+		/** distinct changed lines of each change, sorted */
+		private final int[][] changeLines;
+		/** changed lines of each change as counted by the kpi, duplicates included */
+		private final int[] changeSizes;
+		private final int fileCount;
+
+		private Timeline(
+				LocalDateTime[] dateTimes,
+				int[] authorIds,
+				List<String> authors,
+				int[] firstChanges,
+				List<int[]> changes,
+				int fileCount) {
+			this.dateTimes = dateTimes;
+			this.authorIds = authorIds;
+			this.authors = authors;
+			this.firstChanges = firstChanges;
+			this.changeFiles = new int[changes.size()];
+			this.changeLines = new int[changes.size()][];
+			this.changeSizes = new int[changes.size()];
+			for (int change = 0; change < changes.size(); change++) {
+				int[] value = changes.get(change);
+				changeFiles[change] = value[0];
+				changeSizes[change] = value[1];
+				changeLines[change] = Arrays.copyOfRange(value, 2, value.length);
+			}
+			this.fileCount = fileCount;
+		}
+
+		static Timeline of(List<ScmCommits> commits) {
+			List<ScmCommits> sorted =
+					null == commits
+							? new ArrayList<>()
+							: new ArrayList<>(
+									commits.stream().filter(commit -> null != commit.getCommitTimestamp()).toList());
+			sorted.sort(Comparator.comparing(ScmCommits::getCommitTimestamp));
+
+			Map<String, Integer> fileIds = new HashMap<>();
+			Map<String, Integer> authorIds = new HashMap<>();
+			List<String> authors = new ArrayList<>();
+			LocalDateTime[] dateTimes = new LocalDateTime[sorted.size()];
+			int[] commitAuthors = new int[sorted.size()];
+			int[] firstChanges = new int[sorted.size() + 1];
+			List<int[]> changes = new ArrayList<>();
+			for (int commit = 0; commit < sorted.size(); commit++) {
+				ScmCommits value = sorted.get(commit);
+				dateTimes[commit] = DateUtil.convertMillisToLocalDateTime(value.getCommitTimestamp());
+				commitAuthors[commit] = authorId(value.getCommitAuthor(), authorIds, authors);
+				firstChanges[commit] = changes.size();
+				if (null == value.getFileChanges()) {
+					continue;
+				}
+				for (ScmCommits.FileChange fileChange : value.getFileChanges()) {
+					List<Integer> lines = fileChange.getChangedLineNumbers();
+					if (null == fileChange.getFilePath() || null == lines || lines.isEmpty()) {
+						continue;
+					}
+					int[] distinct =
+							lines.stream()
+									.filter(Objects::nonNull)
+									.mapToInt(Integer::intValue)
+									.filter(line -> line >= 0)
+									.sorted()
+									.distinct()
+									.toArray();
+					int[] change = new int[distinct.length + 2];
+					change[0] = fileIds.computeIfAbsent(fileChange.getFilePath(), path -> fileIds.size());
+					change[1] = lines.size();
+					System.arraycopy(distinct, 0, change, 2, distinct.length);
+					changes.add(change);
+				}
+			}
+			firstChanges[sorted.size()] = changes.size();
+			return new Timeline(
+					dateTimes, commitAuthors, authors, firstChanges, changes, fileIds.size());
+		}
+
+		private static int authorId(User author, Map<String, Integer> authorIds, List<String> authors) {
+			if (null == author || (null == author.getEmail() && null == author.getUsername())) {
+				return NONE;
+			}
+			String name = null != author.getEmail() ? author.getEmail() : author.getUsername();
+			return authorIds.computeIfAbsent(
+					name,
+					key -> {
+						authors.add(key);
+						return authors.size() - 1;
+					});
+		}
+
+		int size() {
+			return dateTimes.length;
+		}
+
+		int firstAtOrAfter(LocalDateTime time) {
+			int low = 0;
+			int high = dateTimes.length;
+			while (low < high) {
+				int middle = (low + high) >>> 1;
+				if (dateTimes[middle].isBefore(time)) {
+					low = middle + 1;
+				} else {
+					high = middle;
+				}
+			}
+			return low;
+		}
+
+		/** @return the first commit within the range, same bounds as the kpi filter */
+		int firstWithin(LocalDateTime start, LocalDateTime end) {
+			int commit = firstAtOrAfter(start);
+			while (commit < dateTimes.length
+					&& !dateTimes[commit].isAfter(end)
+					&& !DateUtil.isWithinDateTimeRange(dateTimes[commit], start, end)) {
+				commit++;
+			}
+			return commit;
+		}
+	}
+
+	/** Last change of each line of each file, for all the commits and for each author. */
+	private static final class LinePool {
+
+		private final Timeline timeline;
+		private final LastChanges all;
+		private final LastChanges[] byAuthor;
+
+		LinePool(Timeline timeline) {
+			this.timeline = timeline;
+			this.all = new LastChanges(timeline.fileCount);
+			this.byAuthor = new LastChanges[timeline.authors.size()];
+		}
+
+		/**
+		 * Adds the changes of the commit to the pool, counting the lines whose last change is not
+		 * older than the floor as rework.
+		 */
+		void add(int commit, int floor, Rework overall, Rework developer) {
+			int author = timeline.authorIds[commit];
+			LastChanges authorChanges = null;
+			if (author != NONE) {
+				if (null == byAuthor[author]) {
+					byAuthor[author] = new LastChanges(timeline.fileCount);
+				}
+				authorChanges = byAuthor[author];
+			}
+			for (int change = timeline.firstChanges[commit];
+					change < timeline.firstChanges[commit + 1];
+					change++) {
+				int file = timeline.changeFiles[change];
+				int[] lines = timeline.changeLines[change];
+				int reworked = all.change(file, lines, change, floor);
+				if (null != overall) {
+					overall.changedLines += timeline.changeSizes[change];
+					overall.reworkedLines += reworked;
+				}
+				if (null != authorChanges) {
+					reworked = authorChanges.change(file, lines, change, floor);
+					if (null != developer) {
+						developer.changedLines += timeline.changeSizes[change];
+						developer.reworkedLines += reworked;
+					}
+				}
+			}
+		}
+	}
+
+	/** file id -> line -> number of the last change of the line plus one, 0 if never changed */
+	private static final class LastChanges {
+
+		private final int[][] lines;
+
+		LastChanges(int fileCount) {
+			this.lines = new int[fileCount][];
+		}
+
+		int change(int file, int[] changedLines, int change, int floor) {
+			if (changedLines.length == 0) {
+				return 0;
+			}
+			int maxLine = changedLines[changedLines.length - 1];
+			int[] lastChanges = lines[file];
+			if (null == lastChanges) {
+				lastChanges = new int[maxLine + 1];
+				lines[file] = lastChanges;
+			} else if (lastChanges.length <= maxLine) {
+				lastChanges = Arrays.copyOf(lastChanges, Math.max(maxLine + 1, lastChanges.length * 2));
+				lines[file] = lastChanges;
+			}
+			int reworked = 0;
+			for (int line : changedLines) {
+				if (lastChanges[line] > floor) {
+					reworked++;
+				}
+				lastChanges[line] = change + 1;
+			}
+			return reworked;
+		}
+	}
+}
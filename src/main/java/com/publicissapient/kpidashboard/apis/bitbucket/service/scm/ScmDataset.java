@@ -0,0 +1,312 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+
+
+package com.publicissapient.kpidashboard.apis.bitbucket.service.scm;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.bson.types.ObjectId;
+
+import com.publicissapient.kpidashboard.apis.model.CustomDateRange;
+import com.publicissapient.kpidashboard.apis.util.DeveloperKpiHelper;
+import com.publicissapient.kpidashboard.common.model.application.Tool;
+import com.publicissapient.kpidashboard.common.model.jira.Assignee;
+import com.publicissapient.kpidashboard.common.model.scm.ScmCommits;
+import com.publicissapient.kpidashboard.common.model.scm.ScmMergeRequests;
+import com.publicissapient.kpidashboard.common.model.scm.User;
+import com.publicissapient.kpidashboard.common.util.DateUtil;
+
+/**
+ * Commits, merge requests and SCM users of a project over the date range of a developer board
+ * request, shared read-only by the SCM KPIs of the board and by the requests of the same range.
+ *
+ * <p>The commits and merge requests are sorted by commit and update time. Their timestamps and
+ * authors are kept as columns, the branches and authors are dictionary encoded and the rows of
+ * each branch are indexed in time order, so that the rows of a branch within a period are found by
+ * binary search instead of filtering every row for each period and branch.
+ */
+public final class ScmDataset {
+
+	public static final ScmDataset EMPTY = of(List.of(), List.of(), List.of());
+
+	private static final int NONE = -1;
+
+	private final Table<ScmCommits> commits;
+	private final Table<ScmMergeRequests> mergeRequests;
+	private final List<Assignee> assignees;
+	/** processor item id of the branch -> branch id */
+	private final Map<ObjectId, Integer> branchIds;
+	/** author id -> email of the author, user name if the author has no email */
+	private final List<String> authors;
+
+	private ScmDataset(
+			Table<ScmCommits> commits,
+			Table<ScmMergeRequests> mergeRequests,
+			List<Assignee> assignees,
+			Dictionary dictionary) {
+		this.commits = commits;
+		this.mergeRequests = mergeRequests;
+		this.assignees = assignees;
+		this.branchIds = Map.copyOf(dictionary.branchIds);
+		this.authors = List.copyOf(dictionary.authors);
+	}
+
+	/**
+	 * @param commits commits of the project in the range
+	 * @param mergeRequests merge requests of the project in the range
+	 * @param assignees jira assignees of the scm users of the project
+	 * @return the dataset, the lists are copied
+	 */
+	public static ScmDataset of(
+			List<ScmCommits> commits, List<ScmMergeRequests> mergeRequests, List<Assignee> assignees) {
+		Dictionary dictionary = new Dictionary();
+		return new ScmDataset(
+				Table.of(
+						commits,
+						ScmCommits::getCommitTimestamp,
+						ScmCommits::getProcessorItemId,
+						ScmCommits::getCommitAuthor,
+						dictionary),
+				Table.of(
+						mergeRequests,
+						ScmMergeRequests::getUpdatedDate,
+						ScmMergeRequests::getProcessorItemId,
+						ScmMergeRequests::getAuthorId,
+						dictionary),
+				null == assignees ? List.of() : Collections.unmodifiableList(new ArrayList<>(assignees)),
+				dictionary);
+	}
+
+	/** @return the commits in commit time order */
+	public List<ScmCommits> getCommits() {
+		return commits.rows;
+	}
+
+	/** @return the merge requests in update time order */
+	public List<ScmMergeRequests> getMergeRequests() {
+		return mergeRequests.rows;
+	}
+
+	public List<Assignee> getAssignees() {
+		return assignees;
+	}
+
+	/**
+	 * @param tool repository tool of the branch
+	 * @param range period of the commit time
+	 * @return the commits of the branch within the period, in commit time order
+	 */
+	public List<ScmCommits> getCommits(Tool tool, CustomDateRange range) {
+		return commits.rows(commits.between(branchId(tool), range));
+	}
+
+	/**
+	 * @param tool repository tool of the branch
+	 * @param range period of the commit time
+	 * @return the commits of the branch within the period by author email, or user name for the
+	 *     authors without email
+	 */
+	public Map<String, List<ScmCommits>> getCommitsByAuthor(Tool tool, CustomDateRange range) {
+		return commits.byAuthor(commits.between(branchId(tool), range), authors);
+	}
+
+	/**
+	 * @param tool repository tool of the branch
+	 * @param range period of the update time
+	 * @return the merge requests of the branch updated within the period, in update time order
+	 */
+	public List<ScmMergeRequests> getMergeRequestsUpdated(Tool tool, CustomDateRange range) {
+		return mergeRequests.rows(mergeRequests.between(branchId(tool), range));
+	}
+
+	/**
+	 * @param tool repository tool of the branch
+	 * @param range period of the update time
+	 * @return the merge requests of the branch updated within the period by author email, or user
+	 *     name for the authors without email
+	 */
+	public Map<String, List<ScmMergeRequests>> getMergeRequestsUpdatedByAuthor(
+			Tool tool, CustomDateRange range) {
+		return mergeRequests.byAuthor(mergeRequests.between(branchId(tool), range), authors);
+	}
+
+	private int branchId(Tool tool) {
+		if (null == tool || !DeveloperKpiHelper.isValidTool(tool)) {
+			return NONE;
+		}
+		return branchIds.getOrDefault(tool.getProcessorItemList().get(0).getId(), NONE);
+	}
+
+	/** Branch and author ids shared by the commits and the merge requests. */
+	private static final class Dictionary {
+
+		private final Map<ObjectId, Integer> branchIds = new HashMap<>();
+		private final Map<String, Integer> authorIds = new HashMap<>();
+		private final List<String> authors = new ArrayList<>();
+
+		int branchId(ObjectId processorItemId) {
+			return null == processorItemId
+					? NONE
+					: branchIds.computeIfAbsent(processorItemId, id -> branchIds.size());
+		}
+
+		int authorId(User author) {
+			if (null == author || (null == author.getEmail() && null == author.getUsername())) {
+				return NONE;
+			}
+			String name = null != author.getEmail() ? author.getEmail() : author.getUsername();
+			return authorIds.computeIfAbsent(
+					name,
+					key -> {
+						authors.add(key);
+						return authors.size() - 1;
+					});
+		}
+	}
+
+	/**
+	 * Rows of one kind sorted by their timestamp, the rows without timestamp are last and not
+	 * indexed.
+	 */
+	private static final class Table<T> {
+
+		private final List<T> rows;
+		private final long[] timestamps;
+		private final int[] authorIds;
+		/** branch id -> rows of the branch having a timestamp, in time order */
+		private final int[][] rowsByBranch;
+
+		private Table(List<T> rows, long[] timestamps, int[] authorIds, int[][] rowsByBranch) {
+			this.rows = rows;
+			this.timestamps = timestamps;
+			this.authorIds = authorIds;
+			this.rowsByBranch = rowsByBranch;
+		}
+
+		static <T> Table<T> of(
+				List<T> source,
+				Function<T, Long> timestamp,
+				Function<T, ObjectId> branch,
+				Function<T, User> author,
+				Dictionary dictionary) {
+			List<T> rows = null == source ? new ArrayList<>() : new ArrayList<>(source);
+			rows.sort(Comparator.comparing(timestamp, Comparator.nullsLast(Comparator.naturalOrder())));
+			int size = rows.size();
+			long[] timestamps = new long[size];
+			int[] authorIds = new int[size];
+			int[] branchIds = new int[size];
+			int timed = 0;
+			for (int row = 0; row < size; row++) {
+				T value = rows.get(row);
+				Long time = timestamp.apply(value);
+				if (null != time) {
+					timestamps[row] = time;
+					timed = row + 1;
+				}
+				branchIds[row] = dictionary.branchId(branch.apply(value));
+				authorIds[row] = dictionary.authorId(author.apply(value));
+			}
+			int[] branchSizes = new int[dictionary.branchIds.size()];
+			for (int row = 0; row < timed; row++) {
+				if (branchIds[row] != NONE) {
+					branchSizes[branchIds[row]]++;
+				}
+			}
+			int[][] rowsByBranch = new int[branchSizes.length][];
+			for (int branchId = 0; branchId < branchSizes.length; branchId++) {
+				rowsByBranch[branchId] = new int[branchSizes[branchId]];
+				branchSizes[branchId] = 0;
+			}
+			for (int row = 0; row < timed; row++) {
+				int branchId = branchIds[row];
+				if (branchId != NONE) {
+					rowsByBranch[branchId][branchSizes[branchId]++] = row;
+				}
+			}
+			return new Table<>(Collections.unmodifiableList(rows), timestamps, authorIds, rowsByBranch);
+		}
+
+		/**
+		 * @return the rows of the branch within the range, same bounds as {@link
+		 *     DateUtil#isWithinDateTimeRange}
+		 */
+		int[] between(int branchId, CustomDateRange range) {
+			if (branchId == NONE || branchId >= rowsByBranch.length) {
+				return new int[0];
+			}
+			int[] branchRows = rowsByBranch[branchId];
+			LocalDateTime start = range.getStartDateTime();
+			LocalDateTime end = range.getEndDateTime();
+			int low = 0;
+			int high = branchRows.length;
+			while (low < high) {
+				int middle = (low + high) >>> 1;
+				if (dateTime(branchRows[middle]).isBefore(start)) {
+					low = middle + 1;
+				} else {
+					high = middle;
+				}
+			}
+			int[] matched = new int[branchRows.length - low];
+			int count = 0;
+			for (int i = low; i < branchRows.length; i++) {
+				LocalDateTime time = dateTime(branchRows[i]);
+				if (time.isAfter(end)) {
+					break;
+				}
+				if (DateUtil.isWithinDateTimeRange(time, start, end)) {
+					matched[count++] = branchRows[i];
+				}
+			}
+			return Arrays.copyOf(matched, count);
+		}
+
+		List<T> rows(int[] selected) {
+			List<T> result = new ArrayList<>(selected.length);
+			for (int row : selected) {
+				result.add(rows.get(row));
+			}
+			return result;
+		}
+
+		Map<String, List<T>> byAuthor(int[] selected, List<String> authors) {
+			Map<String, List<T>> result = new HashMap<>();
+			for (int row : selected) {
+				if (authorIds[row] != NONE) {
+					result
+							.computeIfAbsent(authors.get(authorIds[row]), author -> new ArrayList<>())
+							.add(rows.get(row));
+				}
+			}
+			return result;
+		}
+
+		private LocalDateTime dateTime(int row) {
+			return DateUtil.convertMillisToLocalDateTime(timestamps[row]);
+		}
+	}
+}
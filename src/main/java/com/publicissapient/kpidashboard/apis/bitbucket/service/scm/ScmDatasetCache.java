@@ -0,0 +1,142 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+
+
+package com.publicissapient.kpidashboard.apis.bitbucket.service.scm;
+
+import java.time.LocalDate;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.publicissapient.kpidashboard.apis.common.service.impl.KpiCacheDependencyIndex;
+import com.publicissapient.kpidashboard.apis.config.CustomApiConfig;
+import com.publicissapient.kpidashboard.apis.model.CustomDateRange;
+import com.publicissapient.kpidashboard.common.constant.CommonConstant;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * SCM datasets of the developer board by project and date range, so that the requests of the same
+ * project and range load the commits and merge requests once. Concurrent requests share a single
+ * load. The datasets of a project are dropped with the cached bitbucket KPIs of the project.
+ */
+@Service
+@Slf4j
+public class ScmDatasetCache {
+
+	private final Cache<DatasetKey, ScmDataset> datasets;
+	private final Counter hitCounter;
+	private final Counter missCounter;
+
+	@Autowired
+	public ScmDatasetCache(
+			CustomApiConfig customApiConfig,
+			KpiCacheDependencyIndex kpiCacheDependencyIndex,
+			MeterRegistry meterRegistry) {
+		this(
+				customApiConfig.getScmDatasetCacheSize(),
+				customApiConfig.getScmDatasetCacheExpiryMinutes(),
+				meterRegistry);
+		kpiCacheDependencyIndex.addEvictionListener(this::onKpiCacheEviction);
+	}
+
+	/**
+	 * @param cacheSize number of cached datasets, 0 to disable the cache
+	 * @param expiryMinutes minutes for which a dataset is reused, no expiry if not positive
+	 * @param meterRegistry registry of the cache metrics
+	 */
+	public ScmDatasetCache(int cacheSize, long expiryMinutes, MeterRegistry meterRegistry) {
+		CacheBuilder<Object, Object> cacheBuilder =
+				CacheBuilder.newBuilder().maximumSize(Math.max(0, cacheSize));
+		if (expiryMinutes > 0) {
+			cacheBuilder.expireAfterWrite(expiryMinutes, TimeUnit.MINUTES);
+		}
+		this.datasets = cacheBuilder.build();
+		this.hitCounter = requestCounter(meterRegistry, "hit");
+		this.missCounter = requestCounter(meterRegistry, "miss");
+	}
+
+	/**
+	 * Returns the dataset of the project and range, loading it if it is not cached. A failed load is
+	 * not cached.
+	 *
+	 * @param basicProjectConfigId project of the dataset
+	 * @param range date range of the dataset
+	 * @param loader loads the dataset
+	 * @return the dataset, shared with the other requests of the project and range
+	 */
+	public ScmDataset get(
+			String basicProjectConfigId, CustomDateRange range, Supplier<ScmDataset> loader) {
+		DatasetKey key = new DatasetKey(basicProjectConfigId, range.getStartDate(), range.getEndDate());
+		ScmDataset cached = datasets.getIfPresent(key);
+		if (null != cached) {
+			hitCounter.increment();
+			return cached;
+		}
+		missCounter.increment();
+		try {
+			return datasets.get(key, loader::get);
+		} catch (UncheckedExecutionException | ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
+	/**
+	 * Drops the datasets of a project.
+	 *
+	 * @param basicProjectConfigId project to drop, null to drop every dataset
+	 */
+	public void evict(String basicProjectConfigId) {
+		if (null == basicProjectConfigId) {
+			datasets.invalidateAll();
+		} else {
+			datasets
+					.asMap()
+					.keySet()
+					.removeIf(key -> basicProjectConfigId.equals(key.basicProjectConfigId()));
+		}
+		log.debug("Evicted the SCM datasets of project {}", basicProjectConfigId);
+	}
+
+	private void onKpiCacheEviction(String cacheName, String basicProjectConfigId) {
+		if (CommonConstant.BITBUCKET_KPI_CACHE.equals(cacheName)) {
+			evict(basicProjectConfigId);
+		}
+	}
+
+	private static Counter requestCounter(MeterRegistry meterRegistry, String result) {
+		return Counter.builder("scm.dataset.cache.requests")
+				.description("SCM dataset requests by cache result")
+				.tag("result", result)
+				.register(meterRegistry);
+	}
+
+	private record DatasetKey(String basicProjectConfigId, LocalDate startDate, LocalDate endDate) {}
+}
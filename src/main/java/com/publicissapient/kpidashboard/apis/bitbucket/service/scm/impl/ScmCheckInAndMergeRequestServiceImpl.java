@@ -35,6 +35,7 @@ import org.springframework.stereotype.Service;
 
 import com.publicissapient.kpidashboard.apis.appsetting.service.ConfigHelperService;
 import com.publicissapient.kpidashboard.apis.bitbucket.service.BitBucketKPIService;
+import com.publicissapient.kpidashboard.apis.bitbucket.service.scm.ScmDataset;
 import com.publicissapient.kpidashboard.apis.common.service.impl.KpiHelperService;
 import com.publicissapient.kpidashboard.apis.constant.Constant;
 import com.publicissapient.kpidashboard.apis.enums.KPICode;
@@ -44,6 +45,7 @@ import com.publicissapient.kpidashboard.apis.errors.ApplicationException;
 import com.publicissapient.kpidashboard.apis.model.CustomDateRange;
 import com.publicissapient.kpidashboard.apis.model.KPIExcelData;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.Node;
 import com.publicissapient.kpidashboard.apis.repotools.model.RepoToolValidationData;
@@ -177,6 +179,7 @@ public class ScmCheckInAndMergeRequestServiceImpl
 			return;
 		}
 
+		ScmDataset scmDataset = getScmDatasetFromBaseClass();
 		Map<String, List<DataCount>> kpiTrendDataByGroup = new LinkedHashMap<>();
 		List<RepoToolValidationData> validationDataList = new ArrayList<>();
 
@@ -185,14 +188,12 @@ public class ScmCheckInAndMergeRequestServiceImpl
 					KpiDataHelper.getStartAndEndDateTimeForDataFiltering(currentDate, duration);
 			String dateLabel = KpiHelperService.getDateRange(periodRange, duration);
 
-			List<ScmCommits> commitsInRange =
-					DeveloperKpiHelper.filterCommitsByCommitTimeStamp(allCommits, periodRange);
-
 			scmTools.forEach(
 					tool ->
 							processToolData(
 									tool,
-									commitsInRange,
+									scmDataset,
+									periodRange,
 									assignees,
 									dateLabel,
 									projectLeafNode.getProjectFilter().getName(),
@@ -208,7 +209,8 @@ public class ScmCheckInAndMergeRequestServiceImpl
 
 	private void processToolData(
 			Tool tool,
-			List<ScmCommits> commits,
+			ScmDataset scmDataset,
+			CustomDateRange periodRange,
 			Set<Assignee> assignees,
 			String dateLabel,
 			String projectName,
@@ -222,7 +224,7 @@ public class ScmCheckInAndMergeRequestServiceImpl
 		String branchName = getBranchSubFilter(tool, projectName);
 		String overallKpiGroup = branchName + "#" + Constant.AGGREGATED_VALUE;
 
-		List<ScmCommits> commitsForBranch = DeveloperKpiHelper.filterCommitsForBranch(commits, tool);
+		List<ScmCommits> commitsForBranch = scmDataset.getCommits(tool, periodRange);
 
 		List<ScmCommits> mergeCommits =
 				commitsForBranch.stream()
@@ -241,7 +243,7 @@ public class ScmCheckInAndMergeRequestServiceImpl
 				kpiTrendDataByGroup);
 
 		Map<String, List<ScmCommits>> userWiseAllCommits =
-				DeveloperKpiHelper.groupCommitsByUser(commitsForBranch);
+				scmDataset.getCommitsByAuthor(tool, periodRange);
 		Map<String, List<ScmCommits>> userWiseMergeCommits =
 				DeveloperKpiHelper.groupCommitsByUser(mergeCommits);
 
@@ -269,7 +271,7 @@ public class ScmCheckInAndMergeRequestServiceImpl
 			String requestTrackerId,
 			List<RepoToolValidationData> validationDataList,
 			KpiElement kpiElement) {
-		if (requestTrackerId.toLowerCase().contains(KPISource.EXCEL.name().toLowerCase())) {
+		if (KpiExecutionContext.isCurrentExcelRequest(requestTrackerId)) {
 			List<KPIExcelData> excelData = new ArrayList<>();
 			KPIExcelUtility.populateCodeCommit(validationDataList, excelData);
 			kpiElement.setExcelData(excelData);
@@ -32,6 +32,7 @@ import com.publicissapient.kpidashboard.apis.enums.KPIExcelColumn;
 import com.publicissapient.kpidashboard.apis.enums.KPISource;
 import com.publicissapient.kpidashboard.apis.errors.ApplicationException;
 import com.publicissapient.kpidashboard.apis.model.*;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.apis.util.KPIExcelUtility;
 import com.publicissapient.kpidashboard.common.model.application.DataCount;
 import com.publicissapient.kpidashboard.common.model.application.DataCountGroup;
@@ -208,7 +209,7 @@ public class ScmCodeQualityMetricsImpl
 			List<DataCountGroup> dataCountGroups,
 			KpiElement kpiElement,
 			String dateLabel) {
-		if (requestTrackerId.toLowerCase().contains(KPISource.EXCEL.name().toLowerCase())) {
+		if (KpiExecutionContext.isCurrentExcelRequest(requestTrackerId)) {
 			List<KPIExcelData> excelData = new ArrayList<>();
 			KPIExcelUtility.populateCodeQualityMetricsExcelData(dataCountGroups, excelData, dateLabel);
 			kpiElement.setExcelData(excelData);
@@ -23,27 +23,26 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import org.apache.commons.collections4.CollectionUtils;
 import org.springframework.stereotype.Service;
 
 import com.publicissapient.kpidashboard.apis.appsetting.service.ConfigHelperService;
 import com.publicissapient.kpidashboard.apis.bitbucket.service.BitBucketKPIService;
+import com.publicissapient.kpidashboard.apis.bitbucket.service.scm.ReworkRateEngine;
+import com.publicissapient.kpidashboard.apis.bitbucket.service.scm.ReworkRateEngine.PeriodRework;
+import com.publicissapient.kpidashboard.apis.bitbucket.service.scm.ReworkRateEngine.Rework;
 import com.publicissapient.kpidashboard.apis.bitbucket.service.scm.ScmKpiHelperService;
 import com.publicissapient.kpidashboard.apis.common.service.impl.KpiHelperService;
 import com.publicissapient.kpidashboard.apis.constant.Constant;
 import com.publicissapient.kpidashboard.apis.enums.KPICode;
 import com.publicissapient.kpidashboard.apis.errors.ApplicationException;
 import com.publicissapient.kpidashboard.apis.model.*;
-import com.publicissapient.kpidashboard.apis.repotools.model.RepoToolValidationData;
 import com.publicissapient.kpidashboard.apis.util.DeveloperKpiHelper;
 import com.publicissapient.kpidashboard.apis.util.KpiDataHelper;
-import com.publicissapient.kpidashboard.common.model.application.DataCount;
 import com.publicissapient.kpidashboard.common.model.application.FieldMapping;
 import com.publicissapient.kpidashboard.common.model.application.Tool;
 import com.publicissapient.kpidashboard.common.model.jira.Assignee;
@@ -94,7 +93,6 @@ public class ScmCodeQualityReworkRateServiceImpl
 
 	private static final String COMMITS = "commits";
 	private static final String ASSIGNEE_SET = "assigneeSet";
-	private static final int REWORK_DAYS_AGO = 21;
 
 	private final KpiHelperService kpiHelperService;
 	private final ScmKpiHelperService scmKpiHelperService;
@@ -102,15 +100,7 @@ public class ScmCodeQualityReworkRateServiceImpl
 
 	@Builder
 	private record ToolDataContext(
-			Tool tool,
-			List<ScmCommits> commits,
-			Set<Assignee> assignees,
-			String dateLabel,
-			String projectName,
-			CustomDateRange periodRange,
-			Map<String, List<DataCount>> kpiTrendDataByGroup,
-			List<RepoToolValidationData> validationDataList,
-			Map<ScmCommits, LocalDateTime> commitTimestampMap) {}
+			Tool tool, PeriodRework rework, Set<Assignee> assignees, String projectName) {}
 
 	/**
 	 * Returns the qualifier type for this KPI service. Currently returns null as this service doesn't
@@ -244,288 +234,76 @@ public class ScmCodeQualityReworkRateServiceImpl
 			return;
 		}
 
-		Map<String, List<DataCount>> kpiTrendDataByGroup = new LinkedHashMap<>();
-		List<RepoToolValidationData> validationDataList = new ArrayList<>();
+		List<CustomDateRange> periodRanges = new ArrayList<>(dataPoints);
+		for (int i = 0; i < dataPoints; i++) {
+			periodRanges.add(KpiDataHelper.getStartAndEndDateTimeForDataFiltering(currentDate, duration));
+			currentDate = DeveloperKpiHelper.getNextRangeDate(duration, currentDate);
+		}
 
-		Map<ScmCommits, LocalDateTime> commitTimestampMap =
+		// rework of all the periods of a branch computed at once, sliding the 21 days window
+		List<ScmCommits> nonMergeCommits =
 				allCommits.stream()
-						.filter(commit -> commit.getCommitTimestamp() != null)
-						.collect(
-								Collectors.toMap(
-										commit -> commit,
-										commit -> DateUtil.convertMillisToLocalDateTime(commit.getCommitTimestamp())));
+						.filter(commit -> !Boolean.TRUE.equals(commit.getIsMergeCommit()))
+						.toList();
+		List<Tool> validTools = scmTools.stream().filter(DeveloperKpiHelper::isValidTool).toList();
+		List<List<PeriodRework>> toolReworks =
+				validTools.stream()
+						.map(
+								tool ->
+										ReworkRateEngine.calculate(
+												DeveloperKpiHelper.filterCommitsForBranch(nonMergeCommits, tool),
+												periodRanges))
+						.toList();
 
 		for (int i = 0; i < dataPoints; i++) {
-			CustomDateRange periodRange =
-					KpiDataHelper.getStartAndEndDateTimeForDataFiltering(currentDate, duration);
-			String dateLabel = KpiHelperService.getDateRange(periodRange, duration);
-
-			// Get commits for the extended period (including reference period)
-			LocalDateTime referenceStartDate = periodRange.getStartDateTime().minusDays(REWORK_DAYS_AGO);
-			final CustomDateRange extendedDateRange = new CustomDateRange();
-			extendedDateRange.setStartDateTime(referenceStartDate);
-			extendedDateRange.setEndDateTime(periodRange.getEndDateTime());
-
-			List<ScmCommits> periodCommits =
-					commitTimestampMap.entrySet().stream()
-							.filter(
-									entry ->
-											DateUtil.isWithinDateTimeRange(
-													entry.getValue(),
-													extendedDateRange.getStartDateTime(),
-													extendedDateRange.getEndDateTime()))
-							.map(Map.Entry::getKey)
-							.collect(Collectors.toList());
-
-			for (Tool tool : scmTools) {
+			for (int toolIndex = 0; toolIndex < validTools.size(); toolIndex++) {
 				ToolDataContext toolContext =
 						ToolDataContext.builder()
-								.tool(tool)
-								.commits(periodCommits)
+								.tool(validTools.get(toolIndex))
+								.rework(toolReworks.get(toolIndex).get(i))
 								.assignees(assignees)
-								.dateLabel(dateLabel)
 								.projectName(projectLeafNode.getProjectFilter().getName())
-								.periodRange(periodRange)
-								.kpiTrendDataByGroup(kpiTrendDataByGroup)
-								.validationDataList(validationDataList)
-								.commitTimestampMap(commitTimestampMap)
 								.build();
 
 				processToolData(toolContext, reworkMap);
 			}
-
-			currentDate = DeveloperKpiHelper.getNextRangeDate(duration, currentDate);
 		}
 	}
 
 	/**
-	 * Processes SCM tool data to calculate rework metrics. Filters commits by branch, excludes merge
-	 * commits, and calculates rework for both overall metrics and individual developers.
+	 * Adds the rework of a branch in a period to the rework metrics, for the branch and for each
+	 * developer having commits in the period.
 	 *
 	 * @param toolContext context containing tool data and configuration
 	 * @param reworkMap map to store calculated rework metrics
 	 */
 	private void processToolData(ToolDataContext toolContext, Map<String, MetricsHolder> reworkMap) {
-		if (!DeveloperKpiHelper.isValidTool(toolContext.tool())) {
-			return;
-		}
-
 		String branchName = getBranchSubFilter(toolContext.tool(), toolContext.projectName());
 
-		List<ScmCommits> commitsForBranch =
-				DeveloperKpiHelper.filterCommitsForBranch(toolContext.commits(), toolContext.tool());
-
-		List<ScmCommits> nonMergeCommits =
-				commitsForBranch.stream()
-						.filter(commit -> !Boolean.TRUE.equals(commit.getIsMergeCommit()))
-						.collect(Collectors.toList());
-
-		calculateReworkRateForPeriod(
-				nonMergeCommits,
-				toolContext.periodRange(),
-				toolContext.commitTimestampMap(),
-				reworkMap,
-				branchName + "#" + Constant.AGGREGATED_VALUE);
+		addRework(
+				toolContext.rework().overall(), reworkMap, branchName + "#" + Constant.AGGREGATED_VALUE);
 
-		Map<String, List<ScmCommits>> userWiseCommits =
-				DeveloperKpiHelper.groupCommitsByUser(nonMergeCommits);
-
-		prepareUserValidationData(userWiseCommits, toolContext, reworkMap, branchName);
-	}
-
-	/**
-	 * Prepares user-specific validation data by calculating rework metrics for each developer who has
-	 * commits in the analysis period.
-	 *
-	 * @param userWiseCommits map of commits grouped by user email
-	 * @param toolContext context containing tool data and configuration
-	 * @param reworkMap map to store calculated rework metrics
-	 * @param branchName branch name for filter key construction
-	 */
-	private void prepareUserValidationData(
-			Map<String, List<ScmCommits>> userWiseCommits,
-			ToolDataContext toolContext,
-			Map<String, MetricsHolder> reworkMap,
-			String branchName) {
-
-		for (Map.Entry<String, List<ScmCommits>> entry : userWiseCommits.entrySet()) {
-			String userEmail = entry.getKey();
-			List<ScmCommits> userCommits = entry.getValue();
+		for (Map.Entry<String, Rework> entry : toolContext.rework().byDeveloper().entrySet()) {
 			String developerName =
-					DeveloperKpiHelper.getDeveloperName(userEmail, toolContext.assignees());
-
-			if (hasCommitsInPeriod(
-					userCommits, toolContext.periodRange(), toolContext.commitTimestampMap())) {
-
-				calculateReworkRateForPeriod(
-						userCommits,
-						toolContext.periodRange(),
-						toolContext.commitTimestampMap(),
-						reworkMap,
-						branchName + "#" + developerName);
-			}
+					DeveloperKpiHelper.getDeveloperName(entry.getKey(), toolContext.assignees());
+			addRework(entry.getValue(), reworkMap, branchName + "#" + developerName);
 		}
 	}
 
 	/**
-	 * Core rework calculation logic for a specific time period. Partitions commits into reference
-	 * period (past 21 days) and analysis period, builds reference pool from past changes, and
-	 * calculates rework metrics.
+	 * Adds the changed and reworked lines to the metrics of the filter key, the metrics are created
+	 * by the first period having changed lines.
 	 *
-	 * @param commits all commits (reference + analysis period)
-	 * @param periodRange current analysis period
-	 * @param commitTimestampMap map of commit timestamps
+	 * @param rework rework of a period
 	 * @param reworkMap map to store calculated rework metrics
 	 * @param kpiGroup filter key for grouping results
 	 */
-	private void calculateReworkRateForPeriod(
-			List<ScmCommits> commits,
-			CustomDateRange periodRange,
-			Map<ScmCommits, LocalDateTime> commitTimestampMap,
-			Map<String, MetricsHolder> reworkMap,
-			String kpiGroup) {
-
-		if (commits == null || commits.isEmpty()) {
+	private void addRework(Rework rework, Map<String, MetricsHolder> reworkMap, String kpiGroup) {
+		if (rework.getChangedLines() == 0) {
 			return;
 		}
-
-		LocalDateTime periodStart = periodRange.getStartDateTime();
-
-		// Further partition by referenceCommits and analysisCommits
-		Map<Boolean, List<ScmCommits>> referenceAndAnalysisPartition =
-				commits.stream()
-						.filter(commitTimestampMap::containsKey)
-						.collect(
-								Collectors.partitioningBy(
-										commit -> commitTimestampMap.get(commit).isBefore(periodStart)));
-
-		List<ScmCommits> referenceCommits = referenceAndAnalysisPartition.get(true);
-		List<ScmCommits> analysisCommits = referenceAndAnalysisPartition.get(false);
-
-		// Step 2: Build reference pool (all lines changed in past 21 days)
-		Map<String, Set<Integer>> referencePool = createReferencePool(referenceCommits);
-
-		// Step 3: Calculate how many current changes are rework
-		calculateReworkMetrics(analysisCommits, referencePool, reworkMap, kpiGroup);
-	}
-
-	/**
-	 * Creates a reference pool of all lines changed in the past 21 days. This pool is used to
-	 * identify rework in the current analysis period.
-	 *
-	 * @param referenceCommits commits from the past 21 days
-	 * @return map of file path to set of changed line numbers
-	 */
-	private Map<String, Set<Integer>> createReferencePool(List<ScmCommits> referenceCommits) {
-		Map<String, Set<Integer>> referencePool = new HashMap<>();
-
-		if (CollectionUtils.isEmpty(referenceCommits)) {
-			return referencePool;
-		}
-
-		referenceCommits.stream()
-				.filter(commit -> CollectionUtils.isNotEmpty(commit.getFileChanges()))
-				.flatMap(commit -> commit.getFileChanges().stream())
-				.filter(this::isValidFileChange)
-				.forEach(
-						fileChange ->
-								referencePool
-										.computeIfAbsent(fileChange.getFilePath(), k -> new HashSet<>())
-										.addAll(fileChange.getChangedLineNumbers()));
-
-		return referencePool;
-	}
-
-	/**
-	 * Calculates rework metrics for analysis period commits. Processes each file change to count
-	 * total changes and rework against reference pool.
-	 *
-	 * @param commits analysis period commits
-	 * @param referencePool lines changed in reference period
-	 * @param reworkMap map to store calculated rework metrics
-	 * @param kpiGroup filter key for grouping results
-	 */
-	private void calculateReworkMetrics(
-			List<ScmCommits> commits,
-			Map<String, Set<Integer>> referencePool,
-			Map<String, MetricsHolder> reworkMap,
-			String kpiGroup) {
-		if (CollectionUtils.isEmpty(commits)) {
-			return;
-		}
-
-		commits.stream()
-				.filter(commit -> CollectionUtils.isNotEmpty(commit.getFileChanges()))
-				.flatMap(commit -> commit.getFileChanges().stream())
-				.filter(this::isValidFileChange)
-				.forEach(fileChange -> processFileChange(fileChange, referencePool, reworkMap, kpiGroup));
-	}
-
-	/**
-	 * Validates if a file change is valid for rework calculation. Checks for non-null file path and
-	 * non-empty changed line numbers.
-	 *
-	 * @param fileChange the file change to validate
-	 * @return true if file change is valid, false otherwise
-	 */
-	private boolean isValidFileChange(ScmCommits.FileChange fileChange) {
-		return fileChange.getFilePath() != null
-				&& CollectionUtils.isNotEmpty(fileChange.getChangedLineNumbers());
-	}
-
-	/**
-	 * Processes a single file change to count rework against reference pool. Calculates total changes
-	 * and identifies rework by comparing with reference lines. Note: Reference pool should not be
-	 * modified during analysis period.
-	 *
-	 * @param fileChange current file change to process
-	 * @param referencePool reference pool of past changes
-	 * @param reworkMap map to store calculated rework metrics
-	 * @param kpiGroup filter key for grouping results
-	 */
-	private void processFileChange(
-			ScmCommits.FileChange fileChange,
-			Map<String, Set<Integer>> referencePool,
-			Map<String, MetricsHolder> reworkMap,
-			String kpiGroup) {
-		String filePath = fileChange.getFilePath();
-		List<Integer> changedLines = fileChange.getChangedLineNumbers();
-		Set<Integer> referenceLines = referencePool.get(filePath);
-
-		int totalChanges = changedLines.size();
 		MetricsHolder calculation = reworkMap.computeIfAbsent(kpiGroup, key -> new MetricsHolder());
-
-		calculation.addTotalChanges(totalChanges);
-
-		if (CollectionUtils.isNotEmpty(referenceLines)) {
-			Set<Integer> changedLineSet = new HashSet<>(changedLines);
-			changedLineSet.retainAll(referenceLines);
-			int reworkCount = changedLineSet.size();
-			calculation.addRework(reworkCount);
-			referenceLines.addAll(changedLines);
-
-		} else {
-			// New file - no rework, add to reference pool
-			referencePool.put(filePath, new HashSet<>(changedLines));
-		}
-	}
-
-	/**
-	 * Checks if any commits exist within the specified analysis period. Used to determine if a
-	 * developer should be included in rework calculations.
-	 *
-	 * @param commits list of commits to check
-	 * @param periodRange the analysis period date range
-	 * @param commitTimestampCache cache of commit timestamps
-	 * @return true if commits exist in period, false otherwise
-	 */
-	private boolean hasCommitsInPeriod(
-			List<ScmCommits> commits,
-			CustomDateRange periodRange,
-			Map<ScmCommits, LocalDateTime> commitTimestampCache) {
-		LocalDateTime periodStart = periodRange.getStartDateTime();
-		return commits.stream()
-				.filter(commitTimestampCache::containsKey)
-				.anyMatch(commit -> !commitTimestampCache.get(commit).isBefore(periodStart));
+		calculation.addTotalChanges(rework.getChangedLines());
+		calculation.addRework(rework.getReworkedLines());
 	}
 }
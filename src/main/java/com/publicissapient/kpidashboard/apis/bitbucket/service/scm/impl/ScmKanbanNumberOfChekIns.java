@@ -37,6 +37,7 @@ import com.publicissapient.kpidashboard.apis.errors.ApplicationException;
 import com.publicissapient.kpidashboard.apis.model.CustomDateRange;
 import com.publicissapient.kpidashboard.apis.model.KPIExcelData;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.Node;
 import com.publicissapient.kpidashboard.apis.repotools.model.RepoToolValidationData;
@@ -218,7 +219,7 @@ public class ScmKanbanNumberOfChekIns
 		}
 
 		mapTmp.get(projectLeafNode.getId()).setValue(kpiTrendDataByGroup);
-		if (getRequestTrackerIdKanban().toLowerCase().contains(KPISource.EXCEL.name().toLowerCase())) {
+		if (KpiExecutionContext.isCurrentExcelRequest(getRequestTrackerIdKanban())) {
 			KPIExcelUtility.populateCodeCommitKanbanExcelData(validationDataList, excelData);
 		}
 		kpiElement.setExcelData(excelData);
@@ -34,6 +34,7 @@ import org.springframework.stereotype.Service;
 
 import com.publicissapient.kpidashboard.apis.appsetting.service.ConfigHelperService;
 import com.publicissapient.kpidashboard.apis.bitbucket.service.BitBucketKPIService;
+import com.publicissapient.kpidashboard.apis.bitbucket.service.scm.ScmDataset;
 import com.publicissapient.kpidashboard.apis.common.service.impl.KpiHelperService;
 import com.publicissapient.kpidashboard.apis.constant.Constant;
 import com.publicissapient.kpidashboard.apis.enums.KPICode;
@@ -43,6 +44,7 @@ import com.publicissapient.kpidashboard.apis.errors.ApplicationException;
 import com.publicissapient.kpidashboard.apis.model.CustomDateRange;
 import com.publicissapient.kpidashboard.apis.model.KPIExcelData;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.Node;
 import com.publicissapient.kpidashboard.apis.repotools.model.RepoToolValidationData;
@@ -167,6 +169,7 @@ public class ScmPRSizeServiceImpl
 			return;
 		}
 
+		ScmDataset scmDataset = getScmDatasetFromBaseClass();
 		Map<String, List<DataCount>> kpiTrendDataByGroup = new LinkedHashMap<>();
 		List<RepoToolValidationData> validationDataList = new ArrayList<>();
 
@@ -174,14 +177,13 @@ public class ScmPRSizeServiceImpl
 			CustomDateRange periodRange =
 					KpiDataHelper.getStartAndEndDateTimeForDataFiltering(currentDate, duration);
 			String dateLabel = KpiHelperService.getDateRange(periodRange, duration);
-			List<ScmMergeRequests> mergedRequestsInRange =
-					DeveloperKpiHelper.filterMergeRequestsByUpdateDate(mergeRequests, periodRange);
 
 			scmTools.forEach(
 					tool ->
 							processToolData(
 									tool,
-									mergedRequestsInRange,
+									scmDataset,
+									periodRange,
 									assignees,
 									kpiTrendDataByGroup,
 									validationDataList,
@@ -197,7 +199,8 @@ public class ScmPRSizeServiceImpl
 
 	private void processToolData(
 			Tool tool,
-			List<ScmMergeRequests> mergeRequests,
+			ScmDataset scmDataset,
+			CustomDateRange periodRange,
 			Set<Assignee> assignees,
 			Map<String, List<DataCount>> kpiTrendDataByGroup,
 			List<RepoToolValidationData> validationDataList,
@@ -208,7 +211,7 @@ public class ScmPRSizeServiceImpl
 		}
 
 		List<ScmMergeRequests> mergeRequestsForBranch =
-				DeveloperKpiHelper.filterMergeRequestsForBranch(mergeRequests, tool);
+				scmDataset.getMergeRequestsUpdated(tool, periodRange);
 
 		String branchName = getBranchSubFilter(tool, projectName);
 
@@ -226,7 +229,7 @@ public class ScmPRSizeServiceImpl
 
 		validationDataList.addAll(
 				prepareUserValidationData(
-						DeveloperKpiHelper.groupMergeRequestsByUser(mergeRequestsForBranch),
+						scmDataset.getMergeRequestsUpdatedByAuthor(tool, periodRange),
 						assignees,
 						tool,
 						projectName,
@@ -301,7 +304,7 @@ public class ScmPRSizeServiceImpl
 			String requestTrackerId,
 			List<RepoToolValidationData> validationDataList,
 			KpiElement kpiElement) {
-		if (requestTrackerId.toLowerCase().contains(KPISource.EXCEL.name().toLowerCase())) {
+		if (KpiExecutionContext.isCurrentExcelRequest(requestTrackerId)) {
 			List<KPIExcelData> excelData = new ArrayList<>();
 			KPIExcelUtility.populatePRSizeExcelData(validationDataList, excelData);
 			kpiElement.setExcelData(excelData);
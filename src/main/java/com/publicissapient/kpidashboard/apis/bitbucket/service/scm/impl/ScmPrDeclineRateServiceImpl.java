@@ -43,6 +43,7 @@ import com.publicissapient.kpidashboard.apis.errors.ApplicationException;
 import com.publicissapient.kpidashboard.apis.model.CustomDateRange;
 import com.publicissapient.kpidashboard.apis.model.KPIExcelData;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.Node;
 import com.publicissapient.kpidashboard.apis.repotools.model.RepoToolValidationData;
@@ -322,7 +323,7 @@ public class ScmPrDeclineRateServiceImpl
 			String requestTrackerId,
 			List<RepoToolValidationData> validationDataList,
 			KpiElement kpiElement) {
-		if (requestTrackerId.toLowerCase().contains(KPISource.EXCEL.name().toLowerCase())) {
+		if (KpiExecutionContext.isCurrentExcelRequest(requestTrackerId)) {
 			List<KPIExcelData> excelData = new ArrayList<>();
 			KPIExcelUtility.populatePRDeclineRateExcelData(validationDataList, excelData);
 			kpiElement.setExcelData(excelData);
@@ -35,6 +35,7 @@ import org.springframework.stereotype.Service;
 
 import com.publicissapient.kpidashboard.apis.appsetting.service.ConfigHelperService;
 import com.publicissapient.kpidashboard.apis.bitbucket.service.BitBucketKPIService;
+import com.publicissapient.kpidashboard.apis.bitbucket.service.scm.ScmDataset;
 import com.publicissapient.kpidashboard.apis.common.service.impl.KpiHelperService;
 import com.publicissapient.kpidashboard.apis.constant.Constant;
 import com.publicissapient.kpidashboard.apis.enums.KPICode;
@@ -44,6 +45,7 @@ import com.publicissapient.kpidashboard.apis.errors.ApplicationException;
 import com.publicissapient.kpidashboard.apis.model.CustomDateRange;
 import com.publicissapient.kpidashboard.apis.model.KPIExcelData;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.Node;
 import com.publicissapient.kpidashboard.apis.repotools.model.RepoToolValidationData;
@@ -173,14 +175,14 @@ public class ScmPrSuccessRateServiceImpl
 		CustomDateRange periodRange =
 				KpiDataHelper.getStartAndEndDateTimeForDataFiltering(currentDate, duration, dataPoints);
 		String dateLabel = KpiHelperService.getDateRange(periodRange, duration);
-		List<ScmMergeRequests> mergeRequestsInRange =
-				DeveloperKpiHelper.filterMergeRequestsByUpdateDate(mergeRequests, periodRange);
+		ScmDataset scmDataset = getScmDatasetFromBaseClass();
 
 		scmTools.forEach(
 				tool ->
 						processToolData(
 								tool,
-								mergeRequestsInRange,
+								scmDataset,
+								periodRange,
 								assignees,
 								kpiTrendDataByGroup,
 								validationDataList,
@@ -193,7 +195,8 @@ public class ScmPrSuccessRateServiceImpl
 
 	private void processToolData(
 			Tool tool,
-			List<ScmMergeRequests> mergeRequests,
+			ScmDataset scmDataset,
+			CustomDateRange periodRange,
 			Set<Assignee> assignees,
 			Map<String, List<DataCount>> kpiTrendDataByGroup,
 			List<RepoToolValidationData> validationDataList,
@@ -207,7 +210,7 @@ public class ScmPrSuccessRateServiceImpl
 		String overallKpiGroup = branchName + "#" + Constant.AGGREGATED_VALUE;
 
 		List<ScmMergeRequests> mergeRequestsForBranch =
-				DeveloperKpiHelper.filterMergeRequestsForBranch(mergeRequests, tool);
+				scmDataset.getMergeRequestsUpdated(tool, periodRange);
 
 		double prSuccessRate = calculatePrSuccessRate(mergeRequestsForBranch);
 
@@ -220,7 +223,7 @@ public class ScmPrSuccessRateServiceImpl
 				kpiTrendDataByGroup);
 
 		Map<String, List<ScmMergeRequests>> userWiseMergeRequests =
-				DeveloperKpiHelper.groupMergeRequestsByUser(mergeRequestsForBranch);
+				scmDataset.getMergeRequestsUpdatedByAuthor(tool, periodRange);
 
 		validationDataList.addAll(
 				prepareUserValidationData(
@@ -318,7 +321,7 @@ public class ScmPrSuccessRateServiceImpl
 			String requestTrackerId,
 			List<RepoToolValidationData> validationDataList,
 			KpiElement kpiElement) {
-		if (requestTrackerId.toLowerCase().contains(KPISource.EXCEL.name().toLowerCase())) {
+		if (KpiExecutionContext.isCurrentExcelRequest(requestTrackerId)) {
 			List<KPIExcelData> excelData = new ArrayList<>();
 			KPIExcelUtility.populatePRSuccessRateExcelData(validationDataList, excelData);
 			kpiElement.setExcelData(excelData);
@@ -36,6 +36,9 @@ import org.springframework.stereotype.Service;
 
 import com.publicissapient.kpidashboard.apis.appsetting.service.ConfigHelperService;
 import com.publicissapient.kpidashboard.apis.bitbucket.service.BitBucketKPIService;
+import com.publicissapient.kpidashboard.apis.bitbucket.service.scm.ReworkRateEngine;
+import com.publicissapient.kpidashboard.apis.bitbucket.service.scm.ReworkRateEngine.PeriodRework;
+import com.publicissapient.kpidashboard.apis.bitbucket.service.scm.ReworkRateEngine.Rework;
 import com.publicissapient.kpidashboard.apis.bitbucket.service.scm.ScmKpiHelperService;
 import com.publicissapient.kpidashboard.apis.common.service.impl.KpiHelperService;
 import com.publicissapient.kpidashboard.apis.constant.Constant;
@@ -46,6 +49,7 @@ import com.publicissapient.kpidashboard.apis.errors.ApplicationException;
 import com.publicissapient.kpidashboard.apis.model.CustomDateRange;
 import com.publicissapient.kpidashboard.apis.model.KPIExcelData;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.Node;
 import com.publicissapient.kpidashboard.apis.repotools.model.RepoToolValidationData;
@@ -103,44 +107,20 @@ public class ScmReworkRateServiceImpl
 
 	private static final String COMMITS = "commits";
 	private static final String ASSIGNEE_SET = "assigneeSet";
-	private static final int REWORK_DAYS_AGO = 21;
 
 	private final KpiHelperService kpiHelperService;
 	private final ScmKpiHelperService scmKpiHelperService;
 	private final ConfigHelperService configHelperService;
 
-	/** Helper class to track rework calculation */
-	private static class ReworkCalculation {
-		private int totalChanges = 0;
-		private int reworkChanges = 0;
-
-		public void addTotalChanges(int changes) {
-			this.totalChanges += changes;
-		}
-
-		public void addRework(int rework) {
-			this.reworkChanges += rework;
-		}
-
-		public Double getPercentage() {
-			if (totalChanges == 0) {
-				return 0.0;
-			}
-			return ((double) reworkChanges / totalChanges) * 100;
-		}
-	}
-
 	@Builder
 	private record ToolDataContext(
 			Tool tool,
-			List<ScmCommits> commits,
+			PeriodRework rework,
 			Set<Assignee> assignees,
 			String dateLabel,
 			String projectName,
-			CustomDateRange periodRange,
 			Map<String, List<DataCount>> kpiTrendDataByGroup,
-			List<RepoToolValidationData> validationDataList,
-			Map<ScmCommits, LocalDateTime> commitTimestampMap) {}
+			List<RepoToolValidationData> validationDataList) {}
 
 	@Override
 	public String getQualifierType() {
@@ -177,7 +157,7 @@ public class ScmReworkRateServiceImpl
 		// Fetch commits from (current - dataPoints - 21 days) for reference data
 		CustomDateRange dateRange = KpiDataHelper.getStartAndEndDate(kpiRequest);
 		LocalDateTime extendedStartDate =
-				dateRange.getStartDate().atStartOfDay().minusDays(REWORK_DAYS_AGO);
+				dateRange.getStartDate().atStartOfDay().minusDays(ReworkRateEngine.REWORK_DAYS_AGO);
 		LocalDateTime endDateTime = dateRange.getEndDate().atTime(23, 59, 59);
 
 		CustomDateRange extendedDateRange = new CustomDateRange();
@@ -246,54 +226,43 @@ public class ScmReworkRateServiceImpl
 		Map<String, List<DataCount>> kpiTrendDataByGroup = new LinkedHashMap<>();
 		List<RepoToolValidationData> validationDataList = new ArrayList<>();
 
-		Map<ScmCommits, LocalDateTime> commitTimestampMap =
+		List<CustomDateRange> periodRanges = new ArrayList<>(dataPoints);
+		for (int i = 0; i < dataPoints; i++) {
+			periodRanges.add(KpiDataHelper.getStartAndEndDateTimeForDataFiltering(currentDate, duration));
+			currentDate = DeveloperKpiHelper.getNextRangeDate(duration, currentDate);
+		}
+
+		// rework of all the periods of a branch computed at once, sliding the 21 days window
+		List<ScmCommits> nonMergeCommits =
 				allCommits.stream()
-						.filter(commit -> commit.getCommitTimestamp() != null)
-						.collect(
-								Collectors.toMap(
-										commit -> commit,
-										commit -> DateUtil.convertMillisToLocalDateTime(commit.getCommitTimestamp())));
+						.filter(commit -> !Boolean.TRUE.equals(commit.getIsMergeCommit()))
+						.toList();
+		List<Tool> validTools = scmTools.stream().filter(DeveloperKpiHelper::isValidTool).toList();
+		List<List<PeriodRework>> toolReworks =
+				validTools.stream()
+						.map(
+								tool ->
+										ReworkRateEngine.calculate(
+												DeveloperKpiHelper.filterCommitsForBranch(nonMergeCommits, tool),
+												periodRanges))
+						.toList();
 
 		for (int i = 0; i < dataPoints; i++) {
-			CustomDateRange periodRange =
-					KpiDataHelper.getStartAndEndDateTimeForDataFiltering(currentDate, duration);
-			String dateLabel = KpiHelperService.getDateRange(periodRange, duration);
-
-			// Get commits for the extended period (including reference period)
-			LocalDateTime referenceStartDate = periodRange.getStartDateTime().minusDays(REWORK_DAYS_AGO);
-			final CustomDateRange extendedDateRange = new CustomDateRange();
-			extendedDateRange.setStartDateTime(referenceStartDate);
-			extendedDateRange.setEndDateTime(periodRange.getEndDateTime());
-
-			List<ScmCommits> periodCommits =
-					commitTimestampMap.entrySet().stream()
-							.filter(
-									entry ->
-											DateUtil.isWithinDateTimeRange(
-													entry.getValue(),
-													extendedDateRange.getStartDateTime(),
-													extendedDateRange.getEndDateTime()))
-							.map(Map.Entry::getKey)
-							.collect(Collectors.toList());
-
-			for (Tool tool : scmTools) {
+			String dateLabel = KpiHelperService.getDateRange(periodRanges.get(i), duration);
+			for (int toolIndex = 0; toolIndex < validTools.size(); toolIndex++) {
 				ToolDataContext toolContext =
 						ToolDataContext.builder()
-								.tool(tool)
-								.commits(periodCommits)
+								.tool(validTools.get(toolIndex))
+								.rework(toolReworks.get(toolIndex).get(i))
 								.assignees(assignees)
 								.dateLabel(dateLabel)
 								.projectName(projectLeafNode.getProjectFilter().getName())
-								.periodRange(periodRange)
 								.kpiTrendDataByGroup(kpiTrendDataByGroup)
 								.validationDataList(validationDataList)
-								.commitTimestampMap(commitTimestampMap)
 								.build();
 
 				processToolData(toolContext);
 			}
-
-			currentDate = DeveloperKpiHelper.getNextRangeDate(duration, currentDate);
 		}
 
 		mapTmp.get(projectLeafNode.getId()).setValue(kpiTrendDataByGroup);
@@ -301,59 +270,31 @@ public class ScmReworkRateServiceImpl
 	}
 
 	private void processToolData(ToolDataContext toolContext) {
-		if (!DeveloperKpiHelper.isValidTool(toolContext.tool())) {
-			return;
-		}
-
 		String branchName = getBranchSubFilter(toolContext.tool(), toolContext.projectName());
 		String overallKpiGroup = branchName + "#" + Constant.AGGREGATED_VALUE;
 
-		List<ScmCommits> commitsForBranch =
-				DeveloperKpiHelper.filterCommitsForBranch(toolContext.commits(), toolContext.tool());
-
-		List<ScmCommits> nonMergeCommits =
-				commitsForBranch.stream()
-						.filter(commit -> !Boolean.TRUE.equals(commit.getIsMergeCommit()))
-						.collect(Collectors.toList());
-
-		Double overallReworkRate =
-				calculateReworkRateForPeriod(
-						nonMergeCommits, toolContext.periodRange(), toolContext.commitTimestampMap());
-
 		DeveloperKpiHelper.setDataCount(
 				toolContext.projectName(),
 				toolContext.dateLabel(),
 				overallKpiGroup,
-				overallReworkRate,
+				toolContext.rework().overall().getPercentage(),
 				Map.of(),
 				toolContext.kpiTrendDataByGroup());
 
-		Map<String, List<ScmCommits>> userWiseCommits =
-				DeveloperKpiHelper.groupCommitsByUser(nonMergeCommits);
-
 		toolContext
 				.validationDataList()
-				.addAll(prepareUserValidationData(userWiseCommits, toolContext));
+				.addAll(prepareUserValidationData(toolContext.rework().byDeveloper(), toolContext));
 	}
 
 	private List<RepoToolValidationData> prepareUserValidationData(
-			Map<String, List<ScmCommits>> userWiseCommits, ToolDataContext toolContext) {
+			Map<String, Rework> userWiseRework, ToolDataContext toolContext) {
 
-		return userWiseCommits.entrySet().stream()
-				.filter(
-						entry ->
-								hasCommitsInPeriod(
-										entry.getValue(), toolContext.periodRange(), toolContext.commitTimestampMap()))
+		return userWiseRework.entrySet().stream()
 				.map(
 						entry -> {
-							String userEmail = entry.getKey();
-							List<ScmCommits> userCommits = entry.getValue();
-
 							String developerName =
-									DeveloperKpiHelper.getDeveloperName(userEmail, toolContext.assignees());
-							Double userReworkRate =
-									calculateReworkRateForPeriod(
-											userCommits, toolContext.periodRange(), toolContext.commitTimestampMap());
+									DeveloperKpiHelper.getDeveloperName(entry.getKey(), toolContext.assignees());
+							Double userReworkRate = entry.getValue().getPercentage();
 
 							String userKpiGroup =
 									getBranchSubFilter(toolContext.tool(), toolContext.projectName())
@@ -377,139 +318,6 @@ public class ScmReworkRateServiceImpl
 				.collect(Collectors.toList());
 	}
 
-	/**
-	 * Core rework calculation logic
-	 *
-	 * @param commits All commits (reference + analysis period)
-	 * @param periodRange Current analysis period
-	 * @param commitTimestampMap Map of commit timestamps
-	 * @return Rework rate percentage (higher = more rework)
-	 */
-	private Double calculateReworkRateForPeriod(
-			List<ScmCommits> commits,
-			CustomDateRange periodRange,
-			Map<ScmCommits, LocalDateTime> commitTimestampMap) {
-		if (CollectionUtils.isEmpty(commits)) {
-			return 0.0;
-		}
-
-		LocalDateTime periodStart = periodRange.getStartDateTime();
-
-		Map<Boolean, List<ScmCommits>> partitionedCommits =
-				commits.stream()
-						.filter(commitTimestampMap::containsKey)
-						.collect(
-								Collectors.partitioningBy(
-										commit -> commitTimestampMap.get(commit).isBefore(periodStart)));
-
-		List<ScmCommits> referenceCommits = partitionedCommits.get(true);
-		List<ScmCommits> analysisCommits = partitionedCommits.get(false);
-
-		// Step 2: Build reference pool (all lines changed in past 21 days)
-		Map<String, Set<Integer>> referencePool = createReferencePool(referenceCommits);
-
-		// Step 3: Calculate how many current changes are rework
-		return calculateReworkPercentage(analysisCommits, referencePool);
-	}
-
-	/**
-	 * Creates a map of files to line numbers that were changed in the reference period
-	 *
-	 * @param referenceCommits Commits from the past 21 days
-	 * @return Map of file path to set of changed line numbers
-	 */
-	private Map<String, Set<Integer>> createReferencePool(List<ScmCommits> referenceCommits) {
-		Map<String, Set<Integer>> referencePool = new HashMap<>();
-
-		if (CollectionUtils.isEmpty(referenceCommits)) {
-			return referencePool;
-		}
-
-		referenceCommits.stream()
-				.filter(commit -> CollectionUtils.isNotEmpty(commit.getFileChanges()))
-				.flatMap(commit -> commit.getFileChanges().stream())
-				.filter(this::isValidFileChange)
-				.forEach(
-						fileChange ->
-								referencePool
-										.computeIfAbsent(fileChange.getFilePath(), k -> new HashSet<>())
-										.addAll(fileChange.getChangedLineNumbers()));
-
-		return referencePool;
-	}
-
-	/**
-	 * Calculates the rework percentage for analysis period commits
-	 *
-	 * @param commits Analysis period commits
-	 * @param referencePool Lines changed in reference period
-	 * @return Percentage (higher = more rework)
-	 */
-	private Double calculateReworkPercentage(
-			List<ScmCommits> commits, Map<String, Set<Integer>> referencePool) {
-		if (CollectionUtils.isEmpty(commits)) {
-			return 0.0;
-		}
-
-		ReworkCalculation calculation = new ReworkCalculation();
-
-		commits.stream()
-				.filter(commit -> CollectionUtils.isNotEmpty(commit.getFileChanges()))
-				.flatMap(commit -> commit.getFileChanges().stream())
-				.filter(this::isValidFileChange)
-				.forEach(fileChange -> processFileChange(fileChange, referencePool, calculation));
-
-		return calculation.getPercentage();
-	}
-
-	private boolean isValidFileChange(ScmCommits.FileChange fileChange) {
-		return fileChange.getFilePath() != null
-				&& CollectionUtils.isNotEmpty(fileChange.getChangedLineNumbers());
-	}
-
-	/**
-	 * Processes a single file change to count rework
-	 *
-	 * @param fileChange Current file change
-	 * @param referencePool Reference pool of past changes
-	 * @param calculation Rework calculation tracker
-	 */
-	private void processFileChange(
-			ScmCommits.FileChange fileChange,
-			Map<String, Set<Integer>> referencePool,
-			ReworkCalculation calculation) {
-		String filePath = fileChange.getFilePath();
-		List<Integer> changedLines = fileChange.getChangedLineNumbers();
-		Set<Integer> referenceLines = referencePool.get(filePath);
-
-		int totalChanges = changedLines.size();
-		calculation.addTotalChanges(totalChanges);
-
-		if (CollectionUtils.isNotEmpty(referenceLines)) {
-			Set<Integer> changedLineSet = new HashSet<>(changedLines);
-			changedLineSet.retainAll(referenceLines);
-			int reworkCount = changedLineSet.size();
-
-			calculation.addRework(reworkCount);
-
-			// Add current changes to reference pool for cumulative tracking
-			referenceLines.addAll(changedLines);
-		} else {
-			// New file - no rework, add to reference pool
-			referencePool.put(filePath, new HashSet<>(changedLines));
-		}
-	}
-
-	private boolean hasCommitsInPeriod(
-			List<ScmCommits> commits,
-			CustomDateRange periodRange,
-			Map<ScmCommits, LocalDateTime> commitTimestampCache) {
-		LocalDateTime periodStart = periodRange.getStartDateTime();
-		return commits.stream()
-				.filter(commitTimestampCache::containsKey)
-				.anyMatch(commit -> !commitTimestampCache.get(commit).isBefore(periodStart));
-	}
-
 	private RepoToolValidationData createValidationData(
 			String projectName, Tool tool, String developerName, String dateLabel, Double reworkRate) {
 		RepoToolValidationData validationData = new RepoToolValidationData();
@@ -526,7 +334,7 @@ public class ScmReworkRateServiceImpl
 			String requestTrackerId,
 			List<RepoToolValidationData> validationDataList,
 			KpiElement kpiElement) {
-		if (requestTrackerId.toLowerCase().contains(KPISource.EXCEL.name().toLowerCase())) {
+		if (KpiExecutionContext.isCurrentExcelRequest(requestTrackerId)) {
 			List<KPIExcelData> excelData = new ArrayList<>();
 			KPIExcelUtility.populateReworkRateExcelData(validationDataList, excelData);
 			kpiElement.setExcelData(excelData);
@@ -24,10 +24,16 @@ import java.util.Arrays;
 import javax.validation.constraints.NotNull;
 
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.publicissapient.kpidashboard.apis.appsetting.service.KPIExcelDataService;
+import com.publicissapient.kpidashboard.apis.appsetting.service.KpiExcelExportFormat;
+import com.publicissapient.kpidashboard.apis.appsetting.service.KpiExcelExportService;
 import com.publicissapient.kpidashboard.apis.config.CustomApiConfig;
 import com.publicissapient.kpidashboard.apis.constant.Constant;
 import com.publicissapient.kpidashboard.apis.model.KPIExcelValidationDataResponse;
@@ -57,6 +63,7 @@ public class KPIExcelDataController {
 
 	private final KPIExcelDataService kpiExcelDataService;
 	private final CustomApiConfig customApiConfig;
+	private final KpiExcelExportService kpiExcelExportService;
 
 	/**
 	 * Fetches KPI validation data (story keys, defect keys) for a specific KPI id.
@@ -85,28 +92,96 @@ public class KPIExcelDataController {
 					@NotNull
 					@PathVariable("kpiID")
 					String kpiID) {
+		KPIExcelValidationDataResponse responseList =
+				fetchValidationKPIData(request, kpiRequest, kpiID);
+		return ResponseEntity.ok().body(responseList);
+	}
+
+	/**
+	 * Streams the KPI validation data rows as a CSV or XLSX file. The KPI is computed on the thread
+	 * writing the file, the KPIs streaming their rows hand them to the export instead of building
+	 * the drill-down in memory.
+	 *
+	 * @param kpiRequest the kpi request
+	 * @param kpiID the kpi id
+	 * @param format file format
+	 * @return file of the validation kpi data
+	 */
+	@Operation(
+			summary = "Export Validation KPI Excel Data",
+			description =
+					"Streams the validation KPI Excel data for the specified KPI ID as a CSV or XLSX file.")
+	@ApiResponses(
+			value = {
+				@ApiResponse(responseCode = "200", description = "Validation KPI Excel data file"),
+				@ApiResponse(responseCode = "500", description = "Internal server error")
+			})
+	@PostMapping(value = "/v1/kpi/{kpiID}/export")
+	public ResponseEntity<StreamingResponseBody> exportValidationKPIData(
+			HttpServletRequest request,
+			@Parameter(description = "KPI Request Object", required = true) @NotNull @RequestBody
+					KpiRequest kpiRequest,
+			@Parameter(description = "KPI ID", required = true, example = "kpi12345")
+					@NotNull
+					@PathVariable("kpiID")
+					String kpiID,
+			@Parameter(description = "File format", example = "XLSX")
+					@RequestParam(value = "format", defaultValue = "XLSX")
+					KpiExcelExportFormat format) {
+		Boolean isApiAuth = isApiAuth(request);
+		String validKpiId = logRequest(kpiRequest, kpiID);
+		String fileName = validKpiId + "." + format.getExtension();
+		StreamingResponseBody body =
+				out ->
+						kpiExcelExportService.export(
+								() ->
+										(KPIExcelValidationDataResponse)
+												kpiExcelDataService.processForExport(
+														validKpiId,
+														kpiRequest.getLevel(),
+														Arrays.asList(kpiRequest.getIds()),
+														kpiRequest,
+														isApiAuth),
+								format,
+								out);
+		return ResponseEntity.ok()
+				.contentType(MediaType.parseMediaType(format.getMediaType()))
+				.header(
+						HttpHeaders.CONTENT_DISPOSITION,
+						ContentDisposition.attachment().filename(fileName).build().toString())
+				.body(body);
+	}
+
+	private KPIExcelValidationDataResponse fetchValidationKPIData(
+			HttpServletRequest request, KpiRequest kpiRequest, String kpiID) {
+		Boolean isApiAuth = isApiAuth(request);
+		kpiID = logRequest(kpiRequest, kpiID);
+
+		return (KPIExcelValidationDataResponse)
+				kpiExcelDataService.process(
+						kpiID,
+						kpiRequest.getLevel(),
+						Arrays.asList(kpiRequest.getIds()),
+						null,
+						kpiRequest,
+						null,
+						isApiAuth);
+	}
+
+	private Boolean isApiAuth(HttpServletRequest request) {
 		String apiKey = customApiConfig.getxApiKey();
-		Boolean isApiAuth =
-				StringUtils.isNotEmpty(apiKey)
-						&& apiKey.equalsIgnoreCase(request.getHeader(Constant.TOKEN_KEY));
-		String kpiRequestStr = kpiRequest.toString();
-		kpiID = CommonUtils.handleCrossScriptingTaintedValue(kpiID);
-		kpiRequestStr = CommonUtils.handleCrossScriptingTaintedValue(kpiRequestStr);
+		return StringUtils.isNotEmpty(apiKey)
+				&& apiKey.equalsIgnoreCase(request.getHeader(Constant.TOKEN_KEY));
+	}
+
+	/** @return the kpi id, cleaned from cross scripting values */
+	private static String logRequest(KpiRequest kpiRequest, String kpiID) {
+		String validKpiId = CommonUtils.handleCrossScriptingTaintedValue(kpiID);
+		String kpiRequestStr = CommonUtils.handleCrossScriptingTaintedValue(kpiRequest.toString());
 		log.info(
 				"[KPI-EXCEL-DATA][]. Received Specific Excel KPI Data request for {} with kpiRequest {}",
-				kpiID,
+				validKpiId,
 				kpiRequestStr);
-
-		KPIExcelValidationDataResponse responseList =
-				(KPIExcelValidationDataResponse)
-						kpiExcelDataService.process(
-								kpiID,
-								kpiRequest.getLevel(),
-								Arrays.asList(kpiRequest.getIds()),
-								null,
-								kpiRequest,
-								null,
-								isApiAuth);
-		return ResponseEntity.ok().body(responseList);
+		return validKpiId;
 	}
 }
@@ -0,0 +1,43 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+
+
+package com.publicissapient.kpidashboard.apis.common.service;
+
+import java.util.function.Consumer;
+
+import com.publicissapient.kpidashboard.apis.model.CacheInvalidation;
+
+/**
+ * Carries the cache evictions between the API instances. Every message published is delivered to
+ * the subscribers of every instance, including the publishing one.
+ */
+public interface CacheInvalidationBus {
+
+	/**
+	 * Sends the eviction without waiting for its delivery, failures are logged.
+	 *
+	 * @param invalidation eviction made by this instance
+	 */
+	void publish(CacheInvalidation invalidation);
+
+	/**
+	 * @param subscriber called with every eviction published, on a thread of the bus
+	 */
+	void subscribe(Consumer<CacheInvalidation> subscriber);
+}
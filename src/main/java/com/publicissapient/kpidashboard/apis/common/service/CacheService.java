@@ -19,9 +19,15 @@ package com.publicissapient.kpidashboard.apis.common.service;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+
+import org.bson.types.ObjectId;
 
 import org.springframework.stereotype.Component;
 
+import com.publicissapient.kpidashboard.apis.filter.service.AccountHierarchyIndex;
+import com.publicissapient.kpidashboard.apis.model.AccountHierarchyData;
+import com.publicissapient.kpidashboard.apis.model.AccountHierarchyDataKanban;
 import com.publicissapient.kpidashboard.common.model.application.AdditionalFilterCategory;
 import com.publicissapient.kpidashboard.common.model.application.HierarchyLevel;
 import com.publicissapient.kpidashboard.common.model.application.ProjectHierarchy;
@@ -38,6 +44,14 @@ public interface CacheService {
 
 	void clearCache(String cacheName);
 
+	/**
+	 * Clears the cache of this instance only. For the evictions every instance makes by itself, the
+	 * evictions of {@link #clearCache(String)} are also published to the other instances.
+	 *
+	 * @param cacheName cache to clear
+	 */
+	void clearLocalCache(String cacheName);
+
 	void clearAllCache();
 
 	Object cacheAccountHierarchyData();
@@ -46,7 +60,27 @@ public interface CacheService {
 
 	Object cacheAccountHierarchyKanbanData();
 
-	void setIntoApplicationCache(String key, String value);
+	/**
+	 * Gets the index of the rows last loaded by {@link #cacheAccountHierarchyData()}.
+	 *
+	 * @return the index, null if the rows are not loaded yet
+	 */
+	AccountHierarchyIndex<AccountHierarchyData> getAccountHierarchyIndex();
+
+	/**
+	 * Gets the index of the rows last loaded by {@link #cacheAccountHierarchyKanbanData()}.
+	 *
+	 * @return the index, null if the rows are not loaded yet
+	 */
+	AccountHierarchyIndex<AccountHierarchyDataKanban> getAccountHierarchyKanbanIndex();
+
+	/**
+	 * Rebuilds the cached scrum and kanban account hierarchy rows of some projects, the rows of the
+	 * other projects are kept. Hierarchies not loaded yet are left to the next request.
+	 *
+	 * @param basicProjectConfigIds projects whose hierarchy changed, including removed projects
+	 */
+	void refreshAccountHierarchy(Set<ObjectId> basicProjectConfigIds);
 
 	/**
 	 * Stores the KPI data result. Cache key = key+requestOrigin+kpiSource. Given that none of them is
@@ -62,12 +96,42 @@ public interface CacheService {
 			String[] key, Object value, String kpiSource, Integer groupId, List<String> sprintIncluded);
 
 	/**
-	 * Gets data from cache based on key
+	 * Evicts the cached KPI responses of a source computed from the project, the responses of the
+	 * other projects stay cached.
 	 *
-	 * @param key
-	 * @return
+	 * @param basicProjectConfigId updated project
+	 * @param kpiSource source of the updated data
+	 */
+	void evictKpiCache(String basicProjectConfigId, String kpiSource);
+
+	/**
+	 * Evicts the cached KPI responses of every source computed from the project.
+	 *
+	 * @param basicProjectConfigId updated project
+	 */
+	void evictKpiCache(String basicProjectConfigId);
+
+	/**
+	 * Evicts the cached KPI responses of every source computed from the project from this instance
+	 * only, for the evictions every instance makes by itself.
+	 *
+	 * @param basicProjectConfigId updated project
 	 */
-	String getFromApplicationCache(String key);
+	void evictLocalKpiCache(String basicProjectConfigId);
+
+	/**
+	 * Builds the key under which {@link #setIntoApplicationCache(String[], Object, String, Integer,
+	 * List)} stores the KPI result of the same arguments. The key holds the version of the config
+	 * maps, a response computed before a config reload is not found with the new key.
+	 *
+	 * @param keyList ids of the requested nodes, sorted in place
+	 * @param kpiSource taken into account if not empty
+	 * @param groupId taken into account if not null
+	 * @param sprintIncluded sprintIncluded
+	 * @return the cache key
+	 */
+	String getKpiCacheKey(
+			String[] keyList, String kpiSource, Integer groupId, List<String> sprintIncluded);
 
 	/**
 	 * Gets from the cache. Key formation strategy is same as detailed in the setIntoApplicationCache
@@ -92,6 +156,27 @@ public interface CacheService {
 
 	Object cacheProjectToolConfigMapData();
 
+	/**
+	 * Stores the field mapping map last published by the config helper into the cache.
+	 *
+	 * @return the field mapping map
+	 */
+	Object updateCacheFieldMappingMapData();
+
+	/**
+	 * Stores the tool config map last published by the config helper into the cache.
+	 *
+	 * @return the tool config map
+	 */
+	Object updateCacheToolConfigMapData();
+
+	/**
+	 * Stores the project tool config map last published by the config helper into the cache.
+	 *
+	 * @return the project tool config map
+	 */
+	Object updateCacheProjectToolConfigMapData();
+
 	List<HierarchyLevel> getFullHierarchyLevel();
 
 	List<HierarchyLevel> getFullKanbanHierarchyLevel();
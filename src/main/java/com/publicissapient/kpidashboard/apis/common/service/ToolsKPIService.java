@@ -32,6 +32,7 @@ import com.publicissapient.kpidashboard.apis.forecast.ForecastingManager;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.Node;
+import com.publicissapient.kpidashboard.apis.model.ProjectFilter;
 import com.publicissapient.kpidashboard.apis.recommendations.service.RecommendationService;
 import com.publicissapient.kpidashboard.apis.util.AggregationUtils;
 import com.publicissapient.kpidashboard.common.constant.CommonConstant;
@@ -96,7 +97,9 @@ public abstract class ToolsKPIService<R, S> {
 	/**
 	 * Calculates the aggregated value for the nodes in the bottom-up fashion. nodeWiseKPIValue is
 	 * added explicitly to contain the values of each node to serve the excel data API's and other use
-	 * case where all the node details needed.
+	 * case where all the node details needed. Node values are read from and written to the {@link
+	 * com.publicissapient.kpidashboard.apis.model.NodeValueOverlay} of the running KPI, the tree
+	 * itself is shared between the KPIs of a request.
 	 *
 	 * @param node node
 	 * @param nodeWiseKPIValue nodeWiseKPIValue
@@ -705,7 +708,9 @@ public abstract class ToolsKPIService<R, S> {
 					// Add forecasts if configured
 					Optional.ofNullable(forecastingManager)
 							.ifPresent(
-									manager -> manager.addForecastsToDataCount(maturityDataCount, dataCounts, kpiId));
+									manager ->
+											manager.addForecastsToDataCount(
+													maturityDataCount, dataCounts, kpiId, basicProjectConfigId(node)));
 					setKpiBenchmarkValues(maturityDataCount, kpiId, CommonConstant.OVERALL);
 
 					trendValues.add(maturityDataCount);
@@ -771,7 +776,9 @@ public abstract class ToolsKPIService<R, S> {
 					// Add forecasts if configured
 					Optional.ofNullable(forecastingManager)
 							.ifPresent(
-									manager -> manager.addForecastsToDataCount(maturityDataCount, dataCounts, kpiId));
+									manager ->
+											manager.addForecastsToDataCount(
+													maturityDataCount, dataCounts, kpiId, basicProjectConfigId(node)));
 
 					trendValues.add(maturityDataCount);
 				}
@@ -858,7 +865,8 @@ public abstract class ToolsKPIService<R, S> {
 								Optional.ofNullable(forecastingManager)
 										.ifPresent(
 												manager ->
-														manager.addForecastsToDataCount(maturityDataCount, value, kpiId));
+														manager.addForecastsToDataCount(
+																maturityDataCount, value, kpiId, basicProjectConfigId(node)));
 
 								trendValues.add(maturityDataCount);
 								trendMap.computeIfAbsent(key, k -> new ArrayList<>()).addAll(trendValues);
@@ -1006,7 +1014,8 @@ public abstract class ToolsKPIService<R, S> {
 								Optional.ofNullable(forecastingManager)
 										.ifPresent(
 												manager ->
-														manager.addForecastsToDataCount(maturityDataCount, value, kpiId));
+														manager.addForecastsToDataCount(
+																maturityDataCount, value, kpiId, basicProjectConfigId(node)));
 								trendValues.add(maturityDataCount);
 								trendMap.computeIfAbsent(key, k -> new ArrayList<>()).addAll(trendValues);
 							});
@@ -1639,4 +1648,15 @@ public abstract class ToolsKPIService<R, S> {
 			}
 		}
 	}
+
+	/**
+	 * @param node node of a trend
+	 * @return basic config id of the project of the node, null for the nodes above the projects
+	 */
+	private static String basicProjectConfigId(Node node) {
+		ProjectFilter projectFilter = node.getProjectFilter();
+		return null == projectFilter || null == projectFilter.getBasicProjectConfigId()
+				? null
+				: projectFilter.getBasicProjectConfigId().toHexString();
+	}
 }
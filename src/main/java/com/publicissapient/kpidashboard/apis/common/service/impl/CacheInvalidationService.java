@@ -0,0 +1,167 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+
+
+package com.publicissapient.kpidashboard.apis.common.service.impl;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+import com.publicissapient.kpidashboard.apis.common.service.CacheInvalidationBus;
+import com.publicissapient.kpidashboard.apis.model.CacheInvalidation;
+import com.publicissapient.kpidashboard.apis.model.CacheInvalidation.Scope;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps the caches of the API instances coherent: the evictions made by this instance are
+ * published on the {@link CacheInvalidationBus}, the ones made by the other instances are applied
+ * to the local caches.
+ */
+@Service
+@Slf4j
+public class CacheInvalidationService {
+
+	private final String instanceId = UUID.randomUUID().toString();
+	private final CacheInvalidationBus cacheInvalidationBus;
+	private final CacheManager cacheManager;
+	private final KpiCacheDependencyIndex kpiCacheDependencyIndex;
+	private final MeterRegistry meterRegistry;
+	private final Timer lagTimer;
+	private final Counter unsupportedCounter;
+
+	public CacheInvalidationService(
+			CacheInvalidationBus cacheInvalidationBus,
+			@Qualifier("cacheManager") CacheManager cacheManager,
+			KpiCacheDependencyIndex kpiCacheDependencyIndex,
+			MeterRegistry meterRegistry) {
+		this.cacheInvalidationBus = cacheInvalidationBus;
+		this.cacheManager = cacheManager;
+		this.kpiCacheDependencyIndex = kpiCacheDependencyIndex;
+		this.meterRegistry = meterRegistry;
+		this.lagTimer =
+				Timer.builder("cache.invalidation.lag")
+						.description("Time between an eviction and its application by another instance")
+						.register(meterRegistry);
+		this.unsupportedCounter =
+				Counter.builder("cache.invalidation.unsupported")
+						.description("Cache invalidations of a later version, not applied")
+						.register(meterRegistry);
+	}
+
+	@PostConstruct
+	public void subscribe() {
+		cacheInvalidationBus.subscribe(this::apply);
+	}
+
+	/**
+	 * @param cacheName cache cleared by this instance
+	 */
+	public void publishCacheCleared(String cacheName) {
+		publish(new CacheInvalidation(0, null, 0, Scope.CACHE, List.of(cacheName), null, null));
+	}
+
+	/**
+	 * @param cacheName cache of the entry
+	 * @param key key of the entry evicted by this instance
+	 */
+	public void publishKeyEvicted(String cacheName, String key) {
+		publish(new CacheInvalidation(0, null, 0, Scope.KEY, List.of(cacheName), key, null));
+	}
+
+	/**
+	 * @param cacheNames KPI caches the responses of the project were evicted from
+	 * @param basicProjectConfigId updated project
+	 */
+	public void publishProjectEvicted(Collection<String> cacheNames, String basicProjectConfigId) {
+		publish(
+				new CacheInvalidation(
+						0, null, 0, Scope.PROJECT, List.copyOf(cacheNames), null, basicProjectConfigId));
+	}
+
+	private void publish(CacheInvalidation invalidation) {
+		invalidation.setVersion(CacheInvalidation.CURRENT_VERSION);
+		invalidation.setSourceInstanceId(instanceId);
+		invalidation.setSentAt(System.currentTimeMillis());
+		cacheInvalidationBus.publish(invalidation);
+		meterRegistry
+				.counter("cache.invalidation.published", "scope", scopeTag(invalidation))
+				.increment();
+	}
+
+	/**
+	 * Applies the eviction of another instance to the local caches, without publishing it again.
+	 *
+	 * @param invalidation eviction received from the bus
+	 */
+	void apply(CacheInvalidation invalidation) {
+		if (instanceId.equals(invalidation.getSourceInstanceId())) {
+			return;
+		}
+		if (invalidation.getVersion() > CacheInvalidation.CURRENT_VERSION
+				|| null == invalidation.getScope()
+				|| null == invalidation.getCacheNames()) {
+			unsupportedCounter.increment();
+			log.warn("Cache invalidation {} not supported by this instance", invalidation);
+			return;
+		}
+		switch (invalidation.getScope()) {
+			case CACHE -> invalidation.getCacheNames().forEach(this::clear);
+			case KEY -> invalidation.getCacheNames().forEach(name -> evict(name, invalidation.getKey()));
+			case PROJECT ->
+					kpiCacheDependencyIndex.evict(
+							invalidation.getCacheNames(), invalidation.getBasicProjectConfigId());
+		}
+		lagTimer.record(
+				Math.max(0L, System.currentTimeMillis() - invalidation.getSentAt()), TimeUnit.MILLISECONDS);
+		meterRegistry
+				.counter("cache.invalidation.applied", "scope", scopeTag(invalidation))
+				.increment();
+		log.debug("Applied cache invalidation {}", invalidation);
+	}
+
+	private void clear(String cacheName) {
+		Cache cache = cacheManager.getCache(cacheName);
+		if (null != cache) {
+			cache.clear();
+		}
+		kpiCacheDependencyIndex.clear(cacheName);
+	}
+
+	private void evict(String cacheName, String key) {
+		Cache cache = cacheManager.getCache(cacheName);
+		if (null != cache && null != key) {
+			cache.evict(key);
+		}
+	}
+
+	private static String scopeTag(CacheInvalidation invalidation) {
+		return invalidation.getScope().name().toLowerCase();
+	}
+}
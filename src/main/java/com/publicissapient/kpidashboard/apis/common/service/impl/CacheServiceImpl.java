@@ -21,28 +21,33 @@ package com.publicissapient.kpidashboard.apis.common.service.impl;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.apache.commons.collections4.CollectionUtils;
+import org.bson.types.ObjectId;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.cache.interceptor.SimpleKey;
 import org.springframework.stereotype.Service;
 
 import com.publicissapient.kpidashboard.apis.ai.service.prompt.PromptDetailsService;
 import com.publicissapient.kpidashboard.apis.appsetting.service.ConfigHelperService;
 import com.publicissapient.kpidashboard.apis.common.service.CacheService;
 import com.publicissapient.kpidashboard.apis.constant.Constant;
+import com.publicissapient.kpidashboard.apis.filter.service.AccountHierarchyIndex;
 import com.publicissapient.kpidashboard.apis.filter.service.AccountHierarchyServiceImpl;
 import com.publicissapient.kpidashboard.apis.filter.service.AccountHierarchyServiceKanbanImpl;
 import com.publicissapient.kpidashboard.apis.model.AccountHierarchyData;
+import com.publicissapient.kpidashboard.apis.model.AccountHierarchyDataKanban;
 import com.publicissapient.kpidashboard.apis.util.CommonUtils;
 import com.publicissapient.kpidashboard.common.constant.CommonConstant;
 import com.publicissapient.kpidashboard.common.model.application.AdditionalFilterCategory;
@@ -56,6 +61,7 @@ import com.publicissapient.kpidashboard.common.repository.kpibenchmark.KpiBenchm
 import com.publicissapient.kpidashboard.common.service.HierarchyLevelService;
 import com.publicissapient.kpidashboard.common.service.ProjectHierarchyService;
 
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -67,6 +73,15 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class CacheServiceImpl implements CacheService {
 
+	private static final List<String> KPI_CACHES =
+			List.of(
+					CommonConstant.JIRA_KPI_CACHE,
+					CommonConstant.JIRAKANBAN_KPI_CACHE,
+					CommonConstant.SONAR_KPI_CACHE,
+					CommonConstant.BITBUCKET_KPI_CACHE,
+					CommonConstant.TESTING_KPI_CACHE,
+					CommonConstant.JENKINS_KPI_CACHE);
+
 	@Autowired private HierarchyLevelService hierarchyLevelService;
 	@Autowired private AccountHierarchyServiceImpl accountHierarchyService;
 	@Autowired private AccountHierarchyServiceKanbanImpl accountHierarchyServiceKanban;
@@ -80,17 +95,53 @@ public class CacheServiceImpl implements CacheService {
 	@Autowired private ProjectHierarchyService projectHierarchyService;
 	@Autowired private PromptDetailsService promptDetailsService;
 	@Autowired private KpiBenchmarkValuesRepository kpiBenchmarkValuesRepository;
+	@Autowired private KpiCacheDependencyIndex kpiCacheDependencyIndex;
+	@Autowired private CacheInvalidationService cacheInvalidationService;
 
 	List<AccountHierarchyData> accountHierarchyDataList;
+	private volatile AccountHierarchyIndex<AccountHierarchyData> accountHierarchyIndex;
+	private volatile AccountHierarchyIndex<AccountHierarchyDataKanban> accountHierarchyKanbanIndex;
+
+	/**
+	 * The KPI responses kept on disk by the previous run are not in the dependency index, they are
+	 * recorded as depending on any project so that the update of a project evicts them, including the
+	 * updates published while the instance was down, which the invalidation bus replays once started.
+	 */
+	@PostConstruct
+	public void restoreKpiCacheDependencies() {
+		for (String cacheName : KPI_CACHES) {
+			Cache cache = cacheManager.getCache(cacheName);
+			if (null != cache && cache.getNativeCache() instanceof javax.cache.Cache<?, ?> jCache) {
+				try {
+					int restored = 0;
+					for (javax.cache.Cache.Entry<?, ?> entry : jCache) {
+						kpiCacheDependencyIndex.record(cacheName, entry.getKey(), Set.of());
+						restored++;
+					}
+					log.info("{} cached KPI responses restored in {}", restored, cacheName);
+				} catch (RuntimeException e) {
+					log.warn("Cached KPI responses of {} are not readable, clearing them", cacheName, e);
+					clearCache(cacheName);
+				}
+			}
+		}
+	}
 
 	@Override
 	public void clearCache(String cacheName) {
+		clearLocalCache(cacheName);
+		cacheInvalidationService.publishCacheCleared(cacheName);
+	}
+
+	@Override
+	public void clearLocalCache(String cacheName) {
 		Cache cache = cacheManager.getCache(cacheName);
 		if (cache != null) {
 			cache.clear();
 			cache.evict(cacheName);
 			log.info("Clearing Cache ==>> {}", cacheName);
 		}
+		kpiCacheDependencyIndex.clear(cacheName);
 	}
 
 	@Override
@@ -103,6 +154,7 @@ public class CacheServiceImpl implements CacheService {
 	@Override
 	public Object cacheAccountHierarchyData() {
 		accountHierarchyDataList = accountHierarchyService.createHierarchyData();
+		accountHierarchyIndex = AccountHierarchyIndex.ofScrum(accountHierarchyDataList);
 		return accountHierarchyDataList;
 	}
 
@@ -123,7 +175,70 @@ public class CacheServiceImpl implements CacheService {
 	@Cacheable(CommonConstant.CACHE_ACCOUNT_HIERARCHY_KANBAN)
 	@Override
 	public Object cacheAccountHierarchyKanbanData() {
-		return accountHierarchyServiceKanban.createHierarchyData();
+		List<AccountHierarchyDataKanban> accountHierarchyDataKanbanList =
+				accountHierarchyServiceKanban.createHierarchyData();
+		accountHierarchyKanbanIndex = AccountHierarchyIndex.ofKanban(accountHierarchyDataKanbanList);
+		return accountHierarchyDataKanbanList;
+	}
+
+	@Override
+	public AccountHierarchyIndex<AccountHierarchyData> getAccountHierarchyIndex() {
+		return accountHierarchyIndex;
+	}
+
+	@Override
+	public AccountHierarchyIndex<AccountHierarchyDataKanban> getAccountHierarchyKanbanIndex() {
+		return accountHierarchyKanbanIndex;
+	}
+
+	@Override
+	public synchronized void refreshAccountHierarchy(Set<ObjectId> basicProjectConfigIds) {
+		AccountHierarchyIndex<AccountHierarchyData> scrumIndex =
+				withProjectRows(
+						CommonConstant.CACHE_ACCOUNT_HIERARCHY,
+						accountHierarchyIndex,
+						basicProjectConfigIds,
+						accountHierarchyService::createHierarchyData);
+		if (scrumIndex != accountHierarchyIndex) {
+			accountHierarchyDataList = scrumIndex.getRows();
+			accountHierarchyIndex = scrumIndex;
+			// the sprint rows are filtered from the scrum rows
+			clearLocalCache(CommonConstant.CACHE_SPRINT_HIERARCHY);
+		}
+		accountHierarchyKanbanIndex =
+				withProjectRows(
+						CommonConstant.CACHE_ACCOUNT_HIERARCHY_KANBAN,
+						accountHierarchyKanbanIndex,
+						basicProjectConfigIds,
+						accountHierarchyServiceKanban::createHierarchyData);
+		log.info("Account hierarchy rows of {} projects refreshed", basicProjectConfigIds.size());
+	}
+
+	/**
+	 * @return the index of the cached rows with the rows of the projects rebuilt, the same index if
+	 *     the rows are not cached or were not loaded with that index, in which case they are evicted
+	 */
+	private <T> AccountHierarchyIndex<T> withProjectRows(
+			String cacheName,
+			AccountHierarchyIndex<T> index,
+			Set<ObjectId> basicProjectConfigIds,
+			Function<Set<ObjectId>, List<T>> createHierarchyData) {
+		Cache cache = cacheManager.getCache(cacheName);
+		Cache.ValueWrapper cachedRows = null == cache ? null : cache.get(SimpleKey.EMPTY);
+		if (null == cachedRows) {
+			return index;
+		}
+		if (null == index
+				|| !(cachedRows.get() instanceof List<?> rows)
+				|| !index.isIndexOf(rows)) {
+			clearLocalCache(cacheName);
+			return index;
+		}
+		AccountHierarchyIndex<T> updatedIndex =
+				index.withProjectRows(
+						basicProjectConfigIds, createHierarchyData.apply(basicProjectConfigIds));
+		cache.put(SimpleKey.EMPTY, updatedIndex.getRows());
+		return updatedIndex;
 	}
 
 	@Cacheable(CommonConstant.CACHE_PROJECT_CONFIG_MAP)
@@ -211,13 +326,25 @@ public class CacheServiceImpl implements CacheService {
 		return configHelperService.getConfigMapData(CommonConstant.CACHE_PROJECT_TOOL_CONFIG_MAP);
 	}
 
+	@CachePut(CommonConstant.CACHE_FIELD_MAPPING_MAP)
 	@Override
-	public void setIntoApplicationCache(String key, String value) {
-		Cache cache =
-				cacheManager.getCache(CommonUtils.getCacheName(Constant.KPI_REQUEST_TRACKER_ID_KEY));
-		if (null != cache) {
-			cache.put(key, value);
-		}
+	public Object updateCacheFieldMappingMapData() {
+		log.info("updating FieldMapping Cache from published config");
+		return configHelperService.getConfigMapData(CommonConstant.CACHE_FIELD_MAPPING_MAP);
+	}
+
+	@CachePut(CommonConstant.CACHE_TOOL_CONFIG_MAP)
+	@Override
+	public Object updateCacheToolConfigMapData() {
+		log.info("updating Tool Config Cache from published config");
+		return configHelperService.getConfigMapData(CommonConstant.CACHE_TOOL_CONFIG_MAP);
+	}
+
+	@CachePut(CommonConstant.CACHE_PROJECT_TOOL_CONFIG_MAP)
+	@Override
+	public Object updateCacheProjectToolConfigMapData() {
+		log.info("updating project Tool Config Cache from published config");
+		return configHelperService.getConfigMapData(CommonConstant.CACHE_PROJECT_TOOL_CONFIG_MAP);
 	}
 
 	@Override
@@ -228,40 +355,28 @@ public class CacheServiceImpl implements CacheService {
 			Integer groupId,
 			List<String> sprintIncluded) {
 
-		Arrays.sort(keyList);
-		Cache cache = cacheManager.getCache(CommonUtils.getCacheName(kpiSource));
+		String cacheName = CommonUtils.getCacheName(kpiSource);
+		Cache cache = cacheManager.getCache(cacheName);
 		if (null != cache) {
-			StringBuilder keyBuilder = new StringBuilder();
-
-			for (String string : keyList) {
-				keyBuilder.append(string);
+			String key = getKpiCacheKey(keyList, kpiSource, groupId, sprintIncluded);
+			try {
+				cache.put(key, value);
+			} catch (RuntimeException e) {
+				log.warn("KPI response {} cannot be cached", key, e);
+				return;
 			}
-			if (!kpiSource.isEmpty()) {
-				keyBuilder.append(kpiSource);
-			}
-			if (groupId != null) {
-				keyBuilder.append(groupId.toString());
-			}
-			if (CollectionUtils.isNotEmpty(sprintIncluded)) {
-				sprintIncluded =
-						sprintIncluded.stream().map(String::toLowerCase).sorted().collect(Collectors.toList());
-				String sprintKey = String.join("", sprintIncluded);
-				keyBuilder.append(sprintKey);
-			}
-			cache.put(keyBuilder.toString(), value);
+			kpiCacheDependencyIndex.record(cacheName, key, getBasicProjectConfigIds(keyList));
 		}
 	}
 
 	@Override
-	public Object getFromApplicationCache(
+	public String getKpiCacheKey(
 			String[] keyList, String kpiSource, Integer groupId, List<String> sprintIncluded) {
-
 		Arrays.sort(keyList);
 		StringBuilder keyBuilder = new StringBuilder();
 		for (String string : keyList) {
 			keyBuilder.append(string);
 		}
-
 		if (!kpiSource.isEmpty()) {
 			keyBuilder.append(kpiSource);
 		}
@@ -269,36 +384,70 @@ public class CacheServiceImpl implements CacheService {
 			keyBuilder.append(groupId);
 		}
 		if (CollectionUtils.isNotEmpty(sprintIncluded)) {
-			sprintIncluded =
-					sprintIncluded.stream().map(String::toLowerCase).sorted().collect(Collectors.toList());
-			String sprintKey = String.join("", sprintIncluded);
-			keyBuilder.append(sprintKey);
+			keyBuilder.append(
+					sprintIncluded.stream().map(String::toLowerCase).sorted().collect(Collectors.joining()));
 		}
-		Cache cache = cacheManager.getCache(CommonUtils.getCacheName(kpiSource));
-		if (null == cache || null == cache.get(keyBuilder.toString())) {
-			return null;
+		// a response computed from older config maps is not read after a config reload
+		keyBuilder.append('@').append(configHelperService.getConfigVersion());
+		return keyBuilder.toString();
+	}
+
+	/**
+	 * The keys hold the ids of the requested nodes, the projects of a response are the projects of
+	 * the account hierarchy rows containing any of them.
+	 */
+	private Set<String> getBasicProjectConfigIds(String[] keyList) {
+		List<String> nodeIds = Arrays.asList(keyList);
+		Set<String> basicProjectConfigIds = new HashSet<>();
+		AccountHierarchyIndex<AccountHierarchyData> scrumIndex = accountHierarchyIndex;
+		if (null != scrumIndex) {
+			basicProjectConfigIds.addAll(scrumIndex.getBasicProjectConfigIds(nodeIds));
 		}
-		SimpleValueWrapper s = (SimpleValueWrapper) cache.get(keyBuilder.toString());
-		if (s != null) {
-			return s.get();
+		AccountHierarchyIndex<AccountHierarchyDataKanban> kanbanIndex = accountHierarchyKanbanIndex;
+		if (null != kanbanIndex) {
+			basicProjectConfigIds.addAll(kanbanIndex.getBasicProjectConfigIds(nodeIds));
 		}
-		return null;
+		return basicProjectConfigIds;
 	}
 
 	@Override
-	public String getFromApplicationCache(String key) {
-		Cache cache =
-				cacheManager.getCache(CommonUtils.getCacheName(Constant.KPI_REQUEST_TRACKER_ID_KEY));
-		if (null != cache) {
-			SimpleValueWrapper s = (SimpleValueWrapper) cache.get(key);
-			if (null != s) {
-				Object s1 = s.get();
-				if (s1 != null) {
-					return s1.toString();
-				}
-			}
+	public void evictKpiCache(String basicProjectConfigId, String kpiSource) {
+		String cacheName = CommonUtils.getCacheName(kpiSource);
+		if (null != cacheName) {
+			kpiCacheDependencyIndex.evict(List.of(cacheName), basicProjectConfigId);
+			cacheInvalidationService.publishProjectEvicted(List.of(cacheName), basicProjectConfigId);
+		}
+	}
+
+	@Override
+	public void evictKpiCache(String basicProjectConfigId) {
+		evictLocalKpiCache(basicProjectConfigId);
+		cacheInvalidationService.publishProjectEvicted(KPI_CACHES, basicProjectConfigId);
+	}
+
+	@Override
+	public void evictLocalKpiCache(String basicProjectConfigId) {
+		kpiCacheDependencyIndex.evict(KPI_CACHES, basicProjectConfigId);
+	}
+
+	@Override
+	public Object getFromApplicationCache(
+			String[] keyList, String kpiSource, Integer groupId, List<String> sprintIncluded) {
+
+		String key = getKpiCacheKey(keyList, kpiSource, groupId, sprintIncluded);
+		Cache cache = cacheManager.getCache(CommonUtils.getCacheName(kpiSource));
+		if (null == cache) {
+			return null;
+		}
+		try {
+			Cache.ValueWrapper s = cache.get(key);
+			return null == s ? null : s.get();
+		} catch (RuntimeException e) {
+			// a response written by an older version, computed again
+			log.warn("Cached KPI response {} is not readable, evicting it", key, e);
+			cache.evict(key);
+			return null;
 		}
-		return "";
 	}
 
 	@Cacheable(Constant.CACHE_HIERARCHY_LEVEL)
@@ -34,6 +34,7 @@ import com.google.common.reflect.TypeToken;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
 import com.publicissapient.kpidashboard.apis.abac.ProjectAccessManager;
+import com.publicissapient.kpidashboard.apis.abac.UserAuthorizationContextService;
 import com.publicissapient.kpidashboard.apis.auth.model.Authentication;
 import com.publicissapient.kpidashboard.apis.auth.model.UserInfoPrincipal;
 import com.publicissapient.kpidashboard.apis.auth.repository.AuthenticationRepository;
@@ -80,6 +81,7 @@ public class CustomAnalyticsServiceImpl implements CustomAnalyticsService {
 	private final UserInfoRepository userInfoRepository;
 	private final AuthenticationRepository authenticationRepository;
 	private final ProjectAccessManager projectAccessManager;
+	private final UserAuthorizationContextService userAuthorizationContextService;
 	private final UsersSessionService usersSessionService;
 
 	private final UserTokenReopository userTokenReopository;
@@ -202,6 +204,7 @@ public class CustomAnalyticsServiceImpl implements CustomAnalyticsService {
 			centralUserInfo.setAuthorities(Collections.singletonList(Constant.ROLE_SUPERADMIN));
 		}
 		userInfoRepository.save(centralUserInfo);
+		userAuthorizationContextService.evictAuthorizationContext(username);
 	}
 
 	@Override
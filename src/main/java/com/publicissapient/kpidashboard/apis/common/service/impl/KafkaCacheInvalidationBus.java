@@ -0,0 +1,251 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+
+
+package com.publicissapient.kpidashboard.apis.common.service.impl;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.KafkaMessageListenerContainer;
+import org.springframework.kafka.listener.MessageListener;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.publicissapient.kpidashboard.apis.common.service.CacheInvalidationBus;
+import com.publicissapient.kpidashboard.apis.model.CacheInvalidation;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Broadcasts the evictions on a kafka topic. Every instance reads the topic with a consumer group
+ * of its own, named after the id of its KPI cache disk tier: on a restart the instance resumes from
+ * the offsets it committed and applies the evictions made while it was down to the responses
+ * restored from disk. A new group, whose disk tier is empty, starts from the latest offset.
+ * Evictions are idempotent, the messages are not keyed and may be applied in any order.
+ *
+ * <p>The bus is started once every bean is initialized, so that the replayed evictions find the
+ * restored responses in the dependency index, and before the web server, which waits for the
+ * replay up to a timeout.
+ */
+@Slf4j
+public class KafkaCacheInvalidationBus implements CacheInvalidationBus, SmartLifecycle {
+
+	/** started before the web server, which starts in a later phase */
+	private static final int PHASE = 0;
+
+	private static final long REPLAY_POLL_MILLIS = 100L;
+
+	private final KafkaTemplate<String, String> kafkaTemplate;
+	private final ConsumerFactory<String, String> consumerFactory;
+	private final String topic;
+	private final String groupId;
+	private final long replayTimeoutMillis;
+	private final ObjectMapper objectMapper =
+			new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+	private final List<Consumer<CacheInvalidation>> subscribers = new CopyOnWriteArrayList<>();
+	private final KafkaMessageListenerContainer<String, String> listenerContainer;
+	private final Map<TopicPartition, Long> receivedOffsets = new ConcurrentHashMap<>();
+	private final Counter publishFailureCounter;
+	private final Counter receiveFailureCounter;
+
+	/**
+	 * @param kafkaTemplate template sending the evictions
+	 * @param consumerFactory factory of the consumer reading the evictions
+	 * @param topic topic of the evictions
+	 * @param instanceId id of the KPI cache disk tier of the instance, kept across restarts
+	 * @param replayTimeoutMillis time the start waits for the evictions missed while down
+	 * @param meterRegistry meter registry
+	 */
+	public KafkaCacheInvalidationBus(
+			KafkaTemplate<String, String> kafkaTemplate,
+			ConsumerFactory<String, String> consumerFactory,
+			String topic,
+			String instanceId,
+			long replayTimeoutMillis,
+			MeterRegistry meterRegistry) {
+		this.kafkaTemplate = kafkaTemplate;
+		this.consumerFactory = consumerFactory;
+		this.topic = topic;
+		this.groupId = topic + "-" + instanceId;
+		this.replayTimeoutMillis = replayTimeoutMillis;
+		ContainerProperties containerProperties = new ContainerProperties(topic);
+		containerProperties.setGroupId(groupId);
+		Properties consumerProperties = new Properties();
+		consumerProperties.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest");
+		containerProperties.setKafkaConsumerProperties(consumerProperties);
+		containerProperties.setMessageListener((MessageListener<String, String>) this::onMessage);
+		this.listenerContainer =
+				new KafkaMessageListenerContainer<>(consumerFactory, containerProperties);
+		this.publishFailureCounter = failureCounter(meterRegistry, "publish");
+		this.receiveFailureCounter = failureCounter(meterRegistry, "receive");
+	}
+
+	@Override
+	public void start() {
+		Map<TopicPartition, Long> missedOffsets = missedOffsets();
+		listenerContainer.start();
+		awaitReplay(missedOffsets);
+	}
+
+	@Override
+	public void stop() {
+		listenerContainer.stop();
+	}
+
+	@Override
+	public boolean isRunning() {
+		return listenerContainer.isRunning();
+	}
+
+	@Override
+	public int getPhase() {
+		return PHASE;
+	}
+
+	@Override
+	public void publish(CacheInvalidation invalidation) {
+		try {
+			kafkaTemplate
+					.send(topic, objectMapper.writeValueAsString(invalidation))
+					.whenComplete(
+							(result, e) -> {
+								if (null != e) {
+									publishFailureCounter.increment();
+									log.error("Cache invalidation {} not sent to {}", invalidation, topic, e);
+								}
+							});
+		} catch (JsonProcessingException | RuntimeException e) {
+			publishFailureCounter.increment();
+			log.error("Cache invalidation {} not sent to {}", invalidation, topic, e);
+		}
+	}
+
+	@Override
+	public void subscribe(Consumer<CacheInvalidation> subscriber) {
+		subscribers.add(subscriber);
+	}
+
+	/**
+	 * @return end offset of the partitions the group committed an earlier offset of, the evictions
+	 *     published while the instance was down
+	 */
+	private Map<TopicPartition, Long> missedOffsets() {
+		Map<TopicPartition, Long> missedOffsets = new ConcurrentHashMap<>();
+		try (org.apache.kafka.clients.consumer.Consumer<String, String> consumer =
+				consumerFactory.createConsumer(groupId, null)) {
+			List<TopicPartition> partitions =
+					consumer.partitionsFor(topic).stream()
+							.map(partition -> new TopicPartition(topic, partition.partition()))
+							.toList();
+			Map<TopicPartition, OffsetAndMetadata> committed = consumer.committed(Set.copyOf(partitions));
+			consumer
+					.endOffsets(partitions)
+					.forEach(
+							(partition, endOffset) -> {
+								OffsetAndMetadata offset = committed.get(partition);
+								if (null != offset && offset.offset() < endOffset) {
+									missedOffsets.put(partition, endOffset);
+								}
+							});
+		} catch (RuntimeException e) {
+			log.warn("Offsets of {} not read, evictions missed while down not awaited", groupId, e);
+		}
+		return missedOffsets;
+	}
+
+	private void awaitReplay(Map<TopicPartition, Long> missedOffsets) {
+		long deadline = System.currentTimeMillis() + replayTimeoutMillis;
+		while (!isReplayed(missedOffsets)) {
+			if (System.currentTimeMillis() >= deadline) {
+				log.warn(
+						"Cache invalidations missed while down not all applied after {} ms",
+						replayTimeoutMillis);
+				return;
+			}
+			try {
+				Thread.sleep(REPLAY_POLL_MILLIS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+		if (!missedOffsets.isEmpty()) {
+			log.info("Cache invalidations missed while down applied from {}", missedOffsets.keySet());
+		}
+	}
+
+	private boolean isReplayed(Map<TopicPartition, Long> missedOffsets) {
+		return missedOffsets.entrySet().stream()
+				.allMatch(
+						missed -> receivedOffsets.getOrDefault(missed.getKey(), 0L) >= missed.getValue());
+	}
+
+	private void onMessage(ConsumerRecord<String, String> consumerRecord) {
+		try {
+			apply(consumerRecord);
+		} finally {
+			receivedOffsets.merge(
+					new TopicPartition(consumerRecord.topic(), consumerRecord.partition()),
+					consumerRecord.offset() + 1,
+					Math::max);
+		}
+	}
+
+	private void apply(ConsumerRecord<String, String> consumerRecord) {
+		CacheInvalidation invalidation;
+		try {
+			invalidation = objectMapper.readValue(consumerRecord.value(), CacheInvalidation.class);
+		} catch (JsonProcessingException e) {
+			receiveFailureCounter.increment();
+			log.warn("Unreadable cache invalidation at offset {}", consumerRecord.offset(), e);
+			return;
+		}
+		for (Consumer<CacheInvalidation> subscriber : subscribers) {
+			try {
+				subscriber.accept(invalidation);
+			} catch (RuntimeException e) {
+				receiveFailureCounter.increment();
+				log.error("Cache invalidation {} not applied", invalidation, e);
+			}
+		}
+	}
+
+	private static Counter failureCounter(MeterRegistry meterRegistry, String operation) {
+		return Counter.builder("cache.invalidation.failures")
+				.description("Cache invalidations not sent or not applied")
+				.tag("operation", operation)
+				.register(meterRegistry);
+	}
+}
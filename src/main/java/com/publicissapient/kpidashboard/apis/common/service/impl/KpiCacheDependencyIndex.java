@@ -0,0 +1,227 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+
+
+package com.publicissapient.kpidashboard.apis.common.service.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalNotification;
+import com.publicissapient.kpidashboard.apis.config.CustomApiConfig;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Reverse index of the cached KPI responses by the projects they were computed from, so that an
+ * update of a project evicts the responses of that project only instead of clearing the whole KPI
+ * cache of every tenant.
+ *
+ * <p>A response whose projects are not known depends on every project. The number of tracked
+ * responses is bounded, the oldest responses are evicted from their cache when the bound is
+ * reached so that no response outlives its dependencies.
+ */
+@Component
+@Slf4j
+public class KpiCacheDependencyIndex {
+
+	static final String ANY_PROJECT = "*";
+	private static final int DEFAULT_MAX_ENTRIES = 100_000;
+
+	private final CacheManager cacheManager;
+	/** cached response -> projects it depends on */
+	private final Cache<CachedResponse, Set<String>> dependencies;
+	/** cache name -> project id or {@link #ANY_PROJECT} -> cached responses of the project */
+	private final Map<String, Map<String, Set<Object>>> projectResponses = new HashMap<>();
+	private final List<EvictionListener> evictionListeners = new CopyOnWriteArrayList<>();
+	private final DistributionSummary evictionFanout;
+	private final Counter overflowCounter;
+
+	@Autowired
+	public KpiCacheDependencyIndex(
+			@Qualifier("cacheManager") CacheManager cacheManager,
+			CustomApiConfig customApiConfig,
+			MeterRegistry meterRegistry) {
+		this(cacheManager, customApiConfig.getKpiCacheDependencyMaxEntries(), meterRegistry);
+	}
+
+	/**
+	 * @param cacheManager manager of the KPI caches
+	 * @param maxEntries number of tracked responses
+	 * @param meterRegistry registry of the eviction metrics
+	 */
+	public KpiCacheDependencyIndex(
+			CacheManager cacheManager, int maxEntries, MeterRegistry meterRegistry) {
+		this.cacheManager = cacheManager;
+		this.dependencies =
+				CacheBuilder.newBuilder()
+						// updated under the index lock
+						.concurrencyLevel(1)
+						.maximumSize(maxEntries > 0 ? maxEntries : DEFAULT_MAX_ENTRIES)
+						.removalListener(this::onRemoval)
+						.build();
+		this.evictionFanout =
+				DistributionSummary.builder("kpi.cache.eviction.fanout")
+						.description("Cached KPI responses evicted by a project update")
+						.register(meterRegistry);
+		this.overflowCounter =
+				Counter.builder("kpi.cache.dependency.overflow")
+						.description("Cached KPI responses evicted because too many responses are tracked")
+						.register(meterRegistry);
+		Gauge.builder("kpi.cache.dependency.entries", dependencies, Cache::size)
+				.description("Cached KPI responses tracked by project")
+				.register(meterRegistry);
+	}
+
+	/**
+	 * Registers a listener notified of the project evictions and clears of the KPI caches, for the
+	 * data kept alongside the cached responses.
+	 *
+	 * @param listener listener to notify
+	 */
+	public void addEvictionListener(EvictionListener listener) {
+		evictionListeners.add(listener);
+	}
+
+	/**
+	 * Records the projects a cached response was computed from.
+	 *
+	 * @param cacheName cache holding the response
+	 * @param key key of the response
+	 * @param basicProjectConfigIds projects of the response, empty if not known
+	 */
+	public synchronized void record(
+			String cacheName, Object key, Collection<String> basicProjectConfigIds) {
+		CachedResponse response = new CachedResponse(cacheName, key);
+		unlink(response, dependencies.getIfPresent(response));
+		Set<String> projects =
+				basicProjectConfigIds.isEmpty() ? Set.of(ANY_PROJECT) : Set.copyOf(basicProjectConfigIds);
+		Map<String, Set<Object>> responsesByProject =
+				projectResponses.computeIfAbsent(cacheName, name -> new HashMap<>());
+		projects.forEach(
+				project -> responsesByProject.computeIfAbsent(project, id -> new HashSet<>()).add(key));
+		dependencies.put(response, projects);
+	}
+
+	/**
+	 * Evicts the cached responses depending on the project from the caches.
+	 *
+	 * @param cacheNames caches to evict from
+	 * @param basicProjectConfigId updated project
+	 * @return number of evicted responses
+	 */
+	public synchronized int evict(Collection<String> cacheNames, String basicProjectConfigId) {
+		List<CachedResponse> evicted = new ArrayList<>();
+		for (String cacheName : cacheNames) {
+			evictionListeners.forEach(listener -> listener.evicted(cacheName, basicProjectConfigId));
+			Map<String, Set<Object>> responsesByProject = projectResponses.get(cacheName);
+			if (null == responsesByProject) {
+				continue;
+			}
+			for (String project : List.of(basicProjectConfigId, ANY_PROJECT)) {
+				Set<Object> keys = responsesByProject.get(project);
+				if (null != keys) {
+					keys.forEach(key -> evicted.add(new CachedResponse(cacheName, key)));
+				}
+			}
+		}
+		for (CachedResponse response : evicted) {
+			unlink(response, dependencies.getIfPresent(response));
+			dependencies.invalidate(response);
+			evictFromCache(response);
+		}
+		evictionFanout.record(evicted.size());
+		log.info(
+				"Evicted {} cached KPI responses of project {} from {}",
+				evicted.size(),
+				basicProjectConfigId,
+				cacheNames);
+		return evicted.size();
+	}
+
+	/**
+	 * Forgets the responses of a cache that was cleared.
+	 *
+	 * @param cacheName cleared cache
+	 */
+	public synchronized void clear(String cacheName) {
+		evictionListeners.forEach(listener -> listener.evicted(cacheName, null));
+		if (null != projectResponses.remove(cacheName)) {
+			dependencies.asMap().keySet().removeIf(response -> response.cacheName().equals(cacheName));
+		}
+	}
+
+	private void onRemoval(RemovalNotification<CachedResponse, Set<String>> notification) {
+		if (notification.wasEvicted() && null != notification.getKey()) {
+			// the response would not be evicted by an update of its projects anymore
+			unlink(notification.getKey(), notification.getValue());
+			evictFromCache(notification.getKey());
+			overflowCounter.increment();
+		}
+	}
+
+	private void unlink(CachedResponse response, Set<String> projects) {
+		Map<String, Set<Object>> responsesByProject = projectResponses.get(response.cacheName());
+		if (null == projects || null == responsesByProject) {
+			return;
+		}
+		for (String project : projects) {
+			Set<Object> keys = responsesByProject.get(project);
+			if (null != keys && keys.remove(response.key()) && keys.isEmpty()) {
+				responsesByProject.remove(project);
+			}
+		}
+	}
+
+	private void evictFromCache(CachedResponse response) {
+		org.springframework.cache.Cache cache = cacheManager.getCache(response.cacheName());
+		if (null != cache) {
+			cache.evict(response.key());
+		}
+	}
+
+	/** Notified when the cached KPI responses of a project or of a whole cache are dropped. */
+	@FunctionalInterface
+	public interface EvictionListener {
+
+		/**
+		 * @param cacheName cache evicted from
+		 * @param basicProjectConfigId updated project, null when the whole cache is cleared
+		 */
+		void evicted(String cacheName, String basicProjectConfigId);
+	}
+
+	private record CachedResponse(String cacheName, Object key) {}
+}
@@ -58,12 +58,16 @@ public class KpiDataCacheServiceImpl implements KpiDataCacheService {
 
 	@Autowired KpiDataProvider kpiDataProvider;
 
+	@Autowired private CacheInvalidationService cacheInvalidationService;
+
 	@CacheEvict(
 			value = Constant.CACHE_PROJECT_KPI_DATA,
 			key = "#basicProjectConfigId.concat('_').concat(#kpiId)")
 	@Override
 	public void clearCache(String basicProjectConfigId, String kpiId) {
 		log.info("Evict KPI cache for project id - {} and kpi - {}", basicProjectConfigId, kpiId);
+		cacheInvalidationService.publishKeyEvicted(
+				Constant.CACHE_PROJECT_KPI_DATA, basicProjectConfigId + "_" + kpiId);
 	}
 
 	@Override
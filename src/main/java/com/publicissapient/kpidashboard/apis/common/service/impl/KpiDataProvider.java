@@ -11,6 +11,8 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 import javax.validation.constraints.NotNull;
 
@@ -162,7 +164,7 @@ public class KpiDataProvider {
 				JiraFeature.ISSUE_TYPE.getFieldValueInFeature());
 		uniqueProjectMap.put(basicProjectConfigId.toString(), mapOfProjectFilters);
 
-		List<SprintDetails> sprintDetails = sprintRepository.findBySprintIDIn(sprintList);
+		List<SprintDetails> sprintDetails = findSprintDetails(sprintList);
 		Set<String> totalIssue = new HashSet<>();
 		sprintDetails.forEach(
 				dbSprintDetail -> {
@@ -181,9 +183,7 @@ public class KpiDataProvider {
 				JiraFeature.BASIC_PROJECT_CONFIG_ID.getFieldValueInFeature(), basicProjectConfigIds);
 
 		if (CollectionUtils.isNotEmpty(totalIssue)) {
-			resultListMap.put(
-					STORIES,
-					jiraIssueRepository.findIssueByNumber(mapOfFilters, totalIssue, uniqueProjectMap));
+			resultListMap.put(STORIES, findIssueByNumber(mapOfFilters, totalIssue, uniqueProjectMap));
 			resultListMap.put(SPRINTSDETAILS, sprintDetails);
 		}
 		resultListMap.put("projectWiseStoryCategories", projectWiseStoryCategories);
@@ -266,7 +266,7 @@ public class KpiDataProvider {
 		resultListMap.put(
 				ESTIMATE_TIME,
 				capacityKpiDataRepository.findByFilters(capacityMapOfFilters, new HashMap<>()));
-		List<SprintDetails> sprintDetails = sprintRepository.findBySprintIDIn(sprintList);
+		List<SprintDetails> sprintDetails = findSprintDetails(sprintList);
 		Set<String> totalIssue = new HashSet<>();
 		sprintDetails.forEach(
 				dbSprintDetail -> {
@@ -290,7 +290,7 @@ public class KpiDataProvider {
 			jiraIssues.addAll(subTaskList);
 			jiraIssues.addAll(jiraIssueList);
 			List<JiraIssueCustomHistory> jiraIssueCustomHistoryList =
-					jiraIssueCustomHistoryRepository.findByStoryIDInAndBasicProjectConfigIdIn(
+					findIssueHistory(
 							jiraIssues.stream().map(JiraIssue::getNumber).toList(),
 							basicProjectConfigIds.stream().distinct().toList());
 
@@ -491,8 +491,7 @@ public class KpiDataProvider {
 		}
 		uniqueProjectMap.put(basicProjectConfigId.toString(), mapOfProjectFilters);
 
-		List<SprintDetails> sprintDetails =
-				new ArrayList<>(sprintRepository.findBySprintIDIn(sprintList));
+		List<SprintDetails> sprintDetails = new ArrayList<>(findSprintDetails(sprintList));
 		sprintDetails.forEach(
 				dbSprintDetail -> {
 					if (CollectionUtils.isNotEmpty(dbSprintDetail.getCompletedIssues())) {
@@ -531,12 +530,12 @@ public class KpiDataProvider {
 
 		if (CollectionUtils.isNotEmpty(totalIssue)) {
 			List<JiraIssue> totalJiraIssue =
-					jiraIssueRepository.findIssueByNumber(mapOfFilters, totalIssue, uniqueProjectMap);
+					findIssueByNumber(mapOfFilters, totalIssue, uniqueProjectMap);
 			resultListMap.put(SPRINT_DETAILS, sprintDetails);
 			resultListMap.put(TOTAL_ISSUE, totalJiraIssue);
 			// Fetching history only for change/removed issue date for Excel req
 			List<JiraIssueCustomHistory> scopeChangeIssueHistories =
-					jiraIssueCustomHistoryRepository.findByStoryIDInAndBasicProjectConfigIdIn(
+					findIssueHistory(
 							new ArrayList<>(scopeChangeIssue),
 							basicProjectConfigIds.stream().distinct().collect(Collectors.toList()));
 			resultListMap.put(SCOPE_CHANGE_ISSUE_HISTORY, scopeChangeIssueHistories);
@@ -561,8 +560,7 @@ public class KpiDataProvider {
 		Map<String, List<String>> mapOfFilters = new LinkedHashMap<>();
 		Map<String, Object> resultListMap = new HashMap<>();
 		List<String> basicProjectConfigIds = List.of(basicProjectConfigId.toString());
-		List<SprintDetails> sprintDetails =
-				new ArrayList<>(sprintRepository.findBySprintIDIn(sprintList));
+		List<SprintDetails> sprintDetails = new ArrayList<>(findSprintDetails(sprintList));
 
 		Map<ObjectId, List<SprintDetails>> projectWiseTotalSprintDetails =
 				sprintDetails.stream()
@@ -630,7 +628,7 @@ public class KpiDataProvider {
 		if (CollectionUtils.isNotEmpty(totalIssue)) {
 			resultListMap.put(
 					PROJECT_WISE_TOTAL_ISSUE,
-					jiraIssueRepository.findIssueByNumber(mapOfFilters, totalIssue, new HashMap<>()));
+					findIssueByNumber(mapOfFilters, totalIssue, new HashMap<>()));
 			resultListMap.put(SPRINT_DETAILS, sprintDetails);
 		}
 		return resultListMap;
@@ -673,7 +671,7 @@ public class KpiDataProvider {
 				jiraIssueRepository.findIssuesByFilterAndProjectMapFilter(
 						new HashMap<>(), uniqueProjectMap);
 		List<JiraIssueCustomHistory> codHistory =
-				jiraIssueCustomHistoryRepository.findByStoryIDInAndBasicProjectConfigIdIn(
+				findIssueHistory(
 						codList.stream().map(JiraIssue::getNumber).toList(),
 						new ArrayList<>(uniqueProjectMap.keySet()));
 		resultListMap.put(COD_DATA, codList);
@@ -798,7 +796,7 @@ public class KpiDataProvider {
 		mapOfProjectFilters.put(JiraFeature.ISSUE_TYPE.getFieldValueInFeature(), defectType);
 		uniqueProjectMap.put(basicProjectConfigId.toString(), mapOfProjectFilters);
 
-		List<SprintDetails> sprintDetails = sprintRepository.findBySprintIDIn(sprintList);
+		List<SprintDetails> sprintDetails = findSprintDetails(sprintList);
 		Set<String> totalNonBugIssues = new HashSet<>();
 		Set<String> totalIssue = new HashSet<>();
 		Set<String> totalIssueInSprint = new HashSet<>();
@@ -842,7 +840,7 @@ public class KpiDataProvider {
 
 		if (CollectionUtils.isNotEmpty(totalIssue)) {
 			List<JiraIssue> totalSprintReportDefects =
-					jiraIssueRepository.findIssueByNumber(mapOfFilters, totalIssue, uniqueProjectMap);
+					findIssueByNumber(mapOfFilters, totalIssue, uniqueProjectMap);
 			resultListMap.put(CREATED_VS_RESOLVED_KEY, totalSprintReportDefects);
 
 			List<JiraIssue> subTaskBugs =
@@ -852,14 +850,14 @@ public class KpiDataProvider {
 							.filter(jiraIssue -> !totalIssueInSprint.contains(jiraIssue.getNumber()))
 							.collect(Collectors.toList());
 			List<JiraIssueCustomHistory> subTaskBugsCustomHistory =
-					jiraIssueCustomHistoryRepository.findByStoryIDInAndBasicProjectConfigIdIn(
+					findIssueHistory(
 							subTaskBugs.stream().map(JiraIssue::getNumber).collect(Collectors.toList()),
 							basicProjectConfigIds.stream().distinct().collect(Collectors.toList()));
 			resultListMap.put(SPRINT_WISE_SUB_TASK_BUGS, subTaskBugs);
 			resultListMap.put(SUB_TASK_BUGS_HISTORY, subTaskBugsCustomHistory);
 			resultListMap.put(SPRINT_WISE_SPRINT_DETAIL_MAP, sprintDetails);
 			resultListMap.put(
-					STORY_LIST, jiraIssueRepository.findIssueAndDescByNumber(new ArrayList<>(totalIssue)));
+					STORY_LIST, findIssueAndDescByNumber(new ArrayList<>(totalIssue)));
 		}
 		return resultListMap;
 	}
@@ -874,7 +872,7 @@ public class KpiDataProvider {
 	public Map<String, Object> fetchHappinessIndexDataFromDb(List<String> sprintList) {
 
 		Map<String, Object> resultListMap = new HashMap<>();
-		List<SprintDetails> sprintDetails = sprintRepository.findBySprintIDIn(sprintList);
+		List<SprintDetails> sprintDetails = findSprintDetails(sprintList);
 		List<HappinessKpiData> happinessKpiDataList =
 				happinessKpiDataRepository.findBySprintIDIn(sprintList);
 		// filtering rating of 0 i.e not entered any rating
@@ -959,7 +957,7 @@ public class KpiDataProvider {
 				CommonUtils.convertToPatternList(defectType));
 		uniqueProjectMap.put(basicProjectConfigId.toString(), mapOfProjectFilters);
 
-		List<SprintDetails> sprintDetails = sprintRepository.findBySprintIDIn(sprintList);
+		List<SprintDetails> sprintDetails = findSprintDetails(sprintList);
 
 		Set<String> totalSprintReportStories = new HashSet<>();
 		Set<String> totalIssue = new HashSet<>();
@@ -1004,7 +1002,7 @@ public class KpiDataProvider {
 		List<JiraIssue> totalDefectList = new ArrayList<>();
 		if (CollectionUtils.isNotEmpty(totalIssue)) {
 			List<JiraIssue> totalSprintReportDefects =
-					jiraIssueRepository.findIssueByNumber(mapOfFilters, totalIssue, uniqueProjectMap);
+					findIssueByNumber(mapOfFilters, totalIssue, uniqueProjectMap);
 
 			List<JiraIssue> totalSubTaskDefects =
 					jiraIssueRepository
@@ -1014,7 +1012,7 @@ public class KpiDataProvider {
 							.collect(Collectors.toList());
 
 			List<JiraIssueCustomHistory> subTaskBugsCustomHistory =
-					jiraIssueCustomHistoryRepository.findByStoryIDInAndBasicProjectConfigIdIn(
+					findIssueHistory(
 							totalSubTaskDefects.stream().map(JiraIssue::getNumber).collect(Collectors.toList()),
 							basicProjectConfigIds.stream().distinct().collect(Collectors.toList()));
 			totalDefectList.addAll(totalSprintReportDefects);
@@ -1023,7 +1021,7 @@ public class KpiDataProvider {
 			resultListMap.put(SUB_TASK_BUGS_HISTORY, subTaskBugsCustomHistory);
 			resultListMap.put(SPRINT_WISE_SPRINT_DETAILS, sprintDetails);
 			resultListMap.put(
-					STORY_LIST, jiraIssueRepository.findIssueAndDescByNumber(new ArrayList<>(totalIssue)));
+					STORY_LIST, findIssueAndDescByNumber(new ArrayList<>(totalIssue)));
 		}
 		// Find defect with rejected status. Avoided making dB query
 		if (!defectResolutionRejectionMap.isEmpty()) {
@@ -1143,7 +1141,7 @@ public class KpiDataProvider {
 
 		// Fetch Story ID grouped by Sprint
 		List<SprintWiseStory> sprintWiseStories =
-				jiraIssueRepository.findIssuesGroupBySprint(
+				findIssuesGroupBySprint(
 						mapOfFilters, uniqueProjectMap, kpiRequest.getFilterToShowOnTrend(), DEV);
 		List<JiraIssue> issuesBySprintAndType =
 				jiraIssueRepository.findIssuesBySprintAndType(mapOfFilters, uniqueProjectMap);
@@ -1177,7 +1175,7 @@ public class KpiDataProvider {
 		sprintWiseStories.forEach(s -> storyIdList.addAll(s.getStoryList()));
 		resultListMap.put(SPRINT_WISE_CLOSED_STORIES, sprintWiseStories);
 		resultListMap.put(FIRST_TIME_PASS_STORIES, defectListWoDrop);
-		resultListMap.put(ISSUE_DATA, jiraIssueRepository.findIssueAndDescByNumber(storyIdList));
+		resultListMap.put(ISSUE_DATA, findIssueAndDescByNumber(storyIdList));
 		resultListMap.put(DEFECT_FOR_EXCEL, defectForExcel);
 		return resultListMap;
 	}
@@ -1321,7 +1319,7 @@ public class KpiDataProvider {
 				basicProjectConfigIds.stream().distinct().collect(Collectors.toList()));
 
 		List<SprintWiseStory> sprintWiseStoryList =
-				jiraIssueRepository.findIssuesGroupBySprint(
+				findIssuesGroupBySprint(
 						mapOfFilters, uniqueProjectMap, kpiRequest.getFilterToShowOnTrend(), QA);
 
 		List<JiraIssue> issuesBySprintAndType =
@@ -1340,8 +1338,7 @@ public class KpiDataProvider {
 				JiraFeature.ISSUE_TYPE.getFieldValueInFeature(),
 				List.of(NormalizedJira.DEFECT_TYPE.getValue()));
 
-		List<JiraIssue> totalDefectList =
-				jiraIssueRepository.findIssuesByType(mapOfFiltersWithStoryIds);
+		List<JiraIssue> totalDefectList = findIssuesByType(mapOfFiltersWithStoryIds);
 
 		List<JiraIssue> defectListWoDrop = new ArrayList<>();
 		List<JiraIssue> remainingDefect = new ArrayList<>();
@@ -1406,7 +1403,7 @@ public class KpiDataProvider {
 				basicProjectConfigIds.stream().distinct().collect(Collectors.toList()));
 
 		List<SprintWiseStory> sprintWiseStoryList =
-				jiraIssueRepository.findIssuesGroupBySprint(
+				findIssuesGroupBySprint(
 						mapOfFilters, uniqueProjectMap, kpiRequest.getFilterToShowOnTrend(), QA);
 
 		List<JiraIssue> issuesBySprintAndType =
@@ -1425,8 +1422,7 @@ public class KpiDataProvider {
 				JiraFeature.ISSUE_TYPE.getFieldValueInFeature(),
 				List.of(NormalizedJira.DEFECT_TYPE.getValue()));
 
-		List<JiraIssue> totalDefectList =
-				jiraIssueRepository.findIssuesByType(mapOfFiltersWithStoryIds);
+		List<JiraIssue> totalDefectList = findIssuesByType(mapOfFiltersWithStoryIds);
 
 		List<JiraIssue> defectListWoDrop = new ArrayList<>();
 		List<JiraIssue> remainingDefect = new ArrayList<>();
@@ -1484,7 +1480,7 @@ public class KpiDataProvider {
 				JiraFeature.ISSUE_TYPE.getFieldValueInFeature(),
 				List.of(NormalizedJira.DEFECT_TYPE.getValue()));
 
-		List<JiraIssue> totalDefectList = jiraIssueRepository.findIssuesByType(defectFilters);
+		List<JiraIssue> totalDefectList = findIssuesByType(defectFilters);
 		List<JiraIssue> defectListWoDrop = new ArrayList<>();
 		List<JiraIssue> remainingDefect = new ArrayList<>();
 		KpiHelperService.getDefectsWithoutDrop(droppedDefects, totalDefectList, defectListWoDrop);
@@ -1553,4 +1549,189 @@ public class KpiDataProvider {
 			rcaDefects.add(jiraIssue);
 		}
 	}
+
+	/**
+	 * Sprint details of the sprints, loaded once per KPI request. Each caller gets its own copies as
+	 * the KPIs replace the sprint issues according to their field mappings, the {@link SprintIssue}
+	 * elements themselves are shared and only read by the KPIs.
+	 */
+	private List<SprintDetails> findSprintDetails(List<String> sprintList) {
+		KpiRequestDataLoader dataLoader = KpiRequestDataLoader.current();
+		if (null == dataLoader) {
+			return sprintRepository.findBySprintIDIn(sprintList);
+		}
+		List<SprintDetails> sprintDetails =
+				dataLoader.load(
+						KpiRequestDataLoader.key("sprintDetails", sprintList),
+						() -> sprintRepository.findBySprintIDIn(sprintList));
+		return sprintDetails.stream()
+				.map(KpiDataProvider::copySprintDetails)
+				.collect(Collectors.toList());
+	}
+
+	private List<JiraIssue> findIssueByNumber(
+			Map<String, List<String>> mapOfFilters,
+			Set<String> issueNumbers,
+			Map<String, Map<String, Object>> uniqueProjectMap) {
+		return loadShared(
+				KpiRequestDataLoader.key("issueByNumber", mapOfFilters, issueNumbers, uniqueProjectMap),
+				() ->
+						jiraIssueRepository.findIssueByNumber(
+								mapOfFilters, issueNumbers, uniqueProjectMap),
+				KpiDataProvider::copyIssue);
+	}
+
+	private List<JiraIssue> findIssueAndDescByNumber(List<String> issueNumbers) {
+		return loadShared(
+				KpiRequestDataLoader.key("issueAndDescByNumber", issueNumbers),
+				() -> jiraIssueRepository.findIssueAndDescByNumber(issueNumbers),
+				KpiDataProvider::copyIssue);
+	}
+
+	private List<JiraIssue> findIssuesByType(Map<String, List<String>> mapOfFilters) {
+		return loadShared(
+				KpiRequestDataLoader.key("issuesByType", mapOfFilters),
+				() -> jiraIssueRepository.findIssuesByType(mapOfFilters),
+				KpiDataProvider::copyIssue);
+	}
+
+	/**
+	 * Fetches the issues matching the filters, shared with the other KPIs of the request.
+	 *
+	 * @param mapOfFilters The issue filters.
+	 * @return The list of JiraIssue.
+	 */
+	public List<JiraIssue> fetchIssuesByType(Map<String, List<String>> mapOfFilters) {
+		return findIssuesByType(mapOfFilters);
+	}
+
+	/**
+	 * Fetches the issues with their description, shared with the other KPIs of the request.
+	 *
+	 * @param issueNumbers The issue numbers.
+	 * @return The list of JiraIssue.
+	 */
+	public List<JiraIssue> fetchIssueAndDescByNumber(List<String> issueNumbers) {
+		return findIssueAndDescByNumber(issueNumbers);
+	}
+
+	/**
+	 * Histories of the issues of the projects. The KPIs of a request asking for overlapping issues
+	 * load the histories of their union once, each getting the histories of its own issues. The
+	 * histories are shared by the KPIs with read only change logs, a KPI that orders a log sorts its
+	 * own copy.
+	 */
+	private List<JiraIssueCustomHistory> findIssueHistory(
+			List<String> issueNumbers, List<String> basicProjectConfigIds) {
+		KpiRequestDataLoader dataLoader = KpiRequestDataLoader.current();
+		if (null == dataLoader) {
+			return jiraIssueCustomHistoryRepository.findByStoryIDInAndBasicProjectConfigIdIn(
+					issueNumbers, basicProjectConfigIds);
+		}
+		return dataLoader.loadByIds(
+				KpiRequestDataLoader.key("issueHistory", basicProjectConfigIds),
+				issueNumbers,
+				storyIds ->
+						readOnlyChangeLogs(
+										jiraIssueCustomHistoryRepository.findByStoryIDInAndBasicProjectConfigIdIn(
+												new ArrayList<>(storyIds), basicProjectConfigIds))
+								.stream()
+								.filter(history -> null != history.getStoryID())
+								.collect(Collectors.groupingBy(JiraIssueCustomHistory::getStoryID)));
+	}
+
+	/**
+	 * Stories of the sprints, loaded once per KPI request. Each KPI gets its own copies of the
+	 * stories, as the KPIs remove the rejected stories from the story lists.
+	 */
+	private List<SprintWiseStory> findIssuesGroupBySprint(
+			Map<String, List<String>> mapOfFilters,
+			Map<String, Map<String, Object>> uniqueProjectMap,
+			String filterToShowOnTrend,
+			String individualDevOrQa) {
+		return loadShared(
+				KpiRequestDataLoader.key(
+						"issuesGroupBySprint",
+						mapOfFilters,
+						uniqueProjectMap,
+						filterToShowOnTrend,
+						individualDevOrQa),
+				() ->
+						jiraIssueRepository.findIssuesGroupBySprint(
+								mapOfFilters, uniqueProjectMap, filterToShowOnTrend, individualDevOrQa),
+				KpiDataProvider::copySprintWiseStory);
+	}
+
+	/**
+	 * Loads the list once per KPI request. Each caller gets its own list holding the copies made by
+	 * {@code copy} of the shared elements.
+	 */
+	private static <T> List<T> loadShared(
+			Object key, Supplier<List<T>> loader, UnaryOperator<T> copy) {
+		KpiRequestDataLoader dataLoader = KpiRequestDataLoader.current();
+		if (null == dataLoader) {
+			return loader.get();
+		}
+		return dataLoader.load(key, loader).stream().map(copy).collect(Collectors.toList());
+	}
+
+	private static List<JiraIssueCustomHistory> readOnlyChangeLogs(
+			List<JiraIssueCustomHistory> histories) {
+		if (null != histories) {
+			histories.forEach(
+					history -> {
+						history.setStatusUpdationLog(readOnly(history.getStatusUpdationLog()));
+						history.setSprintUpdationLog(readOnly(history.getSprintUpdationLog()));
+						history.setFixVersionUpdationLog(readOnly(history.getFixVersionUpdationLog()));
+						history.setAssigneeUpdationLog(readOnly(history.getAssigneeUpdationLog()));
+						history.setLabelUpdationLog(readOnly(history.getLabelUpdationLog()));
+						history.setFlagStatusChangeLog(readOnly(history.getFlagStatusChangeLog()));
+						history.setWorkLog(readOnly(history.getWorkLog()));
+					});
+		}
+		return histories;
+	}
+
+	private static <T> List<T> readOnly(List<T> list) {
+		return null == list ? null : Collections.unmodifiableList(list);
+	}
+
+	private static JiraIssue copyIssue(JiraIssue jiraIssue) {
+		try {
+			return (JiraIssue) jiraIssue.clone();
+		} catch (CloneNotSupportedException e) {
+			log.error("[KpiDataProvider]. exception while cloning jira issue {}", e.getMessage());
+			return jiraIssue;
+		}
+	}
+
+	private static SprintDetails copySprintDetails(SprintDetails sprintDetails) {
+		try {
+			SprintDetails copy = (SprintDetails) sprintDetails.clone();
+			copy.setCompletedIssues(copyOf(sprintDetails.getCompletedIssues()));
+			copy.setNotCompletedIssues(copyOf(sprintDetails.getNotCompletedIssues()));
+			copy.setTotalIssues(copyOf(sprintDetails.getTotalIssues()));
+			return copy;
+		} catch (CloneNotSupportedException e) {
+			log.error("[KpiDataProvider]. exception while cloning sprint details {}", e.getMessage());
+			return sprintDetails;
+		}
+	}
+
+	private static SprintWiseStory copySprintWiseStory(SprintWiseStory sprintWiseStory) {
+		SprintWiseStory copy = new SprintWiseStory();
+		copy.setSprint(sprintWiseStory.getSprint());
+		copy.setSprintName(sprintWiseStory.getSprintName());
+		copy.setSSprintBeginDate(sprintWiseStory.getSSprintBeginDate());
+		copy.setBasicProjectConfigId(sprintWiseStory.getBasicProjectConfigId());
+		copy.setStoryList(
+				null == sprintWiseStory.getStoryList()
+						? null
+						: new ArrayList<>(sprintWiseStory.getStoryList()));
+		return copy;
+	}
+
+	private static Set<SprintIssue> copyOf(Set<SprintIssue> sprintIssues) {
+		return null == sprintIssues ? null : new HashSet<>(sprintIssues);
+	}
 }
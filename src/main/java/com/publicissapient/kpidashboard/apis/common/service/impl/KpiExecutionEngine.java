@@ -0,0 +1,396 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+
+package com.publicissapient.kpidashboard.apis.common.service.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.UnaryOperator;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.concurrent.DelegatingSecurityContextCallable;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import com.publicissapient.kpidashboard.apis.auth.model.UserInfoPrincipal;
+import com.publicissapient.kpidashboard.apis.config.CustomApiConfig;
+import com.publicissapient.kpidashboard.apis.constant.Constant;
+import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
+import com.publicissapient.kpidashboard.apis.model.KpiRequest;
+import com.publicissapient.kpidashboard.common.constant.CommonConstant;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Shared, bounded executor on which every KPI dispatcher computes its KPIs. A request gets a time
+ * budget; KPIs still running when it expires are cancelled and the KPIs completed so far are
+ * returned with a timed out response code. When the queue is full the submitting request thread
+ * computes the KPI itself, which slows down the producers instead of growing the queue. A KPI is
+ * only started while the budget of its request lasts, whether it runs on a KPI thread or on the
+ * request thread.
+ */
+@Service
+@Slf4j
+public class KpiExecutionEngine {
+
+	private static final String THREAD_NAME_PREFIX = "kpi-exec-";
+	private static final String TAG_SOURCE = "source";
+	private static final String TAG_KPI = "kpi";
+	private static final int DEFAULT_QUEUE_CAPACITY = 1000;
+	private static final long DEFAULT_TIME_BUDGET_SECONDS = 120;
+
+	private final ThreadPoolExecutor executor;
+	private final MeterRegistry meterRegistry;
+	private final long timeBudgetMillis;
+	private final Counter callerRunsCounter;
+	private final Counter dataHitCounter;
+	private final Counter dataMissCounter;
+
+	@Autowired
+	public KpiExecutionEngine(CustomApiConfig customApiConfig, MeterRegistry meterRegistry) {
+		this(
+				customApiConfig.getKpiExecutorPoolSize(),
+				customApiConfig.getKpiExecutorQueueCapacity(),
+				customApiConfig.getKpiRequestTimeBudgetSeconds(),
+				meterRegistry);
+	}
+
+	/**
+	 * @param poolSize number of KPI threads, two per processor if not positive
+	 * @param queueCapacity number of KPIs that can wait for a thread
+	 * @param timeBudgetSeconds time budget of a request in seconds
+	 * @param meterRegistry registry of the executor metrics
+	 */
+	public KpiExecutionEngine(
+			int poolSize, int queueCapacity, long timeBudgetSeconds, MeterRegistry meterRegistry) {
+		int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors() * 2;
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(THREAD_NAME_PREFIX);
+		threadFactory.setDaemon(true);
+		this.meterRegistry = meterRegistry;
+		this.timeBudgetMillis =
+				TimeUnit.SECONDS.toMillis(
+						timeBudgetSeconds > 0 ? timeBudgetSeconds : DEFAULT_TIME_BUDGET_SECONDS);
+		this.callerRunsCounter =
+				Counter.builder("kpi.executor.caller.runs")
+						.description("KPIs computed on the request thread because the KPI queue was full")
+						.register(meterRegistry);
+		this.dataHitCounter = dataLoadCounter("hit");
+		this.dataMissCounter = dataLoadCounter("miss");
+		this.executor =
+				new ThreadPoolExecutor(
+						threads,
+						threads,
+						60L,
+						TimeUnit.SECONDS,
+						new ArrayBlockingQueue<>(queueCapacity > 0 ? queueCapacity : DEFAULT_QUEUE_CAPACITY),
+						threadFactory,
+						(task, pool) -> {
+							callerRunsCounter.increment();
+							if (!pool.isShutdown()) {
+								// a KpiTask cancels itself instead of running past the deadline
+								task.run();
+							}
+						});
+		this.executor.allowCoreThreadTimeOut(true);
+		Gauge.builder("kpi.executor.queue.depth", executor, pool -> pool.getQueue().size())
+				.description("KPIs waiting for a KPI thread")
+				.register(meterRegistry);
+		Gauge.builder("kpi.executor.active.tasks", executor, ThreadPoolExecutor::getActiveCount)
+				.description("KPIs being computed")
+				.register(meterRegistry);
+		Gauge.builder("kpi.executor.pool.size", executor, ThreadPoolExecutor::getPoolSize)
+				.description("Live KPI threads")
+				.register(meterRegistry);
+	}
+
+	/**
+	 * Computes every KPI of the request in parallel. The KPIs share a {@link KpiRequestDataLoader}
+	 * and see the {@link KpiExecutionContext} of the request.
+	 *
+	 * @param source KPI source, used in logs and metric tags
+	 * @param kpiRequest kpi request
+	 * @param kpiTask computation of a single KPI
+	 * @return the computed KPIs in request order, without the KPIs cancelled by the time budget
+	 */
+	public KpiExecutionResult execute(
+			String source, KpiRequest kpiRequest, UnaryOperator<KpiElement> kpiTask) {
+		KpiExecutionContext context = newContext(kpiRequest);
+		KpiRequestDataLoader dataLoader = new KpiRequestDataLoader(dataHitCounter, dataMissCounter);
+		List<KpiElement> kpiList = kpiRequest.getKpiList();
+		List<Future<KpiElement>> futures = new ArrayList<>(kpiList.size());
+		for (KpiElement kpiElement : kpiList) {
+			Callable<KpiElement> task =
+					context.bind(dataLoader.bind(timed(source, kpiElement, kpiTask)));
+			futures.add(submit(task, context));
+		}
+
+		KpiExecutionResult result = new KpiExecutionResult();
+		for (int i = 0; i < futures.size(); i++) {
+			KpiElement kpiElement = kpiList.get(i);
+			KpiElement computed = await(source, kpiRequest, kpiElement, futures.get(i), context);
+			if (null == computed) {
+				result.timedOutKpiIds.add(kpiElement.getKpiId());
+				context.markIncomplete();
+			} else {
+				result.kpiElements.add(computed);
+			}
+		}
+		result.forecastPending = context.isForecastPending();
+		return result;
+	}
+
+	/**
+	 * Computes the KPIs of the request one after the other on a single KPI thread, for dispatchers
+	 * whose KPIs cannot run concurrently.
+	 *
+	 * @param source KPI source, used in logs and metric tags
+	 * @param kpiRequest kpi request
+	 * @param kpiTask computation of a single KPI
+	 * @return the computed KPIs in request order, without the KPIs cancelled by the time budget
+	 */
+	public KpiExecutionResult executeInSequence(
+			String source, KpiRequest kpiRequest, UnaryOperator<KpiElement> kpiTask) {
+		KpiExecutionContext context = newContext(kpiRequest);
+		KpiRequestDataLoader dataLoader = new KpiRequestDataLoader(dataHitCounter, dataMissCounter);
+		List<KpiElement> computed = Collections.synchronizedList(new ArrayList<>());
+		Callable<Object> task =
+				context.bind(
+						dataLoader.bind(
+								() -> {
+									for (KpiElement kpiElement : kpiRequest.getKpiList()) {
+										if (Thread.currentThread().isInterrupted() || context.isExpired()) {
+											break;
+										}
+										computed.add(timed(source, kpiElement, kpiTask).call());
+									}
+									return null;
+								}));
+		Future<?> future = submit(task, context);
+		try {
+			future.get(remainingMillis(context), TimeUnit.MILLISECONDS);
+		} catch (TimeoutException | CancellationException e) {
+			future.cancel(true);
+			log.warn(
+					"[{}][{}]. KPI time budget of {} ms exhausted",
+					source,
+					kpiRequest.getRequestTrackerId(),
+					timeBudgetMillis);
+		} catch (InterruptedException e) {
+			future.cancel(true);
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException e) {
+			log.error("[{}][{}]. KPI computation failed", source, kpiRequest.getRequestTrackerId(), e);
+		}
+
+		KpiExecutionResult result = new KpiExecutionResult();
+		synchronized (computed) {
+			result.kpiElements.addAll(computed);
+		}
+		for (KpiElement kpiElement : kpiRequest.getKpiList()) {
+			if (result.kpiElements.stream()
+					.noneMatch(computedKpi -> kpiElement.getKpiId().equals(computedKpi.getKpiId()))) {
+				result.timedOutKpiIds.add(kpiElement.getKpiId());
+				timeoutCounter(source, kpiElement.getKpiId()).increment();
+				context.markIncomplete();
+			}
+		}
+		result.forecastPending = context.isForecastPending();
+		return result;
+	}
+
+	/**
+	 * Binds the context of the request to the current thread, for dispatchers computing their KPIs
+	 * on the request thread.
+	 *
+	 * @param kpiRequest kpi request
+	 * @return the scope of the binding, to close once the KPIs are computed
+	 */
+	public KpiExecutionContext.Scope openContext(KpiRequest kpiRequest) {
+		return newContext(kpiRequest).open();
+	}
+
+	private <T> Future<T> submit(Callable<T> task, KpiExecutionContext context) {
+		KpiTask<T> kpiTask =
+				new KpiTask<>(DelegatingSecurityContextCallable.create(task, null), context);
+		executor.execute(kpiTask);
+		return kpiTask;
+	}
+
+	private KpiExecutionContext newContext(KpiRequest kpiRequest) {
+		return KpiExecutionContext.of(
+				kpiRequest, loggedInUser(), System.currentTimeMillis() + timeBudgetMillis);
+	}
+
+	private static UserInfoPrincipal loggedInUser() {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		return null != authentication
+						&& authentication.isAuthenticated()
+						&& authentication.getPrincipal() instanceof UserInfoPrincipal principal
+				? principal
+				: null;
+	}
+
+	private static long remainingMillis(KpiExecutionContext context) {
+		return Math.max(0L, context.getDeadlineMillis() - System.currentTimeMillis());
+	}
+
+	private KpiElement await(
+			String source,
+			KpiRequest kpiRequest,
+			KpiElement kpiElement,
+			Future<KpiElement> future,
+			KpiExecutionContext context) {
+		try {
+			return future.get(remainingMillis(context), TimeUnit.MILLISECONDS);
+		} catch (TimeoutException | CancellationException e) {
+			future.cancel(true);
+			timeoutCounter(source, kpiElement.getKpiId()).increment();
+			log.warn(
+					"[{}][{}]. {} cancelled, KPI time budget of {} ms exhausted",
+					source,
+					kpiRequest.getRequestTrackerId(),
+					kpiElement.getKpiId(),
+					timeBudgetMillis);
+			return null;
+		} catch (InterruptedException e) {
+			future.cancel(true);
+			Thread.currentThread().interrupt();
+			return null;
+		} catch (ExecutionException e) {
+			log.error(
+					"[{}][{}]. Exception occurred while computing {}",
+					source,
+					kpiRequest.getRequestTrackerId(),
+					kpiElement.getKpiId(),
+					e.getCause());
+			kpiElement.setResponseCode(CommonConstant.KPI_FAILED);
+			return kpiElement;
+		}
+	}
+
+	private Callable<KpiElement> timed(
+			String source, KpiElement kpiElement, UnaryOperator<KpiElement> kpiTask) {
+		Timer timer =
+				Timer.builder("kpi.execution.latency")
+						.description("Time taken to compute a KPI")
+						.tag(TAG_SOURCE, source)
+						.tag(TAG_KPI, String.valueOf(kpiElement.getKpiId()))
+						.publishPercentileHistogram()
+						.register(meterRegistry);
+		return () -> timer.recordCallable(() -> kpiTask.apply(kpiElement));
+	}
+
+	private Counter timeoutCounter(String source, String kpiId) {
+		return Counter.builder("kpi.execution.timeouts")
+				.description("KPIs cancelled because the request time budget was exhausted")
+				.tag(TAG_SOURCE, source)
+				.tag(TAG_KPI, String.valueOf(kpiId))
+				.register(meterRegistry);
+	}
+
+	private Counter dataLoadCounter(String result) {
+		return Counter.builder("kpi.request.data.loads")
+				.description("Data sets requested by the KPIs of a request, loaded or shared")
+				.tag("result", result)
+				.register(meterRegistry);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdown();
+		try {
+			if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+				executor.shutdownNow();
+			}
+		} catch (InterruptedException e) {
+			executor.shutdownNow();
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/** KPIs computed within the time budget of a request. */
+	@Getter
+	public static class KpiExecutionResult {
+		private final List<KpiElement> kpiElements = new ArrayList<>();
+		private final List<String> timedOutKpiIds = new ArrayList<>();
+		private boolean forecastPending;
+
+		/**
+		 * @return true if every KPI of the request was computed with its forecasts, partial results
+		 *     must not be cached
+		 */
+		public boolean isComplete() {
+			return timedOutKpiIds.isEmpty() && !forecastPending;
+		}
+
+		/**
+		 * Marks a requested KPI missing from the computed KPIs as timed out when the time budget
+		 * cancelled it, so that the client can tell it apart from a KPI without data.
+		 *
+		 * @param kpiElement requested KPI
+		 * @return the KPI element
+		 */
+		public KpiElement markTimedOut(KpiElement kpiElement) {
+			if (timedOutKpiIds.contains(kpiElement.getKpiId())) {
+				kpiElement.setResponseCode(Constant.KPI_TIMED_OUT);
+			}
+			return kpiElement;
+		}
+	}
+
+	/**
+	 * KPI computation that is cancelled instead of started once the time budget of its request is
+	 * exhausted, as happens when it waited in the queue or was rejected to the request thread.
+	 */
+	private static class KpiTask<T> extends FutureTask<T> {
+		private final KpiExecutionContext context;
+
+		KpiTask(Callable<T> callable, KpiExecutionContext context) {
+			super(callable);
+			this.context = context;
+		}
+
+		@Override
+		public void run() {
+			if (context.isExpired()) {
+				cancel(false);
+				return;
+			}
+			super.run();
+		}
+	}
+}
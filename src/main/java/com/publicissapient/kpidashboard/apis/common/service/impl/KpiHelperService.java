@@ -66,7 +66,9 @@ import com.publicissapient.kpidashboard.apis.model.AccountHierarchyData;
 import com.publicissapient.kpidashboard.apis.model.CustomDateRange;
 import com.publicissapient.kpidashboard.apis.model.DefectTransitionInfo;
 import com.publicissapient.kpidashboard.apis.model.FieldMappingStructureResponse;
+import com.publicissapient.kpidashboard.apis.model.KanbanStatusTimeline;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.MasterResponse;
 import com.publicissapient.kpidashboard.apis.model.Node;
@@ -1297,135 +1299,94 @@ public class KpiHelperService { // NOPMD
 	}
 
 	/**
-	 * the non closed stories are processed according to status
+	 * the non closed stories are processed according to status, into the days each story spent in
+	 * each status from the start date till today
 	 *
 	 * @param projectWiseNonClosedTickets
 	 * @param startDate
 	 * @param historyDataResultMap
-	 * @return
+	 * @return project wise status timeline
 	 */
-	public Map<String, Map<String, Map<String, Set<String>>>>
-			computeProjectWiseJiraHistoryByStatusAndDate(
-					Map<String, List<KanbanIssueCustomHistory>> projectWiseNonClosedTickets,
-					String startDate,
-					Map<String, Object> historyDataResultMap) {
-		Map<String, Map<String, Map<String, Set<String>>>>
-				projectWiseJiraHistoryStatusAndDateWiseIssueMap = new HashMap<>();
+	public Map<String, KanbanStatusTimeline> computeProjectWiseStatusTimeline(
+			Map<String, List<KanbanIssueCustomHistory>> projectWiseNonClosedTickets,
+			String startDate,
+			Map<String, Object> historyDataResultMap) {
+		Map<String, KanbanStatusTimeline> projectWiseStatusTimeline = new HashMap<>();
 		Map<String, String> projectWiseOpenStatus =
 				(Map<String, String>) historyDataResultMap.get(PROJECT_WISE_OPEN_STORY_STATUS);
-		projectWiseNonClosedTickets.entrySet().stream()
-				.forEach(
-						nonClosedTicketsList -> {
-							String openStatusFromFieldMapping =
-									projectWiseOpenStatus.getOrDefault(
-											nonClosedTicketsList.getKey(), CommonConstant.OPEN);
-							Map<String, Map<String, Set<String>>> jiraHistoryStatusAndDateWiseIssueMap =
-									new HashMap<>();
-							for (KanbanIssueCustomHistory issueCustomHistory : nonClosedTicketsList.getValue()) {
-								// if all activity date are before the filter range then this
-								// flag will remain
-								// true
-								boolean dateLessThanStartDate = true;
-								// for every ticket this status will always be set to null for
-								// first time
-								String status = null;
-								LocalDate startLocalDateTemp = LocalDate.parse(startDate);
-								List<KanbanIssueHistory> statusHistoryDetailsList =
-										issueCustomHistory.getHistoryDetails();
-								if (CollectionUtils.isNotEmpty(statusHistoryDetailsList)) {
-									for (KanbanIssueHistory statusList : statusHistoryDetailsList) {
-										String currentStatus =
-												statusList.getStatus().equals("")
-														? openStatusFromFieldMapping
-														: statusList.getStatus();
-										LocalDate activityLocalDate =
-												LocalDate.parse(
-														statusList.getActivityDate().split("\\.")[0], DATE_TIME_FORMATTER);
-										/*
-										 * check if ticket's latest activity was before the filter's start time then
-										 * will consider that ticket and latest status in selected filter range
-										 * cumulative way otherwise will move into the loop
-										 */
-										if (activityLocalDate.isEqual(startLocalDateTemp)
-												|| activityLocalDate.isAfter(startLocalDateTemp)) {
-											if (status == null) {
-												/*
-												 * when no change in status happened after the creation date of ticket
-												 */
-												status = currentStatus;
-												startLocalDateTemp = activityLocalDate;
-												populateJiraHistoryFieldAndDateWiseIssues(
-														startLocalDateTemp.toString(),
-														status,
-														issueCustomHistory.getStoryID(),
-														jiraHistoryStatusAndDateWiseIssueMap);
-											} else {
-												/*
-												 * if within a ticket some history details are before the filter range and
-												 * others are within the filter range and status change happened on the same day
-												 */
-												if (startLocalDateTemp.isEqual(activityLocalDate)) {
-													status = currentStatus;
-													populateJiraHistoryFieldAndDateWiseIssues(
-															startLocalDateTemp.toString(),
-															status,
-															issueCustomHistory.getStoryID(),
-															jiraHistoryStatusAndDateWiseIssueMap);
-												} else {
-													/*
-													 * if within a ticket some history details are before the filter range and
-													 * others are within the filter range and status change happened on the
-													 * different day or the status remain consistent for some days
-													 */
-													for (LocalDate loopStartDate = startLocalDateTemp;
-															loopStartDate.isBefore(activityLocalDate)
-																	|| loopStartDate.isEqual(activityLocalDate);
-															loopStartDate = loopStartDate.plusDays(1)) {
-														if (loopStartDate.isEqual(activityLocalDate)) {
-															status = currentStatus;
-														}
-														populateJiraHistoryFieldAndDateWiseIssues(
-																loopStartDate.toString(),
-																status,
-																issueCustomHistory.getStoryID(),
-																jiraHistoryStatusAndDateWiseIssueMap);
-													}
-													startLocalDateTemp = activityLocalDate;
-												}
-												dateLessThanStartDate = false;
-											}
-										}
-										// if activity date is less than the filter range then
-										// just update the status
-										status =
-												statusList.getStatus().equals("")
-														? openStatusFromFieldMapping
-														: statusList.getStatus();
-									}
+		LocalDate startLocalDate = LocalDate.parse(startDate);
+		LocalDate endDate = LocalDate.now();
+		projectWiseNonClosedTickets.forEach(
+				(projectId, nonClosedTickets) -> {
+					String openStatusFromFieldMapping =
+							projectWiseOpenStatus.getOrDefault(projectId, CommonConstant.OPEN);
+					KanbanStatusTimeline.Builder statusTimeline = KanbanStatusTimeline.builder();
+					for (KanbanIssueCustomHistory issueCustomHistory : nonClosedTickets) {
+						addStatusIntervals(
+								issueCustomHistory,
+								openStatusFromFieldMapping,
+								startLocalDate,
+								endDate,
+								statusTimeline);
+					}
+					projectWiseStatusTimeline.put(projectId, statusTimeline.build());
+				});
+		return projectWiseStatusTimeline;
+	}
 
-									LocalDate endDate = LocalDate.now();
-									/**
-									 * when all activity dates are less than the filter range or when the last
-									 * status's activity date between the fiilter range loop will run from last
-									 * activity date till today's date for cumulative sum
-									 */
-									if (dateLessThanStartDate || startLocalDateTemp.isBefore(endDate)) {
-										for (LocalDate loopStartDate = startLocalDateTemp;
-												loopStartDate.isBefore(endDate) || loopStartDate.isEqual(endDate);
-												loopStartDate = loopStartDate.plusDays(1)) {
-											populateJiraHistoryFieldAndDateWiseIssues(
-													loopStartDate.toString(),
-													status,
-													issueCustomHistory.getStoryID(),
-													jiraHistoryStatusAndDateWiseIssueMap);
-										}
-									}
-								}
-							}
-							projectWiseJiraHistoryStatusAndDateWiseIssueMap.put(
-									nonClosedTicketsList.getKey(), jiraHistoryStatusAndDateWiseIssueMap);
-						});
-		return projectWiseJiraHistoryStatusAndDateWiseIssueMap;
+	/**
+	 * adds the days the story spent in each status, from the start date till today. A story which
+	 * changed status on a day is in both statuses that day.
+	 *
+	 * @param issueCustomHistory
+	 * @param openStatusFromFieldMapping
+	 * @param startDate
+	 * @param endDate
+	 * @param statusTimeline
+	 */
+	private void addStatusIntervals(
+			KanbanIssueCustomHistory issueCustomHistory,
+			String openStatusFromFieldMapping,
+			LocalDate startDate,
+			LocalDate endDate,
+			KanbanStatusTimeline.Builder statusTimeline) {
+		List<KanbanIssueHistory> statusHistoryDetailsList = issueCustomHistory.getHistoryDetails();
+		if (CollectionUtils.isEmpty(statusHistoryDetailsList)) {
+			return;
+		}
+		String storyId = issueCustomHistory.getStoryID();
+		// if all activity date are before the filter range then this flag will remain true
+		boolean dateLessThanStartDate = true;
+		String status = null;
+		LocalDate startLocalDateTemp = startDate;
+		for (KanbanIssueHistory statusList : statusHistoryDetailsList) {
+			String currentStatus =
+					statusList.getStatus().equals("") ? openStatusFromFieldMapping : statusList.getStatus();
+			LocalDate activityLocalDate =
+					LocalDate.parse(statusList.getActivityDate().split("\\.")[0], DATE_TIME_FORMATTER);
+			if (!activityLocalDate.isBefore(startLocalDateTemp)) {
+				if (status == null) {
+					// first activity of the ticket within the filter range
+					startLocalDateTemp = activityLocalDate;
+				} else {
+					// previous status till the day before the change, and the new status on that day
+					if (startLocalDateTemp.isBefore(activityLocalDate)) {
+						statusTimeline.add(
+								storyId, status, startLocalDateTemp, activityLocalDate.minusDays(1));
+					}
+					startLocalDateTemp = activityLocalDate;
+					dateLessThanStartDate = false;
+				}
+				statusTimeline.add(storyId, currentStatus, activityLocalDate, activityLocalDate);
+			}
+			// if activity date is less than the filter range then just update the status
+			status = currentStatus;
+		}
+		// the latest status holds from its activity date, or the start date, till today
+		if ((dateLessThanStartDate || startLocalDateTemp.isBefore(endDate))
+				&& !startLocalDateTemp.isAfter(endDate)) {
+			statusTimeline.add(storyId, status, startLocalDateTemp, endDate);
+		}
 	}
 
 	/**
@@ -1804,7 +1765,10 @@ public class KpiHelperService { // NOPMD
 		if (jiraIssueCustomHistory == null) {
 			return false;
 		} else {
-			List<JiraHistoryChangeLog> statusUpdationLog = jiraIssueCustomHistory.getStatusUpdationLog();
+			// the histories can be shared by the KPIs of the request, the log is sorted on a copy
+			List<JiraHistoryChangeLog> statusUpdationLog =
+					new ArrayList<>(
+							CollectionUtils.emptyIfNull(jiraIssueCustomHistory.getStatusUpdationLog()));
 			if (CollectionUtils.isNotEmpty(jiraFtprRejectStatus)) {
 				// if rejected field is mentioned then we will not calculate return transactions
 				return CollectionUtils.isNotEmpty(
@@ -2159,10 +2123,7 @@ public class KpiHelperService { // NOPMD
 						.getHierarchyIdLevelMap(false)
 						.get(CommonConstant.HIERARCHY_LEVEL_ID_SPRINT);
 
-		if (!kpiRequest
-						.getRequestTrackerId()
-						.toLowerCase()
-						.contains(KPISource.EXCEL.name().toLowerCase())
+		if (!KpiExecutionContext.isCurrentExcelRequest(kpiRequest.getRequestTrackerId())
 				&& sprintLevel >= kpiRequest.getLevel()
 				&& isLeadTimeDuration(kpiRequest.getKpiList())) {
 			cacheService.setIntoApplicationCache(
@@ -2594,8 +2555,10 @@ public class KpiHelperService { // NOPMD
 						.collect(Collectors.toMap(JiraIssue::getNumber, Function.identity()));
 
 		for (JiraIssueCustomHistory defectHistory : defectHistoryList) {
-			List<JiraHistoryChangeLog> statusUpdationLog = defectHistory.getStatusUpdationLog();
-			if (CollectionUtils.isEmpty(statusUpdationLog)) continue;
+			if (CollectionUtils.isEmpty(defectHistory.getStatusUpdationLog())) continue;
+			// the histories can be shared by the KPIs of the request, the log is sorted on a copy
+			List<JiraHistoryChangeLog> statusUpdationLog =
+					new ArrayList<>(defectHistory.getStatusUpdationLog());
 			statusUpdationLog.sort(Comparator.comparing(JiraHistoryChangeLog::getUpdatedOn));
 
 			Map<String, DateTime> closedStatusDateMap = new HashMap<>();
@@ -0,0 +1,152 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+
+
+package com.publicissapient.kpidashboard.apis.common.service.impl;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.publicissapient.kpidashboard.apis.config.CustomApiConfig;
+import com.publicissapient.kpidashboard.apis.enums.KPISource;
+import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
+import com.publicissapient.kpidashboard.apis.model.KpiRequest;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Computes the KPIs of identical concurrent requests once. When a board is opened by several users
+ * at the same time, the requests missing the KPI cache all ask for the same response: the first one
+ * computes it and the others, keyed like the cached response, wait for its result.
+ *
+ * <p>A request waiting longer than the KPI time budget, or whose first request failed, computes its
+ * KPIs itself.
+ */
+@Service
+@Slf4j
+public class KpiRequestCoalescer {
+
+	private static final String TAG_SOURCE = "source";
+	private static final String TAG_RESULT = "result";
+	private static final long DEFAULT_MAX_WAIT_SECONDS = 120;
+
+	private final Map<String, CompletableFuture<List<KpiElement>>> inFlight =
+			new ConcurrentHashMap<>();
+	private final long maxWaitMillis;
+	private final MeterRegistry meterRegistry;
+
+	/** Computation of the KPIs of a request. */
+	@FunctionalInterface
+	public interface KpiComputation<E extends Exception> {
+
+		List<KpiElement> compute() throws E;
+	}
+
+	@Autowired
+	public KpiRequestCoalescer(CustomApiConfig customApiConfig, MeterRegistry meterRegistry) {
+		this(customApiConfig.getKpiRequestTimeBudgetSeconds(), meterRegistry);
+	}
+
+	/**
+	 * @param maxWaitSeconds time a request waits for an identical request before computing its KPIs
+	 * @param meterRegistry registry of the coalescing metrics
+	 */
+	public KpiRequestCoalescer(long maxWaitSeconds, MeterRegistry meterRegistry) {
+		this.maxWaitMillis =
+				TimeUnit.SECONDS.toMillis(maxWaitSeconds > 0 ? maxWaitSeconds : DEFAULT_MAX_WAIT_SECONDS);
+		this.meterRegistry = meterRegistry;
+		Gauge.builder("kpi.request.inflight", inFlight, Map::size)
+				.description("Distinct KPI responses being computed")
+				.register(meterRegistry);
+	}
+
+	/**
+	 * Computes the KPIs of the request, or waits for the identical request computing them.
+	 *
+	 * @param kpiRequest kpi request, excel requests compute their own KPIs
+	 * @param source KPI source, used in metric tags
+	 * @param cacheKey key of the cached response of the request, null if the response is not cached
+	 * @param computation computes the KPIs of the request
+	 * @param <E> exception thrown by the computation
+	 * @return the KPIs, shared with the identical requests
+	 * @throws E if the KPIs of this request cannot be computed
+	 */
+	public <E extends Exception> List<KpiElement> computeOnce(
+			KpiRequest kpiRequest, String source, String cacheKey, KpiComputation<E> computation)
+			throws E {
+		if (null == cacheKey || isExcelRequest(kpiRequest)) {
+			return computation.compute();
+		}
+		CompletableFuture<List<KpiElement>> flight = new CompletableFuture<>();
+		CompletableFuture<List<KpiElement>> leader = inFlight.putIfAbsent(cacheKey, flight);
+		if (null == leader) {
+			count(source, "computed");
+			return lead(cacheKey, flight, computation);
+		}
+		try {
+			List<KpiElement> response = leader.get(maxWaitMillis, TimeUnit.MILLISECONDS);
+			count(source, "coalesced");
+			return response;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			log.warn("Interrupted while waiting for the KPIs of {}", cacheKey);
+		} catch (ExecutionException e) {
+			log.debug("Identical request failed, computing the KPIs of {}", cacheKey);
+		} catch (TimeoutException e) {
+			log.warn("KPIs of {} not computed by an identical request in time", cacheKey);
+		}
+		count(source, "fallback");
+		return computation.compute();
+	}
+
+	private <E extends Exception> List<KpiElement> lead(
+			String cacheKey, CompletableFuture<List<KpiElement>> flight, KpiComputation<E> computation)
+			throws E {
+		try {
+			List<KpiElement> response = computation.compute();
+			flight.complete(response);
+			return response;
+		} finally {
+			if (!flight.isDone()) {
+				flight.completeExceptionally(new IllegalStateException("KPI computation failed"));
+			}
+			inFlight.remove(cacheKey, flight);
+		}
+	}
+
+	private static boolean isExcelRequest(KpiRequest kpiRequest) {
+		return KpiExecutionContext.isCurrentExcelRequest(kpiRequest.getRequestTrackerId());
+	}
+
+	private void count(String source, String result) {
+		meterRegistry
+				.counter("kpi.request.coalescing", TAG_SOURCE, source, TAG_RESULT, result)
+				.increment();
+	}
+}
@@ -0,0 +1,214 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+
+package com.publicissapient.kpidashboard.apis.common.service.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+import io.micrometer.core.instrument.Counter;
+
+/**
+ * Data shared by the KPIs of a single KPI request. The KPIs of a board mostly read the same
+ * sprints, sprint issues and histories; the first KPI asking for a data set loads it and the
+ * sibling KPIs, including the ones asking concurrently, get the loaded result instead of querying
+ * the database again.
+ *
+ * <p>A loader is created by {@link KpiExecutionEngine} for each request and bound to the threads
+ * computing its KPIs, it is dropped with the request.
+ */
+public final class KpiRequestDataLoader {
+
+	private static final ThreadLocal<KpiRequestDataLoader> CURRENT = new ThreadLocal<>();
+
+	private final Map<Object, CompletableFuture<Object>> loadedData = new ConcurrentHashMap<>();
+	private final Counter hitCounter;
+	private final Counter missCounter;
+
+	KpiRequestDataLoader(Counter hitCounter, Counter missCounter) {
+		this.hitCounter = hitCounter;
+		this.missCounter = missCounter;
+	}
+
+	/**
+	 * @return the loader of the request computed by the current thread, null outside of a KPI request
+	 */
+	public static KpiRequestDataLoader current() {
+		return CURRENT.get();
+	}
+
+	/**
+	 * Returns the data identified by the key, loading it on the first call. Concurrent calls with the
+	 * same key wait for the first one instead of loading the data again. A failed load is not
+	 * remembered.
+	 *
+	 * @param key identifies the data, see {@link #key(String, Object...)}
+	 * @param loader loads the data
+	 * @param <T> type of the data
+	 * @return the loaded data, shared with the other KPIs of the request
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T load(Object key, Supplier<T> loader) {
+		CompletableFuture<Object> future = new CompletableFuture<>();
+		CompletableFuture<Object> loading = loadedData.putIfAbsent(key, future);
+		if (null != loading) {
+			hitCounter.increment();
+			return (T) join(loading);
+		}
+		missCounter.increment();
+		try {
+			T data = loader.get();
+			future.complete(data);
+			return data;
+		} catch (RuntimeException e) {
+			loadedData.remove(key, future);
+			future.completeExceptionally(e);
+			throw e;
+		}
+	}
+
+	/**
+	 * Returns the elements of some ids in a data set loaded by id, such as the histories of issues.
+	 * Only the ids no KPI of the request asked for yet are loaded, so that the KPIs asking for
+	 * overlapping ids load their union once instead of each loading its own ids. Concurrent calls
+	 * wait for the ids being loaded by the others. A failed load is not remembered.
+	 *
+	 * @param key identifies the data set, see {@link #key(String, Object...)}
+	 * @param ids ids of the elements
+	 * @param loader loads the elements of the ids, grouped by id
+	 * @param <K> type of the ids
+	 * @param <V> type of the elements
+	 * @return the elements of the ids, shared with the other KPIs of the request
+	 */
+	@SuppressWarnings("unchecked")
+	public <K, V> List<V> loadByIds(
+			Object key, Collection<K> ids, Function<Set<K>, Map<K, List<V>>> loader) {
+		Map<K, CompletableFuture<Map<K, List<V>>>> loadedIds =
+				(Map<K, CompletableFuture<Map<K, List<V>>>>)
+						loadedData
+								.computeIfAbsent(
+										key, dataSet -> CompletableFuture.completedFuture(new ConcurrentHashMap<>()))
+								.join();
+		CompletableFuture<Map<K, List<V>>> batch = new CompletableFuture<>();
+		Map<K, CompletableFuture<Map<K, List<V>>>> batchOfIds = new LinkedHashMap<>();
+		Set<K> newIds = new LinkedHashSet<>();
+		for (K id : ids) {
+			if (!batchOfIds.containsKey(id)) {
+				CompletableFuture<Map<K, List<V>>> loading = loadedIds.putIfAbsent(id, batch);
+				batchOfIds.put(id, null == loading ? batch : loading);
+				if (null == loading) {
+					newIds.add(id);
+				}
+			}
+		}
+		if (newIds.isEmpty()) {
+			hitCounter.increment();
+		} else {
+			missCounter.increment();
+			try {
+				batch.complete(loader.apply(newIds));
+			} catch (RuntimeException e) {
+				newIds.forEach(id -> loadedIds.remove(id, batch));
+				batch.completeExceptionally(e);
+				throw e;
+			}
+		}
+		List<V> elements = new ArrayList<>();
+		batchOfIds.forEach(
+				(id, loading) -> elements.addAll(join(loading).getOrDefault(id, List.of())));
+		return elements;
+	}
+
+	private static <T> T join(CompletableFuture<T> future) {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			throw e.getCause() instanceof RuntimeException runtimeException ? runtimeException : e;
+		}
+	}
+
+	/**
+	 * Builds a key from the query name and its arguments. Collections are compared regardless of
+	 * their order and regex patterns by their expression, so that the filter maps built separately by
+	 * each KPI give the same key.
+	 *
+	 * @param query name of the query
+	 * @param args arguments of the query
+	 * @return key of the query result
+	 */
+	public static Object key(String query, Object... args) {
+		List<Object> key = new ArrayList<>(args.length + 1);
+		key.add(query);
+		for (Object arg : args) {
+			key.add(keyOf(arg));
+		}
+		return key;
+	}
+
+	private static Object keyOf(Object value) {
+		if (value instanceof Pattern pattern) {
+			return pattern.pattern() + '/' + pattern.flags();
+		}
+		if (value instanceof Map<?, ?> map) {
+			Map<Object, Object> keyMap = new HashMap<>();
+			map.forEach((mapKey, mapValue) -> keyMap.put(keyOf(mapKey), keyOf(mapValue)));
+			return keyMap;
+		}
+		if (value instanceof Collection<?> collection) {
+			Set<Object> keySet = new HashSet<>();
+			collection.forEach(element -> keySet.add(keyOf(element)));
+			return keySet;
+		}
+		return value;
+	}
+
+	/**
+	 * @param task task computing a KPI of the request
+	 * @param <T> result type
+	 * @return the task, run with this loader bound to the executing thread
+	 */
+	<T> Callable<T> bind(Callable<T> task) {
+		return () -> {
+			KpiRequestDataLoader previous = CURRENT.get();
+			CURRENT.set(this);
+			try {
+				return task.call();
+			} finally {
+				if (null == previous) {
+					CURRENT.remove();
+				} else {
+					CURRENT.set(previous);
+				}
+			}
+		};
+	}
+}
@@ -0,0 +1,576 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+
+
+package com.publicissapient.kpidashboard.apis.common.service.impl;
+
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.Serializable;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * Binary codec of the cached KPI responses, used to keep them off heap and on disk. The KPI models
+ * ({@code KpiElement}, {@code DataCount}, {@code DataCountGroup} and the other models of the
+ * application) are written property by property through their getters, the property names of a
+ * model and the repeated strings (project names, dates, groups) are written once per response.
+ *
+ * <p>All the properties with a setter are written, the ones ignored in the json responses too, and
+ * a model referenced several times (the nodes of a hierarchy) is written once. A model with a
+ * property without setter is written with java serialization, as the property could not be read
+ * back, it fails to be written if it is not serializable and the property holds a value. Values of
+ * other types are written with java serialization. Properties added to or removed from a model
+ * since a response was written are skipped when it is read.
+ */
+public class KpiResponseCodec {
+
+	private static final String MODEL_PACKAGE = "com.publicissapient.kpidashboard.";
+	private static final int FORMAT_VERSION = 2;
+	private static final int MAX_DEPTH = 64;
+
+	private static final int NULL = 0;
+	private static final int TRUE = 1;
+	private static final int FALSE = 2;
+	private static final int INT = 3;
+	private static final int LONG = 4;
+	private static final int DOUBLE = 5;
+	private static final int STRING = 6;
+	private static final int STRING_REF = 7;
+	private static final int LIST = 8;
+	private static final int SET = 9;
+	private static final int MAP = 10;
+	private static final int MODEL = 11;
+	private static final int ENUM = 12;
+	private static final int SERIALIZED = 13;
+	private static final int MODEL_REF = 14;
+
+	private final ClassLoader classLoader;
+	private final Map<Class<?>, List<PropertyDescriptor>> modelProperties = new ConcurrentHashMap<>();
+	private final Map<Class<?>, List<PropertyDescriptor>> readOnlyProperties =
+			new ConcurrentHashMap<>();
+
+	public KpiResponseCodec(ClassLoader classLoader) {
+		this.classLoader = classLoader;
+	}
+
+	/**
+	 * @param response cached response
+	 * @return the response in binary form
+	 * @throws IOException if a value cannot be written
+	 */
+	public byte[] encode(Object response) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(1024);
+		Writer writer = new Writer(new DataOutputStream(bytes));
+		writer.out.writeByte(FORMAT_VERSION);
+		writer.write(response, 0);
+		writer.out.flush();
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * @param binary response in binary form
+	 * @return the cached response
+	 * @throws IOException if the binary form is not readable
+	 * @throws ClassNotFoundException if a model of the response does not exist anymore
+	 */
+	public Object decode(byte[] binary) throws IOException, ClassNotFoundException {
+		Reader reader = new Reader(new DataInputStream(new ByteArrayInputStream(binary)));
+		int version = reader.in.readUnsignedByte();
+		if (version != FORMAT_VERSION) {
+			throw new IOException("Unknown cached response format " + version);
+		}
+		return reader.read();
+	}
+
+	private static boolean isModel(Class<?> type) {
+		return type.getName().startsWith(MODEL_PACKAGE)
+				&& !type.isEnum()
+				&& !type.isRecord()
+				&& !Modifier.isAbstract(type.getModifiers())
+				&& null != noArgConstructor(type);
+	}
+
+	private static Constructor<?> noArgConstructor(Class<?> type) {
+		try {
+			return type.getConstructor();
+		} catch (NoSuchMethodException e) {
+			return null;
+		}
+	}
+
+	private List<PropertyDescriptor> getProperties(Class<?> type) {
+		return modelProperties.computeIfAbsent(
+				type, model -> introspect(model, property -> null != property.getWriteMethod()));
+	}
+
+	/** properties without setter backed by a field, their value would be lost in the cache */
+	private List<PropertyDescriptor> getReadOnlyProperties(Class<?> type) {
+		return readOnlyProperties.computeIfAbsent(
+				type,
+				model ->
+						introspect(
+								model,
+								property -> null == property.getWriteMethod() && hasField(model, property)));
+	}
+
+	private boolean hasReadOnlyProperties(Class<?> type) {
+		return !getReadOnlyProperties(type).isEmpty();
+	}
+
+	private static List<PropertyDescriptor> introspect(
+			Class<?> type, Predicate<PropertyDescriptor> filter) {
+		try {
+			List<PropertyDescriptor> properties = new ArrayList<>();
+			for (PropertyDescriptor property :
+					Introspector.getBeanInfo(type, Object.class).getPropertyDescriptors()) {
+				if (null != property.getReadMethod() && filter.test(property)) {
+					properties.add(property);
+				}
+			}
+			return properties;
+		} catch (IntrospectionException e) {
+			throw new IllegalStateException("Cannot read the properties of " + type.getName(), e);
+		}
+	}
+
+	/** compared ignoring case, a getter may not follow the case of its field */
+	private static boolean hasField(Class<?> type, PropertyDescriptor property) {
+		for (Class<?> current = type; null != current; current = current.getSuperclass()) {
+			for (Field field : current.getDeclaredFields()) {
+				if (!Modifier.isStatic(field.getModifiers())
+						&& field.getName().equalsIgnoreCase(property.getName())) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private final class Writer {
+
+		private final DataOutputStream out;
+		private final Map<String, Integer> strings = new HashMap<>();
+		private final Map<Class<?>, Integer> models = new HashMap<>();
+		private final Map<Object, Integer> writtenModels = new IdentityHashMap<>();
+
+		private Writer(DataOutputStream out) {
+			this.out = out;
+		}
+
+		private void write(Object value, int depth) throws IOException {
+			if (depth > MAX_DEPTH) {
+				throw new IOException("Cached response is nested deeper than " + MAX_DEPTH);
+			}
+			if (null == value) {
+				out.writeByte(NULL);
+			} else if (value instanceof Boolean bool) {
+				out.writeByte(Boolean.TRUE.equals(bool) ? TRUE : FALSE);
+			} else if (value instanceof Integer number) {
+				out.writeByte(INT);
+				writeVarLong(number);
+			} else if (value instanceof Long number) {
+				out.writeByte(LONG);
+				writeVarLong(number);
+			} else if (value instanceof Double number) {
+				out.writeByte(DOUBLE);
+				out.writeDouble(number);
+			} else if (value instanceof String string) {
+				writeString(string);
+			} else if (value instanceof List<?> list) {
+				writeElements(LIST, list, depth);
+			} else if (value instanceof Set<?> set) {
+				writeElements(SET, set, depth);
+			} else if (value instanceof Map<?, ?> map) {
+				out.writeByte(MAP);
+				writeVarLong(map.size());
+				for (Map.Entry<?, ?> entry : map.entrySet()) {
+					write(entry.getKey(), depth + 1);
+					write(entry.getValue(), depth + 1);
+				}
+			} else if (value instanceof Enum<?> constant) {
+				out.writeByte(ENUM);
+				writeString(constant.getDeclaringClass().getName());
+				writeString(constant.name());
+			} else if (isModel(value.getClass())
+					&& !(value instanceof Serializable && hasReadOnlyProperties(value.getClass()))) {
+				writeModel(value, depth);
+			} else if (value instanceof Serializable) {
+				out.writeByte(SERIALIZED);
+				ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+				try (ObjectOutputStream objectOut = new ObjectOutputStream(bytes)) {
+					objectOut.writeObject(value);
+				}
+				writeVarLong(bytes.size());
+				bytes.writeTo(out);
+			} else {
+				throw new IOException(value.getClass().getName() + " cannot be cached");
+			}
+		}
+
+		private void writeElements(int tag, Collection<?> elements, int depth) throws IOException {
+			out.writeByte(tag);
+			writeVarLong(elements.size());
+			for (Object element : elements) {
+				write(element, depth + 1);
+			}
+		}
+
+		private void writeModel(Object model, int depth) throws IOException {
+			Integer writtenModel = writtenModels.get(model);
+			if (null != writtenModel) {
+				out.writeByte(MODEL_REF);
+				writeVarLong(writtenModel);
+				return;
+			}
+			writtenModels.put(model, writtenModels.size());
+			Class<?> type = model.getClass();
+			for (PropertyDescriptor property : getReadOnlyProperties(type)) {
+				if (null != get(model, property)) {
+					throw new IOException(
+							property.getName() + " of " + type.getName() + " has no setter, it cannot be cached");
+				}
+			}
+			List<PropertyDescriptor> properties = getProperties(type);
+			out.writeByte(MODEL);
+			Integer modelId = models.get(type);
+			if (null == modelId) {
+				// first model of its type: its name and property names, then it is referred by id
+				models.put(type, models.size() + 1);
+				writeVarLong(0);
+				writeString(type.getName());
+				writeVarLong(properties.size());
+				for (PropertyDescriptor property : properties) {
+					writeString(property.getName());
+				}
+			} else {
+				writeVarLong(modelId);
+			}
+			for (PropertyDescriptor property : properties) {
+				write(get(model, property), depth + 1);
+			}
+		}
+
+		private Object get(Object model, PropertyDescriptor property) throws IOException {
+			try {
+				return property.getReadMethod().invoke(model);
+			} catch (IllegalAccessException | InvocationTargetException e) {
+				throw new IOException("Cannot read " + property.getName() + " of " + model.getClass(), e);
+			}
+		}
+
+		private void writeString(String string) throws IOException {
+			Integer index = strings.get(string);
+			if (null != index) {
+				out.writeByte(STRING_REF);
+				writeVarLong(index);
+				return;
+			}
+			strings.put(string, strings.size());
+			byte[] utf8 = string.getBytes(StandardCharsets.UTF_8);
+			out.writeByte(STRING);
+			writeVarLong(utf8.length);
+			out.write(utf8);
+		}
+
+		private void writeVarLong(long value) throws IOException {
+			// zig-zag, so that small negative numbers stay short
+			long remaining = (value << 1) ^ (value >> 63);
+			while ((remaining & ~0x7FL) != 0) {
+				out.writeByte((int) ((remaining & 0x7F) | 0x80));
+				remaining >>>= 7;
+			}
+			out.writeByte((int) remaining);
+		}
+	}
+
+	private final class Reader {
+
+		private final DataInputStream in;
+		private final List<String> strings = new ArrayList<>();
+		private final List<ModelReader> models = new ArrayList<>();
+		private final List<Object> readModels = new ArrayList<>();
+
+		private Reader(DataInputStream in) {
+			this.in = in;
+		}
+
+		private Object read() throws IOException, ClassNotFoundException {
+			int tag = in.readUnsignedByte();
+			switch (tag) {
+				case NULL:
+					return null;
+				case TRUE:
+					return Boolean.TRUE;
+				case FALSE:
+					return Boolean.FALSE;
+				case INT:
+					return (int) readVarLong();
+				case LONG:
+					return readVarLong();
+				case DOUBLE:
+					return in.readDouble();
+				case STRING, STRING_REF:
+					return readString(tag);
+				case LIST:
+					return readElements(new ArrayList<>());
+				case SET:
+					return readElements(new LinkedHashSet<>());
+				case MAP:
+					return readMap();
+				case ENUM:
+					return readEnum();
+				case MODEL:
+					return readModel();
+				case MODEL_REF:
+					return readModelRef();
+				case SERIALIZED:
+					return readSerialized();
+				default:
+					throw new IOException("Unknown value type " + tag);
+			}
+		}
+
+		private Collection<Object> readElements(Collection<Object> elements)
+				throws IOException, ClassNotFoundException {
+			int size = readSize();
+			for (int i = 0; i < size; i++) {
+				elements.add(read());
+			}
+			return elements;
+		}
+
+		private Map<Object, Object> readMap() throws IOException, ClassNotFoundException {
+			int size = readSize();
+			Map<Object, Object> map = new LinkedHashMap<>();
+			for (int i = 0; i < size; i++) {
+				Object key = read();
+				map.put(key, read());
+			}
+			return map;
+		}
+
+		@SuppressWarnings({"unchecked", "rawtypes"})
+		private Object readEnum() throws IOException, ClassNotFoundException {
+			Class enumType = Class.forName(readString(), false, classLoader);
+			return Enum.valueOf(enumType, readString());
+		}
+
+		private Object readModel() throws IOException, ClassNotFoundException {
+			int modelId = readSize();
+			ModelReader modelReader;
+			if (modelId == 0) {
+				Class<?> type = Class.forName(readString(), false, classLoader);
+				int propertyCount = readSize();
+				List<String> propertyNames = new ArrayList<>(propertyCount);
+				for (int i = 0; i < propertyCount; i++) {
+					propertyNames.add(readString());
+				}
+				modelReader = new ModelReader(type, propertyNames);
+				models.add(modelReader);
+			} else if (modelId <= models.size()) {
+				modelReader = models.get(modelId - 1);
+			} else {
+				throw new IOException("Unknown model " + modelId);
+			}
+			return modelReader.read(this);
+		}
+
+		private Object readModelRef() throws IOException {
+			int index = readSize();
+			if (index >= readModels.size()) {
+				throw new IOException("Unknown model reference " + index);
+			}
+			return readModels.get(index);
+		}
+
+		private Object readSerialized() throws IOException, ClassNotFoundException {
+			byte[] bytes = new byte[readSize()];
+			in.readFully(bytes);
+			try (ObjectInputStream objectIn = new ClassLoaderObjectInputStream(bytes)) {
+				return objectIn.readObject();
+			}
+		}
+
+		private String readString() throws IOException {
+			return readString(in.readUnsignedByte());
+		}
+
+		private String readString(int tag) throws IOException {
+			if (tag == STRING_REF) {
+				int index = readSize();
+				if (index >= strings.size()) {
+					throw new IOException("Unknown string " + index);
+				}
+				return strings.get(index);
+			}
+			if (tag != STRING) {
+				throw new IOException("Expected a string, found value type " + tag);
+			}
+			byte[] utf8 = new byte[readSize()];
+			in.readFully(utf8);
+			String string = new String(utf8, StandardCharsets.UTF_8);
+			strings.add(string);
+			return string;
+		}
+
+		private int readSize() throws IOException {
+			long size = readVarLong();
+			if (size < 0 || size > Integer.MAX_VALUE) {
+				throw new IOException("Invalid size " + size);
+			}
+			return (int) size;
+		}
+
+		private long readVarLong() throws IOException {
+			long encoded = 0;
+			for (int shift = 0; shift < 64; shift += 7) {
+				int next = in.readUnsignedByte();
+				encoded |= (long) (next & 0x7F) << shift;
+				if ((next & 0x80) == 0) {
+					return (encoded >>> 1) ^ -(encoded & 1);
+				}
+			}
+			throw new IOException("Malformed number");
+		}
+	}
+
+	/** Reads the models of a type, with the property names they were written with. */
+	private final class ModelReader {
+
+		private final Class<?> type;
+		/** setter of each written property, null for the properties the model does not have anymore */
+		private final Method[] setters;
+
+		private ModelReader(Class<?> type, List<String> propertyNames) {
+			this.type = type;
+			Map<String, Method> settersByName = new HashMap<>();
+			getProperties(type)
+					.forEach(property -> settersByName.put(property.getName(), property.getWriteMethod()));
+			this.setters = new Method[propertyNames.size()];
+			for (int i = 0; i < setters.length; i++) {
+				setters[i] = settersByName.get(propertyNames.get(i));
+			}
+		}
+
+		private Object read(Reader reader) throws IOException, ClassNotFoundException {
+			Object model = newInstance();
+			// registered before its properties, which may refer back to it
+			reader.readModels.add(model);
+			for (Method setter : setters) {
+				Object value = reader.read();
+				if (null != setter) {
+					set(model, setter, value);
+				}
+			}
+			return model;
+		}
+
+		private Object newInstance() throws IOException {
+			try {
+				return type.getConstructor().newInstance();
+			} catch (ReflectiveOperationException e) {
+				throw new IOException("Cannot create " + type.getName(), e);
+			}
+		}
+
+		private void set(Object model, Method setter, Object value) throws IOException {
+			Class<?> parameterType = setter.getParameterTypes()[0];
+			if (null == value && parameterType.isPrimitive()) {
+				return;
+			}
+			try {
+				setter.invoke(model, convert(parameterType, value));
+			} catch (IllegalArgumentException e) {
+				// the type of the property changed since the response was cached
+			} catch (IllegalAccessException | InvocationTargetException e) {
+				throw new IOException("Cannot set " + setter.getName() + " of " + type.getName(), e);
+			}
+		}
+
+		/** collections and maps are read as lists, sets and maps unless the property needs another */
+		@SuppressWarnings("unchecked")
+		private Object convert(Class<?> parameterType, Object value) {
+			if (null == value
+					|| parameterType.isInstance(value)
+					|| parameterType.isInterface()
+					|| Modifier.isAbstract(parameterType.getModifiers())) {
+				return value;
+			}
+			try {
+				if (value instanceof Collection<?> elements
+						&& Collection.class.isAssignableFrom(parameterType)) {
+					Collection<Object> converted =
+							(Collection<Object>) parameterType.getConstructor().newInstance();
+					converted.addAll(elements);
+					return converted;
+				}
+				if (value instanceof Map<?, ?> map && Map.class.isAssignableFrom(parameterType)) {
+					Map<Object, Object> converted =
+							(Map<Object, Object>) parameterType.getConstructor().newInstance();
+					converted.putAll(map);
+					return converted;
+				}
+			} catch (ReflectiveOperationException e) {
+				// left as read, the property is skipped
+			}
+			return value;
+		}
+	}
+
+	private final class ClassLoaderObjectInputStream extends ObjectInputStream {
+
+		private ClassLoaderObjectInputStream(byte[] bytes) throws IOException {
+			super(new ByteArrayInputStream(bytes));
+		}
+
+		@Override
+		protected Class<?> resolveClass(ObjectStreamClass description)
+				throws IOException, ClassNotFoundException {
+			try {
+				return Class.forName(description.getName(), false, classLoader);
+			} catch (ClassNotFoundException e) {
+				return super.resolveClass(description);
+			}
+		}
+	}
+}
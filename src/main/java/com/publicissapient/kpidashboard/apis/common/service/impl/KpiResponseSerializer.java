@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+
+
+package com.publicissapient.kpidashboard.apis.common.service.impl;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import org.ehcache.spi.serialization.Serializer;
+import org.ehcache.spi.serialization.SerializerException;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Ehcache serializer of the KPI response caches, used when a response moves to the off-heap or the
+ * disk tier, see {@link KpiResponseCodec}. Ehcache creates the serializers itself, the metrics are
+ * registered on the global registry, which the actuator registry is added to.
+ */
+public class KpiResponseSerializer implements Serializer<Object> {
+
+	private final KpiResponseCodec codec;
+	private final Timer encodeTimer;
+	private final Timer decodeTimer;
+	private final DistributionSummary entrySize;
+
+	public KpiResponseSerializer(ClassLoader classLoader) {
+		this.codec = new KpiResponseCodec(classLoader);
+		this.encodeTimer = codecTimer("encode");
+		this.decodeTimer = codecTimer("decode");
+		this.entrySize =
+				DistributionSummary.builder("kpi.cache.entry.size")
+						.description("Size of the KPI responses written off heap")
+						.baseUnit("bytes")
+						.register(Metrics.globalRegistry);
+	}
+
+	@Override
+	public ByteBuffer serialize(Object response) {
+		Timer.Sample sample = Timer.start();
+		try {
+			byte[] binary = codec.encode(response);
+			entrySize.record(binary.length);
+			return ByteBuffer.wrap(binary);
+		} catch (IOException e) {
+			throw new SerializerException("Cannot write the cached KPI response", e);
+		} finally {
+			sample.stop(encodeTimer);
+		}
+	}
+
+	@Override
+	public Object read(ByteBuffer binary) throws ClassNotFoundException {
+		Timer.Sample sample = Timer.start();
+		try {
+			byte[] bytes = new byte[binary.remaining()];
+			binary.get(bytes);
+			return codec.decode(bytes);
+		} catch (IOException e) {
+			throw new SerializerException("Cannot read the cached KPI response", e);
+		} finally {
+			sample.stop(decodeTimer);
+		}
+	}
+
+	@Override
+	public boolean equals(Object response, ByteBuffer binary) throws ClassNotFoundException {
+		return response.equals(read(binary));
+	}
+
+	private static Timer codecTimer(String operation) {
+		return Timer.builder("kpi.cache.codec.latency")
+				.description("Time to write or read a KPI response off heap")
+				.tag("operation", operation)
+				.register(Metrics.globalRegistry);
+	}
+}
@@ -0,0 +1,55 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+
+
+package com.publicissapient.kpidashboard.apis.common.service.impl;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import com.publicissapient.kpidashboard.apis.common.service.CacheInvalidationBus;
+import com.publicissapient.kpidashboard.apis.model.CacheInvalidation;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Delivers the evictions to the subscribers of this bus on the publishing thread. Used by a single
+ * instance, and to connect several instances living in the same JVM.
+ */
+@Slf4j
+public class LoopbackCacheInvalidationBus implements CacheInvalidationBus {
+
+	private final List<Consumer<CacheInvalidation>> subscribers = new CopyOnWriteArrayList<>();
+
+	@Override
+	public void publish(CacheInvalidation invalidation) {
+		for (Consumer<CacheInvalidation> subscriber : subscribers) {
+			try {
+				subscriber.accept(invalidation);
+			} catch (RuntimeException e) {
+				log.error("Cache invalidation {} not applied", invalidation, e);
+			}
+		}
+	}
+
+	@Override
+	public void subscribe(Consumer<CacheInvalidation> subscriber) {
+		subscribers.add(subscriber);
+	}
+}
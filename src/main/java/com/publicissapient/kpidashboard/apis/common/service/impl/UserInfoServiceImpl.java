@@ -44,6 +44,7 @@ import org.springframework.web.client.RestTemplate;
 
 import com.google.common.collect.Lists;
 import com.publicissapient.kpidashboard.apis.abac.ProjectAccessManager;
+import com.publicissapient.kpidashboard.apis.abac.UserAuthorizationContextService;
 import com.publicissapient.kpidashboard.apis.auth.AuthProperties;
 import com.publicissapient.kpidashboard.apis.auth.exceptions.DeleteLastAdminException;
 import com.publicissapient.kpidashboard.apis.auth.exceptions.UserNotFoundException;
@@ -113,6 +114,8 @@ public class UserInfoServiceImpl implements UserInfoService {
 
 	@Autowired private DataAccessService dataAccessService;
 
+	@Autowired private UserAuthorizationContextService userAuthorizationContextService;
+
 	final ModelMapper modelMapper = new ModelMapper();
 
 	@Override
@@ -257,7 +260,7 @@ public class UserInfoServiceImpl implements UserInfoService {
 		}
 
 		user.getAuthorities().remove(Constant.ROLE_SUPERADMIN);
-		return this.userInfoRepository.save(user);
+		return saveUserInfo(user);
 	}
 
 	/**
@@ -404,7 +407,7 @@ public class UserInfoServiceImpl implements UserInfoService {
 	 */
 	@Override
 	public UserInfo updateUserInfo(final UserInfo userInfo) {
-		return userInfoRepository.save(userInfo);
+		return saveUserInfo(userInfo);
 	}
 
 	/**
@@ -427,9 +430,22 @@ public class UserInfoServiceImpl implements UserInfoService {
 		if (userInfoRepository.count() == 0) {
 			UserInfo superAdminUserInfo =
 					createSuperAdminUserInfo(userInfo.getUsername(), userInfo.getEmailAddress());
-			return userInfoRepository.save(superAdminUserInfo);
+			return saveUserInfo(superAdminUserInfo);
 		}
-		return userInfoRepository.save(userInfo);
+		return saveUserInfo(userInfo);
+	}
+
+	/**
+	 * Saves the user info and drops the cached authorization context of the user, as the roles or
+	 * the project accesses may have changed.
+	 *
+	 * @param userInfo userInfo
+	 * @return saved userInfo
+	 */
+	private UserInfo saveUserInfo(UserInfo userInfo) {
+		UserInfo savedUserInfo = userInfoRepository.save(userInfo);
+		userAuthorizationContextService.evictAuthorizationContext(userInfo.getUsername());
+		return savedUserInfo;
 	}
 
 	@Override
@@ -476,6 +492,7 @@ public class UserInfoServiceImpl implements UserInfoService {
 		try {
 			userInfoRepository.deleteByUsernameAndEmailAddress(
 					userInfo.getUsername(), userInfo.getEmailAddress());
+			userAuthorizationContextService.evictAuthorizationContext(userInfo.getUsername());
 			authenticationService.delete(userInfo.getUsername(), userInfo.getEmailAddress());
 			userTokenDeletionService.invalidateSession(userInfo.getUsername());
 			userBoardConfigService.deleteUser(userInfo.getUsername());
@@ -562,7 +579,7 @@ public class UserInfoServiceImpl implements UserInfoService {
 			userInfo.setUsername(userName);
 			userInfo.setAuthorities(authorities);
 			userInfo.setAuthType(authType);
-			userInfoRepository.save(userInfo);
+			saveUserInfo(userInfo);
 		}
 		return userInfo;
 	}
@@ -773,7 +790,7 @@ public class UserInfoServiceImpl implements UserInfoService {
 				&& (userinfo.getAuthorities().contains(Constant.ROLE_SUPERADMIN)
 						|| userinfo.getAuthorities().contains(Constant.ROLE_PROJECT_ADMIN))) {
 			userinfo.setNotificationEmail(notificationEmail);
-			userInfoRepository.save(userinfo);
+			saveUserInfo(userinfo);
 			return userinfo;
 		}
 		return null;
@@ -19,6 +19,9 @@
 package com.publicissapient.kpidashboard.apis.common.service.impl;
 
 import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
@@ -42,6 +45,9 @@ public class UsersSessionServiceImpl implements UsersSessionService {
 	@Autowired private UserInfoRepository userInfoRepository;
 	@Autowired private CustomApiConfig customApiConfig;
 
+	/** Last logout of the users, kept so that token authentication does not query it per request */
+	private final Map<String, LastLogout> lastLogouts = new ConcurrentHashMap<>();
+
 	/**
 	 * Method to create user login history info
 	 *
@@ -63,7 +69,14 @@ public class UsersSessionServiceImpl implements UsersSessionService {
 		usersSessionInfo.setTimeStamp(LocalDateTime.now());
 		usersSessionInfo.setExpiresOn(
 				LocalDateTime.now().plusMonths(customApiConfig.getUserSessionsExpiresOn()));
-		return usersSessionRepository.save(usersSessionInfo);
+		UsersSession usersSession = usersSessionRepository.save(usersSessionInfo);
+		if (AuthenticationEvent.LOGOUT == event && null != userInfo.getUsername()) {
+			lastLogouts.merge(
+					userInfo.getUsername(),
+					new LastLogout(usersSessionInfo.getTimeStamp(), System.currentTimeMillis()),
+					LastLogout::latest);
+		}
+		return usersSession;
 	}
 
 	/**
@@ -74,10 +87,22 @@ public class UsersSessionServiceImpl implements UsersSessionService {
 	 */
 	@Override
 	public LocalDateTime getLastLogoutTimeOfUser(String username) {
-		UsersSession lastLogout =
-				usersSessionRepository.findTopByUserNameAndEventOrderByTimeStampDesc(
-						username, AuthenticationEvent.LOGOUT);
-		return lastLogout != null ? lastLogout.getTimeStamp() : null;
+		long now = System.currentTimeMillis();
+		LastLogout lastLogout = lastLogouts.get(username);
+		if (null == lastLogout
+				|| now - lastLogout.readAt()
+						>= TimeUnit.SECONDS.toMillis(customApiConfig.getUserLogoutRefreshSeconds())) {
+			// also picks up the logouts done on other instances
+			UsersSession usersSession =
+					usersSessionRepository.findTopByUserNameAndEventOrderByTimeStampDesc(
+							username, AuthenticationEvent.LOGOUT);
+			lastLogout =
+					lastLogouts.merge(
+							username,
+							new LastLogout(null != usersSession ? usersSession.getTimeStamp() : null, now),
+							LastLogout::latest);
+		}
+		return lastLogout.timeStamp();
 	}
 
 	/**
@@ -94,4 +119,16 @@ public class UsersSessionServiceImpl implements UsersSessionService {
 			this.createUsersSessionInfo(userinfo, AuthenticationEvent.LOGOUT, status);
 		}
 	}
+
+	private record LastLogout(LocalDateTime timeStamp, long readAt) {
+
+		/** Keeps the latest logout, a read started before a logout must not hide it */
+		private static LastLogout latest(LastLogout current, LastLogout update) {
+			if (null != current.timeStamp()
+					&& (null == update.timeStamp() || current.timeStamp().isAfter(update.timeStamp()))) {
+				return new LastLogout(current.timeStamp(), update.readAt());
+			}
+			return update;
+		}
+	}
 }
@@ -18,11 +18,26 @@
 
 package com.publicissapient.kpidashboard.apis.config;
 
-import java.net.URI;
+import java.io.IOException;
 import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import javax.cache.Caching;
 import javax.cache.spi.CachingProvider;
 
+import org.ehcache.config.ResourcePools;
+import org.ehcache.config.ResourceType;
+import org.ehcache.config.SizedResourcePool;
+import org.ehcache.config.builders.CacheManagerBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.config.units.MemoryUnit;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.ehcache.xml.XmlConfiguration;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
@@ -30,25 +45,177 @@ import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.cache.jcache.JCacheCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.util.FileSystemUtils;
+
+import com.publicissapient.kpidashboard.apis.common.service.CacheInvalidationBus;
+import com.publicissapient.kpidashboard.apis.common.service.impl.KafkaCacheInvalidationBus;
+import com.publicissapient.kpidashboard.apis.common.service.impl.LoopbackCacheInvalidationBus;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
 
 @Configuration
 @EnableCaching
+@Slf4j
 public class CacheConfig {
 
+	/** file of the data dir holding the id of the disk tier */
+	private static final String KPI_CACHE_ID_FILE = "instance-id";
+
 	@Value("${spring.cache.type:jcache}")
 	private String cacheType;
 
+	@Value("${kpi.cache.data-dir:${java.io.tmpdir}/knowhow/kpi-cache}")
+	private String kpiCacheDataDir;
+
+	@Value("${kpi.cache.disk-size-mb:1024}")
+	private long kpiCacheDiskSizeMb;
+
+	@Value("${cache.invalidation.bus:loopback}")
+	private String cacheInvalidationBus;
+
+	@Value("${cache.invalidation.topic:knowhow-cache-invalidation}")
+	private String cacheInvalidationTopic;
+
+	@Value("${cache.invalidation.replay-timeout-seconds:30}")
+	private long cacheInvalidationReplayTimeoutSeconds;
+
+	private javax.cache.CacheManager jCacheManager;
+	private String kpiCacheInstanceId;
+
 	@Bean
 	public CacheManager cacheManager() throws URISyntaxException {
 		if ("jcache".equalsIgnoreCase(cacheType)) {
 			CachingProvider cachingProvider =
 					Caching.getCachingProvider("org.ehcache.jsr107.EhcacheCachingProvider");
-			URI ehcacheXml = getClass().getResource("/ehcache.xml").toURI();
-			javax.cache.CacheManager jCacheManager =
-					cachingProvider.getCacheManager(ehcacheXml, getClass().getClassLoader());
+			kpiCacheInstanceId();
+			log.info("KPI responses cached on disk in {}", kpiCacheDataDir);
+			URL ehcacheXml = getClass().getResource("/ehcache.xml");
+			jCacheManager =
+					((EhcacheCachingProvider) cachingProvider)
+							.getCacheManager(ehcacheXml.toURI(), ehcacheConfiguration(ehcacheXml));
 			return new JCacheCacheManager(jCacheManager);
 		} else {
 			return new ConcurrentMapCacheManager("default");
 		}
 	}
+
+	/**
+	 * Configuration of ehcache.xml with the disk tiers in the data dir. The caches with a disk tier
+	 * share the disk budget, each of them getting an equal part of it.
+	 */
+	private org.ehcache.config.Configuration ehcacheConfiguration(URL ehcacheXml) {
+		XmlConfiguration xmlConfiguration =
+				new XmlConfiguration(ehcacheXml, getClass().getClassLoader());
+		long diskCaches =
+				xmlConfiguration.getCacheConfigurations().values().stream()
+						.filter(
+								cacheConfiguration ->
+										cacheConfiguration
+												.getResourcePools()
+												.getResourceTypeSet()
+												.contains(ResourceType.Core.DISK))
+						.count();
+		long diskSizeMb = kpiCacheDiskSizeMb / Math.max(1, diskCaches);
+		log.info("{} MB of disk per KPI response cache", diskSizeMb);
+		return xmlConfiguration
+				.derive()
+				.withService(CacheManagerBuilder.persistence(kpiCacheDataDir))
+				.updateCaches(
+						cache -> cache.updateResourcePools(pools -> withDiskSize(pools, diskSizeMb)))
+				.build();
+	}
+
+	/** the disk tier must stay larger than the off heap tier, ehcache rejects it otherwise */
+	private static ResourcePools withDiskSize(ResourcePools resourcePools, long diskSizeMb) {
+		SizedResourcePool disk = resourcePools.getPoolForResource(ResourceType.Core.DISK);
+		if (null == disk) {
+			return resourcePools;
+		}
+		ResourcePoolsBuilder resourcePoolsBuilder = ResourcePoolsBuilder.newResourcePoolsBuilder();
+		for (ResourceType<?> resourceType : resourcePools.getResourceTypeSet()) {
+			if (ResourceType.Core.DISK != resourceType) {
+				resourcePoolsBuilder =
+						resourcePoolsBuilder.with(resourcePools.getPoolForResource(resourceType));
+			}
+		}
+		return resourcePoolsBuilder.disk(diskSizeMb, MemoryUnit.MB, disk.isPersistent()).build();
+	}
+
+	/**
+	 * Provides the bus carrying the cache evictions between the API instances, kafka when several
+	 * instances serve the same data.
+	 *
+	 * @param kafkaTemplate kafka template, used by the kafka bus
+	 * @param consumerFactory kafka consumer factory, used by the kafka bus
+	 * @param meterRegistry meter registry
+	 * @return the cache invalidation bus
+	 */
+	@Bean
+	public CacheInvalidationBus cacheInvalidationBus(
+			ObjectProvider<KafkaTemplate<String, String>> kafkaTemplate,
+			ObjectProvider<ConsumerFactory<String, String>> consumerFactory,
+			MeterRegistry meterRegistry) {
+		if ("kafka".equalsIgnoreCase(cacheInvalidationBus)) {
+			log.info("Cache invalidations broadcast on kafka topic {}", cacheInvalidationTopic);
+			return new KafkaCacheInvalidationBus(
+					kafkaTemplate.getObject(),
+					consumerFactory.getObject(),
+					cacheInvalidationTopic,
+					kpiCacheInstanceId(),
+					TimeUnit.SECONDS.toMillis(cacheInvalidationReplayTimeoutSeconds),
+					meterRegistry);
+		}
+		return new LoopbackCacheInvalidationBus();
+	}
+
+	/**
+	 * Id of the disk tier of the KPI responses, the kafka bus resumes the evictions of the group
+	 * named after it. A disk tier without id was written before the evictions were resumed and may
+	 * hold responses evicted while the instance was down, it is dropped.
+	 *
+	 * @return id of the disk tier, a new id when the responses are not kept on disk
+	 */
+	private synchronized String kpiCacheInstanceId() {
+		if (null == kpiCacheInstanceId) {
+			kpiCacheInstanceId =
+					"jcache".equalsIgnoreCase(cacheType)
+							? readKpiCacheInstanceId(Paths.get(kpiCacheDataDir))
+							: UUID.randomUUID().toString();
+		}
+		return kpiCacheInstanceId;
+	}
+
+	private static String readKpiCacheInstanceId(Path dataDir) {
+		Path idFile = dataDir.resolve(KPI_CACHE_ID_FILE);
+		try {
+			if (Files.isRegularFile(idFile)) {
+				String id = Files.readString(idFile).trim();
+				if (!id.isEmpty()) {
+					return id;
+				}
+			}
+			if (FileSystemUtils.deleteRecursively(dataDir)) {
+				log.info("KPI responses cached on disk in {} without id, dropped", dataDir);
+			}
+			String id = UUID.randomUUID().toString();
+			Files.createDirectories(dataDir);
+			Files.writeString(idFile, id);
+			return id;
+		} catch (IOException e) {
+			throw new IllegalStateException("KPI cache directory " + dataDir + " is not writable", e);
+		}
+	}
+
+	/** the disk tier is only read back on the next start when the cache manager was closed */
+	@PreDestroy
+	public void closeCacheManager() {
+		if (null != jCacheManager && !jCacheManager.isClosed()) {
+			jCacheManager.close();
+		}
+	}
 }
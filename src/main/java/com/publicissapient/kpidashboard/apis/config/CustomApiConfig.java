@@ -323,6 +323,8 @@ public class CustomApiConfig { // NOPMD
 
 	@Setter @Getter private int userSessionsExpiresOn;
 
+	@Setter @Getter private int userLogoutRefreshSeconds;
+
 	@Value("${ai-recommendation-kpi-list}")
 	@Getter
 	@Setter
@@ -346,6 +348,86 @@ public class CustomApiConfig { // NOPMD
 	@Value("${executive.dashboard.timeout.minutes:3}")
 	private int executiveTimeoutMinutes;
 
+	// number of threads computing KPIs, two per processor when not set
+	@Value("${kpi.executor.pool-size:0}")
+	private int kpiExecutorPoolSize;
+
+	// number of KPIs waiting for a KPI thread before requests compute their KPIs themselves
+	@Value("${kpi.executor.queue-capacity:1000}")
+	private int kpiExecutorQueueCapacity;
+
+	// time budget of a KPI request, KPIs still running after it are cancelled
+	@Value("${kpi.executor.request-time-budget-seconds:120}")
+	private long kpiRequestTimeBudgetSeconds;
+
+	// request logs waiting to be written before new ones are dropped
+	@Value("${request.log.queue-capacity:10000}")
+	private int requestLogQueueCapacity;
+
+	// request logs written to the database in one insert
+	@Value("${request.log.batch-size:200}")
+	private int requestLogBatchSize;
+
+	// request and response bodies larger than this many bytes are not stored
+	@Value("${request.log.max-body-size:65536}")
+	private int requestLogMaxBodySize;
+
+	// one in this many requests stores its bodies whatever their size, 0 to disable
+	@Value("${request.log.large-body-sample-rate:0}")
+	private int requestLogLargeBodySampleRate;
+
+	// forecasts kept for unchanged historical series, 0 to disable the forecast cache
+	@Value("${forecast.cache.size:2000}")
+	private int forecastCacheSize;
+
+	// minutes for which a cached forecast is reused
+	@Value("${forecast.cache.expiry-minutes:1440}")
+	private long forecastCacheExpiryMinutes;
+
+	// number of threads computing forecasts off the request threads
+	@Value("${forecast.executor.pool-size:2}")
+	private int forecastExecutorPoolSize;
+
+	// time a KPI waits for its forecast before responding without it, 0 to compute it inline
+	@Value("${forecast.wait-millis:0}")
+	private long forecastWaitMillis;
+
+	// cached KPI responses tracked by project for eviction, the oldest are evicted beyond that
+	@Value("${kpi.cache.dependency.max-entries:100000}")
+	private int kpiCacheDependencyMaxEntries;
+
+	// developer board SCM datasets cached by project and date range, 0 to load them per request
+	@Value("${scm.dataset.cache.size:50}")
+	private int scmDatasetCacheSize;
+
+	// minutes for which a cached SCM dataset is reused, new commits are seen after that at the latest
+	@Value("${scm.dataset.cache.expiry-minutes:30}")
+	private long scmDatasetCacheExpiryMinutes;
+
+	// polls the config collections for changed documents instead of waiting for a cache eviction
+	@Value("${config.refresh.enabled:true}")
+	private boolean configRefreshEnabled;
+
+	// number of startup cache loaders running at the same time
+	@Value("${startup.warm-up.parallelism:4}")
+	private int startupWarmUpParallelism;
+
+	// rows of a streamed xlsx drill-down export kept in memory, older rows go to a temporary file
+	@Value("${kpi.excel.export.row-window:100}")
+	private int kpiExcelExportRowWindow;
+
+	// limit of builds or deployments read from one bulk push data request
+	@Value("${pushDataBulkLimit:5000}")
+	private int pushDataBulkLimit;
+
+	// sonar KPIs read the latest snapshot of each period from the rollups instead of every snapshot
+	@Value("${sonar.rollup.enabled:true}")
+	private boolean sonarRollupEnabled;
+
+	// days of sonar history rolled up, older history is read from the raw snapshots
+	@Value("${sonar.rollup.horizon-days:731}")
+	private int sonarRollupHorizonDays;
+
 	@Value("${slingShotFlowKpiMonthCount:3}")
 	@Getter
 	@Setter
@@ -26,6 +26,10 @@ import com.publicissapient.kpidashboard.apis.logging.DatabaseLoggingCondition;
 import com.publicissapient.kpidashboard.apis.logging.KeyValueLoggingCondition;
 import com.publicissapient.kpidashboard.apis.logging.KeyValueLoggingFilter;
 import com.publicissapient.kpidashboard.apis.logging.LoggingFilter;
+import com.publicissapient.kpidashboard.apis.logging.RequestLogWriter;
+import com.publicissapient.kpidashboard.common.repository.application.RequestLogRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
 
 /** Provides Logging config. */
 @Configuration
@@ -52,4 +56,21 @@ public class LoggingConfig {
 	public LoggingFilter loggingFilter() {
 		return new LoggingFilter();
 	}
+
+	/**
+	 * Provides the writer of the request logs captured by the logging filter.
+	 *
+	 * @param requestLogRepository request log repository
+	 * @param customApiConfig api config
+	 * @param meterRegistry meter registry
+	 * @return the request log writer
+	 */
+	@Bean
+	@Conditional(DatabaseLoggingCondition.class)
+	public RequestLogWriter requestLogWriter(
+			RequestLogRepository requestLogRepository,
+			CustomApiConfig customApiConfig,
+			MeterRegistry meterRegistry) {
+		return new RequestLogWriter(requestLogRepository, customApiConfig, meterRegistry);
+	}
 }
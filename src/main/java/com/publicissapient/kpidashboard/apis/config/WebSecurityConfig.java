@@ -68,6 +68,12 @@ import lombok.AllArgsConstructor;
 @EnableGlobalMethodSecurity(prePostEnabled = true) // NOSONAR
 public class WebSecurityConfig implements WebMvcConfigurer {
 
+	/**
+	 * push data apis, authenticated by their own push data token instead of the user session. The
+	 * trace log api is not one of them.
+	 */
+	static final String[] PUSH_DATA_PATHS = {"/pushData/*", "/pushData/build/bulk"};
+
 	private JwtAuthenticationFilter jwtAuthenticationFilter;
 
 	private ApiKeyAuthenticationFilter apiKeyAuthenticationFilter;
@@ -128,7 +134,7 @@ public class WebSecurityConfig implements WebMvcConfigurer {
 										.permitAll()
 										.requestMatchers("/auth-types-status")
 										.permitAll()
-										.requestMatchers("/pushData/*")
+										.requestMatchers(PUSH_DATA_PATHS)
 										.permitAll()
 										.requestMatchers("/getversionmetadata")
 										.permitAll()
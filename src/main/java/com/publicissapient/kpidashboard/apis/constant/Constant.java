@@ -97,8 +97,6 @@ public final class Constant {
 	public static final String LOGO_FIL_NAME = "PsKnowHowLogo.png";
 	public static final String FALSE = "False";
 
-	public static final String KPI_REQUEST_TRACKER_ID_KEY = "kpiRequestTrackerId";
-
 	public static final Integer DAYS_IN_MONTHS = 30;
 
 	public static final String DEFAULT = "Default";
@@ -123,6 +121,7 @@ public final class Constant {
 
 	public static final String CACHE_HIERARCHY_LEVEL_MAP = "hierarchyLevelMap";
 	public static final String CACHE_KANBAN_HIERARCHY_LEVEL_MAP = "kanbanhierarchyLevelMap";
+	public static final String CACHE_USER_AUTHORIZATION_CONTEXT = "userAuthorizationContext";
 
 	public static final String ROLE_VIEWER = "ROLE_VIEWER";
 	public static final String ROLE_GUEST = "ROLE_GUEST";
@@ -166,5 +165,8 @@ public final class Constant {
 
 	public static final int DEFAULT_BOARD_ID_FOR_PEB = 12;
 
+	/** Response code of a KPI cancelled because the time budget of its request was exhausted */
+	public static final String KPI_TIMED_OUT = "504";
+
 	private Constant() {}
 }
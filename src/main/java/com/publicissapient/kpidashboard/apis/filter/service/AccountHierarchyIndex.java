@@ -0,0 +1,385 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+
+package com.publicissapient.kpidashboard.apis.filter.service;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.bson.types.ObjectId;
+
+import com.publicissapient.kpidashboard.apis.model.AccountHierarchyData;
+import com.publicissapient.kpidashboard.apis.model.AccountHierarchyDataKanban;
+import com.publicissapient.kpidashboard.apis.model.Node;
+import com.publicissapient.kpidashboard.common.constant.CommonConstant;
+
+/**
+ * Index of the cached account hierarchy rows by the nodes they contain, so that the rows selected
+ * by a KPI request are found with bitset operations instead of scanning every row. Row positions
+ * are the positions in the indexed list and the index is not modified once built; a new index is
+ * built whenever the account hierarchy cache is reloaded, or with the rows of the changed projects
+ * replaced when only a few projects changed.
+ *
+ * @param <T> type of the account hierarchy rows
+ */
+public final class AccountHierarchyIndex<T> {
+
+	private final List<T> rows;
+	private final Function<T, String> labelName;
+	private final Function<T, String> leafNodeId;
+	private final Function<T, ObjectId> basicProjectConfigId;
+	private final Function<T, List<Node>> nodes;
+	/** group name in lower case -> node id -> rows containing the node */
+	private final Map<String, Map<String, BitSet>> groupNodeRows;
+	/** sprint state in lower case -> rows containing a sprint in that state */
+	private final Map<String, BitSet> sprintStateRows;
+	/** project rows and rows containing a release, selected whatever the sprint states */
+	private final BitSet projectAndReleaseRows;
+
+	private AccountHierarchyIndex(
+			List<T> rows,
+			Function<T, String> labelName,
+			Function<T, String> leafNodeId,
+			Function<T, ObjectId> basicProjectConfigId,
+			Function<T, List<Node>> nodes) {
+		Map<String, Map<String, BitSet>> groupNodeIndex = new HashMap<>();
+		Map<String, BitSet> sprintStateIndex = new HashMap<>();
+		BitSet projectAndReleaseIndex = new BitSet(rows.size());
+		for (int row = 0; row < rows.size(); row++) {
+			T data = rows.get(row);
+			if (CommonConstant.HIERARCHY_LEVEL_ID_PROJECT.equalsIgnoreCase(labelName.apply(data))) {
+				projectAndReleaseIndex.set(row);
+			}
+			List<Node> rowNodes = nodes.apply(data);
+			if (null == rowNodes) {
+				continue;
+			}
+			for (Node node : rowNodes) {
+				String groupName = node.getGroupName();
+				if (null == groupName) {
+					continue;
+				}
+				groupNodeIndex
+						.computeIfAbsent(groupName.toLowerCase(Locale.ROOT), key -> new HashMap<>())
+						.computeIfAbsent(node.getId(), key -> new BitSet())
+						.set(row);
+				if (CommonConstant.HIERARCHY_LEVEL_ID_RELEASE.equalsIgnoreCase(groupName)) {
+					projectAndReleaseIndex.set(row);
+				} else if (CommonConstant.HIERARCHY_LEVEL_ID_SPRINT.equalsIgnoreCase(groupName)
+						&& null != node.getProjectHierarchy()
+						&& null != node.getProjectHierarchy().getSprintState()) {
+					sprintStateIndex
+							.computeIfAbsent(
+									node.getProjectHierarchy().getSprintState().toLowerCase(Locale.ROOT),
+									key -> new BitSet())
+							.set(row);
+				}
+			}
+		}
+		this.rows = rows;
+		this.labelName = labelName;
+		this.leafNodeId = leafNodeId;
+		this.basicProjectConfigId = basicProjectConfigId;
+		this.nodes = nodes;
+		this.groupNodeRows = groupNodeIndex;
+		this.sprintStateRows = sprintStateIndex;
+		this.projectAndReleaseRows = projectAndReleaseIndex;
+	}
+
+	/**
+	 * @param accountHierarchyData scrum account hierarchy rows
+	 * @return index of the rows
+	 */
+	public static AccountHierarchyIndex<AccountHierarchyData> ofScrum(
+			List<AccountHierarchyData> accountHierarchyData) {
+		return new AccountHierarchyIndex<>(
+				accountHierarchyData,
+				AccountHierarchyData::getLabelName,
+				AccountHierarchyData::getLeafNodeId,
+				AccountHierarchyData::getBasicProjectConfigId,
+				AccountHierarchyData::getNode);
+	}
+
+	/**
+	 * @param accountHierarchyData kanban account hierarchy rows
+	 * @return index of the rows
+	 */
+	public static AccountHierarchyIndex<AccountHierarchyDataKanban> ofKanban(
+			List<AccountHierarchyDataKanban> accountHierarchyData) {
+		return new AccountHierarchyIndex<>(
+				accountHierarchyData,
+				AccountHierarchyDataKanban::getLabelName,
+				AccountHierarchyDataKanban::getLeafNodeId,
+				AccountHierarchyDataKanban::getBasicProjectConfigId,
+				AccountHierarchyDataKanban::getNode);
+	}
+
+	/**
+	 * Indexes the rows with the rows of some projects replaced, so that the change of a few projects
+	 * does not rebuild the whole account hierarchy. A replaced project keeps the position of its
+	 * first row. The rows of the nodes above the projects are taken from the new rows when built
+	 * again and dropped when no project is left below them.
+	 *
+	 * @param basicProjectConfigIds projects whose rows are replaced, including removed projects
+	 * @param projectRows rows built for the projects, with the rows of the nodes above them
+	 * @return index of the updated rows
+	 */
+	public AccountHierarchyIndex<T> withProjectRows(
+			Set<ObjectId> basicProjectConfigIds, List<T> projectRows) {
+		Map<ObjectId, List<T>> newProjectRows = new LinkedHashMap<>();
+		Map<String, T> newUpperRows = new LinkedHashMap<>();
+		Set<String> nodesWithProjects = new HashSet<>();
+		for (T data : projectRows) {
+			ObjectId projectId = basicProjectConfigId.apply(data);
+			if (null == projectId) {
+				newUpperRows.put(leafNodeId.apply(data), data);
+			} else if (basicProjectConfigIds.contains(projectId)) {
+				newProjectRows.computeIfAbsent(projectId, id -> new ArrayList<>()).add(data);
+				addNodeIds(data, nodesWithProjects);
+			}
+		}
+
+		List<Entry<T>> entries = new ArrayList<>(rows.size() + projectRows.size());
+		Set<String> upperNodeIds = new HashSet<>();
+		for (int row = 0; row < rows.size(); row++) {
+			T data = rows.get(row);
+			ObjectId projectId = basicProjectConfigId.apply(data);
+			if (null == projectId) {
+				String upperNodeId = leafNodeId.apply(data);
+				upperNodeIds.add(upperNodeId);
+				entries.add(new Entry<>(row, null, upperNodeId));
+			} else if (!basicProjectConfigIds.contains(projectId)) {
+				addNodeIds(data, nodesWithProjects);
+				entries.add(new Entry<>(row, null, null));
+			} else {
+				List<T> replacement = newProjectRows.remove(projectId);
+				if (null != replacement) {
+					replacement.forEach(newRow -> entries.add(new Entry<>(-1, newRow, null)));
+				}
+			}
+		}
+		newProjectRows.values().stream()
+				.flatMap(List::stream)
+				.forEach(newRow -> entries.add(new Entry<>(-1, newRow, null)));
+		newUpperRows.keySet().stream()
+				.filter(upperNodeId -> !upperNodeIds.contains(upperNodeId))
+				.forEach(upperNodeId -> entries.add(new Entry<>(-1, null, upperNodeId)));
+
+		SplicedRows.Builder<T> splicedRows = new SplicedRows.Builder<>(rows, entries.size());
+		for (Entry<T> entry : entries) {
+			if (null == entry.upperNodeId()) {
+				splicedRows.add(entry.row(), entry.newRow());
+			} else if (nodesWithProjects.contains(entry.upperNodeId())) {
+				T newRow = newUpperRows.get(entry.upperNodeId());
+				splicedRows.add(null == newRow ? entry.row() : -1, newRow);
+			}
+		}
+		return new AccountHierarchyIndex<>(
+				splicedRows.build(), labelName, leafNodeId, basicProjectConfigId, nodes);
+	}
+
+	private void addNodeIds(T data, Set<String> nodeIds) {
+		List<Node> rowNodes = nodes.apply(data);
+		if (null != rowNodes) {
+			rowNodes.forEach(node -> nodeIds.add(node.getId()));
+		}
+	}
+
+	/**
+	 * @return the indexed rows
+	 */
+	public List<T> getRows() {
+		return rows;
+	}
+
+	/**
+	 * @param accountHierarchyData list of rows
+	 * @return true if this index was built from that list
+	 */
+	public boolean isIndexOf(List<?> accountHierarchyData) {
+		return rows == accountHierarchyData;
+	}
+
+	/**
+	 * @param groupName hierarchy level, compared ignoring case
+	 * @param nodeIds ids of the selected nodes
+	 * @return rows containing any of the nodes at that level
+	 */
+	public BitSet withNodes(String groupName, Collection<String> nodeIds) {
+		BitSet selectedRows = new BitSet(rows.size());
+		Map<String, BitSet> nodeRows =
+				groupNodeRows.getOrDefault(groupName.toLowerCase(Locale.ROOT), Collections.emptyMap());
+		for (String nodeId : nodeIds) {
+			BitSet rowsOfNode = nodeRows.get(nodeId);
+			if (null != rowsOfNode) {
+				selectedRows.or(rowsOfNode);
+			}
+		}
+		return selectedRows;
+	}
+
+	/**
+	 * @param nodeIds ids of nodes at any level, ids of no node are ignored
+	 * @return basic project config ids of the rows containing any of the nodes
+	 */
+	public Set<String> getBasicProjectConfigIds(Collection<String> nodeIds) {
+		BitSet selectedRows = new BitSet(rows.size());
+		for (Map<String, BitSet> nodeRows : groupNodeRows.values()) {
+			for (String nodeId : nodeIds) {
+				BitSet rowsOfNode = nodeRows.get(nodeId);
+				if (null != rowsOfNode) {
+					selectedRows.or(rowsOfNode);
+				}
+			}
+		}
+		Set<String> projectConfigIds = new HashSet<>();
+		for (int row = selectedRows.nextSetBit(0); row >= 0; row = selectedRows.nextSetBit(row + 1)) {
+			ObjectId projectConfigId = basicProjectConfigId.apply(rows.get(row));
+			if (null != projectConfigId) {
+				projectConfigIds.add(projectConfigId.toHexString());
+			}
+		}
+		return projectConfigIds;
+	}
+
+	/**
+	 * @param sprintStates sprint states included by the request, compared ignoring case
+	 * @return project rows, release rows and the sprint rows in any of the states
+	 */
+	public BitSet withSprintStates(Set<String> sprintStates) {
+		BitSet selectedRows = (BitSet) projectAndReleaseRows.clone();
+		for (String sprintState : sprintStates) {
+			BitSet rowsInState = sprintStateRows.get(sprintState.toLowerCase(Locale.ROOT));
+			if (null != rowsInState) {
+				selectedRows.or(rowsInState);
+			}
+		}
+		return selectedRows;
+	}
+
+	/**
+	 * @param selectedRows rows selected with this index
+	 * @return the rows, in the order of the indexed list
+	 */
+	public List<T> getRows(BitSet selectedRows) {
+		List<T> selected = new ArrayList<>(selectedRows.cardinality());
+		for (int row = selectedRows.nextSetBit(0); row >= 0; row = selectedRows.nextSetBit(row + 1)) {
+			selected.add(rows.get(row));
+		}
+		return selected;
+	}
+
+	/**
+	 * Row of the updated list, a current row when {@code newRow} is null, and a row of a node above
+	 * the projects when {@code upperNodeId} is set.
+	 */
+	private record Entry<T>(int row, T newRow, String upperNodeId) {}
+
+	/**
+	 * Rows of a list with the rows of some projects replaced, the kept rows are read from the list
+	 * the hierarchy was last loaded in so that the rows are not copied on every update.
+	 */
+	private static final class SplicedRows<T> extends AbstractList<T>
+			implements RandomAccess, Serializable {
+
+		private static final long serialVersionUID = 1L;
+
+		private final List<T> base;
+		/** row i is base.get(sources[i]), or addedRows.get(-sources[i] - 1) when negative */
+		private final int[] sources;
+		private final List<T> addedRows;
+
+		private SplicedRows(List<T> base, int[] sources, List<T> addedRows) {
+			this.base = base;
+			this.sources = sources;
+			this.addedRows = addedRows;
+		}
+
+		@Override
+		public T get(int index) {
+			int source = sources[index];
+			return source >= 0 ? base.get(source) : addedRows.get(-source - 1);
+		}
+
+		@Override
+		public int size() {
+			return sources.length;
+		}
+
+		private Object writeReplace() {
+			return new ArrayList<>(this);
+		}
+
+		private static final class Builder<T> {
+
+			private final List<T> current;
+			private final List<T> base;
+			private final int[] currentSources;
+			private final int[] sources;
+			private final List<T> addedRows = new ArrayList<>();
+			private int size;
+
+			private Builder(List<T> current, int capacity) {
+				this.current = current;
+				if (current instanceof SplicedRows<T> spliced) {
+					this.base = spliced.base;
+					this.currentSources = spliced.sources;
+				} else {
+					this.base = current;
+					this.currentSources = null;
+				}
+				this.sources = new int[capacity];
+			}
+
+			/**
+			 * @param row position of a current row to keep, negative to add the new row
+			 * @param newRow row to add
+			 */
+			private void add(int row, T newRow) {
+				int source = row;
+				if (row >= 0 && null != currentSources) {
+					source = currentSources[row];
+				}
+				if (source >= 0) {
+					sources[size++] = source;
+				} else {
+					addedRows.add(row >= 0 ? current.get(row) : newRow);
+					sources[size++] = -addedRows.size();
+				}
+			}
+
+			private SplicedRows<T> build() {
+				return new SplicedRows<>(base, Arrays.copyOf(sources, size), addedRows);
+			}
+		}
+	}
+}
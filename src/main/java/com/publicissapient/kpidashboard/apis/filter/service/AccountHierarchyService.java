@@ -56,6 +56,15 @@ public interface AccountHierarchyService<R, S> {
 	 */
 	R createHierarchyData();
 
+	/**
+	 * Creates the hierarchy data of some projects only, with the nodes above them, to update the
+	 * cached hierarchy data of the projects that changed.
+	 *
+	 * @param basicProjectConfigIds projects to include, ids of removed projects are ignored
+	 * @return hierarchy data of the projects
+	 */
+	R createHierarchyData(Set<ObjectId> basicProjectConfigIds);
+
 	/**
 	 * Gets qualifier type. For Example "Scrum" or "Kanban"
 	 *
@@ -32,8 +32,8 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.apache.commons.collections4.CollectionUtils;
-import org.apache.commons.lang.SerializationUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.bson.types.ObjectId;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -45,7 +45,6 @@ import com.publicissapient.kpidashboard.apis.hierarchy.service.OrganizationHiera
 import com.publicissapient.kpidashboard.apis.model.AccountFilterRequest;
 import com.publicissapient.kpidashboard.apis.model.AccountFilteredData;
 import com.publicissapient.kpidashboard.apis.model.AccountHierarchyData;
-import com.publicissapient.kpidashboard.apis.model.Node;
 import com.publicissapient.kpidashboard.apis.projectconfig.basic.service.ProjectBasicConfigService;
 import com.publicissapient.kpidashboard.common.constant.CommonConstant;
 import com.publicissapient.kpidashboard.common.model.application.HierarchyLevel;
@@ -59,6 +58,7 @@ import com.publicissapient.kpidashboard.common.shared.enums.ProjectDeliveryMetho
 import com.publicissapient.kpidashboard.common.util.DateUtil;
 
 import jakarta.ws.rs.InternalServerErrorException;
+import lombok.extern.slf4j.Slf4j;
 
 /**
  * Implementation of {@link AccountHierarchyService} to managing all requests to the Aggregated
@@ -66,6 +66,7 @@ import jakarta.ws.rs.InternalServerErrorException;
  *
  * @author pkum34
  */
+@Slf4j
 @Service
 public class AccountHierarchyServiceImpl
 		implements AccountHierarchyService<List<AccountHierarchyData>, Set<AccountFilteredData>> {
@@ -100,10 +101,19 @@ public class AccountHierarchyServiceImpl
 	 */
 	@Override
 	public List<AccountHierarchyData> createHierarchyData() {
+		return createHierarchyData(projectBasicConfigService.getAllProjectsBasicConfigs(false));
+	}
 
-		List<ProjectBasicConfig> projectBasicConfigList =
-				projectBasicConfigService.getAllProjectsBasicConfigs(false);
+	@Override
+	public List<AccountHierarchyData> createHierarchyData(Set<ObjectId> basicProjectConfigIds) {
+		return createHierarchyData(
+				projectBasicConfigService.getAllProjectsBasicConfigs(false).stream()
+						.filter(projectConfig -> basicProjectConfigIds.contains(projectConfig.getId()))
+						.toList());
+	}
 
+	private List<AccountHierarchyData> createHierarchyData(
+			List<ProjectBasicConfig> projectBasicConfigList) {
 		List<ProjectHierarchy> configureHierarchies =
 				getConfigureProjectsHierarchies(
 						projectBasicConfigList, organizationHierarchyService, projectHierarchyService);
@@ -113,7 +123,6 @@ public class AccountHierarchyServiceImpl
 						.filter(fd -> fd.getParentId() != null)
 						.collect(Collectors.groupingBy(ProjectHierarchy::getParentId));
 
-		List<AccountHierarchyData> listHierarchyData = new ArrayList<>();
 		String firstLevel = filterHelperService.getFirstHierarchyLevel();
 
 		Map<String, Integer> hierarchyLevelIdMap = filterHelperService.getHierarchyIdLevelMap(false);
@@ -174,26 +183,37 @@ public class AccountHierarchyServiceImpl
 							limitedDisplayMap.putIfAbsent(entry.getKey(), releaseNodeIds);
 						});
 
+		CompactAccountHierarchy.Builder hierarchyBuilder = CompactAccountHierarchy.builder();
 		if (firstLevel != null) {
 			configureHierarchies.stream()
 					.filter(fd -> fd.getHierarchyLevelId().equalsIgnoreCase(firstLevel))
 					.forEach(
 							rootData -> {
-								AccountHierarchyData accountHierarchyData = new AccountHierarchyData();
-								setValuesInAccountHierarchyData(
-										rootData, accountHierarchyData, null, hierarchyLevelIdMap);
+								int rootNode =
+										addNode(
+												rootData,
+												CompactAccountHierarchy.NO_PARENT,
+												hierarchyBuilder,
+												null,
+												hierarchyLevelIdMap);
 								traverseRootToLeaf(
 										rootData,
+										rootNode,
 										parentWiseMap,
-										listHierarchyData,
-										accountHierarchyData,
+										hierarchyBuilder,
 										hierarchyLevelIdMap,
 										limitedDisplayMap,
 										sprintDetailsMap);
 							});
 		}
 
-		return listHierarchyData;
+		CompactAccountHierarchy hierarchy = hierarchyBuilder.build();
+		log.info(
+				"Account hierarchy built with {} rows from {} nodes, estimated size {} KB",
+				hierarchy.getPathCount(),
+				hierarchy.getNodeCount(),
+				hierarchy.getEstimatedBytes() / 1024);
+		return hierarchy.asAccountHierarchyData();
 	}
 
 	@SuppressWarnings("unchecked")
@@ -471,9 +491,9 @@ public class AccountHierarchyServiceImpl
 
 	private void traverseRootToLeaf(
 			ProjectHierarchy hierarchy,
+			int hierarchyNode,
 			Map<String, List<ProjectHierarchy>> parentWiseMap,
-			List<AccountHierarchyData> listHierarchyData,
-			AccountHierarchyData accountHierarchyData,
+			CompactAccountHierarchy.Builder hierarchyBuilder,
 			Map<String, Integer> hierarchyLevelIdMap,
 			Map<String, List<String>> sprintIdListToDisplay,
 			Map<String, SprintDetails> sprintDetailsMap) {
@@ -495,42 +515,42 @@ public class AccountHierarchyServiceImpl
 														.equalsIgnoreCase(CommonConstant.HIERARCHY_LEVEL_ID_SPRINT)
 												&& null != sprintDetails
 												&& null != sprintDetails.getState())) {
-									AccountHierarchyData accountHierarchyDataClone =
-											(AccountHierarchyData) SerializationUtils.clone(accountHierarchyData);
-									setValuesInAccountHierarchyData(
-											child, accountHierarchyDataClone, sprintDetails, hierarchyLevelIdMap);
+									int childNode =
+											addNode(
+													child,
+													hierarchyNode,
+													hierarchyBuilder,
+													sprintDetails,
+													hierarchyLevelIdMap);
 									traverseRootToLeaf(
 											child,
+											childNode,
 											parentWiseMap,
-											listHierarchyData,
-											accountHierarchyDataClone,
+											hierarchyBuilder,
 											hierarchyLevelIdMap,
 											sprintIdListToDisplay,
 											sprintDetailsMap);
 								} else {
-									accountHierarchyData.setBasicProjectConfigId(hierarchy.getBasicProjectConfigId());
-									accountHierarchyData.setLabelName(hierarchy.getHierarchyLevelId());
-									accountHierarchyData.setOnHold(hierarchy.isOnHold());
-									listHierarchyData.add(accountHierarchyData);
+									hierarchyBuilder.addPath(hierarchyNode);
 								}
 							});
 		} else {
-			accountHierarchyData.setBasicProjectConfigId(hierarchy.getBasicProjectConfigId());
-			accountHierarchyData.setLabelName(hierarchy.getHierarchyLevelId());
-			accountHierarchyData.setOnHold(hierarchy.isOnHold());
-			listHierarchyData.add(accountHierarchyData);
+			hierarchyBuilder.addPath(hierarchyNode);
 		}
 	}
 
 	/**
-	 * Creates account hierarchy data
+	 * Adds the node of the hierarchy below its parent
 	 *
 	 * @param hierarchy
-	 * @param accountHierarchyData
+	 * @param parentNode
+	 * @param hierarchyBuilder
+	 * @return index of the node
 	 */
-	private void setValuesInAccountHierarchyData(
+	private int addNode(
 			ProjectHierarchy hierarchy,
-			AccountHierarchyData accountHierarchyData,
+			int parentNode,
+			CompactAccountHierarchy.Builder hierarchyBuilder,
 			SprintDetails sprintDetails,
 			Map<String, Integer> hierarchyLevelIdMap) {
 		if (sprintDetails != null) {
@@ -538,23 +558,9 @@ public class AccountHierarchyServiceImpl
 			hierarchy.setBeginDate(sprintDetails.getStartDate());
 			hierarchy.setEndDate(sprintDetails.getEndDate());
 		}
-		Node node =
-				new Node(
-						0,
-						hierarchy.getNodeId(),
-						hierarchy.getNodeDisplayName(),
-						hierarchy.getParentId(),
-						hierarchy.getHierarchyLevelId(),
-						hierarchy);
-		node.setLevel(hierarchyLevelIdMap.getOrDefault(hierarchy.getHierarchyLevelId(), 0));
-		accountHierarchyData.setLabelName(hierarchy.getHierarchyLevelId());
-		accountHierarchyData.setLeafNodeId(hierarchy.getNodeId());
-		if (CollectionUtils.isEmpty(accountHierarchyData.getNode())) {
-			List<Node> dnode = new ArrayList<>();
-			dnode.add(node);
-			accountHierarchyData.setNode(dnode);
-		} else {
-			accountHierarchyData.getNode().add(node);
-		}
+		return hierarchyBuilder.addNode(
+				parentNode,
+				hierarchy,
+				hierarchyLevelIdMap.getOrDefault(hierarchy.getHierarchyLevelId(), 0));
 	}
 }
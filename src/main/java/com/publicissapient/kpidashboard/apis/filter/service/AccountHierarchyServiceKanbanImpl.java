@@ -18,7 +18,6 @@
 
 package com.publicissapient.kpidashboard.apis.filter.service;
 
-import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -27,8 +26,8 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.apache.commons.collections4.CollectionUtils;
-import org.apache.commons.lang.SerializationUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.bson.types.ObjectId;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -39,7 +38,6 @@ import com.publicissapient.kpidashboard.apis.hierarchy.service.OrganizationHiera
 import com.publicissapient.kpidashboard.apis.model.AccountFilterRequest;
 import com.publicissapient.kpidashboard.apis.model.AccountFilteredData;
 import com.publicissapient.kpidashboard.apis.model.AccountHierarchyDataKanban;
-import com.publicissapient.kpidashboard.apis.model.Node;
 import com.publicissapient.kpidashboard.apis.projectconfig.basic.service.ProjectBasicConfigService;
 import com.publicissapient.kpidashboard.common.constant.CommonConstant;
 import com.publicissapient.kpidashboard.common.model.application.HierarchyLevel;
@@ -82,9 +80,19 @@ public class AccountHierarchyServiceKanbanImpl
 	/** {Inherit Doc} */
 	@Override
 	public List<AccountHierarchyDataKanban> createHierarchyData() {
-		List<ProjectBasicConfig> projectBasicConfigList =
-				projectBasicConfigService.getAllProjectsBasicConfigs(true);
+		return createHierarchyData(projectBasicConfigService.getAllProjectsBasicConfigs(true));
+	}
+
+	@Override
+	public List<AccountHierarchyDataKanban> createHierarchyData(Set<ObjectId> basicProjectConfigIds) {
+		return createHierarchyData(
+				projectBasicConfigService.getAllProjectsBasicConfigs(true).stream()
+						.filter(projectConfig -> basicProjectConfigIds.contains(projectConfig.getId()))
+						.toList());
+	}
 
+	private List<AccountHierarchyDataKanban> createHierarchyData(
+			List<ProjectBasicConfig> projectBasicConfigList) {
 		List<ProjectHierarchy> configureHierarchies =
 				getConfigureProjectsHierarchies(
 						projectBasicConfigList, organizationHierarchyService, projectHierarchyService);
@@ -98,23 +106,30 @@ public class AccountHierarchyServiceKanbanImpl
 
 		Map<String, Integer> hierarchyLevelIdMap = filterHelperService.getHierarchyIdLevelMap(true);
 
-		List<AccountHierarchyDataKanban> listHierarchyData = new ArrayList<>();
+		CompactAccountHierarchy.Builder hierarchyBuilder = CompactAccountHierarchy.builder();
 		if (firstLevel != null) {
 			configureHierarchies.stream()
 					.filter(fd -> fd.getHierarchyLevelId().equalsIgnoreCase(firstLevel))
 					.forEach(
 							rootData -> {
-								AccountHierarchyDataKanban accountHierarchyData = new AccountHierarchyDataKanban();
-								createHierarchyData(rootData, accountHierarchyData, hierarchyLevelIdMap);
+								int rootNode =
+										addNode(
+												rootData,
+												CompactAccountHierarchy.NO_PARENT,
+												hierarchyBuilder,
+												hierarchyLevelIdMap);
 								traverseRootToLeaf(
-										rootData,
-										parentWiseMap,
-										listHierarchyData,
-										accountHierarchyData,
-										hierarchyLevelIdMap);
+										rootData, rootNode, parentWiseMap, hierarchyBuilder, hierarchyLevelIdMap);
 							});
 		}
-		return listHierarchyData;
+
+		CompactAccountHierarchy hierarchy = hierarchyBuilder.build();
+		log.info(
+				"Kanban account hierarchy built with {} rows from {} nodes, estimated size {} KB",
+				hierarchy.getPathCount(),
+				hierarchy.getNodeCount(),
+				hierarchy.getEstimatedBytes() / 1024);
+		return hierarchy.asAccountHierarchyDataKanban();
 	}
 
 	@SuppressWarnings("unchecked")
@@ -202,9 +217,9 @@ public class AccountHierarchyServiceKanbanImpl
 	 */
 	private void traverseRootToLeaf(
 			ProjectHierarchy hierarchy,
+			int hierarchyNode,
 			Map<String, List<ProjectHierarchy>> parentWiseMap,
-			List<AccountHierarchyDataKanban> listHierarchyData,
-			AccountHierarchyDataKanban accountHierarchyData,
+			CompactAccountHierarchy.Builder hierarchyBuilder,
 			Map<String, Integer> hierarchyLevelIdMap) {
 		// Check if the current node has child nodes
 		if (parentWiseMap.containsKey(hierarchy.getNodeId())) {
@@ -212,21 +227,13 @@ public class AccountHierarchyServiceKanbanImpl
 					.filter(child -> isCurrentNodeChild(hierarchy, child))
 					.forEach(
 							child -> {
-								AccountHierarchyDataKanban accountHierarchyDataClone =
-										(AccountHierarchyDataKanban) SerializationUtils.clone(accountHierarchyData);
-								createHierarchyData(child, accountHierarchyDataClone, hierarchyLevelIdMap);
+								int childNode =
+										addNode(child, hierarchyNode, hierarchyBuilder, hierarchyLevelIdMap);
 								traverseRootToLeaf(
-										child,
-										parentWiseMap,
-										listHierarchyData,
-										accountHierarchyDataClone,
-										hierarchyLevelIdMap);
+										child, childNode, parentWiseMap, hierarchyBuilder, hierarchyLevelIdMap);
 							});
 		} else {
-			accountHierarchyData.setBasicProjectConfigId(hierarchy.getBasicProjectConfigId());
-			accountHierarchyData.setLabelName(hierarchy.getHierarchyLevelId());
-			accountHierarchyData.setOnHold(hierarchy.isOnHold());
-			listHierarchyData.add(accountHierarchyData);
+			hierarchyBuilder.addPath(hierarchyNode);
 		}
 	}
 
@@ -240,28 +247,15 @@ public class AccountHierarchyServiceKanbanImpl
 		return StringUtils.equalsIgnoreCase(parentLabel, childAccountHierarchy.getParentId());
 	}
 
-	/** Creates account hierarchy data */
-	private void createHierarchyData(
+	/** Adds the node of the hierarchy below its parent */
+	private int addNode(
 			ProjectHierarchy hierarchy,
-			AccountHierarchyDataKanban accountHierarchyData,
+			int parentNode,
+			CompactAccountHierarchy.Builder hierarchyBuilder,
 			Map<String, Integer> hierarchyLevelIdMap) {
-		Node node =
-				new Node(
-						0,
-						hierarchy.getNodeId(),
-						hierarchy.getNodeDisplayName(),
-						hierarchy.getParentId(),
-						hierarchy.getHierarchyLevelId(),
-						hierarchy);
-		node.setLevel(hierarchyLevelIdMap.getOrDefault(hierarchy.getHierarchyLevelId(), 0));
-		accountHierarchyData.setLabelName(hierarchy.getHierarchyLevelId());
-		accountHierarchyData.setLeafNodeId(hierarchy.getNodeId());
-		if (CollectionUtils.isEmpty(accountHierarchyData.getNode())) {
-			List<Node> dnode = new ArrayList<>();
-			dnode.add(node);
-			accountHierarchyData.setNode(dnode);
-		} else {
-			accountHierarchyData.getNode().add(node);
-		}
+		return hierarchyBuilder.addNode(
+				parentNode,
+				hierarchy,
+				hierarchyLevelIdMap.getOrDefault(hierarchy.getHierarchyLevelId(), 0));
 	}
 }
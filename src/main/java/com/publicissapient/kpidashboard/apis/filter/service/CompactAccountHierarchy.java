@@ -0,0 +1,296 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+
+
+package com.publicissapient.kpidashboard.apis.filter.service;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.function.BiFunction;
+
+import com.publicissapient.kpidashboard.apis.model.AccountHierarchyData;
+import com.publicissapient.kpidashboard.apis.model.AccountHierarchyDataKanban;
+import com.publicissapient.kpidashboard.apis.model.Node;
+import com.publicissapient.kpidashboard.common.model.application.ProjectHierarchy;
+
+/**
+ * Account hierarchy stored once per node instead of once per root to leaf path. Nodes are kept in
+ * a table of columns with interned ids and names and the index of their parent, a path is a range
+ * of node indexes, so the ancestors shared by the sprints and releases of a project are stored a
+ * single time.
+ *
+ * <p>The rows expected by the callers of the account hierarchy cache are served by {@link
+ * #asAccountHierarchyData()} and {@link #asAccountHierarchyDataKanban()}, which build the row and
+ * its nodes when it is read. The store is not modified once built.
+ */
+public final class CompactAccountHierarchy implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	public static final int NO_PARENT = -1;
+	private static final int ARRAY_HEADER_BYTES = 16;
+	private static final int REFERENCE_BYTES = 4;
+	private static final int STRING_BYTES = 40;
+
+	private final String[] nodeIds;
+	private final String[] nodeNames;
+	private final String[] groupNames;
+	private final int[] parents;
+	private final int[] levels;
+	private final ProjectHierarchy[] projectHierarchies;
+	/** nodes of path i are pathNodes[pathOffsets[i]] to pathNodes[pathOffsets[i + 1] - 1] */
+	private final int[] pathOffsets;
+	private final int[] pathNodes;
+	private final long estimatedBytes;
+
+	private CompactAccountHierarchy(Builder builder, long stringBytes) {
+		int nodeCount = builder.nodeCount;
+		this.nodeIds = Arrays.copyOf(builder.nodeIds, nodeCount);
+		this.nodeNames = Arrays.copyOf(builder.nodeNames, nodeCount);
+		this.groupNames = Arrays.copyOf(builder.groupNames, nodeCount);
+		this.parents = Arrays.copyOf(builder.parents, nodeCount);
+		this.levels = Arrays.copyOf(builder.levels, nodeCount);
+		this.projectHierarchies = Arrays.copyOf(builder.projectHierarchies, nodeCount);
+		this.pathOffsets = Arrays.copyOf(builder.pathOffsets, builder.pathCount + 1);
+		this.pathNodes = Arrays.copyOf(builder.pathNodes, builder.pathNodeCount);
+		this.estimatedBytes =
+				stringBytes
+						+ 4L * (ARRAY_HEADER_BYTES + (long) REFERENCE_BYTES * nodeCount)
+						+ 2L * (ARRAY_HEADER_BYTES + 4L * nodeCount)
+						+ ARRAY_HEADER_BYTES
+						+ 4L * pathOffsets.length
+						+ ARRAY_HEADER_BYTES
+						+ 4L * pathNodes.length;
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * @return number of distinct nodes
+	 */
+	public int getNodeCount() {
+		return nodeIds.length;
+	}
+
+	/**
+	 * @return number of root to leaf paths, one per account hierarchy row
+	 */
+	public int getPathCount() {
+		return pathOffsets.length - 1;
+	}
+
+	/**
+	 * @return estimated heap size in bytes of the node table and the paths, the project hierarchy
+	 *     documents referenced by the nodes are not counted
+	 */
+	public long getEstimatedBytes() {
+		return estimatedBytes;
+	}
+
+	/**
+	 * @return read only scrum rows, one per path
+	 */
+	public List<AccountHierarchyData> asAccountHierarchyData() {
+		return new Rows<>(this, CompactAccountHierarchy::scrumRow);
+	}
+
+	/**
+	 * @return read only kanban rows, one per path
+	 */
+	public List<AccountHierarchyDataKanban> asAccountHierarchyDataKanban() {
+		return new Rows<>(this, CompactAccountHierarchy::kanbanRow);
+	}
+
+	private static AccountHierarchyData scrumRow(ProjectHierarchy leaf, List<Node> nodes) {
+		AccountHierarchyData data = new AccountHierarchyData();
+		data.setLabelName(leaf.getHierarchyLevelId());
+		data.setLeafNodeId(leaf.getNodeId());
+		data.setBasicProjectConfigId(leaf.getBasicProjectConfigId());
+		data.setOnHold(leaf.isOnHold());
+		data.setNode(nodes);
+		return data;
+	}
+
+	private static AccountHierarchyDataKanban kanbanRow(ProjectHierarchy leaf, List<Node> nodes) {
+		AccountHierarchyDataKanban data = new AccountHierarchyDataKanban();
+		data.setLabelName(leaf.getHierarchyLevelId());
+		data.setLeafNodeId(leaf.getNodeId());
+		data.setBasicProjectConfigId(leaf.getBasicProjectConfigId());
+		data.setOnHold(leaf.isOnHold());
+		data.setNode(nodes);
+		return data;
+	}
+
+	private List<Node> pathNodes(int path) {
+		int start = pathOffsets[path];
+		int end = pathOffsets[path + 1];
+		List<Node> nodes = new ArrayList<>(end - start);
+		for (int i = start; i < end; i++) {
+			nodes.add(node(pathNodes[i]));
+		}
+		return nodes;
+	}
+
+	private Node node(int index) {
+		ProjectHierarchy projectHierarchy = projectHierarchies[index];
+		Node node =
+				new Node(
+						0,
+						nodeIds[index],
+						nodeNames[index],
+						projectHierarchy.getParentId(),
+						groupNames[index],
+						projectHierarchy);
+		node.setLevel(levels[index]);
+		return node;
+	}
+
+	private ProjectHierarchy leaf(int path) {
+		return projectHierarchies[pathNodes[pathOffsets[path + 1] - 1]];
+	}
+
+	private static final class Rows<T> extends AbstractList<T> implements RandomAccess, Serializable {
+
+		private static final long serialVersionUID = 1L;
+
+		private final CompactAccountHierarchy hierarchy;
+		/** rows are serialized as a plain list, see {@link #writeReplace()} */
+		private final transient BiFunction<ProjectHierarchy, List<Node>, T> rowFactory;
+
+		private Rows(
+				CompactAccountHierarchy hierarchy,
+				BiFunction<ProjectHierarchy, List<Node>, T> rowFactory) {
+			this.hierarchy = hierarchy;
+			this.rowFactory = rowFactory;
+		}
+
+		@Override
+		public T get(int index) {
+			return rowFactory.apply(hierarchy.leaf(index), hierarchy.pathNodes(index));
+		}
+
+		@Override
+		public int size() {
+			return hierarchy.getPathCount();
+		}
+
+		private Object writeReplace() {
+			return new ArrayList<>(this);
+		}
+	}
+
+	/** Builds the store while the hierarchy is traversed from its roots. */
+	public static final class Builder {
+
+		private final Map<String, String> internedStrings = new HashMap<>();
+		private final Map<NodeKey, Integer> nodeIndexes = new HashMap<>();
+		private String[] nodeIds = new String[64];
+		private String[] nodeNames = new String[64];
+		private String[] groupNames = new String[64];
+		private int[] parents = new int[64];
+		private int[] levels = new int[64];
+		private ProjectHierarchy[] projectHierarchies = new ProjectHierarchy[64];
+		private int nodeCount;
+		private int[] pathOffsets = new int[64];
+		private int[] pathNodes = new int[256];
+		private int pathCount;
+		private int pathNodeCount;
+
+		private Builder() {}
+
+		/**
+		 * Adds the node below the parent, a node already added below the same parent is reused.
+		 *
+		 * @param parent index of the parent node, -1 for a root
+		 * @param projectHierarchy hierarchy document of the node
+		 * @param level level of the node in the hierarchy
+		 * @return index of the node
+		 */
+		public int addNode(int parent, ProjectHierarchy projectHierarchy, int level) {
+			NodeKey key = new NodeKey(parent, projectHierarchy.getNodeId());
+			Integer existing = nodeIndexes.get(key);
+			if (null != existing) {
+				return existing;
+			}
+			if (nodeCount == nodeIds.length) {
+				int capacity = nodeCount * 2;
+				nodeIds = Arrays.copyOf(nodeIds, capacity);
+				nodeNames = Arrays.copyOf(nodeNames, capacity);
+				groupNames = Arrays.copyOf(groupNames, capacity);
+				parents = Arrays.copyOf(parents, capacity);
+				levels = Arrays.copyOf(levels, capacity);
+				projectHierarchies = Arrays.copyOf(projectHierarchies, capacity);
+			}
+			int index = nodeCount++;
+			nodeIds[index] = intern(projectHierarchy.getNodeId());
+			nodeNames[index] = intern(projectHierarchy.getNodeDisplayName());
+			groupNames[index] = intern(projectHierarchy.getHierarchyLevelId());
+			parents[index] = parent;
+			levels[index] = level;
+			projectHierarchies[index] = projectHierarchy;
+			nodeIndexes.put(key, index);
+			return index;
+		}
+
+		/**
+		 * Adds the path from the root to the node as a row of the hierarchy.
+		 *
+		 * @param leaf index of the last node of the path
+		 */
+		public void addPath(int leaf) {
+			int depth = 0;
+			for (int node = leaf; node != NO_PARENT; node = parents[node]) {
+				depth++;
+			}
+			if (pathCount + 2 > pathOffsets.length) {
+				pathOffsets = Arrays.copyOf(pathOffsets, pathOffsets.length * 2);
+			}
+			if (pathNodeCount + depth > pathNodes.length) {
+				pathNodes = Arrays.copyOf(pathNodes, Math.max(pathNodes.length * 2, pathNodeCount + depth));
+			}
+			int position = pathNodeCount + depth;
+			for (int node = leaf; node != NO_PARENT; node = parents[node]) {
+				pathNodes[--position] = node;
+			}
+			pathNodeCount += depth;
+			pathOffsets[++pathCount] = pathNodeCount;
+		}
+
+		public CompactAccountHierarchy build() {
+			long stringBytes = 0;
+			for (String value : internedStrings.values()) {
+				stringBytes += STRING_BYTES + value.length();
+			}
+			return new CompactAccountHierarchy(this, stringBytes);
+		}
+
+		private String intern(String value) {
+			return null == value ? null : internedStrings.computeIfAbsent(value, key -> key);
+		}
+	}
+
+	private record NodeKey(int parent, String nodeId) {}
+}
@@ -21,6 +21,7 @@ package com.publicissapient.kpidashboard.apis.filter.service;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -91,46 +92,46 @@ public class FilterHelperService {
 
 		List<AccountHierarchyData> accountDataListAll =
 				(List<AccountHierarchyData>) cacheService.cacheAccountHierarchyData();
-
-		List<AccountHierarchyData> dataList =
-				getAccountHierarchyDataForRequest(
-						new HashSet<>(kpiRequest.getSprintIncluded()), accountDataListAll);
-		List<AccountHierarchyData> filteredDataSetNew;
-		filteredDataSetNew = filter(dataList, groupName, kpiRequest);
-		if (CollectionUtils.isNotEmpty(
-				kpiRequest
-						.getSelectedMap()
-						.getOrDefault(CommonConstant.HIERARCHY_LEVEL_ID_SPRINT, new ArrayList<>()))) {
-			filteredDataSetNew =
-					filter(filteredDataSetNew, CommonConstant.HIERARCHY_LEVEL_ID_SPRINT, kpiRequest);
+		AccountHierarchyIndex<AccountHierarchyData> index = getIndex(accountDataListAll);
+
+		BitSet filteredRows = index.withSprintStates(new HashSet<>(kpiRequest.getSprintIncluded()));
+		filteredRows.and(index.withNodes(groupName, getSelectedIds(kpiRequest, groupName)));
+		for (String level :
+				List.of(
+						CommonConstant.HIERARCHY_LEVEL_ID_SPRINT, CommonConstant.HIERARCHY_LEVEL_ID_PROJECT)) {
+			List<String> selectedIds = getSelectedIds(kpiRequest, level);
+			if (CollectionUtils.isNotEmpty(selectedIds)) {
+				filteredRows.and(index.withNodes(level, selectedIds));
+			}
 		}
+		return index.getRows(filteredRows);
+	}
+
+	private static List<String> getSelectedIds(KpiRequest kpiRequest, String groupName) {
+		return kpiRequest.getSelectedMap().getOrDefault(groupName, new ArrayList<>());
+	}
 
-		if (CollectionUtils.isNotEmpty(
-				kpiRequest
-						.getSelectedMap()
-						.getOrDefault(CommonConstant.HIERARCHY_LEVEL_ID_PROJECT, new ArrayList<>()))) {
-			filteredDataSetNew =
-					filter(filteredDataSetNew, CommonConstant.HIERARCHY_LEVEL_ID_PROJECT, kpiRequest);
+	/**
+	 * @param accountDataListAll cached scrum account hierarchy
+	 * @return the index built when the account hierarchy was cached, or a new one for other lists
+	 */
+	private AccountHierarchyIndex<AccountHierarchyData> getIndex(
+			List<AccountHierarchyData> accountDataListAll) {
+		AccountHierarchyIndex<AccountHierarchyData> index = cacheService.getAccountHierarchyIndex();
+		if (null == index || !index.isIndexOf(accountDataListAll)) {
+			index = AccountHierarchyIndex.ofScrum(accountDataListAll);
 		}
-		return filteredDataSetNew;
+		return index;
 	}
 
-	private static List<AccountHierarchyData> filter(
-			List<AccountHierarchyData> dataList, String groupName, KpiRequest kpiRequest) {
-		Set<String> str =
-				new HashSet<>(kpiRequest.getSelectedMap().getOrDefault(groupName, new ArrayList<>()));
-		List<AccountHierarchyData> filteredDataSetNew = new ArrayList<>();
-		if (CollectionUtils.isNotEmpty(str)) {
-			dataList.forEach(
-					data -> {
-						if (data.getNode().stream()
-								.anyMatch(
-										d -> d.getGroupName().equalsIgnoreCase(groupName) && str.contains(d.getId()))) {
-							filteredDataSetNew.add(data);
-						}
-					});
+	private AccountHierarchyIndex<AccountHierarchyDataKanban> getKanbanIndex(
+			List<AccountHierarchyDataKanban> accountDataListAll) {
+		AccountHierarchyIndex<AccountHierarchyDataKanban> index =
+				cacheService.getAccountHierarchyKanbanIndex();
+		if (null == index || !index.isIndexOf(accountDataListAll)) {
+			index = AccountHierarchyIndex.ofKanban(accountDataListAll);
 		}
-		return filteredDataSetNew;
+		return index;
 	}
 
 	/**
@@ -142,6 +143,10 @@ public class FilterHelperService {
 	 */
 	public List<AccountHierarchyData> getAccountHierarchyDataForRequest(
 			Set<String> sprintStateList, List<AccountHierarchyData> hierarchyDataAll) {
+		AccountHierarchyIndex<AccountHierarchyData> index = cacheService.getAccountHierarchyIndex();
+		if (null != index && index.isIndexOf(hierarchyDataAll)) {
+			return index.getRows(index.withSprintStates(sprintStateList));
+		}
 		Set<String> nsprintStateList =
 				sprintStateList.stream().map(String::toLowerCase).collect(Collectors.toSet());
 
@@ -178,17 +183,16 @@ public class FilterHelperService {
 
 		List<AccountHierarchyDataKanban> accountDataList =
 				(List<AccountHierarchyDataKanban>) cacheService.cacheAccountHierarchyKanbanData();
-		List<AccountHierarchyDataKanban> filteredDataSetNew;
-
-		filteredDataSetNew = filterKanban(accountDataList, groupName, kpiRequest);
-
-		if (CollectionUtils.isNotEmpty(
-				kpiRequest
-						.getSelectedMap()
-						.getOrDefault(CommonConstant.HIERARCHY_LEVEL_ID_PROJECT, new ArrayList<>()))) {
-			filteredDataSetNew =
-					filterKanban(filteredDataSetNew, CommonConstant.HIERARCHY_LEVEL_ID_PROJECT, kpiRequest);
+		AccountHierarchyIndex<AccountHierarchyDataKanban> index = getKanbanIndex(accountDataList);
+
+		BitSet filteredRows = index.withNodes(groupName, getSelectedIds(kpiRequest, groupName));
+		List<String> selectedProjectIds =
+				getSelectedIds(kpiRequest, CommonConstant.HIERARCHY_LEVEL_ID_PROJECT);
+		if (CollectionUtils.isNotEmpty(selectedProjectIds)) {
+			filteredRows.and(
+					index.withNodes(CommonConstant.HIERARCHY_LEVEL_ID_PROJECT, selectedProjectIds));
 		}
+		List<AccountHierarchyDataKanban> filteredDataSetNew = index.getRows(filteredRows);
 
 		if (filteredDataSetNew.isEmpty()) {
 			log.error(
@@ -203,24 +207,6 @@ public class FilterHelperService {
 		return filteredDataSetNew;
 	}
 
-	private List<AccountHierarchyDataKanban> filterKanban(
-			List<AccountHierarchyDataKanban> dataList, String groupName, KpiRequest kpiRequest) {
-		Set<String> str =
-				new HashSet<>(kpiRequest.getSelectedMap().getOrDefault(groupName, new ArrayList<>()));
-		List<AccountHierarchyDataKanban> filteredDataSetNew = new ArrayList<>();
-		if (CollectionUtils.isNotEmpty(str)) {
-			dataList.forEach(
-					data -> {
-						if (data.getNode().stream()
-								.anyMatch(
-										d -> d.getGroupName().equalsIgnoreCase(groupName) && str.contains(d.getId()))) {
-							filteredDataSetNew.add(data);
-						}
-					});
-		}
-		return filteredDataSetNew;
-	}
-
 	// todo remove
 	public void filterCreation(final ProjectBasicConfigDTO projectConfig) {
 		try {
@@ -0,0 +1,206 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+
+
+package com.publicissapient.kpidashboard.apis.forecast;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.publicissapient.kpidashboard.apis.config.CustomApiConfig;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
+import com.publicissapient.kpidashboard.common.model.application.DataCount;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Forecasts already computed for a historical series, so that the forecasting models are only
+ * trained again when the series changes. Concurrent requests for the same series share a single
+ * computation.
+ *
+ * <p>When a wait time is configured the forecasts are computed on a dedicated executor and a KPI
+ * whose forecast takes longer is returned without it; the forecast is cached when it completes and
+ * attached to the next responses of the series. The KPI request is marked with a pending forecast
+ * so that its response is not cached without the forecast.
+ */
+@Service
+@Slf4j
+public class ForecastResultCache {
+
+	private static final String THREAD_NAME_PREFIX = "forecast-";
+	private static final int QUEUE_CAPACITY = 200;
+
+	private final Cache<String, List<DataCount>> forecasts;
+	private final Map<String, CompletableFuture<List<DataCount>>> pendingForecasts =
+			new ConcurrentHashMap<>();
+	private final ThreadPoolExecutor executor;
+	private final long waitMillis;
+	private final Counter hitCounter;
+	private final Counter missCounter;
+	private final Counter sharedCounter;
+	private final Counter timeoutCounter;
+
+	@Autowired
+	public ForecastResultCache(CustomApiConfig customApiConfig, MeterRegistry meterRegistry) {
+		this(
+				customApiConfig.getForecastCacheSize(),
+				customApiConfig.getForecastCacheExpiryMinutes(),
+				customApiConfig.getForecastExecutorPoolSize(),
+				customApiConfig.getForecastWaitMillis(),
+				meterRegistry);
+	}
+
+	/**
+	 * @param cacheSize number of cached series, 0 to disable the cache
+	 * @param expiryMinutes minutes for which a forecast is reused, no expiry if not positive
+	 * @param poolSize number of forecast threads
+	 * @param waitMillis time a caller waits for a forecast, 0 to compute it on the calling thread
+	 * @param meterRegistry registry of the cache metrics
+	 */
+	public ForecastResultCache(
+			int cacheSize,
+			long expiryMinutes,
+			int poolSize,
+			long waitMillis,
+			MeterRegistry meterRegistry) {
+		CacheBuilder<Object, Object> cacheBuilder =
+				CacheBuilder.newBuilder().maximumSize(Math.max(0, cacheSize));
+		if (expiryMinutes > 0) {
+			cacheBuilder.expireAfterWrite(expiryMinutes, TimeUnit.MINUTES);
+		}
+		this.forecasts = cacheBuilder.build();
+		this.waitMillis = waitMillis;
+		int threads = Math.max(1, poolSize);
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(THREAD_NAME_PREFIX);
+		threadFactory.setDaemon(true);
+		this.executor =
+				new ThreadPoolExecutor(
+						threads,
+						threads,
+						60L,
+						TimeUnit.SECONDS,
+						new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+						threadFactory,
+						(task, pool) -> task.run());
+		this.executor.allowCoreThreadTimeOut(true);
+		this.hitCounter = requestCounter(meterRegistry, "hit");
+		this.missCounter = requestCounter(meterRegistry, "miss");
+		this.sharedCounter = requestCounter(meterRegistry, "shared");
+		this.timeoutCounter = requestCounter(meterRegistry, "timeout");
+	}
+
+	/**
+	 * Returns the forecasts of the series, computing them if they are not cached.
+	 *
+	 * @param key identifies the forecasting model, the KPI, the node and the historical series
+	 * @param forecaster computes the forecasts
+	 * @return the forecasts, empty if they are not computed within the wait time
+	 */
+	public List<DataCount> getForecasts(String key, Supplier<List<DataCount>> forecaster) {
+		List<DataCount> cached = forecasts.getIfPresent(key);
+		if (null != cached) {
+			hitCounter.increment();
+			return new ArrayList<>(cached);
+		}
+		CompletableFuture<List<DataCount>> future = new CompletableFuture<>();
+		CompletableFuture<List<DataCount>> pending = pendingForecasts.putIfAbsent(key, future);
+		if (null != pending) {
+			sharedCounter.increment();
+			return await(key, pending);
+		}
+		missCounter.increment();
+		if (waitMillis > 0) {
+			executor.execute(() -> compute(key, future, forecaster));
+		} else {
+			compute(key, future, forecaster);
+		}
+		return await(key, future);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdownNow();
+	}
+
+	private void compute(
+			String key, CompletableFuture<List<DataCount>> future, Supplier<List<DataCount>> forecaster) {
+		try {
+			List<DataCount> computed = forecaster.get();
+			// forecasts are not modified once created, the cached list is shared by the responses
+			List<DataCount> result =
+					null == computed
+							? Collections.emptyList()
+							: Collections.unmodifiableList(new ArrayList<>(computed));
+			forecasts.put(key, result);
+			future.complete(result);
+		} catch (RuntimeException e) {
+			future.completeExceptionally(e);
+		} finally {
+			pendingForecasts.remove(key, future);
+		}
+	}
+
+	private List<DataCount> await(String key, CompletableFuture<List<DataCount>> future) {
+		try {
+			List<DataCount> result =
+					waitMillis > 0 ? future.get(waitMillis, TimeUnit.MILLISECONDS) : future.get();
+			return new ArrayList<>(result);
+		} catch (TimeoutException e) {
+			timeoutCounter.increment();
+			log.debug("Forecast {} not ready after {} ms, responding without it", key, waitMillis);
+			KpiExecutionContext context = KpiExecutionContext.current();
+			if (null != context) {
+				context.markForecastPending();
+			}
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw new IllegalStateException(e.getCause());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		return new ArrayList<>();
+	}
+
+	private static Counter requestCounter(MeterRegistry meterRegistry, String result) {
+		return Counter.builder("forecast.cache.requests")
+				.description("Forecast requests by cache result")
+				.tag("result", result)
+				.register(meterRegistry);
+	}
+}
@@ -17,6 +17,7 @@
 
 package com.publicissapient.kpidashboard.apis.forecast;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.EnumMap;
 import java.util.List;
@@ -30,6 +31,7 @@ import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.stereotype.Service;
 
+import com.google.common.hash.Hashing;
 import com.publicissapient.kpidashboard.apis.appsetting.service.ConfigHelperService;
 import com.publicissapient.kpidashboard.apis.enums.ForecastingModel;
 import com.publicissapient.kpidashboard.apis.forecast.service.ForecastService;
@@ -52,6 +54,7 @@ public class ForecastingManager {
 
 	private final ConfigHelperService configHelperService;
 	private final List<ForecastService> forecastServices;
+	private final ForecastResultCache forecastResultCache;
 
 	private Map<ForecastingModel, ForecastService> forecasterMap;
 
@@ -72,6 +75,20 @@ public class ForecastingManager {
 	 * @return List of forecast DataCount objects
 	 */
 	public List<DataCount> generateForecasts(List<DataCount> dataCounts, String kpiId) {
+		return generateForecasts(dataCounts, kpiId, null);
+	}
+
+	/**
+	 * Generate forecasts for given data of a project if KPI is configured for forecasting.
+	 *
+	 * @param dataCounts Historical data points
+	 * @param kpiId KPI identifier
+	 * @param basicProjectConfigId project of the data points, null for data points of several
+	 *     projects
+	 * @return List of forecast DataCount objects
+	 */
+	public List<DataCount> generateForecasts(
+			List<DataCount> dataCounts, String kpiId, String basicProjectConfigId) {
 		List<DataCount> forecasts = new ArrayList<>();
 
 		if (dataCounts == null || dataCounts.isEmpty()) {
@@ -106,7 +123,10 @@ public class ForecastingManager {
 
 			// Generate forecasts
 			if (forecaster.canForecast(dataCounts, kpiId)) {
-				forecasts = forecaster.generateForecast(dataCounts, kpiId);
+				forecasts =
+						forecastResultCache.getForecasts(
+								forecastKey(model, kpiId, basicProjectConfigId, dataCounts),
+								() -> forecaster.generateForecast(dataCounts, kpiId));
 				log.debug(
 						"Generated {} forecast(s) for KPI {} using {}",
 						forecasts.size(),
@@ -149,7 +169,10 @@ public class ForecastingManager {
 			}
 
 			if (forecaster.canForecast(dataCounts, null)) {
-				forecasts = forecaster.generateForecast(dataCounts, null);
+				forecasts =
+						forecastResultCache.getForecasts(
+								forecastKey(forecastingModel, null, null, dataCounts),
+								() -> forecaster.generateForecast(dataCounts, null));
 				log.debug(
 						"Generated {} forecast(s) using {}",
 						forecasts.size(),
@@ -170,12 +193,26 @@ public class ForecastingManager {
 	 */
 	public <T> void addForecastsToDataCount(
 			T dataCount, List<DataCount> historicalData, String kpiId) {
+		addForecastsToDataCount(dataCount, historicalData, kpiId, null);
+	}
+
+	/**
+	 * Add forecasts of the data of a project to DataCount if forecasting is configured for the KPI.
+	 *
+	 * @param dataCount Target DataCount to add forecasts to
+	 * @param historicalData Historical data points for forecasting
+	 * @param kpiId KPI identifier Maturity KPIs
+	 * @param basicProjectConfigId project of the data points, null for data points of several
+	 *     projects
+	 */
+	public <T> void addForecastsToDataCount(
+			T dataCount, List<DataCount> historicalData, String kpiId, String basicProjectConfigId) {
 		if (dataCount == null || historicalData == null || historicalData.isEmpty()) {
 			return;
 		}
 
 		try {
-			List<DataCount> forecasts = generateForecasts(historicalData, kpiId);
+			List<DataCount> forecasts = generateForecasts(historicalData, kpiId, basicProjectConfigId);
 			if (!forecasts.isEmpty()) {
 				if (dataCount instanceof DataCount dc) {
 					dc.setForecasts(forecasts);
@@ -210,6 +247,37 @@ public class ForecastingManager {
 		}
 	}
 
+	/**
+	 * Builds the key of the forecasts of a series. The forecasters read the numeric values of the
+	 * series and the project and KPI group of its last data point. The project is identified by its
+	 * basic config id, as project names are not unique, and its name, which the forecasts carry.
+	 *
+	 * @param model forecasting model
+	 * @param kpiId KPI identifier, null for non KPI forecasts
+	 * @param basicProjectConfigId project of the series, null for a series of several projects
+	 * @param dataCounts historical data points
+	 * @return model, KPI and hash of the series
+	 */
+	static String forecastKey(
+			ForecastingModel model,
+			String kpiId,
+			String basicProjectConfigId,
+			List<DataCount> dataCounts) {
+		StringBuilder series = new StringBuilder(String.valueOf(basicProjectConfigId));
+		DataCount last = dataCounts.get(dataCounts.size() - 1);
+		if (null != last) {
+			series.append('|').append(last.getSProjectName()).append('|').append(last.getKpiGroup());
+		}
+		dataCounts.forEach(
+				dataCount ->
+						series.append('|').append(null == dataCount ? null : dataCount.getValue()));
+		return model.name()
+				+ ':'
+				+ kpiId
+				+ ':'
+				+ Hashing.sha256().hashString(series, StandardCharsets.UTF_8);
+	}
+
 	/**
 	 * Get KPI master configuration from cache.
 	 *
@@ -35,6 +35,8 @@ import org.nd4j.linalg.learning.config.Adam;
 import org.nd4j.linalg.lossfunctions.LossFunctions;
 import org.springframework.stereotype.Service;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.publicissapient.kpidashboard.apis.enums.ForecastingModel;
 import com.publicissapient.kpidashboard.apis.forecast.AbstractForecastService;
 import com.publicissapient.kpidashboard.common.model.application.DataCount;
@@ -117,6 +119,23 @@ public class LSTMForecaster extends AbstractForecastService {
 	 */
 	private static final double OPTIMIZED_LEARNING_RATE = 0.01;
 
+	/** Training epochs of a model initialized with random weights. */
+	private static final int TRAINING_EPOCHS = 10;
+
+	/**
+	 * Training epochs of a model starting from the weights last trained for the same series.
+	 *
+	 * <p>A new data point only shifts the series slightly, a few epochs adapt the trained weights.
+	 */
+	private static final int WARM_START_EPOCHS = 3;
+
+	/** Number of series whose trained weights are kept for warm starts. */
+	private static final int WARM_STARTED_SERIES = 500;
+
+	/** Trained weights by KPI, project and KPI group. */
+	private final Cache<String, double[]> trainedParameters =
+			CacheBuilder.newBuilder().maximumSize(WARM_STARTED_SERIES).build();
+
 	@Override
 	public ForecastingModel getModelType() {
 		return ForecastingModel.LSTM;
@@ -188,15 +207,25 @@ public class LSTMForecaster extends AbstractForecastService {
 			 * Adam optimizer with 0.001 learning rate
 			 */
 			model = buildLSTMModel();
+			String seriesKey =
+					kpiId
+							+ ':'
+							+ historicalData.get(historicalData.size() - 1).getSProjectName()
+							+ ':'
+							+ historicalData.get(historicalData.size() - 1).getKpiGroup();
+			boolean warmStarted = warmStart(model, seriesKey);
 
 			/**
 			 * Step 4: Training Multiple epochs for volatile data patterns with early stopping. Increased
-			 * training for better pattern recognition on sparse data.
+			 * training for better pattern recognition on sparse data. A model starting from the weights
+			 * trained for the series before only needs a few epochs.
 			 */
 			dataSet = new DataSet(sequences[0], sequences[1]);
-			for (int epoch = 0; epoch < 10; epoch++) {
+			int epochs = warmStarted ? WARM_START_EPOCHS : TRAINING_EPOCHS;
+			for (int epoch = 0; epoch < epochs; epoch++) {
 				model.fit(dataSet);
 			}
+			trainedParameters.put(seriesKey, model.params().toDoubleVector());
 
 			/**
 			 * Step 5: Prediction Generates forecast using trained model with last sequence as input.
@@ -334,6 +363,23 @@ public class LSTMForecaster extends AbstractForecastService {
 		return model;
 	}
 
+	/**
+	 * Initializes the model with the weights last trained for the series.
+	 *
+	 * @param model newly built LSTM model
+	 * @param seriesKey KPI, project and KPI group of the series
+	 * @return true if trained weights were found
+	 */
+	private boolean warmStart(MultiLayerNetwork model, String seriesKey) {
+		double[] parameters = trainedParameters.getIfPresent(seriesKey);
+		if (parameters == null || parameters.length != model.numParams()) {
+			return false;
+		}
+		model.setParams(Nd4j.create(parameters).reshape(1, parameters.length));
+		log.debug("Warm starting LSTM model of series {}", seriesKey);
+		return true;
+	}
+
 	/**
 	 * Extracts last sequence from data for prediction.
 	 *
@@ -32,9 +32,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.*;
 
-import com.publicissapient.kpidashboard.apis.common.service.CacheService;
-import com.publicissapient.kpidashboard.apis.constant.Constant;
-import com.publicissapient.kpidashboard.apis.enums.KPISource;
 import com.publicissapient.kpidashboard.apis.jenkins.service.JenkinsServiceKanbanR;
 import com.publicissapient.kpidashboard.apis.jenkins.service.JenkinsServiceR;
 import com.publicissapient.kpidashboard.apis.jenkins.service.JenkinsToolConfigServiceImpl;
@@ -68,8 +65,6 @@ public class JenkinsController {
 
 	private final JenkinsServiceKanbanR jenkinsServiceKanban;
 
-	private final CacheService cacheService;
-
 	private final JenkinsToolConfigServiceImpl jenkinsToolConfigService;
 
 	/**
@@ -108,9 +103,6 @@ public class JenkinsController {
 		log.info("Received Jenkins KPI request {}", kpiRequest);
 		long jenkinsRequestStartTime = System.currentTimeMillis();
 		MDC.put("JenkinsRequestStartTime", String.valueOf(jenkinsRequestStartTime));
-		cacheService.setIntoApplicationCache(
-				Constant.KPI_REQUEST_TRACKER_ID_KEY + KPISource.JENKINS.name(),
-				kpiRequest.getRequestTrackerId());
 
 		if (CollectionUtils.isEmpty(kpiRequest.getKpiList())) {
 			throw new MissingServletRequestParameterException("kpiList", "List");
@@ -165,9 +157,6 @@ public class JenkinsController {
 		log.info("Received Jenkins Kanban KPI request {}", kpiRequest);
 		long jenkinsKanbanRequestStartTime = System.currentTimeMillis();
 		MDC.put("JenkinsKanbanRequestStartTime", String.valueOf(jenkinsKanbanRequestStartTime));
-		cacheService.setIntoApplicationCache(
-				Constant.KPI_REQUEST_TRACKER_ID_KEY + KPISource.JENKINSKANBAN.name(),
-				kpiRequest.getRequestTrackerId());
 
 		if (CollectionUtils.isEmpty(kpiRequest.getKpiList())) {
 			throw new MissingServletRequestParameterException("kpiList", "List");
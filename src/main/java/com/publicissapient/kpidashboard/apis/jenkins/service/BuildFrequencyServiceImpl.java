@@ -51,6 +51,7 @@ import com.publicissapient.kpidashboard.apis.jira.service.SprintDetailsServiceIm
 import com.publicissapient.kpidashboard.apis.model.BuildFrequencyInfo;
 import com.publicissapient.kpidashboard.apis.model.KPIExcelData;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.Node;
 import com.publicissapient.kpidashboard.apis.model.TreeAggregatorDetail;
@@ -358,7 +359,7 @@ public class BuildFrequencyServiceImpl
 			String projectName,
 			BuildFrequencyInfo buildFrequencyInfo) {
 
-		if (requestTrackerId.toLowerCase().contains(KPISource.EXCEL.name().toLowerCase())) {
+		if (KpiExecutionContext.isCurrentExcelRequest(requestTrackerId)) {
 			KPIExcelUtility.populateBuildFrequency(excelData, projectName, buildFrequencyInfo);
 		}
 	}
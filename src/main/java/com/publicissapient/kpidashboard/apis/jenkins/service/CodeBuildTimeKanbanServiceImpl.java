@@ -39,6 +39,7 @@ import com.publicissapient.kpidashboard.apis.model.CodeBuildTimeInfo;
 import com.publicissapient.kpidashboard.apis.model.CustomDateRange;
 import com.publicissapient.kpidashboard.apis.model.KPIExcelData;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.Node;
 import com.publicissapient.kpidashboard.apis.model.TreeAggregatorDetail;
@@ -204,7 +205,7 @@ public class CodeBuildTimeKanbanServiceImpl
 						if (CollectionUtils.isNotEmpty(aggData)) {
 							trendValueMap.put(CommonConstant.OVERALL, aggData);
 						}
-						if (requestTrackerId.toLowerCase().contains(KPISource.EXCEL.name().toLowerCase())) {
+						if (KpiExecutionContext.isCurrentExcelRequest(requestTrackerId)) {
 
 							KPIExcelUtility.populateCodeBuildTimeExcelData(
 									codeBuildTimeInfo, node.getProjectFilter().getName(), excelData);
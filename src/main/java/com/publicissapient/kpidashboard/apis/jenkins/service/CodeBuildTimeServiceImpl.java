@@ -56,6 +56,7 @@ import com.publicissapient.kpidashboard.apis.jira.service.SprintDetailsServiceIm
 import com.publicissapient.kpidashboard.apis.model.CodeBuildTimeInfo;
 import com.publicissapient.kpidashboard.apis.model.KPIExcelData;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.Node;
 import com.publicissapient.kpidashboard.apis.model.TreeAggregatorDetail;
@@ -555,7 +556,7 @@ public class CodeBuildTimeServiceImpl
 			String projectName,
 			CodeBuildTimeInfo codeBuildTimeInfo) {
 
-		if (requestTrackerId.toLowerCase().contains(KPISource.EXCEL.name().toLowerCase())) {
+		if (KpiExecutionContext.isCurrentExcelRequest(requestTrackerId)) {
 			KPIExcelUtility.populateCodeBuildTime(excelData, projectName, codeBuildTimeInfo);
 		}
 	}
@@ -51,6 +51,7 @@ import com.publicissapient.kpidashboard.apis.errors.ApplicationException;
 import com.publicissapient.kpidashboard.apis.model.DeploymentFrequencyInfo;
 import com.publicissapient.kpidashboard.apis.model.KPIExcelData;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.Node;
 import com.publicissapient.kpidashboard.apis.model.TreeAggregatorDetail;
@@ -196,7 +197,7 @@ public class DeploymentFrequencyServiceImpl
 					}
 					mapTmp.get(node.getId()).setValue(trendValueMap);
 
-					if (requestTrackerId.toLowerCase().contains(KPISource.EXCEL.name().toLowerCase())) {
+					if (KpiExecutionContext.isCurrentExcelRequest(requestTrackerId)) {
 						Map<String, String> deploymentMapPipelineNameWise =
 								deploymentListProjectWise.stream()
 										.filter(
@@ -18,15 +18,11 @@
 
 package com.publicissapient.kpidashboard.apis.jenkins.service;
 
-import org.springframework.beans.factory.annotation.Autowired;
-
 import com.publicissapient.kpidashboard.apis.common.service.ApplicationKPIService;
-import com.publicissapient.kpidashboard.apis.common.service.CacheService;
 import com.publicissapient.kpidashboard.apis.common.service.ToolsKPIService;
-import com.publicissapient.kpidashboard.apis.constant.Constant;
-import com.publicissapient.kpidashboard.apis.enums.KPISource;
 import com.publicissapient.kpidashboard.apis.errors.ApplicationException;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.TreeAggregatorDetail;
 
@@ -40,8 +36,6 @@ import com.publicissapient.kpidashboard.apis.model.TreeAggregatorDetail;
 public abstract class JenkinsKPIService<R, S, T> extends ToolsKPIService<R, S>
 		implements ApplicationKPIService<R, S, T> {
 
-	@Autowired private CacheService cacheService;
-
 	/**
 	 * Gets qualifier type.
 	 *
@@ -51,24 +45,24 @@ public abstract class JenkinsKPIService<R, S, T> extends ToolsKPIService<R, S>
 
 	/**
 	 * Returns API Request tracker Id to be used for logging/debugging and using it for maintaining
-	 * any sort of cache.
+	 * any sort of cache. The id is the one of the request computing the KPI, empty outside of a KPI
+	 * request.
 	 *
 	 * @return request tracker id
 	 */
 	protected String getRequestTrackerId() {
-		return cacheService.getFromApplicationCache(
-				Constant.KPI_REQUEST_TRACKER_ID_KEY + KPISource.JENKINS.name());
+		return KpiExecutionContext.currentRequestTrackerId();
 	}
 
 	/**
 	 * Returns API Request tracker Id to be used for logging/debugging and using it for maintaining
-	 * any sort of cache.
+	 * any sort of cache. The id is the one of the request computing the KPI, empty outside of a KPI
+	 * request.
 	 *
 	 * @return kanban request tracker id
 	 */
 	protected String getKanbanRequestTrackerId() {
-		return cacheService.getFromApplicationCache(
-				Constant.KPI_REQUEST_TRACKER_ID_KEY + KPISource.JENKINSKANBAN.name());
+		return KpiExecutionContext.currentRequestTrackerId();
 	}
 
 	/**
@@ -22,7 +22,6 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.apache.commons.collections4.CollectionUtils;
-import org.apache.commons.lang.SerializationUtils;
 import org.apache.commons.lang3.math.NumberUtils;
 import org.springframework.http.converter.HttpMessageNotWritableException;
 import org.springframework.stereotype.Service;
@@ -30,6 +29,7 @@ import org.springframework.stereotype.Service;
 import com.publicissapient.kpidashboard.apis.abac.UserAuthorizedProjectsService;
 import com.publicissapient.kpidashboard.apis.auth.apikey.ApiKeyAuthenticationService;
 import com.publicissapient.kpidashboard.apis.common.service.CacheService;
+import com.publicissapient.kpidashboard.apis.common.service.impl.KpiExecutionEngine;
 import com.publicissapient.kpidashboard.apis.common.service.impl.KpiHelperService;
 import com.publicissapient.kpidashboard.apis.enums.KPICode;
 import com.publicissapient.kpidashboard.apis.enums.KPISource;
@@ -39,8 +39,10 @@ import com.publicissapient.kpidashboard.apis.filter.service.FilterHelperService;
 import com.publicissapient.kpidashboard.apis.jenkins.factory.JenkinsKPIServiceFactory;
 import com.publicissapient.kpidashboard.apis.model.AccountHierarchyDataKanban;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.Node;
+import com.publicissapient.kpidashboard.apis.model.NodeValueOverlay;
 import com.publicissapient.kpidashboard.apis.model.TreeAggregatorDetail;
 import com.publicissapient.kpidashboard.apis.util.KPIHelperUtil;
 import com.publicissapient.kpidashboard.common.constant.CommonConstant;
@@ -57,6 +59,7 @@ public class JenkinsServiceKanbanR {
 	private final KpiHelperService kpiHelperService;
 	private final FilterHelperService filterHelperService;
 	private final UserAuthorizedProjectsService authorizedProjectsService;
+	private final KpiExecutionEngine kpiExecutionEngine;
 
 	@SuppressWarnings({"unchecked", "PMD.AvoidCatchingGenericException"})
 	public List<KpiElement> process(KpiRequest kpiRequest) throws EntityNotFoundException {
@@ -95,10 +98,7 @@ public class JenkinsServiceKanbanR {
 				Object cachedData =
 						cacheService.getFromApplicationCache(
 								kanbanProjectKeyCache, KPISource.JENKINSKANBAN.name(), groupId, null);
-				if (!kpiRequest
-								.getRequestTrackerId()
-								.toLowerCase()
-								.contains(KPISource.EXCEL.name().toLowerCase())
+				if (!KpiExecutionContext.isCurrentExcelRequest(kpiRequest.getRequestTrackerId())
 						&& null != cachedData) {
 					log.info(
 							"[JENKINS KANBAN][{}]. Fetching value from cache for {}",
@@ -118,13 +118,19 @@ public class JenkinsServiceKanbanR {
 									.getHierarchyIdLevelMap(false)
 									.getOrDefault(CommonConstant.HIERARCHY_LEVEL_ID_PROJECT, 0));
 
-			for (KpiElement kpiEle : kpiRequest.getKpiList()) {
-				responseList.add(
-						calculateAllKPIAggregatedMetrics(kpiRequest, kpiEle, treeAggregatorDetail));
+			boolean forecastPending;
+			try (KpiExecutionContext.Scope scope = kpiExecutionEngine.openContext(kpiRequest)) {
+				for (KpiElement kpiEle : kpiRequest.getKpiList()) {
+					responseList.add(
+							calculateAllKPIAggregatedMetrics(
+									kpiRequest, kpiEle, treeAggregatorDetail));
+				}
+				forecastPending = KpiExecutionContext.current().isForecastPending();
 			}
 			// skip using cache when the request is made with an api key and also processing
 			// by group id will be disabled
-			if (Boolean.FALSE.equals(ApiKeyAuthenticationService.isApiKeyRequest())) {
+			if (!forecastPending
+					&& Boolean.FALSE.equals(ApiKeyAuthenticationService.isApiKeyRequest())) {
 				setIntoApplicationCache(kpiRequest, responseList, groupId, kanbanProjectKeyCache);
 			}
 
@@ -187,18 +193,19 @@ public class JenkinsServiceKanbanR {
 			JenkinsKPIService<?, ?, ?> jenkinsKPIService =
 					JenkinsKPIServiceFactory.getJenkinsKPIService(kpi.name());
 			long startTime = System.currentTimeMillis();
-			TreeAggregatorDetail treeAggregatorDetailClone =
-					(TreeAggregatorDetail) SerializationUtils.clone(treeAggregatorDetail);
+			TreeAggregatorDetail treeAggregatorDetailView = treeAggregatorDetail.createKpiView();
 			List<Node> projectNodes =
-					treeAggregatorDetailClone
+					treeAggregatorDetailView
 							.getMapOfListOfProjectNodes()
 							.get(CommonConstant.PROJECT.toLowerCase());
 
 			if (!projectNodes.isEmpty()
 					&& (projectNodes.size() > 1
 							|| kpiHelperService.isToolConfigured(kpi, kpiElement, projectNodes.get(0)))) {
-				kpiElement =
-						jenkinsKPIService.getKpiData(kpiRequest, kpiElement, treeAggregatorDetailClone);
+				try (NodeValueOverlay nodeValues = NodeValueOverlay.open()) {
+					kpiElement =
+							jenkinsKPIService.getKpiData(kpiRequest, kpiElement, treeAggregatorDetailView);
+				}
 				kpiElement.setResponseCode(CommonConstant.KPI_PASSED);
 				if (projectNodes.size() == 1) {
 					kpiHelperService.isMandatoryFieldSet(kpi, kpiElement, projectNodes.get(0));
@@ -242,10 +249,7 @@ public class JenkinsServiceKanbanR {
 				filterHelperService
 						.getHierarchyIdLevelMap(true)
 						.get(CommonConstant.HIERARCHY_LEVEL_ID_PROJECT);
-		if (!kpiRequest
-						.getRequestTrackerId()
-						.toLowerCase()
-						.contains(KPISource.EXCEL.name().toLowerCase())
+		if (!KpiExecutionContext.isCurrentExcelRequest(kpiRequest.getRequestTrackerId())
 				&& projectLevel >= kpiRequest.getLevel()) {
 
 			cacheService.setIntoApplicationCache(
@@ -20,14 +20,10 @@ package com.publicissapient.kpidashboard.apis.jenkins.service;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.MapUtils;
-import org.apache.commons.lang.SerializationUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.converter.HttpMessageNotWritableException;
 import org.springframework.stereotype.Service;
@@ -35,7 +31,10 @@ import org.springframework.stereotype.Service;
 import com.publicissapient.kpidashboard.apis.abac.UserAuthorizedProjectsService;
 import com.publicissapient.kpidashboard.apis.auth.apikey.ApiKeyAuthenticationService;
 import com.publicissapient.kpidashboard.apis.common.service.CacheService;
+import com.publicissapient.kpidashboard.apis.common.service.impl.KpiExecutionEngine;
+import com.publicissapient.kpidashboard.apis.common.service.impl.KpiExecutionEngine.KpiExecutionResult;
 import com.publicissapient.kpidashboard.apis.common.service.impl.KpiHelperService;
+import com.publicissapient.kpidashboard.apis.common.service.impl.KpiRequestCoalescer;
 import com.publicissapient.kpidashboard.apis.config.CustomApiConfig;
 import com.publicissapient.kpidashboard.apis.enums.KPICode;
 import com.publicissapient.kpidashboard.apis.enums.KPISource;
@@ -46,8 +45,10 @@ import com.publicissapient.kpidashboard.apis.jenkins.factory.JenkinsKPIServiceFa
 import com.publicissapient.kpidashboard.apis.kpiintegration.service.KpiIntegrationServiceImpl;
 import com.publicissapient.kpidashboard.apis.model.AccountHierarchyData;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.Node;
+import com.publicissapient.kpidashboard.apis.model.NodeValueOverlay;
 import com.publicissapient.kpidashboard.apis.model.TreeAggregatorDetail;
 import com.publicissapient.kpidashboard.apis.util.KPIHelperUtil;
 import com.publicissapient.kpidashboard.common.constant.CommonConstant;
@@ -71,6 +72,10 @@ public class JenkinsServiceR {
 
 	@Autowired private CustomApiConfig customApiConfig;
 
+	@Autowired private KpiExecutionEngine kpiExecutionEngine;
+
+	@Autowired private KpiRequestCoalescer kpiRequestCoalescer;
+
 	private boolean referFromProjectCache = true;
 
 	@SuppressWarnings({"unchecked"})
@@ -83,7 +88,6 @@ public class JenkinsServiceR {
 		List<KpiElement> origRequestedKpis =
 				kpiRequest.getKpiList().stream().map(KpiElement::new).toList();
 		List<KpiElement> responseList = new ArrayList<>();
-		String[] projectKeyCache;
 		try {
 
 			Integer groupId = kpiRequest.getKpiList().get(0).getGroupId();
@@ -96,65 +100,42 @@ public class JenkinsServiceR {
 			List<AccountHierarchyData> filteredAccountDataList =
 					filterHelperService.getFilteredBuilds(kpiRequest, groupName);
 			if (!CollectionUtils.isEmpty(filteredAccountDataList)) {
-				projectKeyCache = getProjectKeyCache(kpiRequest, filteredAccountDataList);
+				String[] projectKeyCache = getProjectKeyCache(kpiRequest, filteredAccountDataList);
 
-				filteredAccountDataList = getAuthorizedFilteredList(kpiRequest, filteredAccountDataList);
-				if (filteredAccountDataList.isEmpty()) {
+				List<AccountHierarchyData> authorizedAccountDataList =
+						getAuthorizedFilteredList(kpiRequest, filteredAccountDataList);
+				if (authorizedAccountDataList.isEmpty()) {
 					return responseList;
 				}
+				String cacheKey = null;
 				// skip using cache when the request is made with an api key
 				if (Boolean.FALSE.equals(ApiKeyAuthenticationService.isApiKeyRequest())) {
 					List<KpiElement> cachedData = getCachedData(kpiRequest, groupId, projectKeyCache);
 					if (CollectionUtils.isNotEmpty(cachedData)) {
 						return cachedData;
 					}
+					if (isCachedResponse(kpiRequest, groupId)) {
+						cacheKey =
+								cacheService.getKpiCacheKey(
+										projectKeyCache,
+										KPISource.JENKINS.name(),
+										groupId,
+										kpiRequest.getSprintIncluded());
+					}
 				}
 
-				TreeAggregatorDetail treeAggregatorDetail =
-						KPIHelperUtil.getTreeLeafNodesGroupedByFilter(
+				responseList.addAll(
+						kpiRequestCoalescer.computeOnce(
 								kpiRequest,
-								filteredAccountDataList,
-								null,
-								filterHelperService.getFirstHierarchyLevel(),
-								filterHelperService
-										.getHierarchyIdLevelMap(false)
-										.getOrDefault(CommonConstant.HIERARCHY_LEVEL_ID_SPRINT, 0));
-				updateTreeAggregatorDetail(kpiRequest, treeAggregatorDetail);
-				ExecutorService executorService =
-						Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
-
-				List<CompletableFuture<Void>> futures = new ArrayList<>();
-				for (KpiElement kpiElement : kpiRequest.getKpiList()) {
-					CompletableFuture<Void> future =
-							CompletableFuture.runAsync(
-									() -> {
-										try {
-											responseList.add(
-													calculateAllKPIAggregatedMetrics(
-															kpiRequest, kpiElement, treeAggregatorDetail));
-										} catch (Exception e) {
-											log.error(
-													"Error while KPI calculation for data {}", kpiRequest.getKpiList(), e);
-										}
-									},
-									executorService);
-					futures.add(future);
-				}
-				CompletableFuture<Void> allFutures =
-						CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
-				allFutures.join(); // Wait for all tasks to complete
-				executorService.shutdown();
-
-				List<KpiElement> missingKpis =
-						origRequestedKpis.stream()
-								.filter(
-										reqKpi ->
-												responseList.stream()
-														.noneMatch(
-																responseKpi -> reqKpi.getKpiId().equals(responseKpi.getKpiId())))
-								.collect(Collectors.toList());
-				responseList.addAll(missingKpis);
-				setIntoApplicationCache(kpiRequest, responseList, groupId, projectKeyCache);
+								KPISource.JENKINS.name(),
+								cacheKey,
+								() ->
+										calculateKpis(
+												kpiRequest,
+												authorizedAccountDataList,
+												origRequestedKpis,
+												groupId,
+												projectKeyCache)));
 			} else {
 				responseList.addAll(origRequestedKpis);
 			}
@@ -171,6 +152,45 @@ public class JenkinsServiceR {
 		return responseList;
 	}
 
+	private List<KpiElement> calculateKpis(
+			KpiRequest kpiRequest,
+			List<AccountHierarchyData> filteredAccountDataList,
+			List<KpiElement> origRequestedKpis,
+			Integer groupId,
+			String[] projectKeyCache)
+			throws ApplicationException {
+		TreeAggregatorDetail treeAggregatorDetail =
+				KPIHelperUtil.getTreeLeafNodesGroupedByFilter(
+						kpiRequest,
+						filteredAccountDataList,
+						null,
+						filterHelperService.getFirstHierarchyLevel(),
+						filterHelperService
+								.getHierarchyIdLevelMap(false)
+								.getOrDefault(CommonConstant.HIERARCHY_LEVEL_ID_SPRINT, 0));
+		updateTreeAggregatorDetail(kpiRequest, treeAggregatorDetail);
+		KpiExecutionResult executionResult =
+				kpiExecutionEngine.execute(
+						KPISource.JENKINS.name(),
+						kpiRequest,
+						kpiEle -> calculateAllKPIAggregatedMetrics(kpiRequest, kpiEle, treeAggregatorDetail));
+		List<KpiElement> responseList = new ArrayList<>(executionResult.getKpiElements());
+
+		List<KpiElement> missingKpis =
+				origRequestedKpis.stream()
+						.filter(
+								reqKpi ->
+										responseList.stream()
+												.noneMatch(responseKpi -> reqKpi.getKpiId().equals(responseKpi.getKpiId())))
+						.map(executionResult::markTimedOut)
+						.collect(Collectors.toList());
+		responseList.addAll(missingKpis);
+		if (executionResult.isComplete()) {
+			setIntoApplicationCache(kpiRequest, responseList, groupId, projectKeyCache);
+		}
+		return responseList;
+	}
+
 	private List<KpiElement> getCachedData(
 			KpiRequest kpiRequest, Integer groupId, String[] projectKeyCache) {
 		Object cachedData = null;
@@ -179,10 +199,7 @@ public class JenkinsServiceR {
 					cacheService.getFromApplicationCache(
 							projectKeyCache, KPISource.JENKINS.name(), groupId, kpiRequest.getSprintIncluded());
 		}
-		if (!kpiRequest
-						.getRequestTrackerId()
-						.toLowerCase()
-						.contains(KPISource.EXCEL.name().toLowerCase())
+		if (!KpiExecutionContext.isCurrentExcelRequest(kpiRequest.getRequestTrackerId())
 				&& null != cachedData) {
 			log.info(
 					"[JENKINS][{}]. Fetching value from cache for {}",
@@ -243,18 +260,19 @@ public class JenkinsServiceR {
 			jenkinsKPIService = JenkinsKPIServiceFactory.getJenkinsKPIService(kpi.name());
 			long startTime = System.currentTimeMillis();
 
-			TreeAggregatorDetail treeAggregatorDetailClone =
-					(TreeAggregatorDetail) SerializationUtils.clone(treeAggregatorDetail);
+			TreeAggregatorDetail treeAggregatorDetailView = treeAggregatorDetail.createKpiView();
 			List<Node> projectNodes =
-					treeAggregatorDetailClone
+					treeAggregatorDetailView
 							.getMapOfListOfProjectNodes()
 							.get(CommonConstant.PROJECT.toLowerCase());
 
 			if (!projectNodes.isEmpty()
 					&& (projectNodes.size() > 1
 							|| kpiHelperService.isToolConfigured(kpi, kpiElement, projectNodes.get(0)))) {
-				kpiElement =
-						jenkinsKPIService.getKpiData(kpiRequest, kpiElement, treeAggregatorDetailClone);
+				try (NodeValueOverlay nodeValues = NodeValueOverlay.open()) {
+					kpiElement =
+							jenkinsKPIService.getKpiData(kpiRequest, kpiElement, treeAggregatorDetailView);
+				}
 				kpiElement.setResponseCode(CommonConstant.KPI_PASSED);
 				if (projectNodes.size() == 1) {
 					kpiHelperService.isMandatoryFieldSet(kpi, kpiElement, projectNodes.get(0));
@@ -288,17 +306,8 @@ public class JenkinsServiceR {
 			List<KpiElement> responseList,
 			Integer groupId,
 			String[] projectKeyCache) {
-		Integer projectLevel =
-				filterHelperService
-						.getHierarchyIdLevelMap(false)
-						.get(CommonConstant.HIERARCHY_LEVEL_ID_PROJECT);
-
-		if (!kpiRequest
-						.getRequestTrackerId()
-						.toLowerCase()
-						.contains(KPISource.EXCEL.name().toLowerCase())
-				&& projectLevel >= kpiRequest.getLevel()
-				&& !customApiConfig.getGroupIdsToExcludeFromCache().contains(groupId)) {
+		if (!KpiExecutionContext.isCurrentExcelRequest(kpiRequest.getRequestTrackerId())
+				&& isCachedResponse(kpiRequest, groupId)) {
 
 			cacheService.setIntoApplicationCache(
 					projectKeyCache,
@@ -309,6 +318,21 @@ public class JenkinsServiceR {
 		}
 	}
 
+	/**
+	 * Only the responses of the project level and above are cached, except for the excluded
+	 * groups. Only those requests are keyed for coalescing, the others depend on more than their
+	 * cache key.
+	 */
+	private boolean isCachedResponse(KpiRequest kpiRequest, Integer groupId) {
+		Integer projectLevel =
+				filterHelperService
+						.getHierarchyIdLevelMap(false)
+						.get(CommonConstant.HIERARCHY_LEVEL_ID_PROJECT);
+		return null != projectLevel
+				&& projectLevel >= kpiRequest.getLevel()
+				&& !customApiConfig.getGroupIdsToExcludeFromCache().contains(groupId);
+	}
+
 	/**
 	 * updates the TreeAggregatorDetail object based on the KpiRequest. If the selectedMap in the
 	 * KpiRequest does not contain the HIERARCHY_LEVEL_ID_SPRINT, filter out the sprint by
@@ -47,6 +47,7 @@ import com.publicissapient.kpidashboard.apis.jira.service.JiraKPIService;
 import com.publicissapient.kpidashboard.apis.model.CustomDateRange;
 import com.publicissapient.kpidashboard.apis.model.KPIExcelData;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.Node;
 import com.publicissapient.kpidashboard.apis.model.TreeAggregatorDetail;
@@ -234,7 +235,7 @@ public class CostOfDelayKanbanServiceImpl
 						}
 
 						mapTmp.get(node.getId()).setValue(dataCount);
-						if (requestTrackerId.toLowerCase().contains(KPISource.EXCEL.name().toLowerCase())) {
+						if (KpiExecutionContext.isCurrentExcelRequest(requestTrackerId)) {
 							KPIExcelUtility.populateKanbanCODExcelData(
 									projectName, kanbanJiraIssueList, excelData);
 						}
@@ -30,6 +30,7 @@ import com.publicissapient.kpidashboard.apis.jira.service.JiraKPIService;
 import com.publicissapient.kpidashboard.apis.model.CustomDateRange;
 import com.publicissapient.kpidashboard.apis.model.KPIExcelData;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.Node;
 import com.publicissapient.kpidashboard.apis.model.TreeAggregatorDetail;
@@ -221,7 +222,7 @@ public class LeadTimeKanbanServiceImpl
 
 						LeadTimeData leadTimeData = getLeadTime(leadTimeList);
 
-						if (requestTrackerId.toLowerCase().contains(KPISource.EXCEL.name().toLowerCase())) {
+						if (KpiExecutionContext.isCurrentExcelRequest(requestTrackerId)) {
 							KPIExcelUtility.populateKanbanLeadTime(excelData, trendLineName, leadTimeData);
 						}
 
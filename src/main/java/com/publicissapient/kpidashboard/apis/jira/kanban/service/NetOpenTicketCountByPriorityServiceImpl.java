@@ -34,6 +34,7 @@ import com.publicissapient.kpidashboard.apis.jira.service.JiraKPIService;
 import com.publicissapient.kpidashboard.apis.model.CustomDateRange;
 import com.publicissapient.kpidashboard.apis.model.KPIExcelData;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.Node;
 import com.publicissapient.kpidashboard.apis.model.TreeAggregatorDetail;
@@ -416,7 +417,7 @@ public class NetOpenTicketCountByPriorityServiceImpl
 			Set<KanbanIssueCustomHistory> kanbanJiraIssues,
 			List<KPIExcelData> excelData,
 			KpiRequest kpiRequest) {
-		if (requestTrackerId.toLowerCase().contains(KPISource.EXCEL.name().toLowerCase())
+		if (KpiExecutionContext.isCurrentExcelRequest(requestTrackerId)
 				&& MapUtils.isNotEmpty(jiraHistoryPriorityAndDateWiseIssueMap)) {
 			String dateProjectKey = node.getProjectHierarchy().getNodeDisplayName();
 			String date =
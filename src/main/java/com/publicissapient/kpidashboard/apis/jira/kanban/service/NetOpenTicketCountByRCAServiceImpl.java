@@ -33,6 +33,7 @@ import com.publicissapient.kpidashboard.apis.jira.service.JiraKPIService;
 import com.publicissapient.kpidashboard.apis.model.CustomDateRange;
 import com.publicissapient.kpidashboard.apis.model.KPIExcelData;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.Node;
 import com.publicissapient.kpidashboard.apis.model.TreeAggregatorDetail;
@@ -420,7 +421,7 @@ public class NetOpenTicketCountByRCAServiceImpl
 			Set<KanbanIssueCustomHistory> kanbanJiraIssues,
 			List<KPIExcelData> excelData,
 			KpiRequest kpiRequest) {
-		if (requestTrackerId.toLowerCase().contains(KPISource.EXCEL.name().toLowerCase())
+		if (KpiExecutionContext.isCurrentExcelRequest(requestTrackerId)
 				&& MapUtils.isNotEmpty(jiraHistoryRCAAndDateWiseIssueMap)) {
 			String dateProjectKey = node.getProjectHierarchy().getNodeDisplayName();
 			String date =
@@ -9,13 +9,11 @@ import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 import javax.validation.constraints.NotNull;
 
 import org.apache.commons.collections4.CollectionUtils;
-import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.bson.types.ObjectId;
@@ -34,7 +32,9 @@ import com.publicissapient.kpidashboard.apis.errors.ApplicationException;
 import com.publicissapient.kpidashboard.apis.jira.service.JiraKPIService;
 import com.publicissapient.kpidashboard.apis.model.CustomDateRange;
 import com.publicissapient.kpidashboard.apis.model.KPIExcelData;
+import com.publicissapient.kpidashboard.apis.model.KanbanStatusTimeline;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.Node;
 import com.publicissapient.kpidashboard.apis.model.TreeAggregatorDetail;
@@ -50,7 +50,7 @@ import com.publicissapient.kpidashboard.common.util.DateUtil;
 
 @Component
 public class NetOpenTicketCountStatusImpl
-		extends JiraKPIService<Long, List<Object>, Map<String, Map<String, Map<String, Set<String>>>>> {
+		extends JiraKPIService<Long, List<Object>, Map<String, KanbanStatusTimeline>> {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(NetOpenTicketCountStatusImpl.class);
 	private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
@@ -142,8 +142,7 @@ public class NetOpenTicketCountStatusImpl
 	 * @return Long
 	 */
 	@Override
-	public Long calculateKPIMetrics(
-			Map<String, Map<String, Map<String, Set<String>>>> subCategoryMap) {
+	public Long calculateKPIMetrics(Map<String, KanbanStatusTimeline> subCategoryMap) {
 		return 0L;
 	}
 
@@ -161,7 +160,7 @@ public class NetOpenTicketCountStatusImpl
 	 * @return resultListMap
 	 */
 	@Override
-	public Map<String, Map<String, Map<String, Set<String>>>> fetchKPIDataFromDb(
+	public Map<String, KanbanStatusTimeline> fetchKPIDataFromDb(
 			List<Node> leafNodeList, String startDate, String endDate, KpiRequest kpiRequest) {
 
 		Map<ObjectId, Map<String, Object>> projectWiseMapping = new HashMap<>();
@@ -190,7 +189,7 @@ public class NetOpenTicketCountStatusImpl
 				kpiHelperService.removeClosedTicketsFromHistoryIssuesData(
 						historyDataResultMap, cumulativeStartDate);
 
-		return kpiHelperService.computeProjectWiseJiraHistoryByStatusAndDate(
+		return kpiHelperService.computeProjectWiseStatusTimeline(
 				projectWiseNonClosedTickets, cumulativeStartDate, historyDataResultMap);
 	}
 
@@ -217,14 +216,14 @@ public class NetOpenTicketCountStatusImpl
 		String endDate = dateRange.getEndDate().format(DATE_FORMATTER);
 
 		// past all tickets and given range ticket data fetch from db
-		Map<String, Map<String, Map<String, Set<String>>>> projectWiseDbData =
+		Map<String, KanbanStatusTimeline> projectWiseDbData =
 				fetchKPIDataFromDb(leafNodeList, startDate, endDate, kpiRequest);
 
 		kpiWithFilter(projectWiseDbData, mapTmp, leafNodeList, kpiElement, kpiRequest);
 	}
 
 	private void kpiWithFilter(
-			Map<String, Map<String, Map<String, Set<String>>>> projectWiseStatusDateData,
+			Map<String, KanbanStatusTimeline> projectWiseStatusTimeline,
 			Map<String, Node> mapTmp,
 			List<Node> leafNodeList,
 			KpiElement kpiElement,
@@ -238,15 +237,14 @@ public class NetOpenTicketCountStatusImpl
 				node -> {
 					Map<String, List<DataCount>> dataCountMap = new HashMap<>();
 					String projectNodeId = node.getProjectFilter().getBasicProjectConfigId().toString();
-					Map<String, Map<String, Set<String>>> statusWiseDateData =
-							projectWiseStatusDateData.getOrDefault(projectNodeId, new HashMap<>());
+					KanbanStatusTimeline statusTimeline =
+							projectWiseStatusTimeline.getOrDefault(projectNodeId, KanbanStatusTimeline.empty());
 
 					Set<String> doneStatus =
 							new HashSet<>(projectWiseDoneStatus.getOrDefault(projectNodeId, new ArrayList<>()));
 
-					if (MapUtils.isNotEmpty(statusWiseDateData)) {
-						Set<String> projectWiseStatusList =
-								getStatusOtherThanDone(statusWiseDateData, doneStatus);
+					if (!statusTimeline.isEmpty()) {
+						Set<String> projectWiseStatusList = getStatusOtherThanDone(statusTimeline, doneStatus);
 
 						LocalDateTime currentDate = DateUtil.getTodayTime();
 						for (int i = 0; i < kpiRequest.getKanbanXaxisDataPoints(); i++) {
@@ -257,11 +255,11 @@ public class NetOpenTicketCountStatusImpl
 							if (dateRange.getEndDate().isAfter(LocalDate.now())) {
 								projectWiseStatusCountMap =
 										filterKanbanDataBasedOnDateAndStatusWise(
-												statusWiseDateData, projectWiseStatusList, LocalDate.now());
+												statusTimeline, projectWiseStatusList, LocalDate.now());
 							} else {
 								projectWiseStatusCountMap =
 										filterKanbanDataBasedOnDateAndStatusWise(
-												statusWiseDateData, projectWiseStatusList, dateRange.getEndDate());
+												statusTimeline, projectWiseStatusList, dateRange.getEndDate());
 							}
 
 							String date = getRange(dateRange, kpiRequest);
@@ -278,7 +276,7 @@ public class NetOpenTicketCountStatusImpl
 						// Populates data in Excel for validation for tickets created before
 						populateExcelDataObject(
 								requestTrackerId,
-								statusWiseDateData,
+								statusTimeline,
 								node,
 								projectWiseStatusList,
 								new HashSet<>(
@@ -294,42 +292,24 @@ public class NetOpenTicketCountStatusImpl
 	}
 
 	private Set<String> getStatusOtherThanDone(
-			Map<String, Map<String, Set<String>>> statusWiseDateData, Set<String> doneStaus) {
+			KanbanStatusTimeline statusTimeline, Set<String> doneStaus) {
 		Set<String> statuses;
 		statuses =
-				statusWiseDateData.keySet().stream()
+				statusTimeline.getStatuses().stream()
 						.filter(status -> !doneStaus.contains(status))
 						.collect(Collectors.toSet());
 		return statuses;
 	}
 
 	/**
-	 * @param statusWiseDateData
+	 * @param statusTimeline
 	 * @param statusList
 	 * @param currentDate
 	 * @return
 	 */
 	public Map<String, Long> filterKanbanDataBasedOnDateAndStatusWise(
-			Map<String, Map<String, Set<String>>> statusWiseDateData,
-			Set<String> statusList,
-			LocalDate currentDate) {
-
-		Map<String, Long> projectStatusMap = new HashMap<>();
-		statusList.forEach(
-				status -> {
-					Set<String> ids =
-							statusWiseDateData
-									.get(status)
-									.getOrDefault(currentDate.toString(), new HashSet<>())
-									.stream()
-									.filter(Objects::nonNull)
-									.collect(Collectors.toSet());
-					projectStatusMap.put(status, Long.valueOf(ids.size()));
-				});
-
-		statusList.forEach(status -> projectStatusMap.computeIfAbsent(status, val -> 0L));
-
-		return projectStatusMap;
+			KanbanStatusTimeline statusTimeline, Set<String> statusList, LocalDate currentDate) {
+		return statusTimeline.countByStatus(statusList, currentDate);
 	}
 
 	/**
@@ -441,20 +421,27 @@ public class NetOpenTicketCountStatusImpl
 
 	private void populateExcelDataObject(
 			String requestTrackerId,
-			Map<String, Map<String, Set<String>>> projectWiseFeatureList,
+			KanbanStatusTimeline statusTimeline,
 			Node node,
 			Set<String> projectWiseStatusList,
 			Set<KanbanIssueCustomHistory> kanbanJiraIssues,
 			List<KPIExcelData> excelData,
 			KpiRequest kpiRequest) {
 
-		if (requestTrackerId.toLowerCase().contains(KPISource.EXCEL.name().toLowerCase())) {
+		if (KpiExecutionContext.isCurrentExcelRequest(requestTrackerId)) {
 			String projectName = node.getProjectHierarchy().getNodeDisplayName();
 			String date =
 					getRange(
 							KpiDataHelper.getStartAndEndDateTimeForDataFiltering(
 									DateUtil.getTodayTime(), kpiRequest.getDuration()),
 							kpiRequest);
+			// the excel lists the tickets of each status as of today
+			Map<String, Map<String, Set<String>>> projectWiseFeatureList = new HashMap<>();
+			LocalDate today = LocalDate.now();
+			projectWiseStatusList.forEach(
+					status ->
+							projectWiseFeatureList.put(
+									status, Map.of(today.toString(), statusTimeline.getIssues(status, today))));
 			KPIExcelUtility.prepareExcelForKanbanCumulativeDataMap(
 					projectName,
 					projectWiseFeatureList,
@@ -39,6 +39,7 @@ import com.publicissapient.kpidashboard.apis.errors.ApplicationException;
 import com.publicissapient.kpidashboard.apis.jira.service.JiraKPIService;
 import com.publicissapient.kpidashboard.apis.model.KPIExcelData;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.Node;
 import com.publicissapient.kpidashboard.apis.model.TreeAggregatorDetail;
@@ -178,7 +179,7 @@ public class ProjectVersionKanbanServiceImpl
 									dataCount.setSProjectName(projectName);
 									dc.add(dataCount);
 								});
-						if (requestTrackerId.toLowerCase().contains(KPISource.EXCEL.name().toLowerCase())) {
+						if (KpiExecutionContext.isCurrentExcelRequest(requestTrackerId)) {
 							KPIExcelUtility.populateReleaseFreqExcelData(
 									projectVersionList, projectName, excelData);
 						}
@@ -51,6 +51,7 @@ import com.publicissapient.kpidashboard.apis.jira.service.JiraKPIService;
 import com.publicissapient.kpidashboard.apis.model.CustomDateRange;
 import com.publicissapient.kpidashboard.apis.model.KPIExcelData;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.Node;
 import com.publicissapient.kpidashboard.apis.model.TreeAggregatorDetail;
@@ -443,7 +444,7 @@ public class TicketOpenVsClosedByTypeServiceImpl
 			String dateProjectKey,
 			String projectName,
 			List<KPIExcelData> excelData) {
-		if (requestTrackerId.toLowerCase().contains(KPISource.EXCEL.name().toLowerCase())
+		if (KpiExecutionContext.isCurrentExcelRequest(requestTrackerId)
 				&& CollectionUtils.isNotEmpty(dateWiseIssueTypeList)) {
 			KPIExcelUtility.populateOpenVsClosedExcelData(
 					dateProjectKey,
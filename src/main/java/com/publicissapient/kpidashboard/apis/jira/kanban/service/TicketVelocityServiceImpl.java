@@ -46,6 +46,7 @@ import com.publicissapient.kpidashboard.apis.jira.service.JiraKPIService;
 import com.publicissapient.kpidashboard.apis.model.CustomDateRange;
 import com.publicissapient.kpidashboard.apis.model.KPIExcelData;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.Node;
 import com.publicissapient.kpidashboard.apis.model.TreeAggregatorDetail;
@@ -202,7 +203,7 @@ public class TicketVelocityServiceImpl
 							String date = getRange(dateRange, kpiRequest);
 							dataCount.add(getDataCountObject(capacity, projectName, date));
 							currentDate = getNextRangeDate(kpiRequest, currentDate);
-							if (requestTrackerId.toLowerCase().contains(KPISource.EXCEL.name().toLowerCase())) {
+							if (KpiExecutionContext.isCurrentExcelRequest(requestTrackerId)) {
 								KPIExcelUtility.populateTicketVelocityExcelData(
 										kanbanIssueCustomHistories, projectName, date, excelData);
 							}
@@ -33,9 +33,6 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
 
-import com.publicissapient.kpidashboard.apis.common.service.CacheService;
-import com.publicissapient.kpidashboard.apis.constant.Constant;
-import com.publicissapient.kpidashboard.apis.enums.KPISource;
 import com.publicissapient.kpidashboard.apis.errors.EntityNotFoundException;
 import com.publicissapient.kpidashboard.apis.jira.model.BoardRequestDTO;
 import com.publicissapient.kpidashboard.apis.jira.service.JiraNonTrendKPIServiceR;
@@ -71,7 +68,6 @@ public class JiraController {
 	private static final String KPI_LIST = "kpiList";
 	private static final String JIRA_SCRUM_KPI_REQ = "JiraScrumKpiRequest";
 
-	private final CacheService cacheService;
 	private final JiraServiceR jiraService;
 	private final JiraServiceKanbanR jiraServiceKanban;
 	private final JiraToolConfigServiceImpl jiraToolConfigService;
@@ -111,9 +107,6 @@ public class JiraController {
 
 		long jiraRequestStartTime = System.currentTimeMillis();
 		MDC.put("JiraRequestStartTime", String.valueOf(jiraRequestStartTime));
-		cacheService.setIntoApplicationCache(
-				Constant.KPI_REQUEST_TRACKER_ID_KEY + KPISource.JIRA.name(),
-				kpiRequest.getRequestTrackerId());
 
 		if (CollectionUtils.isEmpty(kpiRequest.getKpiList())) {
 			throw new MissingServletRequestParameterException(KPI_LIST, "List");
@@ -165,10 +158,6 @@ public class JiraController {
 		long jiraKanbanRequestStartTime = System.currentTimeMillis();
 		MDC.put("JiraKanbanRequestStartTime", String.valueOf(jiraKanbanRequestStartTime));
 
-		cacheService.setIntoApplicationCache(
-				Constant.KPI_REQUEST_TRACKER_ID_KEY + KPISource.JIRAKANBAN.name(),
-				kpiRequest.getRequestTrackerId());
-
 		if (CollectionUtils.isEmpty(kpiRequest.getKpiList())) {
 			throw new MissingServletRequestParameterException(KPI_LIST, "List");
 		}
@@ -275,9 +264,6 @@ public class JiraController {
 
 		long jiraRequestStartTime = System.currentTimeMillis();
 		MDC.put("JiraRequestStartTime", String.valueOf(jiraRequestStartTime));
-		cacheService.setIntoApplicationCache(
-				Constant.KPI_REQUEST_TRACKER_ID_KEY + KPISource.JIRA.name(),
-				kpiRequest.getRequestTrackerId());
 
 		if (CollectionUtils.isEmpty(kpiRequest.getKpiList())) {
 			throw new MissingServletRequestParameterException(KPI_LIST, "List");
@@ -41,6 +41,7 @@ import com.publicissapient.kpidashboard.apis.jira.service.backlogdashboard.JiraB
 import com.publicissapient.kpidashboard.apis.model.IterationKpiValue;
 import com.publicissapient.kpidashboard.apis.model.KPIExcelData;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.Node;
 import com.publicissapient.kpidashboard.apis.util.KPIExcelUtility;
@@ -212,7 +213,7 @@ public class BackLogCountByIssueTypeServiceImpl
 
 	private void populateExcelDataObject(
 			String requestTrackerId, List<KPIExcelData> excelData, List<JiraIssue> jiraIssueList) {
-		if (requestTrackerId.toLowerCase().contains(KPISource.EXCEL.name().toLowerCase())
+		if (KpiExecutionContext.isCurrentExcelRequest(requestTrackerId)
 				&& CollectionUtils.isNotEmpty(jiraIssueList)) {
 			KPIExcelUtility.populateBacklogCountExcelData(jiraIssueList, excelData);
 		}
@@ -34,6 +34,7 @@ import com.publicissapient.kpidashboard.apis.filter.service.FilterHelperService;
 import com.publicissapient.kpidashboard.apis.jira.service.JiraKPIService;
 import com.publicissapient.kpidashboard.apis.model.KPIExcelData;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.Node;
 import com.publicissapient.kpidashboard.apis.model.TreeAggregatorDetail;
@@ -250,7 +251,7 @@ public class CommittmentReliabilityServiceImpl
 					});
 		}
 
-		List<KPIExcelData> excelData = new ArrayList<>();
+		List<KPIExcelData> excelData = KpiExecutionContext.newExcelRows();
 
 		sprintLeafNodeList.forEach(
 				node -> {
@@ -516,7 +517,7 @@ public class CommittmentReliabilityServiceImpl
 			List<CommitmentReliabilityValidationData> validationDataList,
 			Node node,
 			FieldMapping fieldMapping) {
-		if (requestTrackerId.toLowerCase().contains(KPISource.EXCEL.name().toLowerCase())) {
+		if (KpiExecutionContext.isCurrentExcelRequest(requestTrackerId)) {
 			String sprintName = node.getSprintFilter().getName();
 			if (CollectionUtils.isNotEmpty(validationDataList)) {
 				validationDataList.stream()
@@ -50,6 +50,7 @@ import com.publicissapient.kpidashboard.apis.filter.service.FilterHelperService;
 import com.publicissapient.kpidashboard.apis.jira.service.JiraKPIService;
 import com.publicissapient.kpidashboard.apis.model.KPIExcelData;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.Node;
 import com.publicissapient.kpidashboard.apis.model.TreeAggregatorDetail;
@@ -379,7 +380,7 @@ public class CreatedVsResolvedServiceImpl
 					});
 		}
 
-		List<KPIExcelData> excelData = new ArrayList<>();
+		List<KPIExcelData> excelData = KpiExecutionContext.newExcelRows();
 
 		sprintLeafNodeList.forEach(
 				node -> {
@@ -478,7 +479,7 @@ public class CreatedVsResolvedServiceImpl
 			List<JiraIssue> totalCreatedTicketsSprintStart,
 			List<JiraIssue> storyList) {
 
-		if (requestTrackerId.toLowerCase().contains(KPISource.EXCEL.name().toLowerCase())) {
+		if (KpiExecutionContext.isCurrentExcelRequest(requestTrackerId)) {
 
 			Map<String, JiraIssue> createdTicketMap = new HashMap<>();
 			totalCreatedTickets.forEach(
@@ -35,6 +35,7 @@ import com.publicissapient.kpidashboard.apis.model.IterationKpiFilters;
 import com.publicissapient.kpidashboard.apis.model.IterationKpiFiltersOptions;
 import com.publicissapient.kpidashboard.apis.model.KPIExcelData;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.Node;
 import com.publicissapient.kpidashboard.apis.model.TreeAggregatorDetail;
@@ -167,7 +168,7 @@ public class CycleTimeServiceImpl extends JiraKPIService<Long, List<Object>, Map
 		Map<String, Object> resultMap =
 				fetchKPIDataFromDb(leafNodeList, startDate, endDate, kpiRequest);
 		List<CycleTimeValidationData> cycleTimeList = new ArrayList<>();
-		List<KPIExcelData> excelData = new ArrayList<>();
+		List<KPIExcelData> excelData = KpiExecutionContext.newExcelRows();
 		Set<String> issueTypeFilter = new LinkedHashSet<>();
 		leafNodeList.forEach(
 				leafNode -> {
@@ -492,7 +493,7 @@ public class CycleTimeServiceImpl extends JiraKPIService<Long, List<Object>, Map
 			String requestTrackerId,
 			List<CycleTimeValidationData> cycleTimeList,
 			List<KPIExcelData> excelData) {
-		if (requestTrackerId.toLowerCase().contains(KPISource.EXCEL.name().toLowerCase())) {
+		if (KpiExecutionContext.isCurrentExcelRequest(requestTrackerId)) {
 			KPIExcelUtility.populateCycleTime(cycleTimeList, excelData);
 		}
 	}
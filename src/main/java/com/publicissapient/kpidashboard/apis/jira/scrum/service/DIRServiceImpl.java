@@ -48,6 +48,7 @@ import com.publicissapient.kpidashboard.apis.filter.service.FilterHelperService;
 import com.publicissapient.kpidashboard.apis.jira.service.JiraKPIService;
 import com.publicissapient.kpidashboard.apis.model.KPIExcelData;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.Node;
 import com.publicissapient.kpidashboard.apis.model.TreeAggregatorDetail;
@@ -264,7 +265,7 @@ public class DIRServiceImpl extends JiraKPIService<Double, List<Object>, Map<Str
 					sprintWiseDIRMap.put(sprint, dirForCurrentLeaf);
 					setHowerMap(sprintWiseHowerMap, sprint, totalStoryIdList, sprintWiseDefectList);
 				});
-		List<KPIExcelData> excelData = new ArrayList<>();
+		List<KPIExcelData> excelData = KpiExecutionContext.newExcelRows();
 		FieldMapping fieldMapping =
 				configHelperService
 						.getFieldMappingMap()
@@ -283,7 +284,7 @@ public class DIRServiceImpl extends JiraKPIService<Double, List<Object>, Map<Str
 					if (sprintWiseDIRMap.containsKey(currentNodeIdentifier)) {
 						defectInjectionRateForCurrentLeaf = sprintWiseDIRMap.get(currentNodeIdentifier);
 						// if for populating excel data
-						if (requestTrackerId.toLowerCase().contains(KPISource.EXCEL.name().toLowerCase())) {
+						if (KpiExecutionContext.isCurrentExcelRequest(requestTrackerId)) {
 							List<String> totalStoryIdList = sprintWiseTotalStoryIdList.get(currentNodeIdentifier);
 							List<JiraIssue> defectList = sprintWiseDefectListMap.get(currentNodeIdentifier);
 							Set<JiraIssue> jiraIssues =
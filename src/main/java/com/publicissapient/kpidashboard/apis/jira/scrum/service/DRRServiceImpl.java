@@ -51,6 +51,7 @@ import com.publicissapient.kpidashboard.apis.filter.service.FilterHelperService;
 import com.publicissapient.kpidashboard.apis.jira.service.JiraKPIService;
 import com.publicissapient.kpidashboard.apis.model.KPIExcelData;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.Node;
 import com.publicissapient.kpidashboard.apis.model.TreeAggregatorDetail;
@@ -252,7 +253,7 @@ public class DRRServiceImpl extends JiraKPIService<Double, List<Object>, Map<Str
 				(List<SprintDetails>) resultListMap.get(SPRINT_WISE_SPRINT_DETAILS);
 
 		Map<Pair<String, String>, Double> sprintWiseDRRMap = new HashMap<>();
-		List<KPIExcelData> excelData = new ArrayList<>();
+		List<KPIExcelData> excelData = KpiExecutionContext.newExcelRows();
 		Map<Pair<String, String>, Map<String, Object>> sprintWiseHowerMap = new HashMap<>();
 		Map<Pair<String, String>, List<JiraIssue>> sprintWiseCompletedDefectListMap = new HashMap<>();
 		Map<Pair<String, String>, List<JiraIssue>> sprintWiseRejectedDefectListMap = new HashMap<>();
@@ -441,7 +442,7 @@ public class DRRServiceImpl extends JiraKPIService<Double, List<Object>, Map<Str
 			List<JiraIssue> sprintWiseCompAndRejectedList,
 			List<JiraIssue> storyList,
 			FieldMapping fieldMapping) {
-		if (requestTrackerId.toLowerCase().contains(KPISource.EXCEL.name().toLowerCase())) {
+		if (KpiExecutionContext.isCurrentExcelRequest(requestTrackerId)) {
 
 			Map<String, JiraIssue> totalDefectList = new HashMap<>();
 			sprintWiseCompAndRejectedList.forEach(
@@ -51,6 +51,7 @@ import com.publicissapient.kpidashboard.apis.jira.service.JiraKPIService;
 import com.publicissapient.kpidashboard.apis.model.DSRValidationData;
 import com.publicissapient.kpidashboard.apis.model.KPIExcelData;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.Node;
 import com.publicissapient.kpidashboard.apis.model.TreeAggregatorDetail;
@@ -274,7 +275,7 @@ public class DSRServiceImpl extends JiraKPIService<Double, List<Object>, Map<Str
 										sws -> Pair.of(sws.getBasicProjectConfigId(), sws.getSprintID()),
 										Collectors.toList()));
 
-		List<KPIExcelData> excelData = new ArrayList<>();
+		List<KPIExcelData> excelData = KpiExecutionContext.newExcelRows();
 
 		sprintLeafNodeList.forEach(
 				node -> {
@@ -383,7 +384,7 @@ public class DSRServiceImpl extends JiraKPIService<Double, List<Object>, Map<Str
 			List<JiraIssue> totalStoryWoDrop,
 			FieldMapping fieldMapping) {
 
-		if (requestTrackerId.toLowerCase().contains(KPISource.EXCEL.name().toLowerCase())) {
+		if (KpiExecutionContext.isCurrentExcelRequest(requestTrackerId)) {
 			Map<String, JiraIssue> totalBugList = new HashMap<>();
 			sprintWiseSubCategoryWiseTotalBugListMap.forEach(
 					bugs -> totalBugList.putIfAbsent(bugs.getNumber(), bugs));
@@ -54,6 +54,7 @@ import com.publicissapient.kpidashboard.apis.jira.service.JiraKPIService;
 import com.publicissapient.kpidashboard.apis.model.DefectTransitionInfo;
 import com.publicissapient.kpidashboard.apis.model.KPIExcelData;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.Node;
 import com.publicissapient.kpidashboard.apis.model.TreeAggregatorDetail;
@@ -474,7 +475,7 @@ public class DefectReopenRateQualityServiceImpl
 		resultListMap.put(SPRINT_DETAILS, sprintDetails);
 		String requestTrackerId = getRequestTrackerId();
 		// fetch linked story data only for Excel request
-		if (requestTrackerId.toLowerCase().contains(KPISource.EXCEL.name().toLowerCase())) {
+		if (KpiExecutionContext.isCurrentExcelRequest(requestTrackerId)) {
 			resultListMap.put(
 					STORY_LIST,
 					jiraIssueRepository.findIssueAndDescByNumber(new ArrayList<>(linkedStoryIdsOfDefect)));
@@ -518,7 +519,7 @@ public class DefectReopenRateQualityServiceImpl
 			FieldMapping fieldMapping,
 			List<JiraIssue> storyList) {
 
-		if (requestTrackerId.toLowerCase().contains(KPISource.EXCEL.name().toLowerCase())) {
+		if (KpiExecutionContext.isCurrentExcelRequest(requestTrackerId)) {
 			KPIExcelUtility.populateDefectWithReopenInfoExcelData(
 					sprintName, excelData, fieldMapping, storyList, reopenedDefectInfoMap);
 		}
@@ -37,6 +37,7 @@ import org.springframework.stereotype.Service;
 
 import com.publicissapient.kpidashboard.apis.appsetting.service.ConfigHelperService;
 import com.publicissapient.kpidashboard.apis.common.service.CacheService;
+import com.publicissapient.kpidashboard.apis.common.service.impl.KpiDataProvider;
 import com.publicissapient.kpidashboard.apis.common.service.impl.KpiHelperService;
 import com.publicissapient.kpidashboard.apis.config.CustomApiConfig;
 import com.publicissapient.kpidashboard.apis.constant.Constant;
@@ -50,6 +51,7 @@ import com.publicissapient.kpidashboard.apis.filter.service.FilterHelperService;
 import com.publicissapient.kpidashboard.apis.jira.service.JiraKPIService;
 import com.publicissapient.kpidashboard.apis.model.KPIExcelData;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.Node;
 import com.publicissapient.kpidashboard.apis.model.TreeAggregatorDetail;
@@ -109,6 +111,9 @@ public class DefectSeverityIndexImpl
 	/** Repository for accessing Jira issue data */
 	@Autowired private JiraIssueRepository jiraIssueRepository;
 
+	/** Provider of the issues shared by the KPIs of the request */
+	@Autowired private KpiDataProvider kpiDataProvider;
+
 	/** Service for caching data */
 	@Autowired private CacheService cacheService;
 
@@ -283,11 +288,11 @@ public class DefectSeverityIndexImpl
 		mapOfFilters.put(JiraFeature.DEFECT_STORY_ID.getFieldValueInFeature(), storyIdList);
 
 		List<JiraIssue> defectListWoDrop =
-				getDefectListWoDrop(jiraIssueRepository.findIssuesByType(mapOfFilters), droppedDefects);
+				getDefectListWoDrop(kpiDataProvider.fetchIssuesByType(mapOfFilters), droppedDefects);
 		setDbQueryLogger(storyIdList, defectListWoDrop);
 		resultListMap.put(SPRINT_WISE_STORY_DATA, sprintWiseStoryList);
 		resultListMap.put(TOTAL_DEFECT_DATA, defectListWoDrop);
-		resultListMap.put(STORY_LIST, jiraIssueRepository.findIssueAndDescByNumber(storyIdList));
+		resultListMap.put(STORY_LIST, kpiDataProvider.fetchIssueAndDescByNumber(storyIdList));
 		return resultListMap;
 	}
 
@@ -630,7 +635,7 @@ public class DefectSeverityIndexImpl
 		Map<Pair<String, String>, Integer> sprintWiseTDCMap = new HashMap<>();
 		Map<Pair<String, String>, List<JiraIssue>> sprintWiseDefectDataListMap = new HashMap<>();
 
-		List<KPIExcelData> excelData = new ArrayList<>();
+		List<KPIExcelData> excelData = KpiExecutionContext.newExcelRows();
 
 		// Process each sprint to calculate defect counts by severity check here
 		Set<String> projectWiseSeverityList =
@@ -784,7 +789,7 @@ public class DefectSeverityIndexImpl
 			FieldMapping fieldMapping,
 			List<JiraIssue> storyList) {
 
-		if (requestTrackerId.toLowerCase().contains(KPISource.EXCEL.name().toLowerCase())) {
+		if (KpiExecutionContext.isCurrentExcelRequest(requestTrackerId)) {
 			KPIExcelUtility.populateDefectSeverityRelatedExcelData(
 					sprintName, sprintWiseDefectDataList, excelData, fieldMapping, storyList);
 		}
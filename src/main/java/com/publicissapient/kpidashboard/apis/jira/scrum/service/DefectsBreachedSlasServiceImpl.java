@@ -52,6 +52,7 @@ import com.publicissapient.kpidashboard.apis.errors.ApplicationException;
 import com.publicissapient.kpidashboard.apis.jira.service.JiraKPIService;
 import com.publicissapient.kpidashboard.apis.model.KPIExcelData;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.Node;
 import com.publicissapient.kpidashboard.apis.model.TreeAggregatorDetail;
@@ -424,10 +425,7 @@ public class DefectsBreachedSlasServiceImpl
 								severityJiraIssuesDefectsBreachedSLAData.setBreachedIssues(
 										severityJiraIssuesDefectsBreachedSLAData.getBreachedIssues() + 1);
 							}
-							if (kpiRequest
-									.getRequestTrackerId()
-									.toLowerCase()
-									.contains(KPISource.EXCEL.name().toLowerCase())) {
+							if (KpiExecutionContext.isCurrentExcelRequest(kpiRequest.getRequestTrackerId())) {
 								String breachedSlaFlagString = defectBreachedSLA ? "Y" : "N";
 								populateKPIExcelDataByJiraDefectIssueAndBreachedSlaFlag(
 										kpiExcelDataList,
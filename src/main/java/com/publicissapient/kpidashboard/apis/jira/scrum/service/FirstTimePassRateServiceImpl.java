@@ -50,6 +50,7 @@ import com.publicissapient.kpidashboard.apis.filter.service.FilterHelperService;
 import com.publicissapient.kpidashboard.apis.jira.service.JiraKPIService;
 import com.publicissapient.kpidashboard.apis.model.KPIExcelData;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.Node;
 import com.publicissapient.kpidashboard.apis.model.TreeAggregatorDetail;
@@ -184,7 +185,7 @@ public class FirstTimePassRateServiceImpl
 		Map<Pair<String, String>, List<JiraIssue>> sprintWiseFTPListMap = new HashMap<>();
 
 		Map<Pair<String, String>, Map<String, Object>> sprintWiseHowerMap = new HashMap<>();
-		List<KPIExcelData> excelData = new ArrayList<>();
+		List<KPIExcelData> excelData = KpiExecutionContext.newExcelRows();
 		sprintWiseMap.forEach(
 				(sprint, sprintWiseStories) -> {
 					List<Double> addFilterFtprList = new ArrayList<>();
@@ -231,7 +232,7 @@ public class FirstTimePassRateServiceImpl
 					if (sprintWiseFTPRMap.containsKey(currentNodeIdentifier)) {
 						ftprForCurrentLeaf = sprintWiseFTPRMap.get(currentNodeIdentifier);
 						// if for populating excel data
-						if (requestTrackerId.toLowerCase().contains(KPISource.EXCEL.name().toLowerCase())) {
+						if (KpiExecutionContext.isCurrentExcelRequest(requestTrackerId)) {
 							List<String> totalStoryIdList = sprintWiseTotalStoryIdList.get(currentNodeIdentifier);
 							List<JiraIssue> ftpStoriesList = sprintWiseFTPListMap.get(currentNodeIdentifier);
 							Set<JiraIssue> jiraIssues =
@@ -44,6 +44,7 @@ import com.publicissapient.kpidashboard.apis.jira.service.backlogdashboard.JiraB
 import com.publicissapient.kpidashboard.apis.model.CustomDateRange;
 import com.publicissapient.kpidashboard.apis.model.KPIExcelData;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.Node;
 import com.publicissapient.kpidashboard.apis.util.KPIExcelUtility;
@@ -241,7 +242,7 @@ public class FlowDistributionServiceImpl extends JiraBacklogKPIService<Double, L
 			String requestTrackerId,
 			List<KPIExcelData> excelData,
 			Map<String, Map<String, List<String>>> dateTypeIdsMap) {
-		if (requestTrackerId.toLowerCase().contains(KPISource.EXCEL.name().toLowerCase())
+		if (KpiExecutionContext.isCurrentExcelRequest(requestTrackerId)
 				&& !Objects.isNull(dateTypeIdsMap)) {
 			KPIExcelUtility.populateFlowKPIWithIds(dateTypeIdsMap, excelData);
 		}
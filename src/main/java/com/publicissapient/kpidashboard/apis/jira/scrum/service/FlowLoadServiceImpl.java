@@ -45,6 +45,7 @@ import com.publicissapient.kpidashboard.apis.errors.ApplicationException;
 import com.publicissapient.kpidashboard.apis.jira.service.backlogdashboard.JiraBacklogKPIService;
 import com.publicissapient.kpidashboard.apis.model.KPIExcelData;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.Node;
 import com.publicissapient.kpidashboard.apis.util.KPIExcelUtility;
@@ -335,7 +336,7 @@ public class FlowLoadServiceImpl extends JiraBacklogKPIService<Double, List<Obje
 			String requestTrackerId,
 			List<KPIExcelData> excelData,
 			Map<String, Map<String, Integer>> dateWithStatusCount) {
-		if (requestTrackerId.toLowerCase().contains(KPISource.EXCEL.name().toLowerCase())
+		if (KpiExecutionContext.isCurrentExcelRequest(requestTrackerId)
 				&& !Objects.isNull(dateWithStatusCount)) {
 			KPIExcelUtility.populateFlowKPI(dateWithStatusCount, excelData);
 		}
@@ -41,6 +41,7 @@ import com.publicissapient.kpidashboard.apis.filter.service.FilterHelperService;
 import com.publicissapient.kpidashboard.apis.jira.service.JiraKPIService;
 import com.publicissapient.kpidashboard.apis.model.KPIExcelData;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.Node;
 import com.publicissapient.kpidashboard.apis.model.TreeAggregatorDetail;
@@ -329,7 +330,7 @@ public class IssueCountServiceImpl
 					});
 		}
 
-		List<KPIExcelData> excelData = new ArrayList<>();
+		List<KPIExcelData> excelData = KpiExecutionContext.newExcelRows();
 
 		for (Node node : sprintLeafNodeList) {
 			// Leaf node wise data
@@ -420,7 +421,7 @@ public class IssueCountServiceImpl
 			Node node,
 			List<String> totalPresentJiraIssue,
 			FieldMapping fieldMapping) {
-		if (requestTrackerId.toLowerCase().contains(KPISource.EXCEL.name().toLowerCase())) {
+		if (KpiExecutionContext.isCurrentExcelRequest(requestTrackerId)) {
 			String sprintName = node.getSprintFilter().getName();
 			KPIExcelUtility.populateSpeedKPIExcelData(
 					sprintName, excelData, allJiraIssuesList, totalPresentJiraIssue, fieldMapping);
@@ -183,8 +183,9 @@ public class IterationBurnupServiceImpl extends JiraIterationKPIService {
 					allIssuesHistory.forEach(
 							issueHistory -> {
 								if (CollectionUtils.isNotEmpty(issueHistory.getSprintUpdationLog())) {
+									// the histories are shared by the iteration KPIs of the request, sorted copy
 									List<JiraHistoryChangeLog> sprintUpdationLog =
-											issueHistory.getSprintUpdationLog();
+											new ArrayList<>(issueHistory.getSprintUpdationLog());
 									Collections.sort(
 											sprintUpdationLog, Comparator.comparing(JiraHistoryChangeLog::getUpdatedOn));
 									createAddedandRemovedIssueDateWiseMap(
@@ -359,6 +360,7 @@ public class IterationBurnupServiceImpl extends JiraIterationKPIService {
 			List<JiraIssue> jiraIssueList =
 					new ArrayList<>(getRespectiveJiraIssue(totalIssueList, issueHistory));
 			LocalDateTime finalUpdatedLog = updatedLog;
+			// copies of the sprint issues made for this KPI, the shared issues are not modified
 			jiraIssueList.forEach(
 					issue ->
 							issue.setUpdateDate(
@@ -175,8 +175,12 @@ public class LateRefinementServiceImpl extends JiraIterationKPIService {
 						issueHistory -> {
 							historyMap.put(issueHistory.getStoryID(), issueHistory);
 							if (CollectionUtils.isNotEmpty(issueHistory.getSprintUpdationLog())) {
-								List<JiraHistoryChangeLog> sprintUpdationLog = issueHistory.getSprintUpdationLog();
-								List<JiraHistoryChangeLog> statusUpdationLog = issueHistory.getStatusUpdationLog();
+								// the histories are shared by the iteration KPIs of the request, sorted copies
+								List<JiraHistoryChangeLog> sprintUpdationLog =
+										new ArrayList<>(issueHistory.getSprintUpdationLog());
+								List<JiraHistoryChangeLog> statusUpdationLog =
+										new ArrayList<>(
+												CollectionUtils.emptyIfNull(issueHistory.getStatusUpdationLog()));
 								Collections.sort(sprintUpdationLog, Comparator.comparing(getGetUpdatedOn()));
 								Collections.sort(
 										statusUpdationLog, Comparator.comparing(JiraHistoryChangeLog::getUpdatedOn));
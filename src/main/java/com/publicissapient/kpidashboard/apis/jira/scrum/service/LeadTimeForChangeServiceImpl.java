@@ -63,6 +63,7 @@ import com.publicissapient.kpidashboard.apis.model.AccountHierarchyData;
 import com.publicissapient.kpidashboard.apis.model.CustomDateRange;
 import com.publicissapient.kpidashboard.apis.model.KPIExcelData;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.LeadTimeChangeData;
 import com.publicissapient.kpidashboard.apis.model.Node;
@@ -603,7 +604,7 @@ public class LeadTimeForChangeServiceImpl
 			String trendLineName,
 			String leadTimeConfigRepoTool,
 			Map<String, List<LeadTimeChangeData>> leadTimeMapTimeWise) {
-		if (requestTrackerId.toLowerCase().contains(KPISource.EXCEL.name().toLowerCase())) {
+		if (KpiExecutionContext.isCurrentExcelRequest(requestTrackerId)) {
 			KPIExcelUtility.populateLeadTimeForChangeExcelData(
 					trendLineName, leadTimeMapTimeWise, excelData, leadTimeConfigRepoTool);
 		}
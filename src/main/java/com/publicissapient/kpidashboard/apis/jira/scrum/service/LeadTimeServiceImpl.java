@@ -51,6 +51,7 @@ import com.publicissapient.kpidashboard.apis.errors.ApplicationException;
 import com.publicissapient.kpidashboard.apis.jira.service.JiraKPIService;
 import com.publicissapient.kpidashboard.apis.model.KPIExcelData;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.Node;
 import com.publicissapient.kpidashboard.apis.model.TreeAggregatorDetail;
@@ -141,7 +142,7 @@ public class LeadTimeServiceImpl extends JiraKPIService<Double, List<Object>, Ma
 			List<Node> leafNodeList,
 			KpiRequest kpiRequest) {
 
-		List<KPIExcelData> excelData = new ArrayList<>();
+		List<KPIExcelData> excelData = KpiExecutionContext.newExcelRows();
 		Set<String> issueTypesSet = new LinkedHashSet<>();
 		List<String> rangeList = customApiConfig.getLeadTimeRange();
 		List<CycleTimeValidationData> cycleTimeList = new ArrayList<>();
@@ -409,7 +410,7 @@ public class LeadTimeServiceImpl extends JiraKPIService<Double, List<Object>, Ma
 			String requestTrackerId,
 			List<CycleTimeValidationData> leadTimeList,
 			List<KPIExcelData> excelData) {
-		if (requestTrackerId.toLowerCase().contains(KPISource.EXCEL.name().toLowerCase())) {
+		if (KpiExecutionContext.isCurrentExcelRequest(requestTrackerId)) {
 			KPIExcelUtility.populateLeadTime(leadTimeList, excelData);
 		}
 	}
@@ -49,6 +49,7 @@ import com.publicissapient.kpidashboard.apis.errors.ApplicationException;
 import com.publicissapient.kpidashboard.apis.jira.service.JiraKPIService;
 import com.publicissapient.kpidashboard.apis.model.KPIExcelData;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.MeanTimeRecoverData;
 import com.publicissapient.kpidashboard.apis.model.Node;
@@ -277,7 +278,7 @@ public class MeanTimeToRecoverServiceImpl
 			String requestTrackerId,
 			String trendLineName,
 			Map<String, List<MeanTimeRecoverData>> meanTimeRecoverMapTimeWise) {
-		if (requestTrackerId.toLowerCase().contains(KPISource.EXCEL.name().toLowerCase())) {
+		if (KpiExecutionContext.isCurrentExcelRequest(requestTrackerId)) {
 			KPIExcelUtility.populateMeanTimeToRecoverExcelData(
 					trendLineName, meanTimeRecoverMapTimeWise, excelData);
 		}
@@ -36,6 +36,7 @@ import com.publicissapient.kpidashboard.apis.jira.service.backlogdashboard.JiraB
 import com.publicissapient.kpidashboard.apis.model.CustomDateRange;
 import com.publicissapient.kpidashboard.apis.model.KPIExcelData;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.Node;
 import com.publicissapient.kpidashboard.apis.util.CommonUtils;
@@ -241,7 +242,7 @@ public class ProductionDefectAgingServiceImpl extends JiraBacklogKPIService<Long
 
 				// Populates data in Excel for validation for tickets created
 				// before
-				if (requestTrackerId.toLowerCase().contains(KPISource.EXCEL.name().toLowerCase())) {
+				if (KpiExecutionContext.isCurrentExcelRequest(requestTrackerId)) {
 					KPIExcelUtility.populateProductionDefectAgingExcelData(
 							projectName, projectWiseJiraIssueList, excelData);
 				}
@@ -52,6 +52,7 @@ import com.publicissapient.kpidashboard.apis.filter.service.FilterHelperService;
 import com.publicissapient.kpidashboard.apis.jira.service.JiraKPIService;
 import com.publicissapient.kpidashboard.apis.model.KPIExcelData;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.Node;
 import com.publicissapient.kpidashboard.apis.model.TreeAggregatorDetail;
@@ -192,7 +193,7 @@ public class QADDServiceImpl extends JiraKPIService<Double, List<Object>, Map<St
 										Collectors.toList()));
 
 		Map<Pair<String, String>, Double> sprintWiseQADDMap = new HashMap<>();
-		List<KPIExcelData> excelData = new ArrayList<>();
+		List<KPIExcelData> excelData = KpiExecutionContext.newExcelRows();
 		Map<Pair<String, String>, Map<String, Object>> sprintWiseHowerMap = new HashMap<>();
 
 		Map<Pair<String, String>, List<String>> sprintWiseStoryMAP = new HashMap<>();
@@ -223,7 +224,7 @@ public class QADDServiceImpl extends JiraKPIService<Double, List<Object>, Map<St
 
 					if (sprintWiseQADDMap.containsKey(currentNodeIdentifier)) {
 						qaddForCurrentLeaf = sprintWiseQADDMap.get(currentNodeIdentifier);
-						if (requestTrackerId.toLowerCase().contains(KPISource.EXCEL.name().toLowerCase())) {
+						if (KpiExecutionContext.isCurrentExcelRequest(requestTrackerId)) {
 							List<String> totalStoryIdList = sprintWiseStoryMAP.get(currentNodeIdentifier);
 							Set<JiraIssue> sprintWiseDefectList =
 									sprintWiseDefectListMap.get(currentNodeIdentifier);
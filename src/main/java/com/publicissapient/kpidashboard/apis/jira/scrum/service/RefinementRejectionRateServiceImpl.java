@@ -48,6 +48,7 @@ import com.publicissapient.kpidashboard.apis.jira.service.backlogdashboard.JiraB
 import com.publicissapient.kpidashboard.apis.model.CustomDateRange;
 import com.publicissapient.kpidashboard.apis.model.KPIExcelData;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.Node;
 import com.publicissapient.kpidashboard.apis.util.KPIExcelUtility;
@@ -228,7 +229,10 @@ public class RefinementRejectionRateServiceImpl
 					.ifPresent(
 							manager ->
 									manager.addForecastsToDataCount(
-											trendData, dataList, KPICode.REFINEMENT_REJECTION_RATE.getKpiId()));
+											trendData,
+											dataList,
+											KPICode.REFINEMENT_REJECTION_RATE.getKpiId(),
+											node.getProjectFilter().getBasicProjectConfigId().toHexString()));
 			trendValueList.add(trendData);
 		}
 		weekAndTypeMap.keySet().stream()
@@ -236,7 +240,7 @@ public class RefinementRejectionRateServiceImpl
 						f ->
 								weekAndTypeMap.get(f).keySet().stream()
 										.forEach(issue -> issuesExcel.addAll(weekAndTypeMap.get(f).get(issue))));
-		if (requestTrackerId.toLowerCase().contains(KPISource.EXCEL.name().toLowerCase()))
+		if (KpiExecutionContext.isCurrentExcelRequest(requestTrackerId))
 			KPIExcelUtility.populateRefinementRejectionExcelData(
 					excelData, issuesExcel, weekAndTypeMap, jiraDateMap);
 		mapTmp.get(node.getId()).setValue(trendValueList);
@@ -49,6 +49,7 @@ import com.publicissapient.kpidashboard.apis.filter.service.FilterHelperService;
 import com.publicissapient.kpidashboard.apis.jira.service.JiraKPIService;
 import com.publicissapient.kpidashboard.apis.model.KPIExcelData;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.Node;
 import com.publicissapient.kpidashboard.apis.model.TreeAggregatorDetail;
@@ -196,7 +197,7 @@ public class ScopeChurnServiceImpl
 		Map<Pair<String, String>, List<JiraIssue>> sprintWiseRemovedListMap = new HashMap<>();
 		Map<Pair<String, String>, List<JiraIssue>> sprintWiseInitialCommitListMap = new HashMap<>();
 		Map<Pair<String, String>, String> sprintNameMap = new HashMap<>();
-		List<KPIExcelData> excelData = new ArrayList<>();
+		List<KPIExcelData> excelData = KpiExecutionContext.newExcelRows();
 		if (CollectionUtils.isNotEmpty(sprintDetails)) {
 
 			sprintDetails.forEach(
@@ -371,7 +372,7 @@ public class ScopeChurnServiceImpl
 									.filter(sprint -> sprintList.contains(sprint.getSprintID()))
 									.collect(Collectors.toSet()));
 					totalJiraIssue.addAll(allJiraIssue);
-					if (requestTrackerId.toLowerCase().contains(KPISource.EXCEL.name().toLowerCase())) {
+					if (KpiExecutionContext.isCurrentExcelRequest(requestTrackerId)) {
 						scopeChangeIssueHistories.addAll(issueHistories);
 					}
 				});
@@ -499,7 +500,7 @@ public class ScopeChurnServiceImpl
 			String curSprintName) {
 		String requestTrackerId = getRequestTrackerId();
 
-		if (requestTrackerId.toLowerCase().contains(KPISource.EXCEL.name().toLowerCase())) {
+		if (KpiExecutionContext.isCurrentExcelRequest(requestTrackerId)) {
 			Map<String, String> addedIssueDateMap =
 					KpiDataHelper.processSprintIssues(
 							sprintWiseAddedList, curSprintName, issueWiseHistoryMap, CommonConstant.ADDED);
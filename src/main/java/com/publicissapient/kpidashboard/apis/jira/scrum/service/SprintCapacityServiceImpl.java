@@ -40,6 +40,7 @@ import com.publicissapient.kpidashboard.apis.filter.service.FilterHelperService;
 import com.publicissapient.kpidashboard.apis.jira.service.JiraKPIService;
 import com.publicissapient.kpidashboard.apis.model.KPIExcelData;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.LoggedTimePerIssue;
 import com.publicissapient.kpidashboard.apis.model.Node;
@@ -434,7 +435,7 @@ public class SprintCapacityServiceImpl
 			Node node,
 			List<LoggedTimePerIssue> loggedTimePerIssueList) {
 
-		if (requestTrackerId.toLowerCase().contains(KPISource.EXCEL.name().toLowerCase())) {
+		if (KpiExecutionContext.isCurrentExcelRequest(requestTrackerId)) {
 
 			String sprintName = node.getSprintFilter().getName();
 			String sprintId = node.getSprintFilter().getId();
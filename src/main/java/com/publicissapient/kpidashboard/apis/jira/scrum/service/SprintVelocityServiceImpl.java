@@ -53,6 +53,7 @@ import com.publicissapient.kpidashboard.apis.jira.service.JiraKPIService;
 import com.publicissapient.kpidashboard.apis.jira.service.SprintVelocityServiceHelper;
 import com.publicissapient.kpidashboard.apis.model.KPIExcelData;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.Node;
 import com.publicissapient.kpidashboard.apis.model.TreeAggregatorDetail;
@@ -265,7 +266,7 @@ public class SprintVelocityServiceImpl
 		Map<Pair<String, String>, Double> sprintVelocity =
 				getSprintVelocityMap(currentSprintLeafVelocityMap, sprintDetails);
 
-		List<KPIExcelData> excelData = new ArrayList<>();
+		List<KPIExcelData> excelData = KpiExecutionContext.newExcelRows();
 		Map<String, Integer> avgVelocityCount = new HashMap<>();
 		sprintLeafNodeList.forEach(
 				node -> {
@@ -398,7 +399,7 @@ public class SprintVelocityServiceImpl
 			Map<Pair<String, String>, Set<JiraIssue>> currentSprintLeafVelocityMap,
 			Node node,
 			FieldMapping fieldMapping) {
-		if (requestTrackerId.toLowerCase().contains(KPISource.EXCEL.name().toLowerCase())) {
+		if (KpiExecutionContext.isCurrentExcelRequest(requestTrackerId)) {
 			Pair<String, String> currentNodeIdentifier =
 					Pair.of(
 							node.getProjectFilter().getBasicProjectConfigId().toString(),
@@ -53,6 +53,7 @@ import com.publicissapient.kpidashboard.apis.model.IterationKpiModalValue;
 import com.publicissapient.kpidashboard.apis.model.IterationKpiValue;
 import com.publicissapient.kpidashboard.apis.model.KPIExcelData;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.Node;
 import com.publicissapient.kpidashboard.apis.util.CommonUtils;
@@ -369,7 +370,7 @@ public class UnlinkedWorkItemsServiceImpl extends JiraBacklogKPIService<Integer,
 		kpiElement.setExcelColumns(KPIExcelColumn.TEST_WITHOUT_STORY_LINK.getColumns());
 
 		if (CollectionUtils.isNotEmpty(defectWithoutStory)
-				&& requestTrackerId.toLowerCase().contains(KPISource.EXCEL.name().toLowerCase())) {
+				&& KpiExecutionContext.isCurrentExcelRequest(requestTrackerId)) {
 			KPIExcelUtility.populateDefectWithoutIssueLinkExcelData(
 					defectWithoutStory,
 					excelDataDefectsWithoutStoryLink,
@@ -428,7 +429,7 @@ public class UnlinkedWorkItemsServiceImpl extends JiraBacklogKPIService<Integer,
 			List<TestCaseDetails> testWithoutStory,
 			String projectName,
 			List<KPIExcelData> excelData) {
-		if (requestTrackerId.toLowerCase().contains(KPISource.EXCEL.name().toLowerCase())) {
+		if (KpiExecutionContext.isCurrentExcelRequest(requestTrackerId)) {
 			Map<String, TestCaseDetails> totalTestMap = new HashMap<>();
 			totalTests.stream()
 					.forEach(
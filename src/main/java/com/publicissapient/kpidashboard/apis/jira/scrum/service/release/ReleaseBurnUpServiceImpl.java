@@ -24,12 +24,17 @@ import java.time.temporal.ChronoUnit;
 import java.time.temporal.TemporalAdjusters;
 import java.util.AbstractMap;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -55,6 +60,7 @@ import com.publicissapient.kpidashboard.apis.model.CustomDateRange;
 import com.publicissapient.kpidashboard.apis.model.IterationKpiValue;
 import com.publicissapient.kpidashboard.apis.model.KPIExcelData;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.Node;
 import com.publicissapient.kpidashboard.apis.util.CommonUtils;
@@ -67,7 +73,6 @@ import com.publicissapient.kpidashboard.common.model.application.FieldMapping;
 import com.publicissapient.kpidashboard.common.model.jira.JiraHistoryChangeLog;
 import com.publicissapient.kpidashboard.common.model.jira.JiraIssue;
 import com.publicissapient.kpidashboard.common.model.jira.JiraIssueCustomHistory;
-import com.publicissapient.kpidashboard.common.model.jira.JiraIssueReleaseStatus;
 import com.publicissapient.kpidashboard.common.repository.jira.JiraIssueRepository;
 import com.publicissapient.kpidashboard.common.util.DateUtil;
 
@@ -120,9 +125,6 @@ public class ReleaseBurnUpServiceImpl extends JiraReleaseKPIService {
 
 	@Autowired private CommonServiceImpl commonService;
 
-	private LocalDateTime tempStartDate = null;
-	private final List<JiraIssue> allReleaseTaggedIssue = new ArrayList<>();
-
 	/** {@inheritDoc} */
 	@Override
 	public KpiElement getKpiData(KpiRequest kpiRequest, KpiElement kpiElement, Node releaseNode)
@@ -200,14 +202,33 @@ public class ReleaseBurnUpServiceImpl extends JiraReleaseKPIService {
 			Map<LocalDate, List<JiraIssueReferTime>> devCompletedReleaseMap,
 			String basicProjConfigId) {
 
+		if (CollectionUtils.isEmpty(allIssuesHistory)) {
+			return;
+		}
 		releaseName = releaseName != null ? releaseName : "";
 		String finalReleaseName = releaseName.toLowerCase();
+		// done statuses and issues of the release are looked up once for all the histories
+		Map<String, List<JiraIssue>> issuesByNumber = groupByNumber(releaseIssue);
+		FieldMapping fieldMapping =
+				configHelperService.getFieldMappingMap().get(new ObjectId(basicProjConfigId));
+		List<String> jiraReleaseDoneStatus =
+				getJiraIssueReleaseStatus().getClosedList().values().stream()
+						.map(String::toLowerCase)
+						.collect(Collectors.toList());
+		List<String> devDoneStatus =
+				Optional.ofNullable(fieldMapping.getJiraDevDoneStatusKPI150())
+						.orElse(new ArrayList<>())
+						.stream()
+						.map(String::toLowerCase)
+						.collect(Collectors.toList());
 		allIssuesHistory.forEach(
 				issueHistory -> {
-					List<JiraHistoryChangeLog> fixVersionUpdateLog = issueHistory.getFixVersionUpdationLog();
+					// the history is shared by the KPIs of the request, so a copy is sorted
+					List<JiraHistoryChangeLog> fixVersionUpdateLog =
+							new ArrayList<>(issueHistory.getFixVersionUpdationLog());
 					fixVersionUpdateLog.sort(Comparator.comparing(JiraHistoryChangeLog::getUpdatedOn));
 					int lastIndex = fixVersionUpdateLog.size() - 1;
-					List<JiraIssue> jiraIssueList = getRespectiveJiraIssue(releaseIssue, issueHistory);
+					List<JiraIssue> jiraIssueList = getRespectiveJiraIssue(issuesByNumber, issueHistory);
 					fixVersionUpdateLog.stream()
 							.filter(
 									updateLogs ->
@@ -267,8 +288,10 @@ public class ReleaseBurnUpServiceImpl extends JiraReleaseKPIService {
 							issueHistory,
 							completedReleaseMap,
 							devCompletedReleaseMap,
-							releaseIssue,
-							basicProjConfigId);
+							jiraIssueList,
+							jiraReleaseDoneStatus,
+							devDoneStatus,
+							fieldMapping);
 				});
 	}
 
@@ -284,29 +307,20 @@ public class ReleaseBurnUpServiceImpl extends JiraReleaseKPIService {
 	 *
 	 * @param issueHistory Issue History
 	 * @param completedIssues Map<LocalDate, List<JiraIssue>>
-	 * @param totalIssueList List<JiraIssue>
+	 * @param respectiveIssues List<JiraIssue> of the history
+	 * @param jiraReleaseDoneStatus lower case qa done statuses
+	 * @param devDoneStatus lower case dev done statuses
+	 * @param fieldMapping fieldMapping
 	 */
 	private void createCompletedIssuesDateWiseMap(
 			JiraIssueCustomHistory issueHistory,
 			Map<LocalDate, List<JiraIssueReferTime>> completedIssues,
 			Map<LocalDate, List<JiraIssueReferTime>> devCompletedReleaseMap,
-			List<JiraIssue> totalIssueList,
-			String basicProjConfigId) {
-		FieldMapping fieldMapping =
-				configHelperService.getFieldMappingMap().get(new ObjectId(basicProjConfigId));
+			List<JiraIssue> respectiveIssues,
+			List<String> jiraReleaseDoneStatus,
+			List<String> devDoneStatus,
+			FieldMapping fieldMapping) {
 		List<JiraHistoryChangeLog> statusUpdateLog = issueHistory.getStatusUpdationLog();
-		JiraIssueReleaseStatus jiraIssueReleaseStatus = getJiraIssueReleaseStatus();
-
-		List<String> jiraReleaseDoneStatus =
-				jiraIssueReleaseStatus.getClosedList().values().stream()
-						.map(String::toLowerCase)
-						.collect(Collectors.toList());
-		List<String> devDoneStatus =
-				Optional.ofNullable(fieldMapping.getJiraDevDoneStatusKPI150())
-						.orElse(new ArrayList<>())
-						.stream()
-						.map(String::toLowerCase)
-						.collect(Collectors.toList());
 
 		List<JiraHistoryChangeLog> qaCompletionStatusLog =
 				statusUpdateLog.stream()
@@ -327,8 +341,7 @@ public class ReleaseBurnUpServiceImpl extends JiraReleaseKPIService {
 			final LocalDateTime updatedLog =
 					getDoneDateBasedOnStatus(qaCompletionStatusLog, jiraReleaseDoneStatus, fieldMapping);
 			if (updatedLog != null) {
-				List<JiraIssue> jiraIssueList =
-						new ArrayList<>(getRespectiveJiraIssue(totalIssueList, issueHistory));
+				List<JiraIssue> jiraIssueList = new ArrayList<>(respectiveIssues);
 				List<JiraIssueReferTime> jiraIssueReferTime =
 						createJiraIssueReferTime(updatedLog, jiraIssueList);
 				completedIssues.computeIfPresent(
@@ -347,8 +360,7 @@ public class ReleaseBurnUpServiceImpl extends JiraReleaseKPIService {
 			final LocalDateTime updatedLog =
 					getDoneDateBasedOnStatus(devCompletionStatusLog, devDoneStatus, fieldMapping);
 			if (updatedLog != null) {
-				List<JiraIssue> jiraIssueList =
-						new ArrayList<>(getRespectiveJiraIssue(totalIssueList, issueHistory));
+				List<JiraIssue> jiraIssueList = new ArrayList<>(respectiveIssues);
 				List<JiraIssueReferTime> jiraIssueReferTime =
 						createJiraIssueReferTime(updatedLog, jiraIssueList);
 				devCompletedReleaseMap.computeIfPresent(
@@ -490,9 +502,6 @@ public class ReleaseBurnUpServiceImpl extends JiraReleaseKPIService {
 							? originalDevCompletedIssueMap
 							: originalCompletedIssueMap;
 
-			tempStartDate = startLocalDate;
-			allReleaseTaggedIssue.clear();
-
 			List<JiraIssue> overallIssues = new ArrayList<>();
 			List<JiraIssue> overallCompletedIssues = new ArrayList<>();
 			List<DataCountGroup> issueCountDataGroup = new ArrayList<>();
@@ -515,9 +524,17 @@ public class ReleaseBurnUpServiceImpl extends JiraReleaseKPIService {
 					convertReferMapToJiraIssue(fullReleaseIssueReferMap);
 			Map<LocalDate, List<JiraIssue>> originalIssueDoneMap =
 					convertReferMapToJiraIssue(originalIssueDoneReferMap);
+			List<JiraIssue> allReleaseTaggedIssue = new ArrayList<>();
 			fullReleaseIssueMap.forEach((k, v) -> allReleaseTaggedIssue.addAll(v));
 			Map<LocalDate, List<JiraIssue>> startDateAdjustedDoneMap =
 					convertReferMapToJiraIssue(startDateAdjustedDoneReferMap);
+			BurnUpTimeline timeline =
+					new BurnUpTimeline(
+							startLocalDate.toLocalDate(),
+							addedIssuesMap,
+							removeIssueMap,
+							fullReleaseIssueMap,
+							startDateAdjustedDoneMap);
 
 			// if no issue is closed & status is "Released" in a release prediction will not
 			// be shown
@@ -531,13 +548,7 @@ public class ReleaseBurnUpServiceImpl extends JiraReleaseKPIService {
 							KpiDataHelper.getStartAndEndDateTimeForDataFiltering(startLocalDate, duration);
 					Map<String, List<JiraIssue>> filterWiseGroupedMap =
 							createFilterWiseGroupedMap(
-									dateRange,
-									addedIssuesMap,
-									removeIssueMap,
-									fullReleaseIssueMap,
-									overallIssues,
-									startDateAdjustedDoneMap,
-									overallCompletedIssues);
+									dateRange, timeline, overallIssues, overallCompletedIssues);
 					overallCompletedIssues =
 							filterWiseGroupedMap.getOrDefault(OVERALL_COMPLETED, new ArrayList<>());
 					overallIssues = filterWiseGroupedMap.getOrDefault(OVERALL_ISSUE, new ArrayList<>());
@@ -564,6 +575,7 @@ public class ReleaseBurnUpServiceImpl extends JiraReleaseKPIService {
 									fieldMapping,
 									startLocalDate.toLocalDate(),
 									originalIssueDoneMap,
+									allReleaseTaggedIssue,
 									releaseSpecification);
 				}
 
@@ -578,13 +590,7 @@ public class ReleaseBurnUpServiceImpl extends JiraReleaseKPIService {
 				List<JiraIssue> overallCompletedIssue = new ArrayList<>();
 				Map<String, List<JiraIssue>> filterWiseGroupedMapTillNow =
 						createFilterWiseGroupedMap(
-								dateRangeTillToday,
-								addedIssuesMap,
-								removeIssueMap,
-								fullReleaseIssueMap,
-								allReleaseTaggedIssue,
-								startDateAdjustedDoneMap,
-								overallCompletedIssue);
+								dateRangeTillToday, timeline, allReleaseTaggedIssue, overallCompletedIssue);
 				List<JiraIssue> releaseScopeToReach =
 						filterWiseGroupedMapTillNow.getOrDefault(RELEASE_SCOPE, new ArrayList<>());
 				List<JiraIssue> releaseProgressTillNow =
@@ -622,13 +628,7 @@ public class ReleaseBurnUpServiceImpl extends JiraReleaseKPIService {
 							KpiDataHelper.getStartAndEndDateTimeForDataFiltering(startLocalDate, duration);
 					Map<String, List<JiraIssue>> filterWiseGroupedMap =
 							createFilterWiseGroupedMap(
-									dateRange,
-									addedIssuesMap,
-									removeIssueMap,
-									fullReleaseIssueMap,
-									overallIssues,
-									startDateAdjustedDoneMap,
-									overallCompletedIssues);
+									dateRange, timeline, overallIssues, overallCompletedIssues);
 					overallCompletedIssues =
 							filterWiseGroupedMap.getOrDefault(OVERALL_COMPLETED, new ArrayList<>());
 					overallIssues = filterWiseGroupedMap.getOrDefault(OVERALL_ISSUE, new ArrayList<>());
@@ -666,6 +666,7 @@ public class ReleaseBurnUpServiceImpl extends JiraReleaseKPIService {
 					originalFullReleaseMap,
 					originalCompletedIssueMap,
 					originalDevCompletedIssueMap,
+					allReleaseTaggedIssue,
 					fieldMapping);
 			createExcelDataAndTrendValueList(
 					kpiElement,
@@ -789,6 +790,7 @@ public class ReleaseBurnUpServiceImpl extends JiraReleaseKPIService {
 	 * @param fieldMapping fieldMapping
 	 * @param startLocalDate startDate
 	 * @param completedReleaseMap Map<LocalDate, List<JiraIssue>>
+	 * @param allReleaseTaggedIssue issues tagged to the release
 	 * @param releaseSpecification
 	 * @return Map of Avg Issue Count, Story Point
 	 */
@@ -796,6 +798,7 @@ public class ReleaseBurnUpServiceImpl extends JiraReleaseKPIService {
 			FieldMapping fieldMapping,
 			LocalDate startLocalDate,
 			Map<LocalDate, List<JiraIssue>> completedReleaseMap,
+			List<JiraIssue> allReleaseTaggedIssue,
 			ReleaseSpecification releaseSpecification) {
 		Map<String, Object> averageDataMap = new HashMap<>();
 		double avgIssueCount;
@@ -816,7 +819,7 @@ public class ReleaseBurnUpServiceImpl extends JiraReleaseKPIService {
 		}
 		// out of all completed, what all issues were completed & still tagged to
 		// release
-		completedIssuesTillTodayList.retainAll(allReleaseTaggedIssue);
+		completedIssuesTillTodayList.retainAll(new HashSet<>(allReleaseTaggedIssue));
 		// calculate the avg issue count and story point
 		if (countOfDaysTillToday != 0 && CollectionUtils.isNotEmpty(completedIssuesTillTodayList)) {
 			avgIssueCount = (double) completedIssuesTillTodayList.size() / countOfDaysTillToday;
@@ -1141,22 +1144,16 @@ public class ReleaseBurnUpServiceImpl extends JiraReleaseKPIService {
 	 * Method to get Release Scope,Progress in a DateRange
 	 *
 	 * @param dateRange CustomDateRange
-	 * @param addedIssuesMap Map<LocalDate, List<JiraIssue>>
-	 * @param removeIssueMap Map<LocalDate, List<JiraIssue>>
-	 * @param fullReleaseIssueMap Map<LocalDate, List<JiraIssue>>
+	 * @param timeline added, removed, tagged and completed issues of the release by day
 	 * @param overallIssues List<JiraIssue>
-	 * @param completedReleaseMap Map<LocalDate, List<JiraIssue>>
 	 * @param overallCompletedIssues List<JiraIssue>
 	 * @return Map<String, List < JiraIssue>>
 	 */
 	@SuppressWarnings("unchecked")
 	private Map<String, List<JiraIssue>> createFilterWiseGroupedMap(
 			CustomDateRange dateRange,
-			Map<LocalDate, List<JiraIssue>> addedIssuesMap,
-			Map<LocalDate, List<JiraIssue>> removeIssueMap,
-			Map<LocalDate, List<JiraIssue>> fullReleaseIssueMap,
+			BurnUpTimeline timeline,
 			List<JiraIssue> overallIssues,
-			Map<LocalDate, List<JiraIssue>> completedReleaseMap,
 			List<JiraIssue> overallCompletedIssues) {
 		Map<String, List<JiraIssue>> groupedMap = new HashMap<>();
 		List<JiraIssue> defaultIssues = new ArrayList<>();
@@ -1164,22 +1161,20 @@ public class ReleaseBurnUpServiceImpl extends JiraReleaseKPIService {
 		List<JiraIssue> removedIssues = new ArrayList<>();
 		List<JiraIssue> completedIssues = new ArrayList<>();
 
-		for (LocalDate currentDate = dateRange.getStartDate();
-				DateUtil.isWithinDateRange(currentDate, dateRange.getStartDate(), dateRange.getEndDate());
-				currentDate = currentDate.plusDays(1)) {
-			if (currentDate.isEqual(tempStartDate.toLocalDate())) {
-
-				defaultIssues.addAll(addedIssuesMap.getOrDefault(currentDate, new ArrayList<>()));
-				defaultIssues.removeAll(removeIssueMap.getOrDefault(currentDate, new ArrayList<>()));
-				defaultIssues.addAll(
-						fullReleaseIssueMap.getOrDefault(currentDate, new ArrayList<>())); // defaultMap
+		// only the days with changes are visited, in date order
+		for (Map.Entry<LocalDate, DayEvents> day :
+				timeline.between(dateRange.getStartDate(), dateRange.getEndDate()).entrySet()) {
+			DayEvents events = day.getValue();
+			if (day.getKey().isEqual(timeline.startDate())) {
+				defaultIssues.addAll(events.added());
+				defaultIssues.removeAll(events.removed());
+				defaultIssues.addAll(events.fullRelease()); // defaultMap
 			} else {
-				defaultIssues.addAll(
-						fullReleaseIssueMap.getOrDefault(currentDate, new ArrayList<>())); // defaultMap
-				allAddedIssues.addAll(addedIssuesMap.getOrDefault(currentDate, new ArrayList<>()));
-				removedIssues.addAll(removeIssueMap.getOrDefault(currentDate, new ArrayList<>()));
+				defaultIssues.addAll(events.fullRelease()); // defaultMap
+				allAddedIssues.addAll(events.added());
+				removedIssues.addAll(events.removed());
 			}
-			completedIssues.addAll(completedReleaseMap.getOrDefault(currentDate, new ArrayList<>()));
+			completedIssues.addAll(events.completed());
 		}
 
 		// if on same day issue is added to release and removed from release, then on
@@ -1255,6 +1250,7 @@ public class ReleaseBurnUpServiceImpl extends JiraReleaseKPIService {
 	 * @param issueReleaseTagMap issueReleaseTagMap
 	 * @param completedReleaseMap completedReleaseMap
 	 * @param devCompletedIssueMap devCompletedIssueMap
+	 * @param allReleaseTaggedIssue issues tagged to the release
 	 * @param fieldMapping fieldMapping
 	 */
 	private void populateExcelDataObject(
@@ -1264,10 +1260,11 @@ public class ReleaseBurnUpServiceImpl extends JiraReleaseKPIService {
 			Map<LocalDate, List<JiraIssueReferTime>> issueReleaseTagMap,
 			Map<LocalDate, List<JiraIssueReferTime>> completedReleaseMap,
 			Map<LocalDate, List<JiraIssueReferTime>> devCompletedIssueMap,
+			List<JiraIssue> allReleaseTaggedIssue,
 			FieldMapping fieldMapping) {
-		if (requestTrackerId.toLowerCase().contains(KPISource.EXCEL.name().toLowerCase())
+		if (KpiExecutionContext.isCurrentExcelRequest(requestTrackerId)
 				&& CollectionUtils.isNotEmpty(jiraIssueList)) {
-			jiraIssueList.retainAll(allReleaseTaggedIssue);
+			jiraIssueList.retainAll(new HashSet<>(allReleaseTaggedIssue));
 			final Map<String, LocalDateTime> issueWiseReleaseTagDateMap =
 					getJiraIssueWiseDateMap(issueReleaseTagMap);
 			final Map<String, LocalDateTime> issueWiseCompleteDateMap =
@@ -1309,15 +1306,34 @@ public class ReleaseBurnUpServiceImpl extends JiraReleaseKPIService {
 	/**
 	 * Get JiraIssue for respective CustomHistory
 	 *
-	 * @param totalIssueList List<JiraIssue>
+	 * @param issuesByNumber issues grouped by their number, ignoring case
 	 * @param issueHistory issueHistory
 	 * @return List<JiraIssue>
 	 */
 	private List<JiraIssue> getRespectiveJiraIssue(
-			List<JiraIssue> totalIssueList, JiraIssueCustomHistory issueHistory) {
-		return totalIssueList.stream()
-				.filter(jiraIssue -> jiraIssue.getNumber().equalsIgnoreCase(issueHistory.getStoryID()))
-				.collect(Collectors.toList());
+			Map<String, List<JiraIssue>> issuesByNumber, JiraIssueCustomHistory issueHistory) {
+		if (null == issueHistory.getStoryID()) {
+			return new ArrayList<>();
+		}
+		return issuesByNumber.getOrDefault(issueHistory.getStoryID(), new ArrayList<>());
+	}
+
+	/**
+	 * Group the issues by number, ignoring case as the histories refer to them
+	 *
+	 * @param totalIssueList List<JiraIssue>
+	 * @return issues by number
+	 */
+	private static Map<String, List<JiraIssue>> groupByNumber(List<JiraIssue> totalIssueList) {
+		Map<String, List<JiraIssue>> issuesByNumber = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+		totalIssueList.stream()
+				.filter(jiraIssue -> null != jiraIssue.getNumber())
+				.forEach(
+						jiraIssue ->
+								issuesByNumber
+										.computeIfAbsent(jiraIssue.getNumber(), number -> new ArrayList<>())
+										.add(jiraIssue));
+		return issuesByNumber;
 	}
 
 	/**
@@ -1409,4 +1425,60 @@ public class ReleaseBurnUpServiceImpl extends JiraReleaseKPIService {
 	public String getQualifierType() {
 		return KPICode.RELEASE_BURNUP.name();
 	}
+
+	/**
+	 * Issues added to, removed from, tagged to and completed in the release, by day. Built once per
+	 * release so that each date range of the burn up only visits the days with changes.
+	 */
+	private static final class BurnUpTimeline {
+
+		private final LocalDate startDate;
+		private final NavigableMap<LocalDate, DayEvents> days = new TreeMap<>();
+
+		BurnUpTimeline(
+				LocalDate startDate,
+				Map<LocalDate, List<JiraIssue>> addedIssuesMap,
+				Map<LocalDate, List<JiraIssue>> removeIssueMap,
+				Map<LocalDate, List<JiraIssue>> fullReleaseIssueMap,
+				Map<LocalDate, List<JiraIssue>> completedReleaseMap) {
+			this.startDate = startDate;
+			addAll(addedIssuesMap, DayEvents::added);
+			addAll(removeIssueMap, DayEvents::removed);
+			addAll(fullReleaseIssueMap, DayEvents::fullRelease);
+			addAll(completedReleaseMap, DayEvents::completed);
+		}
+
+		private void addAll(
+				Map<LocalDate, List<JiraIssue>> dateWiseIssues,
+				Function<DayEvents, List<JiraIssue>> target) {
+			dateWiseIssues.forEach(
+					(date, issues) -> {
+						if (null != date && null != issues) {
+							target.apply(days.computeIfAbsent(date, key -> new DayEvents())).addAll(issues);
+						}
+					});
+		}
+
+		LocalDate startDate() {
+			return startDate;
+		}
+
+		NavigableMap<LocalDate, DayEvents> between(LocalDate from, LocalDate to) {
+			if (null == from || null == to || from.isAfter(to)) {
+				return Collections.emptyNavigableMap();
+			}
+			return days.subMap(from, true, to, true);
+		}
+	}
+
+	private record DayEvents(
+			List<JiraIssue> added,
+			List<JiraIssue> removed,
+			List<JiraIssue> fullRelease,
+			List<JiraIssue> completed) {
+
+		DayEvents() {
+			this(new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
+		}
+	}
 }
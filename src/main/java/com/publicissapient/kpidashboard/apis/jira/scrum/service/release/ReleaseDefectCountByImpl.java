@@ -40,6 +40,7 @@ import com.publicissapient.kpidashboard.apis.model.FilterGroup;
 import com.publicissapient.kpidashboard.apis.model.IssueKpiModalValue;
 import com.publicissapient.kpidashboard.apis.model.KPIExcelData;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.Node;
 import com.publicissapient.kpidashboard.apis.util.KPIExcelUtility;
@@ -96,7 +97,7 @@ public class ReleaseDefectCountByImpl extends JiraReleaseKPIService {
 						defect ->
 								KPIExcelUtility.populateIssueModal(defect, fieldMapping, issueKpiModalObject));
 
-				if (requestTrackerId.toLowerCase().contains(KPISource.EXCEL.name().toLowerCase())) {
+				if (KpiExecutionContext.isCurrentExcelRequest(requestTrackerId)) {
 					KPIExcelUtility.populateReleaseDefectRelatedExcelData(
 							totalDefects, excelData, fieldMapping);
 				}
@@ -44,6 +44,7 @@ import com.publicissapient.kpidashboard.apis.model.EpicMetaData;
 import com.publicissapient.kpidashboard.apis.model.IterationKpiValue;
 import com.publicissapient.kpidashboard.apis.model.KPIExcelData;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.Node;
 import com.publicissapient.kpidashboard.apis.util.KPIExcelUtility;
@@ -333,7 +334,7 @@ public class ReleaseEpicProgressServiceImpl extends JiraReleaseKPIService {
 			Set<JiraIssue> epicIssues,
 			JiraIssueReleaseStatus jiraIssueReleaseStatus,
 			List<JiraIssue> totalIssues) {
-		if (requestTrackerId.toLowerCase().contains(KPISource.EXCEL.name().toLowerCase())
+		if (KpiExecutionContext.isCurrentExcelRequest(requestTrackerId)
 				&& MapUtils.isNotEmpty(epicWiseIssueSize)) {
 			Map<String, List<JiraIssue>> epicWiseJiraIssues =
 					totalIssues.stream()
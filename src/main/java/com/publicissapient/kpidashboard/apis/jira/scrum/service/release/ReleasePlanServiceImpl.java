@@ -52,6 +52,7 @@ import com.publicissapient.kpidashboard.apis.model.CustomDateRange;
 import com.publicissapient.kpidashboard.apis.model.IterationKpiValue;
 import com.publicissapient.kpidashboard.apis.model.KPIExcelData;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.Node;
 import com.publicissapient.kpidashboard.apis.util.KPIExcelUtility;
@@ -320,7 +321,9 @@ public class ReleasePlanServiceImpl extends JiraReleaseKPIService {
 		String finalReleaseName = releaseName.toLowerCase();
 		allIssuesHistory.forEach(
 				issueHistory -> {
-					List<JiraHistoryChangeLog> fixVersionUpdateLog = issueHistory.getFixVersionUpdationLog();
+					// the history is shared by the KPIs of the request, so a copy is sorted
+					List<JiraHistoryChangeLog> fixVersionUpdateLog =
+							new ArrayList<>(issueHistory.getFixVersionUpdationLog());
 					fixVersionUpdateLog.sort(Comparator.comparing(JiraHistoryChangeLog::getUpdatedOn));
 					List<JiraIssue> jiraIssueList = getRespectiveJiraIssue(releaseIssue, issueHistory);
 					int lastIndex = fixVersionUpdateLog.size() - 1;
@@ -656,7 +659,7 @@ public class ReleasePlanServiceImpl extends JiraReleaseKPIService {
 			List<KPIExcelData> excelData,
 			List<JiraIssue> jiraIssueList,
 			FieldMapping fieldMapping) {
-		if (requestTrackerId.toLowerCase().contains(KPISource.EXCEL.name().toLowerCase())
+		if (KpiExecutionContext.isCurrentExcelRequest(requestTrackerId)
 				&& CollectionUtils.isNotEmpty(jiraIssueList)) {
 
 			KPIExcelUtility.populateReleasePlanExcelData(jiraIssueList, excelData, fieldMapping);
@@ -18,6 +18,7 @@ import com.publicissapient.kpidashboard.apis.enums.KPISource;
 import com.publicissapient.kpidashboard.apis.errors.ApplicationException;
 import com.publicissapient.kpidashboard.apis.jira.service.backlogdashboard.JiraBacklogKPIService;
 import com.publicissapient.kpidashboard.apis.model.*;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.apis.util.KPIExcelUtility;
 import com.publicissapient.kpidashboard.apis.util.KpiDataHelper;
 import com.publicissapient.kpidashboard.common.model.application.DataCount;
@@ -246,7 +247,7 @@ public class FlowDistributionSlingshotServiceImpl
 			String requestTrackerId,
 			List<KPIExcelData> excelData,
 			Map<String, Map<String, List<String>>> dateTypeIdsMap) {
-		if (requestTrackerId.toLowerCase().contains(KPISource.EXCEL.name().toLowerCase())
+		if (KpiExecutionContext.isCurrentExcelRequest(requestTrackerId)
 				&& !Objects.isNull(dateTypeIdsMap)) {
 			KPIExcelUtility.populateFlowKPIWithIds(dateTypeIdsMap, excelData);
 		}
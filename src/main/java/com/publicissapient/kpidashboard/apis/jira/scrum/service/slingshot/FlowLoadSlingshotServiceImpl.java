@@ -29,6 +29,7 @@ import com.publicissapient.kpidashboard.apis.errors.ApplicationException;
 import com.publicissapient.kpidashboard.apis.jira.service.backlogdashboard.JiraBacklogKPIService;
 import com.publicissapient.kpidashboard.apis.model.KPIExcelData;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.Node;
 import com.publicissapient.kpidashboard.apis.util.KPIExcelUtility;
@@ -529,7 +530,7 @@ public class FlowLoadSlingshotServiceImpl extends JiraBacklogKPIService<Double,
 			String requestTrackerId,
 			List<KPIExcelData> excelData,
 			Map<String, Map<String, List<String>>> dateStatusIdsMap) {
-		if (requestTrackerId.toLowerCase().contains(KPISource.EXCEL.name().toLowerCase())
+		if (KpiExecutionContext.isCurrentExcelRequest(requestTrackerId)
 				&& !Objects.isNull(dateStatusIdsMap)) {
 			KPIExcelUtility.populateFlowKPIWithIds(dateStatusIdsMap, excelData);
 		}
@@ -56,6 +56,7 @@ import com.publicissapient.kpidashboard.apis.jira.service.JiraKPIService;
 import com.publicissapient.kpidashboard.apis.model.DSRValidationData;
 import com.publicissapient.kpidashboard.apis.model.KPIExcelData;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.Node;
 import com.publicissapient.kpidashboard.apis.model.TreeAggregatorDetail;
@@ -866,7 +867,7 @@ public class DefectEscapeRateSlingshotServiceImpl
 			FieldMapping fieldMapping,
 			String daysWeeks) {
 
-		if (requestTrackerId.toLowerCase().contains(KPISource.EXCEL.name().toLowerCase())) {
+		if (KpiExecutionContext.isCurrentExcelRequest(requestTrackerId)) {
 			Map<String, JiraIssue> totalBugList = new HashMap<>();
 			sprintWiseSubCategoryWiseTotalBugListMap.forEach(
 					bugs -> totalBugList.putIfAbsent(bugs.getNumber(), bugs));
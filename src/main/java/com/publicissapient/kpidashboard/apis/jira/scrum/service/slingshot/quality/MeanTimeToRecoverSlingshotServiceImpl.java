@@ -55,6 +55,7 @@ import com.publicissapient.kpidashboard.apis.errors.ApplicationException;
 import com.publicissapient.kpidashboard.apis.jira.service.JiraKPIService;
 import com.publicissapient.kpidashboard.apis.model.KPIExcelData;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.MeanTimeRecoverData;
 import com.publicissapient.kpidashboard.apis.model.Node;
@@ -478,7 +479,7 @@ public class MeanTimeToRecoverSlingshotServiceImpl
 			String requestTrackerId,
 			String trendLineName,
 			Map<String, List<MeanTimeRecoverData>> meanTimeRecoverMapTimeWise) {
-		if (requestTrackerId.toLowerCase().contains(KPISource.EXCEL.name().toLowerCase())) {
+		if (KpiExecutionContext.isCurrentExcelRequest(requestTrackerId)) {
 			KPIExcelUtility.populateMeanTimeToRecoverSlingshotExcelData(
 					meanTimeRecoverMapTimeWise, excelData);
 		}
@@ -30,6 +30,7 @@ import com.publicissapient.kpidashboard.apis.model.BuildFrequencyInfo;
 import com.publicissapient.kpidashboard.apis.model.CustomDateRange;
 import com.publicissapient.kpidashboard.apis.model.KPIExcelData;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.Node;
 import com.publicissapient.kpidashboard.apis.model.TreeAggregatorDetail;
@@ -279,7 +280,7 @@ public class BuildSuccessRateServiceImpl
 			String projectName,
 			BuildFrequencyInfo buildFrequencyInfo) {
 
-		if (requestTrackerId.toLowerCase().contains(KPISource.EXCEL.name().toLowerCase())) {
+		if (KpiExecutionContext.isCurrentExcelRequest(requestTrackerId)) {
 			KPIExcelUtility.populateBuildSuccessRate(excelData, projectName, buildFrequencyInfo);
 			excelData.sort(Comparator.comparingLong(data -> Long.parseLong(data.getStartDate())));
 			excelData.forEach(
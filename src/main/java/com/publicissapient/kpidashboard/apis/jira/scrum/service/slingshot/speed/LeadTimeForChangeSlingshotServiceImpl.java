@@ -58,6 +58,7 @@ import com.publicissapient.kpidashboard.apis.jenkins.service.JenkinsKPIService;
 import com.publicissapient.kpidashboard.apis.model.CustomDateRange;
 import com.publicissapient.kpidashboard.apis.model.KPIExcelData;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.Node;
 import com.publicissapient.kpidashboard.apis.model.TreeAggregatorDetail;
@@ -598,7 +599,7 @@ public class LeadTimeForChangeSlingshotServiceImpl
 			Node projectLeafNode,
 			String productionBranch,
 			KpiElement kpiElement) {
-		if (requestTrackerId.toLowerCase().contains(KPISource.EXCEL.name().toLowerCase())) {
+		if (KpiExecutionContext.isCurrentExcelRequest(requestTrackerId)) {
 			if (CollectionUtils.isEmpty(records)) {
 				kpiElement.setExcelData(new ArrayList<>());
 				return;
@@ -24,10 +24,9 @@ import java.util.Map;
 
 import com.publicissapient.kpidashboard.apis.common.service.ApplicationKPIService;
 import com.publicissapient.kpidashboard.apis.common.service.ToolsKPIService;
-import com.publicissapient.kpidashboard.apis.constant.Constant;
-import com.publicissapient.kpidashboard.apis.enums.KPISource;
 import com.publicissapient.kpidashboard.apis.errors.ApplicationException;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.TreeAggregatorDetail;
 import com.publicissapient.kpidashboard.common.util.DateUtil;
@@ -69,24 +68,24 @@ public abstract class JiraKPIService<R, S, T> extends ToolsKPIService<R, S>
 
 	/**
 	 * Returns API Request tracker Id to be used for logging/debugging and using it for maintaining
-	 * any sort of cache.
+	 * any sort of cache. The id is the one of the request computing the KPI, empty outside of a KPI
+	 * request.
 	 *
 	 * @return Scrum Request Tracker Id
 	 */
 	public String getRequestTrackerId() {
-		return getCacheService()
-				.getFromApplicationCache(Constant.KPI_REQUEST_TRACKER_ID_KEY + KPISource.JIRA.name());
+		return KpiExecutionContext.currentRequestTrackerId();
 	}
 
 	/**
 	 * Returns API Request tracker Id to be used for logging/debugging and using it for maintaining
-	 * any sort of cache.
+	 * any sort of cache. The id is the one of the request computing the KPI, empty outside of a KPI
+	 * request.
 	 *
 	 * @return Kanban Request Tracker Id
 	 */
 	public String getKanbanRequestTrackerId() {
-		return getCacheService()
-				.getFromApplicationCache(Constant.KPI_REQUEST_TRACKER_ID_KEY + KPISource.JIRAKANBAN.name());
+		return KpiExecutionContext.currentRequestTrackerId();
 	}
 
 	public Map<String, Double> getLastNMonth(int count, Map<String, String> timeFormatMap) {
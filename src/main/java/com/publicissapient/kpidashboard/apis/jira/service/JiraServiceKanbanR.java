@@ -18,14 +18,10 @@
 
 package com.publicissapient.kpidashboard.apis.jira.service;
 
-import java.io.Serial;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.ForkJoinTask;
-import java.util.concurrent.RecursiveAction;
 
 import org.apache.commons.collections4.CollectionUtils;
-import org.apache.commons.lang.SerializationUtils;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.lang3.math.NumberUtils;
 import org.springframework.http.converter.HttpMessageNotWritableException;
@@ -34,7 +30,10 @@ import org.springframework.stereotype.Service;
 import com.publicissapient.kpidashboard.apis.abac.UserAuthorizedProjectsService;
 import com.publicissapient.kpidashboard.apis.auth.apikey.ApiKeyAuthenticationService;
 import com.publicissapient.kpidashboard.apis.common.service.CacheService;
+import com.publicissapient.kpidashboard.apis.common.service.impl.KpiExecutionEngine;
+import com.publicissapient.kpidashboard.apis.common.service.impl.KpiExecutionEngine.KpiExecutionResult;
 import com.publicissapient.kpidashboard.apis.common.service.impl.KpiHelperService;
+import com.publicissapient.kpidashboard.apis.common.service.impl.KpiRequestCoalescer;
 import com.publicissapient.kpidashboard.apis.enums.KPICode;
 import com.publicissapient.kpidashboard.apis.enums.KPISource;
 import com.publicissapient.kpidashboard.apis.errors.ApplicationException;
@@ -43,8 +42,10 @@ import com.publicissapient.kpidashboard.apis.filter.service.FilterHelperService;
 import com.publicissapient.kpidashboard.apis.jira.factory.JiraKPIServiceFactory;
 import com.publicissapient.kpidashboard.apis.model.AccountHierarchyDataKanban;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.Node;
+import com.publicissapient.kpidashboard.apis.model.NodeValueOverlay;
 import com.publicissapient.kpidashboard.apis.model.TreeAggregatorDetail;
 import com.publicissapient.kpidashboard.apis.util.KPIHelperUtil;
 import com.publicissapient.kpidashboard.common.constant.CommonConstant;
@@ -71,6 +72,10 @@ public class JiraServiceKanbanR {
 
 	private final UserAuthorizedProjectsService authorizedProjectsService;
 
+	private final KpiExecutionEngine kpiExecutionEngine;
+
+	private final KpiRequestCoalescer kpiRequestCoalescer;
+
 	/**
 	 * This method process Kanban JIRA based kpi request, cache data and call service in multiple
 	 * thread.
@@ -88,7 +93,6 @@ public class JiraServiceKanbanR {
 		List<KpiElement> origRequestedKpis =
 				kpiRequest.getKpiList().stream().map(KpiElement::new).toList();
 		List<KpiElement> responseList = new ArrayList<>();
-		String[] kanbanProjectKeyCache;
 		try {
 			String hierarchyLevelId =
 					filterHelperService.getHierarchyLevelId(
@@ -104,24 +108,23 @@ public class JiraServiceKanbanR {
 			populateKanbanKpiRequest(kpiRequest);
 			List<AccountHierarchyDataKanban> filteredAccountDataList =
 					filterHelperService.getFilteredBuildsKanban(kpiRequest, hierarchyLevelId);
-			kanbanProjectKeyCache = getProjectKeyCache(kpiRequest, filteredAccountDataList);
+			String[] kanbanProjectKeyCache = getProjectKeyCache(kpiRequest, filteredAccountDataList);
 
-			filteredAccountDataList = getAuthorizedFilteredList(kpiRequest, filteredAccountDataList);
+			List<AccountHierarchyDataKanban> authorizedAccountDataList =
+					getAuthorizedFilteredList(kpiRequest, filteredAccountDataList);
 
-			if (filteredAccountDataList.isEmpty()) {
+			if (authorizedAccountDataList.isEmpty()) {
 				return responseList;
 			}
 			Integer groupId = kpiRequest.getKpiList().get(0).getGroupId();
+			String cacheKey = null;
 			// skip using cache when the request is made with an api key and also processing
 			// by group id will be disabled
 			if (Boolean.FALSE.equals(ApiKeyAuthenticationService.isApiKeyRequest())) {
 				Object cachedData =
 						cacheService.getFromApplicationCache(
 								kanbanProjectKeyCache, KPISource.JIRAKANBAN.name(), groupId, null);
-				if (!kpiRequest
-								.getRequestTrackerId()
-								.toLowerCase()
-								.contains(KPISource.EXCEL.name().toLowerCase())
+				if (!KpiExecutionContext.isCurrentExcelRequest(kpiRequest.getRequestTrackerId())
 						&& null != cachedData) {
 					log.info(
 							"[JIRA KANBAN][{}]. Fetching value from cache for {}",
@@ -129,40 +132,25 @@ public class JiraServiceKanbanR {
 							kpiRequest.getIds());
 					return (List<KpiElement>) cachedData;
 				}
+				if (isCachedResponse(kpiRequest)) {
+					cacheKey =
+							cacheService.getKpiCacheKey(
+									kanbanProjectKeyCache, KPISource.JIRAKANBAN.name(), groupId, null);
+				}
 			}
 
-			TreeAggregatorDetail treeAggregatorDetail =
-					KPIHelperUtil.getTreeLeafNodesGroupedByFilter(
+			responseList.addAll(
+					kpiRequestCoalescer.computeOnce(
 							kpiRequest,
-							null,
-							filteredAccountDataList,
-							filterHelperService.getFirstHierarchyLevel(),
-							filterHelperService
-									.getHierarchyIdLevelMap(false)
-									.getOrDefault(CommonConstant.HIERARCHY_LEVEL_ID_PROJECT, 0));
-
-			List<ParallelJiraServices> listOfTask = new ArrayList<>();
-			for (KpiElement kpiEle : kpiRequest.getKpiList()) {
-				listOfTask.add(
-						new ParallelJiraServices(kpiRequest, responseList, kpiEle, treeAggregatorDetail));
-			}
-
-			ForkJoinTask.invokeAll(listOfTask);
-			List<KpiElement> missingKpis =
-					origRequestedKpis.stream()
-							.filter(
-									reqKpi ->
-											responseList.stream()
-													.noneMatch(
-															responseKpi -> reqKpi.getKpiId().equals(responseKpi.getKpiId())))
-							.toList();
-			responseList.addAll(missingKpis);
-
-			// skip using cache when the request is made with an api key and also processing
-			// by group id will be disabled
-			if (Boolean.FALSE.equals(ApiKeyAuthenticationService.isApiKeyRequest())) {
-				setIntoApplicationCache(kpiRequest, responseList, groupId, kanbanProjectKeyCache);
-			}
+							KPISource.JIRAKANBAN.name(),
+							cacheKey,
+							() ->
+									calculateKpis(
+											kpiRequest,
+											authorizedAccountDataList,
+											origRequestedKpis,
+											groupId,
+											kanbanProjectKeyCache)));
 
 		} catch (EntityNotFoundException e) {
 			log.error(
@@ -183,6 +171,48 @@ public class JiraServiceKanbanR {
 		return responseList;
 	}
 
+	private List<KpiElement> calculateKpis(
+			KpiRequest kpiRequest,
+			List<AccountHierarchyDataKanban> filteredAccountDataList,
+			List<KpiElement> origRequestedKpis,
+			Integer groupId,
+			String[] kanbanProjectKeyCache)
+			throws ApplicationException {
+		TreeAggregatorDetail treeAggregatorDetail =
+				KPIHelperUtil.getTreeLeafNodesGroupedByFilter(
+						kpiRequest,
+						null,
+						filteredAccountDataList,
+						filterHelperService.getFirstHierarchyLevel(),
+						filterHelperService
+								.getHierarchyIdLevelMap(false)
+								.getOrDefault(CommonConstant.HIERARCHY_LEVEL_ID_PROJECT, 0));
+
+		KpiExecutionResult executionResult =
+				kpiExecutionEngine.execute(
+						KPISource.JIRAKANBAN.name(),
+						kpiRequest,
+						kpiEle -> calculateAllKPIAggregatedMetrics(kpiRequest, kpiEle, treeAggregatorDetail));
+		List<KpiElement> responseList = new ArrayList<>(executionResult.getKpiElements());
+		List<KpiElement> missingKpis =
+				origRequestedKpis.stream()
+						.filter(
+								reqKpi ->
+										responseList.stream()
+												.noneMatch(responseKpi -> reqKpi.getKpiId().equals(responseKpi.getKpiId())))
+						.map(executionResult::markTimedOut)
+						.toList();
+		responseList.addAll(missingKpis);
+
+		// skip using cache when the request is made with an api key and also processing
+		// by group id will be disabled
+		if (Boolean.FALSE.equals(ApiKeyAuthenticationService.isApiKeyRequest())
+				&& executionResult.isComplete()) {
+			setIntoApplicationCache(kpiRequest, responseList, groupId, kanbanProjectKeyCache);
+		}
+		return responseList;
+	}
+
 	private String[] getProjectKeyCache(
 			KpiRequest kpiRequest, List<AccountHierarchyDataKanban> filteredAccountDataList) {
 		return authorizedProjectsService.getKanbanProjectKey(filteredAccountDataList, kpiRequest);
@@ -208,18 +238,23 @@ public class JiraServiceKanbanR {
 	 */
 	private void setIntoApplicationCache(
 			KpiRequest kpiRequest, List<KpiElement> responseList, Integer groupId, String[] projects) {
+		if (!KpiExecutionContext.isCurrentExcelRequest(kpiRequest.getRequestTrackerId())
+				&& isCachedResponse(kpiRequest)) {
+			cacheService.setIntoApplicationCache(
+					projects, responseList, KPISource.JIRAKANBAN.name(), groupId, null);
+		}
+	}
+
+	/**
+	 * Only the responses of the project level and above are cached. Only those requests are
+	 * keyed for coalescing, the others depend on more than their cache key.
+	 */
+	private boolean isCachedResponse(KpiRequest kpiRequest) {
 		Integer projectLevel =
 				filterHelperService
 						.getHierarchyIdLevelMap(true)
 						.get(CommonConstant.HIERARCHY_LEVEL_ID_PROJECT);
-		if (!kpiRequest
-						.getRequestTrackerId()
-						.toLowerCase()
-						.contains(KPISource.EXCEL.name().toLowerCase())
-				&& projectLevel >= kpiRequest.getLevel()) {
-			cacheService.setIntoApplicationCache(
-					projects, responseList, KPISource.JIRAKANBAN.name(), groupId, null);
-		}
+		return null != projectLevel && projectLevel >= kpiRequest.getLevel();
 	}
 
 	private static void populateKanbanKpiRequest(KpiRequest kpiRequest) {
@@ -240,88 +275,55 @@ public class JiraServiceKanbanR {
 	}
 
 	/**
-	 * This class is used to call JIRA based KPIs service in parallel.
+	 * This method call by multiple thread, take object of specific KPI and call method of these
+	 * KPIs
 	 *
-	 * @author pankumar8
+	 * @param kpiRequest JIRA KPI request
+	 * @param kpiElement kpiElement
+	 * @param treeAggregatorDetail filter tree object
+	 * @return KpiElement kpiElement
 	 */
-	public class ParallelJiraServices extends RecursiveAction {
-
-		@Serial private static final long serialVersionUID = 606012979232602115L;
-
-		private final KpiRequest kpiRequest;
-		private final TreeAggregatorDetail treeAggregatorDetail;
+	private KpiElement calculateAllKPIAggregatedMetrics(
+			KpiRequest kpiRequest, KpiElement kpiElement, TreeAggregatorDetail treeAggregatorDetail) {
 
-		private final transient KpiElement kpiEle;
-		private final transient List<KpiElement> responseList;
-
-		public ParallelJiraServices(
-				KpiRequest kpiRequest,
-				List<KpiElement> responseList,
-				KpiElement kpiEle,
-				TreeAggregatorDetail treeAggregatorDetail) {
-			super();
-			this.kpiRequest = kpiRequest;
-			this.responseList = responseList;
-			this.kpiEle = kpiEle;
-			this.treeAggregatorDetail = treeAggregatorDetail;
-		}
-
-		/** {@inheritDoc} */
-		@SuppressWarnings("PMD.AvoidCatchingGenericException")
-		@Override
-		public void compute() {
-			responseList.add(calculateAllKPIAggregatedMetrics(kpiRequest, kpiEle, treeAggregatorDetail));
-		}
-
-		/**
-		 * This method call by multiple thread, take object of specific KPI and call method of these
-		 * KPIs
-		 *
-		 * @param kpiRequest JIRA KPI request
-		 * @param kpiElement kpiElement
-		 * @param treeAggregatorDetail filter tree object
-		 * @return KpiElement kpiElement
-		 */
-		private KpiElement calculateAllKPIAggregatedMetrics(
-				KpiRequest kpiRequest, KpiElement kpiElement, TreeAggregatorDetail treeAggregatorDetail) {
-
-			long startTime;
-			JiraKPIService<?, ?, ?> jiraKPIService;
-			KPICode kpi = KPICode.getKPI(kpiElement.getKpiId());
-			try {
-				jiraKPIService = JiraKPIServiceFactory.getJiraKPIService(kpi.name());
-				startTime = System.currentTimeMillis();
-				TreeAggregatorDetail treeAggregatorDetailClone =
-						(TreeAggregatorDetail) SerializationUtils.clone(treeAggregatorDetail);
-				List<Node> projectNodes =
-						treeAggregatorDetailClone
-								.getMapOfListOfProjectNodes()
-								.get(CommonConstant.PROJECT.toLowerCase());
-				if (CollectionUtils.isNotEmpty(projectNodes)
-						&& (projectNodes.size() > 1
-								|| kpiHelperService.isToolConfigured(kpi, kpiElement, projectNodes.get(0)))) {
-					kpiElement = jiraKPIService.getKpiData(kpiRequest, kpiElement, treeAggregatorDetailClone);
-					kpiElement.setResponseCode(CommonConstant.KPI_PASSED);
-					if (projectNodes.size() == 1) {
-						kpiHelperService.isMandatoryFieldSet(kpi, kpiElement, projectNodes.get(0));
-					}
+		long startTime;
+		JiraKPIService<?, ?, ?> jiraKPIService;
+		KPICode kpi = KPICode.getKPI(kpiElement.getKpiId());
+		try {
+			jiraKPIService = JiraKPIServiceFactory.getJiraKPIService(kpi.name());
+			startTime = System.currentTimeMillis();
+			TreeAggregatorDetail treeAggregatorDetailView = treeAggregatorDetail.createKpiView();
+			List<Node> projectNodes =
+					treeAggregatorDetailView
+							.getMapOfListOfProjectNodes()
+							.get(CommonConstant.PROJECT.toLowerCase());
+			if (CollectionUtils.isNotEmpty(projectNodes)
+					&& (projectNodes.size() > 1
+							|| kpiHelperService.isToolConfigured(kpi, kpiElement, projectNodes.get(0)))) {
+				try (NodeValueOverlay nodeValues = NodeValueOverlay.open()) {
+					kpiElement =
+							jiraKPIService.getKpiData(kpiRequest, kpiElement, treeAggregatorDetailView);
+				}
+				kpiElement.setResponseCode(CommonConstant.KPI_PASSED);
+				if (projectNodes.size() == 1) {
+					kpiHelperService.isMandatoryFieldSet(kpi, kpiElement, projectNodes.get(0));
 				}
-				long processTime = System.currentTimeMillis() - startTime;
-				log.info(
-						"[JIRA-KANBAN-{}-TIME][{}]. KPI took {} ms",
-						kpi.name(),
-						kpiRequest.getRequestTrackerId(),
-						processTime);
-			} catch (ApplicationException exception) {
-				kpiElement.setResponseCode(CommonConstant.KPI_FAILED);
-				log.error("Kpi not found", exception);
-			} catch (Exception exception) {
-				kpiElement.setResponseCode(CommonConstant.KPI_FAILED);
-				log.error("[PARALLEL_JIRA_SERVICE].Exception occurred", exception);
-				log.error("" + kpiEle);
-				return kpiElement;
 			}
+			long processTime = System.currentTimeMillis() - startTime;
+			log.info(
+					"[JIRA-KANBAN-{}-TIME][{}]. KPI took {} ms",
+					kpi.name(),
+					kpiRequest.getRequestTrackerId(),
+					processTime);
+		} catch (ApplicationException exception) {
+			kpiElement.setResponseCode(CommonConstant.KPI_FAILED);
+			log.error("Kpi not found", exception);
+		} catch (Exception exception) {
+			kpiElement.setResponseCode(CommonConstant.KPI_FAILED);
+			log.error("[PARALLEL_JIRA_SERVICE].Exception occurred", exception);
+			log.error("" + kpiElement);
 			return kpiElement;
 		}
+		return kpiElement;
 	}
 }
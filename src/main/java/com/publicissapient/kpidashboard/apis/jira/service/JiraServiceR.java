@@ -18,20 +18,20 @@ package com.publicissapient.kpidashboard.apis.jira.service;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.concurrent.ForkJoinTask;
-import java.util.concurrent.RecursiveAction;
 import java.util.stream.Collectors;
 
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.MapUtils;
-import org.apache.commons.lang.SerializationUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.converter.HttpMessageNotWritableException;
 import org.springframework.stereotype.Service;
 
 import com.publicissapient.kpidashboard.apis.auth.apikey.ApiKeyAuthenticationService;
 import com.publicissapient.kpidashboard.apis.common.service.CacheService;
+import com.publicissapient.kpidashboard.apis.common.service.impl.KpiExecutionEngine;
+import com.publicissapient.kpidashboard.apis.common.service.impl.KpiExecutionEngine.KpiExecutionResult;
 import com.publicissapient.kpidashboard.apis.common.service.impl.KpiHelperService;
+import com.publicissapient.kpidashboard.apis.common.service.impl.KpiRequestCoalescer;
 import com.publicissapient.kpidashboard.apis.config.CustomApiConfig;
 import com.publicissapient.kpidashboard.apis.enums.KPICode;
 import com.publicissapient.kpidashboard.apis.enums.KPISource;
@@ -42,8 +42,10 @@ import com.publicissapient.kpidashboard.apis.jira.factory.JiraKPIServiceFactory;
 import com.publicissapient.kpidashboard.apis.kpiintegration.service.KpiIntegrationServiceImpl;
 import com.publicissapient.kpidashboard.apis.model.AccountHierarchyData;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.Node;
+import com.publicissapient.kpidashboard.apis.model.NodeValueOverlay;
 import com.publicissapient.kpidashboard.apis.model.TreeAggregatorDetail;
 import com.publicissapient.kpidashboard.apis.util.KPIHelperUtil;
 import com.publicissapient.kpidashboard.common.constant.CommonConstant;
@@ -69,6 +71,10 @@ public class JiraServiceR {
 
 	@Autowired private CustomApiConfig customApiConfig;
 
+	@Autowired private KpiExecutionEngine kpiExecutionEngine;
+
+	@Autowired private KpiRequestCoalescer kpiRequestCoalescer;
+
 	private boolean referFromProjectCache = true;
 
 	/**
@@ -86,7 +92,6 @@ public class JiraServiceR {
 		List<KpiElement> origRequestedKpis =
 				kpiRequest.getKpiList().stream().map(KpiElement::new).toList();
 		List<KpiElement> responseList = new ArrayList<>();
-		String[] projectKeyCache = null;
 		try {
 			Integer groupId = kpiRequest.getKpiList().get(0).getGroupId();
 			String groupName =
@@ -100,65 +105,45 @@ public class JiraServiceR {
 			List<AccountHierarchyData> filteredAccountDataList =
 					filterHelperService.getFilteredBuilds(kpiRequest, groupName);
 			if (!CollectionUtils.isEmpty(filteredAccountDataList)) {
-				projectKeyCache =
+				String[] projectKeyCache =
 						kpiHelperService.getProjectKeyCache(
 								kpiRequest, filteredAccountDataList, referFromProjectCache);
 
-				filteredAccountDataList =
+				List<AccountHierarchyData> authorizedAccountDataList =
 						kpiHelperService.getAuthorizedFilteredList(
 								kpiRequest, filteredAccountDataList, referFromProjectCache);
-				if (filteredAccountDataList.isEmpty()) {
+				if (authorizedAccountDataList.isEmpty()) {
 					return responseList;
 				}
+				String cacheKey = null;
 				// skip using cache when the request is made with an api key
 				if (Boolean.FALSE.equals(ApiKeyAuthenticationService.isApiKeyRequest())) {
 					List<KpiElement> cachedData = getCachedData(kpiRequest, groupId, projectKeyCache);
 					if (CollectionUtils.isNotEmpty(cachedData) && referFromProjectCache) {
 						return cachedData;
 					}
+					if (referFromProjectCache && isCachedResponse(kpiRequest, groupId)) {
+						cacheKey =
+								cacheService.getKpiCacheKey(
+										projectKeyCache,
+										KPISource.JIRA.name(),
+										groupId,
+										kpiRequest.getSprintIncluded());
+					}
 				}
 
-				TreeAggregatorDetail treeAggregatorDetail =
-						KPIHelperUtil.getTreeLeafNodesGroupedByFilter(
+				responseList.addAll(
+						kpiRequestCoalescer.computeOnce(
 								kpiRequest,
-								filteredAccountDataList,
-								null,
-								filterHelperService.getFirstHierarchyLevel(),
-								filterHelperService
-										.getHierarchyIdLevelMap(false)
-										.getOrDefault(CommonConstant.HIERARCHY_LEVEL_ID_SPRINT, 0));
-
-				updateTreeAggregatorDetail(kpiRequest, treeAggregatorDetail);
-
-				// set filter value to show on trend line. If subprojects are
-				// in
-				// selection then show subprojects on trend line else show
-				// projects
-				kpiRequest.setFilterToShowOnTrend(groupName);
-
-				List<ParallelJiraServices> listOfTask = new ArrayList<>();
-				for (KpiElement kpiEle : kpiRequest.getKpiList()) {
-
-					listOfTask.add(
-							new ParallelJiraServices(kpiRequest, responseList, kpiEle, treeAggregatorDetail));
-				}
-
-				ForkJoinTask.invokeAll(listOfTask);
-				List<KpiElement> missingKpis =
-						origRequestedKpis.stream()
-								.filter(
-										reqKpi ->
-												responseList.stream()
-														.noneMatch(
-																responseKpi -> reqKpi.getKpiId().equals(responseKpi.getKpiId())))
-								.toList();
-				responseList.addAll(missingKpis);
-
-				if (!customApiConfig.getGroupIdsToExcludeFromCache().contains(groupId)
-						&& referFromProjectCache) {
-					kpiHelperService.setIntoApplicationCache(
-							kpiRequest, responseList, groupId, projectKeyCache);
-				}
+								KPISource.JIRA.name(),
+								cacheKey,
+								() ->
+										calculateKpis(
+												kpiRequest,
+												authorizedAccountDataList,
+												origRequestedKpis,
+												groupName,
+												projectKeyCache)));
 			} else {
 				responseList.addAll(origRequestedKpis);
 			}
@@ -171,6 +156,56 @@ public class JiraServiceR {
 		return responseList;
 	}
 
+	private List<KpiElement> calculateKpis(
+			KpiRequest kpiRequest,
+			List<AccountHierarchyData> filteredAccountDataList,
+			List<KpiElement> origRequestedKpis,
+			String groupName,
+			String[] projectKeyCache)
+			throws ApplicationException {
+		Integer groupId = kpiRequest.getKpiList().get(0).getGroupId();
+		TreeAggregatorDetail treeAggregatorDetail =
+				KPIHelperUtil.getTreeLeafNodesGroupedByFilter(
+						kpiRequest,
+						filteredAccountDataList,
+						null,
+						filterHelperService.getFirstHierarchyLevel(),
+						filterHelperService
+								.getHierarchyIdLevelMap(false)
+								.getOrDefault(CommonConstant.HIERARCHY_LEVEL_ID_SPRINT, 0));
+
+		updateTreeAggregatorDetail(kpiRequest, treeAggregatorDetail);
+
+		// set filter value to show on trend line. If subprojects are
+		// in
+		// selection then show subprojects on trend line else show
+		// projects
+		kpiRequest.setFilterToShowOnTrend(groupName);
+
+		KpiExecutionResult executionResult =
+				kpiExecutionEngine.execute(
+						KPISource.JIRA.name(),
+						kpiRequest,
+						kpiEle -> calculateAllKPIAggregatedMetrics(kpiRequest, kpiEle, treeAggregatorDetail));
+		List<KpiElement> responseList = new ArrayList<>(executionResult.getKpiElements());
+		List<KpiElement> missingKpis =
+				origRequestedKpis.stream()
+						.filter(
+								reqKpi ->
+										responseList.stream()
+												.noneMatch(responseKpi -> reqKpi.getKpiId().equals(responseKpi.getKpiId())))
+						.map(executionResult::markTimedOut)
+						.toList();
+		responseList.addAll(missingKpis);
+
+		if (!customApiConfig.getGroupIdsToExcludeFromCache().contains(groupId)
+				&& referFromProjectCache
+				&& executionResult.isComplete()) {
+			kpiHelperService.setIntoApplicationCache(kpiRequest, responseList, groupId, projectKeyCache);
+		}
+		return responseList;
+	}
+
 	private List<KpiElement> getCachedData(
 			KpiRequest kpiRequest, Integer groupId, String[] projectKeyCache) {
 		Object cachedData = null;
@@ -179,10 +214,7 @@ public class JiraServiceR {
 					cacheService.getFromApplicationCache(
 							projectKeyCache, KPISource.JIRA.name(), groupId, kpiRequest.getSprintIncluded());
 		}
-		if (!kpiRequest
-						.getRequestTrackerId()
-						.toLowerCase()
-						.contains(KPISource.EXCEL.name().toLowerCase())
+		if (!KpiExecutionContext.isCurrentExcelRequest(kpiRequest.getRequestTrackerId())
 				&& null != cachedData
 				&& isLeadTimeDuration(kpiRequest.getKpiList())) {
 			log.info("Fetching value from cache for {}", Arrays.toString(kpiRequest.getIds()));
@@ -191,6 +223,22 @@ public class JiraServiceR {
 		return new ArrayList<>();
 	}
 
+	/**
+	 * Only the requests whose response is cached are keyed for coalescing. The responses of the
+	 * excluded groups, of the single lead time KPIs and below the sprint level depend on more than
+	 * their cache key.
+	 */
+	private boolean isCachedResponse(KpiRequest kpiRequest, Integer groupId) {
+		Integer sprintLevel =
+				filterHelperService
+						.getHierarchyIdLevelMap(false)
+						.get(CommonConstant.HIERARCHY_LEVEL_ID_SPRINT);
+		return !customApiConfig.getGroupIdsToExcludeFromCache().contains(groupId)
+				&& isLeadTimeDuration(kpiRequest.getKpiList())
+				&& null != sprintLevel
+				&& sprintLevel >= kpiRequest.getLevel();
+	}
+
 	private boolean isLeadTimeDuration(List<KpiElement> kpiList) {
 		return kpiList.size() != 1
 				|| !(kpiList.get(0).getKpiId().equalsIgnoreCase("kpi171")
@@ -239,102 +287,62 @@ public class JiraServiceR {
 	}
 
 	/**
-	 * This class is used to call JIRA based KPIs service in parallel.
+	 * This method call by multiple thread, take object of specific KPI and call method of these
+	 * KPIs
 	 *
-	 * @author pankumar8
+	 * @param kpiRequest JIRA KPI request
+	 * @param kpiElement kpiElement object
+	 * @param treeAggregatorDetail filter tree object
+	 * @return KpiElement kpiElement
 	 */
-	public class ParallelJiraServices extends RecursiveAction {
-
-		private static final long serialVersionUID = 1L;
-		private final KpiRequest kpiRequest;
-		private final transient List<KpiElement> responseList;
-		private final transient KpiElement kpiEle;
-		private final TreeAggregatorDetail treeAggregatorDetail;
-
-		/*
-		 * @param kpiRequest
-		 *
-		 * @param responseList
-		 *
-		 * @param kpiEle
-		 *
-		 * @param treeAggregatorDetail
-		 */
-		public ParallelJiraServices(
-				KpiRequest kpiRequest,
-				List<KpiElement> responseList,
-				KpiElement kpiEle,
-				TreeAggregatorDetail treeAggregatorDetail) {
-			super();
-			this.kpiRequest = kpiRequest;
-			this.responseList = responseList;
-			this.kpiEle = kpiEle;
-			this.treeAggregatorDetail = treeAggregatorDetail;
-		}
+	@SuppressWarnings("PMD.AvoidCatchingGenericException")
+	private KpiElement calculateAllKPIAggregatedMetrics(
+			KpiRequest kpiRequest, KpiElement kpiElement, TreeAggregatorDetail treeAggregatorDetail) {
 
-		/** {@inheritDoc} */
-		@SuppressWarnings("PMD.AvoidCatchingGenericException")
-		@Override
-		public void compute() {
-			responseList.add(calculateAllKPIAggregatedMetrics(kpiRequest, kpiEle, treeAggregatorDetail));
-		}
+		JiraKPIService<?, ?, ?> jiraKPIService = null;
+
+		KPICode kpi = KPICode.getKPI(kpiElement.getKpiId());
+		try {
+			jiraKPIService = JiraKPIServiceFactory.getJiraKPIService(kpi.name());
+			long startTime = System.currentTimeMillis();
 
-		/**
-		 * This method call by multiple thread, take object of specific KPI and call method of these
-		 * KPIs
-		 *
-		 * @param kpiRequest JIRA KPI request
-		 * @param kpiElement kpiElement object
-		 * @param treeAggregatorDetail filter tree object
-		 * @return KpiElement kpiElement
-		 */
-		@SuppressWarnings("PMD.AvoidCatchingGenericException")
-		private KpiElement calculateAllKPIAggregatedMetrics(
-				KpiRequest kpiRequest, KpiElement kpiElement, TreeAggregatorDetail treeAggregatorDetail) {
-
-			JiraKPIService<?, ?, ?> jiraKPIService = null;
-
-			KPICode kpi = KPICode.getKPI(kpiElement.getKpiId());
-			try {
-				jiraKPIService = JiraKPIServiceFactory.getJiraKPIService(kpi.name());
-				long startTime = System.currentTimeMillis();
-
-				if (KPICode.THROUGHPUT.equals(kpi)) {
-					log.info("No need to fetch Throughput KPI data");
-				} else {
-					TreeAggregatorDetail treeAggregatorDetailClone =
-							(TreeAggregatorDetail) SerializationUtils.clone(treeAggregatorDetail);
-					List<Node> projectNodes =
-							treeAggregatorDetailClone
-									.getMapOfListOfProjectNodes()
-									.get(CommonConstant.PROJECT.toLowerCase());
-					if (!projectNodes.isEmpty()
-							&& (projectNodes.size() > 1
-									|| kpiHelperService.isToolConfigured(kpi, kpiElement, projectNodes.get(0)))) {
+			if (KPICode.THROUGHPUT.equals(kpi)) {
+				log.info("No need to fetch Throughput KPI data");
+			} else {
+				TreeAggregatorDetail treeAggregatorDetailView =
+						treeAggregatorDetail.createKpiView();
+				List<Node> projectNodes =
+						treeAggregatorDetailView
+								.getMapOfListOfProjectNodes()
+								.get(CommonConstant.PROJECT.toLowerCase());
+				if (!projectNodes.isEmpty()
+						&& (projectNodes.size() > 1
+								|| kpiHelperService.isToolConfigured(kpi, kpiElement, projectNodes.get(0)))) {
+					try (NodeValueOverlay nodeValues = NodeValueOverlay.open()) {
 						kpiElement =
-								jiraKPIService.getKpiData(kpiRequest, kpiElement, treeAggregatorDetailClone);
-						kpiElement.setResponseCode(CommonConstant.KPI_PASSED);
-						if (projectNodes.size() == 1) {
-							kpiHelperService.isMandatoryFieldSet(kpi, kpiElement, projectNodes.get(0));
-						}
+								jiraKPIService.getKpiData(kpiRequest, kpiElement, treeAggregatorDetailView);
+					}
+					kpiElement.setResponseCode(CommonConstant.KPI_PASSED);
+					if (projectNodes.size() == 1) {
+						kpiHelperService.isMandatoryFieldSet(kpi, kpiElement, projectNodes.get(0));
 					}
-					long processTime = System.currentTimeMillis() - startTime;
-					log.info(
-							"[JIRA-{}-TIME][{}]. KPI took {} ms",
-							kpi.name(),
-							kpiRequest.getRequestTrackerId(),
-							processTime);
 				}
-			} catch (ApplicationException exception) {
-				kpiElement.setResponseCode(CommonConstant.KPI_FAILED);
-				log.error("Kpi not found", exception);
-			} catch (Exception exception) {
-				kpiElement.setResponseCode(CommonConstant.KPI_FAILED);
-				log.error("[PARALLEL_JIRA_SERVICE].Exception occurred", exception);
-				return kpiElement;
+				long processTime = System.currentTimeMillis() - startTime;
+				log.info(
+						"[JIRA-{}-TIME][{}]. KPI took {} ms",
+						kpi.name(),
+						kpiRequest.getRequestTrackerId(),
+						processTime);
 			}
+		} catch (ApplicationException exception) {
+			kpiElement.setResponseCode(CommonConstant.KPI_FAILED);
+			log.error("Kpi not found", exception);
+		} catch (Exception exception) {
+			kpiElement.setResponseCode(CommonConstant.KPI_FAILED);
+			log.error("[PARALLEL_JIRA_SERVICE].Exception occurred", exception);
 			return kpiElement;
 		}
+		return kpiElement;
 	}
 
 	/**
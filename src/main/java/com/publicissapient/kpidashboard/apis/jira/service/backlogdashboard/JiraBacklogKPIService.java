@@ -20,12 +20,10 @@ import java.util.Set;
 
 import org.springframework.beans.factory.annotation.Autowired;
 
-import com.publicissapient.kpidashboard.apis.common.service.CacheService;
 import com.publicissapient.kpidashboard.apis.common.service.ToolsKPIService;
-import com.publicissapient.kpidashboard.apis.constant.Constant;
-import com.publicissapient.kpidashboard.apis.enums.KPISource;
 import com.publicissapient.kpidashboard.apis.jira.service.NonTrendKPIService;
 import com.publicissapient.kpidashboard.apis.model.IterationKpiModalValue;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.apis.util.KPIExcelUtility;
 import com.publicissapient.kpidashboard.common.model.jira.JiraIssue;
 import com.publicissapient.kpidashboard.common.model.jira.JiraIssueCustomHistory;
@@ -40,19 +38,17 @@ import com.publicissapient.kpidashboard.common.model.zephyr.TestCaseDetails;
 public abstract class JiraBacklogKPIService<R, S> extends ToolsKPIService<R, S>
 		implements NonTrendKPIService {
 
-	@Autowired private CacheService cacheService;
-
 	@Autowired private JiraBacklogServiceR jiraService;
 
 	/**
 	 * Returns API Request tracker Id to be used for logging/debugging and using it for maintaining
-	 * any sort of cache.
+	 * any sort of cache. The id is the one of the request computing the KPI, empty outside of a KPI
+	 * request.
 	 *
 	 * @return Scrum Request Tracker Id
 	 */
 	public String getRequestTrackerId() {
-		return cacheService.getFromApplicationCache(
-				Constant.KPI_REQUEST_TRACKER_ID_KEY + KPISource.JIRA.name());
+		return KpiExecutionContext.currentRequestTrackerId();
 	}
 
 	public List<JiraIssue> getBackLogJiraIssuesFromBaseClass() {
@@ -14,7 +14,6 @@
  ******************************************************************************/
 package com.publicissapient.kpidashboard.apis.jira.service.backlogdashboard;
 
-import java.io.Serial;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
@@ -22,8 +21,6 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
-import java.util.concurrent.ForkJoinTask;
-import java.util.concurrent.RecursiveAction;
 import java.util.stream.Collectors;
 
 import org.apache.commons.collections4.CollectionUtils;
@@ -37,6 +34,8 @@ import org.springframework.stereotype.Service;
 import com.publicissapient.kpidashboard.apis.appsetting.service.ConfigHelperService;
 import com.publicissapient.kpidashboard.apis.auth.apikey.ApiKeyAuthenticationService;
 import com.publicissapient.kpidashboard.apis.common.service.CacheService;
+import com.publicissapient.kpidashboard.apis.common.service.impl.KpiExecutionEngine;
+import com.publicissapient.kpidashboard.apis.common.service.impl.KpiExecutionEngine.KpiExecutionResult;
 import com.publicissapient.kpidashboard.apis.common.service.impl.KpiHelperService;
 import com.publicissapient.kpidashboard.apis.config.CustomApiConfig;
 import com.publicissapient.kpidashboard.apis.enums.KPICode;
@@ -48,6 +47,7 @@ import com.publicissapient.kpidashboard.apis.jira.factory.JiraNonTrendKPIService
 import com.publicissapient.kpidashboard.apis.jira.service.JiraNonTrendKPIServiceR;
 import com.publicissapient.kpidashboard.apis.model.AccountHierarchyData;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.Node;
 import com.publicissapient.kpidashboard.apis.model.ProjectFilter;
@@ -90,6 +90,7 @@ public class JiraBacklogServiceR implements JiraNonTrendKPIServiceR {
 	@Autowired private JiraIssueReleaseStatusRepository jiraIssueReleaseStatusRepository;
 	@Autowired private CustomApiConfig customApiConfig;
 	@Autowired private ConfigHelperService configHelperService;
+	@Autowired private KpiExecutionEngine kpiExecutionEngine;
 	private List<SprintDetails> futureSprintDetails;
 	private List<JiraIssue> jiraIssueList;
 	private List<JiraIssueCustomHistory> jiraIssueCustomHistoryList;
@@ -141,10 +142,7 @@ public class JiraBacklogServiceR implements JiraNonTrendKPIServiceR {
 					Object cachedData =
 							cacheService.getFromApplicationCache(
 									projectKeyCache, KPISource.JIRA.name(), groupId, kpiRequest.getSprintIncluded());
-					if (!kpiRequest
-									.getRequestTrackerId()
-									.toLowerCase()
-									.contains(KPISource.EXCEL.name().toLowerCase())
+					if (!KpiExecutionContext.isCurrentExcelRequest(kpiRequest.getRequestTrackerId())
 							&& null != cachedData
 							&& isLeadTimeDuration(kpiRequest.getKpiList())) {
 						log.info("Fetching value from cache for {}", Arrays.toString(kpiRequest.getIds()));
@@ -164,12 +162,12 @@ public class JiraBacklogServiceR implements JiraNonTrendKPIServiceR {
 				// projects
 				kpiRequest.setFilterToShowOnTrend(groupName);
 
-				List<ParallelJiraServices> listOfTask = new ArrayList<>();
-				for (KpiElement kpiEle : kpiRequest.getKpiList()) {
-					listOfTask.add(new ParallelJiraServices(kpiRequest, responseList, kpiEle, filteredNode));
-				}
-
-				ForkJoinTask.invokeAll(listOfTask);
+				KpiExecutionResult executionResult =
+						kpiExecutionEngine.execute(
+								KPISource.JIRA.name(),
+								kpiRequest,
+								kpiEle -> calculateAllKPIAggregatedMetrics(kpiRequest, kpiEle, filteredNode));
+				responseList.addAll(executionResult.getKpiElements());
 				List<KpiElement> missingKpis =
 						origRequestedKpis.stream()
 								.filter(
@@ -177,11 +175,14 @@ public class JiraBacklogServiceR implements JiraNonTrendKPIServiceR {
 												responseList.stream()
 														.noneMatch(
 																responseKpi -> reqKpi.getKpiId().equals(responseKpi.getKpiId())))
+								.map(executionResult::markTimedOut)
 								.toList();
 				responseList.addAll(missingKpis);
 
-				kpiHelperService.setIntoApplicationCache(
-						kpiRequest, responseList, groupId, projectKeyCache);
+				if (executionResult.isComplete()) {
+					kpiHelperService.setIntoApplicationCache(
+							kpiRequest, responseList, groupId, projectKeyCache);
+				}
 			} else {
 				responseList.addAll(origRequestedKpis);
 			}
@@ -322,94 +323,58 @@ public class JiraBacklogServiceR implements JiraNonTrendKPIServiceR {
 		return sprintNames;
 	}
 
-	public class ParallelJiraServices extends RecursiveAction {
-		@Serial private static final long serialVersionUID = 1L;
-		private final KpiRequest kpiRequest;
-		private final transient List<KpiElement> responseList;
-		private final transient KpiElement kpiEle;
-		Node filteredAccountData;
-
-		/*
-		 * @param kpiRequest
-		 *
-		 * @param responseList
-		 *
-		 * @param kpiEle
-		 *
-		 * @param treeAggregatorDetail
-		 */
-		public ParallelJiraServices(
-				KpiRequest kpiRequest,
-				List<KpiElement> responseList,
-				KpiElement kpiEle,
-				Node filteredAccountData) {
-			super();
-			this.kpiRequest = kpiRequest;
-			this.responseList = responseList;
-			this.kpiEle = kpiEle;
-			this.filteredAccountData = filteredAccountData;
-		}
-
-		/**
-		 * {@inheritDoc}
-		 *
-		 * @return
-		 */
-		@Override
-		public void compute() {
-
-			threadLocalJiraIssues.set(jiraIssueList);
-			threadLocalHistory.set(jiraIssueCustomHistoryList);
-			threadLocalExcludeActiveSprint.set(excludeActiveSprintIssueIds);
-			responseList.add(calculateAllKPIAggregatedMetrics(kpiRequest, kpiEle, filteredAccountData));
-		}
+	/**
+	 * This method call by multiple thread, take object of specific KPI and call method of these
+	 * KPIs
+	 *
+	 * @param kpiRequest JIRA KPI request
+	 * @param kpiElement kpiElement object
+	 * @param filteredAccountNode filter tree object
+	 * @return Kpielement
+	 */
+	private KpiElement calculateAllKPIAggregatedMetrics(
+			KpiRequest kpiRequest, KpiElement kpiElement, Node filteredAccountNode) {
+		threadLocalJiraIssues.set(jiraIssueList);
+		threadLocalHistory.set(jiraIssueCustomHistoryList);
+		threadLocalExcludeActiveSprint.set(excludeActiveSprintIssueIds);
+		try {
 
-		/**
-		 * This method call by multiple thread, take object of specific KPI and call method of these
-		 * KPIs
-		 *
-		 * @param kpiRequest JIRA KPI request
-		 * @param kpiElement kpiElement object
-		 * @param filteredAccountNode filter tree object
-		 * @return Kpielement
-		 */
-		private KpiElement calculateAllKPIAggregatedMetrics(
-				KpiRequest kpiRequest, KpiElement kpiElement, Node filteredAccountNode) {
-			try {
-
-				KPICode kpi = KPICode.getKPI(kpiElement.getKpiId());
-
-				JiraBacklogKPIService jiraKPIService =
-						(JiraBacklogKPIService) JiraNonTrendKPIServiceFactory.getJiraKPIService(kpi.name());
-				long startTime = System.currentTimeMillis();
-				if (KPICode.THROUGHPUT.equals(kpi)) {
-					log.info("No need to fetch Throughput KPI data");
-				} else {
-					Node nodeDataClone = (Node) SerializationUtils.clone(filteredAccountNode);
-					if (Objects.nonNull(nodeDataClone)
-							&& kpiHelperService.isToolConfigured(kpi, kpiElement, nodeDataClone)) {
-						kpiElement = jiraKPIService.getKpiData(kpiRequest, kpiElement, nodeDataClone);
-						kpiElement.setResponseCode(CommonConstant.KPI_PASSED);
-						kpiHelperService.isMandatoryFieldSet(kpi, kpiElement, nodeDataClone);
-					}
+			KPICode kpi = KPICode.getKPI(kpiElement.getKpiId());
 
-					long processTime = System.currentTimeMillis() - startTime;
-					log.info(
-							"[JIRA-{}-TIME][{}]. KPI took {} ms",
-							kpi.name(),
-							kpiRequest.getRequestTrackerId(),
-							processTime);
+			JiraBacklogKPIService jiraKPIService =
+					(JiraBacklogKPIService) JiraNonTrendKPIServiceFactory.getJiraKPIService(kpi.name());
+			long startTime = System.currentTimeMillis();
+			if (KPICode.THROUGHPUT.equals(kpi)) {
+				log.info("No need to fetch Throughput KPI data");
+			} else {
+				Node nodeDataClone = (Node) SerializationUtils.clone(filteredAccountNode);
+				if (Objects.nonNull(nodeDataClone)
+						&& kpiHelperService.isToolConfigured(kpi, kpiElement, nodeDataClone)) {
+					kpiElement = jiraKPIService.getKpiData(kpiRequest, kpiElement, nodeDataClone);
+					kpiElement.setResponseCode(CommonConstant.KPI_PASSED);
+					kpiHelperService.isMandatoryFieldSet(kpi, kpiElement, nodeDataClone);
 				}
-			} catch (ApplicationException exception) {
-				kpiElement.setResponseCode(CommonConstant.KPI_FAILED);
-				log.error("Kpi not found", exception);
-			} catch (Exception exception) {
-				kpiElement.setResponseCode(CommonConstant.KPI_FAILED);
-				log.error("[PARALLEL_JIRA_BACKLOG_SERVICE].Exception occurred", exception);
-				return kpiElement;
+
+				long processTime = System.currentTimeMillis() - startTime;
+				log.info(
+						"[JIRA-{}-TIME][{}]. KPI took {} ms",
+						kpi.name(),
+						kpiRequest.getRequestTrackerId(),
+						processTime);
 			}
+		} catch (ApplicationException exception) {
+			kpiElement.setResponseCode(CommonConstant.KPI_FAILED);
+			log.error("Kpi not found", exception);
+		} catch (Exception exception) {
+			kpiElement.setResponseCode(CommonConstant.KPI_FAILED);
+			log.error("[PARALLEL_JIRA_BACKLOG_SERVICE].Exception occurred", exception);
 			return kpiElement;
+		} finally {
+			threadLocalJiraIssues.remove();
+			threadLocalHistory.remove();
+			threadLocalExcludeActiveSprint.remove();
 		}
+		return kpiElement;
 	}
 
 	public List<KpiElement> processWithExposedApiToken(KpiRequest kpiRequest)
@@ -0,0 +1,68 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+
+
+package com.publicissapient.kpidashboard.apis.jira.service.iterationdashboard;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.commons.collections4.CollectionUtils;
+
+import com.publicissapient.kpidashboard.common.model.jira.JiraIssue;
+import com.publicissapient.kpidashboard.common.model.jira.JiraIssueCustomHistory;
+import com.publicissapient.kpidashboard.common.model.jira.SprintDetails;
+
+/**
+ * Sprint, issues and issue histories of the sprint selected on the Iteration board, loaded once per
+ * request and read by all the iteration KPIs of the request concurrently. The lists cannot be
+ * modified, nor can the sprint and status change logs of the histories, which are sorted by update
+ * time when loaded. The KPIs work on copies of the sprint, see {@link
+ * JiraIterationKPIService#getSprintDetailsFromBaseClass()}, and of the issues and change logs they
+ * modify.
+ *
+ * @param sprintDetails details of the selected sprints
+ * @param jiraIssues issues of the sprints
+ * @param jiraIssueCustomHistories histories of the issues
+ */
+public record IterationSprintDataset(
+		List<SprintDetails> sprintDetails,
+		List<JiraIssue> jiraIssues,
+		List<JiraIssueCustomHistory> jiraIssueCustomHistories) {
+
+	/** Dataset of a request for which no sprint data is loaded. */
+	public static final IterationSprintDataset EMPTY = new IterationSprintDataset(null, null, null);
+
+	public IterationSprintDataset {
+		sprintDetails = unmodifiableCopy(sprintDetails);
+		jiraIssues = unmodifiableCopy(jiraIssues);
+		jiraIssueCustomHistories = unmodifiableCopy(jiraIssueCustomHistories);
+	}
+
+	/**
+	 * @return the first selected sprint, null if there is none
+	 */
+	public SprintDetails currentSprint() {
+		return sprintDetails.isEmpty() ? null : sprintDetails.get(0);
+	}
+
+	private static <T> List<T> unmodifiableCopy(List<T> list) {
+		return Collections.unmodifiableList(new ArrayList<>(CollectionUtils.emptyIfNull(list)));
+	}
+}
@@ -18,26 +18,28 @@
 
 package com.publicissapient.kpidashboard.apis.jira.service.iterationdashboard;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import com.publicissapient.kpidashboard.apis.common.service.CacheService;
-import com.publicissapient.kpidashboard.apis.constant.Constant;
-import com.publicissapient.kpidashboard.apis.enums.KPISource;
 import com.publicissapient.kpidashboard.apis.jira.service.NonTrendKPIService;
 import com.publicissapient.kpidashboard.apis.model.IterationKpiData;
 import com.publicissapient.kpidashboard.apis.model.IterationKpiModalValue;
 import com.publicissapient.kpidashboard.apis.model.IterationKpiValue;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.common.constant.CommonConstant;
 import com.publicissapient.kpidashboard.common.model.application.FieldMapping;
 import com.publicissapient.kpidashboard.common.model.jira.IterationStatus;
 import com.publicissapient.kpidashboard.common.model.jira.JiraIssue;
 import com.publicissapient.kpidashboard.common.model.jira.JiraIssueCustomHistory;
 import com.publicissapient.kpidashboard.common.model.jira.SprintDetails;
+import com.publicissapient.kpidashboard.common.model.jira.SprintIssue;
 import com.publicissapient.kpidashboard.common.model.kpibenchmark.BenchmarkPercentiles;
 import com.publicissapient.kpidashboard.common.model.kpibenchmark.KpiBenchmarkValues;
 import com.publicissapient.kpidashboard.common.util.DateUtil;
@@ -57,13 +59,13 @@ public abstract class JiraIterationKPIService implements NonTrendKPIService {
 
 	/**
 	 * Returns API Request tracker Id to be used for logging/debugging and using it for maintaining
-	 * any sort of cache.
+	 * any sort of cache. The id is the one of the request computing the KPI, empty outside of a KPI
+	 * request.
 	 *
 	 * @return Scrum Request Tracker Id
 	 */
 	public String getRequestTrackerId() {
-		return cacheService.getFromApplicationCache(
-				Constant.KPI_REQUEST_TRACKER_ID_KEY + KPISource.JIRA.name());
+		return KpiExecutionContext.currentRequestTrackerId();
 	}
 
 	public void populateIterationStatusData(
@@ -139,16 +141,30 @@ public abstract class JiraIterationKPIService implements NonTrendKPIService {
 		return iterationKpiData;
 	}
 
+	/**
+	 * Returns a copy of the selected sprint. The issue sets are copied as well since the iteration
+	 * KPIs of a request run concurrently and modify them when applying the field mappings.
+	 *
+	 * @return copy of the selected sprint, null if there is none
+	 */
 	public SprintDetails getSprintDetailsFromBaseClass() {
 		SprintDetails sprintDetails;
 		try {
 			sprintDetails = (SprintDetails) jiraIterationServiceR.getCurrentSprintDetails().clone();
 		} catch (CloneNotSupportedException e) {
-			sprintDetails = null;
+			return null;
 		}
+		sprintDetails.setCompletedIssues(copyOf(sprintDetails.getCompletedIssues()));
+		sprintDetails.setNotCompletedIssues(copyOf(sprintDetails.getNotCompletedIssues()));
+		sprintDetails.setPuntedIssues(copyOf(sprintDetails.getPuntedIssues()));
+		sprintDetails.setTotalIssues(copyOf(sprintDetails.getTotalIssues()));
 		return sprintDetails;
 	}
 
+	private static Set<SprintIssue> copyOf(Set<SprintIssue> sprintIssues) {
+		return null == sprintIssues ? null : new HashSet<>(sprintIssues);
+	}
+
 	public List<JiraIssue> getJiraIssuesFromBaseClass(List<String> numbersList) {
 		return jiraIterationServiceR.getJiraIssuesForCurrentSprint().stream()
 				.filter(jiraIssue -> numbersList.contains(jiraIssue.getNumber()))
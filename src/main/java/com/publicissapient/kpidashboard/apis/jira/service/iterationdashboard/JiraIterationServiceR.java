@@ -18,15 +18,13 @@ package com.publicissapient.kpidashboard.apis.jira.service.iterationdashboard;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 import org.apache.commons.collections4.CollectionUtils;
@@ -39,6 +37,8 @@ import org.springframework.stereotype.Service;
 
 import com.publicissapient.kpidashboard.apis.auth.apikey.ApiKeyAuthenticationService;
 import com.publicissapient.kpidashboard.apis.common.service.CacheService;
+import com.publicissapient.kpidashboard.apis.common.service.impl.KpiExecutionEngine;
+import com.publicissapient.kpidashboard.apis.common.service.impl.KpiExecutionEngine.KpiExecutionResult;
 import com.publicissapient.kpidashboard.apis.common.service.impl.KpiHelperService;
 import com.publicissapient.kpidashboard.apis.enums.JiraFeature;
 import com.publicissapient.kpidashboard.apis.enums.KPICode;
@@ -50,6 +50,7 @@ import com.publicissapient.kpidashboard.apis.jira.factory.JiraNonTrendKPIService
 import com.publicissapient.kpidashboard.apis.jira.service.JiraNonTrendKPIServiceR;
 import com.publicissapient.kpidashboard.apis.model.AccountHierarchyData;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.Node;
 import com.publicissapient.kpidashboard.apis.model.ProjectFilter;
@@ -57,6 +58,7 @@ import com.publicissapient.kpidashboard.apis.model.SprintFilter;
 import com.publicissapient.kpidashboard.common.constant.CommonConstant;
 import com.publicissapient.kpidashboard.common.model.application.AdditionalFilterCategory;
 import com.publicissapient.kpidashboard.common.model.jira.JiraIssue;
+import com.publicissapient.kpidashboard.common.model.jira.JiraHistoryChangeLog;
 import com.publicissapient.kpidashboard.common.model.jira.JiraIssueCustomHistory;
 import com.publicissapient.kpidashboard.common.model.jira.SprintDetails;
 import com.publicissapient.kpidashboard.common.model.jira.SprintIssue;
@@ -80,21 +82,15 @@ import lombok.extern.slf4j.Slf4j;
 @Service
 public class JiraIterationServiceR implements JiraNonTrendKPIServiceR {
 
-	private final ThreadLocal<List<SprintDetails>> threadLocalSprintDetails =
-			ThreadLocal.withInitial(ArrayList::new);
-	private final ThreadLocal<List<JiraIssue>> threadLocalJiraIssues =
-			ThreadLocal.withInitial(ArrayList::new);
-	private final ThreadLocal<List<JiraIssueCustomHistory>> threadLocalHistory =
-			ThreadLocal.withInitial(ArrayList::new);
+	private final ThreadLocal<IterationSprintDataset> currentSprintDataset =
+			ThreadLocal.withInitial(() -> IterationSprintDataset.EMPTY);
 	@Autowired private KpiHelperService kpiHelperService;
 	@Autowired private FilterHelperService filterHelperService;
 	@Autowired private CacheService cacheService;
 	@Autowired private SprintRepository sprintRepository;
 	@Autowired private JiraIssueRepository jiraIssueRepository;
 	@Autowired private JiraIssueCustomHistoryRepository jiraIssueCustomHistoryRepository;
-	private List<SprintDetails> sprintDetails;
-	private List<JiraIssue> jiraIssueList;
-	private List<JiraIssueCustomHistory> jiraIssueCustomHistoryList;
+	@Autowired private KpiExecutionEngine kpiExecutionEngine;
 	private boolean referFromProjectCache = true;
 
 	/**
@@ -143,10 +139,7 @@ public class JiraIterationServiceR implements JiraNonTrendKPIServiceR {
 					Object cachedData =
 							cacheService.getFromApplicationCache(
 									projectKeyCache, KPISource.JIRA.name(), groupId, kpiRequest.getSprintIncluded());
-					if (!kpiRequest
-									.getRequestTrackerId()
-									.toLowerCase()
-									.contains(KPISource.EXCEL.name().toLowerCase())
+					if (!KpiExecutionContext.isCurrentExcelRequest(kpiRequest.getRequestTrackerId())
 							&& null != cachedData) {
 						log.info("Fetching value from cache for {}", Arrays.toString(kpiRequest.getIds()));
 						return (List<KpiElement>) cachedData;
@@ -155,41 +148,27 @@ public class JiraIterationServiceR implements JiraNonTrendKPIServiceR {
 
 				Node filteredNode = getFilteredNodes(filteredAccountDataList);
 				if (filteredNode != null) {
-					if (CollectionUtils.isNotEmpty(origRequestedKpis)
-							&& StringUtils.isNotEmpty(origRequestedKpis.get(0).getKpiCategory())) {
-						updateJiraIssueList(kpiRequest, filteredAccountDataList);
-					}
+					IterationSprintDataset sprintDataset =
+							CollectionUtils.isNotEmpty(origRequestedKpis)
+											&& StringUtils.isNotEmpty(origRequestedKpis.get(0).getKpiCategory())
+									? loadSprintDataset(kpiRequest, filteredAccountDataList)
+									: IterationSprintDataset.EMPTY;
 					// set filter value to show on trend line. If subprojects are
 					// in
 					// selection then show subprojects on trend line else show
 					// projects
 					kpiRequest.setFilterToShowOnTrend(groupName);
 
-					ExecutorService executorService =
-							Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
-
-					List<CompletableFuture<Void>> futures = new ArrayList<>();
-
-					CompletableFuture<Void> future =
-							CompletableFuture.runAsync(
-									() -> {
-										for (KpiElement kpiEle : kpiRequest.getKpiList()) {
-											threadLocalSprintDetails.set(sprintDetails);
-											threadLocalJiraIssues.set(jiraIssueList);
-											threadLocalHistory.set(jiraIssueCustomHistoryList);
-											responseList.add(
-													calculateAllKPIAggregatedMetrics(kpiRequest, kpiEle, filteredNode));
-										}
-									},
-									executorService);
-					futures.add(future);
-
-					CompletableFuture<Void>[] futureArray = futures.toArray(new CompletableFuture[0]);
-
-					CompletableFuture<Void> allOf = CompletableFuture.allOf(futureArray);
-					allOf.join(); // Wait for all tasks to complete
-
-					executorService.shutdown();
+					// the sprint data is shared read only, the iteration KPIs work on copies of the sprint,
+					// of the sprint issues and of the change logs they sort, hence computed in parallel
+					KpiExecutionResult executionResult =
+							kpiExecutionEngine.execute(
+									KPISource.JIRA.name(),
+									kpiRequest,
+									kpiEle ->
+											calculateAllKPIAggregatedMetrics(
+													kpiRequest, kpiEle, filteredNode, sprintDataset));
+					responseList.addAll(executionResult.getKpiElements());
 
 					List<KpiElement> missingKpis =
 							origRequestedKpis.stream()
@@ -198,11 +177,14 @@ public class JiraIterationServiceR implements JiraNonTrendKPIServiceR {
 													responseList.stream()
 															.noneMatch(
 																	responseKpi -> reqKpi.getKpiId().equals(responseKpi.getKpiId())))
+									.map(executionResult::markTimedOut)
 									.toList();
 					responseList.addAll(missingKpis);
 
-					kpiHelperService.setIntoApplicationCache(
-							kpiRequest, responseList, groupId, projectKeyCache);
+					if (executionResult.isComplete()) {
+						kpiHelperService.setIntoApplicationCache(
+								kpiRequest, responseList, groupId, projectKeyCache);
+					}
 				}
 			} else {
 				responseList.addAll(origRequestedKpis);
@@ -211,10 +193,6 @@ public class JiraIterationServiceR implements JiraNonTrendKPIServiceR {
 		} catch (Exception e) {
 			log.error("Error while KPI calculation for data {}", kpiRequest.getKpiList(), e);
 			throw new HttpMessageNotWritableException(e.getMessage(), e);
-		} finally {
-			threadLocalSprintDetails.remove();
-			threadLocalJiraIssues.remove();
-			threadLocalHistory.remove();
 		}
 
 		return responseList;
@@ -286,41 +264,61 @@ public class JiraIterationServiceR implements JiraNonTrendKPIServiceR {
 				.collect(Collectors.toList());
 	}
 
-	private void updateJiraIssueList(
+	private IterationSprintDataset loadSprintDataset(
 			KpiRequest kpiRequest, List<AccountHierarchyData> filteredAccountDataList) {
-		fetchSprintDetails(kpiRequest.getSelectedMap().get(CommonConstant.SPRINT));
+		List<SprintDetails> sprintDetails =
+				sprintRepository.findBySprintIDIn(kpiRequest.getSelectedMap().get(CommonConstant.SPRINT));
 		String basicConfigId = filteredAccountDataList.get(0).getBasicProjectConfigId().toString();
-		List<String> sprintIssuesList = createIssuesList(basicConfigId);
-		fetchJiraIssues(kpiRequest, basicConfigId, sprintIssuesList);
-		fetchJiraIssuesCustomHistory(basicConfigId);
+		List<String> sprintIssuesList = createIssuesList(sprintDetails, basicConfigId);
+		List<JiraIssue> jiraIssueList = fetchJiraIssues(kpiRequest, basicConfigId, sprintIssuesList);
+		List<JiraIssueCustomHistory> jiraIssueCustomHistoryList =
+				fetchJiraIssuesCustomHistory(jiraIssueList, basicConfigId);
+		jiraIssueCustomHistoryList.forEach(JiraIterationServiceR::sortChangeLogs);
+		return new IterationSprintDataset(sprintDetails, jiraIssueList, jiraIssueCustomHistoryList);
 	}
 
-	public void fetchSprintDetails(List<String> sprintId) {
-		sprintDetails = sprintRepository.findBySprintIDIn(sprintId);
+	/**
+	 * Sorts the sprint and status change logs read by the iteration KPIs by update time, once for
+	 * all of them, and makes them unmodifiable since the KPIs read them concurrently.
+	 */
+	private static void sortChangeLogs(JiraIssueCustomHistory history) {
+		history.setSprintUpdationLog(sortedByUpdate(history.getSprintUpdationLog()));
+		history.setStatusUpdationLog(sortedByUpdate(history.getStatusUpdationLog()));
 	}
 
-	public SprintDetails getCurrentSprintDetails() {
-		return threadLocalSprintDetails.get().stream().findFirst().orElse(null);
+	private static List<JiraHistoryChangeLog> sortedByUpdate(List<JiraHistoryChangeLog> changeLogs) {
+		if (null == changeLogs) {
+			return null;
+		}
+		List<JiraHistoryChangeLog> sorted = new ArrayList<>(changeLogs);
+		sorted.sort(
+				Comparator.comparing(
+						JiraHistoryChangeLog::getUpdatedOn, Comparator.nullsLast(Comparator.naturalOrder())));
+		return Collections.unmodifiableList(sorted);
 	}
 
-	public void setSprintDetails(List<SprintDetails> modifiedSprintDetails) {
-		sprintDetails = modifiedSprintDetails;
+	/**
+	 * @return the selected sprint of the iteration request computed by the current thread, null
+	 *     outside of an iteration KPI
+	 */
+	public SprintDetails getCurrentSprintDetails() {
+		return currentSprintDataset.get().currentSprint();
 	}
 
-	public void fetchJiraIssues(
+	private List<JiraIssue> fetchJiraIssues(
 			KpiRequest kpiRequest, String basicConfigId, List<String> sprintIssuesList) {
 		Map<String, Object> mapOfFilter = new HashMap<>();
 		createAdditionalFilterMap(kpiRequest, mapOfFilter);
 		Map<String, Map<String, Object>> uniqueProjectMap = new HashMap<>();
 		uniqueProjectMap.put(basicConfigId, mapOfFilter);
-		jiraIssueList =
-				jiraIssueRepository.findIssueByNumberWithAdditionalFilter(
-						new HashSet<>(sprintIssuesList), uniqueProjectMap);
+		return jiraIssueRepository.findIssueByNumberWithAdditionalFilter(
+				new HashSet<>(sprintIssuesList), uniqueProjectMap);
 	}
 
-	private List<String> createIssuesList(String basicProjectConfigId) {
+	private List<String> createIssuesList(
+			List<SprintDetails> sprintDetails, String basicProjectConfigId) {
 		List<String> totalIssuesList = new ArrayList<>();
-		sprintDetails.stream()
+		CollectionUtils.emptyIfNull(sprintDetails).stream()
 				.filter(sd -> sd.getBasicProjectConfigId().toString().equals(basicProjectConfigId))
 				.forEach(
 						sprintDetails1 -> {
@@ -354,22 +352,26 @@ public class JiraIterationServiceR implements JiraNonTrendKPIServiceR {
 	}
 
 	public List<JiraIssue> getJiraIssuesForCurrentSprint() {
-		return threadLocalJiraIssues.get();
+		return currentSprintDataset.get().jiraIssues();
 	}
 
-	public void fetchJiraIssuesCustomHistory(String basicProjectConfigId) {
+	private List<JiraIssueCustomHistory> fetchJiraIssuesCustomHistory(
+			List<JiraIssue> jiraIssueList, String basicProjectConfigId) {
 		List<String> issueList = jiraIssueList.stream().map(JiraIssue::getNumber).toList();
-		jiraIssueCustomHistoryList =
-				jiraIssueCustomHistoryRepository.findByStoryIDInAndBasicProjectConfigIdIn(
-						issueList, Collections.singletonList(basicProjectConfigId));
+		return jiraIssueCustomHistoryRepository.findByStoryIDInAndBasicProjectConfigIdIn(
+				issueList, Collections.singletonList(basicProjectConfigId));
 	}
 
 	public List<JiraIssueCustomHistory> getJiraIssuesCustomHistoryForCurrentSprint() {
-		return threadLocalHistory.get();
+		return currentSprintDataset.get().jiraIssueCustomHistories();
 	}
 
 	private KpiElement calculateAllKPIAggregatedMetrics(
-			KpiRequest kpiRequest, KpiElement kpiElement, Node filteredAccountNode) {
+			KpiRequest kpiRequest,
+			KpiElement kpiElement,
+			Node filteredAccountNode,
+			IterationSprintDataset sprintDataset) {
+		currentSprintDataset.set(sprintDataset);
 		try {
 			KPICode kpi = KPICode.getKPI(kpiElement.getKpiId());
 
@@ -400,6 +402,8 @@ public class JiraIterationServiceR implements JiraNonTrendKPIServiceR {
 			kpiElement.setResponseCode(CommonConstant.KPI_FAILED);
 			log.error("Error while KPI calculation for data {}", kpiRequest.getKpiList(), exception);
 			return kpiElement;
+		} finally {
+			currentSprintDataset.remove();
 		}
 		return kpiElement;
 	}
@@ -23,10 +23,9 @@ import org.apache.commons.collections4.CollectionUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import com.publicissapient.kpidashboard.apis.common.service.CacheService;
-import com.publicissapient.kpidashboard.apis.constant.Constant;
-import com.publicissapient.kpidashboard.apis.enums.KPISource;
 import com.publicissapient.kpidashboard.apis.jira.service.NonTrendKPIService;
 import com.publicissapient.kpidashboard.apis.model.IterationKpiValue;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.common.constant.NormalizedJira;
 import com.publicissapient.kpidashboard.common.model.application.FieldMapping;
 import com.publicissapient.kpidashboard.common.model.jira.JiraIssue;
@@ -47,13 +46,13 @@ public abstract class JiraReleaseKPIService implements NonTrendKPIService {
 
 	/**
 	 * Returns API Request tracker Id to be used for logging/debugging and using it for maintaining
-	 * any sort of cache.
+	 * any sort of cache. The id is the one of the request computing the KPI, empty outside of a KPI
+	 * request.
 	 *
 	 * @return Scrum Request Tracker Id
 	 */
 	public String getRequestTrackerId() {
-		return cacheService.getFromApplicationCache(
-				Constant.KPI_REQUEST_TRACKER_ID_KEY + KPISource.JIRA.name());
+		return KpiExecutionContext.currentRequestTrackerId();
 	}
 
 	public double roundingOff(double value) {
@@ -89,7 +88,7 @@ public abstract class JiraReleaseKPIService implements NonTrendKPIService {
 					jiraIssuesForCurrentRelease.stream()
 							.filter(jiraIssue -> defectType.contains(jiraIssue.getTypeName()))
 							.toList());
-		} else filteredJiraIssue = jiraIssuesForCurrentRelease;
+		} else filteredJiraIssue = new ArrayList<>(jiraIssuesForCurrentRelease);
 		return filteredJiraIssue;
 	}
 
@@ -17,14 +17,12 @@ package com.publicissapient.kpidashboard.apis.jira.service.releasedashboard;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 import org.apache.commons.collections4.CollectionUtils;
@@ -39,6 +37,8 @@ import org.springframework.stereotype.Service;
 import com.publicissapient.kpidashboard.apis.appsetting.service.ConfigHelperService;
 import com.publicissapient.kpidashboard.apis.auth.apikey.ApiKeyAuthenticationService;
 import com.publicissapient.kpidashboard.apis.common.service.CacheService;
+import com.publicissapient.kpidashboard.apis.common.service.impl.KpiExecutionEngine;
+import com.publicissapient.kpidashboard.apis.common.service.impl.KpiExecutionEngine.KpiExecutionResult;
 import com.publicissapient.kpidashboard.apis.common.service.impl.KpiHelperService;
 import com.publicissapient.kpidashboard.apis.enums.KPICode;
 import com.publicissapient.kpidashboard.apis.enums.KPISource;
@@ -49,6 +49,7 @@ import com.publicissapient.kpidashboard.apis.jira.factory.JiraNonTrendKPIService
 import com.publicissapient.kpidashboard.apis.jira.service.JiraNonTrendKPIServiceR;
 import com.publicissapient.kpidashboard.apis.model.AccountHierarchyData;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.Node;
 import com.publicissapient.kpidashboard.apis.model.ProjectFilter;
@@ -57,6 +58,7 @@ import com.publicissapient.kpidashboard.apis.util.CommonUtils;
 import com.publicissapient.kpidashboard.common.constant.CommonConstant;
 import com.publicissapient.kpidashboard.common.constant.NormalizedJira;
 import com.publicissapient.kpidashboard.common.model.application.FieldMapping;
+import com.publicissapient.kpidashboard.common.model.jira.JiraHistoryChangeLog;
 import com.publicissapient.kpidashboard.common.model.jira.JiraIssue;
 import com.publicissapient.kpidashboard.common.model.jira.JiraIssueCustomHistory;
 import com.publicissapient.kpidashboard.common.model.jira.JiraIssueReleaseStatus;
@@ -77,15 +79,9 @@ import lombok.extern.slf4j.Slf4j;
 @Service
 public class JiraReleaseServiceR implements JiraNonTrendKPIServiceR {
 
-	private final ThreadLocal<List<JiraIssue>> threadLocalJiraIssues =
-			ThreadLocal.withInitial(ArrayList::new);
-	private final ThreadLocal<List<JiraIssueCustomHistory>> threadLocalHistory =
-			ThreadLocal.withInitial(ArrayList::new);
-	private final ThreadLocal<List<JiraIssue>> threadReleaseIssues =
-			ThreadLocal.withInitial(ArrayList::new);
-	private final ThreadLocal<Set<JiraIssue>> threadSubtaskDefects =
-			ThreadLocal.withInitial(HashSet::new);
-	JiraIssueReleaseStatus jiraIssueReleaseStatus = new JiraIssueReleaseStatus();
+	/** release data of the request whose KPI is computed by the current thread */
+	private final ThreadLocal<ReleaseData> threadReleaseData = new ThreadLocal<>();
+
 	@Autowired private KpiHelperService kpiHelperService;
 	@Autowired private FilterHelperService filterHelperService;
 	@Autowired private CacheService cacheService;
@@ -93,13 +89,8 @@ public class JiraReleaseServiceR implements JiraNonTrendKPIServiceR {
 	@Autowired private JiraIssueCustomHistoryRepository jiraIssueCustomHistoryRepository;
 	@Autowired private ConfigHelperService configHelperService;
 	@Autowired private JiraIssueReleaseStatusRepository jiraIssueReleaseStatusRepository;
+	@Autowired private KpiExecutionEngine kpiExecutionEngine;
 	@Autowired ProjectReleaseRepo projectReleaseRepo;
-	private List<JiraIssue> jiraIssueList;
-	private List<JiraIssue> jiraIssueReleaseList;
-	private Set<JiraIssue> subtaskDefectReleaseList;
-	private List<JiraIssueCustomHistory> jiraIssueCustomHistoryList;
-	private List<String> releaseList;
-	private boolean referFromProjectCache = true;
 
 	/**
 	 * This method process scrum jira based release kpis request, cache data and call service in
@@ -109,9 +100,14 @@ public class JiraReleaseServiceR implements JiraNonTrendKPIServiceR {
 	 * @return List of KPI data
 	 * @throws EntityNotFoundException EntityNotFoundException
 	 */
-	@SuppressWarnings({"PMD.AvoidCatchingGenericException", "unchecked"})
 	@Override
 	public List<KpiElement> process(KpiRequest kpiRequest) throws EntityNotFoundException {
+		return process(kpiRequest, true);
+	}
+
+	@SuppressWarnings({"PMD.AvoidCatchingGenericException", "unchecked"})
+	private List<KpiElement> process(KpiRequest kpiRequest, boolean referFromProjectCache)
+			throws EntityNotFoundException {
 
 		log.info("Processing KPI calculation for data {}", kpiRequest.getKpiList());
 		List<KpiElement> origRequestedKpis =
@@ -147,10 +143,7 @@ public class JiraReleaseServiceR implements JiraNonTrendKPIServiceR {
 					Object cachedData =
 							cacheService.getFromApplicationCache(
 									projectKeyCache, KPISource.JIRA.name(), groupId, kpiRequest.getSprintIncluded());
-					if (!kpiRequest
-									.getRequestTrackerId()
-									.toLowerCase()
-									.contains(KPISource.EXCEL.name().toLowerCase())
+					if (!KpiExecutionContext.isCurrentExcelRequest(kpiRequest.getRequestTrackerId())
 							&& null != cachedData) {
 						log.info("Fetching value from cache for {}", Arrays.toString(kpiRequest.getIds()));
 						return (List<KpiElement>) cachedData;
@@ -159,42 +152,26 @@ public class JiraReleaseServiceR implements JiraNonTrendKPIServiceR {
 
 				Node filteredNode = getFilteredNodes(kpiRequest, filteredAccountDataList);
 
-				if (!CollectionUtils.isEmpty(origRequestedKpis)
-						&& StringUtils.isNotEmpty(origRequestedKpis.get(0).getKpiCategory())) {
-					updateJiraIssueList(filteredAccountDataList, filteredNode);
-				}
+				// loaded once for the request and shared, read only, by its KPIs
+				ReleaseData releaseData =
+						!CollectionUtils.isEmpty(origRequestedKpis)
+										&& StringUtils.isNotEmpty(origRequestedKpis.get(0).getKpiCategory())
+								? loadReleaseData(filteredAccountDataList, filteredNode)
+								: ReleaseData.empty();
 				// set filter value to show on trend line. If subprojects are
 				// in
 				// selection then show subprojects on trend line else show
 				// projects
 				kpiRequest.setFilterToShowOnTrend(groupName);
 
-				ExecutorService executorService =
-						Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
-
-				List<CompletableFuture<Void>> futures = new ArrayList<>();
-
-				for (KpiElement kpiEle : kpiRequest.getKpiList()) {
-					CompletableFuture<Void> future =
-							CompletableFuture.runAsync(
-									() -> {
-										threadLocalJiraIssues.set(jiraIssueList);
-										threadLocalHistory.set(jiraIssueCustomHistoryList);
-										threadReleaseIssues.set(jiraIssueReleaseList);
-										threadSubtaskDefects.set(subtaskDefectReleaseList);
-										responseList.add(
-												calculateAllKPIAggregatedMetrics(kpiRequest, kpiEle, filteredNode));
-									},
-									executorService);
-					futures.add(future);
-				}
-
-				CompletableFuture<Void>[] futureArray = futures.toArray(new CompletableFuture[0]);
-
-				CompletableFuture<Void> allOf = CompletableFuture.allOf(futureArray);
-				allOf.join(); // Wait for all tasks to complete
-
-				executorService.shutdown();
+				KpiExecutionResult executionResult =
+						kpiExecutionEngine.execute(
+								KPISource.JIRA.name(),
+								kpiRequest,
+								kpiEle ->
+										calculateAllKPIAggregatedMetrics(
+												kpiRequest, kpiEle, filteredNode, releaseData));
+				responseList.addAll(executionResult.getKpiElements());
 				List<KpiElement> missingKpis =
 						origRequestedKpis.stream()
 								.filter(
@@ -202,11 +179,14 @@ public class JiraReleaseServiceR implements JiraNonTrendKPIServiceR {
 												responseList.stream()
 														.noneMatch(
 																responseKpi -> reqKpi.getKpiId().equals(responseKpi.getKpiId())))
+								.map(executionResult::markTimedOut)
 								.toList();
 				responseList.addAll(missingKpis);
 
-				kpiHelperService.setIntoApplicationCache(
-						kpiRequest, responseList, groupId, projectKeyCache);
+				if (executionResult.isComplete()) {
+					kpiHelperService.setIntoApplicationCache(
+							kpiRequest, responseList, groupId, projectKeyCache);
+				}
 			} else {
 				responseList.addAll(origRequestedKpis);
 			}
@@ -214,11 +194,6 @@ public class JiraReleaseServiceR implements JiraNonTrendKPIServiceR {
 		} catch (Exception e) {
 			log.error("Error while KPI calculation for data {}", kpiRequest.getKpiList(), e);
 			throw new HttpMessageNotWritableException(e.getMessage(), e);
-		} finally {
-			threadLocalJiraIssues.remove();
-			threadLocalHistory.remove();
-			threadReleaseIssues.remove();
-			threadSubtaskDefects.remove();
 		}
 
 		return responseList;
@@ -268,15 +243,40 @@ public class JiraReleaseServiceR implements JiraNonTrendKPIServiceR {
 		return filteredNode;
 	}
 
-	private void updateJiraIssueList(
+	private ReleaseData loadReleaseData(
 			List<AccountHierarchyData> filteredAccountDataList, Node filteredNode) {
-		releaseList = getReleaseList(filteredNode);
-		fetchJiraIssues(
-				filteredAccountDataList.get(0).getBasicProjectConfigId().toString(), releaseList);
-		fetchJiraIssuesCustomHistory(
-				filteredAccountDataList.get(0).getBasicProjectConfigId().toString(), releaseList);
-		fetchJiraIssueReleaseForProject(
-				filteredAccountDataList.get(0).getBasicProjectConfigId().toString());
+		String basicProjectConfigId =
+				filteredAccountDataList.get(0).getBasicProjectConfigId().toString();
+		List<String> releaseList = getReleaseList(filteredNode);
+		List<JiraIssue> releaseIssues =
+				jiraIssueRepository.findByBasicProjectConfigIdAndReleaseVersionsReleaseNameIn(
+						basicProjectConfigId, releaseList);
+		List<JiraIssueCustomHistory> issueHistory =
+				jiraIssueCustomHistoryRepository.findByFilterAndFromReleaseMap(
+						Collections.singletonList(basicProjectConfigId),
+						CommonUtils.convertToPatternListForSubString(releaseList));
+		issueHistory.forEach(JiraReleaseServiceR::sortFixVersionLog);
+		return new ReleaseData(
+				Collections.unmodifiableList(releaseList),
+				Collections.unmodifiableList(releaseIssues),
+				Collections.unmodifiableSet(
+						fetchSubTaskDefectsRelease(basicProjectConfigId, getStoryIds(releaseIssues))),
+				Collections.unmodifiableList(issueHistory),
+				jiraIssueReleaseStatusRepository.findByBasicProjectConfigId(basicProjectConfigId));
+	}
+
+	/**
+	 * Sorts the fix version change log read by the release KPIs by update time, once for all of them,
+	 * and makes it unmodifiable since the KPIs read it concurrently.
+	 */
+	private static void sortFixVersionLog(JiraIssueCustomHistory history) {
+		if (null != history.getFixVersionUpdationLog()) {
+			List<JiraHistoryChangeLog> sorted = new ArrayList<>(history.getFixVersionUpdationLog());
+			sorted.sort(
+					Comparator.comparing(
+							JiraHistoryChangeLog::getUpdatedOn, Comparator.nullsLast(Comparator.naturalOrder())));
+			history.setFixVersionUpdationLog(Collections.unmodifiableList(sorted));
+		}
 	}
 
 	/**
@@ -292,36 +292,18 @@ public class JiraReleaseServiceR implements JiraNonTrendKPIServiceR {
 		return processedList;
 	}
 
-	public void fetchJiraIssues(String basicProjectConfigId, List<String> releaseList) {
-		jiraIssueReleaseList =
-				jiraIssueRepository.findByBasicProjectConfigIdAndReleaseVersionsReleaseNameIn(
-						basicProjectConfigId, releaseList);
-		Set<String> storyIDs =
-				jiraIssueReleaseList.stream()
-						.filter(
-								jiraIssue ->
-										!jiraIssue
-												.getTypeName()
-												.equalsIgnoreCase(NormalizedJira.DEFECT_TYPE.getValue()))
-						.map(JiraIssue::getNumber)
-						.collect(Collectors.toSet());
-		subtaskDefectReleaseList = fetchSubTaskDefectsRelease(basicProjectConfigId, storyIDs);
+	private static Set<String> getStoryIds(List<JiraIssue> releaseIssues) {
+		return releaseIssues.stream()
+				.filter(
+						jiraIssue ->
+								!jiraIssue.getTypeName().equalsIgnoreCase(NormalizedJira.DEFECT_TYPE.getValue()))
+				.map(JiraIssue::getNumber)
+				.collect(Collectors.toSet());
 	}
 
 	public List<JiraIssue> getJiraIssuesForSelectedRelease() {
-		return threadReleaseIssues.get();
-	}
-
-	public void fetchJiraIssuesCustomHistory(String basicProjectConfigId, List<String> releaseList) {
-		jiraIssueCustomHistoryList =
-				jiraIssueCustomHistoryRepository.findByFilterAndFromReleaseMap(
-						Collections.singletonList(basicProjectConfigId),
-						CommonUtils.convertToPatternListForSubString(releaseList));
-	}
-
-	public void fetchJiraIssueReleaseForProject(String basicProjectConfigId) {
-		jiraIssueReleaseStatus =
-				jiraIssueReleaseStatusRepository.findByBasicProjectConfigId(basicProjectConfigId);
+		ReleaseData releaseData = threadReleaseData.get();
+		return null == releaseData ? new ArrayList<>() : releaseData.releaseIssues();
 	}
 
 	/**
@@ -344,11 +326,13 @@ public class JiraReleaseServiceR implements JiraNonTrendKPIServiceR {
 	}
 
 	public JiraIssueReleaseStatus getJiraIssueReleaseForProject() {
-		return jiraIssueReleaseStatus;
+		ReleaseData releaseData = threadReleaseData.get();
+		return null == releaseData ? new JiraIssueReleaseStatus() : releaseData.releaseStatus();
 	}
 
 	public List<String> getReleaseList() {
-		return releaseList;
+		ReleaseData releaseData = threadReleaseData.get();
+		return null == releaseData ? null : releaseData.releaseList();
 	}
 
 	/**
@@ -362,11 +346,13 @@ public class JiraReleaseServiceR implements JiraNonTrendKPIServiceR {
 	}
 
 	public Set<JiraIssue> getSubTaskDefects() {
-		return threadSubtaskDefects.get();
+		ReleaseData releaseData = threadReleaseData.get();
+		return null == releaseData ? new HashSet<>() : releaseData.subtaskDefects();
 	}
 
 	public List<JiraIssueCustomHistory> getJiraIssuesCustomHistoryForCurrentRelease() {
-		return threadLocalHistory.get();
+		ReleaseData releaseData = threadReleaseData.get();
+		return null == releaseData ? new ArrayList<>() : releaseData.issueHistory();
 	}
 
 	/**
@@ -375,10 +361,15 @@ public class JiraReleaseServiceR implements JiraNonTrendKPIServiceR {
 	 * @param kpiRequest JIRA KPI request
 	 * @param kpiElement kpiElement object
 	 * @param filteredAccountNode filtered node object
+	 * @param releaseData release data of the request
 	 * @return kpielement
 	 */
 	private KpiElement calculateAllKPIAggregatedMetrics(
-			KpiRequest kpiRequest, KpiElement kpiElement, Node filteredAccountNode) {
+			KpiRequest kpiRequest,
+			KpiElement kpiElement,
+			Node filteredAccountNode,
+			ReleaseData releaseData) {
+		threadReleaseData.set(releaseData);
 		try {
 
 			KPICode kpi = KPICode.getKPI(kpiElement.getKpiId());
@@ -410,15 +401,36 @@ public class JiraReleaseServiceR implements JiraNonTrendKPIServiceR {
 			kpiElement.setResponseCode(CommonConstant.KPI_FAILED);
 			log.error("Error while KPI calculation for data {}", kpiRequest.getKpiList(), exception);
 			return kpiElement;
+		} finally {
+			threadReleaseData.remove();
 		}
 		return kpiElement;
 	}
 
 	public List<KpiElement> processWithExposedApiToken(KpiRequest kpiRequest)
 			throws EntityNotFoundException {
-		referFromProjectCache = false;
-		List<KpiElement> kpiElementList = process(kpiRequest);
-		referFromProjectCache = true;
-		return kpiElementList;
+		return process(kpiRequest, false);
+	}
+
+	/**
+	 * Issues, histories and statuses of the selected release, loaded once per request. The lists are
+	 * unmodifiable and the fix version logs are sorted once, so the KPIs of the request can read them
+	 * concurrently, and concurrent requests never see each other's release.
+	 */
+	private record ReleaseData(
+			List<String> releaseList,
+			List<JiraIssue> releaseIssues,
+			Set<JiraIssue> subtaskDefects,
+			List<JiraIssueCustomHistory> issueHistory,
+			JiraIssueReleaseStatus releaseStatus) {
+
+		private static ReleaseData empty() {
+			return new ReleaseData(
+					null,
+					new ArrayList<>(),
+					new HashSet<>(),
+					new ArrayList<>(),
+					new JiraIssueReleaseStatus());
+		}
 	}
 }
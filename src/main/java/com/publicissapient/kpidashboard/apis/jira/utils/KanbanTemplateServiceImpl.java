@@ -31,6 +31,7 @@ import com.publicissapient.kpidashboard.apis.filter.service.FilterHelperService;
 import com.publicissapient.kpidashboard.apis.jira.service.JiraKPIService;
 import com.publicissapient.kpidashboard.apis.model.CustomDateRange;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.Node;
 import com.publicissapient.kpidashboard.apis.model.TreeAggregatorDetail;
@@ -474,7 +475,7 @@ public class KanbanTemplateServiceImpl
 			Map<String, ValidationData> validationDataMap,
 			List<KanbanJiraIssue> projectWiseFeatureMap,
 			String dateProjectKey) {
-		if (requestTrackerId.toLowerCase().contains(KPISource.EXCEL.name().toLowerCase())) {
+		if (KpiExecutionContext.isCurrentExcelRequest(requestTrackerId)) {
 
 			if (CollectionUtils.isNotEmpty(projectWiseFeatureMap)) {
 				ValidationData validationData = new ValidationData();
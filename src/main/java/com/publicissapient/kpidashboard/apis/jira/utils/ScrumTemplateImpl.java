@@ -28,6 +28,7 @@ import com.publicissapient.kpidashboard.apis.errors.ApplicationException;
 import com.publicissapient.kpidashboard.apis.filter.service.FilterHelperService;
 import com.publicissapient.kpidashboard.apis.jira.service.JiraKPIService;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.Node;
 import com.publicissapient.kpidashboard.apis.model.TreeAggregatorDetail;
@@ -362,7 +363,7 @@ public class ScrumTemplateImpl extends JiraKPIService<Double, List<Object>, Map<
 		Map<String, ValidationData> validationDataMap = new HashMap<>();
 		Map<String, List<ResolutionTimeValidation>> sprintWiseResolution = new HashMap<>();
 
-		if (requestTrackerId.toLowerCase().contains(KPISource.EXCEL.name().toLowerCase())) {
+		if (KpiExecutionContext.isCurrentExcelRequest(requestTrackerId)) {
 			kpiElement.setMapOfSprintAndData(validationDataMap);
 		}
 
@@ -505,7 +506,7 @@ public class ScrumTemplateImpl extends JiraKPIService<Double, List<Object>, Map<
 			List<String> storyIdList,
 			List<JiraIssue> sprintWiseDefectList) {
 
-		if (requestTrackerId.toLowerCase().contains(KPISource.EXCEL.name().toLowerCase())) {
+		if (KpiExecutionContext.isCurrentExcelRequest(requestTrackerId)) {
 			ValidationData validationData = new ValidationData();
 			validationData.setStoryKeyList(storyIdList);
 			validationData.setDefectKeyList(
@@ -20,15 +20,14 @@ package com.publicissapient.kpidashboard.apis.logging; // NOPMD
 
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 
-import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -37,18 +36,16 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 import javax.activation.MimeType;
 import javax.activation.MimeTypeParseException;
 
-import org.apache.commons.io.output.TeeOutputStream;
 import org.apache.commons.lang.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpMethod;
 
-import com.mongodb.BasicDBObject;
 import com.publicissapient.kpidashboard.apis.config.CustomApiConfig;
 import com.publicissapient.kpidashboard.common.model.application.RequestLog;
-import com.publicissapient.kpidashboard.common.repository.application.RequestLogRepository;
 
 import jakarta.servlet.Filter;
 import jakarta.servlet.FilterChain;
@@ -70,8 +67,9 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class LoggingFilter implements Filter {
 
-	@Autowired private RequestLogRepository requestLogRepository;
+	@Autowired private RequestLogWriter requestLogWriter;
 	@Autowired private CustomApiConfig settings;
+	private final AtomicLong loggedRequests = new AtomicLong();
 
 	@Override
 	public void init(FilterConfig filterConfig) throws ServletException {
@@ -87,8 +85,10 @@ public class LoggingFilter implements Filter {
 		HttpServletResponse httpServletResponse = (HttpServletResponse) response;
 		if (isRequestContainsHttpMethods(httpServletRequest)) {
 			Map<String, String> requestMap = getTypesafeRequestMap(httpServletRequest);
+			int bodyLimit = getBodyLimit();
 			BufferedRequestWrapper bufferedRequest = new BufferedRequestWrapper(httpServletRequest);
-			BufferedResponseWrapper bufferedResponse = new BufferedResponseWrapper(httpServletResponse);
+			BufferedResponseWrapper bufferedResponse =
+					new BufferedResponseWrapper(httpServletResponse, bodyLimit);
 
 			RequestLog requestLog = new RequestLog();
 			requestLog.setClient(httpServletRequest.getRemoteAddr());
@@ -100,18 +100,16 @@ public class LoggingFilter implements Filter {
 
 			chain.doFilter(bufferedRequest, bufferedResponse);
 			requestLog.setResponseContentType(httpServletResponse.getContentType());
+			// bodies are parsed by the request log writer, off the request thread
+			String requestBody = null;
+			String responseBody = null;
 			try {
-				if (StringUtils.isNotBlank(httpServletRequest.getContentType())
-						&& (new MimeType(httpServletRequest.getContentType())
-								.match(new MimeType(APPLICATION_JSON_VALUE)))
-						&& StringUtils.isNotBlank(bufferedRequest.getRequestBody())) {
-					requestLog.setRequestBody(BasicDBObject.parse(bufferedRequest.getRequestBody()));
+				if (isJson(httpServletRequest.getContentType())
+						&& bufferedRequest.getRequestBodySize() <= bodyLimit) {
+					requestBody = bufferedRequest.getRequestBody();
 				}
-				if (StringUtils.isNotBlank(bufferedResponse.getContentType())
-						&& (new MimeType(bufferedResponse.getContentType())
-								.match(new MimeType(APPLICATION_JSON_VALUE)))
-						&& StringUtils.isNotBlank(bufferedResponse.getContent())) {
-					requestLog.setResponseBody(BasicDBObject.parse(bufferedResponse.getContent()));
+				if (isJson(bufferedResponse.getContentType()) && bufferedResponse.isContentComplete()) {
+					responseBody = bufferedResponse.getContent();
 				}
 			} catch (MimeTypeParseException e) {
 				log.error(
@@ -119,12 +117,12 @@ public class LoggingFilter implements Filter {
 						httpServletRequest.getContentType(),
 						bufferedResponse.getContentType());
 			}
-			requestLog.setResponseSize(bufferedResponse.getContent().length());
+			requestLog.setResponseSize(bufferedResponse.getContentSize());
 
 			requestLog.setResponseCode(bufferedResponse.getStatus());
 			requestLog.setTimestamp(System.currentTimeMillis());
 
-			requestLogRepository.save(requestLog);
+			requestLogWriter.submit(requestLog, requestBody, responseBody);
 
 		} else {
 			if (settings.isCorsEnabled()) {
@@ -142,6 +140,25 @@ public class LoggingFilter implements Filter {
 		}
 	}
 
+	/**
+	 * Gets the size up to which the bodies of the request are stored, unlimited for the sampled
+	 * requests
+	 *
+	 * @return body size limit in bytes
+	 */
+	private int getBodyLimit() {
+		int sampleRate = settings.getRequestLogLargeBodySampleRate();
+		if (sampleRate > 0 && loggedRequests.incrementAndGet() % sampleRate == 0) {
+			return Integer.MAX_VALUE;
+		}
+		return settings.getRequestLogMaxBodySize();
+	}
+
+	private static boolean isJson(String contentType) throws MimeTypeParseException {
+		return StringUtils.isNotBlank(contentType)
+				&& new MimeType(contentType).match(new MimeType(APPLICATION_JSON_VALUE));
+	}
+
 	/**
 	 * Checks for http methods in request
 	 *
@@ -236,21 +253,16 @@ public class LoggingFilter implements Filter {
 		 * Gets request body.
 		 *
 		 * @return the request body
-		 * @throws IOException the io exception
 		 */
-		/* package */ String getRequestBody() throws IOException {
-			String line;
-			StringBuilder inputBuffer = new StringBuilder();
-			try (BufferedReader reader =
-					new BufferedReader(new InputStreamReader(this.getInputStream()))) {
-				do {
-					line = reader.readLine();
-					if (null != line) {
-						inputBuffer.append(line);
-					}
-				} while (line != null);
-			}
-			return inputBuffer.toString();
+		/* package */ String getRequestBody() {
+			String encoding = getCharacterEncoding();
+			return new String(
+					this.buffer,
+					null == encoding ? StandardCharsets.UTF_8 : Charset.forName(encoding));
+		}
+
+		/* package */ int getRequestBodySize() {
+			return this.buffer.length;
 		}
 	}
 
@@ -301,25 +313,45 @@ public class LoggingFilter implements Filter {
 		}
 	}
 
-	/** The type Tee servlet output stream. */
+	/**
+	 * Servlet output stream writing to the response and keeping a copy of the first bytes written,
+	 * so that large responses are not buffered a second time.
+	 */
 	public class TeeServletOutputStream extends ServletOutputStream {
 
-		private final TeeOutputStream targetStream;
+		private final ServletOutputStream targetStream;
+		private final ByteArrayOutputStream copy = new ByteArrayOutputStream();
+		private final int copyLimit;
+		private long size;
 
 		/**
 		 * Instantiates a new Tee servlet output stream.
 		 *
-		 * @param one the one
-		 * @param two the two
+		 * @param targetStream the response stream
+		 * @param copyLimit number of bytes to copy
 		 */
-		public TeeServletOutputStream(OutputStream one, OutputStream two) {
+		public TeeServletOutputStream(ServletOutputStream targetStream, int copyLimit) {
 			super();
-			targetStream = new TeeOutputStream(one, two);
+			this.targetStream = targetStream;
+			this.copyLimit = copyLimit;
 		}
 
 		@Override
 		public void write(int arg0) throws IOException {
 			this.targetStream.write(arg0);
+			if (size < copyLimit) {
+				copy.write(arg0);
+			}
+			size++;
+		}
+
+		@Override
+		public void write(byte[] buf, int off, int len) throws IOException {
+			this.targetStream.write(buf, off, len);
+			if (size < copyLimit) {
+				copy.write(buf, off, (int) Math.min(len, copyLimit - size));
+			}
+			size += len;
 		}
 
 		@Override
@@ -336,14 +368,12 @@ public class LoggingFilter implements Filter {
 
 		@Override
 		public boolean isReady() {
-			return false;
+			return this.targetStream.isReady();
 		}
 
 		@Override
 		public void setWriteListener(WriteListener writeListener) {
-			// implementation
-			// pending
-
+			this.targetStream.setWriteListener(writeListener);
 		}
 	}
 
@@ -351,27 +381,44 @@ public class LoggingFilter implements Filter {
 	public class BufferedResponseWrapper implements HttpServletResponse {
 
 		private final HttpServletResponse original;
+		private final int contentLimit;
 		private TeeServletOutputStream teeStream;
-		private ByteArrayOutputStream bos;
 		private PrintWriter teeWriter;
 
 		/**
 		 * Instantiates a new Buffered response wrapper.
 		 *
 		 * @param response the response
+		 * @param contentLimit number of bytes of the content to keep
 		 */
-		public BufferedResponseWrapper(HttpServletResponse response) {
+		public BufferedResponseWrapper(HttpServletResponse response, int contentLimit) {
 			original = response;
+			this.contentLimit = contentLimit;
 		}
 
 		/**
-		 * Gets content.
+		 * Gets content, truncated to the content limit.
 		 *
 		 * @return the content
 		 */
 		public String getContent() {
+			return (teeStream == null) ? "" : teeStream.copy.toString();
+		}
 
-			return (bos == null) ? "" : bos.toString();
+		/**
+		 * Gets content size.
+		 *
+		 * @return number of bytes written to the response
+		 */
+		public long getContentSize() {
+			return (teeStream == null) ? 0 : teeStream.size;
+		}
+
+		/**
+		 * @return true if the content was not truncated
+		 */
+		public boolean isContentComplete() {
+			return getContentSize() <= contentLimit;
 		}
 
 		@Override
@@ -387,9 +434,8 @@ public class LoggingFilter implements Filter {
 		public ServletOutputStream getOutputStream() throws IOException {
 
 			if (LoggingFilter.BufferedResponseWrapper.this.teeStream == null) {
-				bos = new ByteArrayOutputStream();
 				LoggingFilter.BufferedResponseWrapper.this.teeStream =
-						new TeeServletOutputStream(original.getOutputStream(), bos);
+						new TeeServletOutputStream(original.getOutputStream(), contentLimit);
 			}
 			return LoggingFilter.BufferedResponseWrapper.this.teeStream;
 		}
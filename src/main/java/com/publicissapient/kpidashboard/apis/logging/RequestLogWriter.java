@@ -0,0 +1,182 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+
+package com.publicissapient.kpidashboard.apis.logging;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang.StringUtils;
+
+import com.mongodb.BasicDBObject;
+import com.publicissapient.kpidashboard.apis.config.CustomApiConfig;
+import com.publicissapient.kpidashboard.common.model.application.RequestLog;
+import com.publicissapient.kpidashboard.common.repository.application.RequestLogRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Writes the request logs captured by {@link LoggingFilter} in batches on a background thread, so
+ * that the requests do not wait for the database. The logs waiting to be written are bounded, new
+ * logs are dropped and counted when the writer does not keep up.
+ */
+@Slf4j
+public class RequestLogWriter {
+
+	private static final long POLL_TIMEOUT_MILLIS = 500;
+	private static final long SHUTDOWN_TIMEOUT_MILLIS = 10_000;
+	private static final int DEFAULT_QUEUE_CAPACITY = 10_000;
+	private static final int DEFAULT_BATCH_SIZE = 200;
+
+	private final RequestLogRepository requestLogRepository;
+	private final BlockingQueue<PendingRequestLog> pendingLogs;
+	private final int batchSize;
+	private final Counter overloadCounter;
+	private final Counter failureCounter;
+	private final Thread writerThread;
+	private volatile boolean running = true;
+
+	public RequestLogWriter(
+			RequestLogRepository requestLogRepository,
+			CustomApiConfig customApiConfig,
+			MeterRegistry meterRegistry) {
+		int queueCapacity = customApiConfig.getRequestLogQueueCapacity();
+		int configuredBatchSize = customApiConfig.getRequestLogBatchSize();
+		this.requestLogRepository = requestLogRepository;
+		this.pendingLogs =
+				new ArrayBlockingQueue<>(queueCapacity > 0 ? queueCapacity : DEFAULT_QUEUE_CAPACITY);
+		this.batchSize = configuredBatchSize > 0 ? configuredBatchSize : DEFAULT_BATCH_SIZE;
+		this.overloadCounter = droppedCounter(meterRegistry, "overload");
+		this.failureCounter = droppedCounter(meterRegistry, "error");
+		Gauge.builder("request.log.queue.depth", pendingLogs, BlockingQueue::size)
+				.description("Request logs waiting to be written")
+				.register(meterRegistry);
+		this.writerThread = new Thread(this::writeLoop, "request-log-writer");
+		this.writerThread.setDaemon(true);
+	}
+
+	@PostConstruct
+	public void start() {
+		writerThread.start();
+	}
+
+	/**
+	 * Queues the request log for writing, never blocks the caller.
+	 *
+	 * @param requestLog request log without bodies
+	 * @param requestBody json request body to store, null to store none
+	 * @param responseBody json response body to store, null to store none
+	 * @return false if the log was dropped because too many logs are waiting
+	 */
+	public boolean submit(RequestLog requestLog, String requestBody, String responseBody) {
+		if (pendingLogs.offer(new PendingRequestLog(requestLog, requestBody, responseBody))) {
+			return true;
+		}
+		overloadCounter.increment();
+		return false;
+	}
+
+	@PreDestroy
+	public void stop() {
+		running = false;
+		try {
+			writerThread.join(SHUTDOWN_TIMEOUT_MILLIS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		if (!pendingLogs.isEmpty()) {
+			log.warn("{} request logs not written on shutdown", pendingLogs.size());
+		}
+	}
+
+	private void writeLoop() {
+		List<PendingRequestLog> batch = new ArrayList<>(batchSize);
+		while (running || !pendingLogs.isEmpty()) {
+			try {
+				PendingRequestLog first = pendingLogs.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+				if (null == first) {
+					continue;
+				}
+				batch.add(first);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				running = false;
+			}
+			pendingLogs.drainTo(batch, batchSize - batch.size());
+			write(batch);
+			batch.clear();
+		}
+	}
+
+	private void write(List<PendingRequestLog> batch) {
+		if (batch.isEmpty()) {
+			return;
+		}
+		List<RequestLog> requestLogs = new ArrayList<>(batch.size());
+		batch.forEach(pendingLog -> requestLogs.add(pendingLog.toRequestLog()));
+		try {
+			// new documents only, saved with a single insert
+			requestLogRepository.saveAll(requestLogs);
+		} catch (RuntimeException e) {
+			failureCounter.increment(requestLogs.size());
+			log.error("Could not write {} request logs", requestLogs.size(), e);
+		}
+	}
+
+	private static Counter droppedCounter(MeterRegistry meterRegistry, String reason) {
+		return Counter.builder("request.log.dropped")
+				.description("Request logs not written")
+				.tag("reason", reason)
+				.register(meterRegistry);
+	}
+
+	private record PendingRequestLog(RequestLog requestLog, String requestBody, String responseBody) {
+
+		RequestLog toRequestLog() {
+			BasicDBObject parsedRequestBody = parse(requestBody);
+			if (null != parsedRequestBody) {
+				requestLog.setRequestBody(parsedRequestBody);
+			}
+			BasicDBObject parsedResponseBody = parse(responseBody);
+			if (null != parsedResponseBody) {
+				requestLog.setResponseBody(parsedResponseBody);
+			}
+			return requestLog;
+		}
+
+		private static BasicDBObject parse(String body) {
+			if (StringUtils.isBlank(body)) {
+				return null;
+			}
+			try {
+				return BasicDBObject.parse(body);
+			} catch (RuntimeException e) {
+				log.debug("Request log body is not a json object: {}", e.getMessage());
+				return null;
+			}
+		}
+	}
+}
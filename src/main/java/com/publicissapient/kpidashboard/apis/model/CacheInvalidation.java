@@ -0,0 +1,58 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+
+
+package com.publicissapient.kpidashboard.apis.model;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Cache eviction made by an API instance, broadcast to the other instances so that they evict the
+ * same entries. Sent as json, fields are only added to it; an instance ignores the messages of a
+ * later {@link #version} than the one it knows.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheInvalidation {
+
+	public static final int CURRENT_VERSION = 1;
+
+	public enum Scope {
+		/** every entry of the caches */
+		CACHE,
+		/** the entry of the key in the caches */
+		KEY,
+		/** the cached KPI responses computed from the project */
+		PROJECT
+	}
+
+	private int version;
+	/** instance which evicted the entries, it does not apply its own messages */
+	private String sourceInstanceId;
+	/** epoch millis at which the entries were evicted by the source instance */
+	private long sentAt;
+	private Scope scope;
+	private List<String> cacheNames;
+	private String key;
+	private String basicProjectConfigId;
+}
@@ -0,0 +1,211 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+
+
+package com.publicissapient.kpidashboard.apis.model;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Statuses of the kanban issues of a project, day by day. Each issue is kept as the day intervals
+ * it spent in each status, as epoch days and a status id, instead of one issue set per day and
+ * status. The issue count of a status on a day is read from counts computed once with a sweep over
+ * the intervals, so a year long range costs the number of status changes plus the number of days.
+ *
+ * <p>An issue may be in more than one status on a day, when its status changed during the day.
+ */
+public final class KanbanStatusTimeline {
+
+	private static final KanbanStatusTimeline EMPTY = new Builder().build();
+
+	private final Map<String, Integer> statusIds;
+	private final String[] storyIds;
+	private final int[] statusOfInterval;
+	private final int[] fromDays;
+	private final int[] toDays;
+	private final int firstDay;
+	private final int[][] dailyCounts;
+
+	private KanbanStatusTimeline(Builder builder) {
+		this.statusIds = Collections.unmodifiableMap(new HashMap<>(builder.statusIds));
+		int size = builder.size;
+		this.storyIds = Arrays.copyOf(builder.storyIds, size);
+		this.statusOfInterval = Arrays.copyOf(builder.statusOfInterval, size);
+		this.fromDays = Arrays.copyOf(builder.fromDays, size);
+		this.toDays = Arrays.copyOf(builder.toDays, size);
+		int first = Integer.MAX_VALUE;
+		int last = Integer.MIN_VALUE;
+		for (int i = 0; i < size; i++) {
+			first = Math.min(first, fromDays[i]);
+			last = Math.max(last, toDays[i]);
+		}
+		this.firstDay = first;
+		this.dailyCounts = new int[statusIds.size()][size == 0 ? 0 : last - first + 2];
+		for (int i = 0; i < size; i++) {
+			dailyCounts[statusOfInterval[i]][fromDays[i] - first]++;
+			dailyCounts[statusOfInterval[i]][toDays[i] - first + 1]--;
+		}
+		for (int[] counts : dailyCounts) {
+			for (int day = 1; day < counts.length; day++) {
+				counts[day] += counts[day - 1];
+			}
+		}
+	}
+
+	public static KanbanStatusTimeline empty() {
+		return EMPTY;
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * @return statuses the issues were in at least once
+	 */
+	public Set<String> getStatuses() {
+		return statusIds.keySet();
+	}
+
+	public boolean isEmpty() {
+		return statusIds.isEmpty();
+	}
+
+	/**
+	 * @param status status
+	 * @param date day
+	 * @return number of issues in the status on the day
+	 */
+	public long count(String status, LocalDate date) {
+		Integer statusId = statusIds.get(status);
+		if (null == statusId) {
+			return 0L;
+		}
+		long day = date.toEpochDay() - firstDay;
+		int[] counts = dailyCounts[statusId];
+		return day < 0 || day >= counts.length ? 0L : counts[(int) day];
+	}
+
+	/**
+	 * @param statuses statuses to count
+	 * @param date day
+	 * @return number of issues of each status on the day
+	 */
+	public Map<String, Long> countByStatus(Set<String> statuses, LocalDate date) {
+		Map<String, Long> statusWiseCount = new HashMap<>();
+		statuses.forEach(status -> statusWiseCount.put(status, count(status, date)));
+		return statusWiseCount;
+	}
+
+	/**
+	 * @param status status
+	 * @param date day
+	 * @return story ids of the issues in the status on the day
+	 */
+	public Set<String> getIssues(String status, LocalDate date) {
+		Set<String> issues = new HashSet<>();
+		Integer statusId = statusIds.get(status);
+		if (null == statusId) {
+			return issues;
+		}
+		long day = date.toEpochDay();
+		for (int i = 0; i < storyIds.length; i++) {
+			if (statusOfInterval[i] == statusId && fromDays[i] <= day && day <= toDays[i]) {
+				issues.add(storyIds[i]);
+			}
+		}
+		return issues;
+	}
+
+	/** Collects the intervals of the issues, one issue after the other. */
+	public static final class Builder {
+
+		private static final int INITIAL_CAPACITY = 64;
+
+		private final Map<String, Integer> statusIds = new HashMap<>();
+		private String[] storyIds = new String[INITIAL_CAPACITY];
+		private int[] statusOfInterval = new int[INITIAL_CAPACITY];
+		private int[] fromDays = new int[INITIAL_CAPACITY];
+		private int[] toDays = new int[INITIAL_CAPACITY];
+		private int size;
+		private String currentStoryId;
+		private final List<Integer> coveredUntil = new ArrayList<>();
+
+		private Builder() {}
+
+		/**
+		 * Adds the days an issue spent in a status. The intervals of an issue are added one after the
+		 * other, ordered by their first day; the days already added for the issue and status are not
+		 * counted twice.
+		 *
+		 * @param storyId story id of the issue, issues without one are not counted
+		 * @param status status
+		 * @param from first day in the status
+		 * @param to last day in the status, inclusive
+		 * @return this builder
+		 */
+		public Builder add(String storyId, String status, LocalDate from, LocalDate to) {
+			int statusId = statusIds.computeIfAbsent(status, key -> statusIds.size());
+			if (null == storyId) {
+				return this;
+			}
+			if (!storyId.equals(currentStoryId)) {
+				currentStoryId = storyId;
+				coveredUntil.clear();
+			}
+			while (coveredUntil.size() <= statusId) {
+				coveredUntil.add(Integer.MIN_VALUE);
+			}
+			int fromDay = Math.max((int) from.toEpochDay(), coveredUntil.get(statusId) + 1);
+			int toDay = (int) to.toEpochDay();
+			if (fromDay > toDay) {
+				return this;
+			}
+			coveredUntil.set(statusId, toDay);
+			ensureCapacity();
+			storyIds[size] = storyId;
+			statusOfInterval[size] = statusId;
+			fromDays[size] = fromDay;
+			toDays[size] = toDay;
+			size++;
+			return this;
+		}
+
+		private void ensureCapacity() {
+			if (size == storyIds.length) {
+				int capacity = size * 2;
+				storyIds = Arrays.copyOf(storyIds, capacity);
+				statusOfInterval = Arrays.copyOf(statusOfInterval, capacity);
+				fromDays = Arrays.copyOf(fromDays, capacity);
+				toDays = Arrays.copyOf(toDays, capacity);
+			}
+		}
+
+		public KanbanStatusTimeline build() {
+			return new KanbanStatusTimeline(this);
+		}
+	}
+}
@@ -266,6 +266,15 @@ public class KpiElement implements Serializable { // NOPMD
 		this.overAllMaturityValue = overAllMaturityValue;
 	}
 
+	/**
+	 * Sets overall maturity value, the setter of {@link #getOverallMaturityValue()}.
+	 *
+	 * @param overallMaturityValue the maturity value
+	 */
+	public void setOverallMaturityValue(String overallMaturityValue) {
+		this.overAllMaturityValue = overallMaturityValue;
+	}
+
 	/**
 	 * Gets kpi id.
 	 *
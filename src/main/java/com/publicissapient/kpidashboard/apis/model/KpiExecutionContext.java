@@ -0,0 +1,288 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+
+
+package com.publicissapient.kpidashboard.apis.model;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import com.publicissapient.kpidashboard.apis.auth.model.UserInfoPrincipal;
+import com.publicissapient.kpidashboard.common.constant.KPISource;
+
+/**
+ * Immutable details of the KPI request computed by the current thread. The dispatchers bind the
+ * context of their request to the threads computing its KPIs, so that a KPI reads its own request
+ * tracker id, Excel mode and user instead of the last ones written to the application cache by any
+ * request.
+ *
+ * <p>A streamed export binds a context carrying a consumer of the drill-down rows around the
+ * dispatcher, the contexts of the dispatched requests inherit it, and the KPIs building their rows
+ * in {@link #newExcelRows()} hand each row to the consumer instead of keeping it. The contexts of
+ * the dispatched requests also share the incomplete flag of the export, set when a KPI is cancelled
+ * by the time budget of its request.
+ */
+public final class KpiExecutionContext {
+
+	private static final ThreadLocal<KpiExecutionContext> CURRENT = new ThreadLocal<>();
+
+	private final String requestTrackerId;
+	private final boolean excelRequest;
+	private final UserInfoPrincipal loggedInUser;
+	private final List<String> sprintIncluded;
+	private final long deadlineMillis;
+	private final Consumer<KPIExcelData> excelRowConsumer;
+	private final AtomicBoolean incomplete;
+	private final AtomicBoolean forecastPending = new AtomicBoolean();
+
+	private KpiExecutionContext(
+			String requestTrackerId,
+			UserInfoPrincipal loggedInUser,
+			List<String> sprintIncluded,
+			long deadlineMillis,
+			Consumer<KPIExcelData> excelRowConsumer,
+			AtomicBoolean incomplete) {
+		this.requestTrackerId = requestTrackerId;
+		this.excelRequest = isExcelTrackerId(requestTrackerId);
+		this.loggedInUser = loggedInUser;
+		this.sprintIncluded =
+				null == sprintIncluded
+						? Collections.emptyList()
+						: Collections.unmodifiableList(new ArrayList<>(sprintIncluded));
+		this.deadlineMillis = deadlineMillis;
+		this.excelRowConsumer = excelRowConsumer;
+		this.incomplete = incomplete;
+	}
+
+	/**
+	 * @param kpiRequest kpi request
+	 * @param loggedInUser authenticated user of the request, null for an anonymous request
+	 * @param deadlineMillis epoch millis after which the KPIs of the request are cancelled
+	 * @return the context of the request, with the row consumer of the context bound to the current
+	 *     thread if any
+	 */
+	public static KpiExecutionContext of(
+			KpiRequest kpiRequest, UserInfoPrincipal loggedInUser, long deadlineMillis) {
+		KpiExecutionContext parent = CURRENT.get();
+		return new KpiExecutionContext(
+				kpiRequest.getRequestTrackerId(),
+				loggedInUser,
+				kpiRequest.getSprintIncluded(),
+				deadlineMillis,
+				null == parent ? null : parent.excelRowConsumer,
+				null == parent ? new AtomicBoolean() : parent.incomplete);
+	}
+
+	/**
+	 * @param excelRowConsumer receives the drill-down rows of the KPIs, called by the KPI threads
+	 * @return a context to bind around the dispatch of a streamed export
+	 */
+	public static KpiExecutionContext streamingExcelRows(Consumer<KPIExcelData> excelRowConsumer) {
+		return new KpiExecutionContext(
+				null, null, null, Long.MAX_VALUE, excelRowConsumer, new AtomicBoolean());
+	}
+
+	/**
+	 * @return the context of the request computed by the current thread, null outside of a KPI
+	 *     request
+	 */
+	public static KpiExecutionContext current() {
+		return CURRENT.get();
+	}
+
+	/**
+	 * @return the tracker id of the request computed by the current thread, empty outside of a KPI
+	 *     request, which is not an Excel request
+	 */
+	public static String currentRequestTrackerId() {
+		KpiExecutionContext context = CURRENT.get();
+		return null == context || null == context.requestTrackerId ? "" : context.requestTrackerId;
+	}
+
+	/**
+	 * @param fallback supplies the logged-in user outside of a KPI request
+	 * @return the authenticated user of the request computed by the current thread
+	 */
+	public static UserInfoPrincipal currentUser(Supplier<UserInfoPrincipal> fallback) {
+		KpiExecutionContext context = CURRENT.get();
+		return null == context || null == context.loggedInUser ? fallback.get() : context.loggedInUser;
+	}
+
+	/**
+	 * @param requestTrackerId tracker id of the request, read outside of a KPI request
+	 * @return true if the KPIs computed by the current thread need their Excel rows
+	 */
+	public static boolean isCurrentExcelRequest(String requestTrackerId) {
+		KpiExecutionContext context = CURRENT.get();
+		return null == context || null == context.requestTrackerId
+				? isExcelTrackerId(requestTrackerId)
+				: context.excelRequest;
+	}
+
+	/**
+	 * @return a list for the drill-down rows of a KPI; in a streamed export the rows added are handed
+	 *     to the row consumer and the list stays empty
+	 */
+	public static List<KPIExcelData> newExcelRows() {
+		KpiExecutionContext context = CURRENT.get();
+		if (null == context || null == context.excelRowConsumer) {
+			return new ArrayList<>();
+		}
+		return new StreamedExcelRows(context.excelRowConsumer);
+	}
+
+	/**
+	 * Binds this context to the current thread until the returned scope is closed, preferably with
+	 * try-with-resources.
+	 *
+	 * @return the scope of the binding
+	 */
+	public Scope open() {
+		Scope scope = new Scope(CURRENT.get());
+		CURRENT.set(this);
+		return scope;
+	}
+
+	/**
+	 * @param task task computing a KPI of the request
+	 * @param <T> result type
+	 * @return the task, run with this context bound to the executing thread
+	 */
+	public <T> Callable<T> bind(Callable<T> task) {
+		return () -> {
+			try (Scope scope = open()) {
+				return task.call();
+			}
+		};
+	}
+
+	public String getRequestTrackerId() {
+		return requestTrackerId;
+	}
+
+	/**
+	 * @return name of the authenticated user of the request, null for an anonymous request
+	 */
+	public String getUsername() {
+		return null == loggedInUser ? null : loggedInUser.username();
+	}
+
+	/**
+	 * @return true if the KPIs are computed for an Excel export and need their Excel rows
+	 */
+	public boolean isExcelRequest() {
+		return excelRequest;
+	}
+
+	public List<String> getSprintIncluded() {
+		return sprintIncluded;
+	}
+
+	public long getDeadlineMillis() {
+		return deadlineMillis;
+	}
+
+	/**
+	 * @return true once the time budget of the request is exhausted
+	 */
+	public boolean isExpired() {
+		return System.currentTimeMillis() >= deadlineMillis;
+	}
+
+	/** Records that a KPI of the request was cancelled, on this context and the enclosing ones. */
+	public void markIncomplete() {
+		incomplete.set(true);
+	}
+
+	/**
+	 * @return true if a KPI of the request, or of a request dispatched within this context, was
+	 *     cancelled by its time budget
+	 */
+	public boolean isIncomplete() {
+		return incomplete.get();
+	}
+
+	/** Records that a KPI of the request was returned without a forecast still being computed. */
+	public void markForecastPending() {
+		forecastPending.set(true);
+	}
+
+	/**
+	 * @return true if a KPI of the request was returned without its forecast, the response must not
+	 *     be cached for the forecast to be attached to the next responses
+	 */
+	public boolean isForecastPending() {
+		return forecastPending.get();
+	}
+
+	private static boolean isExcelTrackerId(String requestTrackerId) {
+		return null != requestTrackerId
+				&& requestTrackerId.toLowerCase().contains(KPISource.EXCEL.name().toLowerCase());
+	}
+
+	/** Rows handed to the consumer of a streamed export as they are added, none is kept. */
+	private static final class StreamedExcelRows extends AbstractList<KPIExcelData> {
+
+		private final Consumer<KPIExcelData> consumer;
+
+		private StreamedExcelRows(Consumer<KPIExcelData> consumer) {
+			this.consumer = consumer;
+		}
+
+		@Override
+		public boolean add(KPIExcelData row) {
+			consumer.accept(row);
+			return true;
+		}
+
+		@Override
+		public KPIExcelData get(int index) {
+			throw new IndexOutOfBoundsException(index);
+		}
+
+		@Override
+		public int size() {
+			return 0;
+		}
+	}
+
+	/** Binding of a context to a thread, restores the previously bound context when closed. */
+	public static final class Scope implements AutoCloseable {
+
+		private final KpiExecutionContext previous;
+
+		private Scope(KpiExecutionContext previous) {
+			this.previous = previous;
+		}
+
+		@Override
+		public void close() {
+			if (null == previous) {
+				CURRENT.remove();
+			} else {
+				CURRENT.set(previous);
+			}
+		}
+	}
+}
@@ -125,19 +125,25 @@ public class Node implements Serializable {
 	}
 
 	/**
-	 * @return value
+	 * @return value, read from the {@link NodeValueOverlay} open on the current thread if any
 	 */
 	public Object getValue() {
-		return value;
+		NodeValueOverlay overlay = NodeValueOverlay.current();
+		return null == overlay ? value : overlay.getValue(this, value);
 	}
 
 	/**
-	 * Sets value
+	 * Sets value, into the {@link NodeValueOverlay} open on the current thread if any
 	 *
 	 * @param value
 	 */
 	public void setValue(Object value) {
-		this.value = value;
+		NodeValueOverlay overlay = NodeValueOverlay.current();
+		if (null == overlay) {
+			this.value = value;
+		} else {
+			overlay.setValue(this, value);
+		}
 	}
 
 	/**
@@ -223,7 +229,7 @@ public class Node implements Serializable {
 				+ ", parentId="
 				+ parentId
 				+ ", value="
-				+ value
+				+ getValue()
 				+ ", children="
 				+ children
 				+ ", level="
@@ -0,0 +1,93 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+
+package com.publicissapient.kpidashboard.apis.model;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Per KPI node value table. While an overlay is open on the current thread, {@link
+ * Node#getValue()} and {@link Node#setValue(Object)} read and write this table instead of the node
+ * itself, so that a single {@link TreeAggregatorDetail} can be shared by all the KPIs of a request
+ * without deep cloning the hierarchy for each of them.
+ *
+ * <p>Overlays nest: opening an overlay while another one is open on the same thread (for example
+ * when a fork join worker helps with a sibling KPI task) hides the outer one until the inner one is
+ * closed.
+ */
+public final class NodeValueOverlay implements AutoCloseable {
+
+	private static final ThreadLocal<NodeValueOverlay> CURRENT = new ThreadLocal<>();
+
+	private final Map<Node, Object> values = new IdentityHashMap<>();
+	private final NodeValueOverlay previous;
+	private final Thread owner;
+
+	private NodeValueOverlay(NodeValueOverlay previous) {
+		this.previous = previous;
+		this.owner = Thread.currentThread();
+	}
+
+	/**
+	 * Opens a new overlay on the current thread. Must be closed on the same thread, preferably with
+	 * try-with-resources.
+	 *
+	 * @return the opened overlay
+	 */
+	public static NodeValueOverlay open() {
+		NodeValueOverlay overlay = new NodeValueOverlay(CURRENT.get());
+		CURRENT.set(overlay);
+		return overlay;
+	}
+
+	/**
+	 * @return the overlay open on the current thread, null if none
+	 */
+	static NodeValueOverlay current() {
+		return CURRENT.get();
+	}
+
+	Object getValue(Node node, Object baseValue) {
+		return values.containsKey(node) ? values.get(node) : baseValue;
+	}
+
+	void setValue(Node node, Object value) {
+		values.put(node, value);
+	}
+
+	/**
+	 * @return number of nodes whose value has been written through this overlay
+	 */
+	public int size() {
+		return values.size();
+	}
+
+	@Override
+	public void close() {
+		if (owner != Thread.currentThread()) {
+			throw new IllegalStateException("Node value overlay closed by a different thread");
+		}
+		if (null == previous) {
+			CURRENT.remove();
+		} else {
+			CURRENT.set(previous);
+		}
+		values.clear();
+	}
+}
@@ -19,6 +19,8 @@
 package com.publicissapient.kpidashboard.apis.model;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -132,4 +134,29 @@ public class TreeAggregatorDetail implements Serializable {
 	public void setMapOfListOfProjectNodes(Map<String, List<Node>> mapOfListOfProjectNodes) {
 		this.mapOfListOfProjectNodes = mapOfListOfProjectNodes;
 	}
+
+	/**
+	 * Creates a view of this tree for a single KPI computation. The nodes and the hierarchy are
+	 * shared with this tree, only the leaf and project node lists are copied so that a KPI can sort
+	 * or filter them in place. Node values must be written inside a {@link NodeValueOverlay} so that
+	 * KPIs sharing the same tree do not see each other's values.
+	 *
+	 * @return the KPI view of this tree
+	 */
+	public TreeAggregatorDetail createKpiView() {
+		return new TreeAggregatorDetail(
+				root,
+				copyOfNodeLists(mapOfListOfLeafNodes),
+				mapTmp,
+				copyOfNodeLists(mapOfListOfProjectNodes));
+	}
+
+	private static Map<String, List<Node>> copyOfNodeLists(Map<String, List<Node>> nodeLists) {
+		if (null == nodeLists) {
+			return null;
+		}
+		Map<String, List<Node>> copy = new HashMap<>(nodeLists.size());
+		nodeLists.forEach((key, nodes) -> copy.put(key, null == nodes ? null : new ArrayList<>(nodes)));
+		return copy;
+	}
 }
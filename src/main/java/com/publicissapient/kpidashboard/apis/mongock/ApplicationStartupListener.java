@@ -28,36 +28,59 @@ import com.publicissapient.kpidashboard.apis.datamigration.service.DataMigration
 import com.publicissapient.kpidashboard.common.repository.application.GlobalConfigRepository;
 
 /**
+ * Warms the caches on startup, see {@link StartupWarmUp}. The steps reading the projects or the
+ * organization hierarchy wait for the organization hierarchy migration, the others run in
+ * parallel.
+ *
  * @author bogolesw
  */
 @Component
 public class ApplicationStartupListener implements ApplicationListener<ApplicationReadyEvent> {
 
+	private static final String ORGANIZATION_HIERARCHY_MIGRATION = "organizationHierarchyMigration";
+	private static final String CONFIG_DATA = "configData";
+	private static final String ACCOUNT_HIERARCHY = "accountHierarchy";
+
 	@Autowired ConfigHelperService configHelperService;
 	@Autowired SimplePolicyDefinition simplePolicyDefinition;
 	@Autowired GlobalConfigRepository globalConfigRepository;
 	@Autowired CacheService cacheService;
 	@Autowired DataMigrationService dataMigrationService;
+	@Autowired StartupWarmUp startupWarmUp;
 
 	@Override
 	public void onApplicationEvent(ApplicationReadyEvent event) {
-		dataMigrationService.populateOrganizationHierarchy();
-		configHelperService.loadKpiMaster();
-		configHelperService.calculateMaturity();
-		configHelperService.calculateCriteria();
-		configHelperService.calculateCriteriaForCircleKPI();
-		configHelperService.loadProjectBasicTree();
-		configHelperService.loadFieldMappingStructure();
-		configHelperService.loadUserBoardConfig();
-		configHelperService.loadAllProjectToolConfig();
-		configHelperService.loadAllFilters();
-		configHelperService.loadAllOrganizationHierarchy();
-		configHelperService.loadConfigData();
-		configHelperService.loadBoardMetaData();
-		configHelperService.loadToolConfig();
-		cacheService.cacheAccountHierarchyData();
-		cacheService.cacheSprintLevelData();
-		simplePolicyDefinition.init();
-		globalConfigRepository.findAll();
+		startupWarmUp.run(
+				StartupWarmUp.steps()
+						.add(
+								ORGANIZATION_HIERARCHY_MIGRATION,
+								dataMigrationService::populateOrganizationHierarchy)
+						.add("kpiMaster", configHelperService::loadKpiMaster)
+						.add("maturity", configHelperService::calculateMaturity)
+						.add("criteria", configHelperService::calculateCriteria)
+						.add("circleCriteria", configHelperService::calculateCriteriaForCircleKPI)
+						.add(
+								"projectBasicTree",
+								configHelperService::loadProjectBasicTree,
+								ORGANIZATION_HIERARCHY_MIGRATION)
+						.add("fieldMappingStructure", configHelperService::loadFieldMappingStructure)
+						.add("userBoardConfig", configHelperService::loadUserBoardConfig)
+						.add("projectToolConfig", configHelperService::loadAllProjectToolConfig)
+						.add("filters", configHelperService::loadAllFilters)
+						.add(
+								"organizationHierarchy",
+								configHelperService::loadAllOrganizationHierarchy,
+								ORGANIZATION_HIERARCHY_MIGRATION)
+						.add(CONFIG_DATA, configHelperService::loadConfigData, ORGANIZATION_HIERARCHY_MIGRATION)
+						.add("boardMetaData", configHelperService::loadBoardMetaData)
+						.add("toolConfig", configHelperService::loadToolConfig)
+						.add(
+								ACCOUNT_HIERARCHY,
+								cacheService::cacheAccountHierarchyData,
+								ORGANIZATION_HIERARCHY_MIGRATION,
+								CONFIG_DATA)
+						.add("sprintHierarchy", cacheService::cacheSprintLevelData, ACCOUNT_HIERARCHY)
+						.add("policyRules", simplePolicyDefinition::init)
+						.add("globalConfig", globalConfigRepository::findAll));
 	}
 }
@@ -0,0 +1,184 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+
+package com.publicissapient.kpidashboard.apis.mongock;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import com.publicissapient.kpidashboard.apis.config.CustomApiConfig;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Loads the caches read by the dashboards when the application starts. The loaders are the steps
+ * of a dependency graph, a step runs as soon as the steps it depends on are done, so the loaders
+ * not depending on each other run in parallel.
+ *
+ * <p>The health of the application, included in the readiness probe, is out of service until
+ * every step is done, so that no dashboard request is sent to an instance with cold caches. The
+ * duration of each step is logged, reported in the health details and recorded as the {@code
+ * startup.warmup.step} timer.
+ */
+@Slf4j
+@Component
+public class StartupWarmUp implements HealthIndicator {
+
+	private static final String THREAD_NAME_PREFIX = "startup-warm-up-";
+	private static final int DEFAULT_PARALLELISM = 4;
+
+	private final int parallelism;
+	private final MeterRegistry meterRegistry;
+	/** step name -> duration in ms, in completion order */
+	private final Map<String, Long> stepMillis = Collections.synchronizedMap(new LinkedHashMap<>());
+
+	private volatile Status status = Status.OUT_OF_SERVICE;
+	private volatile String failedStep;
+
+	@Autowired
+	public StartupWarmUp(CustomApiConfig customApiConfig, MeterRegistry meterRegistry) {
+		this(customApiConfig.getStartupWarmUpParallelism(), meterRegistry);
+	}
+
+	/**
+	 * @param parallelism number of steps running at the same time, 4 if not positive
+	 * @param meterRegistry registry of the step timers
+	 */
+	public StartupWarmUp(int parallelism, MeterRegistry meterRegistry) {
+		this.parallelism = parallelism > 0 ? parallelism : DEFAULT_PARALLELISM;
+		this.meterRegistry = meterRegistry;
+	}
+
+	/** @return an empty graph of steps */
+	public static Steps steps() {
+		return new Steps();
+	}
+
+	/**
+	 * Runs the steps and waits for all of them. A step whose dependency failed is not run.
+	 *
+	 * @param steps steps to run
+	 * @throws RuntimeException the failure of a step, once the other steps are done
+	 */
+	public void run(Steps steps) {
+		long start = System.nanoTime();
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(THREAD_NAME_PREFIX);
+		threadFactory.setDaemon(true);
+		ExecutorService executor = Executors.newFixedThreadPool(parallelism, threadFactory);
+		status = Status.OUT_OF_SERVICE;
+		try {
+			Map<String, CompletableFuture<Void>> done = new HashMap<>();
+			for (Step step : steps.steps.values()) {
+				CompletableFuture<?>[] dependencies =
+						step.dependsOn().stream().map(done::get).toArray(CompletableFuture[]::new);
+				done.put(
+						step.name(),
+						CompletableFuture.allOf(dependencies).thenRunAsync(() -> runStep(step), executor));
+			}
+			CompletableFuture.allOf(done.values().toArray(CompletableFuture[]::new)).join();
+			status = Status.UP;
+			log.info(
+					"Startup warm-up of {} steps done in {} ms",
+					steps.steps.size(),
+					TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+		} catch (CompletionException e) {
+			status = Status.DOWN;
+			throw e.getCause() instanceof RuntimeException runtimeException ? runtimeException : e;
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	private void runStep(Step step) {
+		long start = System.nanoTime();
+		try {
+			step.loader().run();
+		} catch (RuntimeException e) {
+			failedStep = step.name();
+			log.error("Startup warm-up step {} failed", step.name(), e);
+			throw e;
+		}
+		long nanos = System.nanoTime() - start;
+		stepMillis.put(step.name(), TimeUnit.NANOSECONDS.toMillis(nanos));
+		Timer.builder("startup.warmup.step")
+				.description("Duration of the startup cache loaders")
+				.tag("step", step.name())
+				.register(meterRegistry)
+				.record(nanos, TimeUnit.NANOSECONDS);
+		log.info("Startup warm-up step {} done in {} ms", step.name(), stepMillis.get(step.name()));
+	}
+
+	@Override
+	public Health health() {
+		Health.Builder health = Health.status(status);
+		synchronized (stepMillis) {
+			health.withDetail("stepMillis", new LinkedHashMap<>(stepMillis));
+		}
+		if (null != failedStep) {
+			health.withDetail("failedStep", failedStep);
+		}
+		return health.build();
+	}
+
+	/** Graph of steps, built in dependency order. */
+	public static final class Steps {
+
+		private final Map<String, Step> steps = new LinkedHashMap<>();
+
+		private Steps() {}
+
+		/**
+		 * @param name name of the step, reported in the logs, health and metrics
+		 * @param loader loads a cache
+		 * @param dependsOn steps that must be done before this one, added before it
+		 * @return this graph
+		 */
+		public Steps add(String name, Runnable loader, String... dependsOn) {
+			List<String> dependencies = List.of(dependsOn);
+			for (String dependency : dependencies) {
+				if (!steps.containsKey(dependency)) {
+					throw new IllegalArgumentException(
+							"Step " + name + " depends on the unknown step " + dependency);
+				}
+			}
+			if (null != steps.putIfAbsent(name, new Step(name, loader, dependencies))) {
+				throw new IllegalArgumentException("Step " + name + " added twice");
+			}
+			return this;
+		}
+	}
+
+	private record Step(String name, Runnable loader, List<String> dependsOn) {}
+}
@@ -79,6 +79,7 @@ public class CreateDatabaseIndexesChangeLog {
 		clearAndExecuteProcessorItemsIndexes();
 		usersSessionTTLIndex();
 		createRecommendationsActionPlanIndexes();
+		createSonarHistoryRollupIndexes();
 	}
 
 	public void clearAndExecuteJiraIssueIndexes() {
@@ -489,6 +490,28 @@ public class CreateDatabaseIndexesChangeLog {
 						.named("basicProjectConfigId_1_level_1_createdAt_-1"));
 	}
 
+	public void createSonarHistoryRollupIndexes() {
+		IndexOperations indexOps = mongoTemplate.indexOps("sonar_history_rollup");
+
+		// Compound index read by the sonar KPIs: processorItemId + period + timestamp
+		indexOps.ensureIndex(
+				new Index()
+						.on(PROCESSOR_ITEM_ID, Sort.Direction.ASC)
+						.on("period", Sort.Direction.ASC)
+						.on("timestamp", Sort.Direction.ASC)
+						.named("processorItemId_1_period_1_timestamp_1"));
+
+		// Compound index of the rollup replaced by a newer snapshot of its period
+		indexOps.ensureIndex(
+				new Index()
+						.on(PROCESSOR_ITEM_ID, Sort.Direction.ASC)
+						.on("key", Sort.Direction.ASC)
+						.on("branch", Sort.Direction.ASC)
+						.on("period", Sort.Direction.ASC)
+						.on("periodStart", Sort.Direction.ASC)
+						.named("processorItemId_1_key_1_branch_1_period_1_periodStart_1"));
+	}
+
 	@RollbackExecution
 	public void rollback() {
 		// We are inserting the documents through DDL, no rollback to any collections.
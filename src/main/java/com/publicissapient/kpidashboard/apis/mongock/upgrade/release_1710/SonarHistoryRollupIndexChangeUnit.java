@@ -0,0 +1,62 @@
+package com.publicissapient.kpidashboard.apis.mongock.upgrade.release_1710;
+
+import org.bson.Document;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import com.mongodb.client.model.IndexOptions;
+
+import io.mongock.api.annotations.ChangeUnit;
+import io.mongock.api.annotations.Execution;
+import io.mongock.api.annotations.RollbackExecution;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Creates the indexes of {@code sonar_history_rollup}, the latest sonar snapshot of each day, week
+ * and month read by the sonar KPIs.
+ *
+ * <ul>
+ *   <li>{@code {processorItemId, period, timestamp}} covers the KPI query reading the rollups of
+ *       the sonar jobs of a project after a date.
+ *   <li>{@code {processorItemId, key, branch, period, periodStart}} identifies the rollup replaced
+ *       when a newer snapshot of its period is rolled up.
+ * </ul>
+ */
+@ChangeUnit(
+		id = "sonar_history_rollup_index",
+		order = "17168",
+		author = "knowhow",
+		systemVersion = "17.1.0")
+@RequiredArgsConstructor
+public class SonarHistoryRollupIndexChangeUnit {
+
+	private static final String SONAR_HISTORY_ROLLUP = "sonar_history_rollup";
+	private static final String READ_INDEX = "processorItemId_1_period_1_timestamp_1";
+	private static final String PERIOD_INDEX =
+			"processorItemId_1_key_1_branch_1_period_1_periodStart_1";
+
+	private final MongoTemplate mongoTemplate;
+
+	@Execution
+	public void execute() {
+		mongoTemplate
+				.getCollection(SONAR_HISTORY_ROLLUP)
+				.createIndex(
+						new Document("processorItemId", 1).append("period", 1).append("timestamp", 1),
+						new IndexOptions().name(READ_INDEX));
+		mongoTemplate
+				.getCollection(SONAR_HISTORY_ROLLUP)
+				.createIndex(
+						new Document("processorItemId", 1)
+								.append("key", 1)
+								.append("branch", 1)
+								.append("period", 1)
+								.append("periodStart", 1),
+						new IndexOptions().name(PERIOD_INDEX));
+	}
+
+	@RollbackExecution
+	public void rollback() {
+		mongoTemplate.getCollection(SONAR_HISTORY_ROLLUP).dropIndex(READ_INDEX);
+		mongoTemplate.getCollection(SONAR_HISTORY_ROLLUP).dropIndex(PERIOD_INDEX);
+	}
+}
@@ -193,6 +193,7 @@ public class ProjectBasicConfigServiceImpl implements ProjectBasicConfigService
 				}
 				addProjectNodeToOrganizationHierarchy(
 						projectBasicConfigDTO, basicConfig.getProjectNodeId());
+				clearAuthorizationContexts();
 				response = new ServiceResponse(true, "Added Successfully.", savedProjectBasicConfig);
 
 			} else if (Constant.ROLE_SUPERADMIN.equals(accessRoleOfParent)
@@ -202,6 +203,7 @@ public class ProjectBasicConfigServiceImpl implements ProjectBasicConfigService
 				cloneProjectToolConfigAndDependencies(savedProjectBasicConfig);
 				addProjectNodeToOrganizationHierarchy(
 						projectBasicConfigDTO, basicConfig.getProjectNodeId());
+				clearAuthorizationContexts();
 				response = new ServiceResponse(true, "Added Successfully.", savedProjectBasicConfig);
 
 			} else {
@@ -240,6 +242,14 @@ public class ProjectBasicConfigServiceImpl implements ProjectBasicConfigService
 		}
 	}
 
+	/**
+	 * The users having access at a hierarchy level above the new project get access to it, so the
+	 * cached authorization contexts of all users are dropped.
+	 */
+	private void clearAuthorizationContexts() {
+		cacheService.clearCache(Constant.CACHE_USER_AUTHORIZATION_CONTEXT);
+	}
+
 	private void clearOrgHierarchyCache() {
 		cacheService.clearCache(CommonConstant.CACHE_ACCOUNT_HIERARCHY);
 		cacheService.clearCache(CommonConstant.CACHE_ACCOUNT_HIERARCHY_KANBAN);
@@ -153,7 +153,7 @@ public class FieldMappingServiceImpl implements FieldMappingService {
 		}
 
 		FieldMapping mapping = fieldMappingRepository.save(fieldMapping);
-		clearCache();
+		clearCache(fieldMapping.getBasicProjectConfigId());
 		List<String> kpiList = kpiDataCacheService.getKpiBasedOnSource(CommonConstant.ALL_KPI);
 		kpiList.forEach(
 				kpiId ->
@@ -337,7 +337,7 @@ public class FieldMappingServiceImpl implements FieldMappingService {
 			operations.upsert(query, update, "field_mapping");
 			saveTemplateCode(projectBasicConfig, projectToolConfig);
 			if (cleanTraceLog.equalsIgnoreCase("True")) removeTraceLog(projectBasicConfig.getId());
-			clearCache();
+			clearCache(projectToolConfig.getBasicProjectConfigId());
 			kpiDataCacheService.clearCache(
 					projectToolConfig.getBasicProjectConfigId().toString(), kpi.getKpiId());
 		}
@@ -373,7 +373,7 @@ public class FieldMappingServiceImpl implements FieldMappingService {
 	@Override
 	public void saveFieldMapping(FieldMapping fieldMapping) {
 		fieldMappingRepository.save(fieldMapping);
-		clearCache();
+		clearCache(fieldMapping.getBasicProjectConfigId());
 		List<String> kpiList = kpiDataCacheService.getKpiBasedOnSource(CommonConstant.ALL_KPI);
 		kpiList.forEach(
 				kpiId ->
@@ -403,15 +403,10 @@ public class FieldMappingServiceImpl implements FieldMappingService {
 		}
 	}
 
-	private void clearCache() {
+	private void clearCache(ObjectId basicProjectConfigId) {
 		cacheService.clearCache(CommonConstant.CACHE_FIELD_MAPPING_MAP);
 		cacheService.clearCache(CommonConstant.CACHE_BOARD_META_DATA_MAP);
-		cacheService.clearCache(CommonConstant.JIRAKANBAN_KPI_CACHE);
-		cacheService.clearCache(CommonConstant.JIRA_KPI_CACHE);
-		cacheService.clearCache(CommonConstant.BITBUCKET_KPI_CACHE);
-		cacheService.clearCache(CommonConstant.SONAR_KPI_CACHE);
-		cacheService.clearCache(CommonConstant.TESTING_KPI_CACHE);
-		cacheService.clearCache(CommonConstant.JENKINS_KPI_CACHE);
+		cacheService.evictKpiCache(basicProjectConfigId.toString());
 	}
 
 	/**
@@ -326,7 +326,8 @@ public class ProjectToolConfigServiceImpl implements ProjectToolConfigService {
 		cacheService.clearCache(CommonConstant.CACHE_PROJECT_TOOL_CONFIG_MAP);
 		if (projectTool.getToolName().equalsIgnoreCase(ProcessorConstants.ZEPHYR)
 				|| projectTool.getToolName().equalsIgnoreCase(ProcessorConstants.JIRA_TEST)) {
-			cacheService.clearCache(CommonConstant.TESTING_KPI_CACHE);
+			cacheService.evictKpiCache(
+					projectTool.getBasicProjectConfigId().toHexString(), KPISource.ZEPHYR.name());
 			List<String> kpiList = kpiDataCacheService.getKpiBasedOnSource(KPISource.ZEPHYR.name());
 			kpiList.forEach(
 					kpiId ->
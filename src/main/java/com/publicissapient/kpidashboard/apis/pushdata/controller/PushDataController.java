@@ -21,6 +21,7 @@
 
 package com.publicissapient.kpidashboard.apis.pushdata.controller;
 
+import java.io.IOException;
 import java.util.List;
 import javax.validation.Valid;
 
@@ -33,6 +34,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.publicissapient.kpidashboard.apis.config.CustomApiConfig;
 import com.publicissapient.kpidashboard.apis.model.ServiceResponse;
 import com.publicissapient.kpidashboard.apis.pushdata.model.ExposeApiToken;
 import com.publicissapient.kpidashboard.apis.pushdata.model.PushBuildDeploy;
@@ -42,9 +45,12 @@ import com.publicissapient.kpidashboard.apis.pushdata.model.dto.PushDataTraceLog
 import com.publicissapient.kpidashboard.apis.pushdata.service.AuthExposeAPIService;
 import com.publicissapient.kpidashboard.apis.pushdata.service.PushBaseService;
 import com.publicissapient.kpidashboard.apis.pushdata.service.PushDataTraceLogService;
+import com.publicissapient.kpidashboard.apis.pushdata.util.PushBuildDeployReader;
 
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -60,6 +66,9 @@ public class PushDataController {
 	private final PushBaseService pushBuildService;
 	private final AuthExposeAPIService authExposeAPIService;
 	private final PushDataTraceLogService pushDataTraceLogService;
+	private final CustomApiConfig customApiConfig;
+	private final ObjectMapper objectMapper;
+	private final Validator validator;
 
 	/**
 	 * push data api for build tools
@@ -84,6 +93,40 @@ public class PushDataController {
 										buildDeploy, exposeApiToken.getBasicProjectConfigId())));
 	}
 
+	/**
+	 * bulk push data api for build tools, the body holds one push data json object per line, each
+	 * validated as the body of the push data api
+	 *
+	 * @param request The HTTP request with the newline delimited json body.
+	 * @return A ResponseEntity containing the service response.
+	 */
+	@PostMapping(value = "/build/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE) // NOSONAR
+	public ResponseEntity<ServiceResponse> savePushDataBuildsBulk(HttpServletRequest request) {
+		PushDataTraceLog instance = PushDataTraceLog.getInstance();
+		instance.setPushApiSource("build");
+		ExposeApiToken exposeApiToken = authExposeAPIService.validateToken(request);
+		PushBuildDeploy buildDeploy = null;
+		try {
+			buildDeploy =
+					PushBuildDeployReader.read(
+							request.getInputStream(),
+							objectMapper,
+							validator,
+							customApiConfig.getPushDataBulkLimit());
+		} catch (IOException | ConstraintViolationException e) {
+			log.error("Invalid bulk push data input", e);
+			pushDataTraceLogService.setExceptionTraceLog(
+					"Invalid bulk push data input: " + e.getMessage(), HttpStatus.BAD_REQUEST);
+		}
+		return ResponseEntity.status(HttpStatus.OK)
+				.body(
+						new ServiceResponse(
+								true,
+								"Saved Records successfully",
+								pushBuildService.processBulkPushDataInput(
+										buildDeploy, exposeApiToken.getBasicProjectConfigId())));
+	}
+
 	@GetMapping(value = "/tracelog/{basicConfigId}", consumes = MediaType.APPLICATION_JSON_VALUE)
 	public ResponseEntity<ServiceResponse> getTraceLog(@PathVariable String basicConfigId) {
 		List<PushDataTraceLogDTO> allLogs =
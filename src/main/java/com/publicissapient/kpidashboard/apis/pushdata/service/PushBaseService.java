@@ -26,4 +26,6 @@ import com.publicissapient.kpidashboard.apis.pushdata.model.PushDataResponse;
 public interface PushBaseService {
 
 	PushDataResponse processPushDataInput(PushBuildDeploy buildDeploy, ObjectId projectConfigId);
+
+	PushDataResponse processBulkPushDataInput(PushBuildDeploy buildDeploy, ObjectId projectConfigId);
 }
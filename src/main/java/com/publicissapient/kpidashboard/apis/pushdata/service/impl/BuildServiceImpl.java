@@ -27,12 +27,18 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.bson.types.ObjectId;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Service;
 
 import com.publicissapient.kpidashboard.apis.enums.PushValidationType;
@@ -41,7 +47,6 @@ import com.publicissapient.kpidashboard.apis.pushdata.model.PushErrorData;
 import com.publicissapient.kpidashboard.apis.pushdata.model.dto.PushBuild;
 import com.publicissapient.kpidashboard.common.constant.BuildStatus;
 import com.publicissapient.kpidashboard.common.model.application.Build;
-import com.publicissapient.kpidashboard.common.repository.application.BuildRepository;
 import com.publicissapient.kpidashboard.common.util.DateUtil;
 
 import lombok.extern.slf4j.Slf4j;
@@ -50,7 +55,11 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class BuildServiceImpl {
 
-	@Autowired BuildRepository buildRepository;
+	private static final String BASIC_PROJECT_CONFIG_ID = "basicProjectConfigId";
+	private static final String BUILD_JOB = "buildJob";
+	private static final String NUMBER = "number";
+
+	@Autowired MongoTemplate mongoTemplate;
 
 	@Autowired PushDataValidationServiceImpl pushDataValidationService;
 
@@ -70,6 +79,7 @@ public class BuildServiceImpl {
 			List<PushDataDetail> pushDataDetails) {
 		AtomicInteger failedRecords = new AtomicInteger();
 		if (CollectionUtils.isNotEmpty(buildsList)) {
+			List<PushBuild> validBuilds = new ArrayList<>();
 			buildsList.forEach(
 					pushBuild -> {
 						PushErrorData pushErrorData = new PushErrorData();
@@ -88,15 +98,20 @@ public class BuildServiceImpl {
 							pushErrorData.setErrors(errorMap);
 						} else {
 							// if no errors are present in the input job then it will create Build List
-							buildList.add(
-									createBuild(
-											basicProjectConfigId,
-											pushBuild,
-											checkExisitingJob(pushBuild, basicProjectConfigId)));
+							validBuilds.add(pushBuild);
 						}
 						pushDataDetails.add(createTraceLog(pushErrorData));
 						buildErrorList.add(pushErrorData);
 					});
+			Map<Pair<String, String>, Build> existingBuilds =
+					findExistingBuilds(validBuilds, basicProjectConfigId);
+			validBuilds.forEach(
+					pushBuild ->
+							buildList.add(
+									createBuild(
+											basicProjectConfigId,
+											pushBuild,
+											existingBuilds.get(Pair.of(pushBuild.getJobName(), pushBuild.getNumber())))));
 		}
 		return failedRecords.get();
 	}
@@ -143,19 +158,63 @@ public class BuildServiceImpl {
 	}
 
 	/**
-	 * check existing job on the basis of jobName/jobNumber/basicprojectConfigId
+	 * find the existing builds of the pushed jobs with one query per job name
 	 *
-	 * @param pushBuild
+	 * @param pushBuilds
 	 * @param basicProjectConfigId
-	 * @return
+	 * @return existing builds by job name and number
 	 */
-	private Build checkExisitingJob(PushBuild pushBuild, ObjectId basicProjectConfigId) {
-		return buildRepository.findByNumberAndBuildJobAndBasicProjectConfigId(
-				pushBuild.getNumber(), pushBuild.getJobName(), basicProjectConfigId);
+	private Map<Pair<String, String>, Build> findExistingBuilds(
+			List<PushBuild> pushBuilds, ObjectId basicProjectConfigId) {
+		Map<String, List<String>> jobNumbers =
+				pushBuilds.stream()
+						.collect(
+								Collectors.groupingBy(
+										PushBuild::getJobName,
+										Collectors.mapping(PushBuild::getNumber, Collectors.toList())));
+		Map<Pair<String, String>, Build> existingBuilds = new HashMap<>();
+		jobNumbers.forEach(
+				(jobName, numbers) ->
+						mongoTemplate
+								.find(
+										new Query(
+												Criteria.where(BASIC_PROJECT_CONFIG_ID)
+														.is(basicProjectConfigId)
+														.and(BUILD_JOB)
+														.is(jobName)
+														.and(NUMBER)
+														.in(numbers)),
+										Build.class)
+								.forEach(
+										build ->
+												existingBuilds.putIfAbsent(
+														Pair.of(build.getBuildJob(), build.getNumber()), build)));
+		return existingBuilds;
 	}
 
+	/**
+	 * upsert the builds by job name and number with one unordered bulk write
+	 *
+	 * @param buildList
+	 */
 	protected void saveBuilds(List<Build> buildList) {
-		buildRepository.saveAll(buildList);
+		if (CollectionUtils.isEmpty(buildList)) {
+			return;
+		}
+		BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Build.class);
+		buildList.forEach(
+				build ->
+						bulkOps.replaceOne(
+								new Query(
+										Criteria.where(BASIC_PROJECT_CONFIG_ID)
+												.is(build.getBasicProjectConfigId())
+												.and(BUILD_JOB)
+												.is(build.getBuildJob())
+												.and(NUMBER)
+												.is(build.getNumber())),
+								build,
+								FindAndReplaceOptions.options().upsert()));
+		bulkOps.execute();
 	}
 
 	private Build createBuild(
@@ -28,6 +28,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.MapUtils;
@@ -35,6 +36,11 @@ import org.apache.commons.lang.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.bson.types.ObjectId;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Service;
 
 import com.publicissapient.kpidashboard.apis.enums.PushValidationType;
@@ -43,7 +49,6 @@ import com.publicissapient.kpidashboard.apis.pushdata.model.PushErrorData;
 import com.publicissapient.kpidashboard.apis.pushdata.model.dto.PushDeploy;
 import com.publicissapient.kpidashboard.common.constant.DeploymentStatus;
 import com.publicissapient.kpidashboard.common.model.application.Deployment;
-import com.publicissapient.kpidashboard.common.repository.application.DeploymentRepository;
 import com.publicissapient.kpidashboard.common.util.DateUtil;
 
 import lombok.extern.slf4j.Slf4j;
@@ -52,7 +57,11 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class DeployServiceImpl {
 
-	@Autowired DeploymentRepository deploymentRepository;
+	private static final String BASIC_PROJECT_CONFIG_ID = "basicProjectConfigId";
+	private static final String JOB_NAME = "jobName";
+	private static final String NUMBER = "number";
+
+	@Autowired MongoTemplate mongoTemplate;
 
 	@Autowired PushDataValidationServiceImpl buildValidationService;
 
@@ -72,6 +81,7 @@ public class DeployServiceImpl {
 			List<PushDataDetail> pushDataDetails) {
 		AtomicInteger failedRecords = new AtomicInteger();
 		if (CollectionUtils.isNotEmpty(deployList)) {
+			List<PushDeploy> validDeploys = new ArrayList<>();
 			deployList.forEach(
 					pushDeploy -> {
 						PushErrorData pushErrorData = new PushErrorData();
@@ -90,15 +100,21 @@ public class DeployServiceImpl {
 							pushErrorData.setErrors(errorMap);
 						} else {
 							// if no errors are present in the input job then it will create Deployment List
-							deploymentList.add(
-									createDeployment(
-											basicProjectConfigId,
-											pushDeploy,
-											checkExisitingJob(pushDeploy, basicProjectConfigId)));
+							validDeploys.add(pushDeploy);
 						}
 						pushDataDetails.add(createTraceLog(pushErrorData));
 						deployErrorList.add(pushErrorData);
 					});
+			Map<Pair<String, String>, Deployment> existingDeployments =
+					findExistingDeployments(validDeploys, basicProjectConfigId);
+			validDeploys.forEach(
+					pushDeploy ->
+							deploymentList.add(
+									createDeployment(
+											basicProjectConfigId,
+											pushDeploy,
+											existingDeployments.get(
+													Pair.of(pushDeploy.getJobName(), pushDeploy.getNumber())))));
 		}
 		return failedRecords.get();
 	}
@@ -156,19 +172,64 @@ public class DeployServiceImpl {
 	}
 
 	/**
-	 * check existing job on the basis of jobName/jobNumber/basicprojectConfigId
+	 * find the existing deployments of the pushed jobs with one query per job name
 	 *
-	 * @param pushDeploy
-	 * @param basicProjectObjectConfigId
-	 * @return
+	 * @param pushDeploys
+	 * @param basicProjectConfigId
+	 * @return existing deployments by job name and number
 	 */
-	private Deployment checkExisitingJob(PushDeploy pushDeploy, ObjectId basicProjectObjectConfigId) {
-		return deploymentRepository.findByNumberAndJobNameAndBasicProjectConfigId(
-				pushDeploy.getNumber(), pushDeploy.getJobName(), basicProjectObjectConfigId);
+	private Map<Pair<String, String>, Deployment> findExistingDeployments(
+			List<PushDeploy> pushDeploys, ObjectId basicProjectConfigId) {
+		Map<String, List<String>> jobNumbers =
+				pushDeploys.stream()
+						.collect(
+								Collectors.groupingBy(
+										PushDeploy::getJobName,
+										Collectors.mapping(PushDeploy::getNumber, Collectors.toList())));
+		Map<Pair<String, String>, Deployment> existingDeployments = new HashMap<>();
+		jobNumbers.forEach(
+				(jobName, numbers) ->
+						mongoTemplate
+								.find(
+										new Query(
+												Criteria.where(BASIC_PROJECT_CONFIG_ID)
+														.is(basicProjectConfigId)
+														.and(JOB_NAME)
+														.is(jobName)
+														.and(NUMBER)
+														.in(numbers)),
+										Deployment.class)
+								.forEach(
+										deployment ->
+												existingDeployments.putIfAbsent(
+														Pair.of(deployment.getJobName(), deployment.getNumber()), deployment)));
+		return existingDeployments;
 	}
 
+	/**
+	 * upsert the deployments by job name and number with one unordered bulk write
+	 *
+	 * @param deploymentList
+	 */
 	protected void saveDeployments(List<Deployment> deploymentList) {
-		deploymentRepository.saveAll(deploymentList);
+		if (CollectionUtils.isEmpty(deploymentList)) {
+			return;
+		}
+		BulkOperations bulkOps =
+				mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Deployment.class);
+		deploymentList.forEach(
+				deployment ->
+						bulkOps.replaceOne(
+								new Query(
+										Criteria.where(BASIC_PROJECT_CONFIG_ID)
+												.is(deployment.getBasicProjectConfigId())
+												.and(JOB_NAME)
+												.is(deployment.getJobName())
+												.and(NUMBER)
+												.is(deployment.getNumber())),
+								deployment,
+								FindAndReplaceOptions.options().upsert()));
+		bulkOps.execute();
 	}
 
 	/**
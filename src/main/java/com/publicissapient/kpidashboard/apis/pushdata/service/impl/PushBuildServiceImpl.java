@@ -41,7 +41,6 @@ import com.publicissapient.kpidashboard.apis.pushdata.model.dto.PushBuild;
 import com.publicissapient.kpidashboard.apis.pushdata.model.dto.PushDeploy;
 import com.publicissapient.kpidashboard.apis.pushdata.service.PushBaseService;
 import com.publicissapient.kpidashboard.apis.pushdata.service.PushDataTraceLogService;
-import com.publicissapient.kpidashboard.common.constant.CommonConstant;
 import com.publicissapient.kpidashboard.common.model.application.Build;
 import com.publicissapient.kpidashboard.common.model.application.Deployment;
 
@@ -69,8 +68,28 @@ public class PushBuildServiceImpl implements PushBaseService {
 	@Override
 	public PushDataResponse processPushDataInput(
 			PushBuildDeploy buildDeploy, ObjectId projectConfigId) {
+		return processPushDataInput(buildDeploy, projectConfigId, customApiConfig.getPushDataLimit());
+	}
+
+	/**
+	 * same as {@link #processPushDataInput(PushBuildDeploy, ObjectId)} for the bulk api, with the
+	 * bulk record limit
+	 *
+	 * @param buildDeploy
+	 * @param projectConfigId
+	 * @return
+	 */
+	@Override
+	public PushDataResponse processBulkPushDataInput(
+			PushBuildDeploy buildDeploy, ObjectId projectConfigId) {
+		return processPushDataInput(
+				buildDeploy, projectConfigId, customApiConfig.getPushDataBulkLimit());
+	}
+
+	private PushDataResponse processPushDataInput(
+			PushBuildDeploy buildDeploy, ObjectId projectConfigId, int recordLimit) {
 		PushDataResponse pushDataResponse = new PushDataResponse();
-		pushDataResponse.setTotalRecords(getTotalRecords(buildDeploy));
+		pushDataResponse.setTotalRecords(getTotalRecords(buildDeploy, recordLimit));
 		log.info(
 				"Total Records input for "
 						+ projectConfigId.toHexString()
@@ -137,7 +156,7 @@ public class PushBuildServiceImpl implements PushBaseService {
 		pushDataTraceLogService.save(instance);
 		buildService.saveBuilds(buildList);
 		deployService.saveDeployments(deploymentList);
-		cacheService.clearCache(CommonConstant.JENKINS_KPI_CACHE);
+		cacheService.evictKpiCache(projectConfigId, KPISource.JENKINS.name());
 		List<String> kpiList = kpiDataCacheService.getKpiBasedOnSource(KPISource.JENKINS.name());
 		kpiList.forEach(kpiId -> kpiDataCacheService.clearCache(projectConfigId, kpiId));
 	}
@@ -149,17 +168,21 @@ public class PushBuildServiceImpl implements PushBaseService {
 	 * @return
 	 */
 	public int getTotalRecords(PushBuildDeploy buildDeploy) {
+		return getTotalRecords(buildDeploy, customApiConfig.getPushDataLimit());
+	}
+
+	private int getTotalRecords(PushBuildDeploy buildDeploy, int recordLimit) {
 		if ((CollectionUtils.isNotEmpty(buildDeploy.getDeployments())
-						&& buildDeploy.getDeployments().size() > customApiConfig.getPushDataLimit())
+						&& buildDeploy.getDeployments().size() > recordLimit)
 				|| (CollectionUtils.isNotEmpty(buildDeploy.getBuilds())
-						&& buildDeploy.getBuilds().size() > customApiConfig.getPushDataLimit())) {
+						&& buildDeploy.getBuilds().size() > recordLimit)) {
 			Set<PushDeploy> pushDeploys =
 					Optional.ofNullable(buildDeploy.getDeployments()).orElse(new HashSet<>());
 			Set<PushBuild> pushBuilds =
 					Optional.ofNullable(buildDeploy.getBuilds()).orElse(new HashSet<>());
 			pushDataTraceLogService.setExceptionTraceLog(
 					"Maximum Limit of build/deployment is "
-							+ customApiConfig.getPushDataLimit()
+							+ recordLimit
 							+ ", input-builds are "
 							+ pushBuilds.size()
 							+ " and input-deployments are "
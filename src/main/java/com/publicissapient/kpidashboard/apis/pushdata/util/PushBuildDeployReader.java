@@ -0,0 +1,104 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+
+
+package com.publicissapient.kpidashboard.apis.pushdata.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.commons.collections4.CollectionUtils;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.publicissapient.kpidashboard.apis.pushdata.model.PushBuildDeploy;
+import com.publicissapient.kpidashboard.apis.pushdata.model.dto.PushBuild;
+import com.publicissapient.kpidashboard.apis.pushdata.model.dto.PushDeploy;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
+
+/**
+ * Reads the newline delimited json body of the bulk push data api. Every line is a {@link
+ * PushBuildDeploy} object, usually holding a single build or deployment, and is parsed and
+ * validated as it is read so that the request body is never held as a whole.
+ */
+public final class PushBuildDeployReader {
+
+	private PushBuildDeployReader() {}
+
+	/**
+	 * Merges the lines of the body into one push data input. Reading stops as soon as the builds or
+	 * the deployments go beyond the limit, the caller rejects such input.
+	 *
+	 * @param ndjson request body
+	 * @param objectMapper mapper of the api
+	 * @param validator validator of the api, the builds and deployments of every line are validated
+	 *     as those of the json push data api
+	 * @param recordLimit limit of builds and of deployments
+	 * @return builds and deployments read
+	 * @throws IOException if a line is not a valid push data object
+	 * @throws ConstraintViolationException if a build or deployment of a line is not valid
+	 */
+	public static PushBuildDeploy read(
+			InputStream ndjson, ObjectMapper objectMapper, Validator validator, int recordLimit)
+			throws IOException {
+		Set<PushBuild> builds = new LinkedHashSet<>();
+		Set<PushDeploy> deployments = new LinkedHashSet<>();
+		int lineNumber = 0;
+		try (MappingIterator<PushBuildDeploy> lines =
+				objectMapper.readerFor(PushBuildDeploy.class).readValues(ndjson)) {
+			while (lines.hasNextValue()
+					&& builds.size() <= recordLimit
+					&& deployments.size() <= recordLimit) {
+				PushBuildDeploy line = lines.nextValue();
+				lineNumber++;
+				if (null == line) {
+					continue;
+				}
+				validate(line, validator, lineNumber);
+				builds.addAll(CollectionUtils.emptyIfNull(line.getBuilds()));
+				deployments.addAll(CollectionUtils.emptyIfNull(line.getDeployments()));
+			}
+		}
+		return new PushBuildDeploy(builds, deployments);
+	}
+
+	private static void validate(PushBuildDeploy line, Validator validator, int lineNumber) {
+		Set<ConstraintViolation<?>> violations = new LinkedHashSet<>();
+		Stream.<Object>concat(
+						CollectionUtils.emptyIfNull(line.getBuilds()).stream(),
+						CollectionUtils.emptyIfNull(line.getDeployments()).stream())
+				.forEach(record -> violations.addAll(validator.validate(record)));
+		if (!violations.isEmpty()) {
+			throw new ConstraintViolationException(
+					"line "
+							+ lineNumber
+							+ ": "
+							+ violations.stream()
+									.map(ConstraintViolation::getMessage)
+									.collect(Collectors.joining(", ")),
+					violations);
+		}
+	}
+}
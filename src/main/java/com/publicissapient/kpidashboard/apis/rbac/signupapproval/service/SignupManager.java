@@ -12,6 +12,7 @@ import org.apache.commons.collections4.MapUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import com.publicissapient.kpidashboard.apis.abac.UserAuthorizationContextService;
 import com.publicissapient.kpidashboard.apis.auth.model.Authentication;
 import com.publicissapient.kpidashboard.apis.auth.repository.AuthenticationRepository;
 import com.publicissapient.kpidashboard.apis.auth.service.AuthenticationService;
@@ -43,6 +44,7 @@ public class SignupManager {
 	@Autowired private CustomApiConfig customApiConfig;
 	@Autowired private NotificationService notificationService;
 	@Autowired private TokenAuthenticationService tokenAuthenticationService;
+	@Autowired private UserAuthorizationContextService userAuthorizationContextService;
 
 	/**
 	 * when grant is provided to user
@@ -188,6 +190,7 @@ public class SignupManager {
 		} else {
 			userInfoRepository.deleteById(
 					userInfoRepository.findByUsername(authenticationById.getUsername()).getId());
+			userAuthorizationContextService.evictAuthorizationContext(authenticationById.getUsername());
 			authenticationRepository.delete(authenticationById);
 			isDeleted = true;
 			log.info("Sign up request is deleted for the user: ", username);
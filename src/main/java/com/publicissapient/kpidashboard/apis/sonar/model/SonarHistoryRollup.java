@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+
+
+package com.publicissapient.kpidashboard.apis.sonar.model;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import com.publicissapient.kpidashboard.common.constant.CommonConstant;
+import com.publicissapient.kpidashboard.common.model.generic.BasicModel;
+import com.publicissapient.kpidashboard.common.model.sonar.SonarHistory;
+import com.publicissapient.kpidashboard.common.model.sonar.SonarMetric;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+/**
+ * Latest sonar snapshot of a processor item, project key and branch within a day, a week or a
+ * month, holding only the metrics read by the sonar KPIs.
+ */
+@Data
+@EqualsAndHashCode(callSuper = false)
+@NoArgsConstructor
+@Document(collection = "sonar_history_rollup")
+public class SonarHistoryRollup extends BasicModel {
+
+	private ObjectId processorItemId;
+	private String key;
+	private String name;
+	private String branch;
+	private Period period;
+	/** start of the period, epoch millis */
+	private Long periodStart;
+	/** date and timestamp of the rolled up snapshot */
+	private Long date;
+	private Long timestamp;
+	private List<SonarMetric> metrics;
+
+	/**
+	 * @return the rolled up snapshot, as read by the sonar KPIs
+	 */
+	public SonarHistory toSonarHistory() {
+		return SonarHistory.builder()
+				.processorItemId(processorItemId)
+				.key(key)
+				.name(name)
+				.branch(branch)
+				.date(date)
+				.timestamp(timestamp)
+				.metrics(metrics)
+				.build();
+	}
+
+	/** Periods a snapshot is rolled up by, weeks start on monday. */
+	public enum Period {
+		DAY,
+		WEEK,
+		MONTH;
+
+		/**
+		 * @param date a day of the period
+		 * @return first day of the period
+		 */
+		public LocalDate startOf(LocalDate date) {
+			return switch (this) {
+				case DAY -> date;
+				case WEEK -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+				case MONTH -> date.withDayOfMonth(1);
+			};
+		}
+
+		/**
+		 * @param date a day of the period
+		 * @return last day of the period
+		 */
+		public LocalDate endOf(LocalDate date) {
+			return switch (this) {
+				case DAY -> date;
+				case WEEK -> date.with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY));
+				case MONTH -> date.with(TemporalAdjusters.lastDayOfMonth());
+			};
+		}
+
+		/**
+		 * @param duration kanban duration of the KPI request
+		 * @return the period of the kanban x axis data points
+		 */
+		public static Period ofDuration(String duration) {
+			if (CommonConstant.WEEK.equalsIgnoreCase(duration)) {
+				return WEEK;
+			}
+			if (CommonConstant.MONTH.equalsIgnoreCase(duration)) {
+				return MONTH;
+			}
+			return DAY;
+		}
+	}
+}
@@ -0,0 +1,40 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+
+
+package com.publicissapient.kpidashboard.apis.sonar.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import com.publicissapient.kpidashboard.apis.sonar.model.SonarHistoryRollup;
+import com.publicissapient.kpidashboard.apis.sonar.model.SonarHistoryRollup.Period;
+
+@Repository
+public interface SonarHistoryRollupRepository
+		extends MongoRepository<SonarHistoryRollup, ObjectId> {
+
+	List<SonarHistoryRollup> findByProcessorItemIdInAndPeriodAndTimestampGreaterThan(
+			Collection<ObjectId> processorItemIds, Period period, Long timestamp);
+
+	void deleteByTimestampLessThanEqual(Long timestamp);
+}
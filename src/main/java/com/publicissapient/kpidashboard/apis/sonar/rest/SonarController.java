@@ -34,9 +34,6 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
 
-import com.publicissapient.kpidashboard.apis.common.service.CacheService;
-import com.publicissapient.kpidashboard.apis.constant.Constant;
-import com.publicissapient.kpidashboard.apis.enums.KPISource;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.ServiceResponse;
@@ -63,7 +60,6 @@ public class SonarController {
 
 	private static final String FETCHED_SUCCESSFULLY = "fetched successfully";
 
-	private final CacheService cacheService;
 	private final SonarServiceR sonarService;
 	private final SonarServiceKanbanR sonarServiceKanban;
 	private final SonarToolConfigServiceImpl sonarToolConfigService;
@@ -103,10 +99,6 @@ public class SonarController {
 		log.info(
 				"[SONAR][{}]. Received Sonar KPI request {}", kpiRequest.getRequestTrackerId(), kpiRequest);
 
-		cacheService.setIntoApplicationCache(
-				Constant.KPI_REQUEST_TRACKER_ID_KEY + KPISource.SONAR.name(),
-				kpiRequest.getRequestTrackerId());
-
 		if (CollectionUtils.isEmpty(kpiRequest.getKpiList())) {
 			throw new MissingServletRequestParameterException("kpiList", "List");
 		}
@@ -157,10 +149,6 @@ public class SonarController {
 				kpiRequest.getRequestTrackerId(),
 				kpiRequest);
 
-		cacheService.setIntoApplicationCache(
-				Constant.KPI_REQUEST_TRACKER_ID_KEY + KPISource.SONARKANBAN.name(),
-				kpiRequest.getRequestTrackerId());
-
 		if (CollectionUtils.isEmpty(kpiRequest.getKpiList())) {
 			throw new MissingServletRequestParameterException("kpiList", "List");
 		}
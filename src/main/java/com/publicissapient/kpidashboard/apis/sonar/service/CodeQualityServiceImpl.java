@@ -46,6 +46,7 @@ import com.publicissapient.kpidashboard.apis.errors.ApplicationException;
 import com.publicissapient.kpidashboard.apis.model.CustomDateRange;
 import com.publicissapient.kpidashboard.apis.model.KPIExcelData;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.Node;
 import com.publicissapient.kpidashboard.apis.model.TreeAggregatorDetail;
@@ -216,7 +217,7 @@ public class CodeQualityServiceImpl
 			endDateTime = endDateTime.minusMonths(1);
 		}
 		tempMap.get(projectNodePair.getKey()).setValue(projectWiseDataMap);
-		if (getRequestTrackerId().toLowerCase().contains(KPISource.EXCEL.name().toLowerCase())) {
+		if (KpiExecutionContext.isCurrentExcelRequest(getRequestTrackerId())) {
 			KPIExcelUtility.populateSonarKpisExcelData(
 					tempMap.get(projectNodePair.getKey()).getProjectFilter().getName(),
 					projectList,
@@ -50,9 +50,11 @@ import com.publicissapient.kpidashboard.apis.model.IterationKpiFilters;
 import com.publicissapient.kpidashboard.apis.model.IterationKpiFiltersOptions;
 import com.publicissapient.kpidashboard.apis.model.KPIExcelData;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.Node;
 import com.publicissapient.kpidashboard.apis.model.TreeAggregatorDetail;
+import com.publicissapient.kpidashboard.apis.sonar.model.SonarHistoryRollup.Period;
 import com.publicissapient.kpidashboard.apis.util.KPIExcelUtility;
 import com.publicissapient.kpidashboard.apis.util.KpiDataHelper;
 import com.publicissapient.kpidashboard.common.constant.CommonConstant;
@@ -171,8 +173,9 @@ public class CodeViolationsKanbanServiceImpl
 	@Override
 	public Map<Pair<String, String>, List<SonarHistory>> fetchKPIDataFromDb(
 			List<Node> leafNodeList, String startDate, String endDate, KpiRequest kpiRequest) {
+		Period period = Period.ofDuration(kpiRequest.getDuration());
 		return getSonarHistoryForAllProjects(
-				leafNodeList, getKanbanCurrentDateToFetchFromDb(startDate));
+				leafNodeList, getKanbanCurrentDateToFetchFromDb(startDate), node -> period);
 	}
 
 	/**
@@ -259,9 +262,7 @@ public class CodeViolationsKanbanServiceImpl
 						}
 						overAllJoblist.addAll(projectList);
 						mapTmp.get(projectNodePair.getLeft()).setValue(projectWiseDataMap);
-						if (getRequestTrackerIdKanban()
-								.toLowerCase()
-								.contains(KPISource.EXCEL.name().toLowerCase())) {
+						if (KpiExecutionContext.isCurrentExcelRequest(getRequestTrackerIdKanban())) {
 							KPIExcelUtility.populateSonarViolationsExcelData(
 									mapTmp.get(projectNodePair.getLeft()).getName(),
 									projectList,
@@ -51,9 +51,11 @@ import com.publicissapient.kpidashboard.apis.model.IterationKpiFilters;
 import com.publicissapient.kpidashboard.apis.model.IterationKpiFiltersOptions;
 import com.publicissapient.kpidashboard.apis.model.KPIExcelData;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.Node;
 import com.publicissapient.kpidashboard.apis.model.TreeAggregatorDetail;
+import com.publicissapient.kpidashboard.apis.sonar.model.SonarHistoryRollup.Period;
 import com.publicissapient.kpidashboard.apis.util.KPIExcelUtility;
 import com.publicissapient.kpidashboard.common.constant.CommonConstant;
 import com.publicissapient.kpidashboard.common.model.application.DataCount;
@@ -191,7 +193,8 @@ public class CodeViolationsServiceImpl
 		getSonarHistoryForAllProjects(
 						pList,
 						getScrumCurrentDateToFetchFromDb(
-								CommonConstant.WEEK, (long) customApiConfig.getSonarWeekCount()))
+								CommonConstant.WEEK, (long) customApiConfig.getSonarWeekCount()),
+						node -> null != sprintDetailsList.get(node.getId()) ? Period.DAY : Period.WEEK)
 				.forEach(
 						(projectNodePair, projectData) -> {
 							if (CollectionUtils.isNotEmpty(projectData)) {
@@ -259,7 +262,7 @@ public class CodeViolationsServiceImpl
 		}
 		overAllJoblist.addAll(projectList);
 		tempMap.get(projectNodePair.getKey()).setValue(projectWiseDataMap);
-		if (getRequestTrackerId().toLowerCase().contains(KPISource.EXCEL.name().toLowerCase())) {
+		if (KpiExecutionContext.isCurrentExcelRequest(getRequestTrackerId())) {
 			KPIExcelUtility.populateSonarViolationsExcelData(
 					tempMap.get(projectNodePair.getKey()).getProjectFilter().getName(),
 					projectList,
@@ -0,0 +1,346 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+
+
+package com.publicissapient.kpidashboard.apis.sonar.service;
+
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.group;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.match;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.newAggregation;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+import org.apache.commons.collections4.CollectionUtils;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.publicissapient.kpidashboard.apis.config.CustomApiConfig;
+import com.publicissapient.kpidashboard.apis.constant.Constant;
+import com.publicissapient.kpidashboard.apis.sonar.model.SonarHistoryRollup;
+import com.publicissapient.kpidashboard.apis.sonar.model.SonarHistoryRollup.Period;
+import com.publicissapient.kpidashboard.apis.sonar.repository.SonarHistoryRollupRepository;
+import com.publicissapient.kpidashboard.common.model.sonar.SonarHistory;
+import com.publicissapient.kpidashboard.common.repository.sonar.SonarHistoryRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps the latest sonar snapshot of each day, week and month in {@link SonarHistoryRollup}, so
+ * that the sonar KPIs read one row per period instead of every snapshot.
+ *
+ * <p>A snapshot is rolled up in a period when its timestamp is strictly after the start of the
+ * period and before its last day at 23:59:59, the bounds used by the KPIs to bucket the history.
+ * The rollups are backfilled by a job over the configured horizon. The snapshots stored after the
+ * latest rolled up one are detected and rolled up when the history is read, the KPIs read the
+ * raw history of the processor items not backfilled yet.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SonarHistoryRollupService {
+
+	/** metrics read by the tech debt, code quality, violations and coverage KPIs */
+	static final Set<String> ROLLUP_METRICS =
+			Set.of(
+					"sqale_index",
+					"sqale_rating",
+					"coverage",
+					Constant.BLOCKER_VIOLATIONS,
+					Constant.CRITICAL_VIOLATIONS,
+					Constant.MAJOR_VIOLATIONS,
+					Constant.MINOR_VIOLATIONS,
+					Constant.INFO_VIOLATIONS,
+					Constant.BUGS,
+					Constant.VULNERABILITIES,
+					Constant.CODE_SMELL);
+
+	private static final String ID = "_id";
+	private static final String PROCESSOR_ITEM_ID = "processorItemId";
+	private static final String KEY = "key";
+	private static final String BRANCH = "branch";
+	private static final String PERIOD = "period";
+	private static final String PERIOD_START = "periodStart";
+	private static final String TIMESTAMP = "timestamp";
+
+	private final SonarHistoryRepository sonarHistoryRepository;
+	private final SonarHistoryRollupRepository sonarHistoryRollupRepository;
+	private final MongoTemplate mongoTemplate;
+	private final CustomApiConfig customApiConfig;
+
+	/** timestamp of the latest snapshot rolled up, by processor item */
+	private final Map<ObjectId, Long> rolledUpUntil = new ConcurrentHashMap<>();
+
+	/** lock of each processor item, held while its snapshots are rolled up */
+	private final Map<ObjectId, ReentrantLock> rollupLocks = new ConcurrentHashMap<>();
+
+	/**
+	 * Returns the latest snapshot of each period stored after the timestamp, rolling up the newer
+	 * snapshots first.
+	 *
+	 * @param processorItemIds sonar processor items
+	 * @param timestamp snapshots stored after this timestamp are read
+	 * @param period period of the data points computed from the history
+	 * @return the rolled up history, empty when the rollups do not cover the processor items or the
+	 *     timestamp and the raw history has to be read
+	 */
+	public Optional<List<SonarHistory>> findSonarHistory(
+			List<ObjectId> processorItemIds, long timestamp, Period period) {
+		if (!customApiConfig.isSonarRollupEnabled() || timestamp < horizonStart()) {
+			return Optional.empty();
+		}
+		Set<ObjectId> itemIds = new HashSet<>(processorItemIds);
+		loadRolledUpUntil(itemIds);
+		if (!rolledUpUntil.keySet().containsAll(itemIds)) {
+			return Optional.empty();
+		}
+		rollUpNewHistory(itemIds);
+		return Optional.of(
+				sonarHistoryRollupRepository
+						.findByProcessorItemIdInAndPeriodAndTimestampGreaterThan(itemIds, period, timestamp)
+						.stream()
+						.map(SonarHistoryRollup::toSonarHistory)
+						.toList());
+	}
+
+	@Scheduled(initialDelayString = "${sonar.rollup.backfill-initial-delay-millis:120000}")
+	public void backfillOnStartup() {
+		backfill();
+	}
+
+	/**
+	 * Rolls up the history of the horizon not rolled up yet, and deletes the rollups older than the
+	 * horizon. The rollups already stored are kept, only the snapshots after them are read.
+	 */
+	@Scheduled(cron = "${sonar.rollup.backfill-cron:0 30 1 * * ?}")
+	public void backfill() {
+		if (!customApiConfig.isSonarRollupEnabled()) {
+			return;
+		}
+		long horizonStart = horizonStart();
+		List<ObjectId> itemIds =
+				mongoTemplate.findDistinct(
+						new Query(where(TIMESTAMP).gt(horizonStart)),
+						PROCESSOR_ITEM_ID,
+						SonarHistory.class,
+						ObjectId.class);
+		loadRolledUpUntil(itemIds);
+		int rows = 0;
+		for (ObjectId itemId : itemIds) {
+			rows += backfill(itemId, horizonStart);
+		}
+		sonarHistoryRollupRepository.deleteByTimestampLessThanEqual(horizonStart);
+		log.info(
+				"Sonar history of {} processor items backfilled, {} rollups written", itemIds.size(), rows);
+	}
+
+	private int backfill(ObjectId itemId, long horizonStart) {
+		ReentrantLock lock = rollupLock(itemId);
+		lock.lock();
+		try {
+			return backfillLocked(itemId, horizonStart);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private int backfillLocked(ObjectId itemId, long horizonStart) {
+		long from = Math.max(rolledUpUntil.getOrDefault(itemId, horizonStart), horizonStart);
+		Query query =
+				new Query(where(PROCESSOR_ITEM_ID).is(itemId).and(TIMESTAMP).gt(from))
+						.with(Sort.by(TIMESTAMP));
+		Map<RollupKey, SonarHistory> latest = new HashMap<>();
+		long until = from;
+		try (Stream<SonarHistory> history = mongoTemplate.stream(query, SonarHistory.class)) {
+			Iterator<SonarHistory> iterator = history.iterator();
+			while (iterator.hasNext()) {
+				SonarHistory sonarHistory = iterator.next();
+				fold(sonarHistory, latest);
+				until = Math.max(until, sonarHistory.getTimestamp());
+			}
+		}
+		save(latest);
+		if (!latest.isEmpty() || rolledUpUntil.containsKey(itemId)) {
+			rolledUpUntil.put(itemId, until);
+		}
+		return latest.size();
+	}
+
+	/**
+	 * Rolls up the snapshots stored after the latest rolled up one of each processor item. Only the
+	 * processor items read are locked, in a fixed order, so the reads of other projects go on.
+	 */
+	private void rollUpNewHistory(Set<ObjectId> itemIds) {
+		List<ReentrantLock> locks = itemIds.stream().sorted().map(this::rollupLock).toList();
+		locks.forEach(ReentrantLock::lock);
+		try {
+			rollUpNewHistoryLocked(itemIds);
+		} finally {
+			locks.forEach(ReentrantLock::unlock);
+		}
+	}
+
+	private void rollUpNewHistoryLocked(Set<ObjectId> itemIds) {
+		long from = itemIds.stream().mapToLong(rolledUpUntil::get).min().orElse(Long.MAX_VALUE);
+		List<SonarHistory> newHistory =
+				sonarHistoryRepository.findByProcessorItemIdInAndTimestampGreaterThan(
+						List.copyOf(itemIds), from);
+		if (CollectionUtils.isEmpty(newHistory)) {
+			return;
+		}
+		Map<RollupKey, SonarHistory> latest = new HashMap<>();
+		Map<ObjectId, Long> until = new HashMap<>();
+		newHistory.stream()
+				.filter(
+						sonarHistory ->
+								sonarHistory.getTimestamp() > rolledUpUntil.get(sonarHistory.getProcessorItemId()))
+				.forEach(
+						sonarHistory -> {
+							fold(sonarHistory, latest);
+							until.merge(
+									sonarHistory.getProcessorItemId(), sonarHistory.getTimestamp(), Math::max);
+						});
+		save(latest);
+		rolledUpUntil.putAll(until);
+	}
+
+	private ReentrantLock rollupLock(ObjectId itemId) {
+		return rollupLocks.computeIfAbsent(itemId, id -> new ReentrantLock());
+	}
+
+	/** Loads the timestamp of the latest rolled up snapshot of the processor items not known yet. */
+	private void loadRolledUpUntil(Collection<ObjectId> itemIds) {
+		List<ObjectId> unknownIds =
+				itemIds.stream().filter(itemId -> !rolledUpUntil.containsKey(itemId)).toList();
+		if (unknownIds.isEmpty()) {
+			return;
+		}
+		mongoTemplate
+				.aggregate(
+						newAggregation(
+								match(where(PROCESSOR_ITEM_ID).in(unknownIds)),
+								group(PROCESSOR_ITEM_ID).max(TIMESTAMP).as(TIMESTAMP)),
+						SonarHistoryRollup.class,
+						Document.class)
+				.forEach(
+						rollup -> rolledUpUntil.putIfAbsent(rollup.getObjectId(ID), rollup.getLong(TIMESTAMP)));
+	}
+
+	private static void fold(SonarHistory sonarHistory, Map<RollupKey, SonarHistory> latest) {
+		long timestamp = sonarHistory.getTimestamp();
+		LocalDate day = Instant.ofEpochMilli(timestamp).atZone(ZoneId.systemDefault()).toLocalDate();
+		for (Period period : Period.values()) {
+			LocalDate start = period.startOf(day);
+			long startMillis = start.atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli();
+			long endMillis =
+					period
+							.endOf(day)
+							.atTime(23, 59, 59)
+							.atZone(ZoneId.systemDefault())
+							.toInstant()
+							.toEpochMilli();
+			if (timestamp > startMillis && timestamp < endMillis) {
+				latest.merge(
+						new RollupKey(
+								sonarHistory.getProcessorItemId(),
+								sonarHistory.getKey(),
+								sonarHistory.getBranch(),
+								period,
+								startMillis),
+						sonarHistory,
+						(rolledUp, other) -> other.getTimestamp() > rolledUp.getTimestamp() ? other : rolledUp);
+			}
+		}
+	}
+
+	private void save(Map<RollupKey, SonarHistory> latest) {
+		if (latest.isEmpty()) {
+			return;
+		}
+		BulkOperations bulkOperations =
+				mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, SonarHistoryRollup.class);
+		latest.forEach(
+				(rollupKey, sonarHistory) ->
+						bulkOperations.replaceOne(
+								new Query(
+										where(PROCESSOR_ITEM_ID)
+												.is(rollupKey.processorItemId())
+												.and(KEY)
+												.is(rollupKey.key())
+												.and(BRANCH)
+												.is(rollupKey.branch())
+												.and(PERIOD)
+												.is(rollupKey.period())
+												.and(PERIOD_START)
+												.is(rollupKey.periodStart())),
+								toRollup(rollupKey, sonarHistory),
+								FindAndReplaceOptions.options().upsert()));
+		bulkOperations.execute();
+	}
+
+	private static SonarHistoryRollup toRollup(RollupKey rollupKey, SonarHistory sonarHistory) {
+		SonarHistoryRollup rollup = new SonarHistoryRollup();
+		rollup.setProcessorItemId(rollupKey.processorItemId());
+		rollup.setKey(rollupKey.key());
+		rollup.setName(sonarHistory.getName());
+		rollup.setBranch(rollupKey.branch());
+		rollup.setPeriod(rollupKey.period());
+		rollup.setPeriodStart(rollupKey.periodStart());
+		rollup.setDate(sonarHistory.getDate());
+		rollup.setTimestamp(sonarHistory.getTimestamp());
+		if (null != sonarHistory.getMetrics()) {
+			rollup.setMetrics(
+					sonarHistory.getMetrics().stream()
+							.filter(metric -> ROLLUP_METRICS.contains(metric.getMetricName()))
+							.toList());
+		}
+		return rollup;
+	}
+
+	private long horizonStart() {
+		return LocalDate.now()
+				.minusDays(customApiConfig.getSonarRollupHorizonDays())
+				.atStartOfDay(ZoneId.systemDefault())
+				.toInstant()
+				.toEpochMilli();
+	}
+
+	private record RollupKey(
+			ObjectId processorItemId, String key, String branch, Period period, long periodStart) {}
+}
@@ -27,6 +27,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -36,17 +37,17 @@ import org.springframework.beans.factory.annotation.Autowired;
 
 import com.publicissapient.kpidashboard.apis.appsetting.service.ConfigHelperService;
 import com.publicissapient.kpidashboard.apis.common.service.ApplicationKPIService;
-import com.publicissapient.kpidashboard.apis.common.service.CacheService;
 import com.publicissapient.kpidashboard.apis.common.service.ToolsKPIService;
 import com.publicissapient.kpidashboard.apis.config.CustomApiConfig;
 import com.publicissapient.kpidashboard.apis.constant.Constant;
-import com.publicissapient.kpidashboard.apis.enums.KPISource;
 import com.publicissapient.kpidashboard.apis.errors.ApplicationException;
 import com.publicissapient.kpidashboard.apis.jira.service.SprintDetailsServiceImpl;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.Node;
 import com.publicissapient.kpidashboard.apis.model.TreeAggregatorDetail;
+import com.publicissapient.kpidashboard.apis.sonar.model.SonarHistoryRollup.Period;
 import com.publicissapient.kpidashboard.common.constant.CommonConstant;
 import com.publicissapient.kpidashboard.common.model.application.DataCount;
 import com.publicissapient.kpidashboard.common.model.application.Tool;
@@ -68,32 +69,31 @@ public abstract class SonarKPIService<R, S, T> extends ToolsKPIService<R, S>
 	DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
 	private static final String DATE_TIME_FORMAT_REGEX = "Z|\\.\\d+";
 
-	@Autowired private CacheService cacheService;
-
 	@Autowired private ConfigHelperService configHelperService;
 
 	@Autowired private SprintDetailsServiceImpl sprintDetailsService;
 
 	@Autowired private SonarHistoryRepository sonarHistoryRepository;
 
+	@Autowired private SonarHistoryRollupService sonarHistoryRollupService;
+
 	@Autowired private CustomApiConfig customApiConfig;
 
 	public abstract String getQualifierType();
 
 	/**
 	 * Returns API Request tracker Id to be used for logging/debugging and using it for maintaining
-	 * any sort of cache.
+	 * any sort of cache. The id is the one of the request computing the KPI, empty outside of a KPI
+	 * request.
 	 *
 	 * @return
 	 */
 	protected String getRequestTrackerId() {
-		return cacheService.getFromApplicationCache(
-				Constant.KPI_REQUEST_TRACKER_ID_KEY + KPISource.SONAR.name());
+		return KpiExecutionContext.currentRequestTrackerId();
 	}
 
 	protected String getRequestTrackerIdKanban() {
-		return cacheService.getFromApplicationCache(
-				Constant.KPI_REQUEST_TRACKER_ID_KEY + KPISource.SONARKANBAN.name());
+		return KpiExecutionContext.currentRequestTrackerId();
 	}
 
 	/**
@@ -114,10 +114,11 @@ public abstract class SonarKPIService<R, S, T> extends ToolsKPIService<R, S>
 	 *
 	 * @param projectId
 	 * @param currentDate
+	 * @param period period of the data points, the latest snapshot of each period is fetched
 	 * @return
 	 */
 	private List<SonarHistory> getSonarHistoryBasedOnProject(
-			ObjectId projectId, LocalDate currentDate) {
+			ObjectId projectId, LocalDate currentDate, Period period) {
 		List<SonarHistory> projectSonarList = new ArrayList<>();
 		if (null != configHelperService.getToolItemMap()
 				&& null != configHelperService.getToolItemMap().get(projectId)) {
@@ -134,8 +135,7 @@ public abstract class SonarKPIService<R, S, T> extends ToolsKPIService<R, S>
 								job.getProcessorItemList()
 										.forEach(processorItem -> processorItemList.add(processorItem.getId()));
 								List<SonarHistory> sonarHistoryList =
-										sonarHistoryRepository.findByProcessorItemIdInAndTimestampGreaterThan(
-												processorItemList, timestamp);
+										findSonarHistory(processorItemList, timestamp, period);
 								if (CollectionUtils.isNotEmpty(sonarHistoryList)) {
 									projectSonarList.addAll(sonarHistoryList);
 								}
@@ -146,6 +146,16 @@ public abstract class SonarKPIService<R, S, T> extends ToolsKPIService<R, S>
 		return projectSonarList;
 	}
 
+	private List<SonarHistory> findSonarHistory(
+			List<ObjectId> processorItemList, Long timestamp, Period period) {
+		return sonarHistoryRollupService
+				.findSonarHistory(processorItemList, timestamp, period)
+				.orElseGet(
+						() ->
+								sonarHistoryRepository.findByProcessorItemIdInAndTimestampGreaterThan(
+										processorItemList, timestamp));
+	}
+
 	/**
 	 * fetchng data from history table based on kanban/scrum
 	 *
@@ -155,6 +165,20 @@ public abstract class SonarKPIService<R, S, T> extends ToolsKPIService<R, S>
 	 */
 	public Map<Pair<String, String>, List<SonarHistory>> getSonarHistoryForAllProjects(
 			List<Node> projectList, LocalDate currentDate) {
+		return getSonarHistoryForAllProjects(projectList, currentDate, node -> Period.DAY);
+	}
+
+	/**
+	 * fetching the latest snapshot of each period from history table based on kanban/scrum, a day
+	 * gives the latest snapshot of any period made of whole days
+	 *
+	 * @param projectList
+	 * @param currentDate
+	 * @param periodOfProject period of the data points of each project
+	 * @return
+	 */
+	public Map<Pair<String, String>, List<SonarHistory>> getSonarHistoryForAllProjects(
+			List<Node> projectList, LocalDate currentDate, Function<Node, Period> periodOfProject) {
 		Map<Pair<String, String>, List<SonarHistory>> map = new HashMap<>();
 		projectList.stream()
 				.filter(
@@ -166,7 +190,9 @@ public abstract class SonarKPIService<R, S, T> extends ToolsKPIService<R, S>
 								map.put(
 										Pair.of(node.getId(), node.getProjectFilter().getName()),
 										getSonarHistoryBasedOnProject(
-												node.getProjectFilter().getBasicProjectConfigId(), currentDate)));
+												node.getProjectFilter().getBasicProjectConfigId(),
+												currentDate,
+												periodOfProject.apply(node))));
 		return map;
 	}
 
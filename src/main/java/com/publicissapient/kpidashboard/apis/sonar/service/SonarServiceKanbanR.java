@@ -22,13 +22,13 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.apache.commons.collections4.CollectionUtils;
-import org.apache.commons.lang.SerializationUtils;
 import org.apache.commons.lang3.math.NumberUtils;
 import org.springframework.stereotype.Service;
 
 import com.publicissapient.kpidashboard.apis.abac.UserAuthorizedProjectsService;
 import com.publicissapient.kpidashboard.apis.auth.apikey.ApiKeyAuthenticationService;
 import com.publicissapient.kpidashboard.apis.common.service.CacheService;
+import com.publicissapient.kpidashboard.apis.common.service.impl.KpiExecutionEngine;
 import com.publicissapient.kpidashboard.apis.common.service.impl.KpiHelperService;
 import com.publicissapient.kpidashboard.apis.enums.KPICode;
 import com.publicissapient.kpidashboard.apis.enums.KPISource;
@@ -37,8 +37,10 @@ import com.publicissapient.kpidashboard.apis.errors.EntityNotFoundException;
 import com.publicissapient.kpidashboard.apis.filter.service.FilterHelperService;
 import com.publicissapient.kpidashboard.apis.model.AccountHierarchyDataKanban;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.Node;
+import com.publicissapient.kpidashboard.apis.model.NodeValueOverlay;
 import com.publicissapient.kpidashboard.apis.model.TreeAggregatorDetail;
 import com.publicissapient.kpidashboard.apis.sonar.factory.SonarKPIServiceFactory;
 import com.publicissapient.kpidashboard.apis.util.KPIHelperUtil;
@@ -59,6 +61,7 @@ public class SonarServiceKanbanR {
 	private final KpiHelperService kpiHelperService;
 	private final FilterHelperService filterHelperService;
 	private final UserAuthorizedProjectsService authorizedProjectsService;
+	private final KpiExecutionEngine kpiExecutionEngine;
 
 	/**
 	 * Process Sonar KPI request
@@ -125,13 +128,19 @@ public class SonarServiceKanbanR {
 							filterHelperService
 									.getHierarchyIdLevelMap(false)
 									.getOrDefault(CommonConstant.HIERARCHY_LEVEL_ID_PROJECT, 0));
-			for (KpiElement kpiEle : kpiRequest.getKpiList()) {
-				responseList.add(
-						calculateAllKPIAggregatedMetrics(kpiRequest, kpiEle, treeAggregatorDetail));
+			boolean forecastPending;
+			try (KpiExecutionContext.Scope scope = kpiExecutionEngine.openContext(kpiRequest)) {
+				for (KpiElement kpiEle : kpiRequest.getKpiList()) {
+					responseList.add(
+							calculateAllKPIAggregatedMetrics(
+									kpiRequest, kpiEle, treeAggregatorDetail));
+				}
+				forecastPending = KpiExecutionContext.current().isForecastPending();
 			}
 			// skip using cache when the request is made with an api key and also processing
 			// by group id will be disabled
-			if (Boolean.FALSE.equals(ApiKeyAuthenticationService.isApiKeyRequest())) {
+			if (!forecastPending
+					&& Boolean.FALSE.equals(ApiKeyAuthenticationService.isApiKeyRequest())) {
 				setIntoApplicationCache(kpiRequest, responseList, groupId, kanbanProjectKeyCache);
 			}
 
@@ -164,17 +173,19 @@ public class SonarServiceKanbanR {
 
 			startTime = System.currentTimeMillis();
 
-			TreeAggregatorDetail treeAggregatorDetailClone =
-					(TreeAggregatorDetail) SerializationUtils.clone(treeAggregatorDetail);
+			TreeAggregatorDetail treeAggregatorDetailView = treeAggregatorDetail.createKpiView();
 			List<Node> projectNodes =
-					treeAggregatorDetailClone
+					treeAggregatorDetailView
 							.getMapOfListOfProjectNodes()
 							.get(CommonConstant.PROJECT.toLowerCase());
 
 			if (!projectNodes.isEmpty()
 					&& (projectNodes.size() > 1
 							|| kpiHelperService.isToolConfigured(kpi, kpiElement, projectNodes.get(0)))) {
-				kpiElement = sonarKPIService.getKpiData(kpiRequest, kpiElement, treeAggregatorDetailClone);
+				try (NodeValueOverlay nodeValues = NodeValueOverlay.open()) {
+					kpiElement =
+							sonarKPIService.getKpiData(kpiRequest, kpiElement, treeAggregatorDetailView);
+				}
 				kpiElement.setResponseCode(CommonConstant.KPI_PASSED);
 				if (projectNodes.size() == 1) {
 					kpiHelperService.isMandatoryFieldSet(kpi, kpiElement, projectNodes.get(0));
@@ -219,10 +230,7 @@ public class SonarServiceKanbanR {
 				filterHelperService
 						.getHierarchyIdLevelMap(true)
 						.get(CommonConstant.HIERARCHY_LEVEL_ID_PROJECT);
-		if (!kpiRequest
-						.getRequestTrackerId()
-						.toLowerCase()
-						.contains(KPISource.EXCEL.name().toLowerCase())
+		if (!KpiExecutionContext.isCurrentExcelRequest(kpiRequest.getRequestTrackerId())
 				&& projectLevel >= kpiRequest.getLevel()) {
 			cacheService.setIntoApplicationCache(
 					kanbanProjectKeyCache, responseList, KPISource.SONARKANBAN.name(), groupId, null);
@@ -234,10 +242,7 @@ public class SonarServiceKanbanR {
 		Object cachedData =
 				cacheService.getFromApplicationCache(
 						kanbanProjectKeyCache, KPISource.SONARKANBAN.name(), groupId, null);
-		if (!kpiRequest
-						.getRequestTrackerId()
-						.toLowerCase()
-						.contains(KPISource.EXCEL.name().toLowerCase())
+		if (!KpiExecutionContext.isCurrentExcelRequest(kpiRequest.getRequestTrackerId())
 				&& null != cachedData) {
 			log.info(
 					"[SONAR KANBAN][{}]. Fetching value from cache for {}",
@@ -20,13 +20,9 @@ package com.publicissapient.kpidashboard.apis.sonar.service;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 import org.apache.commons.collections4.MapUtils;
-import org.apache.commons.lang.SerializationUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.util.CollectionUtils;
@@ -34,7 +30,10 @@ import org.springframework.util.CollectionUtils;
 import com.publicissapient.kpidashboard.apis.abac.UserAuthorizedProjectsService;
 import com.publicissapient.kpidashboard.apis.auth.apikey.ApiKeyAuthenticationService;
 import com.publicissapient.kpidashboard.apis.common.service.CacheService;
+import com.publicissapient.kpidashboard.apis.common.service.impl.KpiExecutionEngine;
+import com.publicissapient.kpidashboard.apis.common.service.impl.KpiExecutionEngine.KpiExecutionResult;
 import com.publicissapient.kpidashboard.apis.common.service.impl.KpiHelperService;
+import com.publicissapient.kpidashboard.apis.common.service.impl.KpiRequestCoalescer;
 import com.publicissapient.kpidashboard.apis.config.CustomApiConfig;
 import com.publicissapient.kpidashboard.apis.enums.KPICode;
 import com.publicissapient.kpidashboard.apis.enums.KPISource;
@@ -43,8 +42,10 @@ import com.publicissapient.kpidashboard.apis.filter.service.FilterHelperService;
 import com.publicissapient.kpidashboard.apis.kpiintegration.service.KpiIntegrationServiceImpl;
 import com.publicissapient.kpidashboard.apis.model.AccountHierarchyData;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.Node;
+import com.publicissapient.kpidashboard.apis.model.NodeValueOverlay;
 import com.publicissapient.kpidashboard.apis.model.TreeAggregatorDetail;
 import com.publicissapient.kpidashboard.apis.sonar.factory.SonarKPIServiceFactory;
 import com.publicissapient.kpidashboard.apis.util.KPIHelperUtil;
@@ -70,6 +71,10 @@ public class SonarServiceR {
 
 	@Autowired private UserAuthorizedProjectsService authorizedProjectsService;
 
+	@Autowired private KpiExecutionEngine kpiExecutionEngine;
+
+	@Autowired private KpiRequestCoalescer kpiRequestCoalescer;
+
 	private boolean referFromProjectCache = true;
 
 	/**
@@ -88,7 +93,6 @@ public class SonarServiceR {
 		List<KpiElement> origRequestedKpis =
 				kpiRequest.getKpiList().stream().map(KpiElement::new).toList();
 		List<KpiElement> responseList = new ArrayList<>();
-		String[] projectKeyCache;
 		try {
 			Integer groupId = kpiRequest.getKpiList().get(0).getGroupId();
 			String groupName =
@@ -103,56 +107,40 @@ public class SonarServiceR {
 					filterHelperService.getFilteredBuilds(kpiRequest, groupName);
 			if (!CollectionUtils.isEmpty(filteredAccountDataList)) {
 
-				projectKeyCache = getProjectKeyCache(kpiRequest, filteredAccountDataList);
-				filteredAccountDataList = getAuthorizedFilteredList(kpiRequest, filteredAccountDataList);
-				if (filteredAccountDataList.isEmpty()) {
+				String[] projectKeyCache = getProjectKeyCache(kpiRequest, filteredAccountDataList);
+				List<AccountHierarchyData> authorizedAccountDataList =
+						getAuthorizedFilteredList(kpiRequest, filteredAccountDataList);
+				if (authorizedAccountDataList.isEmpty()) {
 					return responseList;
 				}
+				String cacheKey = null;
 				// skip using cache when the request is made with an api key
 				if (Boolean.FALSE.equals(ApiKeyAuthenticationService.isApiKeyRequest())) {
 					Object cachedData =
 							cacheService.getFromApplicationCache(
 									projectKeyCache, KPISource.SONAR.name(), groupId, kpiRequest.getSprintIncluded());
 					getDataFromCache(cachedData, kpiRequest);
+					if (isCachedResponse(kpiRequest)) {
+						cacheKey =
+								cacheService.getKpiCacheKey(
+										projectKeyCache,
+										KPISource.SONAR.name(),
+										groupId,
+										kpiRequest.getSprintIncluded());
+					}
 				}
-				TreeAggregatorDetail treeAggregatorDetail =
-						KPIHelperUtil.getTreeLeafNodesGroupedByFilter(
+				responseList.addAll(
+						kpiRequestCoalescer.computeOnce(
 								kpiRequest,
-								filteredAccountDataList,
-								null,
-								filterHelperService.getFirstHierarchyLevel(),
-								filterHelperService
-										.getHierarchyIdLevelMap(false)
-										.getOrDefault(CommonConstant.HIERARCHY_LEVEL_ID_SPRINT, 0));
-				updateTreeAggregatorDetail(kpiRequest, treeAggregatorDetail);
-				ExecutorService executorService =
-						Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
-
-				List<CompletableFuture<Void>> futures = new ArrayList<>();
-				for (KpiElement kpiElement : kpiRequest.getKpiList()) {
-					CompletableFuture<Void> future =
-							CompletableFuture.runAsync(
-									() -> {
-										try {
-											responseList.add(
-													calculateAllKPIAggregatedMetrics(
-															kpiRequest, kpiElement, treeAggregatorDetail));
-										} catch (Exception e) {
-											log.error(
-													"Error while KPI calculation for data {}", kpiRequest.getKpiList(), e);
-										}
-									},
-									executorService);
-					futures.add(future);
-				}
-				CompletableFuture<Void> allFutures =
-						CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
-				allFutures.join(); // Wait for all tasks to complete
-				executorService.shutdown();
-
-				List<KpiElement> missingKpis = filterKips(origRequestedKpis, responseList);
-				responseList.addAll(missingKpis);
-				setIntoKnowHowCache(kpiRequest, responseList, groupId, projectKeyCache);
+								KPISource.SONAR.name(),
+								cacheKey,
+								() ->
+										calculateKpis(
+												kpiRequest,
+												authorizedAccountDataList,
+												origRequestedKpis,
+												groupId,
+												projectKeyCache)));
 			} else {
 				responseList.addAll(origRequestedKpis);
 			}
@@ -187,17 +175,19 @@ public class SonarServiceR {
 
 			startTime = System.currentTimeMillis();
 
-			TreeAggregatorDetail treeAggregatorDetailClone =
-					(TreeAggregatorDetail) SerializationUtils.clone(treeAggregatorDetail);
+			TreeAggregatorDetail treeAggregatorDetailView = treeAggregatorDetail.createKpiView();
 			List<Node> projectNodes =
-					treeAggregatorDetailClone
+					treeAggregatorDetailView
 							.getMapOfListOfProjectNodes()
 							.get(CommonConstant.PROJECT.toLowerCase());
 
 			if (!projectNodes.isEmpty()
 					&& (projectNodes.size() > 1
 							|| kpiHelperService.isToolConfigured(kpi, kpiElement, projectNodes.get(0)))) {
-				kpiElement = sonarKPIService.getKpiData(kpiRequest, kpiElement, treeAggregatorDetailClone);
+				try (NodeValueOverlay nodeValues = NodeValueOverlay.open()) {
+					kpiElement =
+							sonarKPIService.getKpiData(kpiRequest, kpiElement, treeAggregatorDetailView);
+				}
 				kpiElement.setResponseCode(CommonConstant.KPI_PASSED);
 				if (projectNodes.size() == 1) {
 					kpiHelperService.isMandatoryFieldSet(kpi, kpiElement, projectNodes.get(0));
@@ -238,15 +228,8 @@ public class SonarServiceR {
 			List<KpiElement> responseList,
 			Integer groupId,
 			String[] projectKeyCache) {
-		Integer projectLevel =
-				filterHelperService
-						.getHierarchyIdLevelMap(false)
-						.get(CommonConstant.HIERARCHY_LEVEL_ID_PROJECT);
-		if (!kpiRequest
-						.getRequestTrackerId()
-						.toLowerCase()
-						.contains(KPISource.EXCEL.name().toLowerCase())
-				&& projectLevel >= kpiRequest.getLevel()) {
+		if (!KpiExecutionContext.isCurrentExcelRequest(kpiRequest.getRequestTrackerId())
+				&& isCachedResponse(kpiRequest)) {
 			cacheService.setIntoApplicationCache(
 					projectKeyCache,
 					responseList,
@@ -256,11 +239,55 @@ public class SonarServiceR {
 		}
 	}
 
+	/**
+	 * Only the responses of the project level and above are cached. Only those requests are
+	 * keyed for coalescing, the others depend on more than their cache key.
+	 */
+	private boolean isCachedResponse(KpiRequest kpiRequest) {
+		Integer projectLevel =
+				filterHelperService
+						.getHierarchyIdLevelMap(false)
+						.get(CommonConstant.HIERARCHY_LEVEL_ID_PROJECT);
+		return null != projectLevel && projectLevel >= kpiRequest.getLevel();
+	}
+
+	private List<KpiElement> calculateKpis(
+			KpiRequest kpiRequest,
+			List<AccountHierarchyData> filteredAccountDataList,
+			List<KpiElement> origRequestedKpis,
+			Integer groupId,
+			String[] projectKeyCache)
+			throws ApplicationException {
+		TreeAggregatorDetail treeAggregatorDetail =
+				KPIHelperUtil.getTreeLeafNodesGroupedByFilter(
+						kpiRequest,
+						filteredAccountDataList,
+						null,
+						filterHelperService.getFirstHierarchyLevel(),
+						filterHelperService
+								.getHierarchyIdLevelMap(false)
+								.getOrDefault(CommonConstant.HIERARCHY_LEVEL_ID_SPRINT, 0));
+		updateTreeAggregatorDetail(kpiRequest, treeAggregatorDetail);
+		KpiExecutionResult executionResult =
+				kpiExecutionEngine.execute(
+						KPISource.SONAR.name(),
+						kpiRequest,
+						kpiEle -> calculateAllKPIAggregatedMetrics(kpiRequest, kpiEle, treeAggregatorDetail));
+		List<KpiElement> responseList = new ArrayList<>(executionResult.getKpiElements());
+
+		List<KpiElement> missingKpis =
+				filterKips(origRequestedKpis, responseList).stream()
+						.map(executionResult::markTimedOut)
+						.toList();
+		responseList.addAll(missingKpis);
+		if (executionResult.isComplete()) {
+			setIntoKnowHowCache(kpiRequest, responseList, groupId, projectKeyCache);
+		}
+		return responseList;
+	}
+
 	private Object getDataFromCache(Object cachedData, KpiRequest kpiRequest) {
-		if (!kpiRequest
-						.getRequestTrackerId()
-						.toLowerCase()
-						.contains(KPISource.EXCEL.name().toLowerCase())
+		if (!KpiExecutionContext.isCurrentExcelRequest(kpiRequest.getRequestTrackerId())
 				&& null != cachedData)
 			log.info(
 					"[JIRA][{}]. Fetching value from cache for {}",
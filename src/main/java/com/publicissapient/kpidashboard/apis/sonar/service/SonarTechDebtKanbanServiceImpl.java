@@ -44,9 +44,11 @@ import com.publicissapient.kpidashboard.apis.errors.ApplicationException;
 import com.publicissapient.kpidashboard.apis.model.CustomDateRange;
 import com.publicissapient.kpidashboard.apis.model.KPIExcelData;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.Node;
 import com.publicissapient.kpidashboard.apis.model.TreeAggregatorDetail;
+import com.publicissapient.kpidashboard.apis.sonar.model.SonarHistoryRollup.Period;
 import com.publicissapient.kpidashboard.apis.util.KPIExcelUtility;
 import com.publicissapient.kpidashboard.apis.util.KpiDataHelper;
 import com.publicissapient.kpidashboard.common.constant.CommonConstant;
@@ -213,9 +215,7 @@ public class SonarTechDebtKanbanServiceImpl
 							currentDate = getNextRangeDate(kpiRequest, currentDate);
 						}
 						mapTmp.get(projectNodePair.getLeft()).setValue(projectWiseDataMap);
-						if (getRequestTrackerIdKanban()
-								.toLowerCase()
-								.contains(KPISource.EXCEL.name().toLowerCase())) {
+						if (KpiExecutionContext.isCurrentExcelRequest(getRequestTrackerIdKanban())) {
 							KPIExcelUtility.populateSonarKpisExcelData(
 									mapTmp.get(projectNodePair.getLeft()).getProjectFilter().getName(),
 									projectList,
@@ -254,8 +254,9 @@ public class SonarTechDebtKanbanServiceImpl
 	@Override
 	public Map<Pair<String, String>, List<SonarHistory>> fetchKPIDataFromDb(
 			List<Node> leafNodeList, String startDate, String endDate, KpiRequest kpiRequest) {
+		Period period = Period.ofDuration(kpiRequest.getDuration());
 		return getSonarHistoryForAllProjects(
-				leafNodeList, getKanbanCurrentDateToFetchFromDb(startDate));
+				leafNodeList, getKanbanCurrentDateToFetchFromDb(startDate), node -> period);
 	}
 
 	public Long getTechDebtValue(Object sqlIndex) {
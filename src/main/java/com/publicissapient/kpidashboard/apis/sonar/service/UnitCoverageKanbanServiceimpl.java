@@ -46,9 +46,11 @@ import com.publicissapient.kpidashboard.apis.errors.ApplicationException;
 import com.publicissapient.kpidashboard.apis.model.CustomDateRange;
 import com.publicissapient.kpidashboard.apis.model.KPIExcelData;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.Node;
 import com.publicissapient.kpidashboard.apis.model.TreeAggregatorDetail;
+import com.publicissapient.kpidashboard.apis.sonar.model.SonarHistoryRollup.Period;
 import com.publicissapient.kpidashboard.apis.util.KPIExcelUtility;
 import com.publicissapient.kpidashboard.apis.util.KpiDataHelper;
 import com.publicissapient.kpidashboard.common.constant.CommonConstant;
@@ -143,8 +145,9 @@ public class UnitCoverageKanbanServiceimpl
 	@Override
 	public Map<Pair<String, String>, List<SonarHistory>> fetchKPIDataFromDb(
 			List<Node> leafNodeList, String startDate, String endDate, KpiRequest kpiRequest) {
+		Period period = Period.ofDuration(kpiRequest.getDuration());
 		return getSonarHistoryForAllProjects(
-				leafNodeList, getKanbanCurrentDateToFetchFromDb(startDate));
+				leafNodeList, getKanbanCurrentDateToFetchFromDb(startDate), node -> period);
 	}
 
 	@Override
@@ -217,9 +220,7 @@ public class UnitCoverageKanbanServiceimpl
 							currentDate = getNextRangeDate(kpiRequest, currentDate);
 						}
 						mapTmp.get(projectNodePair.getLeft()).setValue(projectWiseDataMap);
-						if (getRequestTrackerIdKanban()
-								.toLowerCase()
-								.contains(KPISource.EXCEL.name().toLowerCase())) {
+						if (KpiExecutionContext.isCurrentExcelRequest(getRequestTrackerIdKanban())) {
 							KPIExcelUtility.populateSonarKpisExcelData(
 									mapTmp.get(projectNodePair.getLeft()).getProjectFilter().getName(),
 									projectList,
@@ -40,9 +40,11 @@ import com.publicissapient.kpidashboard.apis.enums.KPISource;
 import com.publicissapient.kpidashboard.apis.errors.ApplicationException;
 import com.publicissapient.kpidashboard.apis.model.KPIExcelData;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.Node;
 import com.publicissapient.kpidashboard.apis.model.TreeAggregatorDetail;
+import com.publicissapient.kpidashboard.apis.sonar.model.SonarHistoryRollup.Period;
 import com.publicissapient.kpidashboard.apis.util.KPIExcelUtility;
 import com.publicissapient.kpidashboard.common.constant.CommonConstant;
 import com.publicissapient.kpidashboard.common.model.application.DataCount;
@@ -157,7 +159,8 @@ public class UnitCoverageServiceimpl
 		getSonarHistoryForAllProjects(
 						pList,
 						getScrumCurrentDateToFetchFromDb(
-								CommonConstant.WEEK, (long) customApiConfig.getSonarWeekCount()))
+								CommonConstant.WEEK, (long) customApiConfig.getSonarWeekCount()),
+						node -> null != sprintDetailsList.get(node.getId()) ? Period.DAY : Period.WEEK)
 				.forEach(
 						(projectNodePair, projectData) -> {
 							if (CollectionUtils.isNotEmpty(projectData)) {
@@ -217,7 +220,7 @@ public class UnitCoverageServiceimpl
 		}
 
 		tempMap.get(projectNodePair.getLeft()).setValue(projectWiseDataMap);
-		if (getRequestTrackerId().toLowerCase().contains(KPISource.EXCEL.name().toLowerCase())) {
+		if (KpiExecutionContext.isCurrentExcelRequest(getRequestTrackerId())) {
 			KPIExcelUtility.populateSonarKpisExcelData(
 					tempMap.get(projectNodePair.getKey()).getProjectFilter().getName(),
 					projectList,
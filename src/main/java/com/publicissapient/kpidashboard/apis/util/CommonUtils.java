@@ -394,8 +394,6 @@ public final class CommonUtils {
 		cacheManagerMap.put(KPISource.ZEPHYR.name(), CommonConstant.TESTING_KPI_CACHE);
 		cacheManagerMap.put(KPISource.ZEPHYRKANBAN.name(), CommonConstant.TESTING_KPI_CACHE);
 
-		cacheManagerMap.put(Constant.KPI_REQUEST_TRACKER_ID_KEY, "requestTrackerCache");
-
 		cacheManagerMap.put(
 				CommonConstant.CACHE_FIELD_MAPPING_MAP, CommonConstant.CACHE_FIELD_MAPPING_MAP);
 		cacheManagerMap.put(
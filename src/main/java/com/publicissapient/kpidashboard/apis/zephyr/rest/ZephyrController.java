@@ -31,9 +31,6 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
 
-import com.publicissapient.kpidashboard.apis.common.service.CacheService;
-import com.publicissapient.kpidashboard.apis.constant.Constant;
-import com.publicissapient.kpidashboard.apis.enums.KPISource;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.zephyr.service.ZephyrService;
@@ -63,8 +60,6 @@ public class ZephyrController {
 
 	private final ZephyrServiceKanban zephyrServiceKanban;
 
-	private final CacheService cacheService;
-
 	/**
 	 * Gets zephyr data metrics.
 	 *
@@ -106,10 +101,6 @@ public class ZephyrController {
 				kpiRequest.getRequestTrackerId(),
 				kpiRequest);
 
-		cacheService.setIntoApplicationCache(
-				Constant.KPI_REQUEST_TRACKER_ID_KEY + KPISource.ZEPHYR.name(),
-				kpiRequest.getRequestTrackerId());
-
 		if (CollectionUtils.isEmpty(kpiRequest.getKpiList())) {
 			throw new MissingServletRequestParameterException("kpiList", "List");
 		}
@@ -164,10 +155,6 @@ public class ZephyrController {
 				kpiRequest.getRequestTrackerId(),
 				kpiRequest);
 
-		cacheService.setIntoApplicationCache(
-				Constant.KPI_REQUEST_TRACKER_ID_KEY + KPISource.ZEPHYRKANBAN.name(),
-				kpiRequest.getRequestTrackerId());
-
 		if (CollectionUtils.isEmpty(kpiRequest.getKpiList())) {
 			throw new MissingServletRequestParameterException("kpiList", "List");
 		}
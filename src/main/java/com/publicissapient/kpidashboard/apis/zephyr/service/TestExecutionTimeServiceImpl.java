@@ -38,6 +38,7 @@ import com.publicissapient.kpidashboard.apis.enums.KPISource;
 import com.publicissapient.kpidashboard.apis.errors.ApplicationException;
 import com.publicissapient.kpidashboard.apis.model.KPIExcelData;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.Node;
 import com.publicissapient.kpidashboard.apis.model.TreeAggregatorDetail;
@@ -508,7 +509,7 @@ public class TestExecutionTimeServiceImpl
 			String sprint,
 			Set<JiraIssue> jiraIssues) {
 
-		if (requestTrackerId.toLowerCase().contains(KPISource.EXCEL.name().toLowerCase())) {
+		if (KpiExecutionContext.isCurrentExcelRequest(requestTrackerId)) {
 			List<TestCaseDetails> automatedTest =
 					(List<TestCaseDetails>) currentSprintLeafNodeDefectDataMap.get(AUTOMATEDTESTCASEKEY);
 			List<TestCaseDetails> manualTest =
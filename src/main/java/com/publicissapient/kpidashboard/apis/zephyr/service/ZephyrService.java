@@ -18,16 +18,12 @@
 
 package com.publicissapient.kpidashboard.apis.zephyr.service;
 
-import java.io.Serial;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.ForkJoinTask;
-import java.util.concurrent.RecursiveAction;
 import java.util.stream.Collectors;
 
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.MapUtils;
-import org.apache.commons.lang.SerializationUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.converter.HttpMessageNotWritableException;
 import org.springframework.stereotype.Service;
@@ -35,7 +31,10 @@ import org.springframework.stereotype.Service;
 import com.publicissapient.kpidashboard.apis.abac.UserAuthorizedProjectsService;
 import com.publicissapient.kpidashboard.apis.auth.apikey.ApiKeyAuthenticationService;
 import com.publicissapient.kpidashboard.apis.common.service.CacheService;
+import com.publicissapient.kpidashboard.apis.common.service.impl.KpiExecutionEngine;
+import com.publicissapient.kpidashboard.apis.common.service.impl.KpiExecutionEngine.KpiExecutionResult;
 import com.publicissapient.kpidashboard.apis.common.service.impl.KpiHelperService;
+import com.publicissapient.kpidashboard.apis.common.service.impl.KpiRequestCoalescer;
 import com.publicissapient.kpidashboard.apis.config.CustomApiConfig;
 import com.publicissapient.kpidashboard.apis.constant.Constant;
 import com.publicissapient.kpidashboard.apis.enums.KPICode;
@@ -46,8 +45,10 @@ import com.publicissapient.kpidashboard.apis.filter.service.FilterHelperService;
 import com.publicissapient.kpidashboard.apis.kpiintegration.service.KpiIntegrationServiceImpl;
 import com.publicissapient.kpidashboard.apis.model.AccountHierarchyData;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.Node;
+import com.publicissapient.kpidashboard.apis.model.NodeValueOverlay;
 import com.publicissapient.kpidashboard.apis.model.TreeAggregatorDetail;
 import com.publicissapient.kpidashboard.apis.util.KPIHelperUtil;
 import com.publicissapient.kpidashboard.apis.zephyr.factory.ZephyrKPIServiceFactory;
@@ -76,6 +77,10 @@ public class ZephyrService {
 
 	@Autowired private CustomApiConfig customApiConfig;
 
+	@Autowired private KpiExecutionEngine kpiExecutionEngine;
+
+	@Autowired private KpiRequestCoalescer kpiRequestCoalescer;
+
 	private boolean referFromProjectCache = true;
 
 	/**
@@ -95,7 +100,6 @@ public class ZephyrService {
 		List<KpiElement> origRequestedKpis =
 				kpiRequest.getKpiList().stream().map(KpiElement::new).toList();
 		List<KpiElement> responseList = new ArrayList<>();
-		String[] projectKeyCache;
 		try {
 			Integer groupId = kpiRequest.getKpiList().get(0).getGroupId();
 			String groupName =
@@ -109,12 +113,14 @@ public class ZephyrService {
 			List<AccountHierarchyData> filteredAccountDataList =
 					filterHelperService.getFilteredBuilds(kpiRequest, groupName);
 			if (!CollectionUtils.isEmpty(filteredAccountDataList)) {
-				projectKeyCache = getProjectKeyCache(kpiRequest, filteredAccountDataList);
-				filteredAccountDataList = getAuthorizedFilteredList(kpiRequest, filteredAccountDataList);
-				if (filteredAccountDataList.isEmpty()) {
+				String[] projectKeyCache = getProjectKeyCache(kpiRequest, filteredAccountDataList);
+				List<AccountHierarchyData> authorizedAccountDataList =
+						getAuthorizedFilteredList(kpiRequest, filteredAccountDataList);
+				if (authorizedAccountDataList.isEmpty()) {
 					return responseList;
 				}
 
+				String cacheKey = null;
 				// skip using cache when the request is made with an api key
 				if (Boolean.FALSE.equals(ApiKeyAuthenticationService.isApiKeyRequest())) {
 					Object cachedData =
@@ -123,10 +129,7 @@ public class ZephyrService {
 									KPISource.ZEPHYR.name(),
 									groupId,
 									kpiRequest.getSprintIncluded());
-					if (!kpiRequest
-									.getRequestTrackerId()
-									.toLowerCase()
-									.contains(KPISource.EXCEL.name().toLowerCase())
+					if (!KpiExecutionContext.isCurrentExcelRequest(kpiRequest.getRequestTrackerId())
 							&& null != cachedData) {
 						log.info(
 								"[ZEPHYR][{}]. Fetching value from cache for {}",
@@ -134,40 +137,28 @@ public class ZephyrService {
 								kpiRequest.getIds());
 						return (List<KpiElement>) cachedData;
 					}
+					if (isCachedResponse(kpiRequest)) {
+						cacheKey =
+								cacheService.getKpiCacheKey(
+										projectKeyCache,
+										KPISource.ZEPHYR.name(),
+										groupId,
+										kpiRequest.getSprintIncluded());
+					}
 				}
 
-				TreeAggregatorDetail treeAggregatorDetail =
-						KPIHelperUtil.getTreeLeafNodesGroupedByFilter(
+				responseList.addAll(
+						kpiRequestCoalescer.computeOnce(
 								kpiRequest,
-								filteredAccountDataList,
-								null,
-								filterHelperService.getFirstHierarchyLevel(),
-								filterHelperService
-										.getHierarchyIdLevelMap(false)
-										.getOrDefault(CommonConstant.HIERARCHY_LEVEL_ID_SPRINT, 0));
-
-				updateTreeAggregatorDetail(kpiRequest, treeAggregatorDetail);
-
-				kpiRequest.setFilterToShowOnTrend(Constant.PROJECT);
-
-				List<ParallelZephyrServices> listOfTask = new ArrayList<>();
-				for (KpiElement kpiEle : kpiRequest.getKpiList()) {
-
-					listOfTask.add(
-							new ParallelZephyrServices(kpiRequest, responseList, kpiEle, treeAggregatorDetail));
-				}
-
-				ForkJoinTask.invokeAll(listOfTask);
-				List<KpiElement> missingKpis =
-						origRequestedKpis.stream()
-								.filter(
-										reqKpi ->
-												responseList.stream()
-														.noneMatch(
-																responseKpi -> reqKpi.getKpiId().equals(responseKpi.getKpiId())))
-								.toList();
-				responseList.addAll(missingKpis);
-				setIntoApplicationCache(kpiRequest, responseList, groupId, projectKeyCache);
+								KPISource.ZEPHYR.name(),
+								cacheKey,
+								() ->
+										calculateKpis(
+												kpiRequest,
+												authorizedAccountDataList,
+												origRequestedKpis,
+												groupId,
+												projectKeyCache)));
 			} else {
 				responseList.addAll(origRequestedKpis);
 			}
@@ -198,6 +189,48 @@ public class ZephyrService {
 		return filteredAccountDataList;
 	}
 
+	private List<KpiElement> calculateKpis(
+			KpiRequest kpiRequest,
+			List<AccountHierarchyData> filteredAccountDataList,
+			List<KpiElement> origRequestedKpis,
+			Integer groupId,
+			String[] projectKeyCache)
+			throws ApplicationException {
+		TreeAggregatorDetail treeAggregatorDetail =
+				KPIHelperUtil.getTreeLeafNodesGroupedByFilter(
+						kpiRequest,
+						filteredAccountDataList,
+						null,
+						filterHelperService.getFirstHierarchyLevel(),
+						filterHelperService
+								.getHierarchyIdLevelMap(false)
+								.getOrDefault(CommonConstant.HIERARCHY_LEVEL_ID_SPRINT, 0));
+
+		updateTreeAggregatorDetail(kpiRequest, treeAggregatorDetail);
+
+		kpiRequest.setFilterToShowOnTrend(Constant.PROJECT);
+
+		KpiExecutionResult executionResult =
+				kpiExecutionEngine.execute(
+						KPISource.ZEPHYR.name(),
+						kpiRequest,
+						kpiEle -> calculateAllKPIAggregatedMetrics(kpiRequest, kpiEle, treeAggregatorDetail));
+		List<KpiElement> responseList = new ArrayList<>(executionResult.getKpiElements());
+		List<KpiElement> missingKpis =
+				origRequestedKpis.stream()
+						.filter(
+								reqKpi ->
+										responseList.stream()
+												.noneMatch(responseKpi -> reqKpi.getKpiId().equals(responseKpi.getKpiId())))
+						.map(executionResult::markTimedOut)
+						.toList();
+		responseList.addAll(missingKpis);
+		if (executionResult.isComplete()) {
+			setIntoApplicationCache(kpiRequest, responseList, groupId, projectKeyCache);
+		}
+		return responseList;
+	}
+
 	private String[] getProjectKeyCache(
 			KpiRequest kpiRequest, List<AccountHierarchyData> filteredAccountDataList) {
 		String[] projectKeyCache;
@@ -226,15 +259,8 @@ public class ZephyrService {
 			List<KpiElement> responseList,
 			Integer groupId,
 			String[] projectKeyCache) {
-		Integer sprintLevel =
-				filterHelperService
-						.getHierarchyIdLevelMap(false)
-						.get(CommonConstant.HIERARCHY_LEVEL_ID_SPRINT);
-		if (!kpiRequest
-						.getRequestTrackerId()
-						.toLowerCase()
-						.contains(KPISource.EXCEL.name().toLowerCase())
-				&& sprintLevel >= kpiRequest.getLevel()) {
+		if (!KpiExecutionContext.isCurrentExcelRequest(kpiRequest.getRequestTrackerId())
+				&& isCachedResponse(kpiRequest)) {
 			cacheService.setIntoApplicationCache(
 					projectKeyCache,
 					responseList,
@@ -244,6 +270,18 @@ public class ZephyrService {
 		}
 	}
 
+	/**
+	 * Only the responses of the sprint level and above are cached. Only those requests are
+	 * keyed for coalescing, the others depend on more than their cache key.
+	 */
+	private boolean isCachedResponse(KpiRequest kpiRequest) {
+		Integer sprintLevel =
+				filterHelperService
+						.getHierarchyIdLevelMap(false)
+						.get(CommonConstant.HIERARCHY_LEVEL_ID_SPRINT);
+		return null != sprintLevel && sprintLevel >= kpiRequest.getLevel();
+	}
+
 	/**
 	 * updates the TreeAggregatorDetail object based on the KpiRequest. If the selectedMap in the
 	 * KpiRequest does not contain the HIERARCHY_LEVEL_ID_SPRINT, filter out the sprint by
@@ -286,99 +324,59 @@ public class ZephyrService {
 	}
 
 	/**
-	 * This class is used to call Zephyr based KPIs service in parallel.
+	 * This method call by multiple thread, take object of specific KPI and call method of these
+	 * KPIs
 	 *
-	 * @author prijain3
+	 * @param kpiRequest kpiRequest
+	 * @param kpiElement kpiElement
+	 * @param treeAggregatorDetail treeAggregatorDetail
+	 * @return KpiElement kpielement
 	 */
-	public class ParallelZephyrServices extends RecursiveAction {
-
-		@Serial private static final long serialVersionUID = 1L;
-		private final KpiRequest kpiRequest;
-		private final transient List<KpiElement> responseList;
-		private final transient KpiElement kpiEle;
-		private final TreeAggregatorDetail treeAggregatorDetail;
-
-		/*
-		 * @param kpiRequest
-		 *
-		 * @param responseList
-		 *
-		 * @param kpiEle
-		 *
-		 * @param treeAggregatorDetail
-		 */
-		public ParallelZephyrServices(
-				KpiRequest kpiRequest,
-				List<KpiElement> responseList,
-				KpiElement kpiEle,
-				TreeAggregatorDetail treeAggregatorDetail) {
-			super();
-			this.kpiRequest = kpiRequest;
-			this.responseList = responseList;
-			this.kpiEle = kpiEle;
-			this.treeAggregatorDetail = treeAggregatorDetail;
-		}
+	private KpiElement calculateAllKPIAggregatedMetrics(
+			KpiRequest kpiRequest, KpiElement kpiElement, TreeAggregatorDetail treeAggregatorDetail) {
 
-		/** {@inheritDoc} */
-		@Override
-		public void compute() {
-			responseList.add(calculateAllKPIAggregatedMetrics(kpiRequest, kpiEle, treeAggregatorDetail));
-		}
-
-		/**
-		 * This method call by multiple thread, take object of specific KPI and call method of these
-		 * KPIs
-		 *
-		 * @param kpiRequest kpiRequest
-		 * @param kpiElement kpiElement
-		 * @param treeAggregatorDetail treeAggregatorDetail
-		 * @return KpiElement kpielement
-		 */
-		private KpiElement calculateAllKPIAggregatedMetrics(
-				KpiRequest kpiRequest, KpiElement kpiElement, TreeAggregatorDetail treeAggregatorDetail) {
-
-			try {
-				KPICode kpi = KPICode.getKPI(kpiElement.getKpiId());
-				ZephyrKPIService<?, ?, ?> zephyrKPIService =
-						ZephyrKPIServiceFactory.getZephyrKPIService(kpi.name());
-				long startTime = System.currentTimeMillis();
-				TreeAggregatorDetail treeAggregatorDetailClone =
-						(TreeAggregatorDetail) SerializationUtils.clone(treeAggregatorDetail);
-				List<Node> projectNodes =
-						treeAggregatorDetailClone
-								.getMapOfListOfProjectNodes()
-								.get(CommonConstant.PROJECT.toLowerCase());
-
-				if (!projectNodes.isEmpty()
-						&& (projectNodes.size() > 1
-								|| kpiHelperService.isRequiredTestToolConfigured(
-										kpi,
-										kpiElement,
-										projectNodes.get(0).getProjectFilter().getBasicProjectConfigId()))) {
+		try {
+			KPICode kpi = KPICode.getKPI(kpiElement.getKpiId());
+			ZephyrKPIService<?, ?, ?> zephyrKPIService =
+					ZephyrKPIServiceFactory.getZephyrKPIService(kpi.name());
+			long startTime = System.currentTimeMillis();
+			TreeAggregatorDetail treeAggregatorDetailView = treeAggregatorDetail.createKpiView();
+			List<Node> projectNodes =
+					treeAggregatorDetailView
+							.getMapOfListOfProjectNodes()
+							.get(CommonConstant.PROJECT.toLowerCase());
+
+			if (!projectNodes.isEmpty()
+					&& (projectNodes.size() > 1
+							|| kpiHelperService.isRequiredTestToolConfigured(
+									kpi,
+									kpiElement,
+									projectNodes.get(0).getProjectFilter().getBasicProjectConfigId()))) {
+				try (NodeValueOverlay nodeValues = NodeValueOverlay.open()) {
 					kpiElement =
-							zephyrKPIService.getKpiData(kpiRequest, kpiElement, treeAggregatorDetailClone);
-					kpiElement.setResponseCode(CommonConstant.KPI_PASSED);
-					if (projectNodes.size() == 1) {
-						kpiHelperService.isMandatoryFieldSet(kpi, kpiElement, projectNodes.get(0));
-					}
+							zephyrKPIService.getKpiData(kpiRequest, kpiElement, treeAggregatorDetailView);
+				}
+				kpiElement.setResponseCode(CommonConstant.KPI_PASSED);
+				if (projectNodes.size() == 1) {
+					kpiHelperService.isMandatoryFieldSet(kpi, kpiElement, projectNodes.get(0));
 				}
-
-				long processTime = System.currentTimeMillis() - startTime;
-				log.info(
-						"[ZEPHYR-{}-TIME][{}]. KPI took {} ms",
-						kpi.name(),
-						kpiRequest.getRequestTrackerId(),
-						processTime);
-			} catch (ApplicationException exception) {
-				kpiElement.setResponseCode(CommonConstant.KPI_FAILED);
-				log.error("Kpi not found", exception);
-			} catch (Exception exception) {
-				kpiElement.setResponseCode(CommonConstant.KPI_FAILED);
-				log.error("[PARALLEL_ZEPHYR_SERVICE].Exception occured", exception);
-				return kpiElement;
 			}
+
+			long processTime = System.currentTimeMillis() - startTime;
+			log.info(
+					"[ZEPHYR-{}-TIME][{}]. KPI took {} ms",
+					kpi.name(),
+					kpiRequest.getRequestTrackerId(),
+					processTime);
+		} catch (ApplicationException exception) {
+			kpiElement.setResponseCode(CommonConstant.KPI_FAILED);
+			log.error("Kpi not found", exception);
+		} catch (Exception exception) {
+			kpiElement.setResponseCode(CommonConstant.KPI_FAILED);
+			log.error("[PARALLEL_ZEPHYR_SERVICE].Exception occured", exception);
 			return kpiElement;
 		}
+		return kpiElement;
 	}
 
 	/**
@@ -22,7 +22,6 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.apache.commons.collections4.CollectionUtils;
-import org.apache.commons.lang.SerializationUtils;
 import org.apache.commons.lang3.math.NumberUtils;
 import org.springframework.http.converter.HttpMessageNotWritableException;
 import org.springframework.stereotype.Service;
@@ -30,6 +29,7 @@ import org.springframework.stereotype.Service;
 import com.publicissapient.kpidashboard.apis.abac.UserAuthorizedProjectsService;
 import com.publicissapient.kpidashboard.apis.auth.apikey.ApiKeyAuthenticationService;
 import com.publicissapient.kpidashboard.apis.common.service.CacheService;
+import com.publicissapient.kpidashboard.apis.common.service.impl.KpiExecutionEngine;
 import com.publicissapient.kpidashboard.apis.common.service.impl.KpiHelperService;
 import com.publicissapient.kpidashboard.apis.enums.KPICode;
 import com.publicissapient.kpidashboard.apis.enums.KPISource;
@@ -38,8 +38,10 @@ import com.publicissapient.kpidashboard.apis.errors.EntityNotFoundException;
 import com.publicissapient.kpidashboard.apis.filter.service.FilterHelperService;
 import com.publicissapient.kpidashboard.apis.model.AccountHierarchyDataKanban;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.Node;
+import com.publicissapient.kpidashboard.apis.model.NodeValueOverlay;
 import com.publicissapient.kpidashboard.apis.model.TreeAggregatorDetail;
 import com.publicissapient.kpidashboard.apis.util.KPIHelperUtil;
 import com.publicissapient.kpidashboard.apis.zephyr.factory.ZephyrKPIServiceFactory;
@@ -63,6 +65,7 @@ public class ZephyrServiceKanban {
 	private final KpiHelperService kpiHelperService;
 	private final FilterHelperService filterHelperService;
 	private final UserAuthorizedProjectsService authorizedProjectsService;
+	private final KpiExecutionEngine kpiExecutionEngine;
 
 	/**
 	 * Processes the zephyr based KPI requests for kanban.
@@ -106,10 +109,7 @@ public class ZephyrServiceKanban {
 					Object cachedData =
 							cacheService.getFromApplicationCache(
 									kanbanProjectKeyCache, KPISource.ZEPHYRKANBAN.name(), groupId, null);
-					if (!kpiRequest
-									.getRequestTrackerId()
-									.toLowerCase()
-									.contains(KPISource.EXCEL.name().toLowerCase())
+					if (!KpiExecutionContext.isCurrentExcelRequest(kpiRequest.getRequestTrackerId())
 							&& null != cachedData) {
 						log.info(
 								"[ZEPHYR KANBAN][{}]. Fetching value from cache for {}",
@@ -129,14 +129,20 @@ public class ZephyrServiceKanban {
 										.getHierarchyIdLevelMap(false)
 										.getOrDefault(CommonConstant.HIERARCHY_LEVEL_ID_PROJECT, 0));
 
-				for (KpiElement kpiEle : kpiRequest.getKpiList()) {
-					responseList.add(
-							calculateAllKPIAggregatedMetrics(kpiRequest, kpiEle, treeAggregatorDetail));
+				boolean forecastPending;
+				try (KpiExecutionContext.Scope scope = kpiExecutionEngine.openContext(kpiRequest)) {
+					for (KpiElement kpiEle : kpiRequest.getKpiList()) {
+						responseList.add(
+								calculateAllKPIAggregatedMetrics(
+										kpiRequest, kpiEle, treeAggregatorDetail));
+					}
+					forecastPending = KpiExecutionContext.current().isForecastPending();
 				}
 
 				// skip using cache when the request is made with an api key and also processing
 				// by group id will be disabled
-				if (Boolean.FALSE.equals(ApiKeyAuthenticationService.isApiKeyRequest())) {
+				if (!forecastPending
+						&& Boolean.FALSE.equals(ApiKeyAuthenticationService.isApiKeyRequest())) {
 					setIntoApplicationCache(kpiRequest, responseList, groupId, kanbanProjectKeyCache);
 				}
 			}
@@ -195,14 +201,13 @@ public class ZephyrServiceKanban {
 		KPICode kpi = KPICode.getKPI(kpiElement.getKpiId());
 		long startTime = System.currentTimeMillis();
 
-		TreeAggregatorDetail treeAggregatorDetailRegPercent =
-				(TreeAggregatorDetail) SerializationUtils.clone(treeAggregatorDetail);
+		TreeAggregatorDetail treeAggregatorDetailView = treeAggregatorDetail.createKpiView();
 		try {
 			ZephyrKPIService<?, ?, ?> zephyrKPIService =
 					ZephyrKPIServiceFactory.getZephyrKPIService(kpi.name());
 
 			List<Node> projectNodes =
-					treeAggregatorDetailRegPercent
+					treeAggregatorDetailView
 							.getMapOfListOfProjectNodes()
 							.get(CommonConstant.PROJECT.toLowerCase());
 
@@ -212,8 +217,10 @@ public class ZephyrServiceKanban {
 									kpi,
 									kpiElement,
 									projectNodes.get(0).getProjectFilter().getBasicProjectConfigId()))) {
-				kpiElement =
-						zephyrKPIService.getKpiData(kpiRequest, kpiElement, treeAggregatorDetailRegPercent);
+				try (NodeValueOverlay nodeValues = NodeValueOverlay.open()) {
+					kpiElement =
+							zephyrKPIService.getKpiData(kpiRequest, kpiElement, treeAggregatorDetailView);
+				}
 				kpiElement.setResponseCode(CommonConstant.KPI_PASSED);
 				if (projectNodes.size() == 1) {
 					kpiHelperService.isMandatoryFieldSet(kpi, kpiElement, projectNodes.get(0));
@@ -258,10 +265,7 @@ public class ZephyrServiceKanban {
 				filterHelperService
 						.getHierarchyIdLevelMap(true)
 						.get(CommonConstant.HIERARCHY_LEVEL_ID_PROJECT);
-		if (!kpiRequest
-						.getRequestTrackerId()
-						.toLowerCase()
-						.contains(KPISource.EXCEL.name().toLowerCase())
+		if (!KpiExecutionContext.isCurrentExcelRequest(kpiRequest.getRequestTrackerId())
 				&& projectLevel >= kpiRequest.getLevel()) {
 			cacheService.setIntoApplicationCache(
 					kanbanProjectKeyCache, responseList, KPISource.ZEPHYRKANBAN.name(), groupId, null);
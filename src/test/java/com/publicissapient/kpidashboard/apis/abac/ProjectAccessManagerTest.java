@@ -99,6 +99,7 @@ public class ProjectAccessManagerTest {
 	@Mock TokenAuthenticationService tokenAuthenticationService;
 	@Mock NotificationService notificationService;
 	@Mock private OrganizationHierarchyService organizationHierarchyService;
+	@Mock private UserAuthorizationContextService userAuthorizationContextService;
 
 	@Test
 	public void testCreateAccessRequest_hasPendingAccessRequest() {
@@ -341,6 +342,17 @@ public class ProjectAccessManagerTest {
 		assertNotNull(userInfoObj(Constant.ROLE_SUPERADMIN));
 	}
 
+	@Test
+	public void testUpdateAccessOfUserInfo_revokeAccessEvictsAuthorizationContext() {
+		UserInfo requestedUserInfo = new UserInfo();
+		requestedUserInfo.setUsername("user");
+		requestedUserInfo.setProjectsAccess(Lists.newArrayList());
+
+		projectAccessManager.updateAccessOfUserInfo(
+				userInfoObj(Constant.ROLE_PROJECT_ADMIN), requestedUserInfo);
+		verify(userAuthorizationContextService).evictAuthorizationContext("user");
+	}
+
 	@Test
 	public void testUpdateAccessOfUserInfo_modifyUser() {
 		UserInfo userInfo = new UserInfo();
@@ -382,6 +394,7 @@ public class ProjectAccessManagerTest {
 								Constant.ROLE_PROJECT_ADMIN,
 								Constant.ACCESS_REQUEST_STATUS_REJECTED,
 								"hierarchyLevel3Id"));
+		verify(userAuthorizationContextService).evictAuthorizationContext(any());
 	}
 
 	@Test
@@ -516,6 +529,7 @@ public class ProjectAccessManagerTest {
 				.thenReturn(Lists.newArrayList(userInfoObj(Constant.ROLE_PROJECT_ADMIN)));
 		projectAccessManager.removeProjectAccessFromAllUsers("61e4f7852747353d4405c761");
 		assertNotNull(userInfoObj(Constant.ROLE_PROJECT_ADMIN));
+		verify(userAuthorizationContextService).evictAuthorizationContext("user");
 	}
 
 	/**
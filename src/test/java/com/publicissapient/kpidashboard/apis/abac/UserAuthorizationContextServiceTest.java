@@ -0,0 +1,129 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+
+package com.publicissapient.kpidashboard.apis.abac;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import com.publicissapient.kpidashboard.apis.auth.model.UserInfoPrincipal;
+import com.publicissapient.kpidashboard.apis.common.service.impl.UserInfoServiceImpl;
+import com.publicissapient.kpidashboard.apis.constant.Constant;
+import com.publicissapient.kpidashboard.apis.data.AccountHierarchiesDataFactory;
+import com.publicissapient.kpidashboard.apis.data.AccountHierarchiesKanbanDataFactory;
+import com.publicissapient.kpidashboard.apis.data.UserInfoDataFactory;
+import com.publicissapient.kpidashboard.common.model.rbac.ProjectsForAccessRequest;
+import com.publicissapient.kpidashboard.common.model.rbac.RoleWiseProjects;
+import com.publicissapient.kpidashboard.common.repository.application.AccountHierarchyRepository;
+import com.publicissapient.kpidashboard.common.repository.application.KanbanAccountHierarchyRepository;
+
+@RunWith(MockitoJUnitRunner.class)
+public class UserAuthorizationContextServiceTest {
+
+	private static final UserInfoPrincipal USER = new UserInfoPrincipal("user", "", "STANDARD");
+
+	@InjectMocks private UserAuthorizationContextService userAuthorizationContextService;
+	@Mock private UserInfoServiceImpl userInfoService;
+	@Mock private ProjectAccessManager projectAccessManager;
+	@Mock private AccountHierarchyRepository accountHierarchyRepo;
+	@Mock private KanbanAccountHierarchyRepository kanbanAccountHierarchyRepository;
+	@Mock private CacheManager cacheManager;
+	@Mock private Cache cache;
+
+	@Test
+	public void superAdminContext() {
+		when(userInfoService.getUserInfo(USER))
+				.thenReturn(UserInfoDataFactory.newInstance().getUserInfoByRole("ROLE_SUPERADMIN"));
+
+		UserAuthorizationContext context = userAuthorizationContextService.getAuthorizationContext(USER);
+
+		assertTrue(context.superAdmin());
+		assertTrue(context.projectIds().isEmpty());
+		verify(accountHierarchyRepo, never()).findByLabelList(anyList());
+	}
+
+	@Test
+	public void projectContext() {
+		when(userInfoService.getUserInfo(USER))
+				.thenReturn(UserInfoDataFactory.newInstance().getUserInfoByRole("ROLE_PROJECT_VIEWER"));
+		when(projectAccessManager.getProjectAccessesWithRole(USER))
+				.thenReturn(roleWiseProjects("6335363749794a18e8a4479b", "6335368249794a18e8a4479f"));
+		when(accountHierarchyRepo.findByLabelList(anyList()))
+				.thenReturn(AccountHierarchiesDataFactory.newInstance().getAccountHierarchies());
+		when(kanbanAccountHierarchyRepository.findByLabelList(anyList()))
+				.thenReturn(AccountHierarchiesKanbanDataFactory.newInstance().getAccountHierarchies());
+
+		UserAuthorizationContext context = userAuthorizationContextService.getAuthorizationContext(USER);
+
+		assertFalse(context.superAdmin());
+		assertTrue(context.hasProjectAccess("6335363749794a18e8a4479b"));
+		assertFalse(context.hasProjectAccess("5fd9ab0995fe13000165d0ba"));
+		assertTrue(context.hasProjectNodeAccess(Set.of("Scrum Project_6335363749794a18e8a4479b")));
+		assertFalse(context.hasProjectNodeAccess(Set.of("Other Project_5fd9ab0995fe13000165d0ba")));
+		assertTrue(
+				context.hasKanbanProjectNodeAccess(Set.of("Kanban Project_6335368249794a18e8a4479f")));
+	}
+
+	@Test
+	public void evictAllAuthTypesOfUser() {
+		when(cacheManager.getCache(Constant.CACHE_USER_AUTHORIZATION_CONTEXT)).thenReturn(cache);
+
+		userAuthorizationContextService.evictAuthorizationContext("user");
+
+		verify(cache).evict("user:STANDARD");
+	}
+
+	@Test
+	public void evictWithoutCache() {
+		userAuthorizationContextService.evictAuthorizationContext("user");
+
+		verify(cache, never()).evict(any());
+	}
+
+	private static List<RoleWiseProjects> roleWiseProjects(String... projectIds) {
+		RoleWiseProjects roleWiseProjects = new RoleWiseProjects();
+		roleWiseProjects.setRole(Constant.ROLE_PROJECT_VIEWER);
+		roleWiseProjects.setProjects(
+				Arrays.stream(projectIds)
+						.map(
+								projectId -> {
+									ProjectsForAccessRequest project = new ProjectsForAccessRequest();
+									project.setProjectId(projectId);
+									return project;
+								})
+						.toList());
+		return List.of(roleWiseProjects);
+	}
+}
@@ -20,6 +20,8 @@ package com.publicissapient.kpidashboard.apis.abac;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.HashSet;
@@ -40,40 +42,28 @@ import org.springframework.security.core.context.SecurityContextHolder;
 
 import com.publicissapient.kpidashboard.apis.auth.model.UserInfoPrincipal;
 import com.publicissapient.kpidashboard.apis.auth.service.AuthenticationService;
-import com.publicissapient.kpidashboard.apis.auth.token.TokenAuthenticationService;
 import com.publicissapient.kpidashboard.apis.common.service.CacheService;
-import com.publicissapient.kpidashboard.apis.common.service.impl.UserInfoServiceImpl;
-import com.publicissapient.kpidashboard.apis.data.AccountHierarchiesDataFactory;
 import com.publicissapient.kpidashboard.apis.data.AccountHierarchiesKanbanDataFactory;
 import com.publicissapient.kpidashboard.apis.data.AccountHierarchyFilterDataFactory;
 import com.publicissapient.kpidashboard.apis.data.AccountHierarchyKanbanFilterDataFactory;
 import com.publicissapient.kpidashboard.apis.data.HierachyLevelFactory;
 import com.publicissapient.kpidashboard.apis.data.KpiRequestFactory;
-import com.publicissapient.kpidashboard.apis.data.UserInfoDataFactory;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
-import com.publicissapient.kpidashboard.common.model.application.AccountHierarchy;
 import com.publicissapient.kpidashboard.common.model.application.HierarchyLevel;
-import com.publicissapient.kpidashboard.common.model.rbac.UserInfo;
-import com.publicissapient.kpidashboard.common.repository.application.AccountHierarchyRepository;
-import com.publicissapient.kpidashboard.common.repository.application.KanbanAccountHierarchyRepository;
 
 @RunWith(MockitoJUnitRunner.class)
 public class UserAuthorizedProjectsServiceTest {
 
-	@Mock TokenAuthenticationService tokenAuthenticationService;
 	@Mock Authentication authentication;
 	@InjectMocks UserAuthorizedProjectsService userAuthorizedProjectsService;
 	KpiRequest kpiRequest;
 	KpiElement kpiElement;
-	@Mock private UserInfoServiceImpl userInfoService;
-	@Mock private AccountHierarchyRepository accountHierarchyRepo;
-	@Mock private KanbanAccountHierarchyRepository kanbanAccountHierarchyRepository;
+	@Mock private UserAuthorizationContextService userAuthorizationContextService;
 	@Mock private AuthenticationService authenticationService;
 	@Mock private CacheService cacheService;
-	private UserInfoDataFactory userInfoDataFactory = null;
 	private AccountHierarchyFilterDataFactory filterDataFactory = null;
-	private AccountHierarchiesDataFactory hierarchyFactory = null;
 	private AccountHierarchyKanbanFilterDataFactory kanbanFilterDataFactory = null;
 	private AccountHierarchiesKanbanDataFactory kanbanDataFactory = null;
 	private List<HierarchyLevel> hierarchyLevels = null;
@@ -90,9 +80,7 @@ public class UserAuthorizedProjectsServiceTest {
 		kpiElement = kpiRequest.getKpiList().get(0);
 
 		SecurityContextHolder.setContext(securityContext);
-		userInfoDataFactory = UserInfoDataFactory.newInstance();
 		filterDataFactory = AccountHierarchyFilterDataFactory.newInstance();
-		hierarchyFactory = AccountHierarchiesDataFactory.newInstance();
 		kanbanFilterDataFactory = AccountHierarchyKanbanFilterDataFactory.newInstance();
 		kanbanDataFactory = AccountHierarchiesKanbanDataFactory.newInstance();
 
@@ -102,29 +90,40 @@ public class UserAuthorizedProjectsServiceTest {
 
 	@Test
 	public void ifSuperAdminUser() {
-		UserInfo userInfo = userInfoDataFactory.getUserInfoByRole("ROLE_SUPERADMIN");
 		when(authenticationService.getLoggedInUser())
 				.thenReturn(new UserInfoPrincipal("SUPERADMIN", "test", "STANDARD"));
-		when(userInfoService.getUserInfo(any())).thenReturn(userInfo);
+		when(userAuthorizationContextService.getAuthorizationContext(any()))
+				.thenReturn(authorizationContext(true, Set.of()));
 		Assertions.assertTrue(userAuthorizedProjectsService.ifSuperAdminUser());
 	}
 
 	@Test
 	public void ifNotSuperAdminUser() {
-		UserInfo userInfo = userInfoDataFactory.getUserInfoByRole("ROLE_VIEWER");
 		when(authenticationService.getLoggedInUser())
 				.thenReturn(new UserInfoPrincipal("ROLE_VIEWER", "test", "STANDARD"));
-		when(userInfoService.getUserInfo(any())).thenReturn(userInfo);
+		when(userAuthorizationContextService.getAuthorizationContext(any()))
+				.thenReturn(authorizationContext(false, Set.of()));
 		Assertions.assertFalse(userAuthorizedProjectsService.ifSuperAdminUser());
 	}
 
+	@Test
+	public void ifSuperAdminUser_OnKpiThread_ReadsUserOfKpiRequest() {
+		UserInfoPrincipal requestUser = new UserInfoPrincipal("SUPERADMIN", "test", "STANDARD");
+		when(userAuthorizationContextService.getAuthorizationContext(requestUser))
+				.thenReturn(authorizationContext(true, Set.of()));
+		try (KpiExecutionContext.Scope scope =
+				KpiExecutionContext.of(kpiRequest, requestUser, Long.MAX_VALUE).open()) {
+			Assertions.assertTrue(userAuthorizedProjectsService.ifSuperAdminUser());
+		}
+		verify(authenticationService, never()).getLoggedInUser();
+	}
+
 	@Test
 	public void checkUserAuthForProjects() {
-		List<AccountHierarchy> accountHierarchyList = hierarchyFactory.getAccountHierarchies();
 		Set<String> projectList = new HashSet<>();
 		projectList.add("5fd9ab0995fe13000165d0ba");
-		when(tokenAuthenticationService.getUserProjects()).thenReturn(projectList);
-		when(accountHierarchyRepo.findAll()).thenReturn(accountHierarchyList);
+		when(userAuthorizationContextService.getAuthorizationContext(any()))
+				.thenReturn(authorizationContext(false, projectList));
 		Assertions.assertTrue(
 				!userAuthorizedProjectsService.checkUserAuthForProjects(
 						filterDataFactory.getAccountHierarchyDataList()));
@@ -134,7 +133,8 @@ public class UserAuthorizedProjectsServiceTest {
 	public void filterProjects() {
 		Set<String> projectList = new HashSet<>();
 		projectList.add("5fd9ab0995fe13000165d0ba");
-		when(tokenAuthenticationService.getUserProjects()).thenReturn(projectList);
+		when(userAuthorizationContextService.getAuthorizationContext(any()))
+				.thenReturn(authorizationContext(false, projectList));
 		userAuthorizedProjectsService.filterProjects(filterDataFactory.getAccountHierarchyDataList());
 	}
 
@@ -142,7 +142,8 @@ public class UserAuthorizedProjectsServiceTest {
 	public void checkKanbanUserAuthForProjects() {
 		Set<String> projectList = new HashSet<>();
 		projectList.add("60dabc03e17b2269cc76d13c");
-		when(tokenAuthenticationService.getUserProjects()).thenReturn(projectList);
+		when(userAuthorizationContextService.getAuthorizationContext(any()))
+				.thenReturn(authorizationContext(false, projectList));
 		userAuthorizedProjectsService.checkKanbanUserAuthForProjects(
 				kanbanFilterDataFactory.getAccountHierarchyKanbanDataList());
 	}
@@ -151,7 +152,8 @@ public class UserAuthorizedProjectsServiceTest {
 	public void filterKanbanProjects() {
 		Set<String> projectList = new HashSet<>();
 		projectList.add("63330b7068b5d05cf59c4386");
-		when(tokenAuthenticationService.getUserProjects()).thenReturn(projectList);
+		when(userAuthorizationContextService.getAuthorizationContext(any()))
+				.thenReturn(authorizationContext(false, projectList));
 		userAuthorizedProjectsService.filterKanbanProjects(
 				kanbanFilterDataFactory.getAccountHierarchyKanbanDataList());
 	}
@@ -171,4 +173,9 @@ public class UserAuthorizedProjectsServiceTest {
 		userAuthorizedProjectsService.getProjectKey(
 				filterDataFactory.getAccountHierarchyDataList(), kpiRequest);
 	}
+
+	private static UserAuthorizationContext authorizationContext(
+			boolean superAdmin, Set<String> projectIds) {
+		return new UserAuthorizationContext(Set.of(), superAdmin, projectIds, Set.of(), Set.of());
+	}
 }
@@ -23,6 +23,7 @@ import static org.mockito.Mockito.when;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.bson.types.ObjectId;
 import org.junit.Before;
@@ -111,6 +112,89 @@ public class ConfigHelperServiceTest {
 						> 0);
 	}
 
+	@Test
+	public void loadConfigDataPublishesNewMaps() {
+		Mockito.when(hierarchyLevelRepository.findAllByOrderByLevel()).thenReturn(new ArrayList<>());
+		Mockito.when(projectConfigRepository.findAll()).thenReturn(projectList);
+		Mockito.when(fieldMappingRepository.findAll()).thenReturn(fieldMappingList);
+		configHelperService.loadConfigData();
+		Map<ObjectId, FieldMapping> fieldMappingMap =
+				(Map<ObjectId, FieldMapping>)
+						configHelperService.getConfigMapData(CommonConstant.CACHE_FIELD_MAPPING_MAP);
+		long version = configHelperService.getConfigVersion();
+
+		Mockito.when(projectConfigRepository.findAll()).thenReturn(new ArrayList<>());
+		configHelperService.loadConfigData();
+
+		Assertions.assertEquals(projectList.size(), fieldMappingMap.size());
+		Assertions.assertTrue(
+				((Map<ObjectId, FieldMapping>)
+								configHelperService.getConfigMapData(CommonConstant.CACHE_FIELD_MAPPING_MAP))
+						.isEmpty());
+		Assertions.assertTrue(configHelperService.getConfigVersion() > version);
+		ProjectBasicConfig project = projectList.get(0);
+		Assertions.assertSame(
+				fieldMappingList.stream()
+						.filter(mapping -> project.getId().equals(mapping.getBasicProjectConfigId()))
+						.findFirst()
+						.orElse(null),
+				fieldMappingMap.get(project.getId()));
+	}
+
+	@Test
+	public void applyFieldMappingChangesReplacesMappingOfProject() {
+		Mockito.when(hierarchyLevelRepository.findAllByOrderByLevel()).thenReturn(new ArrayList<>());
+		Mockito.when(projectConfigRepository.findAll()).thenReturn(projectList);
+		Mockito.when(fieldMappingRepository.findAll()).thenReturn(fieldMappingList);
+		configHelperService.loadConfigData();
+		FieldMapping changedMapping = new FieldMapping();
+		changedMapping.setId(new ObjectId());
+		changedMapping.setBasicProjectConfigId(projectList.get(0).getId());
+		FieldMapping unknownProjectMapping = new FieldMapping();
+		unknownProjectMapping.setBasicProjectConfigId(new ObjectId());
+
+		configHelperService.applyFieldMappingChanges(
+				List.of(changedMapping, unknownProjectMapping), Set.of());
+
+		Map<ObjectId, FieldMapping> fieldMappingMap =
+				(Map<ObjectId, FieldMapping>)
+						configHelperService.getConfigMapData(CommonConstant.CACHE_FIELD_MAPPING_MAP);
+		Assertions.assertSame(changedMapping, fieldMappingMap.get(projectList.get(0).getId()));
+		Assertions.assertEquals(projectList.size(), fieldMappingMap.size());
+
+		configHelperService.applyFieldMappingChanges(List.of(), Set.of(changedMapping.getId()));
+
+		Assertions.assertNull(
+				((Map<ObjectId, FieldMapping>)
+								configHelperService.getConfigMapData(CommonConstant.CACHE_FIELD_MAPPING_MAP))
+						.get(projectList.get(0).getId())
+						.getId());
+	}
+
+	@Test
+	public void applyProjectToolConfigChangesRegroupsChangedProjects() {
+		ObjectId projectId = new ObjectId("5fd9ab0995fe13000165d0ba");
+		ProjectToolConfig jira = projectToolConfig(projectId, "Jira");
+		ProjectToolConfig sonar = projectToolConfig(projectId, "Sonar");
+		ProjectToolConfig otherProjectTool = projectToolConfig(new ObjectId(), "Jira");
+		Mockito.when(projectToolConfigRepository.findAll())
+				.thenReturn(List.of(jira, sonar, otherProjectTool));
+		configHelperService.loadProjectToolConfig();
+		ProjectToolConfig movedJira = projectToolConfig(projectId, "Azure");
+		movedJira.setId(jira.getId());
+
+		configHelperService.applyProjectToolConfigChanges(List.of(movedJira), Set.of(sonar.getId()));
+
+		Map<ObjectId, Map<String, List<ProjectToolConfig>>> projectToolConfigMap =
+				(Map<ObjectId, Map<String, List<ProjectToolConfig>>>)
+						configHelperService.getConfigMapData(CommonConstant.CACHE_PROJECT_TOOL_CONFIG_MAP);
+		Assertions.assertEquals(
+				Map.of("Azure", List.of(movedJira)), projectToolConfigMap.get(projectId));
+		Assertions.assertEquals(
+				List.of(otherProjectTool),
+				projectToolConfigMap.get(otherProjectTool.getBasicProjectConfigId()).get("Jira"));
+	}
+
 	@Test
 	public void loadToolConfig() {
 		List<Tool> toolList = new ArrayList<>();
@@ -229,4 +313,12 @@ public class ConfigHelperServiceTest {
 		when(organizationHierarchyRepository.findAll()).thenReturn(organizationHierarchyList);
 		Assertions.assertNotNull(configHelperService.loadAllOrganizationHierarchy());
 	}
+
+	private static ProjectToolConfig projectToolConfig(ObjectId projectId, String toolName) {
+		ProjectToolConfig projectToolConfig = new ProjectToolConfig();
+		projectToolConfig.setId(new ObjectId());
+		projectToolConfig.setBasicProjectConfigId(projectId);
+		projectToolConfig.setToolName(toolName);
+		return projectToolConfig;
+	}
 }
@@ -0,0 +1,223 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+
+
+package com.publicissapient.kpidashboard.apis.appsetting.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.nullable;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationResults;
+import org.springframework.data.mongodb.core.query.Query;
+
+import com.publicissapient.kpidashboard.apis.common.service.CacheService;
+import com.publicissapient.kpidashboard.apis.config.CustomApiConfig;
+import com.publicissapient.kpidashboard.common.constant.CommonConstant;
+import com.publicissapient.kpidashboard.common.model.application.FieldMapping;
+import com.publicissapient.kpidashboard.common.model.jira.SprintDetails;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ConfigRefreshServiceTest {
+
+	private static final String FIELD_MAPPING = "field_mapping";
+	private static final String SPRINT_DETAILS = "sprint_details";
+
+	@Mock private MongoTemplate mongoTemplate;
+	@Mock private ConfigHelperService configHelperService;
+	@Mock private CacheService cacheService;
+	@Mock private CustomApiConfig customApiConfig;
+	@InjectMocks private ConfigRefreshService configRefreshService;
+
+	@Test
+	public void firstRefreshReloadsEverything() {
+		when(customApiConfig.isConfigRefreshEnabled()).thenReturn(true);
+		stubHierarchyCounts();
+
+		configRefreshService.refresh();
+
+		verify(configHelperService).loadConfigData();
+		verify(configHelperService).loadProjectToolConfig();
+		verify(cacheService).updateCacheFieldMappingMapData();
+		verify(cacheService).clearLocalCache(CommonConstant.CACHE_ACCOUNT_HIERARCHY);
+	}
+
+	@Test
+	public void refreshAppliesOnlyChangedDocuments() {
+		when(customApiConfig.isConfigRefreshEnabled()).thenReturn(true);
+		stubHierarchyCounts();
+		when(configHelperService.getConfigMapData(anyString())).thenReturn(Map.of());
+		configRefreshService.refresh();
+		FieldMapping fieldMapping = new FieldMapping();
+		fieldMapping.setId(new ObjectId());
+		fieldMapping.setBasicProjectConfigId(new ObjectId());
+		when(mongoTemplate.getCollectionName(FieldMapping.class)).thenReturn(FIELD_MAPPING);
+		when(mongoTemplate.find(any(Query.class), eq(Document.class), eq(FIELD_MAPPING)))
+				.thenReturn(List.of(stamp(fieldMapping.getId(), "2024-01-01T10:00:00.100")));
+		when(mongoTemplate.find(any(Query.class), eq(FieldMapping.class)))
+				.thenReturn(List.of(fieldMapping));
+
+		configRefreshService.refresh();
+
+		verify(configHelperService, times(1)).loadConfigData();
+		verify(configHelperService).applyFieldMappingChanges(List.of(fieldMapping), Set.of());
+		verify(configHelperService, never()).applyProjectConfigChanges(any(), any());
+		verify(cacheService).evictLocalKpiCache(fieldMapping.getBasicProjectConfigId().toHexString());
+		verify(cacheService, times(2)).updateCacheFieldMappingMapData();
+		verify(cacheService, times(1)).clearLocalCache(CommonConstant.CACHE_ACCOUNT_HIERARCHY);
+		verify(cacheService, never()).evictKpiCache(anyString());
+		verify(cacheService, never()).clearCache(anyString());
+	}
+
+	@Test
+	public void refreshWithoutChangesClearsNothing() {
+		ObjectId fieldMappingId = new ObjectId();
+		when(customApiConfig.isConfigRefreshEnabled()).thenReturn(true);
+		stubHierarchyCounts();
+		when(configHelperService.getConfigMapData(anyString())).thenReturn(Map.of());
+		when(mongoTemplate.getCollectionName(FieldMapping.class)).thenReturn(FIELD_MAPPING);
+		when(mongoTemplate.findOne(any(Query.class), eq(Document.class), eq(FIELD_MAPPING)))
+				.thenReturn(stamp(fieldMappingId, "2024-01-01T10:00:00.100"));
+		when(mongoTemplate.find(any(Query.class), eq(Document.class), eq(FIELD_MAPPING)))
+				.thenReturn(List.of(stamp(fieldMappingId, "2024-01-01T10:00:00.100")));
+		configRefreshService.refresh();
+
+		configRefreshService.refresh();
+		configRefreshService.refresh();
+
+		verify(mongoTemplate, never()).find(any(Query.class), eq(FieldMapping.class));
+		verify(configHelperService, never()).applyFieldMappingChanges(any(), any());
+		verify(cacheService, never()).evictLocalKpiCache(anyString());
+		verify(cacheService, never()).clearLocalCache(CommonConstant.CACHE_BOARD_META_DATA_MAP);
+		verify(cacheService, never()).clearLocalCache(CommonConstant.CACHE_PROJECT_TOOL_CONFIG);
+		verify(cacheService, times(1)).clearLocalCache(CommonConstant.CACHE_ACCOUNT_HIERARCHY);
+	}
+
+	@Test
+	public void refreshAppliesDocumentUpdatedAgainInTheWatermarkSecond() {
+		FieldMapping fieldMapping = new FieldMapping();
+		fieldMapping.setId(new ObjectId());
+		when(customApiConfig.isConfigRefreshEnabled()).thenReturn(true);
+		stubHierarchyCounts();
+		when(configHelperService.getConfigMapData(anyString())).thenReturn(Map.of());
+		when(mongoTemplate.getCollectionName(FieldMapping.class)).thenReturn(FIELD_MAPPING);
+		when(mongoTemplate.find(any(Query.class), eq(Document.class), eq(FIELD_MAPPING)))
+				.thenReturn(List.of(stamp(fieldMapping.getId(), "2024-01-01T10:00:00.100")))
+				.thenReturn(List.of(stamp(fieldMapping.getId(), "2024-01-01T10:00:00.100")))
+				.thenReturn(List.of(stamp(fieldMapping.getId(), "2024-01-01T10:00:00.900")));
+		when(mongoTemplate.find(any(Query.class), eq(FieldMapping.class)))
+				.thenReturn(List.of(fieldMapping));
+		configRefreshService.refresh();
+
+		configRefreshService.refresh();
+		configRefreshService.refresh();
+
+		verify(configHelperService, times(1)).applyFieldMappingChanges(List.of(fieldMapping), Set.of());
+	}
+
+	@Test
+	public void refreshReadsIdsOnlyWhenDocumentsWereRemoved() {
+		FieldMapping keptMapping = new FieldMapping();
+		keptMapping.setId(new ObjectId());
+		FieldMapping removedMapping = new FieldMapping();
+		removedMapping.setId(new ObjectId());
+		when(customApiConfig.isConfigRefreshEnabled()).thenReturn(true);
+		stubHierarchyCounts();
+		when(configHelperService.getConfigMapData(anyString())).thenReturn(Map.of());
+		when(configHelperService.getConfigMapData(CommonConstant.CACHE_FIELD_MAPPING_MAP))
+				.thenReturn(Map.of(new ObjectId(), keptMapping, new ObjectId(), removedMapping));
+		when(mongoTemplate.getCollectionName(FieldMapping.class)).thenReturn(FIELD_MAPPING);
+		when(mongoTemplate.count(any(Query.class), eq(FieldMapping.class))).thenReturn(2L, 1L);
+		when(mongoTemplate.findDistinct(
+						any(Query.class), eq("_id"), eq(FIELD_MAPPING), eq(ObjectId.class)))
+				.thenReturn(List.of(keptMapping.getId()));
+		configRefreshService.refresh();
+
+		configRefreshService.refresh();
+		configRefreshService.refresh();
+
+		verify(mongoTemplate, times(1))
+				.findDistinct(any(Query.class), eq("_id"), eq(FIELD_MAPPING), eq(ObjectId.class));
+		verify(configHelperService)
+				.applyFieldMappingChanges(List.of(), Set.of(removedMapping.getId()));
+	}
+
+	@Test
+	public void refreshUpdatesHierarchyRowsOfProjectsWhoseSprintsChanged() {
+		ObjectId projectId = new ObjectId();
+		when(customApiConfig.isConfigRefreshEnabled()).thenReturn(true);
+		stubHierarchyCounts();
+		when(configHelperService.getConfigMapData(anyString())).thenReturn(Map.of());
+		when(mongoTemplate.getCollectionName(SprintDetails.class)).thenReturn(SPRINT_DETAILS);
+		when(mongoTemplate.aggregate(any(Aggregation.class), eq(SPRINT_DETAILS), eq(Document.class)))
+				.thenReturn(counts(sprintCount(projectId, "ACTIVE")))
+				.thenReturn(counts(sprintCount(projectId, "CLOSED")));
+		configRefreshService.refresh();
+
+		configRefreshService.refresh();
+
+		verify(cacheService).refreshAccountHierarchy(Set.of(projectId));
+		verify(cacheService, times(1)).clearLocalCache(CommonConstant.CACHE_ACCOUNT_HIERARCHY);
+		verify(cacheService, times(1)).clearLocalCache(CommonConstant.CACHE_PROJECT_HIERARCHY);
+	}
+
+	@Test
+	public void refreshDoesNothingWhenDisabled() {
+		configRefreshService.refresh();
+
+		verifyNoInteractions(mongoTemplate, configHelperService, cacheService);
+	}
+
+	private void stubHierarchyCounts() {
+		when(mongoTemplate.aggregate(
+						any(Aggregation.class), nullable(String.class), eq(Document.class)))
+				.thenReturn(counts());
+	}
+
+	private static AggregationResults<Document> counts(Document... groups) {
+		return new AggregationResults<>(List.of(groups), new Document());
+	}
+
+	private static Document sprintCount(ObjectId projectId, String state) {
+		Document group = new Document("basicProjectConfigId", projectId).append("state", state);
+		return new Document("_id", group).append("count", 1);
+	}
+
+	private static Document stamp(ObjectId id, String updatedAt) {
+		return new Document("_id", id).append("updatedAt", updatedAt);
+	}
+}
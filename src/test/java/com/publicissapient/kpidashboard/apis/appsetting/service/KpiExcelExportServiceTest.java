@@ -0,0 +1,225 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+
+package com.publicissapient.kpidashboard.apis.appsetting.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.publicissapient.kpidashboard.apis.model.KPIExcelData;
+import com.publicissapient.kpidashboard.apis.model.KPIExcelValidationDataResponse;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
+import com.publicissapient.kpidashboard.apis.model.KpiRequest;
+import com.publicissapient.kpidashboard.common.model.application.KpiColumnDetails;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class KpiExcelExportServiceTest {
+
+	private SimpleMeterRegistry meterRegistry;
+	private KpiExcelExportService kpiExcelExportService;
+
+	@Before
+	public void setup() {
+		meterRegistry = new SimpleMeterRegistry();
+		kpiExcelExportService = new KpiExcelExportService(new ObjectMapper(), 2, meterRegistry);
+	}
+
+	@Test
+	public void exportWritesCsvRows() throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		kpiExcelExportService.export(response(3), KpiExcelExportFormat.CSV, out);
+
+		String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+		assertEquals(4, lines.length);
+		assertEquals("Sprint Name,Issue ID,Defects", lines[0]);
+		assertEquals("Sprint 0,ISSUE-0,0", lines[1]);
+		assertEquals(
+				3.0,
+				meterRegistry.get("kpi.excel.export.rows").tag("format", "CSV").counter().count(),
+				0);
+	}
+
+	@Test
+	public void exportWritesXlsxRowsBeyondTheRowWindow() throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		kpiExcelExportService.export(response(5), KpiExcelExportFormat.XLSX, out);
+
+		try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()))) {
+			Sheet sheet = workbook.getSheetAt(0);
+			assertEquals("Defect Count", sheet.getSheetName());
+			assertEquals(5, sheet.getLastRowNum());
+			Row row = sheet.getRow(5);
+			assertEquals("Sprint 4", row.getCell(0).getStringCellValue());
+			assertEquals("ISSUE-4", row.getCell(1).getStringCellValue());
+		}
+		assertEquals(
+				1L,
+				meterRegistry
+						.get("kpi.excel.export")
+						.tag("format", "XLSX")
+						.tag("result", "success")
+						.timer()
+						.count());
+	}
+
+	@Test
+	public void exportWithoutRowsWritesHeader() throws Exception {
+		KPIExcelValidationDataResponse response = response(0);
+		response.setExcelData(null);
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		kpiExcelExportService.export(response, KpiExcelExportFormat.CSV, out);
+
+		assertTrue(out.toString(StandardCharsets.UTF_8).startsWith("Sprint Name,Issue ID,Defects"));
+	}
+
+	@Test
+	public void exportWritesRowsStreamedByTheKpi() throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		ExecutorService kpiThread = Executors.newSingleThreadExecutor();
+		KPIExcelValidationDataResponse response = response(1);
+		response.setKpiColumnDetails(
+				List.of(
+						new KpiColumnDetails("Sprint Name", 1, true, true),
+						new KpiColumnDetails("Group Map", 2, true, true)));
+
+		try {
+			kpiExcelExportService.export(
+					() -> {
+						// the dispatcher binds the context of its request to the KPI thread
+						KpiExecutionContext context = KpiExecutionContext.of(new KpiRequest(), null, 0L);
+						List<KPIExcelData> excelData =
+								compute(kpiThread, context.bind(KpiExecutionContext::newExcelRows));
+						for (int row = 1; row < 3; row++) {
+							KPIExcelData excelRow = KPIExcelData.builder().sprintName("Sprint " + row).build();
+							excelRow.setGroupMap(new LinkedHashMap<>(Map.of("Epic", "EPIC-" + row)));
+							excelData.add(excelRow);
+						}
+						assertTrue(excelData.isEmpty());
+						return response;
+					},
+					KpiExcelExportFormat.CSV,
+					out);
+		} finally {
+			kpiThread.shutdown();
+		}
+
+		String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+		assertEquals(4, lines.length);
+		assertEquals("Sprint Name,Epic,Defects", lines[0]);
+		assertEquals("Sprint 1,EPIC-1,", lines[1]);
+		assertEquals("Sprint 0,,0", lines[3]);
+		assertEquals(
+				2.0,
+				meterRegistry
+						.get("kpi.excel.export.streamed.rows")
+						.tag("format", "CSV")
+						.counter()
+						.count(),
+				0);
+		assertNull(KpiExecutionContext.current());
+	}
+
+	@Test
+	public void exportOfKpiCancelledByTheTimeBudgetFailsBeforeWriting() {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		assertThrows(
+				IllegalStateException.class,
+				() ->
+						kpiExcelExportService.export(
+								() -> {
+									// the engine marks the request incomplete when a KPI is cancelled
+									KpiExecutionContext.of(new KpiRequest(), null, 0L).markIncomplete();
+									return response(1);
+								},
+								KpiExcelExportFormat.CSV,
+								out));
+
+		assertEquals(0, out.size());
+		assertEquals(
+				1L,
+				meterRegistry
+						.get("kpi.excel.export")
+						.tag("format", "CSV")
+						.tag("result", "error")
+						.timer()
+						.count());
+		assertNull(KpiExecutionContext.current());
+	}
+
+	@Test
+	public void rowsOutsideOfAnExportAreKeptInTheList() {
+		List<KPIExcelData> excelData = KpiExecutionContext.newExcelRows();
+
+		excelData.add(KPIExcelData.builder().sprintName("Sprint 0").build());
+
+		assertEquals(1, excelData.size());
+	}
+
+	private static <T> T compute(ExecutorService executor, Callable<T> task) {
+		try {
+			return executor.submit(task).get();
+		} catch (InterruptedException | ExecutionException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static KPIExcelValidationDataResponse response(int rows) {
+		List<KPIExcelData> excelData =
+				IntStream.range(0, rows)
+						.mapToObj(
+								row ->
+										KPIExcelData.builder()
+												.sprintName("Sprint " + row)
+												.issueID(Map.of("ISSUE-" + row, "https://jira/browse/ISSUE-" + row))
+												.count(Map.of("Defects", String.valueOf(row)))
+												.build())
+						.toList();
+		KPIExcelValidationDataResponse response = new KPIExcelValidationDataResponse();
+		response.setKpiId("kpi36");
+		response.setKpiName("Defect Count");
+		response.setExcelColumns(List.of("Sprint Name", "Issue ID", "Defects"));
+		response.setExcelData(excelData);
+		return response;
+	}
+}
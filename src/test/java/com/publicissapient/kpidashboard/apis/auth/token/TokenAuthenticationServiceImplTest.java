@@ -196,6 +196,18 @@ public class TokenAuthenticationServiceImplTest {
 		assertNotNull(authentication.getDetails());
 	}
 
+	@Test
+	public void testGetAuthenticationReusesVerifiedToken() {
+		when(tokenAuthProperties.getSecret()).thenReturn(VALID_JWT_SECRET);
+		when(tokenAuthProperties.getTokenVerificationCacheSize()).thenReturn(10);
+		Authentication authentication = service.getAuthentication(request, response);
+		Authentication nextAuthentication = service.getAuthentication(request, response);
+		assertNotNull(nextAuthentication);
+		assertEquals(authentication.getPrincipal(), nextAuthentication.getPrincipal());
+		assertEquals(authentication.getAuthorities(), nextAuthentication.getAuthorities());
+		verify(tokenAuthProperties, times(1)).getSecret();
+	}
+
 	@Test
 	public void validateGetUserProjects() {
 		SecurityContextHolder.setContext(securityContext);
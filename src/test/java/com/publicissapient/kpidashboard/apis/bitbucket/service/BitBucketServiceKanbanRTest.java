@@ -44,6 +44,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.test.util.ReflectionTestUtils;
 
@@ -51,6 +52,7 @@ import com.publicissapient.kpidashboard.apis.abac.UserAuthorizedProjectsService;
 import com.publicissapient.kpidashboard.apis.auth.apikey.ApiKeyAuthenticationService;
 import com.publicissapient.kpidashboard.apis.bitbucket.factory.BitBucketKPIServiceFactory;
 import com.publicissapient.kpidashboard.apis.common.service.CacheService;
+import com.publicissapient.kpidashboard.apis.common.service.impl.KpiExecutionEngine;
 import com.publicissapient.kpidashboard.apis.common.service.impl.KpiHelperService;
 import com.publicissapient.kpidashboard.apis.data.AccountHierarchyKanbanFilterDataFactory;
 import com.publicissapient.kpidashboard.apis.data.FieldMappingDataFactory;
@@ -67,6 +69,8 @@ import com.publicissapient.kpidashboard.common.model.application.FieldMapping;
 import com.publicissapient.kpidashboard.common.model.application.HierarchyLevel;
 import com.publicissapient.kpidashboard.common.model.application.ProjectBasicConfig;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 @RunWith(MockitoJUnitRunner.class)
 public class BitBucketServiceKanbanRTest {
 	public Map<String, ProjectBasicConfig> projectConfigMap = new HashMap<>();
@@ -77,6 +81,8 @@ public class BitBucketServiceKanbanRTest {
 	@Mock private CacheService cacheService;
 	@Mock private CodeCommitKanbanServiceImpl codeCommitKanbanServiceImpl;
 	@Mock private UserAuthorizedProjectsService authorizedProjectsService;
+	@Spy private KpiExecutionEngine kpiExecutionEngine =
+			new KpiExecutionEngine(0, 0, 0, new SimpleMeterRegistry());
 
 	@InjectMocks private BitBucketServiceKanbanR bitbucketServiceKanbanR;
 
@@ -22,11 +22,11 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
-import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
@@ -43,8 +43,6 @@ import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.lang3.SerializationUtils;
 import org.bson.types.ObjectId;
@@ -58,14 +56,19 @@ import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.http.converter.HttpMessageNotWritableException;
 
 import com.publicissapient.kpidashboard.apis.abac.UserAuthorizedProjectsService;
 import com.publicissapient.kpidashboard.apis.bitbucket.factory.BitBucketKPIServiceFactory;
+import com.publicissapient.kpidashboard.apis.bitbucket.service.scm.ScmDataset;
+import com.publicissapient.kpidashboard.apis.bitbucket.service.scm.ScmDatasetCache;
 import com.publicissapient.kpidashboard.apis.bitbucket.service.scm.ScmKpiHelperService;
 import com.publicissapient.kpidashboard.apis.common.service.CacheService;
+import com.publicissapient.kpidashboard.apis.common.service.impl.KpiExecutionEngine;
 import com.publicissapient.kpidashboard.apis.common.service.impl.KpiHelperService;
+import com.publicissapient.kpidashboard.apis.common.service.impl.KpiRequestCoalescer;
 import com.publicissapient.kpidashboard.apis.data.AccountHierarchyFilterDataFactory;
 import com.publicissapient.kpidashboard.apis.data.FieldMappingDataFactory;
 import com.publicissapient.kpidashboard.apis.enums.Filters;
@@ -88,6 +91,8 @@ import com.publicissapient.kpidashboard.common.model.jira.Assignee;
 import com.publicissapient.kpidashboard.common.model.scm.ScmCommits;
 import com.publicissapient.kpidashboard.common.model.scm.ScmMergeRequests;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 @RunWith(MockitoJUnitRunner.Silent.class)
 public class BitBucketServiceRTest {
 
@@ -101,6 +106,12 @@ public class BitBucketServiceRTest {
 	@Mock private BitBucketKPIService<?, ?, ?> bitBucketKPIService;
 	@Mock private UserAuthorizedProjectsService authorizedProjectsService;
 
+	@Spy private KpiExecutionEngine kpiExecutionEngine =
+			new KpiExecutionEngine(0, 0, 0, new SimpleMeterRegistry());
+	@Spy private KpiRequestCoalescer kpiRequestCoalescer =
+			new KpiRequestCoalescer(0, new SimpleMeterRegistry());
+	@Spy private ScmDatasetCache scmDatasetCache =
+			new ScmDatasetCache(0, 0, new SimpleMeterRegistry());
 	@InjectMocks private BitBucketServiceR bitBucketServiceR;
 
 	private List<AccountHierarchyData> accountHierarchyDataList = new ArrayList<>();
@@ -294,7 +305,7 @@ public class BitBucketServiceRTest {
 	}
 
 	@Test
-	public void testLoadDataIntoThreadLocal_Exception() throws Exception {
+	public void testLoadScmDataset_Exception() throws Exception {
 		when(scmKpiHelperService.getCommitDetails(any(ObjectId.class), any(CustomDateRange.class)))
 				.thenThrow(new RuntimeException("Database error"));
 
@@ -306,7 +317,7 @@ public class BitBucketServiceRTest {
 
 			Method method =
 					BitBucketServiceR.class.getDeclaredMethod(
-							"loadDataIntoThreadLocal", AccountHierarchyData.class, KpiRequest.class);
+							"loadScmDataset", AccountHierarchyData.class, KpiRequest.class);
 			method.setAccessible(true);
 
 			try {
@@ -320,7 +331,7 @@ public class BitBucketServiceRTest {
 	}
 
 	@Test
-	public void testLoadDataIntoThreadLocal_InterruptedException() throws Exception {
+	public void testLoadScmDataset_InterruptedException() throws Exception {
 		when(scmKpiHelperService.getCommitDetails(any(ObjectId.class), any(CustomDateRange.class)))
 				.thenReturn(List.of(new ScmCommits()));
 		when(scmKpiHelperService.getMergeRequests(any(ObjectId.class), any(CustomDateRange.class)))
@@ -340,7 +351,7 @@ public class BitBucketServiceRTest {
 
 			Method method =
 					BitBucketServiceR.class.getDeclaredMethod(
-							"loadDataIntoThreadLocal", AccountHierarchyData.class, KpiRequest.class);
+							"loadScmDataset", AccountHierarchyData.class, KpiRequest.class);
 			method.setAccessible(true);
 
 			Thread.interrupted();
@@ -356,7 +367,7 @@ public class BitBucketServiceRTest {
 	}
 
 	@Test
-	public void testLoadDataIntoThreadLocal_ExecutionException() throws Exception {
+	public void testLoadScmDataset_ExecutionException() throws Exception {
 		when(scmKpiHelperService.getCommitDetails(any(ObjectId.class), any(CustomDateRange.class)))
 				.thenReturn(List.of(new ScmCommits()));
 		when(scmKpiHelperService.getMergeRequests(any(ObjectId.class), any(CustomDateRange.class)))
@@ -375,7 +386,7 @@ public class BitBucketServiceRTest {
 
 			Method method =
 					BitBucketServiceR.class.getDeclaredMethod(
-							"loadDataIntoThreadLocal", AccountHierarchyData.class, KpiRequest.class);
+							"loadScmDataset", AccountHierarchyData.class, KpiRequest.class);
 			method.setAccessible(true);
 
 			try {
@@ -417,55 +428,16 @@ public class BitBucketServiceRTest {
 		}
 	}
 
-	@Test
-	public void testShutdownExecutorService_Timeout() throws Exception {
-		ExecutorService mockExecutor = mock(ExecutorService.class);
-		when(mockExecutor.awaitTermination(60, TimeUnit.SECONDS)).thenReturn(false);
-		when(mockExecutor.awaitTermination(30, TimeUnit.SECONDS)).thenReturn(false);
-
-		Method method =
-				BitBucketServiceR.class.getDeclaredMethod("shutdownExecutorService", ExecutorService.class);
-		method.setAccessible(true);
-		method.invoke(bitBucketServiceR, mockExecutor);
-
-		verify(mockExecutor).shutdown();
-		verify(mockExecutor).shutdownNow();
-	}
-
-	@Test
-	public void testShutdownExecutorService_Interrupted() throws Exception {
-		ExecutorService mockExecutor = mock(ExecutorService.class);
-		when(mockExecutor.awaitTermination(anyLong(), any(TimeUnit.class)))
-				.thenThrow(new InterruptedException("Test interruption"));
-
-		Method method =
-				BitBucketServiceR.class.getDeclaredMethod("shutdownExecutorService", ExecutorService.class);
-		method.setAccessible(true);
-		method.invoke(bitBucketServiceR, mockExecutor);
-
-		verify(mockExecutor).shutdownNow();
-		assertTrue(Thread.currentThread().isInterrupted() || Thread.interrupted());
-	}
-
 	@Test
 	public void testCleanupThreadLocalData_Exception() throws Exception {
-		Field commitsField = BitBucketServiceR.class.getDeclaredField("THREAD_LOCAL_COMMITS");
-		commitsField.setAccessible(true);
-		ThreadLocal<List<ScmCommits>> threadLocalCommits =
-				(ThreadLocal<List<ScmCommits>>) commitsField.get(null);
-		threadLocalCommits.set(Arrays.asList(new ScmCommits()));
-
-		Field mergeField = BitBucketServiceR.class.getDeclaredField("THREAD_LOCAL_MERGE_REQUESTS");
-		mergeField.setAccessible(true);
-		ThreadLocal<List<ScmMergeRequests>> threadLocalMerge =
-				(ThreadLocal<List<ScmMergeRequests>>) mergeField.get(null);
-		threadLocalMerge.set(Arrays.asList(new ScmMergeRequests()));
-
-		Field assigneeField = BitBucketServiceR.class.getDeclaredField("THREAD_LOCAL_ASSIGNEES");
-		assigneeField.setAccessible(true);
-		ThreadLocal<List<Assignee>> threadLocalAssignees =
-				(ThreadLocal<List<Assignee>>) assigneeField.get(null);
-		threadLocalAssignees.set(Arrays.asList(new Assignee()));
+		Field datasetField = BitBucketServiceR.class.getDeclaredField("THREAD_LOCAL_SCM_DATASET");
+		datasetField.setAccessible(true);
+		ThreadLocal<ScmDataset> threadLocalDataset = (ThreadLocal<ScmDataset>) datasetField.get(null);
+		threadLocalDataset.set(
+				ScmDataset.of(
+						Arrays.asList(new ScmCommits()),
+						Arrays.asList(new ScmMergeRequests()),
+						Arrays.asList(new Assignee())));
 
 		// Act - Invoke the cleanup method
 		Method method = BitBucketServiceR.class.getDeclaredMethod("cleanupThreadLocalData");
@@ -473,62 +445,72 @@ public class BitBucketServiceRTest {
 		method.invoke(bitBucketServiceR);
 
 		// Assert - Verify ThreadLocal data has been cleaned up
-		assertTrue(
-				"ThreadLocal commits should be empty after cleanup", threadLocalCommits.get().isEmpty());
+		ScmDataset dataset = BitBucketServiceR.getThreadLocalScmDataset();
+		assertTrue("ThreadLocal commits should be empty after cleanup", dataset.getCommits().isEmpty());
 		assertTrue(
 				"ThreadLocal merge requests should be empty after cleanup",
-				threadLocalMerge.get().isEmpty());
+				dataset.getMergeRequests().isEmpty());
 		assertTrue(
-				"ThreadLocal assignees should be empty after cleanup",
-				threadLocalAssignees.get().isEmpty());
+				"ThreadLocal assignees should be empty after cleanup", dataset.getAssignees().isEmpty());
 	}
 
 	@Test
-	public void testThreadLocalAccessors() {
-		List<ScmCommits> commits = Arrays.asList(new ScmCommits());
-		List<ScmMergeRequests> mergeRequests = Arrays.asList(new ScmMergeRequests());
-		List<Assignee> assignees = Arrays.asList(new Assignee());
+	public void testThreadLocalAccessors() throws Exception {
+		Field datasetField = BitBucketServiceR.class.getDeclaredField("THREAD_LOCAL_SCM_DATASET");
+		datasetField.setAccessible(true);
+		ThreadLocal<ScmDataset> threadLocalDataset = (ThreadLocal<ScmDataset>) datasetField.get(null);
+		threadLocalDataset.set(
+				ScmDataset.of(
+						Arrays.asList(new ScmCommits()),
+						Arrays.asList(new ScmMergeRequests()),
+						Arrays.asList(new Assignee())));
 
 		try {
-			Field commitsField = BitBucketServiceR.class.getDeclaredField("THREAD_LOCAL_COMMITS");
-			commitsField.setAccessible(true);
-			ThreadLocal<List<ScmCommits>> threadLocalCommits =
-					(ThreadLocal<List<ScmCommits>>) commitsField.get(null);
-			threadLocalCommits.set(commits);
-
-			Field mergeField = BitBucketServiceR.class.getDeclaredField("THREAD_LOCAL_MERGE_REQUESTS");
-			mergeField.setAccessible(true);
-			ThreadLocal<List<ScmMergeRequests>> threadLocalMerge =
-					(ThreadLocal<List<ScmMergeRequests>>) mergeField.get(null);
-			threadLocalMerge.set(mergeRequests);
-
-			Field assigneeField = BitBucketServiceR.class.getDeclaredField("THREAD_LOCAL_ASSIGNEES");
-			assigneeField.setAccessible(true);
-			ThreadLocal<List<Assignee>> threadLocalAssignees =
-					(ThreadLocal<List<Assignee>>) assigneeField.get(null);
-			threadLocalAssignees.set(assignees);
-
-			List<ScmCommits> retrievedCommits = BitBucketServiceR.getThreadLocalCommits();
-			List<ScmMergeRequests> retrievedMergeRequests =
-					BitBucketServiceR.getThreadLocalMergeRequests();
-			List<Assignee> retrievedAssignees = BitBucketServiceR.getThreadLocalAssignees();
-
-			assertNotNull(retrievedCommits);
-			assertNotNull(retrievedMergeRequests);
-			assertNotNull(retrievedAssignees);
-			assertEquals(1, retrievedCommits.size());
-			assertEquals(1, retrievedMergeRequests.size());
-			assertEquals(1, retrievedAssignees.size());
-
-			// Clean up
-			threadLocalCommits.remove();
-			threadLocalMerge.remove();
-			threadLocalAssignees.remove();
-		} catch (Exception e) {
-			throw new RuntimeException(e);
+			BitBucketKPIService<?, ?, ?> testService = new TestBitBucketKPIService();
+
+			assertEquals(1, testService.getCommitsFromBaseClass().size());
+			assertEquals(1, testService.getMergeRequestsFromBaseClass().size());
+			assertEquals(1, testService.getScmUsersFromBaseClass().size());
+		} finally {
+			threadLocalDataset.remove();
 		}
 	}
 
+	@Test
+	public void testLoadScmDataset_SharedByRequestsOfSameRange() throws Exception {
+		ScmDatasetCache cache = new ScmDatasetCache(10, 0, new SimpleMeterRegistry());
+		Field cacheField = BitBucketServiceR.class.getDeclaredField("scmDatasetCache");
+		cacheField.setAccessible(true);
+		cacheField.set(bitBucketServiceR, cache);
+		when(scmKpiHelperService.getCommitDetails(any(ObjectId.class), any(CustomDateRange.class)))
+				.thenReturn(List.of(new ScmCommits()));
+		when(scmKpiHelperService.getMergeRequests(any(ObjectId.class), any(CustomDateRange.class)))
+				.thenReturn(List.of(new ScmMergeRequests()));
+		when(scmKpiHelperService.getJiraAssigneeForScmUsers(any(ObjectId.class)))
+				.thenReturn(List.of(new Assignee()));
+
+		Method method =
+				BitBucketServiceR.class.getDeclaredMethod(
+						"loadScmDataset", AccountHierarchyData.class, KpiRequest.class);
+		method.setAccessible(true);
+		kpiRequest.setDuration(CommonConstant.WEEK);
+		ScmDataset first =
+				(ScmDataset) method.invoke(bitBucketServiceR, accountHierarchyDataList.get(0), kpiRequest);
+		ScmDataset second =
+				(ScmDataset) method.invoke(bitBucketServiceR, accountHierarchyDataList.get(0), kpiRequest);
+
+		assertSame(first, second);
+		assertEquals(1, first.getCommits().size());
+		verify(scmKpiHelperService, times(1))
+				.getCommitDetails(any(ObjectId.class), any(CustomDateRange.class));
+
+		cache.evict(accountHierarchyDataList.get(0).getBasicProjectConfigId().toString());
+		method.invoke(bitBucketServiceR, accountHierarchyDataList.get(0), kpiRequest);
+
+		verify(scmKpiHelperService, times(2))
+				.getCommitDetails(any(ObjectId.class), any(CustomDateRange.class));
+	}
+
 	@Test
 	public void testSetIntoApplicationCache() throws Exception {
 		KpiRequest kpiRequest1 = createKpiRequest(5);
@@ -33,6 +33,7 @@ import java.util.Map;
 
 import org.bson.types.ObjectId;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
@@ -50,10 +51,10 @@ import com.publicissapient.kpidashboard.apis.data.AccountHierarchyKanbanFilterDa
 import com.publicissapient.kpidashboard.apis.data.CommitDetailsDataFactory;
 import com.publicissapient.kpidashboard.apis.data.KpiRequestFactory;
 import com.publicissapient.kpidashboard.apis.enums.KPICode;
-import com.publicissapient.kpidashboard.apis.enums.KPISource;
 import com.publicissapient.kpidashboard.apis.errors.ApplicationException;
 import com.publicissapient.kpidashboard.apis.model.AccountHierarchyDataKanban;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContextRule;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.Node;
 import com.publicissapient.kpidashboard.apis.model.TreeAggregatorDetail;
@@ -76,6 +77,8 @@ import com.publicissapient.kpidashboard.common.repository.scm.CommitRepository;
 @RunWith(MockitoJUnitRunner.class)
 public class CodeCommitKanbanServiceImplTest {
 
+	@Rule public final KpiExecutionContextRule kpiExecutionContext = new KpiExecutionContextRule();
+
 	private static Tool tool1;
 	private static Tool tool2;
 	public Map<String, ProjectBasicConfig> projectConfigMap = new HashMap<>();
@@ -241,9 +244,7 @@ public class CodeCommitKanbanServiceImplTest {
 
 		String kpiRequestTrackerId = "Excel-Bitbucket-5be544de025de212549176a9";
 
-		when(cacheService.getFromApplicationCache(
-						Constant.KPI_REQUEST_TRACKER_ID_KEY + KPISource.BITBUCKETKANBAN.name()))
-				.thenReturn(kpiRequestTrackerId);
+		kpiExecutionContext.bindRequestTrackerId(kpiRequestTrackerId);
 
 		KpiElement kpiElement =
 				codeCommitServiceImpl.getKpiData(
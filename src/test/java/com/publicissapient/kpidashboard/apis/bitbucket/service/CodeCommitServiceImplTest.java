@@ -33,6 +33,7 @@ import java.util.Map;
 
 import org.bson.types.ObjectId;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
@@ -50,11 +51,11 @@ import com.publicissapient.kpidashboard.apis.data.AccountHierarchyFilterDataFact
 import com.publicissapient.kpidashboard.apis.data.CommitDetailsDataFactory;
 import com.publicissapient.kpidashboard.apis.data.KpiRequestFactory;
 import com.publicissapient.kpidashboard.apis.data.MergeRequestDataFactory;
-import com.publicissapient.kpidashboard.apis.enums.KPISource;
 import com.publicissapient.kpidashboard.apis.errors.ApplicationException;
 import com.publicissapient.kpidashboard.apis.filter.service.FilterHelperService;
 import com.publicissapient.kpidashboard.apis.model.AccountHierarchyData;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContextRule;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.TreeAggregatorDetail;
 import com.publicissapient.kpidashboard.apis.util.KPIHelperUtil;
@@ -77,6 +78,8 @@ import com.publicissapient.kpidashboard.common.repository.scm.MergeRequestReposi
 @RunWith(MockitoJUnitRunner.class)
 public class CodeCommitServiceImplTest {
 
+	@Rule public final KpiExecutionContextRule kpiExecutionContext = new KpiExecutionContextRule();
+
 	private static final String P1 = "p1,P1 - Blocker, blocker, 1, 0, p0, Urgent";
 	private static final String P2 = "p2, critical, P2 - Critical, 2, High";
 	private static final String P3 = "p3, P3 - Major, major, 3, Medium";
@@ -158,7 +161,7 @@ public class CodeCommitServiceImplTest {
 		configHelperService.setProjectConfigMap(projectConfigMap);
 		configHelperService.setFieldMappingMap(fieldMappingMap);
 
-		Mockito.when(cacheService.getFromApplicationCache(Mockito.anyString())).thenReturn("trackerid");
+		kpiExecutionContext.bindRequestTrackerId("trackerid");
 	}
 
 	private void setToolMap() {
@@ -242,9 +245,7 @@ public class CodeCommitServiceImplTest {
 		when(configHelperService.getToolItemMap()).thenReturn(toolMap);
 
 		String kpiRequestTrackerId = "Bitbucket-5be544de025de212549176a9";
-		when(cacheService.getFromApplicationCache(
-						Constant.KPI_REQUEST_TRACKER_ID_KEY + KPISource.BITBUCKET.name()))
-				.thenReturn(kpiRequestTrackerId);
+		kpiExecutionContext.bindRequestTrackerId(kpiRequestTrackerId);
 
 		Map<String, List<String>> maturityRangeMap = new HashMap<>();
 		maturityRangeMap.put("codeCommit", Arrays.asList("0", "2", "4", "8", "32"));
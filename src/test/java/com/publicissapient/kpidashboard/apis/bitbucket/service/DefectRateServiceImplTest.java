@@ -36,6 +36,7 @@ import java.util.Set;
 
 import org.bson.types.ObjectId;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
@@ -52,10 +53,10 @@ import com.publicissapient.kpidashboard.apis.constant.Constant;
 import com.publicissapient.kpidashboard.apis.data.AccountHierarchyFilterDataFactory;
 import com.publicissapient.kpidashboard.apis.data.KpiRequestFactory;
 import com.publicissapient.kpidashboard.apis.data.RepoToolsKpiRequestDataFactory;
-import com.publicissapient.kpidashboard.apis.enums.KPISource;
 import com.publicissapient.kpidashboard.apis.errors.ApplicationException;
 import com.publicissapient.kpidashboard.apis.model.AccountHierarchyData;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContextRule;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.TreeAggregatorDetail;
 import com.publicissapient.kpidashboard.apis.repotools.model.RepoToolKpiMetricResponse;
@@ -74,6 +75,8 @@ import com.publicissapient.kpidashboard.common.repository.jira.AssigneeDetailsRe
 @RunWith(MockitoJUnitRunner.class)
 public class DefectRateServiceImplTest {
 
+	@Rule public final KpiExecutionContextRule kpiExecutionContext = new KpiExecutionContextRule();
+
 	private static Tool tool3;
 	public Map<String, ProjectBasicConfig> projectConfigMap = new HashMap<>();
 	public Map<ObjectId, FieldMapping> fieldMappingMap = new HashMap<>();
@@ -146,13 +149,11 @@ public class DefectRateServiceImplTest {
 		configHelperService.setProjectConfigMap(projectConfigMap);
 		configHelperService.setFieldMappingMap(fieldMappingMap);
 
-		Mockito.when(cacheService.getFromApplicationCache(Mockito.anyString())).thenReturn("trackerid");
+		kpiExecutionContext.bindRequestTrackerId("trackerid");
 		when(commonService.sortTrendValueMap(anyMap())).thenReturn(trendValueMap);
 		when(configHelperService.getToolItemMap()).thenReturn(toolMap);
 		String kpiRequestTrackerId = "Bitbucket-5be544de025de212549176a9";
-		when(cacheService.getFromApplicationCache(
-						Constant.KPI_REQUEST_TRACKER_ID_KEY + KPISource.BITBUCKET.name()))
-				.thenReturn(kpiRequestTrackerId);
+		kpiExecutionContext.bindRequestTrackerId(kpiRequestTrackerId);
 
 		AssigneeDetails assigneeDetails = new AssigneeDetails();
 		assigneeDetails.setBasicProjectConfigId("634fdf4ec859a424263dc035");
@@ -189,9 +190,7 @@ public class DefectRateServiceImplTest {
 		when(configHelperService.getToolItemMap()).thenReturn(toolMap);
 
 		String kpiRequestTrackerId = "Bitbucket-5be544de025de212549176a9";
-		when(cacheService.getFromApplicationCache(
-						Constant.KPI_REQUEST_TRACKER_ID_KEY + KPISource.BITBUCKET.name()))
-				.thenReturn(kpiRequestTrackerId);
+		kpiExecutionContext.bindRequestTrackerId(kpiRequestTrackerId);
 
 		when(kpiHelperService.getRepoToolsKpiMetricResponse(any(), any(), any(), any(), any(), any()))
 				.thenReturn(repoToolKpiMetricResponseList);
@@ -36,6 +36,7 @@ import java.util.Map;
 import org.apache.commons.lang3.tuple.Pair;
 import org.bson.types.ObjectId;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
@@ -53,9 +54,9 @@ import com.publicissapient.kpidashboard.apis.data.AccountHierarchyFilterDataFact
 import com.publicissapient.kpidashboard.apis.data.KpiRequestFactory;
 import com.publicissapient.kpidashboard.apis.data.MergeRequestDataFactory;
 import com.publicissapient.kpidashboard.apis.enums.KPICode;
-import com.publicissapient.kpidashboard.apis.enums.KPISource;
 import com.publicissapient.kpidashboard.apis.model.AccountHierarchyData;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContextRule;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.Node;
 import com.publicissapient.kpidashboard.apis.model.TreeAggregatorDetail;
@@ -76,6 +77,8 @@ import com.publicissapient.kpidashboard.common.repository.scm.MergeRequestReposi
 @RunWith(MockitoJUnitRunner.class)
 public class MeanTimeToMergeServiceImplTest {
 
+	@Rule public final KpiExecutionContextRule kpiExecutionContext = new KpiExecutionContextRule();
+
 	private static Tool tool1;
 	private static Tool tool2;
 	public Map<String, ProjectBasicConfig> projectConfigMap = new HashMap<>();
@@ -221,9 +224,7 @@ public class MeanTimeToMergeServiceImplTest {
 		aggregationMap.put("meanTimeToMerge", "average");
 		Map<Pair<String, String>, Node> nodeWiseKPIValue = new HashMap<>();
 
-		when(cacheService.getFromApplicationCache(
-						Constant.KPI_REQUEST_TRACKER_ID_KEY + KPISource.BITBUCKET.name()))
-				.thenReturn("Jira-Excel-5be544de025de212549176a9");
+		kpiExecutionContext.bindRequestTrackerId("Jira-Excel-5be544de025de212549176a9");
 		when(mergeRequestRepository.findMergeRequestList(any(), any(), any(), any()))
 				.thenReturn(mergeRequestsList);
 		when(configHelperService.getToolItemMap()).thenReturn(toolMap);
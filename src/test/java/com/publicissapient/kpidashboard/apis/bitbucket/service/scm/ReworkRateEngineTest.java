@@ -0,0 +1,141 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+
+package com.publicissapient.kpidashboard.apis.bitbucket.service.scm;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import com.publicissapient.kpidashboard.apis.bitbucket.service.scm.ReworkRateEngine.PeriodRework;
+import com.publicissapient.kpidashboard.apis.bitbucket.service.scm.ReworkRateEngine.Rework;
+import com.publicissapient.kpidashboard.apis.model.CustomDateRange;
+import com.publicissapient.kpidashboard.common.model.scm.ScmCommits;
+import com.publicissapient.kpidashboard.common.model.scm.User;
+
+class ReworkRateEngineTest {
+
+	private static final LocalDateTime START = LocalDateTime.of(2025, 3, 3, 0, 0);
+
+	@Test
+	void testCalculate_LinesChangedBeforeOrEarlierInPeriodAreRework() {
+		List<ScmCommits> commits =
+				List.of(
+						commit(-5, "dev1@test.com", "A.java", lines(10, 20)),
+						commit(1, "dev2@test.com", "A.java", lines(15, 25)),
+						commit(2, "dev2@test.com", "A.java", lines(25, 26)));
+
+		PeriodRework rework = ReworkRateEngine.calculate(commits, List.of(week(0))).get(0);
+
+		assertRework(rework.overall(), 7, 13);
+		assertEquals(Set.of("dev2@test.com"), rework.byDeveloper().keySet());
+		assertRework(rework.byDeveloper().get("dev2@test.com"), 1, 13);
+	}
+
+	@Test
+	void testCalculate_SlidesTheWindowAcrossPeriods() {
+		List<ScmCommits> commits =
+				List.of(
+						commit(8, "dev1@test.com", "A.java", List.of(1)),
+						commit(-30, "dev1@test.com", "A.java", List.of(1)),
+						commit(1, "dev1@test.com", "A.java", List.of(1, 2)));
+
+		List<PeriodRework> rework = ReworkRateEngine.calculate(commits, List.of(week(1), week(0)));
+
+		assertRework(rework.get(0).overall(), 1, 1);
+		assertRework(rework.get(1).overall(), 0, 2);
+		assertEquals(100.0, rework.get(0).byDeveloper().get("dev1@test.com").getPercentage(), 0);
+	}
+
+	@Test
+	void testCalculate_CountsDuplicateLinesAsChangedOnce() {
+		List<ScmCommits> commits =
+				List.of(
+						commit(-3, "dev1@test.com", "B.java", List.of(5)),
+						commit(3, "dev1@test.com", "B.java", List.of(5, 5, 6)),
+						commit(4, "dev2@test.com", null, List.of(5)));
+
+		PeriodRework rework = ReworkRateEngine.calculate(commits, List.of(week(0))).get(0);
+
+		assertRework(rework.overall(), 1, 3);
+		assertEquals(Set.of("dev1@test.com", "dev2@test.com"), rework.byDeveloper().keySet());
+		assertEquals(0.0, rework.byDeveloper().get("dev2@test.com").getPercentage(), 0);
+	}
+
+	@Test
+	void testCalculate_OverlappingPeriodsMatchSeparateCalculation() {
+		List<ScmCommits> commits =
+				List.of(
+						commit(-2, "dev1@test.com", "A.java", lines(1, 10)),
+						commit(2, "dev1@test.com", "A.java", lines(5, 15)),
+						commit(5, "dev2@test.com", "A.java", lines(12, 20)));
+		CustomDateRange overlapping = week(0);
+		overlapping.setStartDateTime(START.plusDays(3));
+		overlapping.setEndDateTime(START.plusDays(10));
+
+		List<PeriodRework> rework = ReworkRateEngine.calculate(commits, List.of(week(0), overlapping));
+
+		for (int period = 0; period < 2; period++) {
+			CustomDateRange range = period == 0 ? week(0) : overlapping;
+			Rework separate = ReworkRateEngine.calculate(commits, List.of(range)).get(0).overall();
+			assertRework(
+					rework.get(period).overall(), separate.getReworkedLines(), separate.getChangedLines());
+		}
+		assertRework(rework.get(1).overall(), 4, 9);
+	}
+
+	private static void assertRework(Rework rework, int reworkedLines, int changedLines) {
+		assertEquals(reworkedLines, rework.getReworkedLines());
+		assertEquals(changedLines, rework.getChangedLines());
+	}
+
+	private static CustomDateRange week(int week) {
+		CustomDateRange range = new CustomDateRange();
+		range.setStartDateTime(START.plusWeeks(week));
+		range.setEndDateTime(START.plusWeeks(week + 1L).minusSeconds(1));
+		return range;
+	}
+
+	private static List<Integer> lines(int from, int to) {
+		List<Integer> lines = new ArrayList<>();
+		for (int line = from; line <= to; line++) {
+			lines.add(line);
+		}
+		return lines;
+	}
+
+	private static ScmCommits commit(int day, String email, String filePath, List<Integer> lines) {
+		ScmCommits.FileChange fileChange = new ScmCommits.FileChange();
+		fileChange.setFilePath(filePath);
+		fileChange.setChangedLineNumbers(lines);
+		User user = new User();
+		user.setEmail(email);
+		ScmCommits commit = new ScmCommits();
+		LocalDateTime time = START.plusDays(day).plusHours(10);
+		commit.setCommitTimestamp(time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+		commit.setCommitAuthor(user);
+		commit.setFileChanges(List.of(fileChange));
+		return commit;
+	}
+}
@@ -0,0 +1,151 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+
+
+package com.publicissapient.kpidashboard.apis.bitbucket.service.scm;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+
+import com.publicissapient.kpidashboard.apis.model.CustomDateRange;
+import com.publicissapient.kpidashboard.common.model.application.Tool;
+import com.publicissapient.kpidashboard.common.model.generic.ProcessorItem;
+import com.publicissapient.kpidashboard.common.model.scm.ScmCommits;
+import com.publicissapient.kpidashboard.common.model.scm.ScmMergeRequests;
+import com.publicissapient.kpidashboard.common.model.scm.User;
+
+class ScmDatasetTest {
+
+	private static final LocalDateTime START = LocalDateTime.of(2025, 3, 3, 0, 0);
+
+	private final ObjectId mainBranch = new ObjectId();
+	private final ObjectId featureBranch = new ObjectId();
+
+	@Test
+	void testGetCommits_ReturnsBranchCommitsOfPeriodInTimeOrder() {
+		ScmCommits late = commit("late", mainBranch, 5, "dev1@test.com");
+		ScmCommits early = commit("early", mainBranch, 1, "dev2@test.com");
+		ScmCommits before = commit("before", mainBranch, -2, "dev1@test.com");
+		ScmCommits after = commit("after", mainBranch, 9, "dev1@test.com");
+		ScmCommits otherBranch = commit("other", featureBranch, 2, "dev1@test.com");
+		ScmCommits noTimestamp = commit("none", mainBranch, 0, "dev1@test.com");
+		noTimestamp.setCommitTimestamp(null);
+
+		ScmDataset dataset =
+				ScmDataset.of(
+						List.of(late, before, otherBranch, noTimestamp, after, early), List.of(), List.of());
+
+		assertEquals(List.of(early, late), dataset.getCommits(tool(mainBranch), week()));
+		assertEquals(List.of(otherBranch), dataset.getCommits(tool(featureBranch), week()));
+		assertEquals(6, dataset.getCommits().size());
+	}
+
+	@Test
+	void testGetCommitsByAuthor_GroupsByEmailThenUserName() {
+		ScmCommits byEmail = commit("c1", mainBranch, 1, "dev1@test.com");
+		ScmCommits byUserName = commit("c2", mainBranch, 2, null);
+		byUserName.getCommitAuthor().setUsername("dev2");
+		ScmCommits noAuthor = commit("c3", mainBranch, 3, null);
+		noAuthor.setCommitAuthor(null);
+
+		ScmDataset dataset = ScmDataset.of(List.of(byEmail, byUserName, noAuthor), null, null);
+
+		Map<String, List<ScmCommits>> byAuthor = dataset.getCommitsByAuthor(tool(mainBranch), week());
+		assertEquals(Map.of("dev1@test.com", List.of(byEmail), "dev2", List.of(byUserName)), byAuthor);
+	}
+
+	@Test
+	void testGetMergeRequestsUpdated_IndexesMergeRequestsByUpdateTime() {
+		ScmMergeRequests inPeriod = mergeRequest(mainBranch, 3, "dev1@test.com");
+		ScmMergeRequests outOfPeriod = mergeRequest(mainBranch, 12, "dev1@test.com");
+		ScmMergeRequests notUpdated = mergeRequest(mainBranch, 0, "dev1@test.com");
+		notUpdated.setUpdatedDate(null);
+
+		ScmDataset dataset =
+				ScmDataset.of(List.of(), List.of(outOfPeriod, notUpdated, inPeriod), List.of());
+
+		assertEquals(List.of(inPeriod), dataset.getMergeRequestsUpdated(tool(mainBranch), week()));
+		assertEquals(
+				Map.of("dev1@test.com", List.of(inPeriod)),
+				dataset.getMergeRequestsUpdatedByAuthor(tool(mainBranch), week()));
+	}
+
+	@Test
+	void testQueries_UnknownOrInvalidToolIsEmpty() {
+		ScmDataset dataset =
+				ScmDataset.of(
+						List.of(commit("c1", mainBranch, 1, "dev1@test.com")),
+						List.of(mergeRequest(mainBranch, 1, "dev1@test.com")),
+						List.of());
+
+		assertTrue(dataset.getCommits(tool(new ObjectId()), week()).isEmpty());
+		assertTrue(dataset.getMergeRequestsUpdated(new Tool(), week()).isEmpty());
+		assertTrue(ScmDataset.EMPTY.getCommitsByAuthor(tool(mainBranch), week()).isEmpty());
+	}
+
+	private static CustomDateRange week() {
+		CustomDateRange range = new CustomDateRange();
+		range.setStartDateTime(START);
+		range.setEndDateTime(START.plusDays(7).minusSeconds(1));
+		return range;
+	}
+
+	private static Tool tool(ObjectId processorItemId) {
+		ProcessorItem processorItem = new ProcessorItem();
+		processorItem.setId(processorItemId);
+		Tool tool = new Tool();
+		tool.setProcessorItemList(List.of(processorItem));
+		return tool;
+	}
+
+	private static ScmCommits commit(String sha, ObjectId branch, int day, String email) {
+		ScmCommits commit = new ScmCommits();
+		commit.setSha(sha);
+		commit.setProcessorItemId(branch);
+		commit.setCommitTimestamp(millis(day));
+		commit.setCommitAuthor(user(email));
+		return commit;
+	}
+
+	private static ScmMergeRequests mergeRequest(ObjectId branch, int day, String email) {
+		ScmMergeRequests mergeRequest = new ScmMergeRequests();
+		mergeRequest.setProcessorItemId(branch);
+		mergeRequest.setUpdatedDate(millis(day));
+		mergeRequest.setAuthorId(user(email));
+		return mergeRequest;
+	}
+
+	private static User user(String email) {
+		User user = new User();
+		user.setEmail(email);
+		return user;
+	}
+
+	private static Long millis(int day) {
+		LocalDateTime time = START.plusDays(day).plusHours(10);
+		return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+	}
+}
@@ -13,6 +13,7 @@ import org.bson.types.ObjectId;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.RegisterExtension;
 import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
@@ -33,8 +34,8 @@ import com.publicissapient.kpidashboard.apis.common.service.impl.KpiHelperServic
 import com.publicissapient.kpidashboard.apis.config.CustomApiConfig;
 import com.publicissapient.kpidashboard.apis.constant.Constant;
 import com.publicissapient.kpidashboard.apis.enums.KPICode;
-import com.publicissapient.kpidashboard.apis.enums.KPISource;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContextRule;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.Node;
 import com.publicissapient.kpidashboard.apis.model.ProjectFilter;
@@ -52,6 +53,9 @@ import com.publicissapient.kpidashboard.common.model.scm.ScmMergeRequests;
 @MockitoSettings(strictness = Strictness.LENIENT)
 class ScmPRCycleTimeSlingshotServiceImplTest {
 
+	@RegisterExtension
+	final KpiExecutionContextRule kpiExecutionContext = new KpiExecutionContextRule();
+
 	@Mock private ConfigHelperService configHelperService;
 	@Mock private KpiHelperService kpiHelperService;
 	@Mock private KpiStrategyRegistry kpiStrategyRegistry;
@@ -388,9 +392,7 @@ class ScmPRCycleTimeSlingshotServiceImplTest {
 	// ── helpers ───────────────────────────────────────────────────────────────
 
 	private void stubTrackerId(String trackerId) {
-		when(cacheService.getFromApplicationCache(
-						Constant.KPI_REQUEST_TRACKER_ID_KEY + KPISource.BITBUCKET.name()))
-				.thenReturn(trackerId);
+		kpiExecutionContext.bindRequestTrackerId(trackerId);
 	}
 
 	private Tool buildTool(String branch, String repoName) {
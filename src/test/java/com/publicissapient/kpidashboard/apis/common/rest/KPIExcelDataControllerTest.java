@@ -19,16 +19,23 @@
 /** */
 package com.publicissapient.kpidashboard.apis.common.rest;
 
+import static org.junit.Assert.assertEquals;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.io.OutputStream;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import org.junit.After;
 import org.junit.Before;
@@ -40,9 +47,12 @@ import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import com.publicissapient.kpidashboard.apis.appsetting.service.KPIExcelDataService;
+import com.publicissapient.kpidashboard.apis.appsetting.service.KpiExcelExportFormat;
+import com.publicissapient.kpidashboard.apis.appsetting.service.KpiExcelExportService;
 import com.publicissapient.kpidashboard.apis.config.CustomApiConfig;
 import com.publicissapient.kpidashboard.apis.model.KPIExcelValidationDataResponse;
 import com.publicissapient.kpidashboard.common.model.application.ValidationData;
@@ -64,6 +74,8 @@ public class KPIExcelDataControllerTest {
 
 	@Mock private CustomApiConfig customApiConfig;
 
+	@Mock private KpiExcelExportService kpiExcelExportService;
+
 	@Before
 	public void setup() {
 		mockMvc = MockMvcBuilders.standaloneSetup(kpiExcelDataController).build();
@@ -133,6 +145,50 @@ public class KPIExcelDataControllerTest {
 				.andDo(print());
 	}
 
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testExportKpiValidationData() throws Exception {
+		String kpiRequest =
+				"{\"kpiList\": [{\"kpiId\": \"kpi14\"}], \"ids\": [\"GMA_GMA\"], \"level\": 1}";
+		when(customApiConfig.getxApiKey()).thenReturn("testKey");
+		when(kpiExcelDataService.processForExport(
+						Mockito.eq("kpi14"),
+						Mockito.eq(1),
+						Mockito.any(),
+						Mockito.any(),
+						Mockito.eq(true)))
+				.thenReturn(kpiExcelValidationDataResponse);
+		Mockito.doAnswer(
+						invocation -> {
+							Supplier<KPIExcelValidationDataResponse> drillDown = invocation.getArgument(0);
+							assertEquals(kpiExcelValidationDataResponse, drillDown.get());
+							invocation.getArgument(2, OutputStream.class).write("Sprint Name\r\n".getBytes());
+							return null;
+						})
+				.when(kpiExcelExportService)
+				.export(
+						Mockito.<Supplier<KPIExcelValidationDataResponse>>any(),
+						Mockito.eq(KpiExcelExportFormat.CSV),
+						Mockito.any());
+
+		MvcResult result =
+				mockMvc
+						.perform(
+								post("/v1/kpi/kpi14/export")
+										.param("format", "CSV")
+										.header("X-Api-Key", "testKey")
+										.contentType(MediaType.APPLICATION_JSON)
+										.content(kpiRequest))
+						.andExpect(request().asyncStarted())
+						.andReturn();
+
+		mockMvc
+				.perform(asyncDispatch(result))
+				.andExpect(status().isOk())
+				.andExpect(header().string("Content-Disposition", "attachment; filename=\"kpi14.csv\""))
+				.andExpect(content().string("Sprint Name\r\n"));
+	}
+
 	@Test
 	public void testGetKpiData_invalidHeader() throws Exception {
 
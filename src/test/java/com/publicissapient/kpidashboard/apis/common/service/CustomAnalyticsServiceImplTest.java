@@ -38,6 +38,7 @@ import org.mockito.junit.MockitoJUnitRunner;
 
 import com.google.common.collect.Lists;
 import com.publicissapient.kpidashboard.apis.abac.ProjectAccessManager;
+import com.publicissapient.kpidashboard.apis.abac.UserAuthorizationContextService;
 import com.publicissapient.kpidashboard.apis.abac.UserAuthorizedProjectsService;
 import com.publicissapient.kpidashboard.apis.auth.model.Authentication;
 import com.publicissapient.kpidashboard.apis.auth.model.UserInfoPrincipal;
@@ -65,6 +66,7 @@ public class CustomAnalyticsServiceImplTest {
 	@Mock private AuthenticationRepository authenticationRepository;
 	@Mock private AnalyticsConfig analyticsConfig;
 	@Mock private ProjectAccessManager projectAccessManager;
+	@Mock private UserAuthorizationContextService userAuthorizationContextService;
 	@Mock private UserInfoServiceImpl service;
 	@Mock private UsersSessionService usersSessionService;
 
@@ -27,6 +27,7 @@ import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -66,6 +67,7 @@ import com.publicissapient.kpidashboard.apis.errors.ApplicationException;
 import com.publicissapient.kpidashboard.apis.filter.service.FilterHelperService;
 import com.publicissapient.kpidashboard.apis.model.AccountHierarchyData;
 import com.publicissapient.kpidashboard.apis.model.AccountHierarchyDataKanban;
+import com.publicissapient.kpidashboard.apis.model.KanbanStatusTimeline;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.MasterResponse;
@@ -83,6 +85,7 @@ import com.publicissapient.kpidashboard.common.model.jira.JiraHistoryChangeLog;
 import com.publicissapient.kpidashboard.common.model.jira.JiraIssue;
 import com.publicissapient.kpidashboard.common.model.jira.JiraIssueCustomHistory;
 import com.publicissapient.kpidashboard.common.model.jira.KanbanIssueCustomHistory;
+import com.publicissapient.kpidashboard.common.model.jira.KanbanIssueHistory;
 import com.publicissapient.kpidashboard.common.model.jira.SprintDetails;
 import com.publicissapient.kpidashboard.common.model.jira.SprintWiseStory;
 import com.publicissapient.kpidashboard.common.repository.excel.CapacityKpiDataRepository;
@@ -516,24 +519,36 @@ public class KpiHelperServiceTest {
 	}
 
 	@Test
-	public void testComputeProjectWiseJiraHistoryByStatusAndDate() {
-
-		KanbanIssueCustomHistoryDataFactory issueHistoryFactory =
-				KanbanIssueCustomHistoryDataFactory.newInstance();
-		List<KanbanIssueCustomHistory> issueHistory =
-				issueHistoryFactory.getKanbanIssueCustomHistoryDataList();
-		Map<String, List<KanbanIssueCustomHistory>> projectWiseNonClosedTickets = new HashMap<>();
-		issueHistory.forEach(
-				issue -> projectWiseNonClosedTickets.put(issue.getBasicProjectConfigId(), issueHistory));
+	public void testComputeProjectWiseStatusTimeline() {
+		KanbanIssueCustomHistory issueHistory = new KanbanIssueCustomHistory();
+		issueHistory.setStoryID("TEST-1");
+		issueHistory.setHistoryDetails(
+				List.of(
+						kanbanIssueHistory("", "2022-06-20T10:00:00.0000000"),
+						kanbanIssueHistory("In Analysis", "2022-07-03T10:00:00.0000000"),
+						kanbanIssueHistory("In Progress", "2022-07-03T12:00:00.0000000")));
 		Map<String, Object> historyDataResultMap = new HashMap<>();
-		Map<String, String> projectWiseOpenStatus = new HashMap<>();
-		projectWiseNonClosedTickets.keySet().forEach(key -> projectWiseOpenStatus.put(key, "Open"));
-		historyDataResultMap.put("projectWiseOpenStatus", projectWiseOpenStatus);
-
-		Map<String, Map<String, Map<String, Set<String>>>> result =
-				kpiHelperService.computeProjectWiseJiraHistoryByStatusAndDate(
-						projectWiseNonClosedTickets, "2022-07-01", historyDataResultMap);
-		assertNotNull(result);
+		historyDataResultMap.put("projectWiseOpenStatus", Map.of("project", "Open"));
+
+		KanbanStatusTimeline statusTimeline =
+				kpiHelperService
+						.computeProjectWiseStatusTimeline(
+								Map.of("project", List.of(issueHistory)), "2022-07-01", historyDataResultMap)
+						.get("project");
+
+		assertEquals(1L, statusTimeline.count("Open", LocalDate.parse("2022-07-02")));
+		assertEquals(0L, statusTimeline.count("Open", LocalDate.parse("2022-07-03")));
+		assertEquals(1L, statusTimeline.count("In Analysis", LocalDate.parse("2022-07-03")));
+		assertEquals(0L, statusTimeline.count("In Analysis", LocalDate.parse("2022-07-04")));
+		assertEquals(1L, statusTimeline.count("In Progress", LocalDate.parse("2022-07-03")));
+		assertEquals(1L, statusTimeline.count("In Progress", LocalDate.now()));
+	}
+
+	private static KanbanIssueHistory kanbanIssueHistory(String status, String activityDate) {
+		KanbanIssueHistory kanbanIssueHistory = new KanbanIssueHistory();
+		kanbanIssueHistory.setStatus(status);
+		kanbanIssueHistory.setActivityDate(activityDate);
+		return kanbanIssueHistory;
 	}
 
 	@Test
@@ -38,6 +38,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 
 import com.google.common.collect.Lists;
 import com.publicissapient.kpidashboard.apis.abac.ProjectAccessManager;
+import com.publicissapient.kpidashboard.apis.abac.UserAuthorizationContextService;
 import com.publicissapient.kpidashboard.apis.auth.AuthProperties;
 import com.publicissapient.kpidashboard.apis.auth.AuthenticationFixture;
 import com.publicissapient.kpidashboard.apis.auth.exceptions.DeleteLastAdminException;
@@ -88,6 +89,7 @@ public class UserInfoServiceImplTest {
 	@Mock private UserInfoCustomRepository userInfoCustomRepository;
 	@Mock private ProjectBasicConfigService projectBasicConfigService;
 	@Mock private ProjectAccessManager projectAccessManager;
+	@Mock private UserAuthorizationContextService userAuthorizationContextService;
 	@Mock private HttpServletRequest httpServletRequest;
 	@Mock private UserTokenReopository userTokenReopository;
 	@Mock private CookieUtil cookieUtil;
@@ -160,6 +162,7 @@ public class UserInfoServiceImplTest {
 		assertNotNull(result);
 		assertFalse(result.getAuthorities().contains("ROLE_SUPERADMIN"));
 		verify(userInfoRepository).save(user);
+		verify(userAuthorizationContextService).evictAuthorizationContext(username);
 	}
 
 	/** 1. if username present in the db then update it with new one else return null */
@@ -174,6 +177,7 @@ public class UserInfoServiceImplTest {
 
 		UserInfo savedUser = service.updateUserInfo(updatedUser);
 		assertEquals(savedUser, updatedUser);
+		verify(userAuthorizationContextService).evictAuthorizationContext("standarduser");
 	}
 
 	@Test
@@ -582,6 +586,7 @@ public class UserInfoServiceImplTest {
 		u.setEmailAddress("testEmail@test.com");
 		ServiceResponse result = service.deleteUser(u, false);
 		assertTrue(result.getSuccess());
+		verify(userAuthorizationContextService).evictAuthorizationContext("testuser");
 	}
 
 	@Test
@@ -0,0 +1,129 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+
+
+package com.publicissapient.kpidashboard.apis.common.service.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import com.publicissapient.kpidashboard.apis.model.CacheInvalidation;
+import com.publicissapient.kpidashboard.apis.model.CacheInvalidation.Scope;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class CacheInvalidationServiceTest {
+
+	private static final String JIRA_CACHE = "jiraKpiCache";
+	private static final String KPI_DATA_CACHE = "project_kpi_data_cache";
+
+	private SimpleMeterRegistry meterRegistry;
+	private LoopbackCacheInvalidationBus bus;
+	private Instance instance1;
+	private Instance instance2;
+
+	@Before
+	public void setup() {
+		meterRegistry = new SimpleMeterRegistry();
+		bus = new LoopbackCacheInvalidationBus();
+		instance1 = new Instance();
+		instance2 = new Instance();
+	}
+
+	@Test
+	public void clearedCacheIsClearedOnTheOtherInstances() {
+		instance1.cacheManager.getCache(JIRA_CACHE).put("key1", "response");
+		instance2.cacheManager.getCache(JIRA_CACHE).put("key1", "response");
+
+		instance1.cacheManager.getCache(JIRA_CACHE).clear();
+		instance1.service.publishCacheCleared(JIRA_CACHE);
+
+		assertNull(instance2.cacheManager.getCache(JIRA_CACHE).get("key1"));
+		assertEquals(1L, meterRegistry.get("cache.invalidation.lag").timer().count());
+	}
+
+	@Test
+	public void evictedKeyIsEvictedOnTheOtherInstances() {
+		instance2.cacheManager.getCache(KPI_DATA_CACHE).put("p1_kpi1", "data");
+		instance2.cacheManager.getCache(KPI_DATA_CACHE).put("p2_kpi1", "data");
+
+		instance1.service.publishKeyEvicted(KPI_DATA_CACHE, "p1_kpi1");
+
+		assertNull(instance2.cacheManager.getCache(KPI_DATA_CACHE).get("p1_kpi1"));
+		assertNotNull(instance2.cacheManager.getCache(KPI_DATA_CACHE).get("p2_kpi1"));
+	}
+
+	@Test
+	public void projectResponsesAreEvictedOnTheOtherInstances() {
+		instance2.put("p1JIRA", Set.of("p1"));
+		instance2.put("p2JIRA", Set.of("p2"));
+
+		instance1.service.publishProjectEvicted(List.of(JIRA_CACHE), "p1");
+
+		assertNull(instance2.cacheManager.getCache(JIRA_CACHE).get("p1JIRA"));
+		assertNotNull(instance2.cacheManager.getCache(JIRA_CACHE).get("p2JIRA"));
+	}
+
+	@Test
+	public void ownAndLaterVersionInvalidationsAreNotApplied() {
+		instance1.put("p1JIRA", Set.of("p1"));
+		instance1.service.publishProjectEvicted(List.of(JIRA_CACHE), "p1");
+
+		CacheInvalidation laterVersion =
+				new CacheInvalidation(
+						CacheInvalidation.CURRENT_VERSION + 1,
+						"another instance",
+						System.currentTimeMillis(),
+						Scope.CACHE,
+						List.of(JIRA_CACHE),
+						null,
+						null);
+		bus.publish(laterVersion);
+
+		assertNotNull(instance1.cacheManager.getCache(JIRA_CACHE).get("p1JIRA"));
+		assertEquals(2.0, meterRegistry.get("cache.invalidation.unsupported").counter().count(), 0);
+	}
+
+	/** caches of an API instance connected to the shared bus */
+	private class Instance {
+
+		private final ConcurrentMapCacheManager cacheManager =
+				new ConcurrentMapCacheManager(JIRA_CACHE, KPI_DATA_CACHE);
+		private final KpiCacheDependencyIndex dependencyIndex =
+				new KpiCacheDependencyIndex(cacheManager, 10, meterRegistry);
+		private final CacheInvalidationService service =
+				new CacheInvalidationService(bus, cacheManager, dependencyIndex, meterRegistry);
+
+		private Instance() {
+			service.subscribe();
+		}
+
+		private void put(String key, Set<String> projects) {
+			cacheManager.getCache(JIRA_CACHE).put(key, "response");
+			dependencyIndex.record(JIRA_CACHE, key, projects);
+		}
+	}
+}
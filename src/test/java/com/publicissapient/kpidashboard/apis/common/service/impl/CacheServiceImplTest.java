@@ -19,12 +19,13 @@
 package com.publicissapient.kpidashboard.apis.common.service.impl;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -34,7 +35,9 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
+import org.bson.types.ObjectId;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
@@ -42,15 +45,14 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
 import org.springframework.cache.support.SimpleValueWrapper;
 
 import com.publicissapient.kpidashboard.apis.appsetting.service.ConfigHelperService;
-import com.publicissapient.kpidashboard.apis.constant.Constant;
 import com.publicissapient.kpidashboard.apis.data.AccountHierarchyFilterDataFactory;
 import com.publicissapient.kpidashboard.apis.filter.service.AccountHierarchyServiceImpl;
 import com.publicissapient.kpidashboard.apis.filter.service.AccountHierarchyServiceKanbanImpl;
 import com.publicissapient.kpidashboard.apis.model.AccountHierarchyData;
-import com.publicissapient.kpidashboard.apis.util.CommonUtils;
 import com.publicissapient.kpidashboard.common.constant.CommonConstant;
 import com.publicissapient.kpidashboard.common.model.application.AdditionalFilterCategory;
 import com.publicissapient.kpidashboard.common.model.application.HierarchyLevel;
@@ -81,6 +83,10 @@ public class CacheServiceImplTest {
 
 	@Mock private Cache cache;
 
+	@Mock private KpiCacheDependencyIndex kpiCacheDependencyIndex;
+
+	@Mock private CacheInvalidationService cacheInvalidationService;
+
 	@Test
 	public void testClearCache_ValidCacheName_CacheCleared() {
 		String cacheName = "exampleCache";
@@ -91,6 +97,19 @@ public class CacheServiceImplTest {
 
 		verify(cache, times(1)).clear();
 		verify(cache, times(1)).evict(cacheName);
+		verify(cacheInvalidationService, times(1)).publishCacheCleared(cacheName);
+	}
+
+	@Test
+	public void testClearLocalCache_ValidCacheName_CacheClearedWithoutPublishing() {
+		String cacheName = "exampleCache";
+		Cache cache = mock(Cache.class);
+		when(cacheManager.getCache(cacheName)).thenReturn(cache);
+
+		cacheService.clearLocalCache(cacheName);
+
+		verify(cache, times(1)).clear();
+		verify(cacheInvalidationService, never()).publishCacheCleared(cacheName);
 	}
 
 	@Test
@@ -100,6 +119,27 @@ public class CacheServiceImplTest {
 		assertNotNull(result);
 	}
 
+	@Test
+	public void refreshAccountHierarchyReplacesRowsOfTheCachedHierarchy() {
+		ObjectId projectId = new ObjectId();
+		AccountHierarchyData projectRow = new AccountHierarchyData();
+		projectRow.setBasicProjectConfigId(projectId);
+		projectRow.setNode(List.of());
+		when(accountHierarchyService.createHierarchyData()).thenReturn(new ArrayList<>());
+		when(accountHierarchyService.createHierarchyData(Set.of(projectId)))
+				.thenReturn(List.of(projectRow));
+		Object cachedRows = cacheService.cacheAccountHierarchyData();
+		when(cacheManager.getCache(CommonConstant.CACHE_ACCOUNT_HIERARCHY)).thenReturn(cache);
+		when(cache.get(SimpleKey.EMPTY)).thenReturn(new SimpleValueWrapper(cachedRows));
+
+		cacheService.refreshAccountHierarchy(Set.of(projectId));
+
+		List<AccountHierarchyData> rows = cacheService.getAccountHierarchyIndex().getRows();
+		assertEquals(List.of(projectRow), rows);
+		verify(cache).put(SimpleKey.EMPTY, rows);
+		verify(accountHierarchyServiceKanban, never()).createHierarchyData(any());
+	}
+
 	@Test
 	public void testCacheSprintHierarchyData_ValidInput_ReturnsData() {
 		AccountHierarchyFilterDataFactory accountHierarchyFilterDataFactory =
@@ -119,16 +159,6 @@ public class CacheServiceImplTest {
 		assertNotNull(result);
 	}
 
-	@Test
-	public void testSetIntoApplicationCache_ValidInput_DataSetIntoCache() {
-		String key = "exampleKey";
-		String value = "exampleValue";
-		Cache cache = mock(Cache.class);
-		when(cacheManager.getCache("requestTrackerCache")).thenReturn(cache);
-		cacheService.setIntoApplicationCache(key, value);
-		verify(cache, times(1)).put(key, value);
-	}
-
 	@Test
 	public void testGetFromApplicationCache_ValidInput_ReturnsData() {
 		String[] keyList = {"key1", "key2"};
@@ -146,6 +176,19 @@ public class CacheServiceImplTest {
 		assertNotNull(result);
 	}
 
+	@Test
+	public void testGetKpiCacheKey_ConfigReloaded_KeyChanges() {
+		when(configHelperService.getConfigVersion()).thenReturn(1L, 2L);
+
+		String key =
+				cacheService.getKpiCacheKey(new String[] {"key2", "key1"}, "JIRA", 1, List.of("CLOSED"));
+		String reloadedKey =
+				cacheService.getKpiCacheKey(new String[] {"key2", "key1"}, "JIRA", 1, List.of("CLOSED"));
+
+		assertEquals("key1key2JIRA1closed@1", key);
+		assertNotEquals(key, reloadedKey);
+	}
+
 	@Test
 	public void testGetFullHierarchyLevel_ValidInput_ReturnsData() {
 		when(hierarchyLevelService.getFullHierarchyLevels(false)).thenReturn(new ArrayList<>());
@@ -260,6 +303,18 @@ public class CacheServiceImplTest {
 		cacheService.setIntoApplicationCache(keyList, value, kpiSource, groupId, sprintIncluded);
 
 		verify(cache, times(1)).put("key1key2JIRA123sprint1sprint2", value);
+		verify(kpiCacheDependencyIndex, times(1))
+				.record("jiraKpiCache", "key1key2JIRA123sprint1sprint2", Set.of());
+	}
+
+	@Test
+	public void testEvictKpiCache_SourceOfProject_EvictsFromSourceCache() {
+		cacheService.evictKpiCache("project1", "JENKINS");
+
+		verify(kpiCacheDependencyIndex, times(1)).evict(List.of("jenkinsKpiCache"), "project1");
+		verify(cacheInvalidationService, times(1))
+				.publishProjectEvicted(List.of("jenkinsKpiCache"), "project1");
+		verifyNoInteractions(cacheManager);
 	}
 
 	@Test
@@ -271,85 +326,6 @@ public class CacheServiceImplTest {
 		assertEquals(expectedHierarchies, cacheService.getAllProjectHierarchy());
 	}
 
-	@Test
-	public void testGetFromApplicationCache_CacheHit() {
-		// Mock data
-		String key = "testKey";
-		String expectedValue = "testValue";
-		String cacheName = "testCache";
-
-		// Mock the cache and value wrapper
-		SimpleValueWrapper valueWrapper = new SimpleValueWrapper(expectedValue);
-		when(cacheManager.getCache(cacheName)).thenReturn(cache);
-		when(cache.get(key)).thenReturn(valueWrapper);
-
-		// Mock CommonUtils.getCacheName
-		try (var mockedStatic = mockStatic(CommonUtils.class)) {
-			mockedStatic
-					.when(() -> CommonUtils.getCacheName(Constant.KPI_REQUEST_TRACKER_ID_KEY))
-					.thenReturn(cacheName);
-
-			// Call the method
-			String actualValue = cacheService.getFromApplicationCache(key);
-
-			// Verify interactions and assertions
-			assertEquals(expectedValue, actualValue);
-			verify(cacheManager, times(1)).getCache(cacheName);
-			verify(cache, times(1)).get(key);
-		}
-	}
-
-	@Test
-	public void testGetFromApplicationCache_CacheMiss() {
-		// Mock data
-		String key = "testKey";
-		String cacheName = "testCache";
-
-		// Mock the cache returning null
-		when(cacheManager.getCache(cacheName)).thenReturn(cache);
-		when(cache.get(key)).thenReturn(null);
-
-		// Mock CommonUtils.getCacheName
-		try (var mockedStatic = mockStatic(CommonUtils.class)) {
-			mockedStatic
-					.when(() -> CommonUtils.getCacheName(Constant.KPI_REQUEST_TRACKER_ID_KEY))
-					.thenReturn(cacheName);
-
-			// Call the method
-			String actualValue = cacheService.getFromApplicationCache(key);
-
-			// Verify interactions and assertions
-			assertEquals("", actualValue); // Cache miss returns an empty string
-			verify(cacheManager, times(1)).getCache(cacheName);
-			verify(cache, times(1)).get(key);
-		}
-	}
-
-	@Test
-	public void testGetFromApplicationCache_NullCache() {
-		// Mock data
-		String key = "testKey";
-		String cacheName = "testCache";
-
-		// Mock the cacheManager returning null
-		when(cacheManager.getCache(cacheName)).thenReturn(null);
-
-		// Mock CommonUtils.getCacheName
-		try (var mockedStatic = mockStatic(CommonUtils.class)) {
-			mockedStatic
-					.when(() -> CommonUtils.getCacheName(Constant.KPI_REQUEST_TRACKER_ID_KEY))
-					.thenReturn(cacheName);
-
-			// Call the method
-			String actualValue = cacheService.getFromApplicationCache(key);
-
-			// Verify interactions and assertions
-			assertEquals("", actualValue); // Null cache returns an empty string
-			verify(cacheManager, times(1)).getCache(cacheName);
-			verifyNoInteractions(cache); // Ensure the cache itself is not interacted with
-		}
-	}
-
 	@Test
 	public void testCacheBoardMetaDataMapData() {
 		// Mocked data
@@ -0,0 +1,104 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+
+
+package com.publicissapient.kpidashboard.apis.common.service.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class KpiCacheDependencyIndexTest {
+
+	private static final String JENKINS_CACHE = "jenkinsKpiCache";
+	private static final String SONAR_CACHE = "sonarKpiCache";
+
+	private SimpleMeterRegistry meterRegistry;
+	private ConcurrentMapCacheManager cacheManager;
+	private KpiCacheDependencyIndex dependencyIndex;
+
+	@Before
+	public void setup() {
+		meterRegistry = new SimpleMeterRegistry();
+		cacheManager = new ConcurrentMapCacheManager(JENKINS_CACHE, SONAR_CACHE);
+		dependencyIndex = new KpiCacheDependencyIndex(cacheManager, 10, meterRegistry);
+	}
+
+	@Test
+	public void evictRemovesOnlyResponsesOfTheProject() {
+		put(JENKINS_CACHE, "project1JENKINS", Set.of("p1"));
+		put(JENKINS_CACHE, "project2JENKINS", Set.of("p2"));
+		put(JENKINS_CACHE, "accountJENKINS", Set.of());
+		put(SONAR_CACHE, "project1SONAR", Set.of("p1"));
+
+		assertEquals(2, dependencyIndex.evict(List.of(JENKINS_CACHE), "p1"));
+
+		Cache jenkinsCache = cacheManager.getCache(JENKINS_CACHE);
+		assertNull(jenkinsCache.get("project1JENKINS"));
+		assertNull(jenkinsCache.get("accountJENKINS"));
+		assertNotNull(jenkinsCache.get("project2JENKINS"));
+		assertNotNull(cacheManager.getCache(SONAR_CACHE).get("project1SONAR"));
+		assertEquals(0, dependencyIndex.evict(List.of(JENKINS_CACHE), "p1"));
+		assertEquals(
+				2.0, meterRegistry.get("kpi.cache.eviction.fanout").summary().totalAmount(), 0);
+	}
+
+	@Test
+	public void oldestResponseIsEvictedBeyondMaxEntries() {
+		dependencyIndex = new KpiCacheDependencyIndex(cacheManager, 3, meterRegistry);
+		put(JENKINS_CACHE, "key1", Set.of("p1"));
+		put(JENKINS_CACHE, "key2", Set.of("p1"));
+		put(JENKINS_CACHE, "key3", Set.of("p2"));
+		put(JENKINS_CACHE, "key4", Set.of("p2"));
+
+		Cache jenkinsCache = cacheManager.getCache(JENKINS_CACHE);
+		assertEquals(1.0, meterRegistry.get("kpi.cache.dependency.overflow").counter().count(), 0);
+		assertNull(jenkinsCache.get("key1"));
+		assertNotNull(jenkinsCache.get("key4"));
+		assertEquals(1, dependencyIndex.evict(List.of(JENKINS_CACHE), "p1"));
+	}
+
+	@Test
+	public void listenersAreNotifiedOfEvictionsAndClears() {
+		List<String> evictions = new ArrayList<>();
+		dependencyIndex.addEvictionListener(
+				(cacheName, project) -> evictions.add(cacheName + "/" + project));
+
+		dependencyIndex.evict(List.of(JENKINS_CACHE, SONAR_CACHE), "p1");
+		dependencyIndex.clear(SONAR_CACHE);
+
+		assertEquals(
+				List.of(JENKINS_CACHE + "/p1", SONAR_CACHE + "/p1", SONAR_CACHE + "/null"), evictions);
+	}
+
+	private void put(String cacheName, String key, Set<String> projects) {
+		cacheManager.getCache(cacheName).put(key, List.of());
+		dependencyIndex.record(cacheName, key, projects);
+	}
+}
@@ -21,6 +21,7 @@ package com.publicissapient.kpidashboard.apis.common.service.impl;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
@@ -47,11 +48,14 @@ public class KpiDataCacheServiceImplTest {
 
 	@Mock private KpiDataProvider kpiDataProvider;
 
+	@Mock private CacheInvalidationService cacheInvalidationService;
+
 	@InjectMocks private KpiDataCacheServiceImpl kpiDataCacheService;
 
 	@Test
 	public void testClearCacheForProjectAndKpi() {
 		kpiDataCacheService.clearCache("12345", "kpi1");
+		verify(cacheInvalidationService).publishKeyEvicted("project_kpi_data_cache", "12345_kpi1");
 	}
 
 	@Test
@@ -0,0 +1,224 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+
+package com.publicissapient.kpidashboard.apis.common.service.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.publicissapient.kpidashboard.apis.auth.model.UserInfoPrincipal;
+import com.publicissapient.kpidashboard.apis.common.service.impl.KpiExecutionEngine.KpiExecutionResult;
+import com.publicissapient.kpidashboard.apis.constant.Constant;
+import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
+import com.publicissapient.kpidashboard.apis.model.KpiRequest;
+import com.publicissapient.kpidashboard.common.constant.CommonConstant;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class KpiExecutionEngineTest {
+
+	private SimpleMeterRegistry meterRegistry;
+	private KpiExecutionEngine kpiExecutionEngine;
+
+	@Before
+	public void setup() {
+		meterRegistry = new SimpleMeterRegistry();
+		kpiExecutionEngine = new KpiExecutionEngine(2, 10, 1, meterRegistry);
+	}
+
+	@After
+	public void tearDown() {
+		kpiExecutionEngine.shutdown();
+	}
+
+	@Test
+	public void executeReturnsKpisInRequestOrder() {
+		KpiRequest kpiRequest = kpiRequest("kpi1", "kpi2", "kpi3");
+
+		KpiExecutionResult result =
+				kpiExecutionEngine.execute(
+						"JIRA",
+						kpiRequest,
+						kpiElement -> {
+							kpiElement.setResponseCode(CommonConstant.KPI_PASSED);
+							return kpiElement;
+						});
+
+		assertTrue(result.isComplete());
+		assertEquals(
+				List.of("kpi1", "kpi2", "kpi3"),
+				result.getKpiElements().stream().map(KpiElement::getKpiId).toList());
+		assertEquals(1L, meterRegistry.get("kpi.execution.latency").tag("kpi", "kpi2").timer().count());
+	}
+
+	@Test
+	public void executeMarksFailedKpi() {
+		KpiExecutionResult result =
+				kpiExecutionEngine.execute(
+						"JIRA",
+						kpiRequest("kpi1"),
+						kpiElement -> {
+							throw new IllegalStateException("failed");
+						});
+
+		assertTrue(result.isComplete());
+		assertEquals(CommonConstant.KPI_FAILED, result.getKpiElements().get(0).getResponseCode());
+	}
+
+	@Test
+	public void executeDropsKpisOverTimeBudget() {
+		KpiExecutionContext exportContext = KpiExecutionContext.streamingExcelRows(row -> {});
+		KpiExecutionResult result;
+		try (KpiExecutionContext.Scope scope = exportContext.open()) {
+			result =
+					kpiExecutionEngine.execute(
+							"JIRA",
+							kpiRequest("kpi1", "kpi2"),
+							kpiElement -> {
+								if ("kpi2".equals(kpiElement.getKpiId())) {
+									sleep(5000L);
+								}
+								return kpiElement;
+							});
+		}
+
+		assertFalse(result.isComplete());
+		assertTrue(exportContext.isIncomplete());
+		assertEquals(List.of("kpi2"), result.getTimedOutKpiIds());
+		assertEquals(1, result.getKpiElements().size());
+		assertEquals(
+				1.0, meterRegistry.get("kpi.execution.timeouts").tag("kpi", "kpi2").counter().count(), 0);
+	}
+
+	@Test
+	public void executeDoesNotStartQueuedKpisPastTimeBudget() {
+		KpiExecutionEngine singleThreadEngine = new KpiExecutionEngine(1, 1, 1, meterRegistry);
+		List<String> started = Collections.synchronizedList(new ArrayList<>());
+		KpiExecutionResult result;
+		try {
+			result =
+					singleThreadEngine.execute(
+							"JIRA",
+							kpiRequest("kpi1", "kpi2", "kpi3"),
+							kpiElement -> {
+								started.add(kpiElement.getKpiId());
+								if ("kpi1".equals(kpiElement.getKpiId())) {
+									sleep(1500L);
+								}
+								return kpiElement;
+							});
+		} finally {
+			singleThreadEngine.shutdown();
+		}
+
+		assertEquals(List.of("kpi1", "kpi3"), started.stream().sorted().toList());
+		assertEquals(List.of("kpi1", "kpi2"), result.getTimedOutKpiIds());
+		assertEquals(1.0, meterRegistry.get("kpi.executor.caller.runs").counter().count(), 0);
+	}
+
+	@Test
+	public void markTimedOutSetsResponseCodeOfCancelledKpisOnly() {
+		KpiExecutionResult result = new KpiExecutionResult();
+		result.getTimedOutKpiIds().add("kpi2");
+		KpiElement computed = kpiRequest("kpi1").getKpiList().get(0);
+		KpiElement cancelled = kpiRequest("kpi2").getKpiList().get(0);
+
+		assertNull(result.markTimedOut(computed).getResponseCode());
+		assertEquals(Constant.KPI_TIMED_OUT, result.markTimedOut(cancelled).getResponseCode());
+	}
+
+	@Test
+	public void executeInSequenceRunsKpisOnOneThread() {
+		List<String> threads = new ArrayList<>();
+
+		KpiExecutionResult result =
+				kpiExecutionEngine.executeInSequence(
+						"JIRA",
+						kpiRequest("kpi1", "kpi2"),
+						kpiElement -> {
+							threads.add(Thread.currentThread().getName());
+							return kpiElement;
+						});
+
+		assertTrue(result.isComplete());
+		assertEquals(2, result.getKpiElements().size());
+		assertEquals(1L, threads.stream().distinct().count());
+	}
+
+	@Test
+	public void executeBindsRequestContextToKpiThreads() {
+		KpiRequest kpiRequest = kpiRequest("kpi1", "kpi2");
+		List<String> trackerIds = Collections.synchronizedList(new ArrayList<>());
+		List<String> usernames = Collections.synchronizedList(new ArrayList<>());
+		SecurityContextHolder.getContext()
+				.setAuthentication(
+						new UsernamePasswordAuthenticationToken(
+								new UserInfoPrincipal("user1", null, "STANDARD"), null, List.of()));
+
+		try {
+			kpiExecutionEngine.execute(
+					"JIRA",
+					kpiRequest,
+					kpiElement -> {
+						trackerIds.add(KpiExecutionContext.currentRequestTrackerId());
+						usernames.add(KpiExecutionContext.current().getUsername());
+						return kpiElement;
+					});
+		} finally {
+			SecurityContextHolder.clearContext();
+		}
+
+		assertEquals(
+				List.of(kpiRequest.getRequestTrackerId(), kpiRequest.getRequestTrackerId()), trackerIds);
+		assertEquals(List.of("user1", "user1"), usernames);
+	}
+
+	private static KpiRequest kpiRequest(String... kpiIds) {
+		List<KpiElement> kpiList = new ArrayList<>();
+		for (String kpiId : kpiIds) {
+			KpiElement kpiElement = new KpiElement();
+			kpiElement.setKpiId(kpiId);
+			kpiList.add(kpiElement);
+		}
+		KpiRequest kpiRequest = new KpiRequest();
+		kpiRequest.setKpiList(kpiList);
+		kpiRequest.setRequestTrackerId();
+		return kpiRequest;
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,182 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+
+
+package com.publicissapient.kpidashboard.apis.common.service.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiRequest;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class KpiRequestCoalescerTest {
+
+	private static final String KEY = "project1,JIRA,1,";
+
+	private SimpleMeterRegistry meterRegistry;
+	private KpiRequestCoalescer kpiRequestCoalescer;
+	private ExecutorService executor;
+
+	@Before
+	public void setup() {
+		meterRegistry = new SimpleMeterRegistry();
+		kpiRequestCoalescer = new KpiRequestCoalescer(10, meterRegistry);
+		executor = Executors.newFixedThreadPool(2);
+	}
+
+	@After
+	public void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void identicalRequestsComputeOnce() throws Exception {
+		AtomicInteger computations = new AtomicInteger();
+		List<KpiElement> response = List.of(kpiElement("kpi1"));
+		CountDownLatch release = new CountDownLatch(1);
+
+		Future<List<KpiElement>> leader =
+				startLeader(
+						() -> {
+							computations.incrementAndGet();
+							release.await();
+							return response;
+						});
+		Future<List<KpiElement>> waiter =
+				startWaiter(
+						() -> {
+							computations.incrementAndGet();
+							return List.of();
+						});
+		release.countDown();
+
+		assertSame(response, leader.get(5, TimeUnit.SECONDS));
+		assertSame(response, waiter.get(5, TimeUnit.SECONDS));
+		assertEquals(1, computations.get());
+		assertEquals(1.0, coalescingCount("coalesced"), 0);
+		assertEquals(0.0, meterRegistry.get("kpi.request.inflight").gauge().value(), 0);
+	}
+
+	@Test
+	public void waitingRequestComputesWhenLeaderFails() throws Exception {
+		List<KpiElement> response = List.of(kpiElement("kpi1"));
+		CountDownLatch release = new CountDownLatch(1);
+
+		startLeader(
+				() -> {
+					release.await();
+					throw new IllegalStateException("mongo down");
+				});
+		Future<List<KpiElement>> waiter = startWaiter(() -> response);
+		release.countDown();
+
+		assertSame(response, waiter.get(5, TimeUnit.SECONDS));
+		assertEquals(1.0, coalescingCount("fallback"), 0);
+	}
+
+	@Test
+	public void requestWithoutKeyComputesItsKpis() {
+		AtomicInteger computations = new AtomicInteger();
+
+		kpiRequestCoalescer.computeOnce(
+				kpiRequest(),
+				"JIRA",
+				null,
+				() -> {
+					computations.incrementAndGet();
+					return List.of();
+				});
+
+		assertEquals(1, computations.get());
+		assertTrue(meterRegistry.find("kpi.request.coalescing").counters().isEmpty());
+	}
+
+	private Future<List<KpiElement>> startLeader(
+			KpiRequestCoalescer.KpiComputation<Exception> computation) throws InterruptedException {
+		CountDownLatch computing = new CountDownLatch(1);
+		Future<List<KpiElement>> leader =
+				executor.submit(
+						() ->
+								kpiRequestCoalescer.computeOnce(
+										kpiRequest(),
+										"JIRA",
+										KEY,
+										() -> {
+											computing.countDown();
+											return computation.compute();
+										}));
+		assertTrue(computing.await(5, TimeUnit.SECONDS));
+		return leader;
+	}
+
+	private Future<List<KpiElement>> startWaiter(
+			KpiRequestCoalescer.KpiComputation<Exception> computation) throws InterruptedException {
+		Thread[] waitingThread = new Thread[1];
+		CountDownLatch started = new CountDownLatch(1);
+		Future<List<KpiElement>> waiter =
+				executor.submit(
+						() -> {
+							waitingThread[0] = Thread.currentThread();
+							started.countDown();
+							return kpiRequestCoalescer.computeOnce(kpiRequest(), "JIRA", KEY, computation);
+						});
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+		// the waiter blocks on the result of the leader
+		long deadline = System.currentTimeMillis() + 5000;
+		while (waitingThread[0].getState() != Thread.State.TIMED_WAITING
+				&& System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+		}
+		return waiter;
+	}
+
+	private double coalescingCount(String result) {
+		return meterRegistry
+				.counter("kpi.request.coalescing", "source", "JIRA", "result", result)
+				.count();
+	}
+
+	private static KpiRequest kpiRequest() {
+		KpiRequest kpiRequest = new KpiRequest();
+		kpiRequest.setKpiList(List.of(kpiElement("kpi1")));
+		kpiRequest.setRequestTrackerId();
+		return kpiRequest;
+	}
+
+	private static KpiElement kpiElement(String kpiId) {
+		KpiElement kpiElement = new KpiElement();
+		kpiElement.setKpiId(kpiId);
+		return kpiElement;
+	}
+}
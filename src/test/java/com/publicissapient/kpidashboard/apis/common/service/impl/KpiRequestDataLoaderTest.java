@@ -0,0 +1,232 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+
+package com.publicissapient.kpidashboard.apis.common.service.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiRequest;
+import com.publicissapient.kpidashboard.common.model.jira.JiraIssue;
+import com.publicissapient.kpidashboard.common.repository.jira.JiraIssueRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class KpiRequestDataLoaderTest {
+
+	private SimpleMeterRegistry meterRegistry;
+	private KpiExecutionEngine kpiExecutionEngine;
+
+	@Before
+	public void setup() {
+		meterRegistry = new SimpleMeterRegistry();
+		kpiExecutionEngine = new KpiExecutionEngine(4, 10, 10, meterRegistry);
+	}
+
+	@After
+	public void tearDown() {
+		kpiExecutionEngine.shutdown();
+	}
+
+	@Test
+	public void siblingKpisShareLoadedData() {
+		AtomicInteger loads = new AtomicInteger();
+		KpiRequest kpiRequest = new KpiRequest();
+		kpiRequest.setKpiList(List.of(kpiElement("kpi1"), kpiElement("kpi2"), kpiElement("kpi3")));
+		kpiRequest.setRequestTrackerId();
+
+		kpiExecutionEngine.execute(
+				"JIRA",
+				kpiRequest,
+				kpiElement -> {
+					List<String> sprints =
+							KpiRequestDataLoader.current()
+									.load(
+											KpiRequestDataLoader.key("sprintDetails", List.of("s1", "s2")),
+											() -> {
+												loads.incrementAndGet();
+												return List.of("s1", "s2");
+											});
+					kpiElement.setValue(sprints);
+					return kpiElement;
+				});
+
+		assertEquals(1, loads.get());
+		assertEquals(
+				2.0, meterRegistry.get("kpi.request.data.loads").tag("result", "hit").counter().count(), 0);
+		assertNull(KpiRequestDataLoader.current());
+	}
+
+	@Test
+	public void siblingKpisGetTheirOwnCopiesOfTheSharedIssues() {
+		JiraIssueRepository jiraIssueRepository = mock(JiraIssueRepository.class);
+		KpiDataProvider kpiDataProvider = new KpiDataProvider();
+		ReflectionTestUtils.setField(kpiDataProvider, "jiraIssueRepository", jiraIssueRepository);
+		JiraIssue jiraIssue = new JiraIssue();
+		jiraIssue.setNumber("DEF-1");
+		Map<String, List<String>> mapOfFilters = Map.of("typeName", List.of("Bug"));
+		when(jiraIssueRepository.findIssuesByType(mapOfFilters)).thenReturn(List.of(jiraIssue));
+		Queue<JiraIssue> loadedIssues = new ConcurrentLinkedQueue<>();
+		KpiRequest kpiRequest = new KpiRequest();
+		kpiRequest.setKpiList(List.of(kpiElement("kpi1"), kpiElement("kpi2")));
+		kpiRequest.setRequestTrackerId();
+
+		kpiExecutionEngine.execute(
+				"JIRA",
+				kpiRequest,
+				kpiElement -> {
+					loadedIssues.addAll(kpiDataProvider.fetchIssuesByType(mapOfFilters));
+					return kpiElement;
+				});
+
+		verify(jiraIssueRepository, times(1)).findIssuesByType(mapOfFilters);
+		assertEquals(2, loadedIssues.size());
+		Set<JiraIssue> copies = Collections.newSetFromMap(new IdentityHashMap<>());
+		copies.addAll(loadedIssues);
+		assertEquals(2, copies.size());
+		loadedIssues.forEach(
+				loadedIssue -> {
+					assertNotSame(jiraIssue, loadedIssue);
+					assertEquals("DEF-1", loadedIssue.getNumber());
+				});
+	}
+
+	@Test
+	public void keyIgnoresOrderAndComparesPatternsByExpression() {
+		Object key =
+				KpiRequestDataLoader.key(
+						"issueByNumber",
+						Map.of("typeName", List.of(Pattern.compile("^story$", Pattern.CASE_INSENSITIVE))),
+						List.of("a", "b"));
+		Object sameKey =
+				KpiRequestDataLoader.key(
+						"issueByNumber",
+						Map.of("typeName", List.of(Pattern.compile("^story$", Pattern.CASE_INSENSITIVE))),
+						List.of("b", "a"));
+		Object otherKey =
+				KpiRequestDataLoader.key(
+						"issueByNumber",
+						Map.of("typeName", List.of(Pattern.compile("^story$"))),
+						List.of("a", "b"));
+
+		assertEquals(key, sameKey);
+		assertNotEquals(key, otherKey);
+	}
+
+	@Test
+	public void failedLoadIsNotRemembered() {
+		KpiRequestDataLoader dataLoader =
+				new KpiRequestDataLoader(
+						meterRegistry.counter("test.hit"), meterRegistry.counter("test.miss"));
+		Object key = KpiRequestDataLoader.key("issueHistory", List.of("a"));
+		List<String> loaded = List.of("history");
+
+		try {
+			dataLoader.load(
+					key,
+					() -> {
+						throw new IllegalStateException("mongo down");
+					});
+		} catch (IllegalStateException e) {
+			// expected
+		}
+
+		assertSame(loaded, dataLoader.load(key, () -> loaded));
+	}
+
+	@Test
+	public void loadByIdsLoadsOnlyTheIdsNotLoadedYet() {
+		KpiRequestDataLoader dataLoader =
+				new KpiRequestDataLoader(
+						meterRegistry.counter("test.hit"), meterRegistry.counter("test.miss"));
+		Object key = KpiRequestDataLoader.key("issueHistory", List.of("project1"));
+		Queue<Set<String>> loadedIds = new ConcurrentLinkedQueue<>();
+		Function<Set<String>, Map<String, List<String>>> loader =
+				ids -> {
+					loadedIds.add(ids);
+					return ids.stream()
+							.filter(id -> !id.equals("none"))
+							.collect(Collectors.toMap(id -> id, id -> List.of(id + "-history")));
+				};
+
+		List<String> histories = dataLoader.loadByIds(key, List.of("a", "b"), loader);
+		List<String> overlappingHistories =
+				dataLoader.loadByIds(key, List.of("b", "c", "none", "c"), loader);
+		List<String> loadedHistories = dataLoader.loadByIds(key, List.of("a", "none"), loader);
+
+		assertEquals(List.of("a-history", "b-history"), histories);
+		assertEquals(List.of("b-history", "c-history"), overlappingHistories);
+		assertEquals(List.of("a-history"), loadedHistories);
+		assertEquals(List.of(Set.of("a", "b"), Set.of("c", "none")), List.copyOf(loadedIds));
+		assertEquals(1.0, meterRegistry.counter("test.hit").count(), 0);
+	}
+
+	@Test
+	public void failedLoadByIdsIsNotRemembered() {
+		KpiRequestDataLoader dataLoader =
+				new KpiRequestDataLoader(
+						meterRegistry.counter("test.hit"), meterRegistry.counter("test.miss"));
+		Object key = KpiRequestDataLoader.key("issueHistory", List.of("project1"));
+
+		try {
+			dataLoader.loadByIds(
+					key,
+					List.of("a"),
+					ids -> {
+						throw new IllegalStateException("mongo down");
+					});
+		} catch (IllegalStateException e) {
+			// expected
+		}
+
+		assertEquals(
+				List.of("history"),
+				dataLoader.loadByIds(key, List.of("a"), ids -> Map.of("a", List.of("history"))));
+	}
+
+	private static KpiElement kpiElement(String kpiId) {
+		KpiElement kpiElement = new KpiElement();
+		kpiElement.setKpiId(kpiId);
+		return kpiElement;
+	}
+}
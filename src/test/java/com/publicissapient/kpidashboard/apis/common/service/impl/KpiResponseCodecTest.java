@@ -0,0 +1,157 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+
+
+package com.publicissapient.kpidashboard.apis.common.service.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.bson.types.ObjectId;
+import org.junit.Test;
+
+import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.Node;
+import com.publicissapient.kpidashboard.apis.model.ProjectFilter;
+import com.publicissapient.kpidashboard.common.model.application.DataCount;
+import com.publicissapient.kpidashboard.common.model.application.DataCountGroup;
+
+public class KpiResponseCodecTest {
+
+	private final KpiResponseCodec codec = new KpiResponseCodec(getClass().getClassLoader());
+
+	@Test
+	public void kpiResponsesAreReadBackWithTheirTrendValues() throws Exception {
+		KpiElement kpiElement = new KpiElement();
+		kpiElement.setKpiId("kpi14");
+		kpiElement.setKpiName("Defect Injection Rate");
+		kpiElement.setKpiSprintSwitch(true);
+		kpiElement.setGroupId(1);
+		kpiElement.setOverAllMaturityValue("M3");
+		kpiElement.setTrendValueList(
+				List.of(
+						dataCountGroup("Overall", "Sprint 1", 10.5), dataCountGroup("Story", "Sprint 2", 4L)));
+		kpiElement.setExcelColumns(List.of("Sprint Name"));
+		List<KpiElement> response = new ArrayList<>(List.of(kpiElement));
+
+		@SuppressWarnings("unchecked")
+		List<KpiElement> readBack = (List<KpiElement>) codec.decode(codec.encode(response));
+
+		KpiElement readKpiElement = readBack.get(0);
+		assertEquals("kpi14", readKpiElement.getKpiId());
+		assertEquals("Defect Injection Rate", readKpiElement.getKpiName());
+		assertTrue(readKpiElement.isKpiSprintSwitch());
+		assertEquals(Integer.valueOf(1), readKpiElement.getGroupId());
+		assertEquals("M3", readKpiElement.getOverallMaturityValue());
+		// not part of the json response, cached all the same
+		assertEquals(List.of("Sprint Name"), readKpiElement.getExcelColumns());
+		@SuppressWarnings("unchecked")
+		List<DataCountGroup> trendValues = (List<DataCountGroup>) readKpiElement.getTrendValueList();
+		assertEquals(2, trendValues.size());
+		assertEquals("Story", trendValues.get(1).getFilter());
+		DataCount sprintValue = trendValues.get(1).getValue().get(0);
+		assertEquals("Sprint 2", sprintValue.getSSprintName());
+		assertEquals(4L, sprintValue.getValue());
+		assertEquals(Map.of("Defects", 3, "Stories", 7), sprintValue.getHoverValue());
+		assertEquals(10.5, trendValues.get(0).getValue().get(0).getValue());
+	}
+
+	@Test
+	public void nodesReferredSeveralTimesAreReadBackOnce() throws Exception {
+		Node project = new Node();
+		project.setId("project1");
+		project.setProjectFilter(new ProjectFilter("project1", "KnowHOW", new ObjectId()));
+		Node sprint = new Node();
+		sprint.setId("sprint1");
+		sprint.setParent(project);
+		project.setChildren(List.of(sprint));
+		KpiElement kpiElement = new KpiElement();
+		kpiElement.setNodeWiseKPIValue(
+				Map.of(Pair.of("project1", "kpi14"), project, Pair.of("sprint1", "kpi14"), sprint));
+
+		KpiElement readKpiElement = (KpiElement) codec.decode(codec.encode(kpiElement));
+
+		Node readProject = readKpiElement.getNodeWiseKPIValue().get(Pair.of("project1", "kpi14"));
+		Node readSprint = readKpiElement.getNodeWiseKPIValue().get(Pair.of("sprint1", "kpi14"));
+		assertEquals("sprint1", readSprint.getId());
+		assertSame(readProject, readSprint.getParent());
+		assertSame(readSprint, readProject.getChildren().get(0));
+		// without setters, written with java serialization
+		assertEquals("KnowHOW", readProject.getProjectFilter().getName());
+	}
+
+	@Test
+	public void modelsWithAValueWithoutSetterAreNotCached() throws Exception {
+		ReadOnlyModel readOnlyModel = new ReadOnlyModel();
+		assertEquals(ReadOnlyModel.class, codec.decode(codec.encode(readOnlyModel)).getClass());
+
+		readOnlyModel.name = "lost";
+		assertThrows(IOException.class, () -> codec.encode(List.of(readOnlyModel)));
+	}
+
+	@Test
+	public void collectionsAndMapsKeepTheirOrder() throws Exception {
+		Map<String, Object> filters = new LinkedHashMap<>();
+		filters.put("sprint", List.of("Sprint 3", "Sprint 1", "Sprint 2"));
+		filters.put("count", -42L);
+		filters.put("empty", null);
+
+		assertEquals(filters, codec.decode(codec.encode(filters)));
+	}
+
+	@Test
+	public void unknownFormatIsNotRead() {
+		assertThrows(IOException.class, () -> codec.decode(new byte[] {99, 0}));
+	}
+
+	/** model of the application, as the cached models are */
+	public static class ReadOnlyModel {
+
+		private String name;
+
+		public String getName() {
+			return name;
+		}
+	}
+
+	private static DataCountGroup dataCountGroup(String filter, String sprintName, Object value) {
+		Map<String, Object> hoverValue = new HashMap<>();
+		hoverValue.put("Defects", 3);
+		hoverValue.put("Stories", 7);
+		DataCount dataCount = new DataCount();
+		dataCount.setData(String.valueOf(value));
+		dataCount.setSProjectName("KnowHOW");
+		dataCount.setSSprintName(sprintName);
+		dataCount.setValue(value);
+		dataCount.setHoverValue(hoverValue);
+		DataCountGroup dataCountGroup = new DataCountGroup();
+		dataCountGroup.setFilter(filter);
+		dataCountGroup.setValue(List.of(dataCount));
+		return dataCountGroup;
+	}
+}
@@ -23,6 +23,7 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -114,6 +115,37 @@ public class UsersSessionServiceImplTest {
 		assertNull(actualLogoutTime);
 	}
 
+	@Test
+	public void testGetLastLogoutTimeOfUser_ReadFromMemoryAfterLogout() {
+		UserInfo userInfo = new UserInfo();
+		userInfo.setUsername("username");
+		when(customApiConfig.getUserLogoutRefreshSeconds()).thenReturn(60);
+		when(userInfoRepository.findByUsername("username")).thenReturn(userInfo);
+		when(usersSessionRepository.save(any())).thenReturn(new UsersSession());
+
+		usersSessionService.auditLogout("username", Status.SUCCESS);
+		LocalDateTime lastLogoutTime = usersSessionService.getLastLogoutTimeOfUser("username");
+
+		assertNotNull(lastLogoutTime);
+		assertEquals(lastLogoutTime, usersSessionService.getLastLogoutTimeOfUser("username"));
+		verify(usersSessionRepository, never())
+				.findTopByUserNameAndEventOrderByTimeStampDesc(anyString(), any());
+	}
+
+	@Test
+	public void testGetLastLogoutTimeOfUser_ReadOncePerRefreshInterval() {
+		when(customApiConfig.getUserLogoutRefreshSeconds()).thenReturn(60);
+		when(usersSessionRepository.findTopByUserNameAndEventOrderByTimeStampDesc(
+						anyString(), any(AuthenticationEvent.class)))
+				.thenReturn(null);
+
+		usersSessionService.getLastLogoutTimeOfUser("username");
+		assertNull(usersSessionService.getLastLogoutTimeOfUser("username"));
+
+		verify(usersSessionRepository, times(1))
+				.findTopByUserNameAndEventOrderByTimeStampDesc(anyString(), any());
+	}
+
 	@Test
 	public void testAuditLogout() {
 		// Arrange
@@ -0,0 +1,49 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+
+package com.publicissapient.kpidashboard.apis.config;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+public class WebSecurityConfigTest {
+
+	@Test
+	public void pushDataApisArePublic() {
+		assertTrue(isPushDataPath("/pushData/build"));
+		assertTrue(isPushDataPath("/pushData/deploy"));
+		assertTrue(isPushDataPath("/pushData/build/bulk"));
+	}
+
+	@Test
+	public void pushDataTraceLogIsNotPublic() {
+		assertFalse(isPushDataPath("/pushData/tracelog/6335363749794a18e8a4479b"));
+	}
+
+	private static boolean isPushDataPath(String path) {
+		return Arrays.stream(WebSecurityConfig.PUSH_DATA_PATHS)
+				.map(PathPatternParser.defaultInstance::parse)
+				.anyMatch(pattern -> pattern.matches(PathContainer.parsePath(path)));
+	}
+}
@@ -0,0 +1,195 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+
+
+package com.publicissapient.kpidashboard.apis.filter.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import org.bson.types.ObjectId;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.publicissapient.kpidashboard.apis.model.AccountHierarchyData;
+import com.publicissapient.kpidashboard.apis.model.Node;
+import com.publicissapient.kpidashboard.common.constant.CommonConstant;
+import com.publicissapient.kpidashboard.common.model.application.ProjectHierarchy;
+
+public class AccountHierarchyIndexTest {
+
+	private AccountHierarchyData project;
+	private AccountHierarchyData activeSprint;
+	private AccountHierarchyData closedSprint;
+	private AccountHierarchyData release;
+	private List<AccountHierarchyData> rows;
+	private AccountHierarchyIndex<AccountHierarchyData> index;
+
+	@Before
+	public void setup() {
+		Node projectNode = node("project1", CommonConstant.HIERARCHY_LEVEL_ID_PROJECT, null);
+		project = row(CommonConstant.HIERARCHY_LEVEL_ID_PROJECT, projectNode);
+		activeSprint =
+				row(
+						CommonConstant.HIERARCHY_LEVEL_ID_SPRINT,
+						projectNode,
+						node("sprint1", CommonConstant.HIERARCHY_LEVEL_ID_SPRINT, "ACTIVE"));
+		closedSprint =
+				row(
+						CommonConstant.HIERARCHY_LEVEL_ID_SPRINT,
+						node("project2", CommonConstant.HIERARCHY_LEVEL_ID_PROJECT, null),
+						node("sprint2", CommonConstant.HIERARCHY_LEVEL_ID_SPRINT, "CLOSED"));
+		release =
+				row(
+						CommonConstant.HIERARCHY_LEVEL_ID_RELEASE,
+						projectNode,
+						node("release1", CommonConstant.HIERARCHY_LEVEL_ID_RELEASE, null));
+		rows = List.of(project, activeSprint, closedSprint, release);
+		index = AccountHierarchyIndex.ofScrum(rows);
+	}
+
+	@Test
+	public void withSprintStatesKeepsProjectAndReleaseRows() {
+		assertEquals(
+				List.of(project, activeSprint, release),
+				index.getRows(index.withSprintStates(Set.of("active"))));
+	}
+
+	@Test
+	public void withSprintStatesComparesGroupNamesIgnoringCase() {
+		String sprintLevel = CommonConstant.HIERARCHY_LEVEL_ID_SPRINT.toUpperCase(Locale.ROOT);
+		String releaseLevel = CommonConstant.HIERARCHY_LEVEL_ID_RELEASE.toUpperCase(Locale.ROOT);
+		AccountHierarchyData sprint = row(sprintLevel, node("sprint3", sprintLevel, "Active"));
+		AccountHierarchyData otherRelease = row(releaseLevel, node("release2", releaseLevel, null));
+		AccountHierarchyIndex<AccountHierarchyData> upperCaseIndex =
+				AccountHierarchyIndex.ofScrum(List.of(sprint, otherRelease));
+
+		assertEquals(
+				List.of(sprint, otherRelease),
+				upperCaseIndex.getRows(upperCaseIndex.withSprintStates(Set.of("ACTIVE"))));
+		assertEquals(
+				List.of(otherRelease),
+				upperCaseIndex.getRows(upperCaseIndex.withSprintStates(Set.of("closed"))));
+	}
+
+	@Test
+	public void withNodesSelectsRowsContainingAnyNode() {
+		BitSet selectedRows = index.withNodes("PROJECT", List.of("project1", "unknown"));
+		selectedRows.and(index.withSprintStates(Set.of("CLOSED")));
+
+		assertEquals(List.of(project, release), index.getRows(selectedRows));
+		assertTrue(index.getRows(index.withNodes("unknown", List.of("project1"))).isEmpty());
+	}
+
+	@Test
+	public void getBasicProjectConfigIdsOfNodesAtAnyLevel() {
+		ObjectId projectConfigId = new ObjectId();
+		ObjectId otherProjectConfigId = new ObjectId();
+		activeSprint.setBasicProjectConfigId(projectConfigId);
+		closedSprint.setBasicProjectConfigId(otherProjectConfigId);
+
+		assertEquals(
+				Set.of(projectConfigId.toHexString()),
+				index.getBasicProjectConfigIds(List.of("sprint1", "Weeks")));
+		assertEquals(
+				Set.of(projectConfigId.toHexString(), otherProjectConfigId.toHexString()),
+				index.getBasicProjectConfigIds(List.of("project1", "sprint2")));
+	}
+
+	@Test
+	public void isIndexOfComparesListIdentity() {
+		assertTrue(index.isIndexOf(rows));
+		assertFalse(index.isIndexOf(new ArrayList<>(rows)));
+	}
+
+	@Test
+	public void withProjectRowsReplacesRowsOfChangedProjectsOnly() {
+		ObjectId changedProjectId = new ObjectId();
+		ObjectId otherProjectId = new ObjectId();
+		String projectLevel = CommonConstant.HIERARCHY_LEVEL_ID_PROJECT;
+		Node businessUnit = node("bu1", "bu", null);
+		Node changedProject = node("project1", projectLevel, null);
+		AccountHierarchyData businessUnitRow = row(null, "bu", businessUnit);
+		AccountHierarchyData otherProjectRow =
+				row(otherProjectId, projectLevel, businessUnit, node("project2", projectLevel, null));
+		AccountHierarchyIndex<AccountHierarchyData> hierarchyIndex =
+				AccountHierarchyIndex.ofScrum(
+						List.of(
+								businessUnitRow,
+								row(changedProjectId, projectLevel, businessUnit, changedProject),
+								otherProjectRow));
+		AccountHierarchyData renamedBusinessUnitRow = row(null, "bu", businessUnit);
+		AccountHierarchyData changedProjectRow =
+				row(changedProjectId, projectLevel, businessUnit, changedProject);
+		AccountHierarchyData newSprintRow =
+				row(
+						changedProjectId,
+						CommonConstant.HIERARCHY_LEVEL_ID_SPRINT,
+						businessUnit,
+						changedProject,
+						node("sprint3", CommonConstant.HIERARCHY_LEVEL_ID_SPRINT, "ACTIVE"));
+
+		AccountHierarchyIndex<AccountHierarchyData> updatedIndex =
+				hierarchyIndex.withProjectRows(
+						Set.of(changedProjectId),
+						List.of(renamedBusinessUnitRow, changedProjectRow, newSprintRow));
+
+		assertEquals(
+				List.of(renamedBusinessUnitRow, changedProjectRow, newSprintRow, otherProjectRow),
+				updatedIndex.getRows());
+		assertEquals(
+				Set.of(changedProjectId.toHexString()),
+				updatedIndex.getBasicProjectConfigIds(List.of("sprint3")));
+		assertEquals(
+				List.of(renamedBusinessUnitRow, changedProjectRow, newSprintRow),
+				updatedIndex.withProjectRows(Set.of(otherProjectId), List.of()).getRows());
+		assertTrue(
+				updatedIndex
+						.withProjectRows(Set.of(changedProjectId, otherProjectId), List.of())
+						.getRows()
+						.isEmpty());
+	}
+
+	private static AccountHierarchyData row(
+			ObjectId basicProjectConfigId, String labelName, Node... nodes) {
+		AccountHierarchyData data = row(labelName, nodes);
+		data.setBasicProjectConfigId(basicProjectConfigId);
+		data.setLeafNodeId(nodes[nodes.length - 1].getId());
+		return data;
+	}
+
+	private static AccountHierarchyData row(String labelName, Node... nodes) {
+		AccountHierarchyData data = new AccountHierarchyData();
+		data.setLabelName(labelName);
+		data.setNode(List.of(nodes));
+		return data;
+	}
+
+	private static Node node(String id, String groupName, String sprintState) {
+		ProjectHierarchy projectHierarchy = new ProjectHierarchy();
+		projectHierarchy.setSprintState(sprintState);
+		return new Node(0, id, id, null, groupName, projectHierarchy);
+	}
+}
@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+
+
+package com.publicissapient.kpidashboard.apis.filter.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.Serializable;
+import java.util.List;
+
+import org.apache.commons.lang.SerializationUtils;
+import org.bson.types.ObjectId;
+import org.junit.Test;
+
+import com.publicissapient.kpidashboard.apis.model.AccountHierarchyData;
+import com.publicissapient.kpidashboard.apis.model.AccountHierarchyDataKanban;
+import com.publicissapient.kpidashboard.apis.model.Node;
+import com.publicissapient.kpidashboard.common.constant.CommonConstant;
+import com.publicissapient.kpidashboard.common.model.application.ProjectHierarchy;
+
+public class CompactAccountHierarchyTest {
+
+	private final ObjectId basicProjectConfigId = new ObjectId();
+
+	@Test
+	public void pathsShareTheirAncestors() {
+		ProjectHierarchy port = hierarchy("port1", "port", null);
+		ProjectHierarchy project =
+				hierarchy("project1", CommonConstant.HIERARCHY_LEVEL_ID_PROJECT, "port1");
+		ProjectHierarchy sprint1 =
+				hierarchy("sprint1", CommonConstant.HIERARCHY_LEVEL_ID_SPRINT, "project1");
+		ProjectHierarchy sprint2 =
+				hierarchy("sprint2", CommonConstant.HIERARCHY_LEVEL_ID_SPRINT, "project1");
+
+		CompactAccountHierarchy.Builder builder = CompactAccountHierarchy.builder();
+		int portNode = builder.addNode(CompactAccountHierarchy.NO_PARENT, port, 1);
+		int projectNode = builder.addNode(portNode, project, 2);
+		builder.addPath(builder.addNode(projectNode, sprint1, 3));
+		builder.addPath(builder.addNode(projectNode, sprint2, 3));
+		builder.addPath(builder.addNode(portNode, project, 2));
+		CompactAccountHierarchy hierarchy = builder.build();
+
+		assertEquals(4, hierarchy.getNodeCount());
+		assertEquals(3, hierarchy.getPathCount());
+		assertTrue(hierarchy.getEstimatedBytes() > 0);
+
+		List<AccountHierarchyData> rows = hierarchy.asAccountHierarchyData();
+		assertEquals(3, rows.size());
+		AccountHierarchyData sprintRow = rows.get(1);
+		assertEquals(CommonConstant.HIERARCHY_LEVEL_ID_SPRINT, sprintRow.getLabelName());
+		assertEquals("sprint2", sprintRow.getLeafNodeId());
+		assertEquals(basicProjectConfigId, sprintRow.getBasicProjectConfigId());
+		assertEquals(
+				List.of("port1", "project1", "sprint2"),
+				sprintRow.getNode().stream().map(Node::getId).toList());
+		assertEquals(3, sprintRow.getNode().get(2).getLevel());
+		assertEquals("project1", sprintRow.getNode().get(2).getParentId());
+		assertSame(project, sprintRow.getNode().get(1).getProjectHierarchy());
+		assertEquals("project1", rows.get(2).getLeafNodeId());
+		assertNotSame(rows.get(0).getNode().get(0), rows.get(1).getNode().get(0));
+	}
+
+	@Test
+	public void kanbanRowsSerializeAsPlainList() {
+		ProjectHierarchy project =
+				hierarchy("project1", CommonConstant.HIERARCHY_LEVEL_ID_PROJECT, null);
+		CompactAccountHierarchy.Builder builder = CompactAccountHierarchy.builder();
+		builder.addPath(builder.addNode(CompactAccountHierarchy.NO_PARENT, project, 1));
+
+		List<AccountHierarchyDataKanban> rows = builder.build().asAccountHierarchyDataKanban();
+		@SuppressWarnings("unchecked")
+		List<AccountHierarchyDataKanban> copy =
+				(List<AccountHierarchyDataKanban>) SerializationUtils.clone((Serializable) rows);
+
+		assertEquals(rows, copy);
+		assertEquals("project1", copy.get(0).getLeafNodeId());
+	}
+
+	private ProjectHierarchy hierarchy(String nodeId, String hierarchyLevelId, String parentId) {
+		ProjectHierarchy hierarchy = new ProjectHierarchy();
+		hierarchy.setNodeId(nodeId);
+		hierarchy.setNodeName(nodeId);
+		hierarchy.setNodeDisplayName(nodeId);
+		hierarchy.setHierarchyLevelId(hierarchyLevelId);
+		hierarchy.setParentId(parentId);
+		hierarchy.setBasicProjectConfigId(basicProjectConfigId);
+		return hierarchy;
+	}
+}
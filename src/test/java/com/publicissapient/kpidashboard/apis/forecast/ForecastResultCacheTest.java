@@ -0,0 +1,143 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+
+
+package com.publicissapient.kpidashboard.apis.forecast;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContext;
+import com.publicissapient.kpidashboard.apis.model.KpiRequest;
+import com.publicissapient.kpidashboard.common.model.application.DataCount;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class ForecastResultCacheTest {
+
+	private SimpleMeterRegistry meterRegistry;
+	private ForecastResultCache forecastResultCache;
+
+	@Before
+	public void setup() {
+		meterRegistry = new SimpleMeterRegistry();
+		forecastResultCache = new ForecastResultCache(10, 60, 1, 50, meterRegistry);
+	}
+
+	@After
+	public void tearDown() {
+		forecastResultCache.shutdown();
+	}
+
+	@Test
+	public void slowForecastIsReturnedByLaterRequests() throws InterruptedException {
+		CountDownLatch release = new CountDownLatch(1);
+		CountDownLatch computed = new CountDownLatch(1);
+		AtomicInteger computations = new AtomicInteger();
+		DataCount forecast = new DataCount();
+
+		List<DataCount> first =
+				forecastResultCache.getForecasts(
+						"key",
+						() -> {
+							computations.incrementAndGet();
+							await(release);
+							computed.countDown();
+							return List.of(forecast);
+						});
+		release.countDown();
+		assertTrue(computed.await(5, TimeUnit.SECONDS));
+		List<DataCount> second = forecastResultCache.getForecasts("key", List::of);
+		for (int attempt = 0; second.isEmpty() && attempt < 50; attempt++) {
+			Thread.sleep(20);
+			second = forecastResultCache.getForecasts("key", List::of);
+		}
+
+		assertTrue(first.isEmpty());
+		assertEquals(List.of(forecast), second);
+		assertEquals(1, computations.get());
+		assertEquals(
+				1.0,
+				meterRegistry.get("forecast.cache.requests").tag("result", "timeout").counter().count(),
+				0);
+	}
+
+	@Test
+	public void requestWithoutItsForecastIsMarkedPending() throws InterruptedException {
+		CountDownLatch release = new CountDownLatch(1);
+		CountDownLatch computed = new CountDownLatch(1);
+		KpiExecutionContext slowRequest =
+				KpiExecutionContext.of(new KpiRequest(), null, Long.MAX_VALUE);
+		KpiExecutionContext cachedRequest =
+				KpiExecutionContext.of(new KpiRequest(), null, Long.MAX_VALUE);
+
+		try (KpiExecutionContext.Scope scope = slowRequest.open()) {
+			forecastResultCache.getForecasts(
+					"key",
+					() -> {
+						await(release);
+						computed.countDown();
+						return List.of(new DataCount());
+					});
+		}
+		release.countDown();
+		assertTrue(computed.await(5, TimeUnit.SECONDS));
+		try (KpiExecutionContext.Scope scope = cachedRequest.open()) {
+			assertEquals(1, forecastResultCache.getForecasts("key", List::of).size());
+		}
+
+		assertTrue(slowRequest.isForecastPending());
+		assertFalse(cachedRequest.isForecastPending());
+	}
+
+	@Test
+	public void failedForecastIsNotCached() {
+		ForecastResultCache inlineCache =
+				new ForecastResultCache(10, 60, 1, 0, new SimpleMeterRegistry());
+		try {
+			inlineCache.getForecasts(
+					"key",
+					() -> {
+						throw new IllegalStateException("failed");
+					});
+		} catch (IllegalStateException e) {
+			// expected
+		}
+
+		assertEquals(1, inlineCache.getForecasts("key", () -> List.of(new DataCount())).size());
+		inlineCache.shutdown();
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
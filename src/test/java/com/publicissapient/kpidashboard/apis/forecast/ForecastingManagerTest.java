@@ -18,6 +18,7 @@
 package com.publicissapient.kpidashboard.apis.forecast;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
@@ -31,6 +32,7 @@ import static org.mockito.Mockito.when;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -46,6 +48,8 @@ import com.publicissapient.kpidashboard.common.model.application.DataCount;
 import com.publicissapient.kpidashboard.common.model.application.DataCountGroup;
 import com.publicissapient.kpidashboard.common.model.application.KpiMaster;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 /** Test class for ForecastingManager. */
 @RunWith(MockitoJUnitRunner.class)
 public class ForecastingManagerTest {
@@ -62,6 +66,13 @@ public class ForecastingManagerTest {
 
 	private List<ForecastService> forecastServices;
 
+	private ForecastResultCache forecastResultCache;
+
+	@After
+	public void tearDown() {
+		forecastResultCache.shutdown();
+	}
+
 	@Before
 	public void setUp() {
 		forecastServices = new ArrayList<>();
@@ -74,7 +85,9 @@ public class ForecastingManagerTest {
 				.thenReturn(ForecastingModel.EXPONENTIAL_SMOOTHING);
 		when(arimaForecaster.getModelType()).thenReturn(ForecastingModel.ARIMA);
 
-		forecastingManager = new ForecastingManager(configHelperService, forecastServices);
+		forecastResultCache = new ForecastResultCache(100, 60, 1, 0, new SimpleMeterRegistry());
+		forecastingManager =
+				new ForecastingManager(configHelperService, forecastServices, forecastResultCache);
 		forecastingManager.init();
 	}
 
@@ -249,7 +262,8 @@ public class ForecastingManagerTest {
 	@Test
 	public void testInit_WithNullServices() {
 		// Arrange
-		ForecastingManager manager = new ForecastingManager(configHelperService, null);
+		ForecastingManager manager =
+				new ForecastingManager(configHelperService, null, forecastResultCache);
 
 		// Act
 		manager.init();
@@ -532,6 +546,67 @@ public class ForecastingManagerTest {
 		verify(exponentialSmoothingForecaster, times(1)).generateForecast(historicalData, kpiId);
 	}
 
+	@Test
+	public void testGenerateForecasts_ReusesForecastOfUnchangedSeries() {
+		String kpiId = "kpi113";
+		KpiMaster kpiMaster = new KpiMaster();
+		kpiMaster.setKpiId(kpiId);
+		kpiMaster.setForecastModel("linearRegression");
+
+		List<DataCount> historicalData = createTestDataCounts(5);
+		List<DataCount> changedData = createTestDataCounts(6);
+
+		when(configHelperService.loadKpiMaster()).thenReturn(List.of(kpiMaster));
+		when(linearRegressionForecaster.canForecast(any(), anyString())).thenReturn(true);
+		when(linearRegressionForecaster.generateForecast(any(), anyString()))
+				.thenReturn(createTestDataCounts(1));
+
+		forecastingManager.generateForecasts(historicalData, kpiId);
+		List<DataCount> result = forecastingManager.generateForecasts(createTestDataCounts(5), kpiId);
+		forecastingManager.generateForecasts(changedData, kpiId);
+
+		assertEquals(1, result.size());
+		verify(linearRegressionForecaster, times(1)).generateForecast(historicalData, kpiId);
+		verify(linearRegressionForecaster, times(1)).generateForecast(changedData, kpiId);
+	}
+
+	@Test
+	public void testForecastKey_DependsOnNodeAndValues() {
+		List<DataCount> historicalData = createTestDataCounts(3);
+		List<DataCount> otherProjectData = createTestDataCounts(3);
+		otherProjectData.get(2).setSProjectName("OtherProject");
+
+		String key =
+				ForecastingManager.forecastKey(ForecastingModel.ARIMA, "kpi1", null, historicalData);
+
+		assertEquals(
+				key,
+				ForecastingManager.forecastKey(
+						ForecastingModel.ARIMA, "kpi1", null, createTestDataCounts(3)));
+		assertNotEquals(
+				key,
+				ForecastingManager.forecastKey(ForecastingModel.ARIMA, "kpi1", null, otherProjectData));
+		assertNotEquals(
+				key, ForecastingManager.forecastKey(ForecastingModel.LSTM, "kpi1", null, historicalData));
+	}
+
+	@Test
+	public void testForecastKey_DependsOnProjectOfSameName() {
+		List<DataCount> historicalData = createTestDataCounts(3);
+		String key =
+				ForecastingManager.forecastKey(
+						ForecastingModel.ARIMA, "kpi1", "6335363749794a18e8a4479b", historicalData);
+
+		assertEquals(
+				key,
+				ForecastingManager.forecastKey(
+						ForecastingModel.ARIMA, "kpi1", "6335363749794a18e8a4479b", historicalData));
+		assertNotEquals(
+				key,
+				ForecastingManager.forecastKey(
+						ForecastingModel.ARIMA, "kpi1", "6335363749794a18e8a4479c", historicalData));
+	}
+
 	private List<DataCount> createTestDataCounts(int count) {
 		List<DataCount> dataCounts = new ArrayList<>();
 		for (int i = 0; i < count; i++) {
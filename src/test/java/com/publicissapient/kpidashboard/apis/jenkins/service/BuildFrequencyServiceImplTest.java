@@ -31,6 +31,7 @@ import java.util.*;
 import org.bson.types.ObjectId;
 import org.junit.Before;
 import org.junit.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
@@ -55,6 +56,9 @@ import com.publicissapient.kpidashboard.common.model.jira.SprintDetails;
 @RunWith(MockitoJUnitRunner.class)
 public class BuildFrequencyServiceImplTest {
 
+	@RegisterExtension
+	final KpiExecutionContextRule kpiExecutionContext = new KpiExecutionContextRule();
+
 	Map<String, List<Tool>> toolGroup = new HashMap<>();
 	@Mock KpiDataCacheService kpiDataCacheService;
 	@Mock CacheService cacheService;
@@ -255,7 +259,7 @@ public class BuildFrequencyServiceImplTest {
 		String kpiRequestTrackerId = "Excel-Jenkins-5be544de025de212549176a9";
 		try {
 			when(customApiConfig.getJenkinsWeekCount()).thenReturn(5);
-			when(cacheService.getFromApplicationCache(any())).thenReturn(kpiRequestTrackerId);
+			kpiExecutionContext.bindRequestTrackerId(kpiRequestTrackerId);
 
 			kpiElement =
 					buildFrequencyServiceImpl.getKpiData(
@@ -35,6 +35,7 @@ import java.util.Map;
 
 import org.bson.types.ObjectId;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
@@ -51,11 +52,11 @@ import com.publicissapient.kpidashboard.apis.data.AccountHierarchyFilterDataFact
 import com.publicissapient.kpidashboard.apis.data.DeploymentDataFactory;
 import com.publicissapient.kpidashboard.apis.data.KpiRequestFactory;
 import com.publicissapient.kpidashboard.apis.enums.KPICode;
-import com.publicissapient.kpidashboard.apis.enums.KPISource;
 import com.publicissapient.kpidashboard.apis.errors.ApplicationException;
 import com.publicissapient.kpidashboard.apis.model.AccountHierarchyData;
 import com.publicissapient.kpidashboard.apis.model.DeploymentFrequencyInfo;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContextRule;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.Node;
 import com.publicissapient.kpidashboard.apis.model.TreeAggregatorDetail;
@@ -71,6 +72,8 @@ import com.publicissapient.kpidashboard.common.repository.application.Deployment
 @RunWith(MockitoJUnitRunner.class)
 public class DeploymentFrequencyKanbanServiceImplTest {
 
+	@Rule public final KpiExecutionContextRule kpiExecutionContext = new KpiExecutionContextRule();
+
 	private List<ProjectBasicConfig> projectConfigList = new ArrayList<>();
 	private List<Deployment> deploymentList = new ArrayList<>();
 	private List<ProjectToolConfig> projectToolConfigList = new ArrayList<>();
@@ -171,9 +174,7 @@ public class DeploymentFrequencyKanbanServiceImplTest {
 						kpiRequest, accountHierarchyDataList, new ArrayList<>(), "hierarchyLevelOne", 5);
 		when(deploymentRepository.findDeploymentList(anyMap(), anySet(), anyString(), anyString()))
 				.thenReturn(new ArrayList<>(deploymentList));
-		when(cacheService.getFromApplicationCache(
-						Constant.KPI_REQUEST_TRACKER_ID_KEY + KPISource.JENKINSKANBAN.name()))
-				.thenReturn(kpiRequest.getRequestTrackerId());
+		kpiExecutionContext.bindRequestTrackerId(kpiRequest.getRequestTrackerId());
 		Map<String, List<String>> maturityRangeMap = new HashMap<>();
 		maturityRangeMap.put(
 				KPICode.DEPLOYMENT_FREQUENCY_KANBAN.name(),
@@ -209,9 +210,7 @@ public class DeploymentFrequencyKanbanServiceImplTest {
 		when(deploymentRepository.findDeploymentList(anyMap(), anySet(), anyString(), anyString()))
 				.thenReturn(new ArrayList<>(deploymentList));
 
-		when(cacheService.getFromApplicationCache(
-						Constant.KPI_REQUEST_TRACKER_ID_KEY + KPISource.JENKINSKANBAN.name()))
-				.thenReturn(kpiRequest.getRequestTrackerId());
+		kpiExecutionContext.bindRequestTrackerId(kpiRequest.getRequestTrackerId());
 
 		Map<String, List<String>> maturityRangeMap = new HashMap<>();
 		maturityRangeMap.put(
@@ -38,6 +38,7 @@ import java.util.Map;
 
 import org.bson.types.ObjectId;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
@@ -54,11 +55,11 @@ import com.publicissapient.kpidashboard.apis.data.AccountHierarchyFilterDataFact
 import com.publicissapient.kpidashboard.apis.data.DeploymentDataFactory;
 import com.publicissapient.kpidashboard.apis.data.KpiRequestFactory;
 import com.publicissapient.kpidashboard.apis.enums.KPICode;
-import com.publicissapient.kpidashboard.apis.enums.KPISource;
 import com.publicissapient.kpidashboard.apis.errors.ApplicationException;
 import com.publicissapient.kpidashboard.apis.model.AccountHierarchyData;
 import com.publicissapient.kpidashboard.apis.model.DeploymentFrequencyInfo;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContextRule;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.Node;
 import com.publicissapient.kpidashboard.apis.model.TreeAggregatorDetail;
@@ -73,6 +74,8 @@ import com.publicissapient.kpidashboard.common.repository.application.Deployment
 @RunWith(MockitoJUnitRunner.class)
 public class DeploymentFrequencyServiceImplTest {
 
+	@Rule public final KpiExecutionContextRule kpiExecutionContext = new KpiExecutionContextRule();
+
 	private List<ProjectBasicConfig> projectConfigList = new ArrayList<>();
 	private List<Deployment> deploymentList = new ArrayList<>();
 	private List<ProjectToolConfig> projectToolConfigList = new ArrayList<>();
@@ -182,9 +185,7 @@ public class DeploymentFrequencyServiceImplTest {
 						});
 		when(deploymentRepository.findDeploymentList(anyMap(), anySet(), anyString(), anyString()))
 				.thenReturn(deploymentList);
-		when(cacheService.getFromApplicationCache(
-						Constant.KPI_REQUEST_TRACKER_ID_KEY + KPISource.JENKINS.name()))
-				.thenReturn("Excel-Jenkins-7b0ed9dd-43f6-4086-adc6-fa555fdf6842");
+		kpiExecutionContext.bindRequestTrackerId("Excel-Jenkins-7b0ed9dd-43f6-4086-adc6-fa555fdf6842");
 		Map<String, List<String>> maturityRangeMap = new HashMap<>();
 		maturityRangeMap.put(
 				KPICode.DEPLOYMENT_FREQUENCY.name(), Arrays.asList("-1", "1-2", "2-5", "5-10", "10-"));
@@ -220,9 +221,7 @@ public class DeploymentFrequencyServiceImplTest {
 		when(deploymentRepository.findDeploymentList(anyMap(), anySet(), anyString(), anyString()))
 				.thenReturn(deploymentList);
 
-		when(cacheService.getFromApplicationCache(
-						Constant.KPI_REQUEST_TRACKER_ID_KEY + KPISource.JENKINS.name()))
-				.thenReturn(kpiRequest.getRequestTrackerId());
+		kpiExecutionContext.bindRequestTrackerId(kpiRequest.getRequestTrackerId());
 
 		Map<String, List<String>> maturityRangeMap = new HashMap<>();
 		maturityRangeMap.put(
@@ -42,12 +42,14 @@ import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import com.publicissapient.kpidashboard.apis.abac.UserAuthorizedProjectsService;
 import com.publicissapient.kpidashboard.apis.auth.apikey.ApiKeyAuthenticationService;
 import com.publicissapient.kpidashboard.apis.common.service.CacheService;
+import com.publicissapient.kpidashboard.apis.common.service.impl.KpiExecutionEngine;
 import com.publicissapient.kpidashboard.apis.common.service.impl.KpiHelperService;
 import com.publicissapient.kpidashboard.apis.enums.KPICode;
 import com.publicissapient.kpidashboard.apis.errors.ApplicationException;
@@ -64,6 +66,8 @@ import com.publicissapient.kpidashboard.common.constant.CommonConstant;
 import com.publicissapient.kpidashboard.common.model.application.FieldMapping;
 import com.publicissapient.kpidashboard.common.model.application.ProjectBasicConfig;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 @RunWith(MockitoJUnitRunner.class)
 public class JenkinsServiceKanbanRTest {
 
@@ -75,6 +79,8 @@ public class JenkinsServiceKanbanRTest {
 	@Mock private CacheService cacheService;
 	@Mock private CodeBuildTimeKanbanServiceImpl codeBuildTimeKanbanServiceImpl;
 	@Mock private UserAuthorizedProjectsService authorizedProjectsService;
+	@Spy private KpiExecutionEngine kpiExecutionEngine =
+			new KpiExecutionEngine(0, 0, 0, new SimpleMeterRegistry());
 	@Mock private JenkinsKPIServiceFactory jenkinsKPIServiceFactory;
 
 	@InjectMocks private JenkinsServiceKanbanR jenkinsServiceKanbanR;
@@ -44,12 +44,15 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.http.converter.HttpMessageNotWritableException;
 
 import com.publicissapient.kpidashboard.apis.abac.UserAuthorizedProjectsService;
 import com.publicissapient.kpidashboard.apis.common.service.CacheService;
+import com.publicissapient.kpidashboard.apis.common.service.impl.KpiExecutionEngine;
 import com.publicissapient.kpidashboard.apis.common.service.impl.KpiHelperService;
+import com.publicissapient.kpidashboard.apis.common.service.impl.KpiRequestCoalescer;
 import com.publicissapient.kpidashboard.apis.config.CustomApiConfig;
 import com.publicissapient.kpidashboard.apis.data.AccountHierarchyFilterDataFactory;
 import com.publicissapient.kpidashboard.apis.data.FieldMappingDataFactory;
@@ -68,6 +71,8 @@ import com.publicissapient.kpidashboard.common.model.application.FieldMapping;
 import com.publicissapient.kpidashboard.common.model.application.HierarchyLevel;
 import com.publicissapient.kpidashboard.common.model.application.ProjectBasicConfig;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 @RunWith(MockitoJUnitRunner.class)
 public class JenkinsServiceRTest {
 	private static final String TEST_JENKINS = "TEST_JENKINS";
@@ -76,6 +81,10 @@ public class JenkinsServiceRTest {
 	public Map<ObjectId, FieldMapping> fieldMappingMap = new HashMap<>();
 	@Mock KpiHelperService kpiHelperService;
 	@Mock FilterHelperService filterHelperService;
+	@Spy private KpiExecutionEngine kpiExecutionEngine =
+			new KpiExecutionEngine(0, 0, 0, new SimpleMeterRegistry());
+	@Spy private KpiRequestCoalescer kpiRequestCoalescer =
+			new KpiRequestCoalescer(0, new SimpleMeterRegistry());
 	@InjectMocks private JenkinsServiceR jenkinsServiceR;
 	@Mock private CustomApiConfig customApiConfig;
 	@Mock private CacheService cacheService;
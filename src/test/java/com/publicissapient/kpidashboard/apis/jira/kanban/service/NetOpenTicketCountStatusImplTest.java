@@ -26,18 +26,18 @@ import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.when;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 import org.bson.types.ObjectId;
 import org.junit.After;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
@@ -50,16 +50,16 @@ import com.publicissapient.kpidashboard.apis.common.service.CacheService;
 import com.publicissapient.kpidashboard.apis.common.service.CommonService;
 import com.publicissapient.kpidashboard.apis.common.service.impl.KpiHelperService;
 import com.publicissapient.kpidashboard.apis.config.CustomApiConfig;
-import com.publicissapient.kpidashboard.apis.constant.Constant;
 import com.publicissapient.kpidashboard.apis.data.AccountHierarchyKanbanFilterDataFactory;
 import com.publicissapient.kpidashboard.apis.data.HierachyLevelFactory;
 import com.publicissapient.kpidashboard.apis.data.KanbanIssueCustomHistoryDataFactory;
 import com.publicissapient.kpidashboard.apis.data.KpiRequestFactory;
 import com.publicissapient.kpidashboard.apis.enums.KPICode;
-import com.publicissapient.kpidashboard.apis.enums.KPISource;
 import com.publicissapient.kpidashboard.apis.errors.ApplicationException;
 import com.publicissapient.kpidashboard.apis.model.AccountHierarchyDataKanban;
+import com.publicissapient.kpidashboard.apis.model.KanbanStatusTimeline;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContextRule;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.TreeAggregatorDetail;
 import com.publicissapient.kpidashboard.apis.util.KPIHelperUtil;
@@ -73,6 +73,8 @@ import com.publicissapient.kpidashboard.common.repository.jira.KanbanJiraIssueRe
 @RunWith(MockitoJUnitRunner.class)
 public class NetOpenTicketCountStatusImplTest {
 
+	@Rule public final KpiExecutionContextRule kpiExecutionContext = new KpiExecutionContextRule();
+
 	private static final String PROJECT_WISE_CLOSED_STORY_STATUS = "projectWiseClosedStoryStatus";
 	@Mock CacheService cacheService;
 	@Mock ConfigHelperService configHelperService;
@@ -137,8 +139,7 @@ public class NetOpenTicketCountStatusImplTest {
 
 	@Test
 	public void testCalculateKPIMetrics() {
-		Map<String, Map<String, Map<String, Set<String>>>> filterComponentIdWiseDefectMap =
-				new HashMap<>();
+		Map<String, KanbanStatusTimeline> filterComponentIdWiseDefectMap = new HashMap<>();
 		Long stringLongMap = totalTicketCountImpl.calculateKPIMetrics(filterComponentIdWiseDefectMap);
 		assertThat("ticket count :", stringLongMap, equalTo(0L));
 	}
@@ -201,12 +202,10 @@ public class NetOpenTicketCountStatusImplTest {
 		when(kpiHelperService.fetchJiraCustomHistoryDataFromDbForKanban(
 						any(), any(), any(), any(), any(), anyMap()))
 				.thenReturn(createResultMap());
-		Map<String, Map<String, Map<String, Set<String>>>>
-				projectWiseJiraHistoryStatusAndDateWiseIssueMap =
-						prepareProjectWiseJiraHistoryByStatusAndDate();
-		when(kpiHelperService.computeProjectWiseJiraHistoryByStatusAndDate(
-						anyMap(), anyString(), anyMap()))
-				.thenReturn(projectWiseJiraHistoryStatusAndDateWiseIssueMap);
+		Map<String, KanbanStatusTimeline> projectWiseStatusTimeline =
+				prepareProjectWiseStatusTimeline();
+		when(kpiHelperService.computeProjectWiseStatusTimeline(anyMap(), anyString(), anyMap()))
+				.thenReturn(projectWiseStatusTimeline);
 		List<KanbanIssueCustomHistory> kanbanIssueCustomHistoryDataList =
 				KanbanIssueCustomHistoryDataFactory.newInstance().getKanbanIssueCustomHistoryDataList();
 
@@ -220,9 +219,7 @@ public class NetOpenTicketCountStatusImplTest {
 				.thenReturn(resultMap);
 
 		String kpiRequestTrackerId = "Excel-Jira-5be544de025de212549176a9";
-		when(cacheService.getFromApplicationCache(
-						Constant.KPI_REQUEST_TRACKER_ID_KEY + KPISource.JIRAKANBAN.name()))
-				.thenReturn(kpiRequestTrackerId);
+		kpiExecutionContext.bindRequestTrackerId(kpiRequestTrackerId);
 		when(totalTicketCountImpl.getKanbanRequestTrackerId()).thenReturn(kpiRequestTrackerId);
 		when(commonService.sortTrendValueMap(anyMap())).thenReturn(trendValueMap);
 		when(configHelperService.getFieldMappingMap()).thenReturn(fieldMappingMap);
@@ -259,22 +256,16 @@ public class NetOpenTicketCountStatusImplTest {
 		return resultMap;
 	}
 
-	private Map<String, Map<String, Map<String, Set<String>>>>
-			prepareProjectWiseJiraHistoryByStatusAndDate() {
-		Map<String, Map<String, Map<String, Set<String>>>>
-				projectWiseJiraHistoryStatusAndDateWiseIssueMap = new HashMap<>();
-		Map<String, Map<String, Set<String>>> jiraHistoryStatusAndDateWiseIssueMap = new HashMap<>();
-		Map<String, Set<String>> dateWiseIssueMap = new HashMap<>();
-		Set<String> ids = new HashSet<>();
-		ids.add("TEST-11232");
-		ids.add("TEST-11233");
-		dateWiseIssueMap.put("2022-07-01", ids);
-		dateWiseIssueMap.put("2022-07-02", ids);
-		jiraHistoryStatusAndDateWiseIssueMap.put("Open", dateWiseIssueMap);
-		jiraHistoryStatusAndDateWiseIssueMap.put("In Analysis", dateWiseIssueMap);
-		projectWiseJiraHistoryStatusAndDateWiseIssueMap.put(
-				"6335368249794a18e8a4479f", jiraHistoryStatusAndDateWiseIssueMap);
-		return projectWiseJiraHistoryStatusAndDateWiseIssueMap;
+	private Map<String, KanbanStatusTimeline> prepareProjectWiseStatusTimeline() {
+		LocalDate from = LocalDate.parse("2022-07-01");
+		LocalDate to = LocalDate.parse("2022-07-02");
+		KanbanStatusTimeline.Builder statusTimeline = KanbanStatusTimeline.builder();
+		for (String storyId : List.of("TEST-11232", "TEST-11233")) {
+			statusTimeline.add(storyId, "Open", from, to).add(storyId, "In Analysis", from, to);
+		}
+		Map<String, KanbanStatusTimeline> projectWiseStatusTimeline = new HashMap<>();
+		projectWiseStatusTimeline.put("6335368249794a18e8a4479f", statusTimeline.build());
+		return projectWiseStatusTimeline;
 	}
 
 	@Test
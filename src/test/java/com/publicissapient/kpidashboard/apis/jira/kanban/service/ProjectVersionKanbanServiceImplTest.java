@@ -13,6 +13,7 @@ import java.util.Map;
 
 import org.bson.types.ObjectId;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
@@ -31,6 +32,7 @@ import com.publicissapient.kpidashboard.apis.enums.KPICode;
 import com.publicissapient.kpidashboard.apis.errors.ApplicationException;
 import com.publicissapient.kpidashboard.apis.model.AccountHierarchyDataKanban;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContextRule;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.Node;
 import com.publicissapient.kpidashboard.apis.model.TreeAggregatorDetail;
@@ -46,6 +48,8 @@ import com.publicissapient.kpidashboard.common.repository.application.ProjectRel
 @RunWith(MockitoJUnitRunner.class)
 public class ProjectVersionKanbanServiceImplTest {
 
+	@Rule public final KpiExecutionContextRule kpiExecutionContext = new KpiExecutionContextRule();
+
 	@InjectMocks private ProjectVersionKanbanServiceImpl projectVersionKanbanService;
 
 	@Mock private ProjectReleaseRepo projectReleaseRepo;
@@ -91,8 +95,7 @@ public class ProjectVersionKanbanServiceImplTest {
 
 		ProjectReleaseDataFactory projectReleaseDataFactory = ProjectReleaseDataFactory.newInstance();
 		releaseList = projectReleaseDataFactory.findByBasicProjectConfigId("6335368249794a18e8a4479f");
-		Mockito.when(cacheService.getFromApplicationCache(Mockito.anyString()))
-				.thenReturn("Excel-trackerid");
+		kpiExecutionContext.bindRequestTrackerId("Excel-trackerid");
 		when(customApiConfig.getJiraXaxisMonthCount()).thenReturn(5);
 	}
 
@@ -33,6 +33,7 @@ import java.util.stream.Collectors;
 
 import org.bson.types.ObjectId;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
@@ -41,17 +42,16 @@ import org.mockito.junit.MockitoJUnitRunner;
 
 import com.publicissapient.kpidashboard.apis.appsetting.service.ConfigHelperService;
 import com.publicissapient.kpidashboard.apis.common.service.CacheService;
-import com.publicissapient.kpidashboard.apis.constant.Constant;
 import com.publicissapient.kpidashboard.apis.data.AccountHierarchyFilterDataFactory;
 import com.publicissapient.kpidashboard.apis.data.AdditionalFilterCategoryFactory;
 import com.publicissapient.kpidashboard.apis.data.FieldMappingDataFactory;
 import com.publicissapient.kpidashboard.apis.data.KpiRequestFactory;
-import com.publicissapient.kpidashboard.apis.enums.KPISource;
 import com.publicissapient.kpidashboard.apis.errors.ApplicationException;
 import com.publicissapient.kpidashboard.apis.filter.service.FilterHelperService;
 import com.publicissapient.kpidashboard.apis.jira.service.iterationdashboard.JiraIterationServiceR;
 import com.publicissapient.kpidashboard.apis.model.AccountHierarchyData;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContextRule;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.TreeAggregatorDetail;
 import com.publicissapient.kpidashboard.apis.util.KPIHelperUtil;
@@ -69,6 +69,8 @@ import com.publicissapient.kpidashboard.common.repository.excel.CapacityKpiDataR
 @RunWith(MockitoJUnitRunner.class)
 public class CapacityServiceImplTest {
 
+	@Rule public final KpiExecutionContextRule kpiExecutionContext = new KpiExecutionContextRule();
+
 	@Mock CacheService cacheService;
 	@Mock private CapacityKpiDataRepository capacityKpiDataRepository;
 	@Mock private ConfigHelperService configHelperService;
@@ -127,9 +129,7 @@ public class CapacityServiceImplTest {
 
 		String kpiRequestTrackerId = "Excel-Jira-5be544de025de212549176a9";
 		when(capacityServiceImpl.getRequestTrackerId()).thenReturn(kpiRequestTrackerId);
-		when(cacheService.getFromApplicationCache(
-						Constant.KPI_REQUEST_TRACKER_ID_KEY + KPISource.JIRA.name()))
-				.thenReturn(kpiRequestTrackerId);
+		kpiExecutionContext.bindRequestTrackerId(kpiRequestTrackerId);
 		when(capacityServiceImpl.getRequestTrackerId()).thenReturn(kpiRequestTrackerId);
 		try {
 			KpiElement kpiElement =
@@ -179,9 +179,7 @@ public class CapacityServiceImplTest {
 
 		String kpiRequestTrackerId = "Excel-Jira-5be544de025de212549176a9";
 		when(capacityServiceImpl.getRequestTrackerId()).thenReturn(kpiRequestTrackerId);
-		when(cacheService.getFromApplicationCache(
-						Constant.KPI_REQUEST_TRACKER_ID_KEY + KPISource.JIRA.name()))
-				.thenReturn(kpiRequestTrackerId);
+		kpiExecutionContext.bindRequestTrackerId(kpiRequestTrackerId);
 		when(capacityServiceImpl.getRequestTrackerId()).thenReturn(kpiRequestTrackerId);
 
 		try {
@@ -51,6 +51,7 @@ import org.mockito.junit.MockitoJUnitRunner;
 import com.publicissapient.kpidashboard.apis.appsetting.service.ConfigHelperService;
 import com.publicissapient.kpidashboard.apis.common.service.CacheService;
 import com.publicissapient.kpidashboard.apis.common.service.CommonService;
+import com.publicissapient.kpidashboard.apis.common.service.impl.KpiDataProvider;
 import com.publicissapient.kpidashboard.apis.common.service.impl.KpiHelperService;
 import com.publicissapient.kpidashboard.apis.config.CustomApiConfig;
 import com.publicissapient.kpidashboard.apis.constant.Constant;
@@ -82,6 +83,8 @@ public class DefectSeverityIndexImplTest {
 
 	@Mock private JiraIssueRepository jiraIssueRepository;
 
+	@Mock private KpiDataProvider kpiDataProvider;
+
 	@Mock private CustomApiConfig customApiConfig;
 
 	@Mock private ConfigHelperService configHelperService;
@@ -392,8 +395,8 @@ public class DefectSeverityIndexImplTest {
 
 		verify(jiraIssueRepository, times(1))
 				.findIssuesGroupBySprint(anyMap(), anyMap(), anyString(), anyString());
-		verify(jiraIssueRepository, times(1)).findIssuesByType(anyMap());
-		verify(jiraIssueRepository, times(1)).findIssueAndDescByNumber(anyList());
+		verify(kpiDataProvider, times(1)).fetchIssuesByType(anyMap());
+		verify(kpiDataProvider, times(1)).fetchIssueAndDescByNumber(anyList());
 	}
 
 	@Test
@@ -528,7 +531,7 @@ public class DefectSeverityIndexImplTest {
 		JiraIssue defect = createJiraIssue("DEF-004", "Bug", "P1", null);
 		defectsWithNullStoryIds.add(defect);
 
-		when(jiraIssueRepository.findIssuesByType(anyMap())).thenReturn(defectsWithNullStoryIds);
+		when(kpiDataProvider.fetchIssuesByType(anyMap())).thenReturn(defectsWithNullStoryIds);
 
 		KpiElement result =
 				defectSeverityIndexImpl.getKpiData(kpiRequest, kpiElement, treeAggregatorDetail);
@@ -635,8 +638,8 @@ public class DefectSeverityIndexImplTest {
 
 		when(jiraIssueRepository.findIssuesGroupBySprint(anyMap(), anyMap(), anyString(), anyString()))
 				.thenReturn(sprintWiseStories);
-		when(jiraIssueRepository.findIssuesByType(anyMap())).thenReturn(jiraIssues);
-		when(jiraIssueRepository.findIssueAndDescByNumber(anyList())).thenReturn(jiraIssues);
+		when(kpiDataProvider.fetchIssuesByType(anyMap())).thenReturn(jiraIssues);
+		when(kpiDataProvider.fetchIssueAndDescByNumber(anyList())).thenReturn(jiraIssues);
 
 		try (MockedStatic<CommonUtils> mockedStatic = Mockito.mockStatic(CommonUtils.class)) {
 			mockedStatic
@@ -18,6 +18,7 @@ import java.util.Map;
 
 import org.bson.types.ObjectId;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
@@ -28,13 +29,12 @@ import com.publicissapient.kpidashboard.apis.appsetting.service.ConfigHelperServ
 import com.publicissapient.kpidashboard.apis.common.service.CacheService;
 import com.publicissapient.kpidashboard.apis.common.service.CommonService;
 import com.publicissapient.kpidashboard.apis.config.CustomApiConfig;
-import com.publicissapient.kpidashboard.apis.constant.Constant;
 import com.publicissapient.kpidashboard.apis.data.AccountHierarchyFilterDataFactory;
 import com.publicissapient.kpidashboard.apis.data.KpiRequestFactory;
 import com.publicissapient.kpidashboard.apis.enums.KPICode;
-import com.publicissapient.kpidashboard.apis.enums.KPISource;
 import com.publicissapient.kpidashboard.apis.model.AccountHierarchyData;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContextRule;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.Node;
 import com.publicissapient.kpidashboard.apis.model.ProjectFilter;
@@ -48,6 +48,8 @@ import com.publicissapient.kpidashboard.common.repository.application.BuildRepos
 @RunWith(MockitoJUnitRunner.class)
 public class BuildSuccessRateServiceImplTest {
 
+	@Rule public final KpiExecutionContextRule kpiExecutionContext = new KpiExecutionContextRule();
+
 	@Mock private BuildRepository buildRepository;
 
 	@Mock private CacheService cacheService;
@@ -88,9 +90,7 @@ public class BuildSuccessRateServiceImplTest {
 
 		buildList = createBuildList();
 
-		when(cacheService.getFromApplicationCache(
-						Constant.KPI_REQUEST_TRACKER_ID_KEY + KPISource.JENKINS.name()))
-				.thenReturn("trackerid");
+		kpiExecutionContext.bindRequestTrackerId("trackerid");
 		when(cacheService.getAdditionalFilterHierarchyLevel()).thenReturn(new HashMap<>());
 		when(cacheService.cacheProjectConfigMapData()).thenReturn(new HashMap<>());
 		when(configHelperService.calculateCriteria()).thenReturn(new HashMap<>());
@@ -372,9 +372,7 @@ public class BuildSuccessRateServiceImplTest {
 
 	@Test
 	public void testGetKpiData_withExcelTrackerId() throws Exception {
-		when(cacheService.getFromApplicationCache(
-						Constant.KPI_REQUEST_TRACKER_ID_KEY + KPISource.JENKINS.name()))
-				.thenReturn("Excel-JENKINS-abc123");
+		kpiExecutionContext.bindRequestTrackerId("Excel-JENKINS-abc123");
 
 		when(buildRepository.findBuildList(any(), any(), any(), any())).thenReturn(buildList);
 
@@ -435,9 +433,7 @@ public class BuildSuccessRateServiceImplTest {
 				.thenReturn(Collections.singletonList(build));
 
 		// Use Excel tracker to exercise buildFrequencyInfo path for pipelineName
-		when(cacheService.getFromApplicationCache(
-						Constant.KPI_REQUEST_TRACKER_ID_KEY + KPISource.JENKINS.name()))
-				.thenReturn("Excel-JENKINS-abc123");
+		kpiExecutionContext.bindRequestTrackerId("Excel-JENKINS-abc123");
 
 		TreeAggregatorDetail detail =
 				KPIHelperUtil.getTreeLeafNodesGroupedByFilter(
@@ -464,9 +460,7 @@ public class BuildSuccessRateServiceImplTest {
 				.thenReturn(Collections.singletonList(build));
 
 		// Use Excel tracker to exercise buildFrequencyInfo path
-		when(cacheService.getFromApplicationCache(
-						Constant.KPI_REQUEST_TRACKER_ID_KEY + KPISource.JENKINS.name()))
-				.thenReturn("Excel-JENKINS-abc123");
+		kpiExecutionContext.bindRequestTrackerId("Excel-JENKINS-abc123");
 
 		TreeAggregatorDetail detail =
 				KPIHelperUtil.getTreeLeafNodesGroupedByFilter(
@@ -583,9 +577,7 @@ public class BuildSuccessRateServiceImplTest {
 
 	@Test
 	public void testGetKpiData_nonExcelTrackerId() throws Exception {
-		when(cacheService.getFromApplicationCache(
-						Constant.KPI_REQUEST_TRACKER_ID_KEY + KPISource.JENKINS.name()))
-				.thenReturn("normal-tracker-id");
+		kpiExecutionContext.bindRequestTrackerId("normal-tracker-id");
 
 		when(buildRepository.findBuildList(any(), any(), any(), any())).thenReturn(buildList);
 
@@ -616,9 +608,7 @@ public class BuildSuccessRateServiceImplTest {
 				.thenReturn(Collections.singletonList(build));
 
 		// Excel tracker to exercise the buildFrequencyInfo jobFolder path
-		when(cacheService.getFromApplicationCache(
-						Constant.KPI_REQUEST_TRACKER_ID_KEY + KPISource.JENKINS.name()))
-				.thenReturn("Excel-JENKINS-track");
+		kpiExecutionContext.bindRequestTrackerId("Excel-JENKINS-track");
 
 		TreeAggregatorDetail detail =
 				KPIHelperUtil.getTreeLeafNodesGroupedByFilter(
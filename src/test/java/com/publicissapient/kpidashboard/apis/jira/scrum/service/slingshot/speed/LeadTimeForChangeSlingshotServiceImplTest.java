@@ -25,6 +25,7 @@ import java.util.Map;
 
 import org.bson.types.ObjectId;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
@@ -36,13 +37,12 @@ import com.publicissapient.kpidashboard.apis.bitbucket.service.scm.ScmKpiHelperS
 import com.publicissapient.kpidashboard.apis.common.service.CacheService;
 import com.publicissapient.kpidashboard.apis.common.service.CommonService;
 import com.publicissapient.kpidashboard.apis.config.CustomApiConfig;
-import com.publicissapient.kpidashboard.apis.constant.Constant;
 import com.publicissapient.kpidashboard.apis.data.AccountHierarchyFilterDataFactory;
 import com.publicissapient.kpidashboard.apis.data.KpiRequestFactory;
 import com.publicissapient.kpidashboard.apis.enums.KPICode;
-import com.publicissapient.kpidashboard.apis.enums.KPISource;
 import com.publicissapient.kpidashboard.apis.model.AccountHierarchyData;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContextRule;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.Node;
 import com.publicissapient.kpidashboard.apis.model.ProjectFilter;
@@ -59,6 +59,8 @@ import com.publicissapient.kpidashboard.common.util.DateUtil;
 @RunWith(MockitoJUnitRunner.class)
 public class LeadTimeForChangeSlingshotServiceImplTest {
 
+	@Rule public final KpiExecutionContextRule kpiExecutionContext = new KpiExecutionContextRule();
+
 	private static final DateTimeFormatter TS_FMT = DateTimeFormatter.ofPattern(DateUtil.TIME_FORMAT);
 	private static final String PRODUCTION_BRANCH = "master";
 
@@ -99,9 +101,7 @@ public class LeadTimeForChangeSlingshotServiceImplTest {
 				AccountHierarchyFilterDataFactory.newInstance();
 		accountHierarchyDataList = hierarchyFactory.getAccountHierarchyDataList();
 
-		when(cacheService.getFromApplicationCache(
-						Constant.KPI_REQUEST_TRACKER_ID_KEY + KPISource.JENKINS.name()))
-				.thenReturn("trackerid");
+		kpiExecutionContext.bindRequestTrackerId("trackerid");
 		when(cacheService.getAdditionalFilterHierarchyLevel()).thenReturn(new HashMap<>());
 		when(cacheService.cacheProjectConfigMapData()).thenReturn(new HashMap<>());
 		when(configHelperService.calculateCriteria()).thenReturn(new HashMap<>());
@@ -779,9 +779,7 @@ public class LeadTimeForChangeSlingshotServiceImplTest {
 	/** Excel path is only populated when the request tracker id contains 'EXCEL'. */
 	@Test
 	public void testGetKpiData_excelExport_populatesExcelData() throws Exception {
-		when(cacheService.getFromApplicationCache(
-						Constant.KPI_REQUEST_TRACKER_ID_KEY + KPISource.JENKINS.name()))
-				.thenReturn("Excel-trackerid");
+		kpiExecutionContext.bindRequestTrackerId("Excel-trackerid");
 		mockProductionBranchFieldMapping("master");
 		LocalDateTime commitTime = LocalDateTime.now().minusDays(3);
 		LocalDateTime mergedAt = LocalDateTime.now().minusDays(2);
@@ -1265,9 +1263,7 @@ public class LeadTimeForChangeSlingshotServiceImplTest {
 	/** COMMIT strategy with EXCEL tracker: excel rows are populated without deployment data. */
 	@Test
 	public void testGetKpiData_commitStrategy_excelExport() throws Exception {
-		when(cacheService.getFromApplicationCache(
-						Constant.KPI_REQUEST_TRACKER_ID_KEY + KPISource.JENKINS.name()))
-				.thenReturn("Excel-trackerid");
+		kpiExecutionContext.bindRequestTrackerId("Excel-trackerid");
 		mockCommitStrategyFieldMapping();
 
 		LocalDateTime commitTime = LocalDateTime.now().minusDays(3);
@@ -19,6 +19,7 @@ import java.util.Set;
 
 import org.bson.types.ObjectId;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
@@ -36,9 +37,9 @@ import com.publicissapient.kpidashboard.apis.constant.Constant;
 import com.publicissapient.kpidashboard.apis.data.AccountHierarchyFilterDataFactory;
 import com.publicissapient.kpidashboard.apis.data.KpiRequestFactory;
 import com.publicissapient.kpidashboard.apis.enums.KPICode;
-import com.publicissapient.kpidashboard.apis.enums.KPISource;
 import com.publicissapient.kpidashboard.apis.model.AccountHierarchyData;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContextRule;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.TreeAggregatorDetail;
 import com.publicissapient.kpidashboard.apis.util.KPIHelperUtil;
@@ -53,6 +54,8 @@ import com.publicissapient.kpidashboard.common.model.scm.User;
 @RunWith(MockitoJUnitRunner.class)
 public class ScmPRThroughputServiceImplTest {
 
+	@Rule public final KpiExecutionContextRule kpiExecutionContext = new KpiExecutionContextRule();
+
 	@InjectMocks private ScmPRThroughputServiceImpl service;
 
 	@Mock private ConfigHelperService configHelperService;
@@ -118,9 +121,7 @@ public class ScmPRThroughputServiceImplTest {
 
 		when(configHelperService.getToolItemMap()).thenReturn(toolMap);
 		when(kpiHelperService.populateSCMToolsRepoList(anyMap())).thenReturn(toolList);
-		when(cacheService.getFromApplicationCache(
-						Constant.KPI_REQUEST_TRACKER_ID_KEY + KPISource.BITBUCKET.name()))
-				.thenReturn("trackerid");
+		kpiExecutionContext.bindRequestTrackerId("trackerid");
 		when(cacheService.getAdditionalFilterHierarchyLevel()).thenReturn(new HashMap<>());
 		when(cacheService.cacheProjectConfigMapData()).thenReturn(new HashMap<>());
 		when(configHelperService.calculateCriteria()).thenReturn(new HashMap<>());
@@ -272,9 +273,7 @@ public class ScmPRThroughputServiceImplTest {
 
 	@Test
 	public void testGetKpiData_withExcelTrackerId() throws Exception {
-		when(cacheService.getFromApplicationCache(
-						Constant.KPI_REQUEST_TRACKER_ID_KEY + KPISource.BITBUCKET.name()))
-				.thenReturn("Excel-Bitbucket-abc123");
+		kpiExecutionContext.bindRequestTrackerId("Excel-Bitbucket-abc123");
 
 		List<ScmMergeRequests> commits = new ArrayList<>();
 		commits.add(createMergeCommit("dev@example.com", true, "merged"));
@@ -415,9 +414,7 @@ public class ScmPRThroughputServiceImplTest {
 
 	@Test
 	public void testGetKpiData_excelWithRepositoryName() throws Exception {
-		when(cacheService.getFromApplicationCache(
-						Constant.KPI_REQUEST_TRACKER_ID_KEY + KPISource.BITBUCKET.name()))
-				.thenReturn("Excel-abc");
+		kpiExecutionContext.bindRequestTrackerId("Excel-abc");
 
 		Tool t = new Tool();
 		t.setBranch("main");
@@ -18,6 +18,7 @@ import java.util.Map;
 
 import org.bson.types.ObjectId;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
@@ -35,9 +36,9 @@ import com.publicissapient.kpidashboard.apis.constant.Constant;
 import com.publicissapient.kpidashboard.apis.data.AccountHierarchyFilterDataFactory;
 import com.publicissapient.kpidashboard.apis.data.KpiRequestFactory;
 import com.publicissapient.kpidashboard.apis.enums.KPICode;
-import com.publicissapient.kpidashboard.apis.enums.KPISource;
 import com.publicissapient.kpidashboard.apis.model.AccountHierarchyData;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContextRule;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.TreeAggregatorDetail;
 import com.publicissapient.kpidashboard.apis.util.KPIHelperUtil;
@@ -52,6 +53,8 @@ import com.publicissapient.kpidashboard.common.model.scm.User;
 @RunWith(MockitoJUnitRunner.class)
 public class ScmPrRevertRateServiceImplTest {
 
+	@Rule public final KpiExecutionContextRule kpiExecutionContext = new KpiExecutionContextRule();
+
 	@InjectMocks private ScmPrRevertRateServiceImpl service;
 
 	@Mock private ConfigHelperService configHelperService;
@@ -115,9 +118,7 @@ public class ScmPrRevertRateServiceImplTest {
 
 		when(configHelperService.getToolItemMap()).thenReturn(toolMap);
 		when(kpiHelperService.populateSCMToolsRepoList(anyMap())).thenReturn(toolList);
-		when(cacheService.getFromApplicationCache(
-						Constant.KPI_REQUEST_TRACKER_ID_KEY + KPISource.BITBUCKET.name()))
-				.thenReturn("trackerid");
+		kpiExecutionContext.bindRequestTrackerId("trackerid");
 		when(cacheService.getAdditionalFilterHierarchyLevel()).thenReturn(new HashMap<>());
 		when(cacheService.cacheProjectConfigMapData()).thenReturn(new HashMap<>());
 		when(configHelperService.calculateCriteria()).thenReturn(new HashMap<>());
@@ -253,9 +254,7 @@ public class ScmPrRevertRateServiceImplTest {
 
 	@Test
 	public void testGetKpiData_withExcelTrackerId() throws Exception {
-		when(cacheService.getFromApplicationCache(
-						Constant.KPI_REQUEST_TRACKER_ID_KEY + KPISource.BITBUCKET.name()))
-				.thenReturn("Excel-Bitbucket-abc123");
+		kpiExecutionContext.bindRequestTrackerId("Excel-Bitbucket-abc123");
 
 		List<ScmMergeRequests> mrs = new ArrayList<>();
 		mrs.add(createMergeRequest("dev@example.com", true, "merged", "Revert: bug fix"));
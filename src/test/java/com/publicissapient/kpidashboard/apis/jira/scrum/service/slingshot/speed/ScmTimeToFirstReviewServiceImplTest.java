@@ -18,6 +18,7 @@ import org.bson.types.ObjectId;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.RegisterExtension;
 import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
@@ -36,8 +37,8 @@ import com.publicissapient.kpidashboard.apis.common.service.impl.KpiHelperServic
 import com.publicissapient.kpidashboard.apis.config.CustomApiConfig;
 import com.publicissapient.kpidashboard.apis.constant.Constant;
 import com.publicissapient.kpidashboard.apis.enums.KPICode;
-import com.publicissapient.kpidashboard.apis.enums.KPISource;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContextRule;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.Node;
 import com.publicissapient.kpidashboard.apis.model.ProjectFilter;
@@ -57,6 +58,9 @@ import com.publicissapient.kpidashboard.common.model.scm.User;
 @MockitoSettings(strictness = Strictness.LENIENT)
 class ScmTimeToFirstReviewServiceImplTest {
 
+	@RegisterExtension
+	final KpiExecutionContextRule kpiExecutionContext = new KpiExecutionContextRule();
+
 	@Mock private ConfigHelperService configHelperService;
 	@Mock private KpiHelperService kpiHelperService;
 	@Mock private ScmKpiHelperService scmKpiHelperService;
@@ -969,9 +973,7 @@ class ScmTimeToFirstReviewServiceImplTest {
 	}
 
 	private void stubTrackerId(String trackerId) {
-		when(cacheService.getFromApplicationCache(
-						Constant.KPI_REQUEST_TRACKER_ID_KEY + KPISource.BITBUCKET.name()))
-				.thenReturn(trackerId);
+		kpiExecutionContext.bindRequestTrackerId(trackerId);
 	}
 
 	private void setupDeveloperKpiHelperMocks(MockedStatic<DeveloperKpiHelper> devHelperMock) {
@@ -46,13 +46,16 @@ import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.MockedStatic.Verification;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import com.publicissapient.kpidashboard.apis.abac.UserAuthorizedProjectsService;
 import com.publicissapient.kpidashboard.apis.auth.apikey.ApiKeyAuthenticationService;
 import com.publicissapient.kpidashboard.apis.common.service.CacheService;
+import com.publicissapient.kpidashboard.apis.common.service.impl.KpiExecutionEngine;
 import com.publicissapient.kpidashboard.apis.common.service.impl.KpiHelperService;
+import com.publicissapient.kpidashboard.apis.common.service.impl.KpiRequestCoalescer;
 import com.publicissapient.kpidashboard.apis.data.KpiRequestFactory;
 import com.publicissapient.kpidashboard.apis.enums.KPICode;
 import com.publicissapient.kpidashboard.apis.errors.EntityNotFoundException;
@@ -69,6 +72,8 @@ import com.publicissapient.kpidashboard.common.constant.CommonConstant;
 import com.publicissapient.kpidashboard.common.model.application.FieldMapping;
 import com.publicissapient.kpidashboard.common.model.application.ProjectBasicConfig;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 /**
  * @author pkum34
  */
@@ -89,6 +94,10 @@ public class JiraServiceKanbanRTest {
 	@Mock private CacheService cacheService;
 	@Mock private TestService service;
 
+	@Spy private KpiExecutionEngine kpiExecutionEngine =
+			new KpiExecutionEngine(0, 0, 0, new SimpleMeterRegistry());
+	@Spy private KpiRequestCoalescer kpiRequestCoalescer =
+			new KpiRequestCoalescer(0, new SimpleMeterRegistry());
 	@InjectMocks private JiraServiceKanbanR jiraServiceKanbanR;
 
 	private List<AccountHierarchyDataKanban> accountHierarchyDataList = new ArrayList<>();
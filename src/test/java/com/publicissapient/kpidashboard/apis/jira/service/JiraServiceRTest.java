@@ -24,7 +24,11 @@ import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
@@ -48,18 +52,22 @@ import org.mockito.MockedStatic;
 import org.mockito.MockedStatic.Verification;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import com.publicissapient.kpidashboard.apis.abac.UserAuthorizedProjectsService;
 import com.publicissapient.kpidashboard.apis.appsetting.service.ConfigHelperService;
 import com.publicissapient.kpidashboard.apis.common.service.CacheService;
+import com.publicissapient.kpidashboard.apis.common.service.impl.KpiExecutionEngine;
 import com.publicissapient.kpidashboard.apis.common.service.impl.KpiHelperService;
+import com.publicissapient.kpidashboard.apis.common.service.impl.KpiRequestCoalescer;
 import com.publicissapient.kpidashboard.apis.config.CustomApiConfig;
 import com.publicissapient.kpidashboard.apis.data.AccountHierarchyFilterDataFactory;
 import com.publicissapient.kpidashboard.apis.data.FieldMappingDataFactory;
 import com.publicissapient.kpidashboard.apis.data.HierachyLevelFactory;
 import com.publicissapient.kpidashboard.apis.enums.Filters;
 import com.publicissapient.kpidashboard.apis.enums.KPICode;
+import com.publicissapient.kpidashboard.apis.enums.KPISource;
 import com.publicissapient.kpidashboard.apis.errors.ApplicationException;
 import com.publicissapient.kpidashboard.apis.errors.EntityNotFoundException;
 import com.publicissapient.kpidashboard.apis.filter.service.FilterHelperService;
@@ -78,6 +86,8 @@ import com.publicissapient.kpidashboard.common.repository.jira.JiraIssueReleaseS
 import com.publicissapient.kpidashboard.common.repository.jira.JiraIssueRepository;
 import com.publicissapient.kpidashboard.common.repository.jira.SprintRepository;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 /**
  * @author tauakram
  */
@@ -91,6 +101,10 @@ public class JiraServiceRTest {
 	@Mock KpiHelperService kpiHelperService;
 	@Mock FilterHelperService filterHelperService;
 	List<KpiElement> mockKpiElementList = new ArrayList<>();
+	@Spy private KpiExecutionEngine kpiExecutionEngine =
+			new KpiExecutionEngine(0, 0, 0, new SimpleMeterRegistry());
+	@Spy private KpiRequestCoalescer kpiRequestCoalescer =
+			new KpiRequestCoalescer(0, new SimpleMeterRegistry());
 	@InjectMocks private JiraServiceR jiraServiceR;
 	@Mock private CustomApiConfig customApiConfig;
 	@Mock private CacheService cacheService;
@@ -229,6 +243,38 @@ public class JiraServiceRTest {
 				"Kpi Name :", resultList.get(0).getResponseCode(), equalTo(CommonConstant.KPI_PASSED));
 	}
 
+	@Test
+	public void processCoalescesRequestOfCachedResponse() throws Exception {
+		KpiRequest kpiRequest = createKpiRequest(5);
+		when(kpiHelperService.getProjectKeyCache(any(), any(), anyBoolean()))
+				.thenReturn(kpiRequest.getIds());
+		when(cacheService.getKpiCacheKey(any(), any(), any(), any())).thenReturn("key");
+		jiraServiceR.process(kpiRequest);
+		verify(kpiRequestCoalescer).computeOnce(any(), eq(KPISource.JIRA.name()), eq("key"), any());
+	}
+
+	@Test
+	public void processDoesNotCoalesceRequestOfGroupExcludedFromCache() throws Exception {
+		KpiRequest kpiRequest = createKpiRequest(5);
+		when(kpiHelperService.getProjectKeyCache(any(), any(), anyBoolean()))
+				.thenReturn(kpiRequest.getIds());
+		lenient().when(cacheService.getKpiCacheKey(any(), any(), any(), any())).thenReturn("key");
+		when(customApiConfig.getGroupIdsToExcludeFromCache()).thenReturn(List.of(1));
+		jiraServiceR.process(kpiRequest);
+		verify(kpiRequestCoalescer).computeOnce(any(), eq(KPISource.JIRA.name()), isNull(), any());
+	}
+
+	@Test
+	public void processDoesNotCoalesceSingleLeadTimeKpiRequest() throws Exception {
+		KpiRequest kpiRequest = createKpiRequest(5);
+		kpiRequest.getKpiList().get(0).setKpiId("kpi171");
+		when(kpiHelperService.getProjectKeyCache(any(), any(), anyBoolean()))
+				.thenReturn(kpiRequest.getIds());
+		lenient().when(cacheService.getKpiCacheKey(any(), any(), any(), any())).thenReturn("key");
+		jiraServiceR.process(kpiRequest);
+		verify(kpiRequestCoalescer).computeOnce(any(), eq(KPISource.JIRA.name()), isNull(), any());
+	}
+
 	@Test
 	public void testProcess_Application() throws Exception {
 		when(kpiHelperService.isToolConfigured(any(), any(), any())).thenReturn(true);
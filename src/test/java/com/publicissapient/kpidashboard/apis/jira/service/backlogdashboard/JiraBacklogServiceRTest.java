@@ -41,11 +41,13 @@ import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import com.publicissapient.kpidashboard.apis.abac.UserAuthorizedProjectsService;
 import com.publicissapient.kpidashboard.apis.appsetting.service.ConfigHelperService;
 import com.publicissapient.kpidashboard.apis.common.service.CacheService;
+import com.publicissapient.kpidashboard.apis.common.service.impl.KpiExecutionEngine;
 import com.publicissapient.kpidashboard.apis.common.service.impl.KpiHelperService;
 import com.publicissapient.kpidashboard.apis.config.CustomApiConfig;
 import com.publicissapient.kpidashboard.apis.data.AccountHierarchyFilterDataFactory;
@@ -71,6 +73,8 @@ import com.publicissapient.kpidashboard.common.repository.jira.JiraIssueReleaseS
 import com.publicissapient.kpidashboard.common.repository.jira.JiraIssueRepository;
 import com.publicissapient.kpidashboard.common.repository.jira.SprintRepository;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 @RunWith(MockitoJUnitRunner.class)
 public class JiraBacklogServiceRTest {
 	public Map<String, ProjectBasicConfig> projectConfigMap = new HashMap<>();
@@ -83,6 +87,8 @@ public class JiraBacklogServiceRTest {
 	@Mock JiraIssueRepository jiraIssueRepository;
 	@Mock JiraIssueCustomHistoryRepository jiraIssueCustomHistoryRepository;
 	@Mock ConfigHelperService configHelperService;
+	@Spy private KpiExecutionEngine kpiExecutionEngine =
+			new KpiExecutionEngine(0, 0, 0, new SimpleMeterRegistry());
 	@InjectMocks private JiraBacklogServiceR jiraServiceR;
 	@Mock private CacheService cacheService;
 	@Mock private FlowLoadServiceImpl flowLoadService;
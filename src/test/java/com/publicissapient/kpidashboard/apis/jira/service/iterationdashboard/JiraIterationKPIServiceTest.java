@@ -14,14 +14,17 @@
  ******************************************************************************/
 package com.publicissapient.kpidashboard.apis.jira.service.iterationdashboard;
 
+import static org.junit.Assert.assertEquals;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertNotNull;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -44,6 +47,7 @@ import com.publicissapient.kpidashboard.common.model.jira.IterationStatus;
 import com.publicissapient.kpidashboard.common.model.jira.JiraIssue;
 import com.publicissapient.kpidashboard.common.model.jira.JiraIssueCustomHistory;
 import com.publicissapient.kpidashboard.common.model.jira.SprintDetails;
+import com.publicissapient.kpidashboard.common.model.jira.SprintIssue;
 
 @ExtendWith(SpringExtension.class)
 public class JiraIterationKPIServiceTest {
@@ -150,6 +154,20 @@ public class JiraIterationKPIServiceTest {
 		assertNotNull(jiraKPIService.getSprintDetailsFromBaseClass());
 	}
 
+	@Test
+	public void testGetSprintDetailsFromBaseClassCopiesIssueSets() {
+		SprintIssue sprintIssue = new SprintIssue();
+		sprintIssue.setNumber("123");
+		SprintDetails sprintDetails = new SprintDetails();
+		sprintDetails.setSprintID("sprint1");
+		sprintDetails.setNotCompletedIssues(new HashSet<>(Set.of(sprintIssue)));
+		when(jiraService.getCurrentSprintDetails()).thenReturn(sprintDetails);
+
+		jiraKPIService.getSprintDetailsFromBaseClass().getNotCompletedIssues().clear();
+
+		assertEquals(1, sprintDetails.getNotCompletedIssues().size());
+	}
+
 	@Test
 	public void testGetJiraIssuesFromBaseClass() {
 		List<JiraIssue> jiraIssues = getJiraIssues();
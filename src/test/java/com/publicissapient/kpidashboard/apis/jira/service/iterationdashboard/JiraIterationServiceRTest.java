@@ -16,12 +16,14 @@ package com.publicissapient.kpidashboard.apis.jira.service.iterationdashboard;
 
 import static org.hamcrest.Matchers.equalTo;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.when;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -42,10 +44,12 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import com.publicissapient.kpidashboard.apis.abac.UserAuthorizedProjectsService;
 import com.publicissapient.kpidashboard.apis.common.service.CacheService;
+import com.publicissapient.kpidashboard.apis.common.service.impl.KpiExecutionEngine;
 import com.publicissapient.kpidashboard.apis.common.service.impl.KpiHelperService;
 import com.publicissapient.kpidashboard.apis.data.AccountHierarchyFilterDataFactory;
 import com.publicissapient.kpidashboard.apis.data.AdditionalFilterCategoryFactory;
@@ -69,11 +73,15 @@ import com.publicissapient.kpidashboard.common.model.application.DataCount;
 import com.publicissapient.kpidashboard.common.model.application.FieldMapping;
 import com.publicissapient.kpidashboard.common.model.application.HierarchyLevel;
 import com.publicissapient.kpidashboard.common.model.application.ProjectBasicConfig;
+import com.publicissapient.kpidashboard.common.model.jira.JiraHistoryChangeLog;
+import com.publicissapient.kpidashboard.common.model.jira.JiraIssueCustomHistory;
 import com.publicissapient.kpidashboard.common.model.jira.SprintDetails;
 import com.publicissapient.kpidashboard.common.repository.jira.JiraIssueCustomHistoryRepository;
 import com.publicissapient.kpidashboard.common.repository.jira.JiraIssueRepository;
 import com.publicissapient.kpidashboard.common.repository.jira.SprintRepository;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 @RunWith(MockitoJUnitRunner.Silent.class)
 public class JiraIterationServiceRTest {
 
@@ -84,6 +92,8 @@ public class JiraIterationServiceRTest {
 	@Mock SprintRepository sprintRepository;
 	@Mock JiraIssueRepository jiraIssueRepository;
 	@Mock JiraIssueCustomHistoryRepository jiraIssueCustomHistoryRepository;
+	@Spy private KpiExecutionEngine kpiExecutionEngine =
+			new KpiExecutionEngine(0, 0, 0, new SimpleMeterRegistry());
 	@InjectMocks private JiraIterationServiceR jiraServiceR;
 	@Mock private CacheService cacheService;
 	@Mock private IterationBurnupServiceImpl iterationBurnupService;
@@ -232,6 +242,39 @@ public class JiraIterationServiceRTest {
 		assertEquals(0, resultList.size());
 	}
 
+	@Test
+	public void processSharesSortedUnmodifiableChangeLogs() throws Exception {
+		JiraIssueCustomHistory history = new JiraIssueCustomHistory();
+		history.setStoryID("TEST-1");
+		history.setStatusUpdationLog(
+				new ArrayList<>(
+						List.of(
+								changeLog("Closed", LocalDateTime.of(2024, 1, 3, 0, 0)),
+								changeLog("In Progress", LocalDateTime.of(2024, 1, 2, 0, 0)))));
+		when(jiraIssueCustomHistoryRepository.findByStoryIDInAndBasicProjectConfigIdIn(any(), any()))
+				.thenReturn(List.of(history));
+		when(kpiHelperService.isToolConfigured(any(), any(), any())).thenReturn(true);
+		List<List<JiraHistoryChangeLog>> sharedLogs = new ArrayList<>();
+		when(iterationBurnupService.getKpiData(any(), any(), any()))
+				.thenAnswer(
+						invocation -> {
+							sharedLogs.add(
+									jiraServiceR
+											.getJiraIssuesCustomHistoryForCurrentSprint()
+											.get(0)
+											.getStatusUpdationLog());
+							return new KpiElement();
+						});
+
+		jiraServiceR.process(kpiRequest);
+
+		List<JiraHistoryChangeLog> statusLog = sharedLogs.get(0);
+		assertEquals(
+				List.of("In Progress", "Closed"),
+				statusLog.stream().map(JiraHistoryChangeLog::getChangedTo).toList());
+		assertThrows(UnsupportedOperationException.class, () -> statusLog.sort(null));
+	}
+
 	@Test
 	public void getJiraIssuesForCurrentSprint() {
 		jiraServiceR.getJiraIssuesForCurrentSprint();
@@ -264,6 +307,13 @@ public class JiraIterationServiceRTest {
 		return kpiRequest;
 	}
 
+	private static JiraHistoryChangeLog changeLog(String changedTo, LocalDateTime updatedOn) {
+		JiraHistoryChangeLog changeLog = new JiraHistoryChangeLog();
+		changeLog.setChangedTo(changedTo);
+		changeLog.setUpdatedOn(updatedOn);
+		return changeLog;
+	}
+
 	private void addKpiElement(
 			List<KpiElement> kpiList, String kpiId, String kpiName, String category, String kpiUnit) {
 		KpiElement kpiElement = new KpiElement();
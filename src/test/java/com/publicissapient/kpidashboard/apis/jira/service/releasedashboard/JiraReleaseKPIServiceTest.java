@@ -14,6 +14,8 @@
  ******************************************************************************/
 package com.publicissapient.kpidashboard.apis.jira.service.releasedashboard;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertNotNull;
@@ -153,6 +155,16 @@ public class JiraReleaseKPIServiceTest {
 		assertNotNull(jiraKPIService.getFilteredReleaseJiraIssuesFromBaseClass(fieldMapping));
 	}
 
+	@Test
+	public void testGetFilteredReleaseJiraIssuesFromBaseClass_ReturnsCopyOfReleaseIssues() {
+		List<JiraIssue> jiraIssues = getJiraIssues();
+		when(jiraService.getJiraIssuesForSelectedRelease()).thenReturn(jiraIssues);
+		List<JiraIssue> filteredIssues = jiraKPIService.getFilteredReleaseJiraIssuesFromBaseClass(null);
+		assertNotSame(jiraIssues, filteredIssues);
+		filteredIssues.clear();
+		assertEquals(1, jiraIssues.size());
+	}
+
 	@Test
 	public void testGetJiraIssueReleaseStatus() {
 		JiraIssueReleaseStatus jiraIssueReleaseStatus = new JiraIssueReleaseStatus();
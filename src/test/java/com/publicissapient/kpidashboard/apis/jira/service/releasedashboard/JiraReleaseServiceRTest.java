@@ -49,6 +49,7 @@ import org.mockito.junit.MockitoJUnitRunner;
 import com.publicissapient.kpidashboard.apis.abac.UserAuthorizedProjectsService;
 import com.publicissapient.kpidashboard.apis.appsetting.service.ConfigHelperService;
 import com.publicissapient.kpidashboard.apis.common.service.CacheService;
+import com.publicissapient.kpidashboard.apis.common.service.impl.KpiExecutionEngine;
 import com.publicissapient.kpidashboard.apis.common.service.impl.KpiHelperService;
 import com.publicissapient.kpidashboard.apis.data.AccountHierarchyFilterDataFactory;
 import com.publicissapient.kpidashboard.apis.data.FieldMappingDataFactory;
@@ -74,6 +75,8 @@ import com.publicissapient.kpidashboard.common.repository.jira.JiraIssueReleaseS
 import com.publicissapient.kpidashboard.common.repository.jira.JiraIssueRepository;
 import com.publicissapient.kpidashboard.common.repository.jira.SprintRepository;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 @RunWith(MockitoJUnitRunner.Silent.class)
 public class JiraReleaseServiceRTest {
 
@@ -85,6 +88,8 @@ public class JiraReleaseServiceRTest {
 	@Mock JiraIssueRepository jiraIssueRepository;
 	@Mock JiraIssueCustomHistoryRepository jiraIssueCustomHistoryRepository;
 	@Mock ConfigHelperService configHelperService;
+	@Spy private KpiExecutionEngine kpiExecutionEngine =
+			new KpiExecutionEngine(0, 0, 0, new SimpleMeterRegistry());
 	@InjectMocks @Spy private JiraReleaseServiceR jiraServiceR;
 	@Mock private CacheService cacheService;
 	@Mock private ReleaseBurnUpServiceImpl releaseBurnupService;
@@ -33,7 +33,6 @@ import org.springframework.http.HttpMethod;
 
 import com.publicissapient.kpidashboard.apis.config.CustomApiConfig;
 import com.publicissapient.kpidashboard.common.model.application.RequestLog;
-import com.publicissapient.kpidashboard.common.repository.application.RequestLogRepository;
 
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletInputStream;
@@ -43,7 +42,7 @@ import jakarta.servlet.http.HttpServletResponse;
 @RunWith(MockitoJUnitRunner.class)
 public class LoggingFilterTest {
 
-	@Mock private RequestLogRepository requestLogRepository;
+	@Mock private RequestLogWriter requestLogWriter;
 
 	@InjectMocks @Autowired private LoggingFilter loggingFilter;
 
@@ -63,11 +62,10 @@ public class LoggingFilterTest {
 		when(httpServletRequest.getRequestURI()).thenReturn("Success");
 		when(httpServletRequest.getMethod()).thenReturn(HttpMethod.PUT.toString());
 
-		when(requestLogRepository.save(any(RequestLog.class))).thenReturn(new RequestLog());
 		when(httpServletRequest.getContentType()).thenReturn("application/json;charset=UTF-8");
 		when(httpServletResponse.getContentType()).thenReturn("application/json;charset=UTF-8");
 		loggingFilter.doFilter(httpServletRequest, httpServletResponse, filterChain);
-		verify(requestLogRepository, times(1)).save(any(RequestLog.class));
+		verify(requestLogWriter, times(1)).submit(any(RequestLog.class), any(), any());
 	}
 
 	@Test
@@ -85,12 +83,11 @@ public class LoggingFilterTest {
 		when(httpServletRequest.getInputStream()).thenReturn(servletInputStream);
 		when(httpServletRequest.getRequestURI()).thenReturn("Success");
 		when(httpServletRequest.getMethod()).thenReturn(HttpMethod.POST.toString());
-		when(requestLogRepository.save(any(RequestLog.class))).thenReturn(new RequestLog());
 		when(httpServletRequest.getContentType()).thenReturn("application/json;charset=UTF-8");
 		when(httpServletResponse.getContentType()).thenReturn("application/json;charset=UTF-8");
 
 		loggingFilter.doFilter(httpServletRequest, httpServletResponse, filterChain);
-		verify(requestLogRepository, times(1)).save(any(RequestLog.class));
+		verify(requestLogWriter, times(1)).submit(any(RequestLog.class), any(), any());
 	}
 
 	@Test
@@ -99,11 +96,10 @@ public class LoggingFilterTest {
 		when(httpServletRequest.getInputStream()).thenReturn(servletInputStream);
 		when(httpServletRequest.getRequestURI()).thenReturn("Success");
 		when(httpServletRequest.getMethod()).thenReturn(HttpMethod.DELETE.toString());
-		when(requestLogRepository.save(any(RequestLog.class))).thenReturn(new RequestLog());
 		when(httpServletRequest.getContentType()).thenReturn("application/json;charset=UTF-8");
 		when(httpServletResponse.getContentType()).thenReturn("application/json;charset=UTF-8");
 
 		loggingFilter.doFilter(httpServletRequest, httpServletResponse, filterChain);
-		verify(requestLogRepository, times(1)).save(any(RequestLog.class));
+		verify(requestLogWriter, times(1)).submit(any(RequestLog.class), any(), any());
 	}
 }
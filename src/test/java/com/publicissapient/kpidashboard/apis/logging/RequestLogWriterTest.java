@@ -0,0 +1,86 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+
+package com.publicissapient.kpidashboard.apis.logging;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import com.mongodb.BasicDBObject;
+import com.publicissapient.kpidashboard.apis.config.CustomApiConfig;
+import com.publicissapient.kpidashboard.common.model.application.RequestLog;
+import com.publicissapient.kpidashboard.common.repository.application.RequestLogRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@RunWith(MockitoJUnitRunner.class)
+public class RequestLogWriterTest {
+
+	@Mock private RequestLogRepository requestLogRepository;
+	@Mock private CustomApiConfig customApiConfig;
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void writesQueuedLogsInBatchWithParsedBodies() {
+		when(customApiConfig.getRequestLogQueueCapacity()).thenReturn(10);
+		when(customApiConfig.getRequestLogBatchSize()).thenReturn(10);
+		RequestLogWriter requestLogWriter =
+				new RequestLogWriter(requestLogRepository, customApiConfig, new SimpleMeterRegistry());
+
+		assertTrue(requestLogWriter.submit(new RequestLog(), "{\"kpiId\":\"kpi14\"}", null));
+		assertTrue(requestLogWriter.submit(new RequestLog(), "not json", null));
+		requestLogWriter.start();
+		requestLogWriter.stop();
+
+		ArgumentCaptor<List<RequestLog>> batch = ArgumentCaptor.forClass(List.class);
+		verify(requestLogRepository).saveAll(batch.capture());
+		assertEquals(2, batch.getValue().size());
+		assertEquals(
+				"kpi14", ((BasicDBObject) batch.getValue().get(0).getRequestBody()).get("kpiId"));
+	}
+
+	@Test
+	public void dropsLogsWhenQueueIsFull() {
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		when(customApiConfig.getRequestLogQueueCapacity()).thenReturn(1);
+		RequestLogWriter requestLogWriter =
+				new RequestLogWriter(requestLogRepository, customApiConfig, meterRegistry);
+
+		assertTrue(requestLogWriter.submit(new RequestLog(), null, null));
+		assertFalse(requestLogWriter.submit(new RequestLog(), null, null));
+
+		assertEquals(
+				1.0,
+				meterRegistry.get("request.log.dropped").tag("reason", "overload").counter().count(),
+				0);
+		verify(requestLogRepository, never()).saveAll(anyList());
+	}
+}
@@ -0,0 +1,78 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+
+
+package com.publicissapient.kpidashboard.apis.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Test;
+
+public class KanbanStatusTimelineTest {
+
+	private static final LocalDate DAY_1 = LocalDate.parse("2022-07-01");
+	private static final LocalDate DAY_2 = LocalDate.parse("2022-07-02");
+	private static final LocalDate DAY_3 = LocalDate.parse("2022-07-03");
+
+	@Test
+	public void countsIssuesOfEachStatusByDay() {
+		KanbanStatusTimeline statusTimeline =
+				KanbanStatusTimeline.builder()
+						.add("TEST-1", "Open", DAY_1, DAY_2)
+						.add("TEST-1", "Closed", DAY_3, DAY_3)
+						.add("TEST-2", "Open", DAY_2, DAY_3)
+						.build();
+
+		assertEquals(1L, statusTimeline.count("Open", DAY_1));
+		assertEquals(2L, statusTimeline.count("Open", DAY_2));
+		assertEquals(
+				Map.of("Open", 1L, "Closed", 1L, "Dropped", 0L),
+				statusTimeline.countByStatus(Set.of("Open", "Closed", "Dropped"), DAY_3));
+		assertEquals(0L, statusTimeline.count("Open", DAY_3.plusDays(1)));
+		assertEquals(Set.of("TEST-1", "TEST-2"), statusTimeline.getIssues("Open", DAY_2));
+	}
+
+	@Test
+	public void overlappingDaysOfAnIssueAreCountedOnce() {
+		KanbanStatusTimeline statusTimeline =
+				KanbanStatusTimeline.builder()
+						.add("TEST-1", "Open", DAY_1, DAY_1)
+						.add("TEST-1", "Open", DAY_1, DAY_3)
+						.add("TEST-1", "In Progress", DAY_3, DAY_3)
+						.build();
+
+		assertEquals(1L, statusTimeline.count("Open", DAY_1));
+		assertEquals(1L, statusTimeline.count("Open", DAY_3));
+		assertEquals(1L, statusTimeline.count("In Progress", DAY_3));
+	}
+
+	@Test
+	public void issuesWithoutStoryIdAreNotCounted() {
+		KanbanStatusTimeline statusTimeline =
+				KanbanStatusTimeline.builder().add(null, "Open", DAY_1, DAY_2).build();
+
+		assertEquals(Set.of("Open"), statusTimeline.getStatuses());
+		assertEquals(0L, statusTimeline.count("Open", DAY_1));
+		assertTrue(KanbanStatusTimeline.empty().isEmpty());
+	}
+}
@@ -0,0 +1,65 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+
+package com.publicissapient.kpidashboard.apis.model;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.rules.ExternalResource;
+
+/**
+ * Binds a {@link KpiExecutionContext} to the test thread for the KPI services reading the request
+ * tracker id of their request, and unbinds it after each test. Registered as a {@code @Rule} in
+ * JUnit 4 tests and with {@code @RegisterExtension} in JUnit 5 tests.
+ */
+public class KpiExecutionContextRule extends ExternalResource implements AfterEachCallback {
+
+	private KpiExecutionContext.Scope scope;
+
+	/**
+	 * Binds a context of a request with the tracker id until the end of the test.
+	 *
+	 * @param requestTrackerId tracker id of the request computing the KPIs
+	 */
+	public void bindRequestTrackerId(String requestTrackerId) {
+		unbind();
+		KpiRequest kpiRequest = mock(KpiRequest.class);
+		when(kpiRequest.getRequestTrackerId()).thenReturn(requestTrackerId);
+		scope = KpiExecutionContext.of(kpiRequest, null, Long.MAX_VALUE).open();
+	}
+
+	@Override
+	protected void after() {
+		unbind();
+	}
+
+	@Override
+	public void afterEach(ExtensionContext extensionContext) {
+		unbind();
+	}
+
+	private void unbind() {
+		if (null != scope) {
+			scope.close();
+			scope = null;
+		}
+	}
+}
@@ -0,0 +1,111 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+
+
+package com.publicissapient.kpidashboard.apis.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.publicissapient.kpidashboard.apis.auth.model.UserInfoPrincipal;
+
+public class KpiExecutionContextTest {
+
+	@Test
+	public void contextIsBoundUntilScopeIsClosed() {
+		KpiExecutionContext outer = KpiExecutionContext.of(kpiRequest("Excel-Jira"), null, 0L);
+		KpiExecutionContext inner = KpiExecutionContext.of(kpiRequest("Jira"), null, 0L);
+
+		try (KpiExecutionContext.Scope outerScope = outer.open()) {
+			try (KpiExecutionContext.Scope innerScope = inner.open()) {
+				assertEquals(inner.getRequestTrackerId(), KpiExecutionContext.currentRequestTrackerId());
+			}
+			assertEquals(outer.getRequestTrackerId(), KpiExecutionContext.currentRequestTrackerId());
+		}
+
+		assertNull(KpiExecutionContext.current());
+		assertEquals("", KpiExecutionContext.currentRequestTrackerId());
+		assertFalse(
+				KpiExecutionContext.isCurrentExcelRequest(KpiExecutionContext.currentRequestTrackerId()));
+	}
+
+	@Test
+	public void userIsReadFromTheBoundContext() {
+		UserInfoPrincipal requestUser = new UserInfoPrincipal("requestUser", null, "STANDARD");
+		UserInfoPrincipal loggedInUser = new UserInfoPrincipal("loggedInUser", null, "STANDARD");
+		KpiExecutionContext context = KpiExecutionContext.of(kpiRequest("Jira"), requestUser, 0L);
+
+		try (KpiExecutionContext.Scope scope = context.open()) {
+			assertEquals("requestUser", KpiExecutionContext.current().getUsername());
+			assertEquals(requestUser, KpiExecutionContext.currentUser(() -> loggedInUser));
+		}
+
+		assertNull(KpiExecutionContext.of(kpiRequest("Jira"), null, 0L).getUsername());
+		assertEquals(loggedInUser, KpiExecutionContext.currentUser(() -> loggedInUser));
+	}
+
+	@Test
+	public void contextIsImmutableCopyOfRequest() {
+		KpiRequest kpiRequest = kpiRequest("Excel-Sonar");
+		List<String> sprintIncluded = new ArrayList<>(List.of("CLOSED"));
+		kpiRequest.setSprintIncluded(sprintIncluded);
+
+		KpiExecutionContext context = KpiExecutionContext.of(kpiRequest, null, 0L);
+		sprintIncluded.add("ACTIVE");
+
+		assertTrue(context.isExcelRequest());
+		assertTrue(context.isExpired());
+		assertEquals(List.of("CLOSED"), context.getSprintIncluded());
+		assertFalse(KpiExecutionContext.of(kpiRequest("Jira"), null, 0L).isExcelRequest());
+	}
+
+	@Test
+	public void excelModeIsReadFromTheBoundContext() {
+		String excelTrackerId = kpiRequest("Excel-Jira").getRequestTrackerId();
+		String trackerId = kpiRequest("Jira").getRequestTrackerId();
+
+		try (KpiExecutionContext.Scope scope =
+				KpiExecutionContext.of(kpiRequest("Jira"), null, 0L).open()) {
+			assertFalse(KpiExecutionContext.isCurrentExcelRequest(excelTrackerId));
+		}
+		try (KpiExecutionContext.Scope scope =
+				KpiExecutionContext.streamingExcelRows(row -> {}).open()) {
+			assertTrue(KpiExecutionContext.isCurrentExcelRequest(excelTrackerId));
+		}
+
+		assertTrue(KpiExecutionContext.isCurrentExcelRequest(excelTrackerId));
+		assertFalse(KpiExecutionContext.isCurrentExcelRequest(trackerId));
+		assertFalse(KpiExecutionContext.isCurrentExcelRequest(null));
+	}
+
+	private static KpiRequest kpiRequest(String kpiSource) {
+		KpiElement kpiElement = new KpiElement();
+		kpiElement.setKpiSource(kpiSource);
+		KpiRequest kpiRequest = new KpiRequest();
+		kpiRequest.setKpiList(List.of(kpiElement));
+		kpiRequest.setRequestTrackerId();
+		return kpiRequest;
+	}
+}
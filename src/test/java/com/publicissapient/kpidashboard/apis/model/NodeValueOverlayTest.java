@@ -0,0 +1,89 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+
+package com.publicissapient.kpidashboard.apis.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import com.publicissapient.kpidashboard.common.model.application.ProjectHierarchy;
+
+public class NodeValueOverlayTest {
+
+	@Test
+	public void valueWrittenInsideOverlayDoesNotLeakToTree() {
+		Node node = new Node(0, "sprint1", "Sprint 1", "project1", "sprint", new ProjectHierarchy());
+
+		try (NodeValueOverlay overlay = NodeValueOverlay.open()) {
+			assertEquals(0, node.getValue());
+			node.setValue(10);
+			assertEquals(10, node.getValue());
+			assertEquals(1, overlay.size());
+		}
+
+		assertEquals(0, node.getValue());
+	}
+
+	@Test
+	public void nestedOverlayHidesOuterValuesUntilClosed() {
+		Node node = new Node(null, "sprint1", "Sprint 1", "project1", "sprint", new ProjectHierarchy());
+
+		try (NodeValueOverlay outer = NodeValueOverlay.open()) {
+			node.setValue("outer");
+			try (NodeValueOverlay inner = NodeValueOverlay.open()) {
+				assertNull(node.getValue());
+				node.setValue("inner");
+				assertEquals("inner", node.getValue());
+			}
+			assertEquals("outer", node.getValue());
+		}
+
+		assertNull(node.getValue());
+	}
+
+	@Test
+	public void kpiViewSharesNodesButNotLists() {
+		Node root = new Node(0, "root", "root", null, "root", new ProjectHierarchy());
+		Node sprint1 = new Node(0, "sprint1", "Sprint 1", "root", "sprint", new ProjectHierarchy());
+		Node sprint2 = new Node(0, "sprint2", "Sprint 2", "root", "sprint", new ProjectHierarchy());
+		Map<String, List<Node>> leafNodes = new HashMap<>();
+		leafNodes.put("sprint", new ArrayList<>(List.of(sprint1, sprint2)));
+		Map<String, Node> mapTmp = new HashMap<>();
+		mapTmp.put("sprint1", sprint1);
+		TreeAggregatorDetail treeAggregatorDetail =
+				new TreeAggregatorDetail(root, leafNodes, mapTmp, new HashMap<>());
+
+		TreeAggregatorDetail view = treeAggregatorDetail.createKpiView();
+		view.getMapOfListOfLeafNodes().get("sprint").remove(0);
+
+		assertSame(root, view.getRoot());
+		assertSame(mapTmp, view.getMapTmp());
+		assertNotSame(leafNodes.get("sprint"), view.getMapOfListOfLeafNodes().get("sprint"));
+		assertEquals(2, treeAggregatorDetail.getMapOfListOfLeafNodes().get("sprint").size());
+		assertSame(sprint2, view.getMapOfListOfLeafNodes().get("sprint").get(0));
+	}
+}
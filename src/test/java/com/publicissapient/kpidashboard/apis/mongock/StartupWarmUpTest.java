@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+
+package com.publicissapient.kpidashboard.apis.mongock;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class StartupWarmUpTest {
+
+	private SimpleMeterRegistry meterRegistry;
+	private StartupWarmUp startupWarmUp;
+
+	@Before
+	public void setup() {
+		meterRegistry = new SimpleMeterRegistry();
+		startupWarmUp = new StartupWarmUp(2, meterRegistry);
+	}
+
+	@Test
+	public void runsIndependentStepsInParallelAndDependentStepsAfter() {
+		CountDownLatch bothRunning = new CountDownLatch(2);
+		List<String> completed = new CopyOnWriteArrayList<>();
+		assertEquals(Status.OUT_OF_SERVICE, startupWarmUp.health().getStatus());
+
+		startupWarmUp.run(
+				StartupWarmUp.steps()
+						.add("a", () -> awaitBoth(bothRunning, completed, "a"))
+						.add("b", () -> awaitBoth(bothRunning, completed, "b"))
+						.add("c", () -> completed.add("c"), "a", "b"));
+
+		assertEquals("c", completed.get(2));
+		Health health = startupWarmUp.health();
+		assertEquals(Status.UP, health.getStatus());
+		assertEquals(3, ((Map<?, ?>) health.getDetails().get("stepMillis")).size());
+		assertEquals(1L, meterRegistry.get("startup.warmup.step").tag("step", "c").timer().count());
+	}
+
+	@Test
+	public void failedStepSkipsItsDependentsAndFailsTheWarmUp() {
+		List<String> completed = new CopyOnWriteArrayList<>();
+		try {
+			startupWarmUp.run(
+					StartupWarmUp.steps()
+							.add(
+									"a",
+									() -> {
+										throw new IllegalStateException("mongo down");
+									})
+							.add("b", () -> completed.add("b"), "a")
+							.add("c", () -> completed.add("c")));
+			fail("warm-up should fail");
+		} catch (IllegalStateException e) {
+			assertEquals("mongo down", e.getMessage());
+		}
+
+		assertEquals(List.of("c"), completed);
+		Health health = startupWarmUp.health();
+		assertEquals(Status.DOWN, health.getStatus());
+		assertEquals("a", health.getDetails().get("failedStep"));
+		assertFalse(((Map<?, ?>) health.getDetails().get("stepMillis")).containsKey("b"));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void stepsMustBeAddedAfterTheirDependencies() {
+		StartupWarmUp.steps().add("b", () -> {}, "a");
+	}
+
+	private static void awaitBoth(CountDownLatch bothRunning, List<String> completed, String step) {
+		bothRunning.countDown();
+		try {
+			assertTrue(bothRunning.await(5, TimeUnit.SECONDS));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		completed.add(step);
+	}
+}
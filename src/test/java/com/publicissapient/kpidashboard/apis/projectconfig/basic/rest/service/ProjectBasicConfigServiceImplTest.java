@@ -280,6 +280,7 @@ public class ProjectBasicConfigServiceImplTest {
 		when(projectAccessManager.getUserInfo(any())).thenReturn(userInfo);
 		ServiceResponse response = projectBasicConfigServiceImpl.addBasicConfig(basicConfigDTO);
 		assertThat("Status: ", response.getSuccess(), equalTo(true));
+		verify(cacheService).clearCache(Constant.CACHE_USER_AUTHORIZATION_CONTEXT);
 	}
 
 	/** test add config when project with same name already exist. */
@@ -20,6 +20,9 @@ package com.publicissapient.kpidashboard.apis.pushdata.service.impl;
 
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -39,6 +42,10 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.modelmapper.ModelMapper;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
 
 import com.publicissapient.kpidashboard.apis.data.BuildDataFactory;
 import com.publicissapient.kpidashboard.apis.data.PushDataFactory;
@@ -47,7 +54,6 @@ import com.publicissapient.kpidashboard.apis.pushdata.model.PushDataDetail;
 import com.publicissapient.kpidashboard.apis.pushdata.model.PushErrorData;
 import com.publicissapient.kpidashboard.apis.pushdata.model.dto.PushBuildDeployDTO;
 import com.publicissapient.kpidashboard.common.model.application.Build;
-import com.publicissapient.kpidashboard.common.repository.application.BuildRepository;
 
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validation;
@@ -59,7 +65,7 @@ public class BuildServiceImplTest {
 
 	List<Build> buildList;
 	@InjectMocks private BuildServiceImpl buildService;
-	@Mock private BuildRepository buildRepository;
+	@Mock private MongoTemplate mongoTemplate;
 	@Mock private PushDataValidationServiceImpl pushDataValidationService;
 	private ObjectId projectBasicConfigId;
 	private Validator validator;
@@ -86,10 +92,9 @@ public class BuildServiceImplTest {
 							.map(
 									PushDataFactory.newInstance().getPushBuildDeploy().get(0), PushBuildDeploy.class);
 		}
-		doReturn(buildList.get(0))
-				.when(buildRepository)
-				.findByNumberAndBuildJobAndBasicProjectConfigId(
-						Mockito.anyString(), Mockito.anyString(), Mockito.any());
+		doReturn(List.of(buildList.get(0)))
+				.when(mongoTemplate)
+				.find(Mockito.any(Query.class), Mockito.eq(Build.class));
 		Map<String, String> noErrors = new HashMap<>();
 		doReturn(noErrors).when(pushDataValidationService).createBuildDeployErrorMap(anyMap());
 		List<Build> buildList = new ArrayList<>();
@@ -188,4 +193,28 @@ public class BuildServiceImplTest {
 						.collect(Collectors.toList())
 						.size());
 	}
+
+	@Test
+	public void saveBuildsUpsertsWithOneBulkWrite() {
+		BulkOperations bulkOperations = Mockito.mock(BulkOperations.class);
+		doReturn(bulkOperations)
+				.when(mongoTemplate)
+				.bulkOps(BulkOperations.BulkMode.UNORDERED, Build.class);
+
+		buildService.saveBuilds(buildList);
+
+		verify(bulkOperations, times(buildList.size()))
+				.replaceOne(
+						Mockito.any(Query.class),
+						Mockito.any(Build.class),
+						Mockito.any(FindAndReplaceOptions.class));
+		verify(bulkOperations).execute();
+	}
+
+	@Test
+	public void saveBuildsSkipsEmptyList() {
+		buildService.saveBuilds(new ArrayList<>());
+
+		verifyNoInteractions(mongoTemplate);
+	}
 }
@@ -20,6 +20,9 @@ package com.publicissapient.kpidashboard.apis.pushdata.service.impl;
 
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -39,6 +42,10 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.modelmapper.ModelMapper;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
 
 import com.publicissapient.kpidashboard.apis.data.DeploymentDataFactory;
 import com.publicissapient.kpidashboard.apis.data.PushDataFactory;
@@ -47,7 +54,6 @@ import com.publicissapient.kpidashboard.apis.pushdata.model.PushDataDetail;
 import com.publicissapient.kpidashboard.apis.pushdata.model.PushErrorData;
 import com.publicissapient.kpidashboard.apis.pushdata.model.dto.PushBuildDeployDTO;
 import com.publicissapient.kpidashboard.common.model.application.Deployment;
-import com.publicissapient.kpidashboard.common.repository.application.DeploymentRepository;
 
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validation;
@@ -59,7 +65,7 @@ public class DeployServiceImplTest {
 
 	List<Deployment> deploymentList;
 	@InjectMocks private DeployServiceImpl deployService;
-	@Mock private DeploymentRepository deploymentRepository;
+	@Mock private MongoTemplate mongoTemplate;
 	@Mock private PushDataValidationServiceImpl pushDataValidationService;
 	private ObjectId projectBasicConfigId;
 	private Validator validator;
@@ -86,10 +92,9 @@ public class DeployServiceImplTest {
 							.map(
 									PushDataFactory.newInstance().getPushBuildDeploy().get(0), PushBuildDeploy.class);
 		}
-		doReturn(deploymentList.get(0))
-				.when(deploymentRepository)
-				.findByNumberAndJobNameAndBasicProjectConfigId(
-						Mockito.anyString(), Mockito.anyString(), Mockito.any());
+		doReturn(List.of(deploymentList.get(0)))
+				.when(mongoTemplate)
+				.find(Mockito.any(Query.class), Mockito.eq(Deployment.class));
 		List<Deployment> deploymentList = new ArrayList<>();
 		List<PushErrorData> errorDataList = new ArrayList<>();
 		List<PushDataDetail> pushDataDetails = new ArrayList<>();
@@ -180,4 +185,28 @@ public class DeployServiceImplTest {
 						.collect(Collectors.toList())
 						.size());
 	}
+
+	@Test
+	public void saveDeploymentsUpsertsWithOneBulkWrite() {
+		BulkOperations bulkOperations = Mockito.mock(BulkOperations.class);
+		doReturn(bulkOperations)
+				.when(mongoTemplate)
+				.bulkOps(BulkOperations.BulkMode.UNORDERED, Deployment.class);
+
+		deployService.saveDeployments(deploymentList);
+
+		verify(bulkOperations, times(deploymentList.size()))
+				.replaceOne(
+						Mockito.any(Query.class),
+						Mockito.any(Deployment.class),
+						Mockito.any(FindAndReplaceOptions.class));
+		verify(bulkOperations).execute();
+	}
+
+	@Test
+	public void saveDeploymentsSkipsEmptyList() {
+		deployService.saveDeployments(new ArrayList<>());
+
+		verifyNoInteractions(mongoTemplate);
+	}
 }
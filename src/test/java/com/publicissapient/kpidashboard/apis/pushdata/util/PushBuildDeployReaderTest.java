@@ -0,0 +1,119 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+
+
+package com.publicissapient.kpidashboard.apis.pushdata.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.publicissapient.kpidashboard.apis.pushdata.model.PushBuildDeploy;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
+
+public class PushBuildDeployReaderTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final Validator validator = mock(Validator.class);
+
+	@Test
+	public void readMergesLines() throws IOException {
+		PushBuildDeploy buildDeploy =
+				PushBuildDeployReader.read(
+						ndjson(
+								"{\"builds\":[" + build("job1", "1") + "]}",
+								"{\"builds\":[" + build("job1", "2") + "," + build("job1", "1") + "]}",
+								"{\"deployments\":[{\"jobName\":\"deploy1\",\"number\":\"7\"}]}"),
+						objectMapper,
+						validator,
+						10);
+
+		assertEquals(2, buildDeploy.getBuilds().size());
+		assertEquals(1, buildDeploy.getDeployments().size());
+	}
+
+	@Test
+	public void readStopsBeyondLimit() throws IOException {
+		PushBuildDeploy buildDeploy =
+				PushBuildDeployReader.read(
+						ndjson(
+								"{\"builds\":[" + build("job1", "1") + "]}",
+								"{\"builds\":[" + build("job1", "2") + "]}",
+								"{\"builds\":[" + build("job1", "3") + "]}",
+								"{\"builds\":[" + build("job1", "4") + "]}"),
+						objectMapper,
+						validator,
+						1);
+
+		assertEquals(2, buildDeploy.getBuilds().size());
+	}
+
+	@Test(expected = IOException.class)
+	public void readRejectsInvalidLine() throws IOException {
+		PushBuildDeployReader.read(ndjson("{\"builds\":[", "}"), objectMapper, validator, 10);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void readRejectsLineWithInvalidBuild() throws IOException {
+		ConstraintViolation<Object> violation = mock(ConstraintViolation.class);
+		when(violation.getMessage()).thenReturn("The buildStatus must not be null.");
+		when(validator.validate(any())).thenReturn(Set.of()).thenReturn(Set.of(violation));
+
+		ConstraintViolationException exception =
+				assertThrows(
+						ConstraintViolationException.class,
+						() ->
+								PushBuildDeployReader.read(
+										ndjson(
+												"{\"builds\":[" + build("job1", "1") + "]}",
+												"{\"builds\":[{\"jobName\":\"job1\",\"number\":\"2\"}]}"),
+										objectMapper,
+										validator,
+										10));
+
+		assertEquals("line 2: The buildStatus must not be null.", exception.getMessage());
+		assertEquals(1, exception.getConstraintViolations().size());
+	}
+
+	private static String build(String jobName, String number) {
+		return "{\"jobName\":\""
+				+ jobName
+				+ "\",\"number\":\""
+				+ number
+				+ "\",\"buildStatus\":\"SUCCESS\",\"startTime\":1,\"endTime\":2,\"duration\":1}";
+	}
+
+	private static InputStream ndjson(String... lines) {
+		return new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+	}
+}
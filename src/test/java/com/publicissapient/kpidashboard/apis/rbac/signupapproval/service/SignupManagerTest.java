@@ -41,6 +41,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import com.publicissapient.kpidashboard.apis.abac.UserAuthorizationContextService;
 import com.publicissapient.kpidashboard.apis.auth.model.Authentication;
 import com.publicissapient.kpidashboard.apis.auth.model.UserInfoPrincipal;
 import com.publicissapient.kpidashboard.apis.auth.repository.AuthenticationRepository;
@@ -71,6 +72,7 @@ public class SignupManagerTest {
 	@Mock private CustomApiConfig customApiConfig;
 	@Mock private NotificationService notificationService;
 	@Mock private TokenAuthenticationService tokenAuthenticationService;
+	@Mock private UserAuthorizationContextService userAuthorizationContextService;
 
 	@Test
 	public void testRejectAccessRequestSuccess() throws Exception {
@@ -129,6 +131,7 @@ public class SignupManagerTest {
 				.thenReturn(authenticationObj(Constant.ACCESS_REQUEST_STATUS_REJECTED, false));
 		when(userInfoRepository.findByUsername(anyString())).thenReturn(userInfoObj());
 		assertTrue(signupManager.deleteUserById(testId));
+		verify(userAuthorizationContextService).evictAuthorizationContext("testUser");
 	}
 
 	private UserInfo userInfoObj() {
@@ -39,6 +39,7 @@ import java.util.stream.Collectors;
 
 import org.bson.types.ObjectId;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
@@ -55,11 +56,11 @@ import com.publicissapient.kpidashboard.apis.data.AccountHierarchyFilterDataFact
 import com.publicissapient.kpidashboard.apis.data.KpiRequestFactory;
 import com.publicissapient.kpidashboard.apis.data.SonarHistoryDataFactory;
 import com.publicissapient.kpidashboard.apis.enums.KPICode;
-import com.publicissapient.kpidashboard.apis.enums.KPISource;
 import com.publicissapient.kpidashboard.apis.errors.ApplicationException;
 import com.publicissapient.kpidashboard.apis.jira.service.SprintDetailsServiceImpl;
 import com.publicissapient.kpidashboard.apis.model.AccountHierarchyData;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContextRule;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.Node;
 import com.publicissapient.kpidashboard.apis.model.TreeAggregatorDetail;
@@ -80,6 +81,8 @@ import com.publicissapient.kpidashboard.common.repository.sonar.SonarHistoryRepo
 @RunWith(MockitoJUnitRunner.class)
 public class CodeQualityServiceImplTest {
 
+	@Rule public final KpiExecutionContextRule kpiExecutionContext = new KpiExecutionContextRule();
+
 	private static Tool tool1;
 	private static Tool tool2;
 	public Map<String, ProjectBasicConfig> projectConfigMap = new HashMap<>();
@@ -87,6 +90,7 @@ public class CodeQualityServiceImplTest {
 	@Mock ConfigHelperService configHelperService;
 	@InjectMocks CodeQualityServiceImpl codeQualityService;
 	@Mock SonarHistoryRepository sonarHistoryRepository;
+	@Mock SonarHistoryRollupService sonarHistoryRollupService;
 	@Mock private CustomApiConfig customApiConfig;
 	@Mock CacheService cacheService;
 	@Mock private CommonService commonService;
@@ -189,9 +193,7 @@ public class CodeQualityServiceImplTest {
 		when(configHelperService.getToolItemMap()).thenReturn(toolMap);
 		when(customApiConfig.getSonarMonthCount()).thenReturn(5);
 		String kpiRequestTrackerId = "Jira-Excel-QADD-track001";
-		when(cacheService.getFromApplicationCache(
-						Constant.KPI_REQUEST_TRACKER_ID_KEY + KPISource.SONAR.name()))
-				.thenReturn(kpiRequestTrackerId);
+		kpiExecutionContext.bindRequestTrackerId(kpiRequestTrackerId);
 		codeQualityService.getKpiData(kpiRequest, kpiElement, treeAggregatorDetail);
 		assertFalse(kpiElement.getExcelData().isEmpty());
 		assertFalse(kpiElement.getExcelColumns().isEmpty());
@@ -254,9 +256,7 @@ public class CodeQualityServiceImplTest {
 				.thenReturn(sonarHistoryData);
 		when(configHelperService.getToolItemMap()).thenReturn(toolMap);
 		String kpiRequestTrackerId = "Jira-Excel-QADD-track001";
-		when(cacheService.getFromApplicationCache(
-						Constant.KPI_REQUEST_TRACKER_ID_KEY + KPISource.SONAR.name()))
-				.thenReturn(kpiRequestTrackerId);
+		kpiExecutionContext.bindRequestTrackerId(kpiRequestTrackerId);
 
 		KpiElement result = codeQualityService.getKpiData(kpiRequest, kpiElement, treeAggregatorDetail);
 		assertTrue(((List<DataCount>) result.getTrendValueList()).size() > 0);
@@ -277,9 +277,7 @@ public class CodeQualityServiceImplTest {
 		when(configHelperService.getToolItemMap()).thenReturn(toolMap);
 		when(customApiConfig.getSonarMonthCount()).thenReturn(5);
 		String kpiRequestTrackerId = "Jira-Excel-QADD-track001";
-		when(cacheService.getFromApplicationCache(
-						Constant.KPI_REQUEST_TRACKER_ID_KEY + KPISource.SONAR.name()))
-				.thenReturn(kpiRequestTrackerId);
+		kpiExecutionContext.bindRequestTrackerId(kpiRequestTrackerId);
 
 		KpiElement result = codeQualityService.getKpiData(kpiRequest, kpiElement, treeAggregatorDetail);
 		assertTrue(((List<DataCount>) result.getTrendValueList()).size() > 0);
@@ -0,0 +1,229 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+
+
+package com.publicissapient.kpidashboard.apis.sonar.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Stream;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationResults;
+import org.springframework.data.mongodb.core.query.Query;
+
+import com.publicissapient.kpidashboard.apis.config.CustomApiConfig;
+import com.publicissapient.kpidashboard.apis.sonar.model.SonarHistoryRollup;
+import com.publicissapient.kpidashboard.apis.sonar.model.SonarHistoryRollup.Period;
+import com.publicissapient.kpidashboard.apis.sonar.repository.SonarHistoryRollupRepository;
+import com.publicissapient.kpidashboard.common.model.sonar.SonarHistory;
+import com.publicissapient.kpidashboard.common.model.sonar.SonarMetric;
+import com.publicissapient.kpidashboard.common.repository.sonar.SonarHistoryRepository;
+
+@RunWith(MockitoJUnitRunner.class)
+public class SonarHistoryRollupServiceTest {
+
+	private static final ObjectId PROCESSOR_ITEM_ID = new ObjectId();
+
+	@Mock private SonarHistoryRepository sonarHistoryRepository;
+	@Mock private SonarHistoryRollupRepository sonarHistoryRollupRepository;
+	@Mock private MongoTemplate mongoTemplate;
+	@Mock private CustomApiConfig customApiConfig;
+	@Mock private BulkOperations bulkOperations;
+	@InjectMocks private SonarHistoryRollupService sonarHistoryRollupService;
+
+	private LocalDate wednesday;
+
+	@Before
+	public void setup() {
+		when(customApiConfig.isSonarRollupEnabled()).thenReturn(true);
+		when(customApiConfig.getSonarRollupHorizonDays()).thenReturn(731);
+		wednesday = LocalDate.now().minusWeeks(1).with(DayOfWeek.WEDNESDAY);
+	}
+
+	@Test
+	public void backfillKeepsLatestSnapshotOfEachPeriodWithKpiMetrics() {
+		SonarHistory morning = sonarHistory(millis(wednesday, 10));
+		SonarHistory evening = sonarHistory(millis(wednesday, 18));
+		when(mongoTemplate.findDistinct(
+						any(Query.class), eq("processorItemId"), eq(SonarHistory.class), eq(ObjectId.class)))
+				.thenReturn(List.of(PROCESSOR_ITEM_ID));
+		when(mongoTemplate.aggregate(
+						any(Aggregation.class), eq(SonarHistoryRollup.class), eq(Document.class)))
+				.thenReturn(new AggregationResults<>(List.of(), new Document()));
+		when(mongoTemplate.stream(any(Query.class), eq(SonarHistory.class)))
+				.thenReturn(Stream.of(morning, evening));
+		when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, SonarHistoryRollup.class))
+				.thenReturn(bulkOperations);
+
+		sonarHistoryRollupService.backfill();
+
+		ArgumentCaptor<Object> rollups = ArgumentCaptor.forClass(Object.class);
+		verify(bulkOperations, times(3))
+				.replaceOne(any(Query.class), rollups.capture(), any(FindAndReplaceOptions.class));
+		Set<Period> periods = new HashSet<>();
+		for (Object value : rollups.getAllValues()) {
+			SonarHistoryRollup rollup = (SonarHistoryRollup) value;
+			assertEquals(evening.getTimestamp(), rollup.getTimestamp());
+			assertEquals(
+					List.of("sqale_index"),
+					rollup.getMetrics().stream().map(SonarMetric::getMetricName).toList());
+			periods.add(rollup.getPeriod());
+		}
+		assertEquals(Set.of(Period.DAY, Period.WEEK, Period.MONTH), periods);
+		verify(bulkOperations).execute();
+	}
+
+	@Test
+	public void findSonarHistoryRollsUpNewSnapshotsBeforeReadingRollups() {
+		long rolledUpUntil = millis(wednesday, 10);
+		SonarHistory newSnapshot = sonarHistory(millis(wednesday, 18));
+		SonarHistoryRollup rollup = new SonarHistoryRollup();
+		rollup.setProcessorItemId(PROCESSOR_ITEM_ID);
+		rollup.setKey("project");
+		rollup.setTimestamp(newSnapshot.getTimestamp());
+		when(mongoTemplate.aggregate(
+						any(Aggregation.class), eq(SonarHistoryRollup.class), eq(Document.class)))
+				.thenReturn(
+						new AggregationResults<>(
+								List.of(new Document("_id", PROCESSOR_ITEM_ID).append("timestamp", rolledUpUntil)),
+								new Document()));
+		when(sonarHistoryRepository.findByProcessorItemIdInAndTimestampGreaterThan(
+						List.of(PROCESSOR_ITEM_ID), rolledUpUntil))
+				.thenReturn(List.of(newSnapshot));
+		when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, SonarHistoryRollup.class))
+				.thenReturn(bulkOperations);
+		long from = millis(wednesday.minusWeeks(6), 0);
+		when(sonarHistoryRollupRepository.findByProcessorItemIdInAndPeriodAndTimestampGreaterThan(
+						Set.of(PROCESSOR_ITEM_ID), Period.WEEK, from))
+				.thenReturn(List.of(rollup));
+
+		List<SonarHistory> history =
+				sonarHistoryRollupService
+						.findSonarHistory(List.of(PROCESSOR_ITEM_ID), from, Period.WEEK)
+						.orElseThrow();
+
+		assertEquals(1, history.size());
+		assertEquals(newSnapshot.getTimestamp(), history.get(0).getTimestamp());
+		verify(bulkOperations, times(3))
+				.replaceOne(any(Query.class), any(Object.class), any(FindAndReplaceOptions.class));
+	}
+
+	@Test
+	public void findSonarHistoryReadsRawHistoryOfItemsNotRolledUp() {
+		when(mongoTemplate.aggregate(
+						any(Aggregation.class), eq(SonarHistoryRollup.class), eq(Document.class)))
+				.thenReturn(new AggregationResults<>(List.of(), new Document()));
+
+		assertFalse(
+				sonarHistoryRollupService
+						.findSonarHistory(
+								List.of(PROCESSOR_ITEM_ID), millis(wednesday.minusWeeks(6), 0), Period.WEEK)
+						.isPresent());
+		verifyNoInteractions(sonarHistoryRepository, sonarHistoryRollupRepository);
+	}
+
+	@Test(timeout = 10000)
+	public void findSonarHistoryIsNotBlockedByTheBackfillOfAnotherItem() throws Exception {
+		ObjectId otherItemId = new ObjectId();
+		long rolledUpUntil = millis(wednesday, 10);
+		CountDownLatch backfillStarted = new CountDownLatch(1);
+		CountDownLatch releaseBackfill = new CountDownLatch(1);
+		when(mongoTemplate.findDistinct(
+						any(Query.class), eq("processorItemId"), eq(SonarHistory.class), eq(ObjectId.class)))
+				.thenReturn(List.of(PROCESSOR_ITEM_ID));
+		when(mongoTemplate.aggregate(
+						any(Aggregation.class), eq(SonarHistoryRollup.class), eq(Document.class)))
+				.thenReturn(
+						new AggregationResults<>(
+								List.of(new Document("_id", otherItemId).append("timestamp", rolledUpUntil)),
+								new Document()));
+		when(mongoTemplate.stream(any(Query.class), eq(SonarHistory.class)))
+				.thenAnswer(
+						invocation -> {
+							backfillStarted.countDown();
+							releaseBackfill.await();
+							return Stream.empty();
+						});
+		long from = millis(wednesday.minusWeeks(6), 0);
+		when(sonarHistoryRollupRepository.findByProcessorItemIdInAndPeriodAndTimestampGreaterThan(
+						Set.of(otherItemId), Period.WEEK, from))
+				.thenReturn(List.of());
+		Thread backfill = new Thread(sonarHistoryRollupService::backfill);
+		backfill.start();
+		backfillStarted.await();
+
+		try {
+			assertTrue(
+					sonarHistoryRollupService
+							.findSonarHistory(List.of(otherItemId), from, Period.WEEK)
+							.isPresent());
+			verify(sonarHistoryRepository)
+					.findByProcessorItemIdInAndTimestampGreaterThan(List.of(otherItemId), rolledUpUntil);
+		} finally {
+			releaseBackfill.countDown();
+			backfill.join();
+		}
+	}
+
+	private static long millis(LocalDate date, int hour) {
+		return date.atTime(hour, 0).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+	}
+
+	private static SonarHistory sonarHistory(long timestamp) {
+		return SonarHistory.builder()
+				.processorItemId(PROCESSOR_ITEM_ID)
+				.key("project")
+				.name("project")
+				.branch("main")
+				.date(timestamp)
+				.timestamp(timestamp)
+				.metrics(
+						List.of(
+								SonarMetric.builder().metricName("sqale_index").metricValue("120").build(),
+								SonarMetric.builder().metricName("ncloc").metricValue("5000").build()))
+				.build();
+	}
+}
@@ -89,6 +89,7 @@ public class SonarTechDebtKanbanServiceImplTest {
 	@Mock CacheService cacheService;
 	@Mock private CustomApiConfig customApiConfig;
 	@Mock private SonarHistoryRepository sonarHistoryRepository;
+	@Mock private SonarHistoryRollupService sonarHistoryRollupService;
 	@Mock private CommonService commonService;
 	private List<AccountHierarchyDataKanban> ahdList = new ArrayList<>();
 	private Map<String, Object> filterLevelMap;
@@ -226,10 +227,6 @@ public class SonarTechDebtKanbanServiceImplTest {
 		// when(customApiConfig.getSonarWeekCount()).thenReturn(5);
 		// when(configHelperService.getToolItemMap()).thenReturn(toolMap);
 		when(commonService.sortTrendValueMap(anyMap())).thenReturn(trendValueMap);
-		// when(cacheService.getFromApplicationCache(Constant.KPI_REQUEST_TRACKER_ID_KEY
-		// +
-		// KPISource.SONARKANBAN.name()))
-		// .thenReturn(kpiRequestTrackerId);
 		// when(sonarHistoryRepository.findByProcessorItemIdInAndTimestampGreaterThan(anyList(),
 		// anyLong()))
 		// .thenReturn(sonarHistoryData);
@@ -267,10 +264,6 @@ public class SonarTechDebtKanbanServiceImplTest {
 		// when(customApiConfig.getSonarWeekCount()).thenReturn(5);
 		// when(configHelperService.getToolItemMap()).thenReturn(toolMap);
 		when(commonService.sortTrendValueMap(anyMap())).thenReturn(trendValueMap);
-		// when(cacheService.getFromApplicationCache(Constant.KPI_REQUEST_TRACKER_ID_KEY
-		// +
-		// KPISource.SONARKANBAN.name()))
-		// .thenReturn(kpiRequestTrackerId);
 		// when(sonarHistoryRepository.findByProcessorItemIdInAndTimestampGreaterThan(anyList(),
 		// anyLong()))
 		// .thenReturn(sonarHistoryData);
@@ -297,10 +290,6 @@ public class SonarTechDebtKanbanServiceImplTest {
 		// when(customApiConfig.getSonarWeekCount()).thenReturn(5);
 		// when(configHelperService.getToolItemMap()).thenReturn(toolMap);
 		when(commonService.sortTrendValueMap(anyMap())).thenReturn(trendValueMap);
-		// when(cacheService.getFromApplicationCache(Constant.KPI_REQUEST_TRACKER_ID_KEY
-		// +
-		// KPISource.SONARKANBAN.name()))
-		// .thenReturn(kpiRequestTrackerId);
 		// when(sonarHistoryRepository.findByProcessorItemIdInAndTimestampGreaterThan(anyList(),
 		// anyLong()))
 		// .thenReturn(sonarHistoryData);
@@ -327,10 +316,6 @@ public class SonarTechDebtKanbanServiceImplTest {
 		// when(customApiConfig.getSonarWeekCount()).thenReturn(5);
 		// when(configHelperService.getToolItemMap()).thenReturn(toolMap);
 		when(commonService.sortTrendValueMap(anyMap())).thenReturn(trendValueMap);
-		// when(cacheService.getFromApplicationCache(Constant.KPI_REQUEST_TRACKER_ID_KEY
-		// +
-		// KPISource.SONARKANBAN.name()))
-		// .thenReturn(kpiRequestTrackerId);
 		// when(sonarHistoryRepository.findByProcessorItemIdInAndTimestampGreaterThan(anyList(),
 		// anyLong()))
 		// .thenReturn(sonarHistoryData);
@@ -396,10 +381,6 @@ public class SonarTechDebtKanbanServiceImplTest {
 		// when(customApiConfig.getSonarWeekCount()).thenReturn(5);
 		// when(configHelperService.getToolItemMap()).thenReturn(toolMap);
 		when(commonService.sortTrendValueMap(anyMap())).thenReturn(trendValueMap);
-		// when(cacheService.getFromApplicationCache(Constant.KPI_REQUEST_TRACKER_ID_KEY
-		// +
-		// KPISource.SONARKANBAN.name()))
-		// .thenReturn(kpiRequestTrackerId);
 		// when(sonarHistoryRepository.findByProcessorItemIdInAndTimestampGreaterThan(anyList(),
 		// anyLong()))
 		// .thenReturn(sonarHistoryData);
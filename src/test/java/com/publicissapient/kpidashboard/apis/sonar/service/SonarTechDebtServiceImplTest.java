@@ -37,6 +37,7 @@ import java.util.Map;
 import org.bson.types.ObjectId;
 import org.junit.After;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
@@ -53,10 +54,10 @@ import com.publicissapient.kpidashboard.apis.data.AccountHierarchyFilterDataFact
 import com.publicissapient.kpidashboard.apis.data.KpiRequestFactory;
 import com.publicissapient.kpidashboard.apis.data.SonarHistoryDataFactory;
 import com.publicissapient.kpidashboard.apis.enums.KPICode;
-import com.publicissapient.kpidashboard.apis.enums.KPISource;
 import com.publicissapient.kpidashboard.apis.jira.service.SprintDetailsServiceImpl;
 import com.publicissapient.kpidashboard.apis.model.AccountHierarchyData;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContextRule;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.TreeAggregatorDetail;
 import com.publicissapient.kpidashboard.apis.util.KPIHelperUtil;
@@ -75,6 +76,8 @@ import com.publicissapient.kpidashboard.common.repository.sonar.SonarHistoryRepo
 @RunWith(MockitoJUnitRunner.class)
 public class SonarTechDebtServiceImplTest {
 
+	@Rule public final KpiExecutionContextRule kpiExecutionContext = new KpiExecutionContextRule();
+
 	private static Tool tool1;
 	private static Tool tool2;
 	public Map<String, ProjectBasicConfig> projectConfigMap = new HashMap<>();
@@ -83,6 +86,7 @@ public class SonarTechDebtServiceImplTest {
 	@Mock ConfigHelperService configHelperService;
 	@InjectMocks SonarTechDebtServiceImpl stdServiceImpl;
 	@Mock SonarHistoryRepository sonarHistoryRepository;
+	@Mock SonarHistoryRollupService sonarHistoryRollupService;
 	@Mock private CustomApiConfig customApiConfig;
 	@Mock CacheService cacheService;
 	@Mock private CommonService commonService;
@@ -105,9 +109,7 @@ public class SonarTechDebtServiceImplTest {
 		kpiRequest.setLabel("PROJECT");
 
 		String kpiRequestTrackerId = "Excel-Sonar-5be544de025de212549176a9";
-		when(cacheService.getFromApplicationCache(
-						Constant.KPI_REQUEST_TRACKER_ID_KEY + KPISource.SONAR.name()))
-				.thenReturn(kpiRequestTrackerId);
+		kpiExecutionContext.bindRequestTrackerId(kpiRequestTrackerId);
 
 		AccountHierarchyFilterDataFactory accountHierarchyFilterDataFactory =
 				AccountHierarchyFilterDataFactory.newInstance();
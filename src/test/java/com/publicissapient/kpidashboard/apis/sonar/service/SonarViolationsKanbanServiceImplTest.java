@@ -85,6 +85,7 @@ public class SonarViolationsKanbanServiceImplTest {
 	@InjectMocks private CodeViolationsKanbanServiceImpl svServiceImpl;
 	@Mock private CustomApiConfig customApiConfig;
 	@Mock private SonarHistoryRepository sonarHistoryRepository;
+	@Mock private SonarHistoryRollupService sonarHistoryRollupService;
 	@Mock private CacheService cacheService;
 	@Mock private CommonService commonService;
 	private Map<ObjectId, Map<String, List<Tool>>> toolMap = new HashMap<>();
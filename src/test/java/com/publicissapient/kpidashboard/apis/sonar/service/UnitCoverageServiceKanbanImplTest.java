@@ -85,6 +85,7 @@ public class UnitCoverageServiceKanbanImplTest {
 	@Mock CacheService cacheService;
 	@Mock private CustomApiConfig customApiConfig;
 	@Mock private SonarHistoryRepository sonarHistoryRepository;
+	@Mock private SonarHistoryRollupService sonarHistoryRollupService;
 	@Mock private CommonService commonService;
 	private List<AccountHierarchyDataKanban> ahdList = new ArrayList<>();
 	private List<ProjectBasicConfig> projectConfigList = new ArrayList<>();
@@ -228,10 +229,6 @@ public class UnitCoverageServiceKanbanImplTest {
 		String kpiRequestTrackerId = "Excel-Sonar-5be544de025de212549176a9";
 		// when(customApiConfig.getSonarWeekCount()).thenReturn(5);
 		when(commonService.sortTrendValueMap(anyMap())).thenReturn(trendValueMap);
-		// when(cacheService.getFromApplicationCache(Constant.KPI_REQUEST_TRACKER_ID_KEY
-		// +
-		// KPISource.SONARKANBAN.name()))
-		// .thenReturn(kpiRequestTrackerId);
 		// when(sonarHistoryRepository.findByProcessorItemIdInAndTimestampGreaterThan(anyList(),
 		// anyLong()))
 		// .thenReturn(sonarHistoryData);
@@ -257,10 +254,6 @@ public class UnitCoverageServiceKanbanImplTest {
 		String kpiRequestTrackerId = "Excel-Sonar-5be544de025de212549176a9";
 		// when(customApiConfig.getSonarWeekCount()).thenReturn(5);
 		when(commonService.sortTrendValueMap(anyMap())).thenReturn(trendValueMap);
-		// when(cacheService.getFromApplicationCache(Constant.KPI_REQUEST_TRACKER_ID_KEY
-		// +
-		// KPISource.SONARKANBAN.name()))
-		// .thenReturn(kpiRequestTrackerId);
 		// when(sonarHistoryRepository.findByProcessorItemIdInAndTimestampGreaterThan(anyList(),
 		// anyLong()))
 		// .thenReturn(sonarHistoryData);
@@ -34,6 +34,7 @@ import java.util.stream.Collectors;
 
 import org.bson.types.ObjectId;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
@@ -45,7 +46,6 @@ import com.publicissapient.kpidashboard.apis.appsetting.service.ConfigHelperServ
 import com.publicissapient.kpidashboard.apis.common.service.CacheService;
 import com.publicissapient.kpidashboard.apis.common.service.CommonService;
 import com.publicissapient.kpidashboard.apis.common.service.impl.KpiHelperService;
-import com.publicissapient.kpidashboard.apis.constant.Constant;
 import com.publicissapient.kpidashboard.apis.data.AccountHierarchyFilterDataFactory;
 import com.publicissapient.kpidashboard.apis.data.AdditionalFilterCategoryFactory;
 import com.publicissapient.kpidashboard.apis.data.JiraIssueDataFactory;
@@ -59,6 +59,7 @@ import com.publicissapient.kpidashboard.apis.errors.ApplicationException;
 import com.publicissapient.kpidashboard.apis.filter.service.FilterHelperService;
 import com.publicissapient.kpidashboard.apis.model.AccountHierarchyData;
 import com.publicissapient.kpidashboard.apis.model.KpiElement;
+import com.publicissapient.kpidashboard.apis.model.KpiExecutionContextRule;
 import com.publicissapient.kpidashboard.apis.model.KpiRequest;
 import com.publicissapient.kpidashboard.apis.model.Node;
 import com.publicissapient.kpidashboard.apis.model.TreeAggregatorDetail;
@@ -82,6 +83,8 @@ import com.publicissapient.kpidashboard.common.repository.zephyr.TestCaseDetails
 @RunWith(MockitoJUnitRunner.class)
 public class AutomationPercentageServiceImplTest {
 
+	@Rule public final KpiExecutionContextRule kpiExecutionContext = new KpiExecutionContextRule();
+
 	private static final String TESTCASEKEY = "testCaseData";
 	private static final String AUTOMATEDTESTCASEKEY = "automatedTestCaseData";
 	public Map<String, ProjectBasicConfig> projectConfigMap = new HashMap<>();
@@ -226,8 +229,7 @@ public class AutomationPercentageServiceImplTest {
 		when(configHelperService.calculateMaturity()).thenReturn(maturityRangeMap);
 		when(configHelperService.getFieldMappingMap()).thenReturn(fieldMappingMap);
 		when(featureRepository.findIssueAndDescByNumber(any())).thenReturn(issues);
-		when(cacheService.getFromApplicationCache(Mockito.anyString()))
-				.thenReturn(Constant.KPI_REQUEST_TRACKER_ID_KEY + KPISource.ZEPHYR.name());
+		kpiExecutionContext.bindRequestTrackerId(KPISource.ZEPHYR.name());
 
 		testFetchKPIDataFromDbData();
 		when(testCaseDetailsRepository.findTestDetails(anyMap(), anyMap(), anyString()))
@@ -256,8 +258,7 @@ public class AutomationPercentageServiceImplTest {
 		when(configHelperService.calculateMaturity()).thenReturn(maturityRangeMap);
 		when(configHelperService.getFieldMappingMap()).thenReturn(fieldMappingMap);
 		when(featureRepository.findIssueAndDescByNumber(any())).thenReturn(issues);
-		when(cacheService.getFromApplicationCache(Mockito.anyString()))
-				.thenReturn(Constant.KPI_REQUEST_TRACKER_ID_KEY + KPISource.ZEPHYR.name());
+		kpiExecutionContext.bindRequestTrackerId(KPISource.ZEPHYR.name());
 		Map<String, List<String>> selectedMap = kpiRequest.getSelectedMap();
 		selectedMap.put("SQD", Arrays.asList("dummysqd"));
 		kpiRequest.setSelectedMap(selectedMap);
@@ -295,8 +296,7 @@ public class AutomationPercentageServiceImplTest {
 
 		when(configHelperService.getFieldMappingMap()).thenReturn(fieldMappingMap);
 		when(featureRepository.findIssueAndDescByNumber(any())).thenReturn(issues);
-		when(cacheService.getFromApplicationCache(Mockito.anyString()))
-				.thenReturn(Constant.KPI_REQUEST_TRACKER_ID_KEY + KPISource.ZEPHYR.name());
+		kpiExecutionContext.bindRequestTrackerId(KPISource.ZEPHYR.name());
 		Map<String, List<String>> selectedMap = kpiRequest.getSelectedMap();
 		selectedMap.put("SQD", Arrays.asList("dummysqd"));
 		kpiRequest.setSelectedMap(selectedMap);
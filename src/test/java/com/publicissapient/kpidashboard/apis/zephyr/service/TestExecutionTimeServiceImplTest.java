@@ -28,6 +28,7 @@ import java.util.*;
 
 import org.bson.types.ObjectId;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
@@ -37,7 +38,6 @@ import org.mockito.junit.MockitoJUnitRunner;
 
 import com.publicissapient.kpidashboard.apis.appsetting.service.ConfigHelperService;
 import com.publicissapient.kpidashboard.apis.common.service.CacheService;
-import com.publicissapient.kpidashboard.apis.constant.Constant;
 import com.publicissapient.kpidashboard.apis.data.AccountHierarchyFilterDataFactory;
 import com.publicissapient.kpidashboard.apis.data.JiraIssueDataFactory;
 import com.publicissapient.kpidashboard.apis.data.KpiRequestFactory;
@@ -62,6 +62,8 @@ import com.publicissapient.kpidashboard.common.repository.zephyr.TestCaseDetails
 @RunWith(MockitoJUnitRunner.class)
 public class TestExecutionTimeServiceImplTest {
 
+	@Rule public final KpiExecutionContextRule kpiExecutionContext = new KpiExecutionContextRule();
+
 	private static final String TESTCASEKEY = "testCaseData";
 	public Map<String, ProjectBasicConfig> projectConfigMap = new HashMap<>();
 	public Map<ObjectId, FieldMapping> fieldMappingMap = new HashMap<>();
@@ -179,8 +181,7 @@ public class TestExecutionTimeServiceImplTest {
 		when(configHelperService.calculateMaturity()).thenReturn(maturityRangeMap);
 		when(configHelperService.getFieldMappingMap()).thenReturn(fieldMappingMap);
 		when(featureRepository.findIssueAndDescByNumber(any())).thenReturn(issues);
-		when(cacheService.getFromApplicationCache(Mockito.anyString()))
-				.thenReturn(Constant.KPI_REQUEST_TRACKER_ID_KEY + KPISource.ZEPHYR.name());
+		kpiExecutionContext.bindRequestTrackerId(KPISource.ZEPHYR.name());
 
 		testFetchKPIDataFromDbData();
 		when(testCaseDetailsRepository.findTestDetails(anyMap(), anyMap(), anyString()))
@@ -370,7 +371,7 @@ public class TestExecutionTimeServiceImplTest {
 		when(testCaseDetailsRepository.findTestDetails(anyMap(), anyMap(), anyString()))
 				.thenReturn(new ArrayList<>());
 		when(featureRepository.findIssueAndDescByNumber(any())).thenReturn(new ArrayList<>());
-		when(cacheService.getFromApplicationCache(anyString())).thenReturn("test-tracker-id");
+		kpiExecutionContext.bindRequestTrackerId("test-tracker-id");
 
 		KpiElement result =
 				testExecutionTimeServiceImpl.getKpiData(kpiRequest, kpiElement, treeAggregatorDetail);